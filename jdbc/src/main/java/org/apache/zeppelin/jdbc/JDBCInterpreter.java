@@ -57,8 +57,10 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.KerberosInterpreter;
 import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
@@ -661,7 +663,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
     for (String propertyKey : basePropretiesMap.keySet()) {
       String precode = getProperty(String.format("%s.precode", propertyKey));
       if (StringUtils.isNotBlank(precode)) {
-        interpreterResult = executeSql(propertyKey, precode, interpreterContext);
+        interpreterResult = executeSql(propertyKey, precode, interpreterContext, null);
         if (interpreterResult.code() != Code.SUCCESS) {
           break;
         }
@@ -671,8 +673,12 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return interpreterResult;
   }
 
+  /**
+   * @param out output which pages large tables, results are written to it instead of being
+   *            returned, null to return all the results
+   */
   private InterpreterResult executeSql(String propertyKey, String sql,
-      InterpreterContext interpreterContext) {
+      InterpreterContext interpreterContext, InterpreterOutput out) {
     Connection connection = null;
     Statement statement;
     ResultSet resultSet = null;
@@ -744,22 +750,28 @@ public class JDBCInterpreter extends KerberosInterpreter {
             // Regards that the command is DDL.
             if (isDDLCommand(statement.getUpdateCount(),
                 resultSet.getMetaData().getColumnCount())) {
-              interpreterResult.add(InterpreterResult.Type.TEXT,
+              addResult(interpreterResult, out, InterpreterResult.Type.TEXT,
                   "Query executed successfully.");
             } else {
               MutableBoolean isComplete = new MutableBoolean(true);
-              String results = getResults(resultSet,
-                  !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE), isComplete);
-              interpreterResult.add(results);
+              boolean isTableType = !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE);
+              String results = getResults(resultSet, isTableType, isComplete);
+              if (isTableType) {
+                addResult(interpreterResult, out, InterpreterResult.Type.TABLE,
+                    results.substring(TABLE_MAGIC_TAG.length()));
+              } else {
+                addResult(interpreterResult, out, InterpreterResult.Type.TEXT, results);
+              }
               if (!isComplete.booleanValue()) {
-                interpreterResult.add(ResultMessages.getExceedsLimitRowsMessage(getMaxResult(),
-                    String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY)));
+                InterpreterResultMessage message = ResultMessages.getExceedsLimitRowsMessage(
+                    getMaxResult(), String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY));
+                addResult(interpreterResult, out, message.getType(), message.getData());
               }
             }
           } else {
             // Response contains either an update count or there are no results.
             int updateCount = statement.getUpdateCount();
-            interpreterResult.add(InterpreterResult.Type.TEXT,
+            addResult(interpreterResult, out, InterpreterResult.Type.TEXT,
                 "Query executed successfully. Affected rows : " +
                     updateCount);
           }
@@ -796,6 +808,32 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return interpreterResult;
   }
 
+  /**
+   * Write the message to the output if there is one, otherwise add it to the result.
+   */
+  private void addResult(InterpreterResult interpreterResult, InterpreterOutput out,
+      InterpreterResult.Type type, String data) throws IOException {
+    if (out == null) {
+      interpreterResult.add(type, data);
+      return;
+    }
+    out.setType(type);
+    out.write(data);
+    out.flush();
+  }
+
+  /**
+   * The paragraph output if it pages tables. A table written to it only keeps the first rows in
+   * the result, the others are paged by ZeppelinServer, while a table added to the result is
+   * returned as a whole.
+   */
+  private InterpreterOutput getPagingOutput(InterpreterContext context) {
+    if (context.out != null && context.out.getTablePreviewRows() > 0) {
+      return context.out;
+    }
+    return null;
+  }
+
   /**
    * For %table response replace Tab and Newline characters from the content.
    */
@@ -814,7 +852,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
     String propertyKey = getPropertyKey(contextInterpreter);
     cmd = cmd.trim();
     logger.debug("PropertyKey: {}, SQL command: '{}'", propertyKey, cmd);
-    return executeSql(propertyKey, cmd, contextInterpreter);
+    return executeSql(propertyKey, cmd, contextInterpreter, getPagingOutput(contextInterpreter));
   }
 
   @Override
@@ -53,7 +53,11 @@ import com.mockrunner.jdbc.BasicJDBCTestCaseAdapter;
 import org.apache.zeppelin.completer.CompletionType;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterOutputListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.scheduler.FIFOScheduler;
 import org.apache.zeppelin.scheduler.ParallelScheduler;
@@ -190,6 +194,56 @@ public class JDBCInterpreterTest extends BasicJDBCTestCaseAdapter {
     assertEquals("ID\tNAME\na\ta_name\nb\tb_name\n", interpreterResult.message().get(0).getData());
   }
 
+  @Test
+  public void testSelectQueryWithPagedOutput() throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    StringBuilder pagedRows = new StringBuilder();
+    InterpreterOutput out = new InterpreterOutput(new InterpreterOutputListener() {
+      @Override
+      public void onUpdateAll(InterpreterOutput out) {
+      }
+
+      @Override
+      public void onAppend(int index, InterpreterResultMessageOutput out, byte[] line) {
+      }
+
+      @Override
+      public void onUpdate(int index, InterpreterResultMessageOutput out) {
+      }
+
+      @Override
+      public void onAppendTableRows(int index, InterpreterResultMessageOutput out, byte[] rows) {
+        pagedRows.append(new String(rows));
+      }
+    });
+    out.setTablePreviewRows(1);
+    InterpreterContext context = InterpreterContext.builder()
+        .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setInterpreterOut(out)
+        .build();
+
+    String sqlQuery = "select * from test_table WHERE ID in ('a', 'b')";
+    InterpreterResult interpreterResult = t.interpret(sqlQuery, context);
+
+    // the table is written to the output, which only keeps the first row
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    assertEquals(0, interpreterResult.message().size());
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    assertEquals("ID\tNAME\na\ta_name\n", messages.get(0).getData());
+    assertEquals("ID\tNAME\na\ta_name\nb\tb_name\n", pagedRows.toString());
+  }
+
   @Test
   public void testColumnAliasQuery() throws IOException {
     Properties properties = new Properties();
@@ -356,6 +356,30 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(ConfVars.ZEPPELIN_RECOVERY_DIR);
   }
 
+  public String getNotebookSyncManifestDir() {
+    return getRelativeDir(ConfVars.ZEPPELIN_NOTEBOOK_SYNC_MANIFEST_DIR);
+  }
+
+  public int getNotebookSyncConcurrency() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_SYNC_CONCURRENCY);
+  }
+
+  public int getNotebookObjectStoreConcurrency() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_OBJECTSTORE_CONCURRENCY);
+  }
+
+  public long getNotebookObjectStoreCacheSize() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_OBJECTSTORE_CACHE_SIZE);
+  }
+
+  public String getNotebookFileSystemFormat() {
+    return getString(ConfVars.ZEPPELIN_NOTEBOOK_FILESYSTEM_FORMAT);
+  }
+
+  public int getNotebookFileSystemLogMaxRecords() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_FILESYSTEM_LOG_MAX_RECORDS);
+  }
+
   public String getNotebookStorageClass() {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE);
   }
@@ -563,6 +587,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE);
   }
 
+  public int getWebsocketSenderThreads() {
+    return getInt(ConfVars.ZEPPELIN_WEBSOCKET_SENDER_THREADS);
+  }
+
+  public int getWebsocketOutboundQueueSize() {
+    return getInt(ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE);
+  }
+
   public String getJettyName() {
     return getString(ConfVars.ZEPPELIN_SERVER_JETTY_NAME);
   }
@@ -608,6 +640,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_GIT_REMOTE_ORIGIN);
   }
 
+  public long getZeppelinNotebookGitGcInterval() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_GIT_GC_INTERVAL);
+  }
+
   public Boolean isZeppelinNotebookCronEnable() {
     return getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_CRON_ENABLE);
   }
@@ -620,6 +656,58 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_COLLABORATIVE_MODE_ENABLE);
   }
 
+  public long getNotebookCacheMaxSize() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_MAX_SIZE);
+  }
+
+  public long getNotebookSaveDelay() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_SAVE_DELAY);
+  }
+
+  public boolean isFairSchedulerEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_SCHEDULER_FAIR_ENABLE);
+  }
+
+  public int getFairSchedulerMaxQueuedPerUser() {
+    return getInt(ConfVars.ZEPPELIN_SCHEDULER_FAIR_MAX_QUEUED_PER_USER);
+  }
+
+  public String getFairSchedulerUserWeights() {
+    return getString(ConfVars.ZEPPELIN_SCHEDULER_FAIR_USER_WEIGHTS);
+  }
+
+  public String getNotebookResultDir() {
+    return getRelativeDir(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_DIR);
+  }
+
+  public long getNotebookResultSpillThreshold() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_SPILL_THRESHOLD);
+  }
+
+  public int getInterpreterResourceChunkSize() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CHUNK_SIZE);
+  }
+
+  public String getInterpreterResourceCodec() {
+    return getString(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CODEC);
+  }
+
+  public String getInterpreterResourceCompression() {
+    return getString(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_COMPRESSION);
+  }
+
+  public long getInterpreterResourceSpillThreshold() {
+    return getLong(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_SPILL_THRESHOLD);
+  }
+
+  public int getInterpreterOutputTablePreviewRows() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_TABLE_PREVIEW_ROWS);
+  }
+
+  public long getInterpreterOutputTableSpillThreshold() {
+    return getLong(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_TABLE_SPILL_THRESHOLD);
+  }
+
   public String getZeppelinProxyUrl() {
     return getString(ConfVars.ZEPPELIN_PROXY_URL);
   }
@@ -640,6 +728,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(ConfVars.ZEPPELIN_SEARCH_TEMP_PATH);
   }
 
+  public long getZeppelinSearchCommitInterval() {
+    return getLong(ConfVars.ZEPPELIN_SEARCH_COMMIT_INTERVAL);
+  }
+
   public String getClusterAddress() {
     return getString(ConfVars.ZEPPELIN_CLUSTER_ADDR);
   }
@@ -723,9 +815,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_INTERPRETER_DEP_MVNREPO("zeppelin.interpreter.dep.mvnRepo",
         "http://repo1.maven.org/maven2/"),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 60000),
+    ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE("zeppelin.interpreter.process.pool.size", 0),
     ZEPPELIN_INTERPRETER_MAX_POOL_SIZE("zeppelin.interpreter.max.poolsize", 10),
     ZEPPELIN_INTERPRETER_GROUP_DEFAULT("zeppelin.interpreter.group.default", "spark"),
     ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 1024 * 100),
+    ZEPPELIN_INTERPRETER_OUTPUT_TABLE_PREVIEW_ROWS(
+        "zeppelin.interpreter.output.table.preview.rows", 1000),
+    ZEPPELIN_INTERPRETER_OUTPUT_TABLE_SPILL_THRESHOLD(
+        "zeppelin.interpreter.output.table.spill.threshold", 8388608L),
     ZEPPELIN_ENCODING("zeppelin.encoding", "UTF-8"),
     ZEPPELIN_NOTEBOOK_DIR("zeppelin.notebook.dir", "notebook"),
     ZEPPELIN_RECOVERY_DIR("zeppelin.recovery.dir", "recovery"),
@@ -758,6 +855,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage",
         "org.apache.zeppelin.notebook.repo.GitNotebookRepo"),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
+    ZEPPELIN_NOTEBOOK_SYNC_MANIFEST_DIR("zeppelin.notebook.sync.manifest.dir", "notebook-sync"),
+    ZEPPELIN_NOTEBOOK_SYNC_CONCURRENCY("zeppelin.notebook.sync.concurrency", 8),
+    ZEPPELIN_NOTEBOOK_OBJECTSTORE_CONCURRENCY("zeppelin.notebook.objectstore.concurrency", 16),
+    ZEPPELIN_NOTEBOOK_OBJECTSTORE_CACHE_SIZE("zeppelin.notebook.objectstore.cache.size",
+        67108864L),
+    ZEPPELIN_NOTEBOOK_FILESYSTEM_FORMAT("zeppelin.notebook.filesystem.format", "json"),
+    ZEPPELIN_NOTEBOOK_FILESYSTEM_LOG_MAX_RECORDS("zeppelin.notebook.filesystem.log.max.records",
+        100),
     ZEPPELIN_NOTEBOOK_NEW_FORMAT_CONVERT("zeppelin.notebook.new_format.convert", false),
     ZEPPELIN_NOTEBOOK_NEW_FORMAT_DELETE_OLD("zeppelin.notebook.new_format.delete_old", false),
     // whether by default note is public or private
@@ -787,6 +892,8 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_CREDENTIALS_PERSIST("zeppelin.credentials.persist", true),
     ZEPPELIN_CREDENTIALS_ENCRYPT_KEY("zeppelin.credentials.encryptKey", null),
     ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "1024000"),
+    ZEPPELIN_WEBSOCKET_SENDER_THREADS("zeppelin.websocket.sender.threads", 4),
+    ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE("zeppelin.websocket.outbound.queue.size", 1000),
     ZEPPELIN_SERVER_DEFAULT_DIR_ALLOWED("zeppelin.server.default.dir.allowed", false),
     ZEPPELIN_SERVER_XFRAME_OPTIONS("zeppelin.server.xframe.options", "SAMEORIGIN"),
     ZEPPELIN_SERVER_JETTY_NAME("zeppelin.server.jetty.name", null),
@@ -809,6 +916,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "zeppelin.interpreter.lifecyclemanager.timeout.threshold", 3600000L),
 
     ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE("zeppelin.scheduler.threadpool.size", 100),
+    ZEPPELIN_SCHEDULER_VIRTUAL_THREADS("zeppelin.scheduler.virtual.threads", false),
+    ZEPPELIN_SCHEDULER_FAIR_ENABLE("zeppelin.scheduler.fair.enable", false),
+    ZEPPELIN_SCHEDULER_FAIR_MAX_QUEUED_PER_USER("zeppelin.scheduler.fair.max.queued.per.user",
+        100),
+    ZEPPELIN_SCHEDULER_FAIR_USER_WEIGHTS("zeppelin.scheduler.fair.user.weights", ""),
+
+    ZEPPELIN_INTERPRETER_RESOURCE_CHUNK_SIZE("zeppelin.interpreter.resource.chunk.size", 1048576),
+    ZEPPELIN_INTERPRETER_RESOURCE_CODEC("zeppelin.interpreter.resource.codec", "binary"),
+    ZEPPELIN_INTERPRETER_RESOURCE_COMPRESSION("zeppelin.interpreter.resource.compression",
+        "none"),
+    ZEPPELIN_INTERPRETER_RESOURCE_SPILL_THRESHOLD("zeppelin.interpreter.resource.spill.threshold",
+        67108864L),
 
     ZEPPELIN_OWNER_ROLE("zeppelin.notebook.default.owner.username", ""),
 
@@ -820,15 +939,22 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_GIT_REMOTE_USERNAME("zeppelin.notebook.git.remote.username", "token"),
     ZEPPELIN_NOTEBOOK_GIT_REMOTE_ACCESS_TOKEN("zeppelin.notebook.git.remote.access-token", ""),
     ZEPPELIN_NOTEBOOK_GIT_REMOTE_ORIGIN("zeppelin.notebook.git.remote.origin", "origin"),
+    ZEPPELIN_NOTEBOOK_GIT_GC_INTERVAL("zeppelin.notebook.git.gc.interval", 86400000L),
     ZEPPELIN_NOTEBOOK_COLLABORATIVE_MODE_ENABLE("zeppelin.notebook.collaborative.mode.enable",
             true),
     ZEPPELIN_NOTEBOOK_CRON_ENABLE("zeppelin.notebook.cron.enable", false),
     ZEPPELIN_NOTEBOOK_CRON_FOLDERS("zeppelin.notebook.cron.folders", null),
+    ZEPPELIN_NOTEBOOK_CACHE_MAX_SIZE("zeppelin.notebook.cache.max.size", -1L),
+    ZEPPELIN_NOTEBOOK_RESULT_DIR("zeppelin.notebook.result.dir", "results"),
+    ZEPPELIN_NOTEBOOK_RESULT_SPILL_THRESHOLD("zeppelin.notebook.result.spill.threshold",
+        1048576L),
+    ZEPPELIN_NOTEBOOK_SAVE_DELAY("zeppelin.notebook.save.delay", 0L),
     ZEPPELIN_PROXY_URL("zeppelin.proxy.url", null),
     ZEPPELIN_PROXY_USER("zeppelin.proxy.user", null),
     ZEPPELIN_PROXY_PASSWORD("zeppelin.proxy.password", null),
     ZEPPELIN_SEARCH_USE_DISK("zeppelin.search.use.disk", false),
-    ZEPPELIN_SEARCH_TEMP_PATH("zeppelin.search.temp.path", System.getProperty("java.io.tmpdir"));
+    ZEPPELIN_SEARCH_TEMP_PATH("zeppelin.search.temp.path", "search"),
+    ZEPPELIN_SEARCH_COMMIT_INTERVAL("zeppelin.search.commit.interval", 5000L);
 
     private String varName;
     @SuppressWarnings("rawtypes")
@@ -37,6 +37,10 @@ public class Constants {
 
   public static final int ZEPPELIN_INTERPRETER_OUTPUT_LIMIT = 1024 * 100;
 
+  public static final int ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE = 1024 * 32;
+
+  public static final long ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL = 50;
+
   public static final Map<String, TimeUnit> TIME_SUFFIXES;
 
   static {
@@ -55,6 +55,8 @@ public class InterpreterOutput extends OutputStream {
   // so we can expect the consistent behavior
   public static int limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
 
+  private int tablePreviewRows = 0;
+
   public InterpreterOutput(InterpreterOutputListener flushListener) {
     this.flushListener = flushListener;
     changeListener = null;
@@ -83,6 +85,7 @@ public class InterpreterOutput extends OutputStream {
         out = new InterpreterResultMessageOutput(type, listener, changeListener);
       }
       out.setResourceSearchPaths(resourceSearchPaths);
+      out.setTablePreviewRows(tablePreviewRows);
 
       buffer.reset();
       size = 0;
@@ -97,6 +100,24 @@ public class InterpreterOutput extends OutputStream {
     }
   }
 
+  /**
+   * Page tables written to this output. Only the header and the first rows of a table are
+   * kept, the other rows are passed to {@link InterpreterOutputListener#onAppendTableRows}
+   * and are not subject to the output limit.
+   *
+   * @param rows number of rows to keep, 0 disables paging
+   */
+  public void setTablePreviewRows(int rows) {
+    this.tablePreviewRows = rows;
+  }
+
+  /**
+   * @return number of rows of a table kept in this output, 0 if tables are not paged
+   */
+  public int getTablePreviewRows() {
+    return flushListener == null ? 0 : tablePreviewRows;
+  }
+
   public InterpreterResultMessageOutputListener createInterpreterResultMessageOutputListener(
       final int index) {
 
@@ -116,6 +137,13 @@ public class InterpreterOutput extends OutputStream {
           flushListener.onUpdate(idx, out);
         }
       }
+
+      @Override
+      public void onAppendTableRows(InterpreterResultMessageOutput out, byte[] rows) {
+        if (flushListener != null) {
+          flushListener.onAppendTableRows(idx, out, rows);
+        }
+      }
     };
   }
 
@@ -177,89 +205,106 @@ public class InterpreterOutput extends OutputStream {
 
   @Override
   public void write(int b) throws IOException {
-    InterpreterResultMessageOutput out;
     if (truncated) {
       return;
     }
 
     synchronized (resultMessageOutputs) {
-      currentOut = getCurrentOutput();
-
-      if (++size > limit) {
-        if (b == NEW_LINE_CHAR && currentOut != null) {
-          InterpreterResult.Type type = currentOut.getType();
-          if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
-            setType(InterpreterResult.Type.HTML);
-            getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(limit,
-                "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
-            truncated = true;
-            return;
-          }
+      writeByte(b);
+    }
+  }
+
+  /**
+   * Runs the display system detection for a single byte.
+   * Caller must hold the lock of resultMessageOutputs.
+   */
+  private void writeByte(int b) throws IOException {
+    InterpreterResultMessageOutput out;
+    if (truncated) {
+      return;
+    }
+
+    currentOut = getCurrentOutput();
+
+    if (++size > limit && !isTablePaging()) {
+      if (b == NEW_LINE_CHAR && currentOut != null) {
+        InterpreterResult.Type type = currentOut.getType();
+        if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
+          setType(InterpreterResult.Type.HTML);
+          getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(limit,
+              "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
+          truncated = true;
+          return;
         }
       }
+    }
 
-      if (b == LINE_FEED_CHAR) {
-        if (lastCRIndex == -1) {
-          lastCRIndex = size;
-        }
-        // reset size to index of last carriage return
-        size = lastCRIndex;
+    if (b == LINE_FEED_CHAR) {
+      if (lastCRIndex == -1) {
+        lastCRIndex = size;
       }
+      // reset size to index of last carriage return
+      size = lastCRIndex;
+    }
 
-      if (startOfTheNewLine) {
-        if (b == '%') {
-          startOfTheNewLine = false;
-          firstCharIsPercentSign = true;
-          buffer.write(b);
-          previousChar = b;
-          return;
-        } else if (b != NEW_LINE_CHAR) {
-          startOfTheNewLine = false;
-        }
+    if (startOfTheNewLine) {
+      if (b == '%') {
+        startOfTheNewLine = false;
+        firstCharIsPercentSign = true;
+        buffer.write(b);
+        previousChar = b;
+        return;
+      } else if (b != NEW_LINE_CHAR) {
+        startOfTheNewLine = false;
       }
+    }
 
-      if (b == NEW_LINE_CHAR) {
-        if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
-          if (previousChar == NEW_LINE_CHAR) {
-            startOfTheNewLine = true;
-            return;
-          }
-        } else {
+    if (b == NEW_LINE_CHAR) {
+      if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
+        if (previousChar == NEW_LINE_CHAR) {
           startOfTheNewLine = true;
+          return;
         }
+      } else {
+        startOfTheNewLine = true;
       }
+    }
 
-      boolean flushBuffer = false;
-      if (firstCharIsPercentSign) {
-        if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
-          firstCharIsPercentSign = false;
-          String displaySystem = buffer.toString();
-          for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
-            if (displaySystem.equals('%' + type.name().toLowerCase())) {
-              // new type detected
-              setType(type);
-              previousChar = b;
-              return;
-            }
+    boolean flushBuffer = false;
+    if (firstCharIsPercentSign) {
+      if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
+        firstCharIsPercentSign = false;
+        String displaySystem = buffer.toString();
+        for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
+          if (displaySystem.equals('%' + type.name().toLowerCase())) {
+            // new type detected
+            setType(type);
+            previousChar = b;
+            return;
           }
-          // not a defined display system
-          flushBuffer = true;
-        } else {
-          buffer.write(b);
-          previousChar = b;
-          return;
         }
+        // not a defined display system
+        flushBuffer = true;
+      } else {
+        buffer.write(b);
+        previousChar = b;
+        return;
       }
+    }
 
-      out = getCurrentOutputForWriting();
+    out = getCurrentOutputForWriting();
 
-      if (flushBuffer) {
-        out.write(buffer.toByteArray());
-        buffer.reset();
-      }
-      out.write(b);
-      previousChar = b;
+    if (flushBuffer) {
+      out.write(buffer.toByteArray());
+      buffer.reset();
     }
+    out.write(b);
+    previousChar = b;
+  }
+
+  private boolean isTablePaging() {
+    return tablePreviewRows > 0 && flushListener != null && currentOut != null
+        && currentOut.getType() == InterpreterResult.Type.TABLE;
   }
 
   private InterpreterResultMessageOutput getCurrentOutputForWriting() throws IOException {
@@ -281,8 +326,36 @@ public class InterpreterOutput extends OutputStream {
 
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
-    for (int i = off; i < len; i++) {
-      write(b[i]);
+    if (truncated) {
+      return;
+    }
+
+    int end = off + len;
+    synchronized (resultMessageOutputs) {
+      int i = off;
+      while (i < end && !truncated) {
+        if (startOfTheNewLine || firstCharIsPercentSign || currentOut == null) {
+          // display system detection needs to look at every byte
+          writeByte(b[i++]);
+          continue;
+        }
+
+        // in the middle of a line, only newline and carriage return are interesting.
+        // copy everything in between in one go.
+        int j = i;
+        while (j < end && b[j] != NEW_LINE_CHAR && b[j] != LINE_FEED_CHAR) {
+          j++;
+        }
+        if (j > i) {
+          size += j - i;
+          currentOut.write(b, i, j - i);
+          previousChar = b[j - 1];
+          i = j;
+        }
+        if (i < end) {
+          writeByte(b[i++]);
+        }
+      }
     }
   }
 
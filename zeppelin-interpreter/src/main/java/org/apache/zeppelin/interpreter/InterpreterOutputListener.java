@@ -39,4 +39,14 @@ public interface InterpreterOutputListener {
    * @param out
    */
   void onUpdate(int index, InterpreterResultMessageOutput out);
+
+  /**
+   * called with the rows of a paged table which are not kept in the output,
+   * see {@link InterpreterOutput#setTablePreviewRows(int)}
+   * @param index
+   * @param out
+   * @param rows
+   */
+  default void onAppendTableRows(int index, InterpreterResultMessageOutput out, byte[] rows) {
+  }
 }
@@ -24,12 +24,21 @@ import java.io.Serializable;
 public class InterpreterResultMessage implements Serializable {
   InterpreterResult.Type type;
   String data;
+  // id of the data kept out of this message, e.g. in websocket messages, data is empty when it
+  // is set
+  String dataRef;
 
   public InterpreterResultMessage(InterpreterResult.Type type, String data) {
     this.type = type;
     this.data = data;
   }
 
+  public InterpreterResultMessage(InterpreterResult.Type type, String data, String dataRef) {
+    this.type = type;
+    this.data = data;
+    this.dataRef = dataRef;
+  }
+
   public InterpreterResult.Type getType() {
     return type;
   }
@@ -38,6 +47,10 @@ public class InterpreterResultMessage implements Serializable {
     return data;
   }
 
+  public String getDataRef() {
+    return dataRef;
+  }
+
   public String toString() {
     return "%" + type.name().toLowerCase() + " " + data;
   }
@@ -45,6 +45,11 @@ public class InterpreterResultMessageOutput extends OutputStream {
   private InterpreterResult.Type type = InterpreterResult.Type.TEXT;
   private boolean firstWrite = true;
 
+  // rows of a table which are kept in this output, 0 keeps all of them
+  private int tablePreviewRows = 0;
+  // lines of the table written so far, including the header
+  private long tableLines = 0;
+
   public InterpreterResultMessageOutput(
       InterpreterResult.Type type,
       InterpreterResultMessageOutputListener listener) {
@@ -73,10 +78,35 @@ public class InterpreterResultMessageOutput extends OutputStream {
     }
   }
 
+  /**
+   * Keep only the header and the first rows of a table in this output. The other rows are
+   * passed to {@link InterpreterResultMessageOutputListener#onAppendTableRows}, so that a large
+   * table does not have to be held in memory.
+   *
+   * @param rows number of rows to keep, 0 keeps all of them
+   */
+  public void setTablePreviewRows(int rows) {
+    this.tablePreviewRows = rows;
+  }
+
+  /**
+   * @return true if rows of this table have been passed to the listener instead of being kept
+   */
+  public boolean isPaged() {
+    synchronized (outList) {
+      return isTablePaging() && tableLines > tablePreviewRows + 1;
+    }
+  }
+
+  private boolean isTablePaging() {
+    return type == InterpreterResult.Type.TABLE && tablePreviewRows > 0 && flushListener != null;
+  }
+
   public void clear() {
     synchronized (outList) {
       buffer.reset();
       outList.clear();
+      tableLines = 0;
       if (watcher != null) {
         watcher.clear();
       }
@@ -92,19 +122,23 @@ public class InterpreterResultMessageOutput extends OutputStream {
     synchronized (outList) {
       buffer.write(b);
       if (b == NEW_LINE_CHAR) {
-        // first time use of this outputstream.
-        if (firstWrite) {
-          // clear the output on gui
-          if (flushListener != null) {
-            flushListener.onUpdate(this);
-          }
-          firstWrite = false;
-        }
+        onNewLine();
+      }
+    }
+  }
 
-        if (isAppendSupported()) {
-          flush(true);
-        }
+  private void onNewLine() throws IOException {
+    // first time use of this outputstream.
+    if (firstWrite) {
+      // clear the output on gui
+      if (flushListener != null) {
+        flushListener.onUpdate(this);
       }
+      firstWrite = false;
+    }
+
+    if (isAppendSupported()) {
+      flush(true);
     }
   }
 
@@ -115,9 +149,19 @@ public class InterpreterResultMessageOutput extends OutputStream {
 
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
+    int end = off + len;
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
-        write(b[i]);
+      int start = off;
+      for (int i = off; i < end; i++) {
+        if (b[i] == NEW_LINE_CHAR) {
+          // copy the whole line at once
+          buffer.write(b, start, i + 1 - start);
+          start = i + 1;
+          onNewLine();
+        }
+      }
+      if (start < end) {
+        buffer.write(b, start, end - start);
       }
     }
   }
@@ -212,6 +256,15 @@ public class InterpreterResultMessageOutput extends OutputStream {
       buffer.flush();
       byte[] bytes = buffer.toByteArray();
       if (bytes != null && bytes.length > 0) {
+        if (append && isTablePaging() && ++tableLines > tablePreviewRows + 1) {
+          if (tableLines == tablePreviewRows + 2) {
+            // first row beyond the preview, the listener gets the header and preview rows too
+            flushListener.onAppendTableRows(this, toByteArray());
+          }
+          flushListener.onAppendTableRows(this, bytes);
+          buffer.reset();
+          return;
+        }
         outList.add(bytes);
         if (append) {
           if (flushListener != null) {
@@ -30,4 +30,11 @@ public interface InterpreterResultMessageOutputListener {
    * when entire output is updated. eg) after detecting new display system
    */
   void onUpdate(InterpreterResultMessageOutput out);
+
+  /**
+   * called with the rows of a paged table which are not kept in the output.
+   * The first call of a table also carries its header and preview rows.
+   */
+  default void onAppendTableRows(InterpreterResultMessageOutput out, byte[] rows) {
+  }
 }
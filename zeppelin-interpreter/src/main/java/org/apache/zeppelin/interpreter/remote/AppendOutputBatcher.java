@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers paragraph append-output on the interpreter process side and ships it to
+ * ZeppelinServer in batches, so that a chatty interpreter does not make one thrift
+ * call per output chunk.
+ *
+ * Appends to the same (noteId, paragraphId, index) are merged in arrival order. The buffer
+ * is flushed when it holds more than batchSize characters or every flushInterval
+ * milliseconds, whichever comes first. A writer that fills the buffer flushes it itself,
+ * which bounds the memory held by pending output.
+ */
+public class AppendOutputBatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AppendOutputBatcher.class);
+
+  /**
+   * Receiver of the flushed batches.
+   */
+  public interface BatchSender {
+    void send(List<OutputAppendEvent> batch) throws TException;
+  }
+
+  private final BatchSender sender;
+  private final int batchSize;
+  private final long flushInterval;
+
+  // pending appends, guarded by this
+  private Map<OutputKey, StringBuilder> pending = new LinkedHashMap<>();
+  private int pendingSize = 0;
+
+  // serializes flushes so that batches reach the server in the order they were cut
+  private final Object flushLock = new Object();
+
+  private ScheduledExecutorService flushService;
+
+  public AppendOutputBatcher(BatchSender sender, int batchSize, long flushInterval) {
+    this.sender = sender;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+  }
+
+  public synchronized void start() {
+    if (flushService != null || flushInterval <= 0) {
+      return;
+    }
+    flushService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "AppendOutputBatcher");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    flushService.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        flush();
+      }
+    }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+  }
+
+  public void stop() {
+    synchronized (this) {
+      if (flushService != null) {
+        flushService.shutdownNow();
+        flushService = null;
+      }
+    }
+    flush();
+  }
+
+  public void append(String noteId, String paragraphId, int index, String output) {
+    boolean full;
+    synchronized (this) {
+      OutputKey key = new OutputKey(noteId, paragraphId, index);
+      StringBuilder builder = pending.get(key);
+      if (builder == null) {
+        builder = new StringBuilder(output.length());
+        pending.put(key, builder);
+      }
+      builder.append(output);
+      pendingSize += output.length();
+      full = pendingSize >= batchSize || flushService == null;
+    }
+    if (full) {
+      flush();
+    }
+  }
+
+  /**
+   * Send all pending appends to the server. Called before any event that must not
+   * overtake buffered output, e.g. an output update of the same paragraph.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      Map<OutputKey, StringBuilder> batch;
+      synchronized (this) {
+        if (pending.isEmpty()) {
+          return;
+        }
+        batch = pending;
+        pending = new LinkedHashMap<>();
+        pendingSize = 0;
+      }
+
+      List<OutputAppendEvent> events = new ArrayList<>(batch.size());
+      for (Map.Entry<OutputKey, StringBuilder> entry : batch.entrySet()) {
+        OutputKey key = entry.getKey();
+        events.add(new OutputAppendEvent(key.noteId, key.paragraphId, key.index,
+            entry.getValue().toString(), null));
+      }
+      try {
+        sender.send(events);
+      } catch (TException e) {
+        LOGGER.warn("Fail to send batch of " + events.size() + " output appends", e);
+      } catch (RuntimeException e) {
+        LOGGER.error("Unexpected error while sending output appends", e);
+      }
+    }
+  }
+
+  public synchronized int getPendingSize() {
+    return pendingSize;
+  }
+
+  private static class OutputKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OutputKey)) {
+        return false;
+      }
+      OutputKey that = (OutputKey) o;
+      return index == that.index && noteId.equals(that.noteId)
+          && paragraphId.equals(that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = noteId.hashCode();
+      result = 31 * result + paragraphId.hashCode();
+      result = 31 * result + index;
+      return result;
+    }
+  }
+}
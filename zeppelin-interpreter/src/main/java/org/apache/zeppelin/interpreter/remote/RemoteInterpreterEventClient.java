@@ -17,28 +17,40 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
+import org.apache.commons.lang.StringUtils;
 import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
+import org.apache.zeppelin.interpreter.Constants;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
+import org.apache.zeppelin.interpreter.thrift.InterpretResultEvent;
+import org.apache.zeppelin.interpreter.thrift.JobStatusUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceChunkInputStream;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePoolConnector;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.resource.ResourceTransferStore;
+import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,17 +59,67 @@ import java.util.Map;
 /**
  * This class is used to communicate with ZeppelinServer via thrift.
  * All the methods are synchronized because thrift client is not thread safe.
+ * Output appends are the exception: they are buffered by {@link AppendOutputBatcher} and
+ * sent in batches, see {@link #onInterpreterOutputAppend}. So are the rows of paged tables,
+ * see {@link #onInterpreterTableRowsAppend}. And {@link #readResource} only locks each call
+ * it makes while transferring a resource.
  */
 public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     AngularObjectRegistryListener {
   private final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreterEventClient.class);
   private final Gson gson = new Gson();
+  // a failed chunk of resource is read again from the same offset
+  private static final int MAX_CHUNK_RETRIES = 3;
 
   private RemoteInterpreterEventService.Client intpEventServiceClient;
   private String intpGroupId;
+  private volatile AppendOutputBatcher outputBatcher;
+  private volatile AppendOutputBatcher tableRowsBatcher;
 
   public RemoteInterpreterEventClient(RemoteInterpreterEventService.Client intpEventServiceClient) {
     this.intpEventServiceClient = intpEventServiceClient;
+    this.outputBatcher = createOutputBatcher(Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE,
+        Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL);
+    this.tableRowsBatcher = createTableRowsBatcher(
+        Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE,
+        Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL);
+  }
+
+  /**
+   * Reconfigure the batching of output appends. A non-positive interval disables batching,
+   * every append is then sent immediately.
+   */
+  public void setOutputBatchConfig(int batchSize, long flushInterval) {
+    AppendOutputBatcher oldBatcher = this.outputBatcher;
+    this.outputBatcher = createOutputBatcher(batchSize, flushInterval);
+    oldBatcher.stop();
+    AppendOutputBatcher oldTableRowsBatcher = this.tableRowsBatcher;
+    this.tableRowsBatcher = createTableRowsBatcher(batchSize, flushInterval);
+    oldTableRowsBatcher.stop();
+  }
+
+  private AppendOutputBatcher createOutputBatcher(int batchSize, long flushInterval) {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(
+        new AppendOutputBatcher.BatchSender() {
+          @Override
+          public void send(List<OutputAppendEvent> batch) throws TException {
+            sendOutputAppendBatch(batch);
+          }
+        }, batchSize, flushInterval);
+    batcher.start();
+    return batcher;
+  }
+
+  private AppendOutputBatcher createTableRowsBatcher(int batchSize, long flushInterval) {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(
+        new AppendOutputBatcher.BatchSender() {
+          @Override
+          public void send(List<OutputAppendEvent> batch) throws TException {
+            sendTableRowsBatch(batch);
+          }
+        }, batchSize, flushInterval);
+    batcher.start();
+    return batcher;
   }
 
   public void setIntpGroupId(String intpGroupId) {
@@ -72,30 +134,133 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   @Override
   public synchronized ResourceSet getAllResources() {
     try {
-      List<String> resources = intpEventServiceClient.getAllResources(intpGroupId);
-      ResourceSet resourceSet = new ResourceSet();
-      for (String res : resources) {
-        RemoteResource resource = RemoteResource.fromJson(res);
-        resource.setResourcePoolConnector(this);
-        resourceSet.add(resource);
-      }
-      return resourceSet;
+      return toResourceSet(intpEventServiceClient.getAllResources(intpGroupId));
     } catch (TException e) {
       LOGGER.warn("Fail to getAllResources", e);
       return null;
     }
   }
 
+  /**
+   * Get resources of the given name except for this resourcePool, looked up in the
+   * resource directory of ZeppelinServer instead of listing all the remote resource pools.
+   *
+   * @return
+   */
+  @Override
+  public synchronized ResourceSet getResourcesByName(String name) {
+    try {
+      return toResourceSet(intpEventServiceClient.getResourcesByName(intpGroupId, name));
+    } catch (TException e) {
+      LOGGER.warn("Fail to getResourcesByName: " + name, e);
+      return new ResourceSet();
+    }
+  }
+
+  @Override
+  public synchronized ResourceSet getResources(String noteId, String paragraphId, String name) {
+    try {
+      return toResourceSet(intpEventServiceClient.getParagraphResources(
+          intpGroupId, noteId, paragraphId, name));
+    } catch (TException e) {
+      LOGGER.warn("Fail to getParagraphResources: " + name, e);
+      return new ResourceSet();
+    }
+  }
+
+  @Override
+  public synchronized void onResourcePut(Resource resource) {
+    try {
+      intpEventServiceClient.addResource(intpGroupId, resource.toJson());
+    } catch (TException e) {
+      LOGGER.warn("Fail to addResource: " + resource.getResourceId(), e);
+    }
+  }
+
+  @Override
+  public synchronized void onResourceRemove(ResourceId resourceId) {
+    try {
+      intpEventServiceClient.removeResource(intpGroupId, resourceId.toJson());
+    } catch (TException e) {
+      LOGGER.warn("Fail to removeResource: " + resourceId, e);
+    }
+  }
+
+  private ResourceSet toResourceSet(List<String> resources) {
+    ResourceSet resourceSet = new ResourceSet();
+    for (String res : resources) {
+      RemoteResource resource = RemoteResource.fromJson(res);
+      resource.setResourcePoolConnector(this);
+      resourceSet.add(resource);
+    }
+    return resourceSet;
+  }
+
+  /**
+   * Read remote object chunk by chunk, so that the serialized object is not held in memory
+   * as a whole. Not synchronized as a whole, only each call to ZeppelinServer is, so that
+   * other events are sent while a large resource is transferred and decoded.
+   */
   @Override
-  public synchronized Object readResource(ResourceId resourceId) {
+  public Object readResource(ResourceId resourceId) {
+    String transferJson;
     try {
-      ByteBuffer buffer = intpEventServiceClient.getResource(resourceId.toJson());
-      Object o = Resource.deserializeObject(buffer);
-      return o;
-    } catch (TException | IOException | ClassNotFoundException e) {
-      LOGGER.warn("Failt to readResource: " + resourceId, e);
+      transferJson = openResourceTransfer(resourceId);
+    } catch (TException e) {
+      LOGGER.warn("Fail to openResourceTransfer: " + resourceId, e);
       return null;
     }
+    if (StringUtils.isBlank(transferJson)) {
+      return null;
+    }
+
+    ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    InputStream in = new ResourceChunkInputStream(
+        offset -> readResourceChunk(transferJson, offset, transfer.getChunkSize()),
+        transfer.getLength(),
+        MAX_CHUNK_RETRIES);
+    try {
+      return ResourceTransferStore.decode(transfer, in);
+    } catch (IOException | ClassNotFoundException e) {
+      LOGGER.warn("Fail to readResource: " + resourceId, e);
+      return null;
+    } finally {
+      try {
+        closeResourceTransfer(transferJson);
+      } catch (TException e) {
+        LOGGER.warn("Fail to closeResourceTransfer: " + resourceId, e);
+      }
+    }
+  }
+
+  private synchronized String openResourceTransfer(ResourceId resourceId) throws TException {
+    return intpEventServiceClient.openResourceTransfer(intpGroupId, resourceId.toJson());
+  }
+
+  private synchronized void closeResourceTransfer(String transferJson) throws TException {
+    intpEventServiceClient.closeResourceTransfer(transferJson);
+  }
+
+  private synchronized ByteBuffer readResourceChunk(String transferJson, long offset, int length)
+      throws IOException {
+    try {
+      return intpEventServiceClient.readResourceChunk(transferJson, offset, length);
+    } catch (TException e) {
+      // the failed call may leave a partial response on the connection, so the chunk is
+      // read again on a new one
+      reconnect();
+      throw new IOException(e);
+    }
+  }
+
+  private void reconnect() {
+    TTransport transport = intpEventServiceClient.getInputProtocol().getTransport();
+    transport.close();
+    try {
+      transport.open();
+    } catch (TTransportException e) {
+      LOGGER.warn("Fail to reconnect to ZeppelinServer", e);
+    }
   }
 
   /**
@@ -204,17 +369,60 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     //    }
   }
 
-  public synchronized void onInterpreterOutputAppend(
+  /**
+   * Not synchronized on purpose, the output is buffered and sent to ZeppelinServer
+   * asynchronously in batches.
+   */
+  public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
-    try {
-      intpEventServiceClient.appendOutput(
-          new OutputAppendEvent(noteId, paragraphId, outputIndex, output, null));
-    } catch (TException e) {
-      LOGGER.warn("Fail to appendOutput", e);
+    outputBatcher.append(noteId, paragraphId, outputIndex, output);
+  }
+
+  /**
+   * Rows of a paged table, which are kept by ZeppelinServer but not shown in the paragraph.
+   * Buffered and sent in batches like output appends.
+   */
+  public void onInterpreterTableRowsAppend(
+      String noteId, String paragraphId, int outputIndex, String rows) {
+    tableRowsBatcher.append(noteId, paragraphId, outputIndex, rows);
+  }
+
+  /**
+   * Send all buffered output appends to ZeppelinServer.
+   */
+  public void flushOutput() {
+    outputBatcher.flush();
+    tableRowsBatcher.flush();
+  }
+
+  public void close() {
+    outputBatcher.stop();
+    tableRowsBatcher.stop();
+  }
+
+  private synchronized void sendOutputAppendBatch(List<OutputAppendEvent> batch)
+      throws TException {
+    if (batch.size() == 1) {
+      intpEventServiceClient.appendOutput(batch.get(0));
+    } else {
+      intpEventServiceClient.appendOutputBatch(batch);
     }
   }
 
-  public synchronized void onInterpreterOutputUpdate(
+  private synchronized void sendTableRowsBatch(List<OutputAppendEvent> batch)
+      throws TException {
+    intpEventServiceClient.appendTableRows(batch);
+  }
+
+  public void onInterpreterOutputUpdate(
+      String noteId, String paragraphId, int outputIndex,
+      InterpreterResult.Type type, String output) {
+    // appends buffered before this update must reach the server first
+    flushOutput();
+    sendOutputUpdate(noteId, paragraphId, outputIndex, type, output);
+  }
+
+  private synchronized void sendOutputUpdate(
       String noteId, String paragraphId, int outputIndex,
       InterpreterResult.Type type, String output) {
     try {
@@ -225,7 +433,13 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
-  public synchronized void onInterpreterOutputUpdateAll(
+  public void onInterpreterOutputUpdateAll(
+      String noteId, String paragraphId, List<InterpreterResultMessage> messages) {
+    flushOutput();
+    sendOutputUpdateAll(noteId, paragraphId, messages);
+  }
+
+  private synchronized void sendOutputUpdateAll(
       String noteId, String paragraphId, List<InterpreterResultMessage> messages) {
     try {
       intpEventServiceClient.updateAllOutput(
@@ -260,6 +474,37 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  /**
+   * Push the status transition of a job to ZeppelinServer, so that RemoteScheduler does not
+   * need to poll it.
+   */
+  public synchronized void onJobStatusChange(String sessionId, String jobId, Status status) {
+    JobStatusUpdateEvent event =
+        new JobStatusUpdateEvent(intpGroupId, sessionId, jobId, status.name());
+    try {
+      intpEventServiceClient.updateJobStatus(event);
+    } catch (TException e) {
+      LOGGER.warn("Fail to updateJobStatus: " + event, e);
+    }
+  }
+
+  /**
+   * Send the result of a paragraph submitted via submitInterpret to ZeppelinServer.
+   *
+   * @return false if the result could not be sent
+   */
+  public synchronized boolean onInterpretResult(String sessionId, String jobId,
+                                                RemoteInterpreterResult result) {
+    InterpretResultEvent event = new InterpretResultEvent(intpGroupId, sessionId, jobId, result);
+    try {
+      intpEventServiceClient.completeInterpret(event);
+      return true;
+    } catch (TException e) {
+      LOGGER.warn("Fail to completeInterpret: " + jobId, e);
+      return false;
+    }
+  }
+
   public synchronized void onAppOutputAppend(
       String noteId, String paragraphId, int index, String appId, String output) {
     AppOutputAppendEvent event =
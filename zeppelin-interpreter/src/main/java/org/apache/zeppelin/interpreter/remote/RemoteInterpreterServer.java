@@ -63,8 +63,10 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceCodecs;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransferStore;
 import org.apache.zeppelin.resource.WellKnownResourceName;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
@@ -80,16 +82,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Entry point for Interpreter process.
@@ -105,6 +110,7 @@ public class RemoteInterpreterServer extends Thread
   private AngularObjectRegistry angularObjectRegistry;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  private final ResourceTransferStore resourceTransferStore = new ResourceTransferStore();
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
 
@@ -127,6 +133,18 @@ public class RemoteInterpreterServer extends Thread
   // Hold information for manual progress update
   private ConcurrentMap<String, Integer> progressMap = new ConcurrentHashMap<>();
 
+  // results of submitted jobs that could not be pushed to ZeppelinServer, kept until
+  // ZeppelinServer fetches them via fetchInterpretResult, which it does while the paragraph
+  // waits, so a result which is not fetched in time, e.g. after ZeppelinServer restarted, is
+  // dropped. Ordered by the time they are added.
+  private static final long UNDELIVERED_RESULT_TTL_MS = 10 * 60 * 1000;
+  static final int MAX_UNDELIVERED_RESULTS = 100;
+  private final LinkedHashMap<String, UndeliveredResult> undeliveredResults =
+      new LinkedHashMap<>();
+
+  // rows of a table kept in the paragraph output, the others are paged from ZeppelinServer
+  private int tablePreviewRows = 0;
+
   private boolean isTest;
 
   public RemoteInterpreterServer(String intpEventServerHost,
@@ -227,6 +245,11 @@ public class RemoteInterpreterServer extends Thread
       }
     }
 
+    if (intpEventClient != null) {
+      intpEventClient.close();
+    }
+    resourceTransferStore.closeAll();
+
     server.stop();
 
     // server.stop() does not always finish server.serve() loop
@@ -300,6 +323,32 @@ public class RemoteInterpreterServer extends Thread
         InterpreterOutput.limit = Integer.parseInt(
             properties.get("zeppelin.interpreter.output.limit"));
       }
+      if (properties.containsKey("zeppelin.interpreter.output.table.preview.rows")) {
+        tablePreviewRows = Integer.parseInt(
+            properties.get("zeppelin.interpreter.output.table.preview.rows"));
+      }
+      if (properties.containsKey("zeppelin.interpreter.resource.codec")) {
+        // codecs of resource transfers only resolve to built-in or configured codecs
+        String codec = properties.get("zeppelin.interpreter.resource.codec");
+        try {
+          ResourceCodecs.registerConfigured(codec);
+        } catch (IOException e) {
+          logger.error("Fail to load resource codec " + codec, e);
+        }
+      }
+      if (properties.containsKey("zeppelin.interpreter.output.batch.size")
+          || properties.containsKey("zeppelin.interpreter.output.batch.interval")) {
+        int batchSize = Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE;
+        long batchInterval = Constants.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL;
+        if (properties.containsKey("zeppelin.interpreter.output.batch.size")) {
+          batchSize = Integer.parseInt(properties.get("zeppelin.interpreter.output.batch.size"));
+        }
+        if (properties.containsKey("zeppelin.interpreter.output.batch.interval")) {
+          batchInterval = Long.parseLong(
+              properties.get("zeppelin.interpreter.output.batch.interval"));
+        }
+        intpEventClient.setOutputBatchConfig(batchSize, batchInterval);
+      }
 
       depLoader = new DependencyResolver(localRepoPath);
       appLoader = new ApplicationLoader(resourcePool, depLoader);
@@ -429,6 +478,42 @@ public class RemoteInterpreterServer extends Thread
   public RemoteInterpreterResult interpret(String sessionId, String className, String st,
                                            RemoteInterpreterContext interpreterContext)
       throws TException {
+    InterpretJobListener jobListener = new InterpretJobListener(sessionId, false);
+    InterpretJob job = submitInterpretJob(sessionId, className, st, interpreterContext,
+        jobListener);
+
+    synchronized (jobListener) {
+      while (!job.isTerminated()) {
+        try {
+          jobListener.wait(1000);
+        } catch (InterruptedException e) {
+          logger.info("Exception in RemoteInterpreterServer while interpret, jobListener.wait", e);
+        }
+      }
+    }
+    return getInterpretResult(job);
+  }
+
+  /**
+   * Non-blocking version of {@link #interpret}. The paragraph is submitted to the scheduler of
+   * the interpreter and its result is sent back to ZeppelinServer via
+   * RemoteInterpreterEventService.completeInterpret once it is done, so that no thrift worker
+   * thread is held while the paragraph is running.
+   *
+   * @return id of the submitted job
+   */
+  @Override
+  public String submitInterpret(String sessionId, String className, String st,
+                                RemoteInterpreterContext interpreterContext) throws TException {
+    InterpretJob job = submitInterpretJob(sessionId, className, st, interpreterContext,
+        new InterpretJobListener(sessionId, true));
+    return job.getId();
+  }
+
+  private InterpretJob submitInterpretJob(String sessionId, String className, String st,
+                                          RemoteInterpreterContext interpreterContext,
+                                          InterpretJobListener jobListener)
+      throws TException {
     if (logger.isDebugEnabled()) {
       logger.debug("st:\n{}", st);
     }
@@ -437,7 +522,6 @@ public class RemoteInterpreterServer extends Thread
     context.setInterpreterClassName(intp.getClassName());
 
     Scheduler scheduler = intp.getScheduler();
-    InterpretJobListener jobListener = new InterpretJobListener();
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
         "RemoteInterpretJob_" + System.currentTimeMillis(),
@@ -446,20 +530,62 @@ public class RemoteInterpreterServer extends Thread
         st,
         context);
     scheduler.submit(job);
+    return job;
+  }
 
-    while (!job.isTerminated()) {
-      synchronized (jobListener) {
-        try {
-          jobListener.wait(1000);
-        } catch (InterruptedException e) {
-          logger.info("Exception in RemoteInterpreterServer while interpret, jobListener.wait", e);
+  /**
+   * Result of a job submitted via {@link #submitInterpret} whose completeInterpret event could
+   * not be delivered. ZeppelinServer calls it while waiting, so that a lost event does not block
+   * the paragraph forever.
+   *
+   * @return the result, or a result without code if there is none (yet)
+   */
+  @Override
+  public RemoteInterpreterResult fetchInterpretResult(String sessionId, String jobId)
+      throws TException {
+    UndeliveredResult undelivered;
+    synchronized (undeliveredResults) {
+      undelivered = undeliveredResults.remove(sessionId + ":" + jobId);
+    }
+    return undelivered != null ? undelivered.result : new RemoteInterpreterResult();
+  }
+
+  void addUndeliveredResult(String key, RemoteInterpreterResult result) {
+    long now = System.currentTimeMillis();
+    synchronized (undeliveredResults) {
+      undeliveredResults.put(key, new UndeliveredResult(result, now));
+      Iterator<UndeliveredResult> it = undeliveredResults.values().iterator();
+      while (it.hasNext()) {
+        UndeliveredResult oldest = it.next();
+        if (undeliveredResults.size() <= MAX_UNDELIVERED_RESULTS
+            && now - oldest.time < UNDELIVERED_RESULT_TTL_MS) {
+          break;
         }
+        it.remove();
+        logger.warn("Drop the result of a job which is not fetched by ZeppelinServer");
       }
     }
+  }
 
-    progressMap.remove(interpreterContext.getParagraphId());
+  private static class UndeliveredResult {
+    private final RemoteInterpreterResult result;
+    private final long time;
 
-    InterpreterResult  result = (InterpreterResult) job.getReturn();
+    UndeliveredResult(RemoteInterpreterResult result, long time) {
+      this.result = result;
+      this.time = time;
+    }
+  }
+
+  private RemoteInterpreterResult getInterpretResult(InterpretJob job) {
+    InterpreterContext context = job.getInterpreterContext();
+    progressMap.remove(context.getParagraphId());
+    // make sure the buffered output arrives before the result of the paragraph
+    if (intpEventClient != null) {
+      intpEventClient.flushOutput();
+    }
+
+    InterpreterResult  result = job.getReturn();
     // in case of job abort in PENDING status, result can be null
     if (result == null) {
       result = new InterpreterResult(Code.KEEP_PREVIOUS_RESULT);
@@ -472,12 +598,33 @@ public class RemoteInterpreterServer extends Thread
 
   class InterpretJobListener implements JobListener {
 
+    private final String sessionId;
+    // whether to send the result to ZeppelinServer when the job is done
+    private final boolean sendResult;
+    private final AtomicBoolean resultSent = new AtomicBoolean(false);
+
+    InterpretJobListener(String sessionId, boolean sendResult) {
+      this.sessionId = sessionId;
+      this.sendResult = sendResult;
+    }
+
     @Override
     public void onProgressUpdate(Job job, int progress) {
     }
 
     @Override
     public void onStatusChange(Job job, Status before, Status after) {
+      // let RemoteScheduler in ZeppelinServer know the new status without polling
+      if (intpEventClient != null) {
+        intpEventClient.onJobStatusChange(sessionId, job.getId(), after);
+      }
+      if (sendResult && job.isTerminated() && resultSent.compareAndSet(false, true)) {
+        RemoteInterpreterResult result = getInterpretResult((InterpretJob) job);
+        if (intpEventClient == null
+            || !intpEventClient.onInterpretResult(sessionId, job.getId(), result)) {
+          addUndeliveredResult(sessionId + ":" + job.getId(), result);
+        }
+      }
       synchronized (this) {
         notifyAll();
       }
@@ -511,6 +658,21 @@ public class RemoteInterpreterServer extends Thread
       return results;
     }
 
+    public InterpreterContext getInterpreterContext() {
+      return context;
+    }
+
+    @Override
+    public String getJobUser() {
+      return context.getAuthenticationInfo() != null ?
+          context.getAuthenticationInfo().getUser() : null;
+    }
+
+    @Override
+    public String getJobNoteId() {
+      return context.getNoteId();
+    }
+
     @Override
     public int progress() {
       return 0;
@@ -732,7 +894,7 @@ public class RemoteInterpreterServer extends Thread
 
   protected InterpreterOutput createInterpreterOutput(final String noteId, final String
       paragraphId) {
-    return new InterpreterOutput(new InterpreterOutputListener() {
+    InterpreterOutput output = new InterpreterOutput(new InterpreterOutputListener() {
       @Override
       public void onUpdateAll(InterpreterOutput out) {
         try {
@@ -763,7 +925,15 @@ public class RemoteInterpreterServer extends Thread
           logger.error(e.getMessage(), e);
         }
       }
+
+      @Override
+      public void onAppendTableRows(int index, InterpreterResultMessageOutput out, byte[] rows) {
+        intpEventClient.onInterpreterTableRowsAppend(
+            noteId, paragraphId, index, new String(rows, StandardCharsets.UTF_8));
+      }
     });
+    output.setTablePreviewRows(tablePreviewRows);
+    return output;
   }
 
   private RemoteInterpreterResult convert(InterpreterResult result,
@@ -952,6 +1122,40 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  @Override
+  public String resourceOpenTransfer(String noteId, String paragraphId, String resourceName,
+                                     String codec, long spillThreshold, String compression)
+      throws TException {
+    logger.debug("Request resourceOpenTransfer {} from ZeppelinServer", resourceName);
+    Resource resource = resourcePool.get(noteId, paragraphId, resourceName, false);
+
+    if (resource == null || resource.get() == null || !resource.isSerializable()) {
+      return "";
+    }
+    try {
+      return resourceTransferStore.open(
+          resource.getResourceId(), resource.get(), codec, compression, spillThreshold).toJson();
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      return "";
+    }
+  }
+
+  @Override
+  public ByteBuffer resourceReadChunk(String transferId, long offset, int length)
+      throws TException {
+    try {
+      return resourceTransferStore.read(transferId, offset, length);
+    } catch (IOException e) {
+      throw new TException(e);
+    }
+  }
+
+  @Override
+  public void resourceCloseTransfer(String transferId) throws TException {
+    resourceTransferStore.close(transferId);
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
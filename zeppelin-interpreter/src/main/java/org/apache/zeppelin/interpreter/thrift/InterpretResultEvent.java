@@ -0,0 +1,735 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Autogenerated by Thrift Compiler (0.9.2)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package org.apache.zeppelin.interpreter.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.EncodingUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.server.AbstractNonblockingServer.*;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.Generated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-17")
+public class InterpretResultEvent implements org.apache.thrift.TBase<InterpretResultEvent, InterpretResultEvent._Fields>, java.io.Serializable, Cloneable, Comparable<InterpretResultEvent> {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("InterpretResultEvent");
+
+  private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+  private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)2);
+  private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)3);
+  private static final org.apache.thrift.protocol.TField RESULT_FIELD_DESC = new org.apache.thrift.protocol.TField("result", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new InterpretResultEventStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new InterpretResultEventTupleSchemeFactory());
+  }
+
+  public String intpGroupId; // required
+  public String sessionId; // required
+  public String jobId; // required
+  public org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult result; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    INTP_GROUP_ID((short)1, "intpGroupId"),
+    SESSION_ID((short)2, "sessionId"),
+    JOB_ID((short)3, "jobId"),
+    RESULT((short)4, "result");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // INTP_GROUP_ID
+          return INTP_GROUP_ID;
+        case 2: // SESSION_ID
+          return SESSION_ID;
+        case 3: // JOB_ID
+          return JOB_ID;
+        case 4: // RESULT
+          return RESULT;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.RESULT, new org.apache.thrift.meta_data.FieldMetaData("result", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult.class)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(InterpretResultEvent.class, metaDataMap);
+  }
+
+  public InterpretResultEvent() {
+  }
+
+  public InterpretResultEvent(
+    String intpGroupId,
+    String sessionId,
+    String jobId,
+    org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult result)
+  {
+    this();
+    this.intpGroupId = intpGroupId;
+    this.sessionId = sessionId;
+    this.jobId = jobId;
+    this.result = result;
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public InterpretResultEvent(InterpretResultEvent other) {
+    if (other.isSetIntpGroupId()) {
+      this.intpGroupId = other.intpGroupId;
+    }
+    if (other.isSetSessionId()) {
+      this.sessionId = other.sessionId;
+    }
+    if (other.isSetJobId()) {
+      this.jobId = other.jobId;
+    }
+    if (other.isSetResult()) {
+      this.result = new org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult(other.result);
+    }
+  }
+
+  public InterpretResultEvent deepCopy() {
+    return new InterpretResultEvent(this);
+  }
+
+  @Override
+  public void clear() {
+    this.intpGroupId = null;
+    this.sessionId = null;
+    this.jobId = null;
+    this.result = null;
+  }
+
+  public String getIntpGroupId() {
+    return this.intpGroupId;
+  }
+
+  public InterpretResultEvent setIntpGroupId(String intpGroupId) {
+    this.intpGroupId = intpGroupId;
+    return this;
+  }
+
+  public void unsetIntpGroupId() {
+    this.intpGroupId = null;
+  }
+
+  /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+  public boolean isSetIntpGroupId() {
+    return this.intpGroupId != null;
+  }
+
+  public void setIntpGroupIdIsSet(boolean value) {
+    if (!value) {
+      this.intpGroupId = null;
+    }
+  }
+
+  public String getSessionId() {
+    return this.sessionId;
+  }
+
+  public InterpretResultEvent setSessionId(String sessionId) {
+    this.sessionId = sessionId;
+    return this;
+  }
+
+  public void unsetSessionId() {
+    this.sessionId = null;
+  }
+
+  /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+  public boolean isSetSessionId() {
+    return this.sessionId != null;
+  }
+
+  public void setSessionIdIsSet(boolean value) {
+    if (!value) {
+      this.sessionId = null;
+    }
+  }
+
+  public String getJobId() {
+    return this.jobId;
+  }
+
+  public InterpretResultEvent setJobId(String jobId) {
+    this.jobId = jobId;
+    return this;
+  }
+
+  public void unsetJobId() {
+    this.jobId = null;
+  }
+
+  /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobId() {
+    return this.jobId != null;
+  }
+
+  public void setJobIdIsSet(boolean value) {
+    if (!value) {
+      this.jobId = null;
+    }
+  }
+
+  public org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult getResult() {
+    return this.result;
+  }
+
+  public InterpretResultEvent setResult(org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult result) {
+    this.result = result;
+    return this;
+  }
+
+  public void unsetResult() {
+    this.result = null;
+  }
+
+  /** Returns true if field result is set (has been assigned a value) and false otherwise */
+  public boolean isSetResult() {
+    return this.result != null;
+  }
+
+  public void setResultIsSet(boolean value) {
+    if (!value) {
+      this.result = null;
+    }
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case INTP_GROUP_ID:
+      if (value == null) {
+        unsetIntpGroupId();
+      } else {
+        setIntpGroupId((String)value);
+      }
+      break;
+
+    case SESSION_ID:
+      if (value == null) {
+        unsetSessionId();
+      } else {
+        setSessionId((String)value);
+      }
+      break;
+
+    case JOB_ID:
+      if (value == null) {
+        unsetJobId();
+      } else {
+        setJobId((String)value);
+      }
+      break;
+
+    case RESULT:
+      if (value == null) {
+        unsetResult();
+      } else {
+        setResult((org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case INTP_GROUP_ID:
+      return getIntpGroupId();
+
+    case SESSION_ID:
+      return getSessionId();
+
+    case JOB_ID:
+      return getJobId();
+
+    case RESULT:
+      return getResult();
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case INTP_GROUP_ID:
+      return isSetIntpGroupId();
+    case SESSION_ID:
+      return isSetSessionId();
+    case JOB_ID:
+      return isSetJobId();
+    case RESULT:
+      return isSetResult();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof InterpretResultEvent)
+      return this.equals((InterpretResultEvent)that);
+    return false;
+  }
+
+  public boolean equals(InterpretResultEvent that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+    boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+    if (this_present_intpGroupId || that_present_intpGroupId) {
+      if (!(this_present_intpGroupId && that_present_intpGroupId))
+        return false;
+      if (!this.intpGroupId.equals(that.intpGroupId))
+        return false;
+    }
+
+    boolean this_present_sessionId = true && this.isSetSessionId();
+    boolean that_present_sessionId = true && that.isSetSessionId();
+    if (this_present_sessionId || that_present_sessionId) {
+      if (!(this_present_sessionId && that_present_sessionId))
+        return false;
+      if (!this.sessionId.equals(that.sessionId))
+        return false;
+    }
+
+    boolean this_present_jobId = true && this.isSetJobId();
+    boolean that_present_jobId = true && that.isSetJobId();
+    if (this_present_jobId || that_present_jobId) {
+      if (!(this_present_jobId && that_present_jobId))
+        return false;
+      if (!this.jobId.equals(that.jobId))
+        return false;
+    }
+
+    boolean this_present_result = true && this.isSetResult();
+    boolean that_present_result = true && that.isSetResult();
+    if (this_present_result || that_present_result) {
+      if (!(this_present_result && that_present_result))
+        return false;
+      if (!this.result.equals(that.result))
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    List<Object> list = new ArrayList<Object>();
+
+    boolean present_intpGroupId = true && (isSetIntpGroupId());
+    list.add(present_intpGroupId);
+    if (present_intpGroupId)
+      list.add(intpGroupId);
+
+    boolean present_sessionId = true && (isSetSessionId());
+    list.add(present_sessionId);
+    if (present_sessionId)
+      list.add(sessionId);
+
+    boolean present_jobId = true && (isSetJobId());
+    list.add(present_jobId);
+    if (present_jobId)
+      list.add(jobId);
+
+    boolean present_result = true && (isSetResult());
+    list.add(present_result);
+    if (present_result)
+      list.add(result);
+
+    return list.hashCode();
+  }
+
+  @Override
+  public int compareTo(InterpretResultEvent other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+
+    lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetIntpGroupId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSessionId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetResult()).compareTo(other.isSetResult());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetResult()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.result, other.result);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("InterpretResultEvent(");
+    boolean first = true;
+
+    sb.append("intpGroupId:");
+    if (this.intpGroupId == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.intpGroupId);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("sessionId:");
+    if (this.sessionId == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.sessionId);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("jobId:");
+    if (this.jobId == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.jobId);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("result:");
+    if (this.result == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.result);
+    }
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+    // check for sub-struct validity
+    if (result != null) {
+      result.validate();
+    }
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private static class InterpretResultEventStandardSchemeFactory implements SchemeFactory {
+    public InterpretResultEventStandardScheme getScheme() {
+      return new InterpretResultEventStandardScheme();
+    }
+  }
+
+  private static class InterpretResultEventStandardScheme extends StandardScheme<InterpretResultEvent> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, InterpretResultEvent struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // INTP_GROUP_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.intpGroupId = iprot.readString();
+              struct.setIntpGroupIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // SESSION_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.sessionId = iprot.readString();
+              struct.setSessionIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // JOB_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.jobId = iprot.readString();
+              struct.setJobIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // RESULT
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.result = new org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult();
+              struct.result.read(iprot);
+              struct.setResultIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, InterpretResultEvent struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.intpGroupId != null) {
+        oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+        oprot.writeString(struct.intpGroupId);
+        oprot.writeFieldEnd();
+      }
+      if (struct.sessionId != null) {
+        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+        oprot.writeString(struct.sessionId);
+        oprot.writeFieldEnd();
+      }
+      if (struct.jobId != null) {
+        oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+        oprot.writeString(struct.jobId);
+        oprot.writeFieldEnd();
+      }
+      if (struct.result != null) {
+        oprot.writeFieldBegin(RESULT_FIELD_DESC);
+        struct.result.write(oprot);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class InterpretResultEventTupleSchemeFactory implements SchemeFactory {
+    public InterpretResultEventTupleScheme getScheme() {
+      return new InterpretResultEventTupleScheme();
+    }
+  }
+
+  private static class InterpretResultEventTupleScheme extends TupleScheme<InterpretResultEvent> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, InterpretResultEvent struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetIntpGroupId()) {
+        optionals.set(0);
+      }
+      if (struct.isSetSessionId()) {
+        optionals.set(1);
+      }
+      if (struct.isSetJobId()) {
+        optionals.set(2);
+      }
+      if (struct.isSetResult()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetIntpGroupId()) {
+        oprot.writeString(struct.intpGroupId);
+      }
+      if (struct.isSetSessionId()) {
+        oprot.writeString(struct.sessionId);
+      }
+      if (struct.isSetJobId()) {
+        oprot.writeString(struct.jobId);
+      }
+      if (struct.isSetResult()) {
+        struct.result.write(oprot);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, InterpretResultEvent struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(4);
+      if (incoming.get(0)) {
+        struct.intpGroupId = iprot.readString();
+        struct.setIntpGroupIdIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.sessionId = iprot.readString();
+        struct.setSessionIdIsSet(true);
+      }
+      if (incoming.get(2)) {
+        struct.jobId = iprot.readString();
+        struct.setJobIdIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.result = new org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult();
+        struct.result.read(iprot);
+        struct.setResultIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2018-8-9")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-17")
 public class RemoteInterpreterEventService {
 
   public interface Iface {
@@ -60,6 +60,10 @@ public class RemoteInterpreterEventService {
 
     public void appendOutput(OutputAppendEvent event) throws org.apache.thrift.TException;
 
+    public void appendOutputBatch(List<OutputAppendEvent> batch) throws org.apache.thrift.TException;
+
+    public void appendTableRows(List<OutputAppendEvent> batch) throws org.apache.thrift.TException;
+
     public void updateOutput(OutputUpdateEvent event) throws org.apache.thrift.TException;
 
     public void updateAllOutput(OutputUpdateAllEvent event) throws org.apache.thrift.TException;
@@ -72,6 +76,10 @@ public class RemoteInterpreterEventService {
 
     public void runParagraphs(RunParagraphsEvent event) throws org.apache.thrift.TException;
 
+    public void updateJobStatus(JobStatusUpdateEvent event) throws org.apache.thrift.TException;
+
+    public void completeInterpret(InterpretResultEvent event) throws org.apache.thrift.TException;
+
     public void addAngularObject(String intpGroupId, String json) throws org.apache.thrift.TException;
 
     public void updateAngularObject(String intpGroupId, String json) throws org.apache.thrift.TException;
@@ -80,10 +88,24 @@ public class RemoteInterpreterEventService {
 
     public void sendParagraphInfo(String intpGroupId, String json) throws org.apache.thrift.TException;
 
+    public void addResource(String intpGroupId, String resourceJson) throws org.apache.thrift.TException;
+
+    public void removeResource(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException;
+
+    public List<String> getResourcesByName(String intpGroupId, String name) throws org.apache.thrift.TException;
+
+    public List<String> getParagraphResources(String intpGroupId, String noteId, String paragraphId, String name) throws org.apache.thrift.TException;
+
     public List<String> getAllResources(String intpGroupId) throws org.apache.thrift.TException;
 
     public ByteBuffer getResource(String resourceIdJson) throws org.apache.thrift.TException;
 
+    public String openResourceTransfer(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException;
+
+    public ByteBuffer readResourceChunk(String transferJson, long offset, int length) throws org.apache.thrift.TException;
+
+    public void closeResourceTransfer(String transferJson) throws org.apache.thrift.TException;
+
     public ByteBuffer invokeMethod(String intpGroupId, String invokeMethodJson) throws org.apache.thrift.TException;
 
   }
@@ -94,6 +116,10 @@ public class RemoteInterpreterEventService {
 
     public void appendOutput(OutputAppendEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void appendOutputBatch(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void appendTableRows(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void updateOutput(OutputUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void updateAllOutput(OutputUpdateAllEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -106,6 +132,10 @@ public class RemoteInterpreterEventService {
 
     public void runParagraphs(RunParagraphsEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void updateJobStatus(JobStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void completeInterpret(InterpretResultEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void addAngularObject(String intpGroupId, String json, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void updateAngularObject(String intpGroupId, String json, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -114,10 +144,24 @@ public class RemoteInterpreterEventService {
 
     public void sendParagraphInfo(String intpGroupId, String json, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void addResource(String intpGroupId, String resourceJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void removeResource(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getResourcesByName(String intpGroupId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getParagraphResources(String intpGroupId, String noteId, String paragraphId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getAllResources(String intpGroupId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getResource(String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void openResourceTransfer(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readResourceChunk(String transferJson, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void closeResourceTransfer(String transferJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void invokeMethod(String intpGroupId, String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -182,6 +226,46 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void appendOutputBatch(List<OutputAppendEvent> batch) throws org.apache.thrift.TException
+    {
+      send_appendOutputBatch(batch);
+      recv_appendOutputBatch();
+    }
+
+    public void send_appendOutputBatch(List<OutputAppendEvent> batch) throws org.apache.thrift.TException
+    {
+      appendOutputBatch_args args = new appendOutputBatch_args();
+      args.setBatch(batch);
+      sendBase("appendOutputBatch", args);
+    }
+
+    public void recv_appendOutputBatch() throws org.apache.thrift.TException
+    {
+      appendOutputBatch_result result = new appendOutputBatch_result();
+      receiveBase(result, "appendOutputBatch");
+      return;
+    }
+
+    public void appendTableRows(List<OutputAppendEvent> batch) throws org.apache.thrift.TException
+    {
+      send_appendTableRows(batch);
+      recv_appendTableRows();
+    }
+
+    public void send_appendTableRows(List<OutputAppendEvent> batch) throws org.apache.thrift.TException
+    {
+      appendTableRows_args args = new appendTableRows_args();
+      args.setBatch(batch);
+      sendBase("appendTableRows", args);
+    }
+
+    public void recv_appendTableRows() throws org.apache.thrift.TException
+    {
+      appendTableRows_result result = new appendTableRows_result();
+      receiveBase(result, "appendTableRows");
+      return;
+    }
+
     public void updateOutput(OutputUpdateEvent event) throws org.apache.thrift.TException
     {
       send_updateOutput(event);
@@ -302,6 +386,46 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void updateJobStatus(JobStatusUpdateEvent event) throws org.apache.thrift.TException
+    {
+      send_updateJobStatus(event);
+      recv_updateJobStatus();
+    }
+
+    public void send_updateJobStatus(JobStatusUpdateEvent event) throws org.apache.thrift.TException
+    {
+      updateJobStatus_args args = new updateJobStatus_args();
+      args.setEvent(event);
+      sendBase("updateJobStatus", args);
+    }
+
+    public void recv_updateJobStatus() throws org.apache.thrift.TException
+    {
+      updateJobStatus_result result = new updateJobStatus_result();
+      receiveBase(result, "updateJobStatus");
+      return;
+    }
+
+    public void completeInterpret(InterpretResultEvent event) throws org.apache.thrift.TException
+    {
+      send_completeInterpret(event);
+      recv_completeInterpret();
+    }
+
+    public void send_completeInterpret(InterpretResultEvent event) throws org.apache.thrift.TException
+    {
+      completeInterpret_args args = new completeInterpret_args();
+      args.setEvent(event);
+      sendBase("completeInterpret", args);
+    }
+
+    public void recv_completeInterpret() throws org.apache.thrift.TException
+    {
+      completeInterpret_result result = new completeInterpret_result();
+      receiveBase(result, "completeInterpret");
+      return;
+    }
+
     public void addAngularObject(String intpGroupId, String json) throws org.apache.thrift.TException
     {
       send_addAngularObject(intpGroupId, json);
@@ -388,6 +512,98 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void addResource(String intpGroupId, String resourceJson) throws org.apache.thrift.TException
+    {
+      send_addResource(intpGroupId, resourceJson);
+      recv_addResource();
+    }
+
+    public void send_addResource(String intpGroupId, String resourceJson) throws org.apache.thrift.TException
+    {
+      addResource_args args = new addResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceJson(resourceJson);
+      sendBase("addResource", args);
+    }
+
+    public void recv_addResource() throws org.apache.thrift.TException
+    {
+      addResource_result result = new addResource_result();
+      receiveBase(result, "addResource");
+      return;
+    }
+
+    public void removeResource(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException
+    {
+      send_removeResource(intpGroupId, resourceIdJson);
+      recv_removeResource();
+    }
+
+    public void send_removeResource(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException
+    {
+      removeResource_args args = new removeResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("removeResource", args);
+    }
+
+    public void recv_removeResource() throws org.apache.thrift.TException
+    {
+      removeResource_result result = new removeResource_result();
+      receiveBase(result, "removeResource");
+      return;
+    }
+
+    public List<String> getResourcesByName(String intpGroupId, String name) throws org.apache.thrift.TException
+    {
+      send_getResourcesByName(intpGroupId, name);
+      return recv_getResourcesByName();
+    }
+
+    public void send_getResourcesByName(String intpGroupId, String name) throws org.apache.thrift.TException
+    {
+      getResourcesByName_args args = new getResourcesByName_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setName(name);
+      sendBase("getResourcesByName", args);
+    }
+
+    public List<String> recv_getResourcesByName() throws org.apache.thrift.TException
+    {
+      getResourcesByName_result result = new getResourcesByName_result();
+      receiveBase(result, "getResourcesByName");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResourcesByName failed: unknown result");
+    }
+
+    public List<String> getParagraphResources(String intpGroupId, String noteId, String paragraphId, String name) throws org.apache.thrift.TException
+    {
+      send_getParagraphResources(intpGroupId, noteId, paragraphId, name);
+      return recv_getParagraphResources();
+    }
+
+    public void send_getParagraphResources(String intpGroupId, String noteId, String paragraphId, String name) throws org.apache.thrift.TException
+    {
+      getParagraphResources_args args = new getParagraphResources_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setNoteId(noteId);
+      args.setParagraphId(paragraphId);
+      args.setName(name);
+      sendBase("getParagraphResources", args);
+    }
+
+    public List<String> recv_getParagraphResources() throws org.apache.thrift.TException
+    {
+      getParagraphResources_result result = new getParagraphResources_result();
+      receiveBase(result, "getParagraphResources");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getParagraphResources failed: unknown result");
+    }
+
     public List<String> getAllResources(String intpGroupId) throws org.apache.thrift.TException
     {
       send_getAllResources(intpGroupId);
@@ -434,6 +650,75 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResource failed: unknown result");
     }
 
+    public String openResourceTransfer(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException
+    {
+      send_openResourceTransfer(intpGroupId, resourceIdJson);
+      return recv_openResourceTransfer();
+    }
+
+    public void send_openResourceTransfer(String intpGroupId, String resourceIdJson) throws org.apache.thrift.TException
+    {
+      openResourceTransfer_args args = new openResourceTransfer_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("openResourceTransfer", args);
+    }
+
+    public String recv_openResourceTransfer() throws org.apache.thrift.TException
+    {
+      openResourceTransfer_result result = new openResourceTransfer_result();
+      receiveBase(result, "openResourceTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "openResourceTransfer failed: unknown result");
+    }
+
+    public ByteBuffer readResourceChunk(String transferJson, long offset, int length) throws org.apache.thrift.TException
+    {
+      send_readResourceChunk(transferJson, offset, length);
+      return recv_readResourceChunk();
+    }
+
+    public void send_readResourceChunk(String transferJson, long offset, int length) throws org.apache.thrift.TException
+    {
+      readResourceChunk_args args = new readResourceChunk_args();
+      args.setTransferJson(transferJson);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("readResourceChunk", args);
+    }
+
+    public ByteBuffer recv_readResourceChunk() throws org.apache.thrift.TException
+    {
+      readResourceChunk_result result = new readResourceChunk_result();
+      receiveBase(result, "readResourceChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readResourceChunk failed: unknown result");
+    }
+
+    public void closeResourceTransfer(String transferJson) throws org.apache.thrift.TException
+    {
+      send_closeResourceTransfer(transferJson);
+      recv_closeResourceTransfer();
+    }
+
+    public void send_closeResourceTransfer(String transferJson) throws org.apache.thrift.TException
+    {
+      closeResourceTransfer_args args = new closeResourceTransfer_args();
+      args.setTransferJson(transferJson);
+      sendBase("closeResourceTransfer", args);
+    }
+
+    public void recv_closeResourceTransfer() throws org.apache.thrift.TException
+    {
+      closeResourceTransfer_result result = new closeResourceTransfer_result();
+      receiveBase(result, "closeResourceTransfer");
+      return;
+    }
+
     public ByteBuffer invokeMethod(String intpGroupId, String invokeMethodJson) throws org.apache.thrift.TException
     {
       send_invokeMethod(intpGroupId, invokeMethodJson);
@@ -540,6 +825,70 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void appendOutputBatch(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      appendOutputBatch_call method_call = new appendOutputBatch_call(batch, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class appendOutputBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<OutputAppendEvent> batch;
+      public appendOutputBatch_call(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.batch = batch;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("appendOutputBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        appendOutputBatch_args args = new appendOutputBatch_args();
+        args.setBatch(batch);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_appendOutputBatch();
+      }
+    }
+
+    public void appendTableRows(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      appendTableRows_call method_call = new appendTableRows_call(batch, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class appendTableRows_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<OutputAppendEvent> batch;
+      public appendTableRows_call(List<OutputAppendEvent> batch, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.batch = batch;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("appendTableRows", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        appendTableRows_args args = new appendTableRows_args();
+        args.setBatch(batch);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_appendTableRows();
+      }
+    }
+
     public void updateOutput(OutputUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       updateOutput_call method_call = new updateOutput_call(event, resultHandler, this, ___protocolFactory, ___transport);
@@ -732,6 +1081,70 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void updateJobStatus(JobStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      updateJobStatus_call method_call = new updateJobStatus_call(event, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class updateJobStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private JobStatusUpdateEvent event;
+      public updateJobStatus_call(JobStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.event = event;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("updateJobStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        updateJobStatus_args args = new updateJobStatus_args();
+        args.setEvent(event);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_updateJobStatus();
+      }
+    }
+
+    public void completeInterpret(InterpretResultEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      completeInterpret_call method_call = new completeInterpret_call(event, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class completeInterpret_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private InterpretResultEvent event;
+      public completeInterpret_call(InterpretResultEvent event, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.event = event;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("completeInterpret", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        completeInterpret_args args = new completeInterpret_args();
+        args.setEvent(event);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_completeInterpret();
+      }
+    }
+
     public void addAngularObject(String intpGroupId, String json, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       addAngularObject_call method_call = new addAngularObject_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
@@ -878,41 +1291,187 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public void getAllResources(String intpGroupId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void addResource(String intpGroupId, String resourceJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getAllResources_call method_call = new getAllResources_call(intpGroupId, resultHandler, this, ___protocolFactory, ___transport);
+      addResource_call method_call = new addResource_call(intpGroupId, resourceJson, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class getAllResources_call extends org.apache.thrift.async.TAsyncMethodCall {
+    public static class addResource_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String intpGroupId;
-      public getAllResources_call(String intpGroupId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private String resourceJson;
+      public addResource_call(String intpGroupId, String resourceJson, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.intpGroupId = intpGroupId;
+        this.resourceJson = resourceJson;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getAllResources", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        getAllResources_args args = new getAllResources_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("addResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        addResource_args args = new addResource_args();
         args.setIntpGroupId(intpGroupId);
+        args.setResourceJson(resourceJson);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public List<String> getResult() throws org.apache.thrift.TException {
+      public void getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_getAllResources();
+        (new Client(prot)).recv_addResource();
       }
     }
 
-    public void getResource(String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void removeResource(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getResource_call method_call = new getResource_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      removeResource_call method_call = new removeResource_call(intpGroupId, resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeResource_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String intpGroupId;
+      private String resourceIdJson;
+      public removeResource_call(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeResource_args args = new removeResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_removeResource();
+      }
+    }
+
+    public void getResourcesByName(String intpGroupId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getResourcesByName_call method_call = new getResourcesByName_call(intpGroupId, name, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getResourcesByName_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String intpGroupId;
+      private String name;
+      public getResourcesByName_call(String intpGroupId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.name = name;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResourcesByName", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getResourcesByName_args args = new getResourcesByName_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setName(name);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getResourcesByName();
+      }
+    }
+
+    public void getParagraphResources(String intpGroupId, String noteId, String paragraphId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getParagraphResources_call method_call = new getParagraphResources_call(intpGroupId, noteId, paragraphId, name, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getParagraphResources_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String intpGroupId;
+      private String noteId;
+      private String paragraphId;
+      private String name;
+      public getParagraphResources_call(String intpGroupId, String noteId, String paragraphId, String name, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.noteId = noteId;
+        this.paragraphId = paragraphId;
+        this.name = name;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getParagraphResources", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getParagraphResources_args args = new getParagraphResources_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setNoteId(noteId);
+        args.setParagraphId(paragraphId);
+        args.setName(name);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getParagraphResources();
+      }
+    }
+
+    public void getAllResources(String intpGroupId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getAllResources_call method_call = new getAllResources_call(intpGroupId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getAllResources_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String intpGroupId;
+      public getAllResources_call(String intpGroupId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getAllResources", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getAllResources_args args = new getAllResources_args();
+        args.setIntpGroupId(intpGroupId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getAllResources();
+      }
+    }
+
+    public void getResource(String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getResource_call method_call = new getResource_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -942,6 +1501,111 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void openResourceTransfer(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      openResourceTransfer_call method_call = new openResourceTransfer_call(intpGroupId, resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class openResourceTransfer_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String intpGroupId;
+      private String resourceIdJson;
+      public openResourceTransfer_call(String intpGroupId, String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("openResourceTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        openResourceTransfer_args args = new openResourceTransfer_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_openResourceTransfer();
+      }
+    }
+
+    public void readResourceChunk(String transferJson, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readResourceChunk_call method_call = new readResourceChunk_call(transferJson, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class readResourceChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferJson;
+      private long offset;
+      private int length;
+      public readResourceChunk_call(String transferJson, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferJson = transferJson;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readResourceChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readResourceChunk_args args = new readResourceChunk_args();
+        args.setTransferJson(transferJson);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readResourceChunk();
+      }
+    }
+
+    public void closeResourceTransfer(String transferJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      closeResourceTransfer_call method_call = new closeResourceTransfer_call(transferJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class closeResourceTransfer_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferJson;
+      public closeResourceTransfer_call(String transferJson, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferJson = transferJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("closeResourceTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        closeResourceTransfer_args args = new closeResourceTransfer_args();
+        args.setTransferJson(transferJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_closeResourceTransfer();
+      }
+    }
+
     public void invokeMethod(String intpGroupId, String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       invokeMethod_call method_call = new invokeMethod_call(intpGroupId, invokeMethodJson, resultHandler, this, ___protocolFactory, ___transport);
@@ -992,18 +1656,29 @@ public class RemoteInterpreterEventService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
       processMap.put("appendOutput", new appendOutput());
+      processMap.put("appendOutputBatch", new appendOutputBatch());
+      processMap.put("appendTableRows", new appendTableRows());
       processMap.put("updateOutput", new updateOutput());
       processMap.put("updateAllOutput", new updateAllOutput());
       processMap.put("appendAppOutput", new appendAppOutput());
       processMap.put("updateAppOutput", new updateAppOutput());
       processMap.put("updateAppStatus", new updateAppStatus());
       processMap.put("runParagraphs", new runParagraphs());
+      processMap.put("updateJobStatus", new updateJobStatus());
+      processMap.put("completeInterpret", new completeInterpret());
       processMap.put("addAngularObject", new addAngularObject());
       processMap.put("updateAngularObject", new updateAngularObject());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
+      processMap.put("addResource", new addResource());
+      processMap.put("removeResource", new removeResource());
+      processMap.put("getResourcesByName", new getResourcesByName());
+      processMap.put("getParagraphResources", new getParagraphResources());
       processMap.put("getAllResources", new getAllResources());
       processMap.put("getResource", new getResource());
+      processMap.put("openResourceTransfer", new openResourceTransfer());
+      processMap.put("readResourceChunk", new readResourceChunk());
+      processMap.put("closeResourceTransfer", new closeResourceTransfer());
       processMap.put("invokeMethod", new invokeMethod());
       return processMap;
     }
@@ -1048,6 +1723,46 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class appendOutputBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, appendOutputBatch_args> {
+      public appendOutputBatch() {
+        super("appendOutputBatch");
+      }
+
+      public appendOutputBatch_args getEmptyArgsInstance() {
+        return new appendOutputBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public appendOutputBatch_result getResult(I iface, appendOutputBatch_args args) throws org.apache.thrift.TException {
+        appendOutputBatch_result result = new appendOutputBatch_result();
+        iface.appendOutputBatch(args.batch);
+        return result;
+      }
+    }
+
+    public static class appendTableRows<I extends Iface> extends org.apache.thrift.ProcessFunction<I, appendTableRows_args> {
+      public appendTableRows() {
+        super("appendTableRows");
+      }
+
+      public appendTableRows_args getEmptyArgsInstance() {
+        return new appendTableRows_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public appendTableRows_result getResult(I iface, appendTableRows_args args) throws org.apache.thrift.TException {
+        appendTableRows_result result = new appendTableRows_result();
+        iface.appendTableRows(args.batch);
+        return result;
+      }
+    }
+
     public static class updateOutput<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateOutput_args> {
       public updateOutput() {
         super("updateOutput");
@@ -1168,6 +1883,46 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateJobStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateJobStatus_args> {
+      public updateJobStatus() {
+        super("updateJobStatus");
+      }
+
+      public updateJobStatus_args getEmptyArgsInstance() {
+        return new updateJobStatus_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public updateJobStatus_result getResult(I iface, updateJobStatus_args args) throws org.apache.thrift.TException {
+        updateJobStatus_result result = new updateJobStatus_result();
+        iface.updateJobStatus(args.event);
+        return result;
+      }
+    }
+
+    public static class completeInterpret<I extends Iface> extends org.apache.thrift.ProcessFunction<I, completeInterpret_args> {
+      public completeInterpret() {
+        super("completeInterpret");
+      }
+
+      public completeInterpret_args getEmptyArgsInstance() {
+        return new completeInterpret_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public completeInterpret_result getResult(I iface, completeInterpret_args args) throws org.apache.thrift.TException {
+        completeInterpret_result result = new completeInterpret_result();
+        iface.completeInterpret(args.event);
+        return result;
+      }
+    }
+
     public static class addAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addAngularObject_args> {
       public addAngularObject() {
         super("addAngularObject");
@@ -1248,33 +2003,113 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getAllResources<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getAllResources_args> {
-      public getAllResources() {
-        super("getAllResources");
+    public static class addResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addResource_args> {
+      public addResource() {
+        super("addResource");
       }
 
-      public getAllResources_args getEmptyArgsInstance() {
-        return new getAllResources_args();
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public getAllResources_result getResult(I iface, getAllResources_args args) throws org.apache.thrift.TException {
-        getAllResources_result result = new getAllResources_result();
-        result.success = iface.getAllResources(args.intpGroupId);
+      public addResource_result getResult(I iface, addResource_args args) throws org.apache.thrift.TException {
+        addResource_result result = new addResource_result();
+        iface.addResource(args.intpGroupId, args.resourceJson);
         return result;
       }
     }
 
-    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
-      public getResource() {
-        super("getResource");
+    public static class removeResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeResource_args> {
+      public removeResource() {
+        super("removeResource");
       }
 
-      public getResource_args getEmptyArgsInstance() {
-        return new getResource_args();
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public removeResource_result getResult(I iface, removeResource_args args) throws org.apache.thrift.TException {
+        removeResource_result result = new removeResource_result();
+        iface.removeResource(args.intpGroupId, args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class getResourcesByName<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResourcesByName_args> {
+      public getResourcesByName() {
+        super("getResourcesByName");
+      }
+
+      public getResourcesByName_args getEmptyArgsInstance() {
+        return new getResourcesByName_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getResourcesByName_result getResult(I iface, getResourcesByName_args args) throws org.apache.thrift.TException {
+        getResourcesByName_result result = new getResourcesByName_result();
+        result.success = iface.getResourcesByName(args.intpGroupId, args.name);
+        return result;
+      }
+    }
+
+    public static class getParagraphResources<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getParagraphResources_args> {
+      public getParagraphResources() {
+        super("getParagraphResources");
+      }
+
+      public getParagraphResources_args getEmptyArgsInstance() {
+        return new getParagraphResources_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getParagraphResources_result getResult(I iface, getParagraphResources_args args) throws org.apache.thrift.TException {
+        getParagraphResources_result result = new getParagraphResources_result();
+        result.success = iface.getParagraphResources(args.intpGroupId, args.noteId, args.paragraphId, args.name);
+        return result;
+      }
+    }
+
+    public static class getAllResources<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getAllResources_args> {
+      public getAllResources() {
+        super("getAllResources");
+      }
+
+      public getAllResources_args getEmptyArgsInstance() {
+        return new getAllResources_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getAllResources_result getResult(I iface, getAllResources_args args) throws org.apache.thrift.TException {
+        getAllResources_result result = new getAllResources_result();
+        result.success = iface.getAllResources(args.intpGroupId);
+        return result;
+      }
+    }
+
+    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
+      public getResource() {
+        super("getResource");
+      }
+
+      public getResource_args getEmptyArgsInstance() {
+        return new getResource_args();
       }
 
       protected boolean isOneway() {
@@ -1288,6 +2123,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class openResourceTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, openResourceTransfer_args> {
+      public openResourceTransfer() {
+        super("openResourceTransfer");
+      }
+
+      public openResourceTransfer_args getEmptyArgsInstance() {
+        return new openResourceTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public openResourceTransfer_result getResult(I iface, openResourceTransfer_args args) throws org.apache.thrift.TException {
+        openResourceTransfer_result result = new openResourceTransfer_result();
+        result.success = iface.openResourceTransfer(args.intpGroupId, args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class readResourceChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readResourceChunk_args> {
+      public readResourceChunk() {
+        super("readResourceChunk");
+      }
+
+      public readResourceChunk_args getEmptyArgsInstance() {
+        return new readResourceChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readResourceChunk_result getResult(I iface, readResourceChunk_args args) throws org.apache.thrift.TException {
+        readResourceChunk_result result = new readResourceChunk_result();
+        result.success = iface.readResourceChunk(args.transferJson, args.offset, args.length);
+        return result;
+      }
+    }
+
+    public static class closeResourceTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeResourceTransfer_args> {
+      public closeResourceTransfer() {
+        super("closeResourceTransfer");
+      }
+
+      public closeResourceTransfer_args getEmptyArgsInstance() {
+        return new closeResourceTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public closeResourceTransfer_result getResult(I iface, closeResourceTransfer_args args) throws org.apache.thrift.TException {
+        closeResourceTransfer_result result = new closeResourceTransfer_result();
+        iface.closeResourceTransfer(args.transferJson);
+        return result;
+      }
+    }
+
     public static class invokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invokeMethod_args> {
       public invokeMethod() {
         super("invokeMethod");
@@ -1323,18 +2218,29 @@ public class RemoteInterpreterEventService {
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
       processMap.put("appendOutput", new appendOutput());
+      processMap.put("appendOutputBatch", new appendOutputBatch());
+      processMap.put("appendTableRows", new appendTableRows());
       processMap.put("updateOutput", new updateOutput());
       processMap.put("updateAllOutput", new updateAllOutput());
       processMap.put("appendAppOutput", new appendAppOutput());
       processMap.put("updateAppOutput", new updateAppOutput());
       processMap.put("updateAppStatus", new updateAppStatus());
       processMap.put("runParagraphs", new runParagraphs());
+      processMap.put("updateJobStatus", new updateJobStatus());
+      processMap.put("completeInterpret", new completeInterpret());
       processMap.put("addAngularObject", new addAngularObject());
       processMap.put("updateAngularObject", new updateAngularObject());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
+      processMap.put("addResource", new addResource());
+      processMap.put("removeResource", new removeResource());
+      processMap.put("getResourcesByName", new getResourcesByName());
+      processMap.put("getParagraphResources", new getParagraphResources());
       processMap.put("getAllResources", new getAllResources());
       processMap.put("getResource", new getResource());
+      processMap.put("openResourceTransfer", new openResourceTransfer());
+      processMap.put("readResourceChunk", new readResourceChunk());
+      processMap.put("closeResourceTransfer", new closeResourceTransfer());
       processMap.put("invokeMethod", new invokeMethod());
       return processMap;
     }
@@ -1439,6 +2345,106 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class appendOutputBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, appendOutputBatch_args, Void> {
+      public appendOutputBatch() {
+        super("appendOutputBatch");
+      }
+
+      public appendOutputBatch_args getEmptyArgsInstance() {
+        return new appendOutputBatch_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            appendOutputBatch_result result = new appendOutputBatch_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            appendOutputBatch_result result = new appendOutputBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, appendOutputBatch_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.appendOutputBatch(args.batch,resultHandler);
+      }
+    }
+
+    public static class appendTableRows<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, appendTableRows_args, Void> {
+      public appendTableRows() {
+        super("appendTableRows");
+      }
+
+      public appendTableRows_args getEmptyArgsInstance() {
+        return new appendTableRows_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            appendTableRows_result result = new appendTableRows_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            appendTableRows_result result = new appendTableRows_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, appendTableRows_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.appendTableRows(args.batch,resultHandler);
+      }
+    }
+
     public static class updateOutput<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateOutput_args, Void> {
       public updateOutput() {
         super("updateOutput");
@@ -1739,20 +2745,20 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class addAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addAngularObject_args, Void> {
-      public addAngularObject() {
-        super("addAngularObject");
+    public static class updateJobStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateJobStatus_args, Void> {
+      public updateJobStatus() {
+        super("updateJobStatus");
       }
 
-      public addAngularObject_args getEmptyArgsInstance() {
-        return new addAngularObject_args();
+      public updateJobStatus_args getEmptyArgsInstance() {
+        return new updateJobStatus_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            addAngularObject_result result = new addAngularObject_result();
+            updateJobStatus_result result = new updateJobStatus_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1764,7 +2770,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            addAngularObject_result result = new addAngularObject_result();
+            updateJobStatus_result result = new updateJobStatus_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1784,25 +2790,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, addAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.addAngularObject(args.intpGroupId, args.json,resultHandler);
+      public void start(I iface, updateJobStatus_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.updateJobStatus(args.event,resultHandler);
       }
     }
 
-    public static class updateAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateAngularObject_args, Void> {
-      public updateAngularObject() {
-        super("updateAngularObject");
+    public static class completeInterpret<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completeInterpret_args, Void> {
+      public completeInterpret() {
+        super("completeInterpret");
       }
 
-      public updateAngularObject_args getEmptyArgsInstance() {
-        return new updateAngularObject_args();
+      public completeInterpret_args getEmptyArgsInstance() {
+        return new completeInterpret_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            updateAngularObject_result result = new updateAngularObject_result();
+            completeInterpret_result result = new completeInterpret_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1814,7 +2820,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            updateAngularObject_result result = new updateAngularObject_result();
+            completeInterpret_result result = new completeInterpret_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1834,25 +2840,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, updateAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.updateAngularObject(args.intpGroupId, args.json,resultHandler);
+      public void start(I iface, completeInterpret_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.completeInterpret(args.event,resultHandler);
       }
     }
 
-    public static class removeAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeAngularObject_args, Void> {
-      public removeAngularObject() {
-        super("removeAngularObject");
+    public static class addAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addAngularObject_args, Void> {
+      public addAngularObject() {
+        super("addAngularObject");
       }
 
-      public removeAngularObject_args getEmptyArgsInstance() {
-        return new removeAngularObject_args();
+      public addAngularObject_args getEmptyArgsInstance() {
+        return new addAngularObject_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            removeAngularObject_result result = new removeAngularObject_result();
+            addAngularObject_result result = new addAngularObject_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1864,7 +2870,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            removeAngularObject_result result = new removeAngularObject_result();
+            addAngularObject_result result = new addAngularObject_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1884,25 +2890,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, removeAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.removeAngularObject(args.intpGroupId, args.noteId, args.paragraphId, args.name,resultHandler);
+      public void start(I iface, addAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.addAngularObject(args.intpGroupId, args.json,resultHandler);
       }
     }
 
-    public static class sendParagraphInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sendParagraphInfo_args, Void> {
-      public sendParagraphInfo() {
-        super("sendParagraphInfo");
+    public static class updateAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateAngularObject_args, Void> {
+      public updateAngularObject() {
+        super("updateAngularObject");
       }
 
-      public sendParagraphInfo_args getEmptyArgsInstance() {
-        return new sendParagraphInfo_args();
+      public updateAngularObject_args getEmptyArgsInstance() {
+        return new updateAngularObject_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            sendParagraphInfo_result result = new sendParagraphInfo_result();
+            updateAngularObject_result result = new updateAngularObject_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1914,7 +2920,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            sendParagraphInfo_result result = new sendParagraphInfo_result();
+            updateAngularObject_result result = new updateAngularObject_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1934,26 +2940,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, sendParagraphInfo_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.sendParagraphInfo(args.intpGroupId, args.json,resultHandler);
+      public void start(I iface, updateAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.updateAngularObject(args.intpGroupId, args.json,resultHandler);
       }
     }
 
-    public static class getAllResources<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getAllResources_args, List<String>> {
-      public getAllResources() {
-        super("getAllResources");
+    public static class removeAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeAngularObject_args, Void> {
+      public removeAngularObject() {
+        super("removeAngularObject");
       }
 
-      public getAllResources_args getEmptyArgsInstance() {
-        return new getAllResources_args();
+      public removeAngularObject_args getEmptyArgsInstance() {
+        return new removeAngularObject_args();
       }
 
-      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<String>>() { 
-          public void onComplete(List<String> o) {
-            getAllResources_result result = new getAllResources_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeAngularObject_result result = new removeAngularObject_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1965,7 +2970,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getAllResources_result result = new getAllResources_result();
+            removeAngularObject_result result = new removeAngularObject_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1985,26 +2990,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getAllResources_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
-        iface.getAllResources(args.intpGroupId,resultHandler);
+      public void start(I iface, removeAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.removeAngularObject(args.intpGroupId, args.noteId, args.paragraphId, args.name,resultHandler);
       }
     }
 
-    public static class getResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResource_args, ByteBuffer> {
-      public getResource() {
-        super("getResource");
+    public static class sendParagraphInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sendParagraphInfo_args, Void> {
+      public sendParagraphInfo() {
+        super("sendParagraphInfo");
       }
 
-      public getResource_args getEmptyArgsInstance() {
-        return new getResource_args();
+      public sendParagraphInfo_args getEmptyArgsInstance() {
+        return new sendParagraphInfo_args();
       }
 
-      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ByteBuffer>() { 
-          public void onComplete(ByteBuffer o) {
-            getResource_result result = new getResource_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            sendParagraphInfo_result result = new sendParagraphInfo_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2016,7 +3020,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getResource_result result = new getResource_result();
+            sendParagraphInfo_result result = new sendParagraphInfo_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2036,26 +3040,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getResource_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
-        iface.getResource(args.resourceIdJson,resultHandler);
+      public void start(I iface, sendParagraphInfo_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.sendParagraphInfo(args.intpGroupId, args.json,resultHandler);
       }
     }
 
-    public static class invokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, invokeMethod_args, ByteBuffer> {
-      public invokeMethod() {
-        super("invokeMethod");
+    public static class addResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addResource_args, Void> {
+      public addResource() {
+        super("addResource");
       }
 
-      public invokeMethod_args getEmptyArgsInstance() {
-        return new invokeMethod_args();
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
       }
 
-      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ByteBuffer>() { 
-          public void onComplete(ByteBuffer o) {
-            invokeMethod_result result = new invokeMethod_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addResource_result result = new addResource_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2067,7 +3070,7 @@ public class RemoteInterpreterEventService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            invokeMethod_result result = new invokeMethod_result();
+            addResource_result result = new addResource_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2087,153 +3090,7462 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, invokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
-        iface.invokeMethod(args.intpGroupId, args.invokeMethodJson,resultHandler);
+      public void start(I iface, addResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.addResource(args.intpGroupId, args.resourceJson,resultHandler);
       }
     }
 
-  }
-
-  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
-
-    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-
-    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
-    static {
-      schemes.put(StandardScheme.class, new registerInterpreterProcess_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new registerInterpreterProcess_argsTupleSchemeFactory());
-    }
-
-    public RegisterInfo registerInfo; // required
-
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REGISTER_INFO((short)1, "registerInfo");
-
-      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
-
-      static {
-        for (_Fields field : EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
+    public static class removeResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeResource_args, Void> {
+      public removeResource() {
+        super("removeResource");
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 1: // REGISTER_INFO
-            return REGISTER_INFO;
-          default:
-            return null;
-        }
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeResource_result result = new removeResource_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            removeResource_result result = new removeResource_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      public static _Fields findByName(String name) {
-        return byName.get(name);
+      protected boolean isOneway() {
+        return false;
       }
 
-      private final short _thriftId;
-      private final String _fieldName;
-
-      _Fields(short thriftId, String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
+      public void start(I iface, removeResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.removeResource(args.intpGroupId, args.resourceIdJson,resultHandler);
       }
+    }
 
-      public short getThriftFieldId() {
-        return _thriftId;
+    public static class getResourcesByName<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResourcesByName_args, List<String>> {
+      public getResourcesByName() {
+        super("getResourcesByName");
       }
 
-      public String getFieldName() {
-        return _fieldName;
+      public getResourcesByName_args getEmptyArgsInstance() {
+        return new getResourcesByName_args();
       }
-    }
-
-    // isset id assignments
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REGISTER_INFO, new org.apache.thrift.meta_data.FieldMetaData("registerInfo", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RegisterInfo.class)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_args.class, metaDataMap);
-    }
 
-    public registerInterpreterProcess_args() {
-    }
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            getResourcesByName_result result = new getResourcesByName_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getResourcesByName_result result = new getResourcesByName_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
 
-    public registerInterpreterProcess_args(
-      RegisterInfo registerInfo)
-    {
-      this();
-      this.registerInfo = registerInfo;
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public registerInterpreterProcess_args(registerInterpreterProcess_args other) {
-      if (other.isSetRegisterInfo()) {
-        this.registerInfo = new RegisterInfo(other.registerInfo);
+      public void start(I iface, getResourcesByName_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.getResourcesByName(args.intpGroupId, args.name,resultHandler);
       }
     }
 
-    public registerInterpreterProcess_args deepCopy() {
-      return new registerInterpreterProcess_args(this);
-    }
+    public static class getParagraphResources<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphResources_args, List<String>> {
+      public getParagraphResources() {
+        super("getParagraphResources");
+      }
 
-    @Override
-    public void clear() {
-      this.registerInfo = null;
-    }
+      public getParagraphResources_args getEmptyArgsInstance() {
+        return new getParagraphResources_args();
+      }
 
-    public RegisterInfo getRegisterInfo() {
-      return this.registerInfo;
-    }
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            getParagraphResources_result result = new getParagraphResources_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getParagraphResources_result result = new getParagraphResources_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
 
-    public registerInterpreterProcess_args setRegisterInfo(RegisterInfo registerInfo) {
-      this.registerInfo = registerInfo;
-      return this;
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    public void unsetRegisterInfo() {
-      this.registerInfo = null;
+      public void start(I iface, getParagraphResources_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.getParagraphResources(args.intpGroupId, args.noteId, args.paragraphId, args.name,resultHandler);
+      }
     }
 
-    /** Returns true if field registerInfo is set (has been assigned a value) and false otherwise */
-    public boolean isSetRegisterInfo() {
-      return this.registerInfo != null;
-    }
+    public static class getAllResources<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getAllResources_args, List<String>> {
+      public getAllResources() {
+        super("getAllResources");
+      }
 
-    public void setRegisterInfoIsSet(boolean value) {
-      if (!value) {
-        this.registerInfo = null;
+      public getAllResources_args getEmptyArgsInstance() {
+        return new getAllResources_args();
       }
-    }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            getAllResources_result result = new getAllResources_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getAllResources_result result = new getAllResources_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getAllResources_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.getAllResources(args.intpGroupId,resultHandler);
+      }
+    }
+
+    public static class getResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResource_args, ByteBuffer> {
+      public getResource() {
+        super("getResource");
+      }
+
+      public getResource_args getEmptyArgsInstance() {
+        return new getResource_args();
+      }
+
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            getResource_result result = new getResource_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getResource_result result = new getResource_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getResource_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.getResource(args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class openResourceTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, openResourceTransfer_args, String> {
+      public openResourceTransfer() {
+        super("openResourceTransfer");
+      }
+
+      public openResourceTransfer_args getEmptyArgsInstance() {
+        return new openResourceTransfer_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            openResourceTransfer_result result = new openResourceTransfer_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            openResourceTransfer_result result = new openResourceTransfer_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, openResourceTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.openResourceTransfer(args.intpGroupId, args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class readResourceChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readResourceChunk_args, ByteBuffer> {
+      public readResourceChunk() {
+        super("readResourceChunk");
+      }
+
+      public readResourceChunk_args getEmptyArgsInstance() {
+        return new readResourceChunk_args();
+      }
+
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            readResourceChunk_result result = new readResourceChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readResourceChunk_result result = new readResourceChunk_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readResourceChunk_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.readResourceChunk(args.transferJson, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class closeResourceTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, closeResourceTransfer_args, Void> {
+      public closeResourceTransfer() {
+        super("closeResourceTransfer");
+      }
+
+      public closeResourceTransfer_args getEmptyArgsInstance() {
+        return new closeResourceTransfer_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            closeResourceTransfer_result result = new closeResourceTransfer_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            closeResourceTransfer_result result = new closeResourceTransfer_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, closeResourceTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.closeResourceTransfer(args.transferJson,resultHandler);
+      }
+    }
+
+    public static class invokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, invokeMethod_args, ByteBuffer> {
+      public invokeMethod() {
+        super("invokeMethod");
+      }
+
+      public invokeMethod_args getEmptyArgsInstance() {
+        return new invokeMethod_args();
+      }
+
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            invokeMethod_result result = new invokeMethod_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            invokeMethod_result result = new invokeMethod_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, invokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.invokeMethod(args.intpGroupId, args.invokeMethodJson,resultHandler);
+      }
+    }
+
+  }
+
+  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
+
+    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerInterpreterProcess_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerInterpreterProcess_argsTupleSchemeFactory());
+    }
+
+    public RegisterInfo registerInfo; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REGISTER_INFO((short)1, "registerInfo");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REGISTER_INFO
+            return REGISTER_INFO;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REGISTER_INFO, new org.apache.thrift.meta_data.FieldMetaData("registerInfo", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RegisterInfo.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_args.class, metaDataMap);
+    }
+
+    public registerInterpreterProcess_args() {
+    }
+
+    public registerInterpreterProcess_args(
+      RegisterInfo registerInfo)
+    {
+      this();
+      this.registerInfo = registerInfo;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerInterpreterProcess_args(registerInterpreterProcess_args other) {
+      if (other.isSetRegisterInfo()) {
+        this.registerInfo = new RegisterInfo(other.registerInfo);
+      }
+    }
+
+    public registerInterpreterProcess_args deepCopy() {
+      return new registerInterpreterProcess_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.registerInfo = null;
+    }
+
+    public RegisterInfo getRegisterInfo() {
+      return this.registerInfo;
+    }
+
+    public registerInterpreterProcess_args setRegisterInfo(RegisterInfo registerInfo) {
+      this.registerInfo = registerInfo;
+      return this;
+    }
+
+    public void unsetRegisterInfo() {
+      this.registerInfo = null;
+    }
+
+    /** Returns true if field registerInfo is set (has been assigned a value) and false otherwise */
+    public boolean isSetRegisterInfo() {
+      return this.registerInfo != null;
+    }
+
+    public void setRegisterInfoIsSet(boolean value) {
+      if (!value) {
+        this.registerInfo = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REGISTER_INFO:
+        if (value == null) {
+          unsetRegisterInfo();
+        } else {
+          setRegisterInfo((RegisterInfo)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REGISTER_INFO:
+        return getRegisterInfo();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REGISTER_INFO:
+        return isSetRegisterInfo();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerInterpreterProcess_args)
+        return this.equals((registerInterpreterProcess_args)that);
+      return false;
+    }
+
+    public boolean equals(registerInterpreterProcess_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_registerInfo = true && this.isSetRegisterInfo();
+      boolean that_present_registerInfo = true && that.isSetRegisterInfo();
+      if (this_present_registerInfo || that_present_registerInfo) {
+        if (!(this_present_registerInfo && that_present_registerInfo))
+          return false;
+        if (!this.registerInfo.equals(that.registerInfo))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_registerInfo = true && (isSetRegisterInfo());
+      list.add(present_registerInfo);
+      if (present_registerInfo)
+        list.add(registerInfo);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerInterpreterProcess_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRegisterInfo()).compareTo(other.isSetRegisterInfo());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRegisterInfo()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registerInfo, other.registerInfo);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerInterpreterProcess_args(");
+      boolean first = true;
+
+      sb.append("registerInfo:");
+      if (this.registerInfo == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.registerInfo);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (registerInfo != null) {
+        registerInfo.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerInterpreterProcess_argsStandardSchemeFactory implements SchemeFactory {
+      public registerInterpreterProcess_argsStandardScheme getScheme() {
+        return new registerInterpreterProcess_argsStandardScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_argsStandardScheme extends StandardScheme<registerInterpreterProcess_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REGISTER_INFO
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.registerInfo = new RegisterInfo();
+                struct.registerInfo.read(iprot);
+                struct.setRegisterInfoIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.registerInfo != null) {
+          oprot.writeFieldBegin(REGISTER_INFO_FIELD_DESC);
+          struct.registerInfo.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerInterpreterProcess_argsTupleSchemeFactory implements SchemeFactory {
+      public registerInterpreterProcess_argsTupleScheme getScheme() {
+        return new registerInterpreterProcess_argsTupleScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_argsTupleScheme extends TupleScheme<registerInterpreterProcess_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRegisterInfo()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRegisterInfo()) {
+          struct.registerInfo.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.registerInfo = new RegisterInfo();
+          struct.registerInfo.read(iprot);
+          struct.setRegisterInfoIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class registerInterpreterProcess_result implements org.apache.thrift.TBase<registerInterpreterProcess_result, registerInterpreterProcess_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerInterpreterProcess_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerInterpreterProcess_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_result.class, metaDataMap);
+    }
+
+    public registerInterpreterProcess_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerInterpreterProcess_result(registerInterpreterProcess_result other) {
+    }
+
+    public registerInterpreterProcess_result deepCopy() {
+      return new registerInterpreterProcess_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerInterpreterProcess_result)
+        return this.equals((registerInterpreterProcess_result)that);
+      return false;
+    }
+
+    public boolean equals(registerInterpreterProcess_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerInterpreterProcess_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerInterpreterProcess_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerInterpreterProcess_resultStandardSchemeFactory implements SchemeFactory {
+      public registerInterpreterProcess_resultStandardScheme getScheme() {
+        return new registerInterpreterProcess_resultStandardScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_resultStandardScheme extends StandardScheme<registerInterpreterProcess_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerInterpreterProcess_resultTupleSchemeFactory implements SchemeFactory {
+      public registerInterpreterProcess_resultTupleScheme getScheme() {
+        return new registerInterpreterProcess_resultTupleScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_resultTupleScheme extends TupleScheme<registerInterpreterProcess_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class appendOutput_args implements org.apache.thrift.TBase<appendOutput_args, appendOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendOutput_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendOutput_argsTupleSchemeFactory());
+    }
+
+    public OutputAppendEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_args.class, metaDataMap);
+    }
+
+    public appendOutput_args() {
+    }
+
+    public appendOutput_args(
+      OutputAppendEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutput_args(appendOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputAppendEvent(other.event);
+      }
+    }
+
+    public appendOutput_args deepCopy() {
+      return new appendOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public OutputAppendEvent getEvent() {
+      return this.event;
+    }
+
+    public appendOutput_args setEvent(OutputAppendEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputAppendEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutput_args)
+        return this.equals((appendOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(appendOutput_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutput_argsStandardSchemeFactory implements SchemeFactory {
+      public appendOutput_argsStandardScheme getScheme() {
+        return new appendOutput_argsStandardScheme();
+      }
+    }
+
+    private static class appendOutput_argsStandardScheme extends StandardScheme<appendOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputAppendEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutput_argsTupleSchemeFactory implements SchemeFactory {
+      public appendOutput_argsTupleScheme getScheme() {
+        return new appendOutput_argsTupleScheme();
+      }
+    }
+
+    private static class appendOutput_argsTupleScheme extends TupleScheme<appendOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputAppendEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendOutput_result implements org.apache.thrift.TBase<appendOutput_result, appendOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendOutput_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendOutput_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_result.class, metaDataMap);
+    }
+
+    public appendOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutput_result(appendOutput_result other) {
+    }
+
+    public appendOutput_result deepCopy() {
+      return new appendOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutput_result)
+        return this.equals((appendOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(appendOutput_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutput_resultStandardSchemeFactory implements SchemeFactory {
+      public appendOutput_resultStandardScheme getScheme() {
+        return new appendOutput_resultStandardScheme();
+      }
+    }
+
+    private static class appendOutput_resultStandardScheme extends StandardScheme<appendOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutput_resultTupleSchemeFactory implements SchemeFactory {
+      public appendOutput_resultTupleScheme getScheme() {
+        return new appendOutput_resultTupleScheme();
+      }
+    }
+
+    private static class appendOutput_resultTupleScheme extends TupleScheme<appendOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class appendOutputBatch_args implements org.apache.thrift.TBase<appendOutputBatch_args, appendOutputBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutputBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutputBatch_args");
+
+    private static final org.apache.thrift.protocol.TField BATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("batch", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendOutputBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendOutputBatch_argsTupleSchemeFactory());
+    }
+
+    public List<OutputAppendEvent> batch; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BATCH((short)1, "batch");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BATCH
+            return BATCH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BATCH, new org.apache.thrift.meta_data.FieldMetaData("batch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutputBatch_args.class, metaDataMap);
+    }
+
+    public appendOutputBatch_args() {
+    }
+
+    public appendOutputBatch_args(
+      List<OutputAppendEvent> batch)
+    {
+      this();
+      this.batch = batch;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutputBatch_args(appendOutputBatch_args other) {
+      if (other.isSetBatch()) {
+        List<OutputAppendEvent> __this__batch = new ArrayList<OutputAppendEvent>(other.batch.size());
+        for (OutputAppendEvent other_element : other.batch) {
+          __this__batch.add(new OutputAppendEvent(other_element));
+        }
+        this.batch = __this__batch;
+      }
+    }
+
+    public appendOutputBatch_args deepCopy() {
+      return new appendOutputBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.batch = null;
+    }
+
+    public int getBatchSize() {
+      return (this.batch == null) ? 0 : this.batch.size();
+    }
+
+    public java.util.Iterator<OutputAppendEvent> getBatchIterator() {
+      return (this.batch == null) ? null : this.batch.iterator();
+    }
+
+    public void addToBatch(OutputAppendEvent elem) {
+      if (this.batch == null) {
+        this.batch = new ArrayList<OutputAppendEvent>();
+      }
+      this.batch.add(elem);
+    }
+
+    public List<OutputAppendEvent> getBatch() {
+      return this.batch;
+    }
+
+    public appendOutputBatch_args setBatch(List<OutputAppendEvent> batch) {
+      this.batch = batch;
+      return this;
+    }
+
+    public void unsetBatch() {
+      this.batch = null;
+    }
+
+    /** Returns true if field batch is set (has been assigned a value) and false otherwise */
+    public boolean isSetBatch() {
+      return this.batch != null;
+    }
+
+    public void setBatchIsSet(boolean value) {
+      if (!value) {
+        this.batch = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BATCH:
+        if (value == null) {
+          unsetBatch();
+        } else {
+          setBatch((List<OutputAppendEvent>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BATCH:
+        return getBatch();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BATCH:
+        return isSetBatch();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutputBatch_args)
+        return this.equals((appendOutputBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(appendOutputBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_batch = true && this.isSetBatch();
+      boolean that_present_batch = true && that.isSetBatch();
+      if (this_present_batch || that_present_batch) {
+        if (!(this_present_batch && that_present_batch))
+          return false;
+        if (!this.batch.equals(that.batch))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_batch = true && (isSetBatch());
+      list.add(present_batch);
+      if (present_batch)
+        list.add(batch);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendOutputBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBatch()).compareTo(other.isSetBatch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.batch, other.batch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendOutputBatch_args(");
+      boolean first = true;
+
+      sb.append("batch:");
+      if (this.batch == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.batch);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutputBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public appendOutputBatch_argsStandardScheme getScheme() {
+        return new appendOutputBatch_argsStandardScheme();
+      }
+    }
+
+    private static class appendOutputBatch_argsStandardScheme extends StandardScheme<appendOutputBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.batch = new ArrayList<OutputAppendEvent>(_list24.size);
+                  OutputAppendEvent _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new OutputAppendEvent();
+                    _elem25.read(iprot);
+                    struct.batch.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBatchIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.batch != null) {
+          oprot.writeFieldBegin(BATCH_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.batch.size()));
+            for (OutputAppendEvent _iter27 : struct.batch)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutputBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public appendOutputBatch_argsTupleScheme getScheme() {
+        return new appendOutputBatch_argsTupleScheme();
+      }
+    }
+
+    private static class appendOutputBatch_argsTupleScheme extends TupleScheme<appendOutputBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBatch()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBatch()) {
+          {
+            oprot.writeI32(struct.batch.size());
+            for (OutputAppendEvent _iter28 : struct.batch)
+            {
+              _iter28.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.batch = new ArrayList<OutputAppendEvent>(_list29.size);
+            OutputAppendEvent _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new OutputAppendEvent();
+              _elem30.read(iprot);
+              struct.batch.add(_elem30);
+            }
+          }
+          struct.setBatchIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendOutputBatch_result implements org.apache.thrift.TBase<appendOutputBatch_result, appendOutputBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutputBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutputBatch_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendOutputBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendOutputBatch_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutputBatch_result.class, metaDataMap);
+    }
+
+    public appendOutputBatch_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutputBatch_result(appendOutputBatch_result other) {
+    }
+
+    public appendOutputBatch_result deepCopy() {
+      return new appendOutputBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutputBatch_result)
+        return this.equals((appendOutputBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(appendOutputBatch_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendOutputBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendOutputBatch_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutputBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public appendOutputBatch_resultStandardScheme getScheme() {
+        return new appendOutputBatch_resultStandardScheme();
+      }
+    }
+
+    private static class appendOutputBatch_resultStandardScheme extends StandardScheme<appendOutputBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutputBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public appendOutputBatch_resultTupleScheme getScheme() {
+        return new appendOutputBatch_resultTupleScheme();
+      }
+    }
+
+    private static class appendOutputBatch_resultTupleScheme extends TupleScheme<appendOutputBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class appendTableRows_args implements org.apache.thrift.TBase<appendTableRows_args, appendTableRows_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendTableRows_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendTableRows_args");
+
+    private static final org.apache.thrift.protocol.TField BATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("batch", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendTableRows_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendTableRows_argsTupleSchemeFactory());
+    }
+
+    public List<OutputAppendEvent> batch; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BATCH((short)1, "batch");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BATCH
+            return BATCH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BATCH, new org.apache.thrift.meta_data.FieldMetaData("batch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendTableRows_args.class, metaDataMap);
+    }
+
+    public appendTableRows_args() {
+    }
+
+    public appendTableRows_args(
+      List<OutputAppendEvent> batch)
+    {
+      this();
+      this.batch = batch;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendTableRows_args(appendTableRows_args other) {
+      if (other.isSetBatch()) {
+        List<OutputAppendEvent> __this__batch = new ArrayList<OutputAppendEvent>(other.batch.size());
+        for (OutputAppendEvent other_element : other.batch) {
+          __this__batch.add(new OutputAppendEvent(other_element));
+        }
+        this.batch = __this__batch;
+      }
+    }
+
+    public appendTableRows_args deepCopy() {
+      return new appendTableRows_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.batch = null;
+    }
+
+    public int getBatchSize() {
+      return (this.batch == null) ? 0 : this.batch.size();
+    }
+
+    public java.util.Iterator<OutputAppendEvent> getBatchIterator() {
+      return (this.batch == null) ? null : this.batch.iterator();
+    }
+
+    public void addToBatch(OutputAppendEvent elem) {
+      if (this.batch == null) {
+        this.batch = new ArrayList<OutputAppendEvent>();
+      }
+      this.batch.add(elem);
+    }
+
+    public List<OutputAppendEvent> getBatch() {
+      return this.batch;
+    }
+
+    public appendTableRows_args setBatch(List<OutputAppendEvent> batch) {
+      this.batch = batch;
+      return this;
+    }
+
+    public void unsetBatch() {
+      this.batch = null;
+    }
+
+    /** Returns true if field batch is set (has been assigned a value) and false otherwise */
+    public boolean isSetBatch() {
+      return this.batch != null;
+    }
+
+    public void setBatchIsSet(boolean value) {
+      if (!value) {
+        this.batch = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BATCH:
+        if (value == null) {
+          unsetBatch();
+        } else {
+          setBatch((List<OutputAppendEvent>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BATCH:
+        return getBatch();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BATCH:
+        return isSetBatch();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendTableRows_args)
+        return this.equals((appendTableRows_args)that);
+      return false;
+    }
+
+    public boolean equals(appendTableRows_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_batch = true && this.isSetBatch();
+      boolean that_present_batch = true && that.isSetBatch();
+      if (this_present_batch || that_present_batch) {
+        if (!(this_present_batch && that_present_batch))
+          return false;
+        if (!this.batch.equals(that.batch))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_batch = true && (isSetBatch());
+      list.add(present_batch);
+      if (present_batch)
+        list.add(batch);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendTableRows_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBatch()).compareTo(other.isSetBatch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.batch, other.batch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendTableRows_args(");
+      boolean first = true;
+
+      sb.append("batch:");
+      if (this.batch == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.batch);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendTableRows_argsStandardSchemeFactory implements SchemeFactory {
+      public appendTableRows_argsStandardScheme getScheme() {
+        return new appendTableRows_argsStandardScheme();
+      }
+    }
+
+    private static class appendTableRows_argsStandardScheme extends StandardScheme<appendTableRows_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendTableRows_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.batch = new ArrayList<OutputAppendEvent>(_list32.size);
+                  OutputAppendEvent _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = new OutputAppendEvent();
+                    _elem33.read(iprot);
+                    struct.batch.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBatchIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendTableRows_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.batch != null) {
+          oprot.writeFieldBegin(BATCH_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.batch.size()));
+            for (OutputAppendEvent _iter35 : struct.batch)
+            {
+              _iter35.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendTableRows_argsTupleSchemeFactory implements SchemeFactory {
+      public appendTableRows_argsTupleScheme getScheme() {
+        return new appendTableRows_argsTupleScheme();
+      }
+    }
+
+    private static class appendTableRows_argsTupleScheme extends TupleScheme<appendTableRows_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendTableRows_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBatch()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBatch()) {
+          {
+            oprot.writeI32(struct.batch.size());
+            for (OutputAppendEvent _iter36 : struct.batch)
+            {
+              _iter36.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendTableRows_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.batch = new ArrayList<OutputAppendEvent>(_list37.size);
+            OutputAppendEvent _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new OutputAppendEvent();
+              _elem38.read(iprot);
+              struct.batch.add(_elem38);
+            }
+          }
+          struct.setBatchIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendTableRows_result implements org.apache.thrift.TBase<appendTableRows_result, appendTableRows_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendTableRows_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendTableRows_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendTableRows_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendTableRows_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendTableRows_result.class, metaDataMap);
+    }
+
+    public appendTableRows_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendTableRows_result(appendTableRows_result other) {
+    }
+
+    public appendTableRows_result deepCopy() {
+      return new appendTableRows_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendTableRows_result)
+        return this.equals((appendTableRows_result)that);
+      return false;
+    }
+
+    public boolean equals(appendTableRows_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendTableRows_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendTableRows_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendTableRows_resultStandardSchemeFactory implements SchemeFactory {
+      public appendTableRows_resultStandardScheme getScheme() {
+        return new appendTableRows_resultStandardScheme();
+      }
+    }
+
+    private static class appendTableRows_resultStandardScheme extends StandardScheme<appendTableRows_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendTableRows_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendTableRows_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendTableRows_resultTupleSchemeFactory implements SchemeFactory {
+      public appendTableRows_resultTupleScheme getScheme() {
+        return new appendTableRows_resultTupleScheme();
+      }
+    }
+
+    private static class appendTableRows_resultTupleScheme extends TupleScheme<appendTableRows_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendTableRows_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendTableRows_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class updateOutput_args implements org.apache.thrift.TBase<updateOutput_args, updateOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateOutput_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateOutput_argsTupleSchemeFactory());
+    }
+
+    public OutputUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_args.class, metaDataMap);
+    }
+
+    public updateOutput_args() {
+    }
+
+    public updateOutput_args(
+      OutputUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateOutput_args(updateOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputUpdateEvent(other.event);
+      }
+    }
+
+    public updateOutput_args deepCopy() {
+      return new updateOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public OutputUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateOutput_args setEvent(OutputUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateOutput_args)
+        return this.equals((updateOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateOutput_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateOutput_argsStandardSchemeFactory implements SchemeFactory {
+      public updateOutput_argsStandardScheme getScheme() {
+        return new updateOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateOutput_argsStandardScheme extends StandardScheme<updateOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateOutput_argsTupleSchemeFactory implements SchemeFactory {
+      public updateOutput_argsTupleScheme getScheme() {
+        return new updateOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateOutput_argsTupleScheme extends TupleScheme<updateOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class updateOutput_result implements org.apache.thrift.TBase<updateOutput_result, updateOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateOutput_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateOutput_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_result.class, metaDataMap);
+    }
+
+    public updateOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateOutput_result(updateOutput_result other) {
+    }
+
+    public updateOutput_result deepCopy() {
+      return new updateOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateOutput_result)
+        return this.equals((updateOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateOutput_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateOutput_resultStandardSchemeFactory implements SchemeFactory {
+      public updateOutput_resultStandardScheme getScheme() {
+        return new updateOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateOutput_resultStandardScheme extends StandardScheme<updateOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateOutput_resultTupleSchemeFactory implements SchemeFactory {
+      public updateOutput_resultTupleScheme getScheme() {
+        return new updateOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateOutput_resultTupleScheme extends TupleScheme<updateOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class updateAllOutput_args implements org.apache.thrift.TBase<updateAllOutput_args, updateAllOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAllOutput_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAllOutput_argsTupleSchemeFactory());
+    }
+
+    public OutputUpdateAllEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateAllEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_args.class, metaDataMap);
+    }
+
+    public updateAllOutput_args() {
+    }
+
+    public updateAllOutput_args(
+      OutputUpdateAllEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAllOutput_args(updateAllOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputUpdateAllEvent(other.event);
+      }
+    }
+
+    public updateAllOutput_args deepCopy() {
+      return new updateAllOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public OutputUpdateAllEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAllOutput_args setEvent(OutputUpdateAllEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputUpdateAllEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAllOutput_args)
+        return this.equals((updateAllOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAllOutput_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAllOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAllOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAllOutput_argsStandardSchemeFactory implements SchemeFactory {
+      public updateAllOutput_argsStandardScheme getScheme() {
+        return new updateAllOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateAllOutput_argsStandardScheme extends StandardScheme<updateAllOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputUpdateAllEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAllOutput_argsTupleSchemeFactory implements SchemeFactory {
+      public updateAllOutput_argsTupleScheme getScheme() {
+        return new updateAllOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateAllOutput_argsTupleScheme extends TupleScheme<updateAllOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputUpdateAllEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class updateAllOutput_result implements org.apache.thrift.TBase<updateAllOutput_result, updateAllOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAllOutput_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAllOutput_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_result.class, metaDataMap);
+    }
+
+    public updateAllOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAllOutput_result(updateAllOutput_result other) {
+    }
+
+    public updateAllOutput_result deepCopy() {
+      return new updateAllOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAllOutput_result)
+        return this.equals((updateAllOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAllOutput_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAllOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAllOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAllOutput_resultStandardSchemeFactory implements SchemeFactory {
+      public updateAllOutput_resultStandardScheme getScheme() {
+        return new updateAllOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateAllOutput_resultStandardScheme extends StandardScheme<updateAllOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAllOutput_resultTupleSchemeFactory implements SchemeFactory {
+      public updateAllOutput_resultTupleScheme getScheme() {
+        return new updateAllOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateAllOutput_resultTupleScheme extends TupleScheme<updateAllOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class appendAppOutput_args implements org.apache.thrift.TBase<appendAppOutput_args, appendAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendAppOutput_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendAppOutput_argsTupleSchemeFactory());
+    }
+
+    public AppOutputAppendEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputAppendEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_args.class, metaDataMap);
+    }
+
+    public appendAppOutput_args() {
+    }
+
+    public appendAppOutput_args(
+      AppOutputAppendEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendAppOutput_args(appendAppOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppOutputAppendEvent(other.event);
+      }
+    }
+
+    public appendAppOutput_args deepCopy() {
+      return new appendAppOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public AppOutputAppendEvent getEvent() {
+      return this.event;
+    }
+
+    public appendAppOutput_args setEvent(AppOutputAppendEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppOutputAppendEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendAppOutput_args)
+        return this.equals((appendAppOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(appendAppOutput_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendAppOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendAppOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendAppOutput_argsStandardSchemeFactory implements SchemeFactory {
+      public appendAppOutput_argsStandardScheme getScheme() {
+        return new appendAppOutput_argsStandardScheme();
+      }
+    }
+
+    private static class appendAppOutput_argsStandardScheme extends StandardScheme<appendAppOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppOutputAppendEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendAppOutput_argsTupleSchemeFactory implements SchemeFactory {
+      public appendAppOutput_argsTupleScheme getScheme() {
+        return new appendAppOutput_argsTupleScheme();
+      }
+    }
+
+    private static class appendAppOutput_argsTupleScheme extends TupleScheme<appendAppOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppOutputAppendEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendAppOutput_result implements org.apache.thrift.TBase<appendAppOutput_result, appendAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendAppOutput_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendAppOutput_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_result.class, metaDataMap);
+    }
+
+    public appendAppOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendAppOutput_result(appendAppOutput_result other) {
+    }
+
+    public appendAppOutput_result deepCopy() {
+      return new appendAppOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendAppOutput_result)
+        return this.equals((appendAppOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(appendAppOutput_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendAppOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendAppOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendAppOutput_resultStandardSchemeFactory implements SchemeFactory {
+      public appendAppOutput_resultStandardScheme getScheme() {
+        return new appendAppOutput_resultStandardScheme();
+      }
+    }
+
+    private static class appendAppOutput_resultStandardScheme extends StandardScheme<appendAppOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendAppOutput_resultTupleSchemeFactory implements SchemeFactory {
+      public appendAppOutput_resultTupleScheme getScheme() {
+        return new appendAppOutput_resultTupleScheme();
+      }
+    }
+
+    private static class appendAppOutput_resultTupleScheme extends TupleScheme<appendAppOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class updateAppOutput_args implements org.apache.thrift.TBase<updateAppOutput_args, updateAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAppOutput_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAppOutput_argsTupleSchemeFactory());
+    }
+
+    public AppOutputUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputUpdateEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_args.class, metaDataMap);
+    }
+
+    public updateAppOutput_args() {
+    }
+
+    public updateAppOutput_args(
+      AppOutputUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppOutput_args(updateAppOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppOutputUpdateEvent(other.event);
+      }
+    }
+
+    public updateAppOutput_args deepCopy() {
+      return new updateAppOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public AppOutputUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAppOutput_args setEvent(AppOutputUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppOutputUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppOutput_args)
+        return this.equals((updateAppOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAppOutput_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAppOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAppOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppOutput_argsStandardSchemeFactory implements SchemeFactory {
+      public updateAppOutput_argsStandardScheme getScheme() {
+        return new updateAppOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateAppOutput_argsStandardScheme extends StandardScheme<updateAppOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppOutputUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppOutput_argsTupleSchemeFactory implements SchemeFactory {
+      public updateAppOutput_argsTupleScheme getScheme() {
+        return new updateAppOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateAppOutput_argsTupleScheme extends TupleScheme<updateAppOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppOutputUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class updateAppOutput_result implements org.apache.thrift.TBase<updateAppOutput_result, updateAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAppOutput_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAppOutput_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_result.class, metaDataMap);
+    }
+
+    public updateAppOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppOutput_result(updateAppOutput_result other) {
+    }
+
+    public updateAppOutput_result deepCopy() {
+      return new updateAppOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppOutput_result)
+        return this.equals((updateAppOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAppOutput_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAppOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAppOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppOutput_resultStandardSchemeFactory implements SchemeFactory {
+      public updateAppOutput_resultStandardScheme getScheme() {
+        return new updateAppOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateAppOutput_resultStandardScheme extends StandardScheme<updateAppOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppOutput_resultTupleSchemeFactory implements SchemeFactory {
+      public updateAppOutput_resultTupleScheme getScheme() {
+        return new updateAppOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateAppOutput_resultTupleScheme extends TupleScheme<updateAppOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class updateAppStatus_args implements org.apache.thrift.TBase<updateAppStatus_args, updateAppStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAppStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAppStatus_argsTupleSchemeFactory());
+    }
+
+    public AppStatusUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppStatusUpdateEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_args.class, metaDataMap);
+    }
+
+    public updateAppStatus_args() {
+    }
+
+    public updateAppStatus_args(
+      AppStatusUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppStatus_args(updateAppStatus_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppStatusUpdateEvent(other.event);
+      }
+    }
+
+    public updateAppStatus_args deepCopy() {
+      return new updateAppStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public AppStatusUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAppStatus_args setEvent(AppStatusUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppStatusUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppStatus_args)
+        return this.equals((updateAppStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAppStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAppStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAppStatus_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public updateAppStatus_argsStandardScheme getScheme() {
+        return new updateAppStatus_argsStandardScheme();
+      }
+    }
+
+    private static class updateAppStatus_argsStandardScheme extends StandardScheme<updateAppStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppStatusUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public updateAppStatus_argsTupleScheme getScheme() {
+        return new updateAppStatus_argsTupleScheme();
+      }
+    }
+
+    private static class updateAppStatus_argsTupleScheme extends TupleScheme<updateAppStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppStatusUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class updateAppStatus_result implements org.apache.thrift.TBase<updateAppStatus_result, updateAppStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateAppStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAppStatus_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_result.class, metaDataMap);
+    }
+
+    public updateAppStatus_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppStatus_result(updateAppStatus_result other) {
+    }
+
+    public updateAppStatus_result deepCopy() {
+      return new updateAppStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppStatus_result)
+        return this.equals((updateAppStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAppStatus_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateAppStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateAppStatus_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public updateAppStatus_resultStandardScheme getScheme() {
+        return new updateAppStatus_resultStandardScheme();
+      }
+    }
+
+    private static class updateAppStatus_resultStandardScheme extends StandardScheme<updateAppStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public updateAppStatus_resultTupleScheme getScheme() {
+        return new updateAppStatus_resultTupleScheme();
+      }
+    }
+
+    private static class updateAppStatus_resultTupleScheme extends TupleScheme<updateAppStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new runParagraphs_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new runParagraphs_argsTupleSchemeFactory());
+    }
+
+    public RunParagraphsEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
+    }
+
+    public runParagraphs_args() {
+    }
+
+    public runParagraphs_args(
+      RunParagraphsEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public runParagraphs_args(runParagraphs_args other) {
+      if (other.isSetEvent()) {
+        this.event = new RunParagraphsEvent(other.event);
+      }
+    }
+
+    public runParagraphs_args deepCopy() {
+      return new runParagraphs_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public RunParagraphsEvent getEvent() {
+      return this.event;
+    }
+
+    public runParagraphs_args setEvent(RunParagraphsEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((RunParagraphsEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof runParagraphs_args)
+        return this.equals((runParagraphs_args)that);
+      return false;
+    }
+
+    public boolean equals(runParagraphs_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(runParagraphs_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("runParagraphs_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class runParagraphs_argsStandardSchemeFactory implements SchemeFactory {
+      public runParagraphs_argsStandardScheme getScheme() {
+        return new runParagraphs_argsStandardScheme();
+      }
+    }
+
+    private static class runParagraphs_argsStandardScheme extends StandardScheme<runParagraphs_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new RunParagraphsEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class runParagraphs_argsTupleSchemeFactory implements SchemeFactory {
+      public runParagraphs_argsTupleScheme getScheme() {
+        return new runParagraphs_argsTupleScheme();
+      }
+    }
+
+    private static class runParagraphs_argsTupleScheme extends TupleScheme<runParagraphs_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new RunParagraphsEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new runParagraphs_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new runParagraphs_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
+    }
+
+    public runParagraphs_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public runParagraphs_result(runParagraphs_result other) {
+    }
+
+    public runParagraphs_result deepCopy() {
+      return new runParagraphs_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof runParagraphs_result)
+        return this.equals((runParagraphs_result)that);
+      return false;
+    }
+
+    public boolean equals(runParagraphs_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(runParagraphs_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("runParagraphs_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class runParagraphs_resultStandardSchemeFactory implements SchemeFactory {
+      public runParagraphs_resultStandardScheme getScheme() {
+        return new runParagraphs_resultStandardScheme();
+      }
+    }
+
+    private static class runParagraphs_resultStandardScheme extends StandardScheme<runParagraphs_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class runParagraphs_resultTupleSchemeFactory implements SchemeFactory {
+      public runParagraphs_resultTupleScheme getScheme() {
+        return new runParagraphs_resultTupleScheme();
+      }
+    }
+
+    private static class runParagraphs_resultTupleScheme extends TupleScheme<runParagraphs_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class updateJobStatus_args implements org.apache.thrift.TBase<updateJobStatus_args, updateJobStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateJobStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateJobStatus_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateJobStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateJobStatus_argsTupleSchemeFactory());
+    }
+
+    public JobStatusUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, JobStatusUpdateEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateJobStatus_args.class, metaDataMap);
+    }
+
+    public updateJobStatus_args() {
+    }
+
+    public updateJobStatus_args(
+      JobStatusUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateJobStatus_args(updateJobStatus_args other) {
+      if (other.isSetEvent()) {
+        this.event = new JobStatusUpdateEvent(other.event);
+      }
+    }
+
+    public updateJobStatus_args deepCopy() {
+      return new updateJobStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public JobStatusUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateJobStatus_args setEvent(JobStatusUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((JobStatusUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateJobStatus_args)
+        return this.equals((updateJobStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(updateJobStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateJobStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateJobStatus_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateJobStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public updateJobStatus_argsStandardScheme getScheme() {
+        return new updateJobStatus_argsStandardScheme();
+      }
+    }
+
+    private static class updateJobStatus_argsStandardScheme extends StandardScheme<updateJobStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateJobStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new JobStatusUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateJobStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateJobStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public updateJobStatus_argsTupleScheme getScheme() {
+        return new updateJobStatus_argsTupleScheme();
+      }
+    }
+
+    private static class updateJobStatus_argsTupleScheme extends TupleScheme<updateJobStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateJobStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateJobStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new JobStatusUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class updateJobStatus_result implements org.apache.thrift.TBase<updateJobStatus_result, updateJobStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateJobStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateJobStatus_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new updateJobStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateJobStatus_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateJobStatus_result.class, metaDataMap);
+    }
+
+    public updateJobStatus_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateJobStatus_result(updateJobStatus_result other) {
+    }
+
+    public updateJobStatus_result deepCopy() {
+      return new updateJobStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateJobStatus_result)
+        return this.equals((updateJobStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(updateJobStatus_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(updateJobStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("updateJobStatus_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateJobStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public updateJobStatus_resultStandardScheme getScheme() {
+        return new updateJobStatus_resultStandardScheme();
+      }
+    }
+
+    private static class updateJobStatus_resultStandardScheme extends StandardScheme<updateJobStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateJobStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateJobStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateJobStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public updateJobStatus_resultTupleScheme getScheme() {
+        return new updateJobStatus_resultTupleScheme();
+      }
+    }
+
+    private static class updateJobStatus_resultTupleScheme extends TupleScheme<updateJobStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateJobStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateJobStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class completeInterpret_args implements org.apache.thrift.TBase<completeInterpret_args, completeInterpret_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeInterpret_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeInterpret_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeInterpret_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeInterpret_argsTupleSchemeFactory());
+    }
+
+    public InterpretResultEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpretResultEvent.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeInterpret_args.class, metaDataMap);
+    }
+
+    public completeInterpret_args() {
+    }
+
+    public completeInterpret_args(
+      InterpretResultEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeInterpret_args(completeInterpret_args other) {
+      if (other.isSetEvent()) {
+        this.event = new InterpretResultEvent(other.event);
+      }
+    }
+
+    public completeInterpret_args deepCopy() {
+      return new completeInterpret_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    public InterpretResultEvent getEvent() {
+      return this.event;
+    }
+
+    public completeInterpret_args setEvent(InterpretResultEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case REGISTER_INFO:
+      case EVENT:
         if (value == null) {
-          unsetRegisterInfo();
+          unsetEvent();
         } else {
-          setRegisterInfo((RegisterInfo)value);
+          setEvent((InterpretResultEvent)value);
         }
         break;
 
@@ -2242,8 +10554,8 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case REGISTER_INFO:
-        return getRegisterInfo();
+      case EVENT:
+        return getEvent();
 
       }
       throw new IllegalStateException();
@@ -2256,8 +10568,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case REGISTER_INFO:
-        return isSetRegisterInfo();
+      case EVENT:
+        return isSetEvent();
       }
       throw new IllegalStateException();
     }
@@ -2266,21 +10578,21 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof registerInterpreterProcess_args)
-        return this.equals((registerInterpreterProcess_args)that);
+      if (that instanceof completeInterpret_args)
+        return this.equals((completeInterpret_args)that);
       return false;
     }
 
-    public boolean equals(registerInterpreterProcess_args that) {
+    public boolean equals(completeInterpret_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_registerInfo = true && this.isSetRegisterInfo();
-      boolean that_present_registerInfo = true && that.isSetRegisterInfo();
-      if (this_present_registerInfo || that_present_registerInfo) {
-        if (!(this_present_registerInfo && that_present_registerInfo))
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
           return false;
-        if (!this.registerInfo.equals(that.registerInfo))
+        if (!this.event.equals(that.event))
           return false;
       }
 
@@ -2291,28 +10603,28 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_registerInfo = true && (isSetRegisterInfo());
-      list.add(present_registerInfo);
-      if (present_registerInfo)
-        list.add(registerInfo);
+      boolean present_event = true && (isSetEvent());
+      list.add(present_event);
+      if (present_event)
+        list.add(event);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(registerInterpreterProcess_args other) {
+    public int compareTo(completeInterpret_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRegisterInfo()).compareTo(other.isSetRegisterInfo());
+      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRegisterInfo()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registerInfo, other.registerInfo);
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2334,14 +10646,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("registerInterpreterProcess_args(");
+      StringBuilder sb = new StringBuilder("completeInterpret_args(");
       boolean first = true;
 
-      sb.append("registerInfo:");
-      if (this.registerInfo == null) {
+      sb.append("event:");
+      if (this.event == null) {
         sb.append("null");
       } else {
-        sb.append(this.registerInfo);
+        sb.append(this.event);
       }
       first = false;
       sb.append(")");
@@ -2351,8 +10663,8 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (registerInfo != null) {
-        registerInfo.validate();
+      if (event != null) {
+        event.validate();
       }
     }
 
@@ -2372,15 +10684,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class registerInterpreterProcess_argsStandardSchemeFactory implements SchemeFactory {
-      public registerInterpreterProcess_argsStandardScheme getScheme() {
-        return new registerInterpreterProcess_argsStandardScheme();
+    private static class completeInterpret_argsStandardSchemeFactory implements SchemeFactory {
+      public completeInterpret_argsStandardScheme getScheme() {
+        return new completeInterpret_argsStandardScheme();
       }
     }
 
-    private static class registerInterpreterProcess_argsStandardScheme extends StandardScheme<registerInterpreterProcess_args> {
+    private static class completeInterpret_argsStandardScheme extends StandardScheme<completeInterpret_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeInterpret_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2390,11 +10702,11 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REGISTER_INFO
+            case 1: // EVENT
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.registerInfo = new RegisterInfo();
-                struct.registerInfo.read(iprot);
-                struct.setRegisterInfoIsSet(true);
+                struct.event = new InterpretResultEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2410,13 +10722,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeInterpret_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.registerInfo != null) {
-          oprot.writeFieldBegin(REGISTER_INFO_FIELD_DESC);
-          struct.registerInfo.write(oprot);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2425,49 +10737,49 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class registerInterpreterProcess_argsTupleSchemeFactory implements SchemeFactory {
-      public registerInterpreterProcess_argsTupleScheme getScheme() {
-        return new registerInterpreterProcess_argsTupleScheme();
+    private static class completeInterpret_argsTupleSchemeFactory implements SchemeFactory {
+      public completeInterpret_argsTupleScheme getScheme() {
+        return new completeInterpret_argsTupleScheme();
       }
     }
 
-    private static class registerInterpreterProcess_argsTupleScheme extends TupleScheme<registerInterpreterProcess_args> {
+    private static class completeInterpret_argsTupleScheme extends TupleScheme<completeInterpret_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeInterpret_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRegisterInfo()) {
+        if (struct.isSetEvent()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRegisterInfo()) {
-          struct.registerInfo.write(oprot);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeInterpret_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.registerInfo = new RegisterInfo();
-          struct.registerInfo.read(iprot);
-          struct.setRegisterInfoIsSet(true);
+          struct.event = new InterpretResultEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
         }
       }
     }
 
   }
 
-  public static class registerInterpreterProcess_result implements org.apache.thrift.TBase<registerInterpreterProcess_result, registerInterpreterProcess_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_result");
+  public static class completeInterpret_result implements org.apache.thrift.TBase<completeInterpret_result, completeInterpret_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeInterpret_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeInterpret_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new registerInterpreterProcess_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new registerInterpreterProcess_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeInterpret_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeInterpret_resultTupleSchemeFactory());
     }
 
 
@@ -2530,20 +10842,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeInterpret_result.class, metaDataMap);
     }
 
-    public registerInterpreterProcess_result() {
+    public completeInterpret_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public registerInterpreterProcess_result(registerInterpreterProcess_result other) {
+    public completeInterpret_result(completeInterpret_result other) {
     }
 
-    public registerInterpreterProcess_result deepCopy() {
-      return new registerInterpreterProcess_result(this);
+    public completeInterpret_result deepCopy() {
+      return new completeInterpret_result(this);
     }
 
     @Override
@@ -2576,12 +10888,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof registerInterpreterProcess_result)
-        return this.equals((registerInterpreterProcess_result)that);
+      if (that instanceof completeInterpret_result)
+        return this.equals((completeInterpret_result)that);
       return false;
     }
 
-    public boolean equals(registerInterpreterProcess_result that) {
+    public boolean equals(completeInterpret_result that) {
       if (that == null)
         return false;
 
@@ -2596,7 +10908,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(registerInterpreterProcess_result other) {
+    public int compareTo(completeInterpret_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2620,7 +10932,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("registerInterpreterProcess_result(");
+      StringBuilder sb = new StringBuilder("completeInterpret_result(");
       boolean first = true;
 
       sb.append(")");
@@ -2648,15 +10960,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class registerInterpreterProcess_resultStandardSchemeFactory implements SchemeFactory {
-      public registerInterpreterProcess_resultStandardScheme getScheme() {
-        return new registerInterpreterProcess_resultStandardScheme();
+    private static class completeInterpret_resultStandardSchemeFactory implements SchemeFactory {
+      public completeInterpret_resultStandardScheme getScheme() {
+        return new completeInterpret_resultStandardScheme();
       }
     }
 
-    private static class registerInterpreterProcess_resultStandardScheme extends StandardScheme<registerInterpreterProcess_result> {
+    private static class completeInterpret_resultStandardScheme extends StandardScheme<completeInterpret_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeInterpret_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2677,7 +10989,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeInterpret_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2687,43 +10999,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class registerInterpreterProcess_resultTupleSchemeFactory implements SchemeFactory {
-      public registerInterpreterProcess_resultTupleScheme getScheme() {
-        return new registerInterpreterProcess_resultTupleScheme();
+    private static class completeInterpret_resultTupleSchemeFactory implements SchemeFactory {
+      public completeInterpret_resultTupleScheme getScheme() {
+        return new completeInterpret_resultTupleScheme();
       }
     }
 
-    private static class registerInterpreterProcess_resultTupleScheme extends TupleScheme<registerInterpreterProcess_result> {
+    private static class completeInterpret_resultTupleScheme extends TupleScheme<completeInterpret_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeInterpret_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeInterpret_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class appendOutput_args implements org.apache.thrift.TBase<appendOutput_args, appendOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_args");
+  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new appendOutput_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new appendOutput_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new addAngularObject_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addAngularObject_argsTupleSchemeFactory());
     }
 
-    public OutputAppendEvent event; // required
+    public String intpGroupId; // required
+    public String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2738,8 +11053,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -2783,71 +11100,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
+    }
+
+    public addAngularObject_args() {
+    }
+
+    public addAngularObject_args(
+      String intpGroupId,
+      String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addAngularObject_args(addAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public addAngularObject_args deepCopy() {
+      return new addAngularObject_args(this);
     }
 
-    public appendOutput_args() {
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
     }
 
-    public appendOutput_args(
-      OutputAppendEvent event)
-    {
-      this();
-      this.event = event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public appendOutput_args(appendOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputAppendEvent(other.event);
-      }
+    public addAngularObject_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
     }
 
-    public appendOutput_args deepCopy() {
-      return new appendOutput_args(this);
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    @Override
-    public void clear() {
-      this.event = null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public OutputAppendEvent getEvent() {
-      return this.event;
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
     }
 
-    public appendOutput_args setEvent(OutputAppendEvent event) {
-      this.event = event;
+    public String getJson() {
+      return this.json;
+    }
+
+    public addAngularObject_args setJson(String json) {
+      this.json = json;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetJson() {
+      this.json = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setJsonIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputAppendEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((String)value);
         }
         break;
 
@@ -2856,8 +11213,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new IllegalStateException();
@@ -2870,8 +11230,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new IllegalStateException();
     }
@@ -2880,21 +11242,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendOutput_args)
-        return this.equals((appendOutput_args)that);
+      if (that instanceof addAngularObject_args)
+        return this.equals((addAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(appendOutput_args that) {
+    public boolean equals(addAngularObject_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -2905,28 +11276,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_json = true && (isSetJson());
+      list.add(present_json);
+      if (present_json)
+        list.add(json);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(appendOutput_args other) {
+    public int compareTo(addAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2948,14 +11334,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("appendOutput_args(");
+      StringBuilder sb = new StringBuilder("addAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -2965,9 +11359,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2986,15 +11377,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendOutput_argsStandardSchemeFactory implements SchemeFactory {
-      public appendOutput_argsStandardScheme getScheme() {
-        return new appendOutput_argsStandardScheme();
+    private static class addAngularObject_argsStandardSchemeFactory implements SchemeFactory {
+      public addAngularObject_argsStandardScheme getScheme() {
+        return new addAngularObject_argsStandardScheme();
       }
     }
 
-    private static class appendOutput_argsStandardScheme extends StandardScheme<appendOutput_args> {
+    private static class addAngularObject_argsStandardScheme extends StandardScheme<addAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3004,11 +11395,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputAppendEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3024,13 +11422,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3039,49 +11442,58 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendOutput_argsTupleSchemeFactory implements SchemeFactory {
-      public appendOutput_argsTupleScheme getScheme() {
-        return new appendOutput_argsTupleScheme();
+    private static class addAngularObject_argsTupleSchemeFactory implements SchemeFactory {
+      public addAngularObject_argsTupleScheme getScheme() {
+        return new addAngularObject_argsTupleScheme();
       }
     }
 
-    private static class appendOutput_argsTupleScheme extends TupleScheme<appendOutput_args> {
+    private static class addAngularObject_argsTupleScheme extends TupleScheme<addAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new OutputAppendEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class appendOutput_result implements org.apache.thrift.TBase<appendOutput_result, appendOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_result");
+  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new appendOutput_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new appendOutput_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new addAngularObject_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addAngularObject_resultTupleSchemeFactory());
     }
 
 
@@ -3144,20 +11556,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
     }
 
-    public appendOutput_result() {
+    public addAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendOutput_result(appendOutput_result other) {
+    public addAngularObject_result(addAngularObject_result other) {
     }
 
-    public appendOutput_result deepCopy() {
-      return new appendOutput_result(this);
+    public addAngularObject_result deepCopy() {
+      return new addAngularObject_result(this);
     }
 
     @Override
@@ -3190,12 +11602,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendOutput_result)
-        return this.equals((appendOutput_result)that);
+      if (that instanceof addAngularObject_result)
+        return this.equals((addAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(appendOutput_result that) {
+    public boolean equals(addAngularObject_result that) {
       if (that == null)
         return false;
 
@@ -3210,7 +11622,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(appendOutput_result other) {
+    public int compareTo(addAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3234,7 +11646,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("appendOutput_result(");
+      StringBuilder sb = new StringBuilder("addAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -3262,15 +11674,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendOutput_resultStandardSchemeFactory implements SchemeFactory {
-      public appendOutput_resultStandardScheme getScheme() {
-        return new appendOutput_resultStandardScheme();
+    private static class addAngularObject_resultStandardSchemeFactory implements SchemeFactory {
+      public addAngularObject_resultStandardScheme getScheme() {
+        return new addAngularObject_resultStandardScheme();
       }
     }
 
-    private static class appendOutput_resultStandardScheme extends StandardScheme<appendOutput_result> {
+    private static class addAngularObject_resultStandardScheme extends StandardScheme<addAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3291,7 +11703,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3301,43 +11713,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendOutput_resultTupleSchemeFactory implements SchemeFactory {
-      public appendOutput_resultTupleScheme getScheme() {
-        return new appendOutput_resultTupleScheme();
+    private static class addAngularObject_resultTupleSchemeFactory implements SchemeFactory {
+      public addAngularObject_resultTupleScheme getScheme() {
+        return new addAngularObject_resultTupleScheme();
       }
     }
 
-    private static class appendOutput_resultTupleScheme extends TupleScheme<appendOutput_result> {
+    private static class addAngularObject_resultTupleScheme extends TupleScheme<addAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class updateOutput_args implements org.apache.thrift.TBase<updateOutput_args, updateOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_args");
+  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateOutput_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateOutput_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new updateAngularObject_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAngularObject_argsTupleSchemeFactory());
     }
 
-    public OutputUpdateEvent event; // required
+    public String intpGroupId; // required
+    public String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3352,8 +11767,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -3397,71 +11814,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
     }
 
-    public updateOutput_args() {
+    public updateAngularObject_args() {
     }
 
-    public updateOutput_args(
-      OutputUpdateEvent event)
+    public updateAngularObject_args(
+      String intpGroupId,
+      String json)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateOutput_args(updateOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputUpdateEvent(other.event);
+    public updateAngularObject_args(updateAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public updateOutput_args deepCopy() {
-      return new updateOutput_args(this);
+    public updateAngularObject_args deepCopy() {
+      return new updateAngularObject_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.json = null;
     }
 
-    public OutputUpdateEvent getEvent() {
-      return this.event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateOutput_args setEvent(OutputUpdateEvent event) {
-      this.event = event;
+    public updateAngularObject_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    public String getJson() {
+      return this.json;
+    }
+
+    public updateAngularObject_args setJson(String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputUpdateEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((String)value);
         }
         break;
 
@@ -3470,8 +11927,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new IllegalStateException();
@@ -3484,8 +11944,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new IllegalStateException();
     }
@@ -3494,21 +11956,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateOutput_args)
-        return this.equals((updateOutput_args)that);
+      if (that instanceof updateAngularObject_args)
+        return this.equals((updateAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(updateOutput_args that) {
+    public boolean equals(updateAngularObject_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -3519,28 +11990,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_json = true && (isSetJson());
+      list.add(present_json);
+      if (present_json)
+        list.add(json);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateOutput_args other) {
+    public int compareTo(updateAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3562,14 +12048,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateOutput_args(");
+      StringBuilder sb = new StringBuilder("updateAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -3579,9 +12073,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3600,15 +12091,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateOutput_argsStandardSchemeFactory implements SchemeFactory {
-      public updateOutput_argsStandardScheme getScheme() {
-        return new updateOutput_argsStandardScheme();
+    private static class updateAngularObject_argsStandardSchemeFactory implements SchemeFactory {
+      public updateAngularObject_argsStandardScheme getScheme() {
+        return new updateAngularObject_argsStandardScheme();
       }
     }
 
-    private static class updateOutput_argsStandardScheme extends StandardScheme<updateOutput_args> {
+    private static class updateAngularObject_argsStandardScheme extends StandardScheme<updateAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3618,11 +12109,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3638,13 +12136,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3653,49 +12156,58 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateOutput_argsTupleSchemeFactory implements SchemeFactory {
-      public updateOutput_argsTupleScheme getScheme() {
-        return new updateOutput_argsTupleScheme();
+    private static class updateAngularObject_argsTupleSchemeFactory implements SchemeFactory {
+      public updateAngularObject_argsTupleScheme getScheme() {
+        return new updateAngularObject_argsTupleScheme();
       }
     }
 
-    private static class updateOutput_argsTupleScheme extends TupleScheme<updateOutput_args> {
+    private static class updateAngularObject_argsTupleScheme extends TupleScheme<updateAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new OutputUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class updateOutput_result implements org.apache.thrift.TBase<updateOutput_result, updateOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_result");
+  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateOutput_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateOutput_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new updateAngularObject_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new updateAngularObject_resultTupleSchemeFactory());
     }
 
 
@@ -3758,20 +12270,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
     }
 
-    public updateOutput_result() {
+    public updateAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateOutput_result(updateOutput_result other) {
+    public updateAngularObject_result(updateAngularObject_result other) {
     }
 
-    public updateOutput_result deepCopy() {
-      return new updateOutput_result(this);
+    public updateAngularObject_result deepCopy() {
+      return new updateAngularObject_result(this);
     }
 
     @Override
@@ -3804,12 +12316,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateOutput_result)
-        return this.equals((updateOutput_result)that);
+      if (that instanceof updateAngularObject_result)
+        return this.equals((updateAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(updateOutput_result that) {
+    public boolean equals(updateAngularObject_result that) {
       if (that == null)
         return false;
 
@@ -3824,7 +12336,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateOutput_result other) {
+    public int compareTo(updateAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3848,7 +12360,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateOutput_result(");
+      StringBuilder sb = new StringBuilder("updateAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -3876,15 +12388,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateOutput_resultStandardSchemeFactory implements SchemeFactory {
-      public updateOutput_resultStandardScheme getScheme() {
-        return new updateOutput_resultStandardScheme();
+    private static class updateAngularObject_resultStandardSchemeFactory implements SchemeFactory {
+      public updateAngularObject_resultStandardScheme getScheme() {
+        return new updateAngularObject_resultStandardScheme();
       }
     }
 
-    private static class updateOutput_resultStandardScheme extends StandardScheme<updateOutput_result> {
+    private static class updateAngularObject_resultStandardScheme extends StandardScheme<updateAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3905,7 +12417,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3915,167 +12427,302 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateOutput_resultTupleSchemeFactory implements SchemeFactory {
-      public updateOutput_resultTupleScheme getScheme() {
-        return new updateOutput_resultTupleScheme();
+    private static class updateAngularObject_resultTupleSchemeFactory implements SchemeFactory {
+      public updateAngularObject_resultTupleScheme getScheme() {
+        return new updateAngularObject_resultTupleScheme();
       }
     }
 
-    private static class updateOutput_resultTupleScheme extends TupleScheme<updateOutput_result> {
+    private static class updateAngularObject_resultTupleScheme extends TupleScheme<updateAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class updateAllOutput_args implements org.apache.thrift.TBase<updateAllOutput_args, updateAllOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_args");
+  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAllOutput_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAllOutput_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeAngularObject_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeAngularObject_argsTupleSchemeFactory());
     }
 
-    public OutputUpdateAllEvent event; // required
+    public String intpGroupId; // required
+    public String noteId; // required
+    public String paragraphId; // required
+    public String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      NOTE_ID((short)2, "noteId"),
+      PARAGRAPH_ID((short)3, "paragraphId"),
+      NAME((short)4, "name");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // NOTE_ID
+            return NOTE_ID;
+          case 3: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 4: // NAME
+            return NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
+    }
+
+    public removeAngularObject_args() {
+    }
+
+    public removeAngularObject_args(
+      String intpGroupId,
+      String noteId,
+      String paragraphId,
+      String name)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.name = name;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeAngularObject_args(removeAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+    }
+
+    public removeAngularObject_args deepCopy() {
+      return new removeAngularObject_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.noteId = null;
+      this.paragraphId = null;
+      this.name = null;
+    }
 
-      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    public String getIntpGroupId() {
+      return this.intpGroupId;
+    }
 
-      static {
-        for (_Fields field : EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
-      }
+    public removeAngularObject_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
-          default:
-            return null;
-        }
-      }
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
-      }
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      public static _Fields findByName(String name) {
-        return byName.get(name);
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
       }
+    }
 
-      private final short _thriftId;
-      private final String _fieldName;
+    public String getNoteId() {
+      return this.noteId;
+    }
 
-      _Fields(short thriftId, String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
-      }
+    public removeAngularObject_args setNoteId(String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
 
-      public short getThriftFieldId() {
-        return _thriftId;
-      }
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
 
-      public String getFieldName() {
-        return _fieldName;
-      }
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
     }
 
-    // isset id assignments
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateAllEvent.class)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_args.class, metaDataMap);
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
     }
 
-    public updateAllOutput_args() {
+    public String getParagraphId() {
+      return this.paragraphId;
     }
 
-    public updateAllOutput_args(
-      OutputUpdateAllEvent event)
-    {
-      this();
-      this.event = event;
+    public removeAngularObject_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public updateAllOutput_args(updateAllOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputUpdateAllEvent(other.event);
-      }
+    public void unsetParagraphId() {
+      this.paragraphId = null;
     }
 
-    public updateAllOutput_args deepCopy() {
-      return new updateAllOutput_args(this);
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
     }
 
-    @Override
-    public void clear() {
-      this.event = null;
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
     }
 
-    public OutputUpdateAllEvent getEvent() {
-      return this.event;
+    public String getName() {
+      return this.name;
     }
 
-    public updateAllOutput_args setEvent(OutputUpdateAllEvent event) {
-      this.event = event;
+    public removeAngularObject_args setName(String name) {
+      this.name = name;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetName() {
+      this.name = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setNameIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.name = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputUpdateAllEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((String)value);
         }
         break;
 
@@ -4084,8 +12731,17 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case NAME:
+        return getName();
 
       }
       throw new IllegalStateException();
@@ -4098,8 +12754,14 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case NAME:
+        return isSetName();
       }
       throw new IllegalStateException();
     }
@@ -4108,21 +12770,48 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAllOutput_args)
-        return this.equals((updateAllOutput_args)that);
+      if (that instanceof removeAngularObject_args)
+        return this.equals((removeAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(updateAllOutput_args that) {
+    public boolean equals(removeAngularObject_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -4133,28 +12822,73 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_noteId = true && (isSetNoteId());
+      list.add(present_noteId);
+      if (present_noteId)
+        list.add(noteId);
+
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_name = true && (isSetName());
+      list.add(present_name);
+      if (present_name)
+        list.add(name);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateAllOutput_args other) {
+    public int compareTo(removeAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4176,14 +12910,38 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAllOutput_args(");
+      StringBuilder sb = new StringBuilder("removeAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -4193,9 +12951,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4214,15 +12969,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAllOutput_argsStandardSchemeFactory implements SchemeFactory {
-      public updateAllOutput_argsStandardScheme getScheme() {
-        return new updateAllOutput_argsStandardScheme();
+    private static class removeAngularObject_argsStandardSchemeFactory implements SchemeFactory {
+      public removeAngularObject_argsStandardScheme getScheme() {
+        return new removeAngularObject_argsStandardScheme();
       }
     }
 
-    private static class updateAllOutput_argsStandardScheme extends StandardScheme<updateAllOutput_args> {
+    private static class removeAngularObject_argsStandardScheme extends StandardScheme<removeAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4232,11 +12987,34 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputUpdateAllEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4252,13 +13030,28 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4267,49 +13060,78 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAllOutput_argsTupleSchemeFactory implements SchemeFactory {
-      public updateAllOutput_argsTupleScheme getScheme() {
-        return new updateAllOutput_argsTupleScheme();
+    private static class removeAngularObject_argsTupleSchemeFactory implements SchemeFactory {
+      public removeAngularObject_argsTupleScheme getScheme() {
+        return new removeAngularObject_argsTupleScheme();
       }
     }
 
-    private static class updateAllOutput_argsTupleScheme extends TupleScheme<updateAllOutput_args> {
+    private static class removeAngularObject_argsTupleScheme extends TupleScheme<removeAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetNoteId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetName()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.event = new OutputUpdateAllEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
 
   }
 
-  public static class updateAllOutput_result implements org.apache.thrift.TBase<updateAllOutput_result, updateAllOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_result");
+  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAllOutput_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAllOutput_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeAngularObject_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeAngularObject_resultTupleSchemeFactory());
     }
 
 
@@ -4372,20 +13194,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
     }
 
-    public updateAllOutput_result() {
+    public removeAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAllOutput_result(updateAllOutput_result other) {
+    public removeAngularObject_result(removeAngularObject_result other) {
     }
 
-    public updateAllOutput_result deepCopy() {
-      return new updateAllOutput_result(this);
+    public removeAngularObject_result deepCopy() {
+      return new removeAngularObject_result(this);
     }
 
     @Override
@@ -4418,12 +13240,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAllOutput_result)
-        return this.equals((updateAllOutput_result)that);
+      if (that instanceof removeAngularObject_result)
+        return this.equals((removeAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(updateAllOutput_result that) {
+    public boolean equals(removeAngularObject_result that) {
       if (that == null)
         return false;
 
@@ -4438,7 +13260,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAllOutput_result other) {
+    public int compareTo(removeAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4462,7 +13284,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAllOutput_result(");
+      StringBuilder sb = new StringBuilder("removeAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -4490,15 +13312,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAllOutput_resultStandardSchemeFactory implements SchemeFactory {
-      public updateAllOutput_resultStandardScheme getScheme() {
-        return new updateAllOutput_resultStandardScheme();
+    private static class removeAngularObject_resultStandardSchemeFactory implements SchemeFactory {
+      public removeAngularObject_resultStandardScheme getScheme() {
+        return new removeAngularObject_resultStandardScheme();
       }
     }
 
-    private static class updateAllOutput_resultStandardScheme extends StandardScheme<updateAllOutput_result> {
+    private static class removeAngularObject_resultStandardScheme extends StandardScheme<removeAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4519,7 +13341,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4529,43 +13351,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAllOutput_resultTupleSchemeFactory implements SchemeFactory {
-      public updateAllOutput_resultTupleScheme getScheme() {
-        return new updateAllOutput_resultTupleScheme();
+    private static class removeAngularObject_resultTupleSchemeFactory implements SchemeFactory {
+      public removeAngularObject_resultTupleScheme getScheme() {
+        return new removeAngularObject_resultTupleScheme();
       }
     }
 
-    private static class updateAllOutput_resultTupleScheme extends TupleScheme<updateAllOutput_result> {
+    private static class removeAngularObject_resultTupleScheme extends TupleScheme<removeAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class appendAppOutput_args implements org.apache.thrift.TBase<appendAppOutput_args, appendAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_args");
+  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new appendAppOutput_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new appendAppOutput_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new sendParagraphInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendParagraphInfo_argsTupleSchemeFactory());
     }
 
-    public AppOutputAppendEvent event; // required
+    public String intpGroupId; // required
+    public String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4580,8 +13405,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -4625,71 +13452,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputAppendEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
     }
 
-    public appendAppOutput_args() {
+    public sendParagraphInfo_args() {
     }
 
-    public appendAppOutput_args(
-      AppOutputAppendEvent event)
+    public sendParagraphInfo_args(
+      String intpGroupId,
+      String json)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendAppOutput_args(appendAppOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppOutputAppendEvent(other.event);
+    public sendParagraphInfo_args(sendParagraphInfo_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public appendAppOutput_args deepCopy() {
-      return new appendAppOutput_args(this);
+    public sendParagraphInfo_args deepCopy() {
+      return new sendParagraphInfo_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.json = null;
     }
 
-    public AppOutputAppendEvent getEvent() {
-      return this.event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public appendAppOutput_args setEvent(AppOutputAppendEvent event) {
-      this.event = event;
+    public sendParagraphInfo_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    public String getJson() {
+      return this.json;
+    }
+
+    public sendParagraphInfo_args setJson(String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppOutputAppendEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((String)value);
         }
         break;
 
@@ -4698,8 +13565,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new IllegalStateException();
@@ -4712,8 +13582,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new IllegalStateException();
     }
@@ -4722,21 +13594,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendAppOutput_args)
-        return this.equals((appendAppOutput_args)that);
+      if (that instanceof sendParagraphInfo_args)
+        return this.equals((sendParagraphInfo_args)that);
       return false;
     }
 
-    public boolean equals(appendAppOutput_args that) {
+    public boolean equals(sendParagraphInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -4747,28 +13628,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_json = true && (isSetJson());
+      list.add(present_json);
+      if (present_json)
+        list.add(json);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(appendAppOutput_args other) {
+    public int compareTo(sendParagraphInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4790,14 +13686,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("appendAppOutput_args(");
+      StringBuilder sb = new StringBuilder("sendParagraphInfo_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -4807,9 +13711,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4828,15 +13729,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendAppOutput_argsStandardSchemeFactory implements SchemeFactory {
-      public appendAppOutput_argsStandardScheme getScheme() {
-        return new appendAppOutput_argsStandardScheme();
+    private static class sendParagraphInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public sendParagraphInfo_argsStandardScheme getScheme() {
+        return new sendParagraphInfo_argsStandardScheme();
       }
     }
 
-    private static class appendAppOutput_argsStandardScheme extends StandardScheme<appendAppOutput_args> {
+    private static class sendParagraphInfo_argsStandardScheme extends StandardScheme<sendParagraphInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4846,11 +13747,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppOutputAppendEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4866,13 +13774,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4881,49 +13794,58 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendAppOutput_argsTupleSchemeFactory implements SchemeFactory {
-      public appendAppOutput_argsTupleScheme getScheme() {
-        return new appendAppOutput_argsTupleScheme();
+    private static class sendParagraphInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public sendParagraphInfo_argsTupleScheme getScheme() {
+        return new sendParagraphInfo_argsTupleScheme();
       }
     }
 
-    private static class appendAppOutput_argsTupleScheme extends TupleScheme<appendAppOutput_args> {
+    private static class sendParagraphInfo_argsTupleScheme extends TupleScheme<sendParagraphInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new AppOutputAppendEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class appendAppOutput_result implements org.apache.thrift.TBase<appendAppOutput_result, appendAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_result");
+  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new appendAppOutput_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new appendAppOutput_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new sendParagraphInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendParagraphInfo_resultTupleSchemeFactory());
     }
 
 
@@ -4986,20 +13908,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
     }
 
-    public appendAppOutput_result() {
+    public sendParagraphInfo_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendAppOutput_result(appendAppOutput_result other) {
+    public sendParagraphInfo_result(sendParagraphInfo_result other) {
     }
 
-    public appendAppOutput_result deepCopy() {
-      return new appendAppOutput_result(this);
+    public sendParagraphInfo_result deepCopy() {
+      return new sendParagraphInfo_result(this);
     }
 
     @Override
@@ -5032,12 +13954,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendAppOutput_result)
-        return this.equals((appendAppOutput_result)that);
+      if (that instanceof sendParagraphInfo_result)
+        return this.equals((sendParagraphInfo_result)that);
       return false;
     }
 
-    public boolean equals(appendAppOutput_result that) {
+    public boolean equals(sendParagraphInfo_result that) {
       if (that == null)
         return false;
 
@@ -5052,7 +13974,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(appendAppOutput_result other) {
+    public int compareTo(sendParagraphInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5076,7 +13998,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("appendAppOutput_result(");
+      StringBuilder sb = new StringBuilder("sendParagraphInfo_result(");
       boolean first = true;
 
       sb.append(")");
@@ -5104,15 +14026,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendAppOutput_resultStandardSchemeFactory implements SchemeFactory {
-      public appendAppOutput_resultStandardScheme getScheme() {
-        return new appendAppOutput_resultStandardScheme();
+    private static class sendParagraphInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public sendParagraphInfo_resultStandardScheme getScheme() {
+        return new sendParagraphInfo_resultStandardScheme();
       }
     }
 
-    private static class appendAppOutput_resultStandardScheme extends StandardScheme<appendAppOutput_result> {
+    private static class sendParagraphInfo_resultStandardScheme extends StandardScheme<sendParagraphInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5133,7 +14055,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5143,43 +14065,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendAppOutput_resultTupleSchemeFactory implements SchemeFactory {
-      public appendAppOutput_resultTupleScheme getScheme() {
-        return new appendAppOutput_resultTupleScheme();
+    private static class sendParagraphInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public sendParagraphInfo_resultTupleScheme getScheme() {
+        return new sendParagraphInfo_resultTupleScheme();
       }
     }
 
-    private static class appendAppOutput_resultTupleScheme extends TupleScheme<appendAppOutput_result> {
+    private static class sendParagraphInfo_resultTupleScheme extends TupleScheme<sendParagraphInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class updateAppOutput_args implements org.apache.thrift.TBase<updateAppOutput_args, updateAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_args");
+  public static class addResource_args implements org.apache.thrift.TBase<addResource_args, addResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAppOutput_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAppOutput_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new addResource_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addResource_argsTupleSchemeFactory());
     }
 
-    public AppOutputUpdateEvent event; // required
+    public String intpGroupId; // required
+    public String resourceJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      RESOURCE_JSON((short)2, "resourceJson");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5194,8 +14119,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // RESOURCE_JSON
+            return RESOURCE_JSON;
           default:
             return null;
         }
@@ -5239,71 +14166,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_args.class, metaDataMap);
     }
 
-    public updateAppOutput_args() {
+    public addResource_args() {
     }
 
-    public updateAppOutput_args(
-      AppOutputUpdateEvent event)
+    public addResource_args(
+      String intpGroupId,
+      String resourceJson)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.resourceJson = resourceJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppOutput_args(updateAppOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppOutputUpdateEvent(other.event);
+    public addResource_args(addResource_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetResourceJson()) {
+        this.resourceJson = other.resourceJson;
       }
     }
 
-    public updateAppOutput_args deepCopy() {
-      return new updateAppOutput_args(this);
+    public addResource_args deepCopy() {
+      return new addResource_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.resourceJson = null;
     }
 
-    public AppOutputUpdateEvent getEvent() {
-      return this.event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateAppOutput_args setEvent(AppOutputUpdateEvent event) {
-      this.event = event;
+    public addResource_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    public String getResourceJson() {
+      return this.resourceJson;
+    }
+
+    public addResource_args setResourceJson(String resourceJson) {
+      this.resourceJson = resourceJson;
+      return this;
+    }
+
+    public void unsetResourceJson() {
+      this.resourceJson = null;
+    }
+
+    /** Returns true if field resourceJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceJson() {
+      return this.resourceJson != null;
+    }
+
+    public void setResourceJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppOutputUpdateEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case RESOURCE_JSON:
+        if (value == null) {
+          unsetResourceJson();
+        } else {
+          setResourceJson((String)value);
         }
         break;
 
@@ -5312,8 +14279,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case RESOURCE_JSON:
+        return getResourceJson();
 
       }
       throw new IllegalStateException();
@@ -5326,8 +14296,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case RESOURCE_JSON:
+        return isSetResourceJson();
       }
       throw new IllegalStateException();
     }
@@ -5336,21 +14308,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppOutput_args)
-        return this.equals((updateAppOutput_args)that);
+      if (that instanceof addResource_args)
+        return this.equals((addResource_args)that);
       return false;
     }
 
-    public boolean equals(updateAppOutput_args that) {
+    public boolean equals(addResource_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_resourceJson = true && this.isSetResourceJson();
+      boolean that_present_resourceJson = true && that.isSetResourceJson();
+      if (this_present_resourceJson || that_present_resourceJson) {
+        if (!(this_present_resourceJson && that_present_resourceJson))
+          return false;
+        if (!this.resourceJson.equals(that.resourceJson))
           return false;
       }
 
@@ -5361,28 +14342,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_resourceJson = true && (isSetResourceJson());
+      list.add(present_resourceJson);
+      if (present_resourceJson)
+        list.add(resourceJson);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateAppOutput_args other) {
+    public int compareTo(addResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceJson()).compareTo(other.isSetResourceJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceJson, other.resourceJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5404,14 +14400,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAppOutput_args(");
+      StringBuilder sb = new StringBuilder("addResource_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceJson:");
+      if (this.resourceJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceJson);
       }
       first = false;
       sb.append(")");
@@ -5421,9 +14425,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5442,15 +14443,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppOutput_argsStandardSchemeFactory implements SchemeFactory {
-      public updateAppOutput_argsStandardScheme getScheme() {
-        return new updateAppOutput_argsStandardScheme();
+    private static class addResource_argsStandardSchemeFactory implements SchemeFactory {
+      public addResource_argsStandardScheme getScheme() {
+        return new addResource_argsStandardScheme();
       }
     }
 
-    private static class updateAppOutput_argsStandardScheme extends StandardScheme<updateAppOutput_args> {
+    private static class addResource_argsStandardScheme extends StandardScheme<addResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5460,11 +14461,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppOutputUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RESOURCE_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceJson = iprot.readString();
+                struct.setResourceJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5480,13 +14488,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceJson != null) {
+          oprot.writeFieldBegin(RESOURCE_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5495,49 +14508,58 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppOutput_argsTupleSchemeFactory implements SchemeFactory {
-      public updateAppOutput_argsTupleScheme getScheme() {
-        return new updateAppOutput_argsTupleScheme();
+    private static class addResource_argsTupleSchemeFactory implements SchemeFactory {
+      public addResource_argsTupleScheme getScheme() {
+        return new addResource_argsTupleScheme();
       }
     }
 
-    private static class updateAppOutput_argsTupleScheme extends TupleScheme<updateAppOutput_args> {
+    private static class addResource_argsTupleScheme extends TupleScheme<addResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetResourceJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetResourceJson()) {
+          oprot.writeString(struct.resourceJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new AppOutputUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.resourceJson = iprot.readString();
+          struct.setResourceJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class updateAppOutput_result implements org.apache.thrift.TBase<updateAppOutput_result, updateAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_result");
+  public static class addResource_result implements org.apache.thrift.TBase<addResource_result, addResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAppOutput_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAppOutput_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new addResource_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addResource_resultTupleSchemeFactory());
     }
 
 
@@ -5600,20 +14622,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_result.class, metaDataMap);
     }
 
-    public updateAppOutput_result() {
+    public addResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppOutput_result(updateAppOutput_result other) {
+    public addResource_result(addResource_result other) {
     }
 
-    public updateAppOutput_result deepCopy() {
-      return new updateAppOutput_result(this);
+    public addResource_result deepCopy() {
+      return new addResource_result(this);
     }
 
     @Override
@@ -5646,12 +14668,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppOutput_result)
-        return this.equals((updateAppOutput_result)that);
+      if (that instanceof addResource_result)
+        return this.equals((addResource_result)that);
       return false;
     }
 
-    public boolean equals(updateAppOutput_result that) {
+    public boolean equals(addResource_result that) {
       if (that == null)
         return false;
 
@@ -5666,7 +14688,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAppOutput_result other) {
+    public int compareTo(addResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5690,7 +14712,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAppOutput_result(");
+      StringBuilder sb = new StringBuilder("addResource_result(");
       boolean first = true;
 
       sb.append(")");
@@ -5718,15 +14740,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppOutput_resultStandardSchemeFactory implements SchemeFactory {
-      public updateAppOutput_resultStandardScheme getScheme() {
-        return new updateAppOutput_resultStandardScheme();
+    private static class addResource_resultStandardSchemeFactory implements SchemeFactory {
+      public addResource_resultStandardScheme getScheme() {
+        return new addResource_resultStandardScheme();
       }
     }
 
-    private static class updateAppOutput_resultStandardScheme extends StandardScheme<updateAppOutput_result> {
+    private static class addResource_resultStandardScheme extends StandardScheme<addResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5747,7 +14769,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5757,43 +14779,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppOutput_resultTupleSchemeFactory implements SchemeFactory {
-      public updateAppOutput_resultTupleScheme getScheme() {
-        return new updateAppOutput_resultTupleScheme();
+    private static class addResource_resultTupleSchemeFactory implements SchemeFactory {
+      public addResource_resultTupleScheme getScheme() {
+        return new addResource_resultTupleScheme();
       }
     }
 
-    private static class updateAppOutput_resultTupleScheme extends TupleScheme<updateAppOutput_result> {
+    private static class addResource_resultTupleScheme extends TupleScheme<addResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class updateAppStatus_args implements org.apache.thrift.TBase<updateAppStatus_args, updateAppStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_args");
+  public static class removeResource_args implements org.apache.thrift.TBase<removeResource_args, removeResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAppStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAppStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeResource_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeResource_argsTupleSchemeFactory());
     }
 
-    public AppStatusUpdateEvent event; // required
+    public String intpGroupId; // required
+    public String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      RESOURCE_ID_JSON((short)2, "resourceIdJson");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5808,8 +14833,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -5853,71 +14880,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppStatusUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_args.class, metaDataMap);
     }
 
-    public updateAppStatus_args() {
+    public removeResource_args() {
     }
 
-    public updateAppStatus_args(
-      AppStatusUpdateEvent event)
+    public removeResource_args(
+      String intpGroupId,
+      String resourceIdJson)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppStatus_args(updateAppStatus_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppStatusUpdateEvent(other.event);
+    public removeResource_args(removeResource_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public updateAppStatus_args deepCopy() {
-      return new updateAppStatus_args(this);
+    public removeResource_args deepCopy() {
+      return new removeResource_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.resourceIdJson = null;
     }
 
-    public AppStatusUpdateEvent getEvent() {
-      return this.event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateAppStatus_args setEvent(AppStatusUpdateEvent event) {
-      this.event = event;
+    public removeResource_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    public String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public removeResource_args setResourceIdJson(String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
+      return this;
+    }
+
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
+    }
+
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
+    }
+
+    public void setResourceIdJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceIdJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppStatusUpdateEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case RESOURCE_ID_JSON:
+        if (value == null) {
+          unsetResourceIdJson();
+        } else {
+          setResourceIdJson((String)value);
         }
         break;
 
@@ -5926,8 +14993,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new IllegalStateException();
@@ -5940,8 +15010,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new IllegalStateException();
     }
@@ -5950,21 +15022,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppStatus_args)
-        return this.equals((updateAppStatus_args)that);
+      if (that instanceof removeResource_args)
+        return this.equals((removeResource_args)that);
       return false;
     }
 
-    public boolean equals(updateAppStatus_args that) {
+    public boolean equals(removeResource_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+          return false;
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -5975,28 +15056,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_resourceIdJson = true && (isSetResourceIdJson());
+      list.add(present_resourceIdJson);
+      if (present_resourceIdJson)
+        list.add(resourceIdJson);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateAppStatus_args other) {
+    public int compareTo(removeResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6018,14 +15114,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAppStatus_args(");
+      StringBuilder sb = new StringBuilder("removeResource_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -6035,9 +15139,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6056,15 +15157,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public updateAppStatus_argsStandardScheme getScheme() {
-        return new updateAppStatus_argsStandardScheme();
+    private static class removeResource_argsStandardSchemeFactory implements SchemeFactory {
+      public removeResource_argsStandardScheme getScheme() {
+        return new removeResource_argsStandardScheme();
       }
     }
 
-    private static class updateAppStatus_argsStandardScheme extends StandardScheme<updateAppStatus_args> {
+    private static class removeResource_argsStandardScheme extends StandardScheme<removeResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6074,11 +15175,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppStatusUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6094,13 +15202,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6109,49 +15222,58 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public updateAppStatus_argsTupleScheme getScheme() {
-        return new updateAppStatus_argsTupleScheme();
+    private static class removeResource_argsTupleSchemeFactory implements SchemeFactory {
+      public removeResource_argsTupleScheme getScheme() {
+        return new removeResource_argsTupleScheme();
       }
     }
 
-    private static class updateAppStatus_argsTupleScheme extends TupleScheme<updateAppStatus_args> {
+    private static class removeResource_argsTupleScheme extends TupleScheme<removeResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetResourceIdJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new AppStatusUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class updateAppStatus_result implements org.apache.thrift.TBase<updateAppStatus_result, updateAppStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_result");
+  public static class removeResource_result implements org.apache.thrift.TBase<removeResource_result, removeResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAppStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAppStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeResource_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeResource_resultTupleSchemeFactory());
     }
 
 
@@ -6214,20 +15336,20 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_result.class, metaDataMap);
     }
 
-    public updateAppStatus_result() {
+    public removeResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppStatus_result(updateAppStatus_result other) {
+    public removeResource_result(removeResource_result other) {
     }
 
-    public updateAppStatus_result deepCopy() {
-      return new updateAppStatus_result(this);
+    public removeResource_result deepCopy() {
+      return new removeResource_result(this);
     }
 
     @Override
@@ -6260,12 +15382,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppStatus_result)
-        return this.equals((updateAppStatus_result)that);
+      if (that instanceof removeResource_result)
+        return this.equals((removeResource_result)that);
       return false;
     }
 
-    public boolean equals(updateAppStatus_result that) {
+    public boolean equals(removeResource_result that) {
       if (that == null)
         return false;
 
@@ -6280,7 +15402,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAppStatus_result other) {
+    public int compareTo(removeResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6304,7 +15426,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAppStatus_result(");
+      StringBuilder sb = new StringBuilder("removeResource_result(");
       boolean first = true;
 
       sb.append(")");
@@ -6332,15 +15454,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public updateAppStatus_resultStandardScheme getScheme() {
-        return new updateAppStatus_resultStandardScheme();
+    private static class removeResource_resultStandardSchemeFactory implements SchemeFactory {
+      public removeResource_resultStandardScheme getScheme() {
+        return new removeResource_resultStandardScheme();
       }
     }
 
-    private static class updateAppStatus_resultStandardScheme extends StandardScheme<updateAppStatus_result> {
+    private static class removeResource_resultStandardScheme extends StandardScheme<removeResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6361,7 +15483,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6371,43 +15493,46 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public updateAppStatus_resultTupleScheme getScheme() {
-        return new updateAppStatus_resultTupleScheme();
+    private static class removeResource_resultTupleSchemeFactory implements SchemeFactory {
+      public removeResource_resultTupleScheme getScheme() {
+        return new removeResource_resultTupleScheme();
       }
     }
 
-    private static class updateAppStatus_resultTupleScheme extends TupleScheme<updateAppStatus_result> {
+    private static class removeResource_resultTupleScheme extends TupleScheme<removeResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
+  public static class getResourcesByName_args implements org.apache.thrift.TBase<getResourcesByName_args, getResourcesByName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResourcesByName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourcesByName_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new runParagraphs_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new runParagraphs_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getResourcesByName_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getResourcesByName_argsTupleSchemeFactory());
     }
 
-    public RunParagraphsEvent event; // required
+    public String intpGroupId; // required
+    public String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      NAME((short)2, "name");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6422,8 +15547,10 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // NAME
+            return NAME;
           default:
             return null;
         }
@@ -6467,71 +15594,111 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourcesByName_args.class, metaDataMap);
     }
 
-    public runParagraphs_args() {
+    public getResourcesByName_args() {
     }
 
-    public runParagraphs_args(
-      RunParagraphsEvent event)
+    public getResourcesByName_args(
+      String intpGroupId,
+      String name)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.name = name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_args(runParagraphs_args other) {
-      if (other.isSetEvent()) {
-        this.event = new RunParagraphsEvent(other.event);
+    public getResourcesByName_args(getResourcesByName_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetName()) {
+        this.name = other.name;
       }
     }
 
-    public runParagraphs_args deepCopy() {
-      return new runParagraphs_args(this);
+    public getResourcesByName_args deepCopy() {
+      return new getResourcesByName_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.name = null;
     }
 
-    public RunParagraphsEvent getEvent() {
-      return this.event;
+    public String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public runParagraphs_args setEvent(RunParagraphsEvent event) {
-      this.event = event;
+    public getResourcesByName_args setIntpGroupId(String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public getResourcesByName_args setName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((RunParagraphsEvent)value);
+          setIntpGroupId((String)value);
+        }
+        break;
+
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((String)value);
         }
         break;
 
@@ -6540,8 +15707,11 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case NAME:
+        return getName();
 
       }
       throw new IllegalStateException();
@@ -6554,8 +15724,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case NAME:
+        return isSetName();
       }
       throw new IllegalStateException();
     }
@@ -6564,21 +15736,30 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_args)
-        return this.equals((runParagraphs_args)that);
+      if (that instanceof getResourcesByName_args)
+        return this.equals((getResourcesByName_args)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_args that) {
+    public boolean equals(getResourcesByName_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -6589,28 +15770,43 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_event = true && (isSetEvent());
-      list.add(present_event);
-      if (present_event)
-        list.add(event);
+      boolean present_intpGroupId = true && (isSetIntpGroupId());
+      list.add(present_intpGroupId);
+      if (present_intpGroupId)
+        list.add(intpGroupId);
+
+      boolean present_name = true && (isSetName());
+      list.add(present_name);
+      if (present_name)
+        list.add(name);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(runParagraphs_args other) {
+    public int compareTo(getResourcesByName_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6632,14 +15828,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("runParagraphs_args(");
+      StringBuilder sb = new StringBuilder("getResourcesByName_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -6649,9 +15853,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6670,15 +15871,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class runParagraphs_argsStandardSchemeFactory implements SchemeFactory {
-      public runParagraphs_argsStandardScheme getScheme() {
-        return new runParagraphs_argsStandardScheme();
+    private static class getResourcesByName_argsStandardSchemeFactory implements SchemeFactory {
+      public getResourcesByName_argsStandardScheme getScheme() {
+        return new getResourcesByName_argsStandardScheme();
       }
     }
 
-    private static class runParagraphs_argsStandardScheme extends StandardScheme<runParagraphs_args> {
+    private static class getResourcesByName_argsStandardScheme extends StandardScheme<getResourcesByName_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6688,11 +15889,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new RunParagraphsEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6708,13 +15916,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6723,55 +15936,66 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class runParagraphs_argsTupleSchemeFactory implements SchemeFactory {
-      public runParagraphs_argsTupleScheme getScheme() {
-        return new runParagraphs_argsTupleScheme();
+    private static class getResourcesByName_argsTupleSchemeFactory implements SchemeFactory {
+      public getResourcesByName_argsTupleScheme getScheme() {
+        return new getResourcesByName_argsTupleScheme();
       }
     }
 
-    private static class runParagraphs_argsTupleScheme extends TupleScheme<runParagraphs_args> {
+    private static class getResourcesByName_argsTupleScheme extends TupleScheme<getResourcesByName_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetName()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new RunParagraphsEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
 
   }
 
-  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
+  public static class getResourcesByName_result implements org.apache.thrift.TBase<getResourcesByName_result, getResourcesByName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResourcesByName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourcesByName_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new runParagraphs_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new runParagraphs_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getResourcesByName_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getResourcesByName_resultTupleSchemeFactory());
     }
 
+    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6786,6 +16010,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -6824,37 +16050,104 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourcesByName_result.class, metaDataMap);
     }
 
-    public runParagraphs_result() {
+    public getResourcesByName_result() {
+    }
+
+    public getResourcesByName_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_result(runParagraphs_result other) {
+    public getResourcesByName_result(getResourcesByName_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public runParagraphs_result deepCopy() {
-      return new runParagraphs_result(this);
+    public getResourcesByName_result deepCopy() {
+      return new getResourcesByName_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public getResourcesByName_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -6866,6 +16159,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -6874,15 +16169,24 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_result)
-        return this.equals((runParagraphs_result)that);
+      if (that instanceof getResourcesByName_result)
+        return this.equals((getResourcesByName_result)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_result that) {
+    public boolean equals(getResourcesByName_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -6890,17 +16194,32 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(runParagraphs_result other) {
+    public int compareTo(getResourcesByName_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6918,9 +16237,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("runParagraphs_result(");
+      StringBuilder sb = new StringBuilder("getResourcesByName_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6946,15 +16272,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class runParagraphs_resultStandardSchemeFactory implements SchemeFactory {
-      public runParagraphs_resultStandardScheme getScheme() {
-        return new runParagraphs_resultStandardScheme();
+    private static class getResourcesByName_resultStandardSchemeFactory implements SchemeFactory {
+      public getResourcesByName_resultStandardScheme getScheme() {
+        return new getResourcesByName_resultStandardScheme();
       }
     }
 
-    private static class runParagraphs_resultStandardScheme extends StandardScheme<runParagraphs_result> {
+    private static class getResourcesByName_resultStandardScheme extends StandardScheme<getResourcesByName_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6964,6 +16290,24 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list40.size);
+                  String _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = iprot.readString();
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6975,56 +16319,102 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter43 : struct.success)
+            {
+              oprot.writeString(_iter43);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class runParagraphs_resultTupleSchemeFactory implements SchemeFactory {
-      public runParagraphs_resultTupleScheme getScheme() {
-        return new runParagraphs_resultTupleScheme();
+    private static class getResourcesByName_resultTupleSchemeFactory implements SchemeFactory {
+      public getResourcesByName_resultTupleScheme getScheme() {
+        return new getResourcesByName_resultTupleScheme();
       }
     }
 
-    private static class runParagraphs_resultTupleScheme extends TupleScheme<runParagraphs_result> {
+    private static class getResourcesByName_resultTupleScheme extends TupleScheme<getResourcesByName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter44 : struct.success)
+            {
+              oprot.writeString(_iter44);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list45.size);
+            String _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = iprot.readString();
+              struct.success.add(_elem46);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
+  public static class getParagraphResources_args implements org.apache.thrift.TBase<getParagraphResources_args, getParagraphResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphResources_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new addAngularObject_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addAngularObject_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getParagraphResources_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getParagraphResources_argsTupleSchemeFactory());
     }
 
     public String intpGroupId; // required
-    public String json; // required
+    public String noteId; // required
+    public String paragraphId; // required
+    public String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      NOTE_ID((short)2, "noteId"),
+      PARAGRAPH_ID((short)3, "paragraphId"),
+      NAME((short)4, "name");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7041,8 +16431,12 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 2: // NOTE_ID
+            return NOTE_ID;
+          case 3: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 4: // NAME
+            return NAME;
           default:
             return null;
         }
@@ -7088,51 +16482,67 @@ public class RemoteInterpreterEventService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphResources_args.class, metaDataMap);
     }
 
-    public addAngularObject_args() {
+    public getParagraphResources_args() {
     }
 
-    public addAngularObject_args(
+    public getParagraphResources_args(
       String intpGroupId,
-      String json)
+      String noteId,
+      String paragraphId,
+      String name)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.name = name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_args(addAngularObject_args other) {
+    public getParagraphResources_args(getParagraphResources_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetJson()) {
-        this.json = other.json;
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetName()) {
+        this.name = other.name;
       }
     }
 
-    public addAngularObject_args deepCopy() {
-      return new addAngularObject_args(this);
+    public getParagraphResources_args deepCopy() {
+      return new getParagraphResources_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.json = null;
+      this.noteId = null;
+      this.paragraphId = null;
+      this.name = null;
     }
 
     public String getIntpGroupId() {
       return this.intpGroupId;
     }
 
-    public addAngularObject_args setIntpGroupId(String intpGroupId) {
+    public getParagraphResources_args setIntpGroupId(String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -7152,27 +16562,75 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public String getJson() {
-      return this.json;
+    public String getNoteId() {
+      return this.noteId;
     }
 
-    public addAngularObject_args setJson(String json) {
-      this.json = json;
+    public getParagraphResources_args setNoteId(String noteId) {
+      this.noteId = noteId;
       return this;
     }
 
-    public void unsetJson() {
-      this.json = null;
+    public void unsetNoteId() {
+      this.noteId = null;
     }
 
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
     }
 
-    public void setJsonIsSet(boolean value) {
+    public void setNoteIdIsSet(boolean value) {
       if (!value) {
-        this.json = null;
+        this.noteId = null;
+      }
+    }
+
+    public String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public getParagraphResources_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public getParagraphResources_args setName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
       }
     }
 
@@ -7186,11 +16644,27 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case JSON:
+      case NOTE_ID:
         if (value == null) {
-          unsetJson();
+          unsetNoteId();
         } else {
-          setJson((String)value);
+          setNoteId((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((String)value);
         }
         break;
 
@@ -7202,8 +16676,14 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case JSON:
-        return getJson();
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case NAME:
+        return getName();
 
       }
       throw new IllegalStateException();
@@ -7218,8 +16698,12 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case NAME:
+        return isSetName();
       }
       throw new IllegalStateException();
     }
@@ -7228,12 +16712,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_args)
-        return this.equals((addAngularObject_args)that);
+      if (that instanceof getParagraphResources_args)
+        return this.equals((getParagraphResources_args)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_args that) {
+    public boolean equals(getParagraphResources_args that) {
       if (that == null)
         return false;
 
@@ -7246,12 +16730,30 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -7267,16 +16769,26 @@ public class RemoteInterpreterEventService {
       if (present_intpGroupId)
         list.add(intpGroupId);
 
-      boolean present_json = true && (isSetJson());
-      list.add(present_json);
-      if (present_json)
-        list.add(json);
+      boolean present_noteId = true && (isSetNoteId());
+      list.add(present_noteId);
+      if (present_noteId)
+        list.add(noteId);
+
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_name = true && (isSetName());
+      list.add(present_name);
+      if (present_name)
+        list.add(name);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(addAngularObject_args other) {
+    public int compareTo(getParagraphResources_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7293,12 +16805,32 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7320,7 +16852,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addAngularObject_args(");
+      StringBuilder sb = new StringBuilder("getParagraphResources_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -7331,11 +16863,27 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("noteId:");
+      if (this.noteId == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -7363,15 +16911,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_argsStandardSchemeFactory implements SchemeFactory {
-      public addAngularObject_argsStandardScheme getScheme() {
-        return new addAngularObject_argsStandardScheme();
+    private static class getParagraphResources_argsStandardSchemeFactory implements SchemeFactory {
+      public getParagraphResources_argsStandardScheme getScheme() {
+        return new getParagraphResources_argsStandardScheme();
       }
     }
 
-    private static class addAngularObject_argsStandardScheme extends StandardScheme<addAngularObject_args> {
+    private static class getParagraphResources_argsStandardScheme extends StandardScheme<getParagraphResources_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7383,16 +16931,32 @@ public class RemoteInterpreterEventService {
           switch (schemeField.id) {
             case 1: // INTP_GROUP_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JSON
+            case 4: // NAME
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7408,7 +16972,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphResources_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7417,9 +16981,19 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7428,64 +17002,86 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class addAngularObject_argsTupleSchemeFactory implements SchemeFactory {
-      public addAngularObject_argsTupleScheme getScheme() {
-        return new addAngularObject_argsTupleScheme();
+    private static class getParagraphResources_argsTupleSchemeFactory implements SchemeFactory {
+      public getParagraphResources_argsTupleScheme getScheme() {
+        return new getParagraphResources_argsTupleScheme();
       }
     }
 
-    private static class addAngularObject_argsTupleScheme extends TupleScheme<addAngularObject_args> {
+    private static class getParagraphResources_argsTupleScheme extends TupleScheme<getParagraphResources_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphResources_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
+        if (struct.isSetNoteId()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetName()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphResources_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.intpGroupId = iprot.readString();
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
 
   }
 
-  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
+  public static class getParagraphResources_result implements org.apache.thrift.TBase<getParagraphResources_result, getParagraphResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphResources_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new addAngularObject_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addAngularObject_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getParagraphResources_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getParagraphResources_resultTupleSchemeFactory());
     }
 
+    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7500,6 +17096,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -7538,37 +17136,104 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphResources_result.class, metaDataMap);
     }
 
-    public addAngularObject_result() {
+    public getParagraphResources_result() {
+    }
+
+    public getParagraphResources_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_result(addAngularObject_result other) {
+    public getParagraphResources_result(getParagraphResources_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public addAngularObject_result deepCopy() {
-      return new addAngularObject_result(this);
+    public getParagraphResources_result deepCopy() {
+      return new getParagraphResources_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public getParagraphResources_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -7580,6 +17245,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -7588,15 +17255,24 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_result)
-        return this.equals((addAngularObject_result)that);
+      if (that instanceof getParagraphResources_result)
+        return this.equals((getParagraphResources_result)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_result that) {
+    public boolean equals(getParagraphResources_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -7604,17 +17280,32 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(addAngularObject_result other) {
+    public int compareTo(getParagraphResources_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7632,9 +17323,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addAngularObject_result(");
+      StringBuilder sb = new StringBuilder("getParagraphResources_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7660,15 +17358,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_resultStandardSchemeFactory implements SchemeFactory {
-      public addAngularObject_resultStandardScheme getScheme() {
-        return new addAngularObject_resultStandardScheme();
+    private static class getParagraphResources_resultStandardSchemeFactory implements SchemeFactory {
+      public getParagraphResources_resultStandardScheme getScheme() {
+        return new getParagraphResources_resultStandardScheme();
       }
     }
 
-    private static class addAngularObject_resultStandardScheme extends StandardScheme<addAngularObject_result> {
+    private static class getParagraphResources_resultStandardScheme extends StandardScheme<getParagraphResources_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7678,6 +17376,24 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list48.size);
+                  String _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = iprot.readString();
+                    struct.success.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7689,56 +17405,93 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphResources_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter51 : struct.success)
+            {
+              oprot.writeString(_iter51);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class addAngularObject_resultTupleSchemeFactory implements SchemeFactory {
-      public addAngularObject_resultTupleScheme getScheme() {
-        return new addAngularObject_resultTupleScheme();
+    private static class getParagraphResources_resultTupleSchemeFactory implements SchemeFactory {
+      public getParagraphResources_resultTupleScheme getScheme() {
+        return new getParagraphResources_resultTupleScheme();
       }
     }
 
-    private static class addAngularObject_resultTupleScheme extends TupleScheme<addAngularObject_result> {
+    private static class getParagraphResources_resultTupleScheme extends TupleScheme<getParagraphResources_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphResources_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter52 : struct.success)
+            {
+              oprot.writeString(_iter52);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphResources_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list53.size);
+            String _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = iprot.readString();
+              struct.success.add(_elem54);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
+  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAngularObject_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAngularObject_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getAllResources_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getAllResources_argsTupleSchemeFactory());
     }
 
     public String intpGroupId; // required
-    public String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      INTP_GROUP_ID((short)1, "intpGroupId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7755,8 +17508,6 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
           default:
             return null;
         }
@@ -7802,51 +17553,43 @@ public class RemoteInterpreterEventService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
     }
 
-    public updateAngularObject_args() {
+    public getAllResources_args() {
     }
 
-    public updateAngularObject_args(
-      String intpGroupId,
-      String json)
+    public getAllResources_args(
+      String intpGroupId)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_args(updateAngularObject_args other) {
+    public getAllResources_args(getAllResources_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetJson()) {
-        this.json = other.json;
-      }
     }
 
-    public updateAngularObject_args deepCopy() {
-      return new updateAngularObject_args(this);
+    public getAllResources_args deepCopy() {
+      return new getAllResources_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.json = null;
     }
 
     public String getIntpGroupId() {
       return this.intpGroupId;
     }
 
-    public updateAngularObject_args setIntpGroupId(String intpGroupId) {
+    public getAllResources_args setIntpGroupId(String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -7866,30 +17609,6 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public String getJson() {
-      return this.json;
-    }
-
-    public updateAngularObject_args setJson(String json) {
-      this.json = json;
-      return this;
-    }
-
-    public void unsetJson() {
-      this.json = null;
-    }
-
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
-    }
-
-    public void setJsonIsSet(boolean value) {
-      if (!value) {
-        this.json = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case INTP_GROUP_ID:
@@ -7900,14 +17619,6 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case JSON:
-        if (value == null) {
-          unsetJson();
-        } else {
-          setJson((String)value);
-        }
-        break;
-
       }
     }
 
@@ -7916,9 +17627,6 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case JSON:
-        return getJson();
-
       }
       throw new IllegalStateException();
     }
@@ -7932,8 +17640,6 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
       }
       throw new IllegalStateException();
     }
@@ -7942,12 +17648,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_args)
-        return this.equals((updateAngularObject_args)that);
+      if (that instanceof getAllResources_args)
+        return this.equals((getAllResources_args)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_args that) {
+    public boolean equals(getAllResources_args that) {
       if (that == null)
         return false;
 
@@ -7960,15 +17666,6 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
-          return false;
-        if (!this.json.equals(that.json))
-          return false;
-      }
-
       return true;
     }
 
@@ -7981,16 +17678,11 @@ public class RemoteInterpreterEventService {
       if (present_intpGroupId)
         list.add(intpGroupId);
 
-      boolean present_json = true && (isSetJson());
-      list.add(present_json);
-      if (present_json)
-        list.add(json);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateAngularObject_args other) {
+    public int compareTo(getAllResources_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8007,16 +17699,6 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -8034,7 +17716,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAngularObject_args(");
+      StringBuilder sb = new StringBuilder("getAllResources_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -8044,14 +17726,6 @@ public class RemoteInterpreterEventService {
         sb.append(this.intpGroupId);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.json);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8077,15 +17751,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_argsStandardSchemeFactory implements SchemeFactory {
-      public updateAngularObject_argsStandardScheme getScheme() {
-        return new updateAngularObject_argsStandardScheme();
+    private static class getAllResources_argsStandardSchemeFactory implements SchemeFactory {
+      public getAllResources_argsStandardScheme getScheme() {
+        return new getAllResources_argsStandardScheme();
       }
     }
 
-    private static class updateAngularObject_argsStandardScheme extends StandardScheme<updateAngularObject_args> {
+    private static class getAllResources_argsStandardScheme extends StandardScheme<getAllResources_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8103,14 +17777,6 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JSON
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8122,7 +17788,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8131,75 +17797,62 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateAngularObject_argsTupleSchemeFactory implements SchemeFactory {
-      public updateAngularObject_argsTupleScheme getScheme() {
-        return new updateAngularObject_argsTupleScheme();
+    private static class getAllResources_argsTupleSchemeFactory implements SchemeFactory {
+      public getAllResources_argsTupleScheme getScheme() {
+        return new getAllResources_argsTupleScheme();
       }
     }
 
-    private static class updateAngularObject_argsTupleScheme extends TupleScheme<updateAngularObject_args> {
+    private static class getAllResources_argsTupleScheme extends TupleScheme<getAllResources_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.intpGroupId = iprot.readString();
           struct.setIntpGroupIdIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
+  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new updateAngularObject_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new updateAngularObject_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getAllResources_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getAllResources_resultTupleSchemeFactory());
     }
 
+    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8214,6 +17867,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -8252,37 +17907,104 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
     }
 
-    public updateAngularObject_result() {
+    public getAllResources_result() {
+    }
+
+    public getAllResources_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_result(updateAngularObject_result other) {
+    public getAllResources_result(getAllResources_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public updateAngularObject_result deepCopy() {
-      return new updateAngularObject_result(this);
+    public getAllResources_result deepCopy() {
+      return new getAllResources_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public getAllResources_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -8294,6 +18016,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -8302,15 +18026,24 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_result)
-        return this.equals((updateAngularObject_result)that);
+      if (that instanceof getAllResources_result)
+        return this.equals((getAllResources_result)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_result that) {
+    public boolean equals(getAllResources_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -8318,17 +18051,32 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(updateAngularObject_result other) {
+    public int compareTo(getAllResources_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8346,9 +18094,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("updateAngularObject_result(");
+      StringBuilder sb = new StringBuilder("getAllResources_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8374,15 +18129,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_resultStandardSchemeFactory implements SchemeFactory {
-      public updateAngularObject_resultStandardScheme getScheme() {
-        return new updateAngularObject_resultStandardScheme();
+    private static class getAllResources_resultStandardSchemeFactory implements SchemeFactory {
+      public getAllResources_resultStandardScheme getScheme() {
+        return new getAllResources_resultStandardScheme();
       }
     }
 
-    private static class updateAngularObject_resultStandardScheme extends StandardScheme<updateAngularObject_result> {
+    private static class getAllResources_resultStandardScheme extends StandardScheme<getAllResources_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8392,6 +18147,24 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list56.size);
+                  String _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = iprot.readString();
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8403,62 +18176,93 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter59 : struct.success)
+            {
+              oprot.writeString(_iter59);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateAngularObject_resultTupleSchemeFactory implements SchemeFactory {
-      public updateAngularObject_resultTupleScheme getScheme() {
-        return new updateAngularObject_resultTupleScheme();
+    private static class getAllResources_resultTupleSchemeFactory implements SchemeFactory {
+      public getAllResources_resultTupleScheme getScheme() {
+        return new getAllResources_resultTupleScheme();
       }
     }
 
-    private static class updateAngularObject_resultTupleScheme extends TupleScheme<updateAngularObject_result> {
+    private static class getAllResources_resultTupleScheme extends TupleScheme<getAllResources_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter60 : struct.success)
+            {
+              oprot.writeString(_iter60);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list61.size);
+            String _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = iprot.readString();
+              struct.success.add(_elem62);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
+  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new removeAngularObject_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new removeAngularObject_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getResource_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getResource_argsTupleSchemeFactory());
     }
 
-    public String intpGroupId; // required
-    public String noteId; // required
-    public String paragraphId; // required
-    public String name; // required
+    public String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      NOTE_ID((short)2, "noteId"),
-      PARAGRAPH_ID((short)3, "paragraphId"),
-      NAME((short)4, "name");
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8473,14 +18277,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // NOTE_ID
-            return NOTE_ID;
-          case 3: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 4: // NAME
-            return NAME;
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -8524,191 +18322,71 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
     }
 
-    public removeAngularObject_args() {
+    public getResource_args() {
     }
 
-    public removeAngularObject_args(
-      String intpGroupId,
-      String noteId,
-      String paragraphId,
-      String name)
+    public getResource_args(
+      String resourceIdJson)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.noteId = noteId;
-      this.paragraphId = paragraphId;
-      this.name = name;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_args(removeAngularObject_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
-      }
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
-      }
-      if (other.isSetName()) {
-        this.name = other.name;
-      }
-    }
-
-    public removeAngularObject_args deepCopy() {
-      return new removeAngularObject_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.intpGroupId = null;
-      this.noteId = null;
-      this.paragraphId = null;
-      this.name = null;
-    }
-
-    public String getIntpGroupId() {
-      return this.intpGroupId;
-    }
-
-    public removeAngularObject_args setIntpGroupId(String intpGroupId) {
-      this.intpGroupId = intpGroupId;
-      return this;
-    }
-
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
-    }
-
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
-    }
-
-    public void setIntpGroupIdIsSet(boolean value) {
-      if (!value) {
-        this.intpGroupId = null;
-      }
-    }
-
-    public String getNoteId() {
-      return this.noteId;
-    }
-
-    public removeAngularObject_args setNoteId(String noteId) {
-      this.noteId = noteId;
-      return this;
-    }
-
-    public void unsetNoteId() {
-      this.noteId = null;
-    }
-
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
-    }
-
-    public void setNoteIdIsSet(boolean value) {
-      if (!value) {
-        this.noteId = null;
+    public getResource_args(getResource_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public removeAngularObject_args setParagraphId(String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
-    }
-
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
+    public getResource_args deepCopy() {
+      return new getResource_args(this);
     }
 
-    public String getName() {
-      return this.name;
+    @Override
+    public void clear() {
+      this.resourceIdJson = null;
     }
 
-    public removeAngularObject_args setName(String name) {
-      this.name = name;
+    public String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public getResource_args setResourceIdJson(String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
       return this;
     }
 
-    public void unsetName() {
-      this.name = null;
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
     }
 
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
     }
 
-    public void setNameIsSet(boolean value) {
+    public void setResourceIdJsonIsSet(boolean value) {
       if (!value) {
-        this.name = null;
+        this.resourceIdJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
-        if (value == null) {
-          unsetIntpGroupId();
-        } else {
-          setIntpGroupId((String)value);
-        }
-        break;
-
-      case NOTE_ID:
-        if (value == null) {
-          unsetNoteId();
-        } else {
-          setNoteId((String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
-        if (value == null) {
-          unsetParagraphId();
-        } else {
-          setParagraphId((String)value);
-        }
-        break;
-
-      case NAME:
+      case RESOURCE_ID_JSON:
         if (value == null) {
-          unsetName();
+          unsetResourceIdJson();
         } else {
-          setName((String)value);
+          setResourceIdJson((String)value);
         }
         break;
 
@@ -8717,17 +18395,8 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
-
-      case NOTE_ID:
-        return getNoteId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
-
-      case NAME:
-        return getName();
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new IllegalStateException();
@@ -8740,14 +18409,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case NOTE_ID:
-        return isSetNoteId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case NAME:
-        return isSetName();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new IllegalStateException();
     }
@@ -8756,48 +18419,21 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_args)
-        return this.equals((removeAngularObject_args)that);
+      if (that instanceof getResource_args)
+        return this.equals((getResource_args)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_args that) {
+    public boolean equals(getResource_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
-          return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
-          return false;
-      }
-
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
-          return false;
-        if (!this.noteId.equals(that.noteId))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
-          return false;
-        if (!this.paragraphId.equals(that.paragraphId))
-          return false;
-      }
-
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
           return false;
-        if (!this.name.equals(that.name))
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -8808,73 +18444,28 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_intpGroupId = true && (isSetIntpGroupId());
-      list.add(present_intpGroupId);
-      if (present_intpGroupId)
-        list.add(intpGroupId);
-
-      boolean present_noteId = true && (isSetNoteId());
-      list.add(present_noteId);
-      if (present_noteId)
-        list.add(noteId);
-
-      boolean present_paragraphId = true && (isSetParagraphId());
-      list.add(present_paragraphId);
-      if (present_paragraphId)
-        list.add(paragraphId);
-
-      boolean present_name = true && (isSetName());
-      list.add(present_name);
-      if (present_name)
-        list.add(name);
+      boolean present_resourceIdJson = true && (isSetResourceIdJson());
+      list.add(present_resourceIdJson);
+      if (present_resourceIdJson)
+        list.add(resourceIdJson);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(removeAngularObject_args other) {
+    public int compareTo(getResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      lastComparison = Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8896,38 +18487,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("removeAngularObject_args(");
+      StringBuilder sb = new StringBuilder("getResource_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.intpGroupId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("noteId:");
-      if (this.noteId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.noteId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("name:");
-      if (this.name == null) {
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.name);
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -8955,15 +18522,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_argsStandardSchemeFactory implements SchemeFactory {
-      public removeAngularObject_argsStandardScheme getScheme() {
-        return new removeAngularObject_argsStandardScheme();
+    private static class getResource_argsStandardSchemeFactory implements SchemeFactory {
+      public getResource_argsStandardScheme getScheme() {
+        return new getResource_argsStandardScheme();
       }
     }
 
-    private static class removeAngularObject_argsStandardScheme extends StandardScheme<removeAngularObject_args> {
+    private static class getResource_argsStandardScheme extends StandardScheme<getResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8973,34 +18540,10 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // NAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
+            case 1: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9016,28 +18559,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9046,84 +18574,56 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class removeAngularObject_argsTupleSchemeFactory implements SchemeFactory {
-      public removeAngularObject_argsTupleScheme getScheme() {
-        return new removeAngularObject_argsTupleScheme();
+    private static class getResource_argsTupleSchemeFactory implements SchemeFactory {
+      public getResource_argsTupleScheme getScheme() {
+        return new getResource_argsTupleScheme();
       }
     }
 
-    private static class removeAngularObject_argsTupleScheme extends TupleScheme<removeAngularObject_args> {
+    private static class getResource_argsTupleScheme extends TupleScheme<getResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetResourceIdJson()) {
           optionals.set(0);
         }
-        if (struct.isSetNoteId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetParagraphId()) {
-          optionals.set(2);
-        }
-        if (struct.isSetName()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
-        }
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
+  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new removeAngularObject_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new removeAngularObject_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getResource_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getResource_resultTupleSchemeFactory());
     }
 
+    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9138,6 +18638,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -9176,37 +18678,97 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
     }
 
-    public removeAngularObject_result() {
+    public getResource_result() {
+    }
+
+    public getResource_result(
+      ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_result(removeAngularObject_result other) {
+    public getResource_result(getResource_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public removeAngularObject_result deepCopy() {
-      return new removeAngularObject_result(this);
+    public getResource_result deepCopy() {
+      return new getResource_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public getResource_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
+    }
+
+    public getResource_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ByteBuffer)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -9218,6 +18780,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -9226,15 +18790,24 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_result)
-        return this.equals((removeAngularObject_result)that);
+      if (that instanceof getResource_result)
+        return this.equals((getResource_result)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_result that) {
+    public boolean equals(getResource_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -9242,17 +18815,32 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(removeAngularObject_result other) {
+    public int compareTo(getResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9270,9 +18858,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("removeAngularObject_result(");
+      StringBuilder sb = new StringBuilder("getResource_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9298,15 +18893,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_resultStandardSchemeFactory implements SchemeFactory {
-      public removeAngularObject_resultStandardScheme getScheme() {
-        return new removeAngularObject_resultStandardScheme();
+    private static class getResource_resultStandardSchemeFactory implements SchemeFactory {
+      public getResource_resultStandardScheme getScheme() {
+        return new getResource_resultStandardScheme();
       }
     }
 
-    private static class removeAngularObject_resultStandardScheme extends StandardScheme<removeAngularObject_result> {
+    private static class getResource_resultStandardScheme extends StandardScheme<getResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9316,6 +18911,14 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9327,56 +18930,74 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class removeAngularObject_resultTupleSchemeFactory implements SchemeFactory {
-      public removeAngularObject_resultTupleScheme getScheme() {
-        return new removeAngularObject_resultTupleScheme();
+    private static class getResource_resultTupleSchemeFactory implements SchemeFactory {
+      public getResource_resultTupleScheme getScheme() {
+        return new getResource_resultTupleScheme();
       }
     }
 
-    private static class removeAngularObject_resultTupleScheme extends TupleScheme<removeAngularObject_result> {
+    private static class getResource_resultTupleScheme extends TupleScheme<getResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
+  public static class openResourceTransfer_args implements org.apache.thrift.TBase<openResourceTransfer_args, openResourceTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<openResourceTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openResourceTransfer_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendParagraphInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendParagraphInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new openResourceTransfer_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openResourceTransfer_argsTupleSchemeFactory());
     }
 
     public String intpGroupId; // required
-    public String json; // required
+    public String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      RESOURCE_ID_JSON((short)2, "resourceIdJson");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9393,8 +19014,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 2: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -9440,51 +19061,51 @@ public class RemoteInterpreterEventService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openResourceTransfer_args.class, metaDataMap);
     }
 
-    public sendParagraphInfo_args() {
+    public openResourceTransfer_args() {
     }
 
-    public sendParagraphInfo_args(
+    public openResourceTransfer_args(
       String intpGroupId,
-      String json)
+      String resourceIdJson)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_args(sendParagraphInfo_args other) {
+    public openResourceTransfer_args(openResourceTransfer_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetJson()) {
-        this.json = other.json;
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public sendParagraphInfo_args deepCopy() {
-      return new sendParagraphInfo_args(this);
+    public openResourceTransfer_args deepCopy() {
+      return new openResourceTransfer_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.json = null;
+      this.resourceIdJson = null;
     }
 
     public String getIntpGroupId() {
       return this.intpGroupId;
     }
 
-    public sendParagraphInfo_args setIntpGroupId(String intpGroupId) {
+    public openResourceTransfer_args setIntpGroupId(String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -9504,27 +19125,27 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public String getJson() {
-      return this.json;
+    public String getResourceIdJson() {
+      return this.resourceIdJson;
     }
 
-    public sendParagraphInfo_args setJson(String json) {
-      this.json = json;
+    public openResourceTransfer_args setResourceIdJson(String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
       return this;
     }
 
-    public void unsetJson() {
-      this.json = null;
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
     }
 
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
     }
 
-    public void setJsonIsSet(boolean value) {
+    public void setResourceIdJsonIsSet(boolean value) {
       if (!value) {
-        this.json = null;
+        this.resourceIdJson = null;
       }
     }
 
@@ -9538,11 +19159,11 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case JSON:
+      case RESOURCE_ID_JSON:
         if (value == null) {
-          unsetJson();
+          unsetResourceIdJson();
         } else {
-          setJson((String)value);
+          setResourceIdJson((String)value);
         }
         break;
 
@@ -9554,8 +19175,8 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case JSON:
-        return getJson();
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new IllegalStateException();
@@ -9570,8 +19191,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new IllegalStateException();
     }
@@ -9580,12 +19201,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_args)
-        return this.equals((sendParagraphInfo_args)that);
+      if (that instanceof openResourceTransfer_args)
+        return this.equals((openResourceTransfer_args)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_args that) {
+    public boolean equals(openResourceTransfer_args that) {
       if (that == null)
         return false;
 
@@ -9598,12 +19219,12 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -9619,16 +19240,16 @@ public class RemoteInterpreterEventService {
       if (present_intpGroupId)
         list.add(intpGroupId);
 
-      boolean present_json = true && (isSetJson());
-      list.add(present_json);
-      if (present_json)
-        list.add(json);
+      boolean present_resourceIdJson = true && (isSetResourceIdJson());
+      list.add(present_resourceIdJson);
+      if (present_resourceIdJson)
+        list.add(resourceIdJson);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_args other) {
+    public int compareTo(openResourceTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9645,12 +19266,12 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9672,7 +19293,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendParagraphInfo_args(");
+      StringBuilder sb = new StringBuilder("openResourceTransfer_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -9683,11 +19304,11 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -9715,15 +19336,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class sendParagraphInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public sendParagraphInfo_argsStandardScheme getScheme() {
-        return new sendParagraphInfo_argsStandardScheme();
+    private static class openResourceTransfer_argsStandardSchemeFactory implements SchemeFactory {
+      public openResourceTransfer_argsStandardScheme getScheme() {
+        return new openResourceTransfer_argsStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsStandardScheme extends StandardScheme<sendParagraphInfo_args> {
+    private static class openResourceTransfer_argsStandardScheme extends StandardScheme<openResourceTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9741,10 +19362,10 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JSON
+            case 2: // RESOURCE_ID_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9760,7 +19381,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9769,9 +19390,9 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9780,35 +19401,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class sendParagraphInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public sendParagraphInfo_argsTupleScheme getScheme() {
-        return new sendParagraphInfo_argsTupleScheme();
+    private static class openResourceTransfer_argsTupleSchemeFactory implements SchemeFactory {
+      public openResourceTransfer_argsTupleScheme getScheme() {
+        return new openResourceTransfer_argsTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsTupleScheme extends TupleScheme<sendParagraphInfo_args> {
+    private static class openResourceTransfer_argsTupleScheme extends TupleScheme<openResourceTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
+        if (struct.isSetResourceIdJson()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9816,28 +19437,30 @@ public class RemoteInterpreterEventService {
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
+  public static class openResourceTransfer_result implements org.apache.thrift.TBase<openResourceTransfer_result, openResourceTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<openResourceTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openResourceTransfer_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendParagraphInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendParagraphInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new openResourceTransfer_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openResourceTransfer_resultTupleSchemeFactory());
     }
 
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9852,6 +19475,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -9890,37 +19515,87 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openResourceTransfer_result.class, metaDataMap);
     }
 
-    public sendParagraphInfo_result() {
+    public openResourceTransfer_result() {
+    }
+
+    public openResourceTransfer_result(
+      String success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_result(sendParagraphInfo_result other) {
+    public openResourceTransfer_result(openResourceTransfer_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    public sendParagraphInfo_result deepCopy() {
-      return new sendParagraphInfo_result(this);
+    public openResourceTransfer_result deepCopy() {
+      return new openResourceTransfer_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public openResourceTransfer_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -9932,6 +19607,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -9940,15 +19617,24 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_result)
-        return this.equals((sendParagraphInfo_result)that);
+      if (that instanceof openResourceTransfer_result)
+        return this.equals((openResourceTransfer_result)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_result that) {
+    public boolean equals(openResourceTransfer_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -9956,17 +19642,32 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_result other) {
+    public int compareTo(openResourceTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9984,9 +19685,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendParagraphInfo_result(");
+      StringBuilder sb = new StringBuilder("openResourceTransfer_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10012,15 +19720,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class sendParagraphInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public sendParagraphInfo_resultStandardScheme getScheme() {
-        return new sendParagraphInfo_resultStandardScheme();
+    private static class openResourceTransfer_resultStandardSchemeFactory implements SchemeFactory {
+      public openResourceTransfer_resultStandardScheme getScheme() {
+        return new openResourceTransfer_resultStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultStandardScheme extends StandardScheme<sendParagraphInfo_result> {
+    private static class openResourceTransfer_resultStandardScheme extends StandardScheme<openResourceTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10030,6 +19738,14 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10041,53 +19757,77 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sendParagraphInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public sendParagraphInfo_resultTupleScheme getScheme() {
-        return new sendParagraphInfo_resultTupleScheme();
+    private static class openResourceTransfer_resultTupleSchemeFactory implements SchemeFactory {
+      public openResourceTransfer_resultTupleScheme getScheme() {
+        return new openResourceTransfer_resultTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultTupleScheme extends TupleScheme<sendParagraphInfo_result> {
+    private static class openResourceTransfer_resultTupleScheme extends TupleScheme<openResourceTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
+  public static class readResourceChunk_args implements org.apache.thrift.TBase<readResourceChunk_args, readResourceChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<readResourceChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readResourceChunk_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSFER_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("transferJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getAllResources_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getAllResources_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readResourceChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readResourceChunk_argsTupleSchemeFactory());
     }
 
-    public String intpGroupId; // required
+    public String transferJson; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId");
+      TRANSFER_JSON((short)1, "transferJson"),
+      OFFSET((short)2, "offset"),
+      LENGTH((short)3, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10102,8 +19842,12 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
+          case 1: // TRANSFER_JSON
+            return TRANSFER_JSON;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -10144,74 +19888,156 @@ public class RemoteInterpreterEventService {
     }
 
     // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TRANSFER_JSON, new org.apache.thrift.meta_data.FieldMetaData("transferJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readResourceChunk_args.class, metaDataMap);
     }
 
-    public getAllResources_args() {
+    public readResourceChunk_args() {
     }
 
-    public getAllResources_args(
-      String intpGroupId)
+    public readResourceChunk_args(
+      String transferJson,
+      long offset,
+      int length)
     {
       this();
-      this.intpGroupId = intpGroupId;
+      this.transferJson = transferJson;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_args(getAllResources_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
+    public readResourceChunk_args(readResourceChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTransferJson()) {
+        this.transferJson = other.transferJson;
       }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public getAllResources_args deepCopy() {
-      return new getAllResources_args(this);
+    public readResourceChunk_args deepCopy() {
+      return new readResourceChunk_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
+      this.transferJson = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
-    public String getIntpGroupId() {
-      return this.intpGroupId;
+    public String getTransferJson() {
+      return this.transferJson;
     }
 
-    public getAllResources_args setIntpGroupId(String intpGroupId) {
-      this.intpGroupId = intpGroupId;
+    public readResourceChunk_args setTransferJson(String transferJson) {
+      this.transferJson = transferJson;
       return this;
     }
 
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
+    public void unsetTransferJson() {
+      this.transferJson = null;
     }
 
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
+    /** Returns true if field transferJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferJson() {
+      return this.transferJson != null;
     }
 
-    public void setIntpGroupIdIsSet(boolean value) {
+    public void setTransferJsonIsSet(boolean value) {
       if (!value) {
-        this.intpGroupId = null;
+        this.transferJson = null;
       }
     }
 
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public readResourceChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public readResourceChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
+      case TRANSFER_JSON:
         if (value == null) {
-          unsetIntpGroupId();
+          unsetTransferJson();
         } else {
-          setIntpGroupId((String)value);
+          setTransferJson((String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
         }
         break;
 
@@ -10220,8 +20046,14 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
+      case TRANSFER_JSON:
+        return getTransferJson();
+
+      case OFFSET:
+        return Long.valueOf(getOffset());
+
+      case LENGTH:
+        return Integer.valueOf(getLength());
 
       }
       throw new IllegalStateException();
@@ -10234,8 +20066,12 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
+      case TRANSFER_JSON:
+        return isSetTransferJson();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -10244,21 +20080,39 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_args)
-        return this.equals((getAllResources_args)that);
+      if (that instanceof readResourceChunk_args)
+        return this.equals((readResourceChunk_args)that);
       return false;
     }
 
-    public boolean equals(getAllResources_args that) {
+    public boolean equals(readResourceChunk_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
+      boolean this_present_transferJson = true && this.isSetTransferJson();
+      boolean that_present_transferJson = true && that.isSetTransferJson();
+      if (this_present_transferJson || that_present_transferJson) {
+        if (!(this_present_transferJson && that_present_transferJson))
           return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
+        if (!this.transferJson.equals(that.transferJson))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -10269,28 +20123,58 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_intpGroupId = true && (isSetIntpGroupId());
-      list.add(present_intpGroupId);
-      if (present_intpGroupId)
-        list.add(intpGroupId);
+      boolean present_transferJson = true && (isSetTransferJson());
+      list.add(present_transferJson);
+      if (present_transferJson)
+        list.add(transferJson);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getAllResources_args other) {
+    public int compareTo(readResourceChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      lastComparison = Boolean.valueOf(isSetTransferJson()).compareTo(other.isSetTransferJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+      if (isSetTransferJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferJson, other.transferJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10312,16 +20196,24 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getAllResources_args(");
+      StringBuilder sb = new StringBuilder("readResourceChunk_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
+      sb.append("transferJson:");
+      if (this.transferJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.intpGroupId);
+        sb.append(this.transferJson);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10341,21 +20233,23 @@ public class RemoteInterpreterEventService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getAllResources_argsStandardSchemeFactory implements SchemeFactory {
-      public getAllResources_argsStandardScheme getScheme() {
-        return new getAllResources_argsStandardScheme();
+    private static class readResourceChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public readResourceChunk_argsStandardScheme getScheme() {
+        return new readResourceChunk_argsStandardScheme();
       }
     }
 
-    private static class getAllResources_argsStandardScheme extends StandardScheme<getAllResources_args> {
+    private static class readResourceChunk_argsStandardScheme extends StandardScheme<readResourceChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10365,10 +20259,26 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
+            case 1: // TRANSFER_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
+                struct.transferJson = iprot.readString();
+                struct.setTransferJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10384,67 +20294,93 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readResourceChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
+        if (struct.transferJson != null) {
+          oprot.writeFieldBegin(TRANSFER_JSON_FIELD_DESC);
+          oprot.writeString(struct.transferJson);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getAllResources_argsTupleSchemeFactory implements SchemeFactory {
-      public getAllResources_argsTupleScheme getScheme() {
-        return new getAllResources_argsTupleScheme();
+    private static class readResourceChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public readResourceChunk_argsTupleScheme getScheme() {
+        return new readResourceChunk_argsTupleScheme();
       }
     }
 
-    private static class getAllResources_argsTupleScheme extends TupleScheme<getAllResources_args> {
+    private static class readResourceChunk_argsTupleScheme extends TupleScheme<readResourceChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readResourceChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetTransferJson()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetTransferJson()) {
+          oprot.writeString(struct.transferJson);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readResourceChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
+          struct.transferJson = iprot.readString();
+          struct.setTransferJsonIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
+  public static class readResourceChunk_result implements org.apache.thrift.TBase<readResourceChunk_result, readResourceChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<readResourceChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readResourceChunk_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getAllResources_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getAllResources_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readResourceChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readResourceChunk_resultTupleSchemeFactory());
     }
 
-    public List<String> success; // required
+    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10509,34 +20445,32 @@ public class RemoteInterpreterEventService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readResourceChunk_result.class, metaDataMap);
     }
 
-    public getAllResources_result() {
+    public readResourceChunk_result() {
     }
 
-    public getAllResources_result(
-      List<String> success)
+    public readResourceChunk_result(
+      ByteBuffer success)
     {
       this();
-      this.success = success;
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_result(getAllResources_result other) {
+    public readResourceChunk_result(readResourceChunk_result other) {
       if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>(other.success);
-        this.success = __this__success;
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
     }
 
-    public getAllResources_result deepCopy() {
-      return new getAllResources_result(this);
+    public readResourceChunk_result deepCopy() {
+      return new readResourceChunk_result(this);
     }
 
     @Override
@@ -10544,27 +20478,22 @@ public class RemoteInterpreterEventService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public void addToSuccess(String elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<String>();
-      }
-      this.success.add(elem);
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public List<String> getSuccess() {
-      return this.success;
+    public readResourceChunk_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
     }
 
-    public getAllResources_result setSuccess(List<String> success) {
-      this.success = success;
+    public readResourceChunk_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
@@ -10589,7 +20518,7 @@ public class RemoteInterpreterEventService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<String>)value);
+          setSuccess((ByteBuffer)value);
         }
         break;
 
@@ -10622,12 +20551,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_result)
-        return this.equals((getAllResources_result)that);
+      if (that instanceof readResourceChunk_result)
+        return this.equals((readResourceChunk_result)that);
       return false;
     }
 
-    public boolean equals(getAllResources_result that) {
+    public boolean equals(readResourceChunk_result that) {
       if (that == null)
         return false;
 
@@ -10656,7 +20585,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(getAllResources_result other) {
+    public int compareTo(readResourceChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10690,14 +20619,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getAllResources_result(");
+      StringBuilder sb = new StringBuilder("readResourceChunk_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
       }
       first = false;
       sb.append(")");
@@ -10725,15 +20654,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getAllResources_resultStandardSchemeFactory implements SchemeFactory {
-      public getAllResources_resultStandardScheme getScheme() {
-        return new getAllResources_resultStandardScheme();
+    private static class readResourceChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public readResourceChunk_resultStandardScheme getScheme() {
+        return new readResourceChunk_resultStandardScheme();
       }
     }
 
-    private static class getAllResources_resultStandardScheme extends StandardScheme<getAllResources_result> {
+    private static class readResourceChunk_resultStandardScheme extends StandardScheme<readResourceChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10744,18 +20673,8 @@ public class RemoteInterpreterEventService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list24.size);
-                  String _elem25;
-                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
-                  {
-                    _elem25 = iprot.readString();
-                    struct.success.add(_elem25);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10772,20 +20691,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readResourceChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
-
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter27 : struct.success)
-            {
-              oprot.writeString(_iter27);
-            }
-            oprot.writeListEnd();
-          }
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10794,16 +20706,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getAllResources_resultTupleSchemeFactory implements SchemeFactory {
-      public getAllResources_resultTupleScheme getScheme() {
-        return new getAllResources_resultTupleScheme();
+    private static class readResourceChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public readResourceChunk_resultTupleScheme getScheme() {
+        return new readResourceChunk_resultTupleScheme();
       }
     }
 
-    private static class getAllResources_resultTupleScheme extends TupleScheme<getAllResources_result> {
+    private static class readResourceChunk_resultTupleScheme extends TupleScheme<readResourceChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readResourceChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10811,31 +20723,16 @@ public class RemoteInterpreterEventService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (String _iter28 : struct.success)
-            {
-              oprot.writeString(_iter28);
-            }
-          }
+          oprot.writeBinary(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readResourceChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list29.size);
-            String _elem30;
-            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
-            {
-              _elem30 = iprot.readString();
-              struct.success.add(_elem30);
-            }
-          }
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
       }
@@ -10843,22 +20740,22 @@ public class RemoteInterpreterEventService {
 
   }
 
-  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
+  public static class closeResourceTransfer_args implements org.apache.thrift.TBase<closeResourceTransfer_args, closeResourceTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeResourceTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeResourceTransfer_args");
 
-    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSFER_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("transferJson", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getResource_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getResource_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeResourceTransfer_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeResourceTransfer_argsTupleSchemeFactory());
     }
 
-    public String resourceIdJson; // required
+    public String transferJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+      TRANSFER_JSON((short)1, "transferJson");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10873,8 +20770,8 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RESOURCE_ID_JSON
-            return RESOURCE_ID_JSON;
+          case 1: // TRANSFER_JSON
+            return TRANSFER_JSON;
           default:
             return null;
         }
@@ -10918,71 +20815,71 @@ public class RemoteInterpreterEventService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TRANSFER_JSON, new org.apache.thrift.meta_data.FieldMetaData("transferJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeResourceTransfer_args.class, metaDataMap);
     }
 
-    public getResource_args() {
+    public closeResourceTransfer_args() {
     }
 
-    public getResource_args(
-      String resourceIdJson)
+    public closeResourceTransfer_args(
+      String transferJson)
     {
       this();
-      this.resourceIdJson = resourceIdJson;
+      this.transferJson = transferJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_args(getResource_args other) {
-      if (other.isSetResourceIdJson()) {
-        this.resourceIdJson = other.resourceIdJson;
+    public closeResourceTransfer_args(closeResourceTransfer_args other) {
+      if (other.isSetTransferJson()) {
+        this.transferJson = other.transferJson;
       }
     }
 
-    public getResource_args deepCopy() {
-      return new getResource_args(this);
+    public closeResourceTransfer_args deepCopy() {
+      return new closeResourceTransfer_args(this);
     }
 
     @Override
     public void clear() {
-      this.resourceIdJson = null;
+      this.transferJson = null;
     }
 
-    public String getResourceIdJson() {
-      return this.resourceIdJson;
+    public String getTransferJson() {
+      return this.transferJson;
     }
 
-    public getResource_args setResourceIdJson(String resourceIdJson) {
-      this.resourceIdJson = resourceIdJson;
+    public closeResourceTransfer_args setTransferJson(String transferJson) {
+      this.transferJson = transferJson;
       return this;
     }
 
-    public void unsetResourceIdJson() {
-      this.resourceIdJson = null;
+    public void unsetTransferJson() {
+      this.transferJson = null;
     }
 
-    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceIdJson() {
-      return this.resourceIdJson != null;
+    /** Returns true if field transferJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferJson() {
+      return this.transferJson != null;
     }
 
-    public void setResourceIdJsonIsSet(boolean value) {
+    public void setTransferJsonIsSet(boolean value) {
       if (!value) {
-        this.resourceIdJson = null;
+        this.transferJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case RESOURCE_ID_JSON:
+      case TRANSFER_JSON:
         if (value == null) {
-          unsetResourceIdJson();
+          unsetTransferJson();
         } else {
-          setResourceIdJson((String)value);
+          setTransferJson((String)value);
         }
         break;
 
@@ -10991,8 +20888,8 @@ public class RemoteInterpreterEventService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return getResourceIdJson();
+      case TRANSFER_JSON:
+        return getTransferJson();
 
       }
       throw new IllegalStateException();
@@ -11005,8 +20902,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return isSetResourceIdJson();
+      case TRANSFER_JSON:
+        return isSetTransferJson();
       }
       throw new IllegalStateException();
     }
@@ -11015,21 +20912,21 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_args)
-        return this.equals((getResource_args)that);
+      if (that instanceof closeResourceTransfer_args)
+        return this.equals((closeResourceTransfer_args)that);
       return false;
     }
 
-    public boolean equals(getResource_args that) {
+    public boolean equals(closeResourceTransfer_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
-      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
-      if (this_present_resourceIdJson || that_present_resourceIdJson) {
-        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+      boolean this_present_transferJson = true && this.isSetTransferJson();
+      boolean that_present_transferJson = true && that.isSetTransferJson();
+      if (this_present_transferJson || that_present_transferJson) {
+        if (!(this_present_transferJson && that_present_transferJson))
           return false;
-        if (!this.resourceIdJson.equals(that.resourceIdJson))
+        if (!this.transferJson.equals(that.transferJson))
           return false;
       }
 
@@ -11040,28 +20937,28 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_resourceIdJson = true && (isSetResourceIdJson());
-      list.add(present_resourceIdJson);
-      if (present_resourceIdJson)
-        list.add(resourceIdJson);
+      boolean present_transferJson = true && (isSetTransferJson());
+      list.add(present_transferJson);
+      if (present_transferJson)
+        list.add(transferJson);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getResource_args other) {
+    public int compareTo(closeResourceTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      lastComparison = Boolean.valueOf(isSetTransferJson()).compareTo(other.isSetTransferJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceIdJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+      if (isSetTransferJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferJson, other.transferJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11083,14 +20980,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getResource_args(");
+      StringBuilder sb = new StringBuilder("closeResourceTransfer_args(");
       boolean first = true;
 
-      sb.append("resourceIdJson:");
-      if (this.resourceIdJson == null) {
+      sb.append("transferJson:");
+      if (this.transferJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceIdJson);
+        sb.append(this.transferJson);
       }
       first = false;
       sb.append(")");
@@ -11118,15 +21015,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_argsStandardSchemeFactory implements SchemeFactory {
-      public getResource_argsStandardScheme getScheme() {
-        return new getResource_argsStandardScheme();
+    private static class closeResourceTransfer_argsStandardSchemeFactory implements SchemeFactory {
+      public closeResourceTransfer_argsStandardScheme getScheme() {
+        return new closeResourceTransfer_argsStandardScheme();
       }
     }
 
-    private static class getResource_argsStandardScheme extends StandardScheme<getResource_args> {
+    private static class closeResourceTransfer_argsStandardScheme extends StandardScheme<closeResourceTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11136,10 +21033,10 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RESOURCE_ID_JSON
+            case 1: // TRANSFER_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceIdJson = iprot.readString();
-                struct.setResourceIdJsonIsSet(true);
+                struct.transferJson = iprot.readString();
+                struct.setTransferJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11155,13 +21052,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.resourceIdJson != null) {
-          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.transferJson != null) {
+          oprot.writeFieldBegin(TRANSFER_JSON_FIELD_DESC);
+          oprot.writeString(struct.transferJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11170,56 +21067,54 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_argsTupleSchemeFactory implements SchemeFactory {
-      public getResource_argsTupleScheme getScheme() {
-        return new getResource_argsTupleScheme();
+    private static class closeResourceTransfer_argsTupleSchemeFactory implements SchemeFactory {
+      public closeResourceTransfer_argsTupleScheme getScheme() {
+        return new closeResourceTransfer_argsTupleScheme();
       }
     }
 
-    private static class getResource_argsTupleScheme extends TupleScheme<getResource_args> {
+    private static class closeResourceTransfer_argsTupleScheme extends TupleScheme<closeResourceTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetResourceIdJson()) {
+        if (struct.isSetTransferJson()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetResourceIdJson()) {
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.isSetTransferJson()) {
+          oprot.writeString(struct.transferJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.resourceIdJson = iprot.readString();
-          struct.setResourceIdJsonIsSet(true);
+          struct.transferJson = iprot.readString();
+          struct.setTransferJsonIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+  public static class closeResourceTransfer_result implements org.apache.thrift.TBase<closeResourceTransfer_result, closeResourceTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeResourceTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeResourceTransfer_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getResource_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getResource_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeResourceTransfer_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeResourceTransfer_resultTupleSchemeFactory());
     }
 
-    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11234,8 +21129,6 @@ public class RemoteInterpreterEventService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -11274,97 +21167,37 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeResourceTransfer_result.class, metaDataMap);
     }
 
-    public getResource_result() {
-    }
-
-    public getResource_result(
-      ByteBuffer success)
-    {
-      this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public closeResourceTransfer_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_result(getResource_result other) {
-      if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
-      }
+    public closeResourceTransfer_result(closeResourceTransfer_result other) {
     }
 
-    public getResource_result deepCopy() {
-      return new getResource_result(this);
+    public closeResourceTransfer_result deepCopy() {
+      return new closeResourceTransfer_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
-    }
-
-    public getResource_result setSuccess(byte[] success) {
-      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
-      return this;
-    }
-
-    public getResource_result setSuccess(ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((ByteBuffer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new IllegalStateException();
     }
@@ -11376,8 +21209,6 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -11386,24 +21217,15 @@ public class RemoteInterpreterEventService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_result)
-        return this.equals((getResource_result)that);
+      if (that instanceof closeResourceTransfer_result)
+        return this.equals((closeResourceTransfer_result)that);
       return false;
     }
 
-    public boolean equals(getResource_result that) {
+    public boolean equals(closeResourceTransfer_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -11411,32 +21233,17 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getResource_result other) {
+    public int compareTo(closeResourceTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -11454,16 +21261,9 @@ public class RemoteInterpreterEventService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getResource_result(");
+      StringBuilder sb = new StringBuilder("closeResourceTransfer_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11489,15 +21289,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_resultStandardSchemeFactory implements SchemeFactory {
-      public getResource_resultStandardScheme getScheme() {
-        return new getResource_resultStandardScheme();
+    private static class closeResourceTransfer_resultStandardSchemeFactory implements SchemeFactory {
+      public closeResourceTransfer_resultStandardScheme getScheme() {
+        return new closeResourceTransfer_resultStandardScheme();
       }
     }
 
-    private static class getResource_resultStandardScheme extends StandardScheme<getResource_result> {
+    private static class closeResourceTransfer_resultStandardScheme extends StandardScheme<closeResourceTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11507,14 +21307,6 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11526,50 +21318,32 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getResource_resultTupleSchemeFactory implements SchemeFactory {
-      public getResource_resultTupleScheme getScheme() {
-        return new getResource_resultTupleScheme();
+    private static class closeResourceTransfer_resultTupleSchemeFactory implements SchemeFactory {
+      public closeResourceTransfer_resultTupleScheme getScheme() {
+        return new closeResourceTransfer_resultTupleScheme();
       }
     }
 
-    private static class getResource_resultTupleScheme extends TupleScheme<getResource_result> {
+    private static class closeResourceTransfer_resultTupleScheme extends TupleScheme<closeResourceTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -51,7 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2018-8-9")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-17")
 public class RemoteInterpreterService {
 
   public interface Iface {
@@ -64,6 +64,8 @@ public class RemoteInterpreterService {
 
     public RemoteInterpreterResult interpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
 
+    public String submitInterpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
+
     public void cancel(String sessionId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
 
     public int getProgress(String sessionId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
@@ -76,10 +78,18 @@ public class RemoteInterpreterService {
 
     public String getStatus(String sessionId, String jobId) throws org.apache.thrift.TException;
 
+    public RemoteInterpreterResult fetchInterpretResult(String sessionId, String jobId) throws org.apache.thrift.TException;
+
     public List<String> resourcePoolGetAll() throws org.apache.thrift.TException;
 
     public ByteBuffer resourceGet(String sessionId, String paragraphId, String resourceName) throws org.apache.thrift.TException;
 
+    public String resourceOpenTransfer(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression) throws org.apache.thrift.TException;
+
+    public ByteBuffer resourceReadChunk(String transferId, long offset, int length) throws org.apache.thrift.TException;
+
+    public void resourceCloseTransfer(String transferId) throws org.apache.thrift.TException;
+
     public boolean resourceRemove(String sessionId, String paragraphId, String resourceName) throws org.apache.thrift.TException;
 
     public ByteBuffer resourceInvokeMethod(String sessionId, String paragraphId, String resourceName, String invokeMessage) throws org.apache.thrift.TException;
@@ -110,6 +120,8 @@ public class RemoteInterpreterService {
 
     public void interpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void submitInterpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void cancel(String sessionId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getProgress(String sessionId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -122,10 +134,18 @@ public class RemoteInterpreterService {
 
     public void getStatus(String sessionId, String jobId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void fetchInterpretResult(String sessionId, String jobId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceGet(String sessionId, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void resourceOpenTransfer(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceReadChunk(String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceCloseTransfer(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void resourceRemove(String sessionId, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceInvokeMethod(String sessionId, String paragraphId, String resourceName, String invokeMessage, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -258,6 +278,32 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "interpret failed: unknown result");
     }
 
+    public String submitInterpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    {
+      send_submitInterpret(sessionId, className, st, interpreterContext);
+      return recv_submitInterpret();
+    }
+
+    public void send_submitInterpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    {
+      submitInterpret_args args = new submitInterpret_args();
+      args.setSessionId(sessionId);
+      args.setClassName(className);
+      args.setSt(st);
+      args.setInterpreterContext(interpreterContext);
+      sendBase("submitInterpret", args);
+    }
+
+    public String recv_submitInterpret() throws org.apache.thrift.TException
+    {
+      submitInterpret_result result = new submitInterpret_result();
+      receiveBase(result, "submitInterpret");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "submitInterpret failed: unknown result");
+    }
+
     public void cancel(String sessionId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
     {
       send_cancel(sessionId, className, interpreterContext);
@@ -399,6 +445,30 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public RemoteInterpreterResult fetchInterpretResult(String sessionId, String jobId) throws org.apache.thrift.TException
+    {
+      send_fetchInterpretResult(sessionId, jobId);
+      return recv_fetchInterpretResult();
+    }
+
+    public void send_fetchInterpretResult(String sessionId, String jobId) throws org.apache.thrift.TException
+    {
+      fetchInterpretResult_args args = new fetchInterpretResult_args();
+      args.setSessionId(sessionId);
+      args.setJobId(jobId);
+      sendBase("fetchInterpretResult", args);
+    }
+
+    public RemoteInterpreterResult recv_fetchInterpretResult() throws org.apache.thrift.TException
+    {
+      fetchInterpretResult_result result = new fetchInterpretResult_result();
+      receiveBase(result, "fetchInterpretResult");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchInterpretResult failed: unknown result");
+    }
+
     public List<String> resourcePoolGetAll() throws org.apache.thrift.TException
     {
       send_resourcePoolGetAll();
@@ -446,6 +516,79 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceGet failed: unknown result");
     }
 
+    public String resourceOpenTransfer(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression) throws org.apache.thrift.TException
+    {
+      send_resourceOpenTransfer(sessionId, paragraphId, resourceName, codec, spillThreshold, compression);
+      return recv_resourceOpenTransfer();
+    }
+
+    public void send_resourceOpenTransfer(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression) throws org.apache.thrift.TException
+    {
+      resourceOpenTransfer_args args = new resourceOpenTransfer_args();
+      args.setSessionId(sessionId);
+      args.setParagraphId(paragraphId);
+      args.setResourceName(resourceName);
+      args.setCodec(codec);
+      args.setSpillThreshold(spillThreshold);
+      args.setCompression(compression);
+      sendBase("resourceOpenTransfer", args);
+    }
+
+    public String recv_resourceOpenTransfer() throws org.apache.thrift.TException
+    {
+      resourceOpenTransfer_result result = new resourceOpenTransfer_result();
+      receiveBase(result, "resourceOpenTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceOpenTransfer failed: unknown result");
+    }
+
+    public ByteBuffer resourceReadChunk(String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      send_resourceReadChunk(transferId, offset, length);
+      return recv_resourceReadChunk();
+    }
+
+    public void send_resourceReadChunk(String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      resourceReadChunk_args args = new resourceReadChunk_args();
+      args.setTransferId(transferId);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("resourceReadChunk", args);
+    }
+
+    public ByteBuffer recv_resourceReadChunk() throws org.apache.thrift.TException
+    {
+      resourceReadChunk_result result = new resourceReadChunk_result();
+      receiveBase(result, "resourceReadChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceReadChunk failed: unknown result");
+    }
+
+    public void resourceCloseTransfer(String transferId) throws org.apache.thrift.TException
+    {
+      send_resourceCloseTransfer(transferId);
+      recv_resourceCloseTransfer();
+    }
+
+    public void send_resourceCloseTransfer(String transferId) throws org.apache.thrift.TException
+    {
+      resourceCloseTransfer_args args = new resourceCloseTransfer_args();
+      args.setTransferId(transferId);
+      sendBase("resourceCloseTransfer", args);
+    }
+
+    public void recv_resourceCloseTransfer() throws org.apache.thrift.TException
+    {
+      resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+      receiveBase(result, "resourceCloseTransfer");
+      return;
+    }
+
     public boolean resourceRemove(String sessionId, String paragraphId, String resourceName) throws org.apache.thrift.TException
     {
       send_resourceRemove(sessionId, paragraphId, resourceName);
@@ -830,6 +973,47 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void submitInterpret(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      submitInterpret_call method_call = new submitInterpret_call(sessionId, className, st, interpreterContext, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class submitInterpret_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String sessionId;
+      private String className;
+      private String st;
+      private RemoteInterpreterContext interpreterContext;
+      public submitInterpret_call(String sessionId, String className, String st, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.className = className;
+        this.st = st;
+        this.interpreterContext = interpreterContext;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("submitInterpret", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        submitInterpret_args args = new submitInterpret_args();
+        args.setSessionId(sessionId);
+        args.setClassName(className);
+        args.setSt(st);
+        args.setInterpreterContext(interpreterContext);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_submitInterpret();
+      }
+    }
+
     public void cancel(String sessionId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       cancel_call method_call = new cancel_call(sessionId, className, interpreterContext, resultHandler, this, ___protocolFactory, ___transport);
@@ -1049,6 +1233,41 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void fetchInterpretResult(String sessionId, String jobId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      fetchInterpretResult_call method_call = new fetchInterpretResult_call(sessionId, jobId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class fetchInterpretResult_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String sessionId;
+      private String jobId;
+      public fetchInterpretResult_call(String sessionId, String jobId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.jobId = jobId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("fetchInterpretResult", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        fetchInterpretResult_args args = new fetchInterpretResult_args();
+        args.setSessionId(sessionId);
+        args.setJobId(jobId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public RemoteInterpreterResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_fetchInterpretResult();
+      }
+    }
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourcePoolGetAll_call method_call = new resourcePoolGetAll_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -1116,6 +1335,123 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceOpenTransfer(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceOpenTransfer_call method_call = new resourceOpenTransfer_call(sessionId, paragraphId, resourceName, codec, spillThreshold, compression, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceOpenTransfer_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String sessionId;
+      private String paragraphId;
+      private String resourceName;
+      private String codec;
+      private long spillThreshold;
+      private String compression;
+      public resourceOpenTransfer_call(String sessionId, String paragraphId, String resourceName, String codec, long spillThreshold, String compression, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.paragraphId = paragraphId;
+        this.resourceName = resourceName;
+        this.codec = codec;
+        this.spillThreshold = spillThreshold;
+        this.compression = compression;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceOpenTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceOpenTransfer_args args = new resourceOpenTransfer_args();
+        args.setSessionId(sessionId);
+        args.setParagraphId(paragraphId);
+        args.setResourceName(resourceName);
+        args.setCodec(codec);
+        args.setSpillThreshold(spillThreshold);
+        args.setCompression(compression);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceOpenTransfer();
+      }
+    }
+
+    public void resourceReadChunk(String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceReadChunk_call method_call = new resourceReadChunk_call(transferId, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceReadChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferId;
+      private long offset;
+      private int length;
+      public resourceReadChunk_call(String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceReadChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceReadChunk_args args = new resourceReadChunk_args();
+        args.setTransferId(transferId);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceReadChunk();
+      }
+    }
+
+    public void resourceCloseTransfer(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceCloseTransfer_call method_call = new resourceCloseTransfer_call(transferId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceCloseTransfer_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String transferId;
+      public resourceCloseTransfer_call(String transferId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceCloseTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceCloseTransfer_args args = new resourceCloseTransfer_args();
+        args.setTransferId(transferId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_resourceCloseTransfer();
+      }
+    }
+
     public void resourceRemove(String sessionId, String paragraphId, String resourceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourceRemove_call method_call = new resourceRemove_call(sessionId, paragraphId, resourceName, resultHandler, this, ___protocolFactory, ___transport);
@@ -1469,14 +1805,19 @@ public class RemoteInterpreterService {
       processMap.put("open", new open());
       processMap.put("close", new close());
       processMap.put("interpret", new interpret());
+      processMap.put("submitInterpret", new submitInterpret());
       processMap.put("cancel", new cancel());
       processMap.put("getProgress", new getProgress());
       processMap.put("getFormType", new getFormType());
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("fetchInterpretResult", new fetchInterpretResult());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
+      processMap.put("resourceOpenTransfer", new resourceOpenTransfer());
+      processMap.put("resourceReadChunk", new resourceReadChunk());
+      processMap.put("resourceCloseTransfer", new resourceCloseTransfer());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
@@ -1569,6 +1910,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class submitInterpret<I extends Iface> extends org.apache.thrift.ProcessFunction<I, submitInterpret_args> {
+      public submitInterpret() {
+        super("submitInterpret");
+      }
+
+      public submitInterpret_args getEmptyArgsInstance() {
+        return new submitInterpret_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public submitInterpret_result getResult(I iface, submitInterpret_args args) throws org.apache.thrift.TException {
+        submitInterpret_result result = new submitInterpret_result();
+        result.success = iface.submitInterpret(args.sessionId, args.className, args.st, args.interpreterContext);
+        return result;
+      }
+    }
+
     public static class cancel<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancel_args> {
       public cancel() {
         super("cancel");
@@ -1690,6 +2051,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class fetchInterpretResult<I extends Iface> extends org.apache.thrift.ProcessFunction<I, fetchInterpretResult_args> {
+      public fetchInterpretResult() {
+        super("fetchInterpretResult");
+      }
+
+      public fetchInterpretResult_args getEmptyArgsInstance() {
+        return new fetchInterpretResult_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public fetchInterpretResult_result getResult(I iface, fetchInterpretResult_args args) throws org.apache.thrift.TException {
+        fetchInterpretResult_result result = new fetchInterpretResult_result();
+        result.success = iface.fetchInterpretResult(args.sessionId, args.jobId);
+        return result;
+      }
+    }
+
     public static class resourcePoolGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolGetAll_args> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -1730,48 +2111,108 @@ public class RemoteInterpreterService {
       }
     }
 
-    public static class resourceRemove<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceRemove_args> {
-      public resourceRemove() {
-        super("resourceRemove");
+    public static class resourceOpenTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceOpenTransfer_args> {
+      public resourceOpenTransfer() {
+        super("resourceOpenTransfer");
       }
 
-      public resourceRemove_args getEmptyArgsInstance() {
-        return new resourceRemove_args();
+      public resourceOpenTransfer_args getEmptyArgsInstance() {
+        return new resourceOpenTransfer_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public resourceRemove_result getResult(I iface, resourceRemove_args args) throws org.apache.thrift.TException {
-        resourceRemove_result result = new resourceRemove_result();
-        result.success = iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName);
-        result.setSuccessIsSet(true);
+      public resourceOpenTransfer_result getResult(I iface, resourceOpenTransfer_args args) throws org.apache.thrift.TException {
+        resourceOpenTransfer_result result = new resourceOpenTransfer_result();
+        result.success = iface.resourceOpenTransfer(args.sessionId, args.paragraphId, args.resourceName, args.codec, args.spillThreshold, args.compression);
         return result;
       }
     }
 
-    public static class resourceInvokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceInvokeMethod_args> {
-      public resourceInvokeMethod() {
-        super("resourceInvokeMethod");
+    public static class resourceReadChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceReadChunk_args> {
+      public resourceReadChunk() {
+        super("resourceReadChunk");
       }
 
-      public resourceInvokeMethod_args getEmptyArgsInstance() {
-        return new resourceInvokeMethod_args();
+      public resourceReadChunk_args getEmptyArgsInstance() {
+        return new resourceReadChunk_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public resourceInvokeMethod_result getResult(I iface, resourceInvokeMethod_args args) throws org.apache.thrift.TException {
-        resourceInvokeMethod_result result = new resourceInvokeMethod_result();
-        result.success = iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage);
+      public resourceReadChunk_result getResult(I iface, resourceReadChunk_args args) throws org.apache.thrift.TException {
+        resourceReadChunk_result result = new resourceReadChunk_result();
+        result.success = iface.resourceReadChunk(args.transferId, args.offset, args.length);
         return result;
       }
     }
 
-    public static class angularObjectUpdate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, angularObjectUpdate_args> {
+    public static class resourceCloseTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceCloseTransfer_args> {
+      public resourceCloseTransfer() {
+        super("resourceCloseTransfer");
+      }
+
+      public resourceCloseTransfer_args getEmptyArgsInstance() {
+        return new resourceCloseTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceCloseTransfer_result getResult(I iface, resourceCloseTransfer_args args) throws org.apache.thrift.TException {
+        resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+        iface.resourceCloseTransfer(args.transferId);
+        return result;
+      }
+    }
+
+    public static class resourceRemove<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceRemove_args> {
+      public resourceRemove() {
+        super("resourceRemove");
+      }
+
+      public resourceRemove_args getEmptyArgsInstance() {
+        return new resourceRemove_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceRemove_result getResult(I iface, resourceRemove_args args) throws org.apache.thrift.TException {
+        resourceRemove_result result = new resourceRemove_result();
+        result.success = iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    public static class resourceInvokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceInvokeMethod_args> {
+      public resourceInvokeMethod() {
+        super("resourceInvokeMethod");
+      }
+
+      public resourceInvokeMethod_args getEmptyArgsInstance() {
+        return new resourceInvokeMethod_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public resourceInvokeMethod_result getResult(I iface, resourceInvokeMethod_args args) throws org.apache.thrift.TException {
+        resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+        result.success = iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage);
+        return result;
+      }
+    }
+
+    public static class angularObjectUpdate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, angularObjectUpdate_args> {
       public angularObjectUpdate() {
         super("angularObjectUpdate");
       }
@@ -1928,14 +2369,19 @@ public class RemoteInterpreterService {
       processMap.put("open", new open());
       processMap.put("close", new close());
       processMap.put("interpret", new interpret());
+      processMap.put("submitInterpret", new submitInterpret());
       processMap.put("cancel", new cancel());
       processMap.put("getProgress", new getProgress());
       processMap.put("getFormType", new getFormType());
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("fetchInterpretResult", new fetchInterpretResult());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
+      processMap.put("resourceOpenTransfer", new resourceOpenTransfer());
+      processMap.put("resourceReadChunk", new resourceReadChunk());
+      processMap.put("resourceCloseTransfer", new resourceCloseTransfer());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
@@ -2149,6 +2595,57 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class submitInterpret<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, submitInterpret_args, String> {
+      public submitInterpret() {
+        super("submitInterpret");
+      }
+
+      public submitInterpret_args getEmptyArgsInstance() {
+        return new submitInterpret_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            submitInterpret_result result = new submitInterpret_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            submitInterpret_result result = new submitInterpret_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, submitInterpret_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.submitInterpret(args.sessionId, args.className, args.st, args.interpreterContext,resultHandler);
+      }
+    }
+
     public static class cancel<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancel_args, Void> {
       public cancel() {
         super("cancel");
@@ -2454,6 +2951,57 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class fetchInterpretResult<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, fetchInterpretResult_args, RemoteInterpreterResult> {
+      public fetchInterpretResult() {
+        super("fetchInterpretResult");
+      }
+
+      public fetchInterpretResult_args getEmptyArgsInstance() {
+        return new fetchInterpretResult_args();
+      }
+
+      public AsyncMethodCallback<RemoteInterpreterResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RemoteInterpreterResult>() { 
+          public void onComplete(RemoteInterpreterResult o) {
+            fetchInterpretResult_result result = new fetchInterpretResult_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            fetchInterpretResult_result result = new fetchInterpretResult_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, fetchInterpretResult_args args, org.apache.thrift.async.AsyncMethodCallback<RemoteInterpreterResult> resultHandler) throws TException {
+        iface.fetchInterpretResult(args.sessionId, args.jobId,resultHandler);
+      }
+    }
+
     public static class resourcePoolGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAll_args, List<String>> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -2556,22 +3104,21 @@ public class RemoteInterpreterService {
       }
     }
 
-    public static class resourceRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceRemove_args, Boolean> {
-      public resourceRemove() {
-        super("resourceRemove");
+    public static class resourceOpenTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceOpenTransfer_args, String> {
+      public resourceOpenTransfer() {
+        super("resourceOpenTransfer");
       }
 
-      public resourceRemove_args getEmptyArgsInstance() {
-        return new resourceRemove_args();
+      public resourceOpenTransfer_args getEmptyArgsInstance() {
+        return new resourceOpenTransfer_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            resourceRemove_result result = new resourceRemove_result();
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            resourceOpenTransfer_result result = new resourceOpenTransfer_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2583,7 +3130,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            resourceRemove_result result = new resourceRemove_result();
+            resourceOpenTransfer_result result = new resourceOpenTransfer_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2603,25 +3150,25 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourceRemove_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
+      public void start(I iface, resourceOpenTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.resourceOpenTransfer(args.sessionId, args.paragraphId, args.resourceName, args.codec, args.spillThreshold, args.compression,resultHandler);
       }
     }
 
-    public static class resourceInvokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvokeMethod_args, ByteBuffer> {
-      public resourceInvokeMethod() {
-        super("resourceInvokeMethod");
+    public static class resourceReadChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceReadChunk_args, ByteBuffer> {
+      public resourceReadChunk() {
+        super("resourceReadChunk");
       }
 
-      public resourceInvokeMethod_args getEmptyArgsInstance() {
-        return new resourceInvokeMethod_args();
+      public resourceReadChunk_args getEmptyArgsInstance() {
+        return new resourceReadChunk_args();
       }
 
       public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<ByteBuffer>() { 
           public void onComplete(ByteBuffer o) {
-            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            resourceReadChunk_result result = new resourceReadChunk_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2634,7 +3181,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            resourceReadChunk_result result = new resourceReadChunk_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2654,25 +3201,25 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourceInvokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
-        iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage,resultHandler);
+      public void start(I iface, resourceReadChunk_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.resourceReadChunk(args.transferId, args.offset, args.length,resultHandler);
       }
     }
 
-    public static class angularObjectUpdate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectUpdate_args, Void> {
-      public angularObjectUpdate() {
-        super("angularObjectUpdate");
+    public static class resourceCloseTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceCloseTransfer_args, Void> {
+      public resourceCloseTransfer() {
+        super("resourceCloseTransfer");
       }
 
-      public angularObjectUpdate_args getEmptyArgsInstance() {
-        return new angularObjectUpdate_args();
+      public resourceCloseTransfer_args getEmptyArgsInstance() {
+        return new resourceCloseTransfer_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            angularObjectUpdate_result result = new angularObjectUpdate_result();
+            resourceCloseTransfer_result result = new resourceCloseTransfer_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2684,7 +3231,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            angularObjectUpdate_result result = new angularObjectUpdate_result();
+            resourceCloseTransfer_result result = new resourceCloseTransfer_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2704,25 +3251,27 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, angularObjectUpdate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.angularObjectUpdate(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
+      public void start(I iface, resourceCloseTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.resourceCloseTransfer(args.transferId,resultHandler);
       }
     }
 
-    public static class angularObjectAdd<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectAdd_args, Void> {
-      public angularObjectAdd() {
-        super("angularObjectAdd");
+    public static class resourceRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceRemove_args, Boolean> {
+      public resourceRemove() {
+        super("resourceRemove");
       }
 
-      public angularObjectAdd_args getEmptyArgsInstance() {
-        return new angularObjectAdd_args();
+      public resourceRemove_args getEmptyArgsInstance() {
+        return new resourceRemove_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            angularObjectAdd_result result = new angularObjectAdd_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            resourceRemove_result result = new resourceRemove_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2734,7 +3283,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            angularObjectAdd_result result = new angularObjectAdd_result();
+            resourceRemove_result result = new resourceRemove_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2754,25 +3303,26 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, angularObjectAdd_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.angularObjectAdd(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
+      public void start(I iface, resourceRemove_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
       }
     }
 
-    public static class angularObjectRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectRemove_args, Void> {
-      public angularObjectRemove() {
-        super("angularObjectRemove");
+    public static class resourceInvokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvokeMethod_args, ByteBuffer> {
+      public resourceInvokeMethod() {
+        super("resourceInvokeMethod");
       }
 
-      public angularObjectRemove_args getEmptyArgsInstance() {
-        return new angularObjectRemove_args();
+      public resourceInvokeMethod_args getEmptyArgsInstance() {
+        return new resourceInvokeMethod_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            angularObjectRemove_result result = new angularObjectRemove_result();
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2784,7 +3334,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            angularObjectRemove_result result = new angularObjectRemove_result();
+            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2804,25 +3354,25 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, angularObjectRemove_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.angularObjectRemove(args.name, args.sessionId, args.paragraphId,resultHandler);
+      public void start(I iface, resourceInvokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage,resultHandler);
       }
     }
 
-    public static class angularRegistryPush<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularRegistryPush_args, Void> {
-      public angularRegistryPush() {
-        super("angularRegistryPush");
+    public static class angularObjectUpdate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectUpdate_args, Void> {
+      public angularObjectUpdate() {
+        super("angularObjectUpdate");
       }
 
-      public angularRegistryPush_args getEmptyArgsInstance() {
-        return new angularRegistryPush_args();
+      public angularObjectUpdate_args getEmptyArgsInstance() {
+        return new angularObjectUpdate_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            angularRegistryPush_result result = new angularRegistryPush_result();
+            angularObjectUpdate_result result = new angularObjectUpdate_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2834,7 +3384,7 @@ public class RemoteInterpreterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            angularRegistryPush_result result = new angularRegistryPush_result();
+            angularObjectUpdate_result result = new angularObjectUpdate_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2854,25 +3404,175 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, angularRegistryPush_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.angularRegistryPush(args.registry,resultHandler);
+      public void start(I iface, angularObjectUpdate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.angularObjectUpdate(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
       }
     }
 
-    public static class loadApplication<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadApplication_args, RemoteApplicationResult> {
-      public loadApplication() {
-        super("loadApplication");
+    public static class angularObjectAdd<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectAdd_args, Void> {
+      public angularObjectAdd() {
+        super("angularObjectAdd");
       }
 
-      public loadApplication_args getEmptyArgsInstance() {
-        return new loadApplication_args();
+      public angularObjectAdd_args getEmptyArgsInstance() {
+        return new angularObjectAdd_args();
       }
 
-      public AsyncMethodCallback<RemoteApplicationResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RemoteApplicationResult>() { 
-          public void onComplete(RemoteApplicationResult o) {
-            loadApplication_result result = new loadApplication_result();
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            angularObjectAdd_result result = new angularObjectAdd_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            angularObjectAdd_result result = new angularObjectAdd_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, angularObjectAdd_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.angularObjectAdd(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
+      }
+    }
+
+    public static class angularObjectRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectRemove_args, Void> {
+      public angularObjectRemove() {
+        super("angularObjectRemove");
+      }
+
+      public angularObjectRemove_args getEmptyArgsInstance() {
+        return new angularObjectRemove_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            angularObjectRemove_result result = new angularObjectRemove_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            angularObjectRemove_result result = new angularObjectRemove_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, angularObjectRemove_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.angularObjectRemove(args.name, args.sessionId, args.paragraphId,resultHandler);
+      }
+    }
+
+    public static class angularRegistryPush<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularRegistryPush_args, Void> {
+      public angularRegistryPush() {
+        super("angularRegistryPush");
+      }
+
+      public angularRegistryPush_args getEmptyArgsInstance() {
+        return new angularRegistryPush_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            angularRegistryPush_result result = new angularRegistryPush_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            angularRegistryPush_result result = new angularRegistryPush_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, angularRegistryPush_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.angularRegistryPush(args.registry,resultHandler);
+      }
+    }
+
+    public static class loadApplication<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadApplication_args, RemoteApplicationResult> {
+      public loadApplication() {
+        super("loadApplication");
+      }
+
+      public loadApplication_args getEmptyArgsInstance() {
+        return new loadApplication_args();
+      }
+
+      public AsyncMethodCallback<RemoteApplicationResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RemoteApplicationResult>() { 
+          public void onComplete(RemoteApplicationResult o) {
+            loadApplication_result result = new loadApplication_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -6570,28 +7270,31 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class cancel_args implements org.apache.thrift.TBase<cancel_args, cancel_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_args");
+  public static class submitInterpret_args implements org.apache.thrift.TBase<submitInterpret_args, submitInterpret_args._Fields>, java.io.Serializable, Cloneable, Comparable<submitInterpret_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitInterpret_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField ST_FIELD_DESC = new org.apache.thrift.protocol.TField("st", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancel_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancel_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new submitInterpret_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitInterpret_argsTupleSchemeFactory());
     }
 
     public String sessionId; // required
     public String className; // required
+    public String st; // required
     public RemoteInterpreterContext interpreterContext; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
       CLASS_NAME((short)2, "className"),
-      INTERPRETER_CONTEXT((short)3, "interpreterContext");
+      ST((short)3, "st"),
+      INTERPRETER_CONTEXT((short)4, "interpreterContext");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6610,7 +7313,9 @@ public class RemoteInterpreterService {
             return SESSION_ID;
           case 2: // CLASS_NAME
             return CLASS_NAME;
-          case 3: // INTERPRETER_CONTEXT
+          case 3: // ST
+            return ST;
+          case 4: // INTERPRETER_CONTEXT
             return INTERPRETER_CONTEXT;
           default:
             return null;
@@ -6659,49 +7364,57 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ST, new org.apache.thrift.meta_data.FieldMetaData("st", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitInterpret_args.class, metaDataMap);
     }
 
-    public cancel_args() {
+    public submitInterpret_args() {
     }
 
-    public cancel_args(
+    public submitInterpret_args(
       String sessionId,
       String className,
+      String st,
       RemoteInterpreterContext interpreterContext)
     {
       this();
       this.sessionId = sessionId;
       this.className = className;
+      this.st = st;
       this.interpreterContext = interpreterContext;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancel_args(cancel_args other) {
+    public submitInterpret_args(submitInterpret_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
       if (other.isSetClassName()) {
         this.className = other.className;
       }
+      if (other.isSetSt()) {
+        this.st = other.st;
+      }
       if (other.isSetInterpreterContext()) {
         this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
       }
     }
 
-    public cancel_args deepCopy() {
-      return new cancel_args(this);
+    public submitInterpret_args deepCopy() {
+      return new submitInterpret_args(this);
     }
 
     @Override
     public void clear() {
       this.sessionId = null;
       this.className = null;
+      this.st = null;
       this.interpreterContext = null;
     }
 
@@ -6709,7 +7422,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public cancel_args setSessionId(String sessionId) {
+    public submitInterpret_args setSessionId(String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -6733,7 +7446,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public cancel_args setClassName(String className) {
+    public submitInterpret_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -6753,11 +7466,35 @@ public class RemoteInterpreterService {
       }
     }
 
+    public String getSt() {
+      return this.st;
+    }
+
+    public submitInterpret_args setSt(String st) {
+      this.st = st;
+      return this;
+    }
+
+    public void unsetSt() {
+      this.st = null;
+    }
+
+    /** Returns true if field st is set (has been assigned a value) and false otherwise */
+    public boolean isSetSt() {
+      return this.st != null;
+    }
+
+    public void setStIsSet(boolean value) {
+      if (!value) {
+        this.st = null;
+      }
+    }
+
     public RemoteInterpreterContext getInterpreterContext() {
       return this.interpreterContext;
     }
 
-    public cancel_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+    public submitInterpret_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
       this.interpreterContext = interpreterContext;
       return this;
     }
@@ -6795,6 +7532,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case ST:
+        if (value == null) {
+          unsetSt();
+        } else {
+          setSt((String)value);
+        }
+        break;
+
       case INTERPRETER_CONTEXT:
         if (value == null) {
           unsetInterpreterContext();
@@ -6814,6 +7559,9 @@ public class RemoteInterpreterService {
       case CLASS_NAME:
         return getClassName();
 
+      case ST:
+        return getSt();
+
       case INTERPRETER_CONTEXT:
         return getInterpreterContext();
 
@@ -6832,6 +7580,8 @@ public class RemoteInterpreterService {
         return isSetSessionId();
       case CLASS_NAME:
         return isSetClassName();
+      case ST:
+        return isSetSt();
       case INTERPRETER_CONTEXT:
         return isSetInterpreterContext();
       }
@@ -6842,12 +7592,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancel_args)
-        return this.equals((cancel_args)that);
+      if (that instanceof submitInterpret_args)
+        return this.equals((submitInterpret_args)that);
       return false;
     }
 
-    public boolean equals(cancel_args that) {
+    public boolean equals(submitInterpret_args that) {
       if (that == null)
         return false;
 
@@ -6869,6 +7619,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_st = true && this.isSetSt();
+      boolean that_present_st = true && that.isSetSt();
+      if (this_present_st || that_present_st) {
+        if (!(this_present_st && that_present_st))
+          return false;
+        if (!this.st.equals(that.st))
+          return false;
+      }
+
       boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
       boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
       if (this_present_interpreterContext || that_present_interpreterContext) {
@@ -6895,6 +7654,11 @@ public class RemoteInterpreterService {
       if (present_className)
         list.add(className);
 
+      boolean present_st = true && (isSetSt());
+      list.add(present_st);
+      if (present_st)
+        list.add(st);
+
       boolean present_interpreterContext = true && (isSetInterpreterContext());
       list.add(present_interpreterContext);
       if (present_interpreterContext)
@@ -6904,7 +7668,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(cancel_args other) {
+    public int compareTo(submitInterpret_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6931,6 +7695,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetSt()).compareTo(other.isSetSt());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSt()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.st, other.st);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6958,7 +7732,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancel_args(");
+      StringBuilder sb = new StringBuilder("submitInterpret_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -6977,11 +7751,19 @@ public class RemoteInterpreterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("interpreterContext:");
-      if (this.interpreterContext == null) {
+      sb.append("st:");
+      if (this.st == null) {
         sb.append("null");
       } else {
-        sb.append(this.interpreterContext);
+        sb.append(this.st);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("interpreterContext:");
+      if (this.interpreterContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.interpreterContext);
       }
       first = false;
       sb.append(")");
@@ -7012,15 +7794,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class cancel_argsStandardSchemeFactory implements SchemeFactory {
-      public cancel_argsStandardScheme getScheme() {
-        return new cancel_argsStandardScheme();
+    private static class submitInterpret_argsStandardSchemeFactory implements SchemeFactory {
+      public submitInterpret_argsStandardScheme getScheme() {
+        return new submitInterpret_argsStandardScheme();
       }
     }
 
-    private static class cancel_argsStandardScheme extends StandardScheme<cancel_args> {
+    private static class submitInterpret_argsStandardScheme extends StandardScheme<submitInterpret_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitInterpret_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7046,7 +7828,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // INTERPRETER_CONTEXT
+            case 3: // ST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.st = iprot.readString();
+                struct.setStIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // INTERPRETER_CONTEXT
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.interpreterContext = new RemoteInterpreterContext();
                 struct.interpreterContext.read(iprot);
@@ -7066,7 +7856,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitInterpret_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7080,6 +7870,11 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.className);
           oprot.writeFieldEnd();
         }
+        if (struct.st != null) {
+          oprot.writeFieldBegin(ST_FIELD_DESC);
+          oprot.writeString(struct.st);
+          oprot.writeFieldEnd();
+        }
         if (struct.interpreterContext != null) {
           oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
           struct.interpreterContext.write(oprot);
@@ -7091,16 +7886,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class cancel_argsTupleSchemeFactory implements SchemeFactory {
-      public cancel_argsTupleScheme getScheme() {
-        return new cancel_argsTupleScheme();
+    private static class submitInterpret_argsTupleSchemeFactory implements SchemeFactory {
+      public submitInterpret_argsTupleScheme getScheme() {
+        return new submitInterpret_argsTupleScheme();
       }
     }
 
-    private static class cancel_argsTupleScheme extends TupleScheme<cancel_args> {
+    private static class submitInterpret_argsTupleScheme extends TupleScheme<submitInterpret_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitInterpret_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
@@ -7109,25 +7904,31 @@ public class RemoteInterpreterService {
         if (struct.isSetClassName()) {
           optionals.set(1);
         }
-        if (struct.isSetInterpreterContext()) {
+        if (struct.isSetSt()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetInterpreterContext()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
         if (struct.isSetClassName()) {
           oprot.writeString(struct.className);
         }
+        if (struct.isSetSt()) {
+          oprot.writeString(struct.st);
+        }
         if (struct.isSetInterpreterContext()) {
           struct.interpreterContext.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitInterpret_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
@@ -7137,6 +7938,10 @@ public class RemoteInterpreterService {
           struct.setClassNameIsSet(true);
         }
         if (incoming.get(2)) {
+          struct.st = iprot.readString();
+          struct.setStIsSet(true);
+        }
+        if (incoming.get(3)) {
           struct.interpreterContext = new RemoteInterpreterContext();
           struct.interpreterContext.read(iprot);
           struct.setInterpreterContextIsSet(true);
@@ -7146,20 +7951,22 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class cancel_result implements org.apache.thrift.TBase<cancel_result, cancel_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_result");
+  public static class submitInterpret_result implements org.apache.thrift.TBase<submitInterpret_result, submitInterpret_result._Fields>, java.io.Serializable, Cloneable, Comparable<submitInterpret_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitInterpret_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancel_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancel_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new submitInterpret_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitInterpret_resultTupleSchemeFactory());
     }
 
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7174,6 +7981,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -7212,37 +8021,87 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitInterpret_result.class, metaDataMap);
     }
 
-    public cancel_result() {
+    public submitInterpret_result() {
+    }
+
+    public submitInterpret_result(
+      String success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancel_result(cancel_result other) {
+    public submitInterpret_result(submitInterpret_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    public cancel_result deepCopy() {
-      return new cancel_result(this);
+    public submitInterpret_result deepCopy() {
+      return new submitInterpret_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public submitInterpret_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -7254,6 +8113,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -7262,15 +8123,24 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancel_result)
-        return this.equals((cancel_result)that);
+      if (that instanceof submitInterpret_result)
+        return this.equals((submitInterpret_result)that);
       return false;
     }
 
-    public boolean equals(cancel_result that) {
+    public boolean equals(submitInterpret_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -7278,17 +8148,32 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cancel_result other) {
+    public int compareTo(submitInterpret_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7306,9 +8191,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancel_result(");
+      StringBuilder sb = new StringBuilder("submitInterpret_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7334,15 +8226,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class cancel_resultStandardSchemeFactory implements SchemeFactory {
-      public cancel_resultStandardScheme getScheme() {
-        return new cancel_resultStandardScheme();
+    private static class submitInterpret_resultStandardSchemeFactory implements SchemeFactory {
+      public submitInterpret_resultStandardScheme getScheme() {
+        return new submitInterpret_resultStandardScheme();
       }
     }
 
-    private static class cancel_resultStandardScheme extends StandardScheme<cancel_result> {
+    private static class submitInterpret_resultStandardScheme extends StandardScheme<submitInterpret_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitInterpret_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7352,6 +8244,14 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7363,39 +8263,57 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitInterpret_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancel_resultTupleSchemeFactory implements SchemeFactory {
-      public cancel_resultTupleScheme getScheme() {
-        return new cancel_resultTupleScheme();
+    private static class submitInterpret_resultTupleSchemeFactory implements SchemeFactory {
+      public submitInterpret_resultTupleScheme getScheme() {
+        return new submitInterpret_resultTupleScheme();
       }
     }
 
-    private static class cancel_resultTupleScheme extends TupleScheme<cancel_result> {
+    private static class submitInterpret_resultTupleScheme extends TupleScheme<submitInterpret_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitInterpret_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitInterpret_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getProgress_args implements org.apache.thrift.TBase<getProgress_args, getProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_args");
+  public static class cancel_args implements org.apache.thrift.TBase<cancel_args, cancel_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
@@ -7403,8 +8321,8 @@ public class RemoteInterpreterService {
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getProgress_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getProgress_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancel_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancel_argsTupleSchemeFactory());
     }
 
     public String sessionId; // required
@@ -7486,13 +8404,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_args.class, metaDataMap);
     }
 
-    public getProgress_args() {
+    public cancel_args() {
     }
 
-    public getProgress_args(
+    public cancel_args(
       String sessionId,
       String className,
       RemoteInterpreterContext interpreterContext)
@@ -7506,7 +8424,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getProgress_args(getProgress_args other) {
+    public cancel_args(cancel_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -7518,8 +8436,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public getProgress_args deepCopy() {
-      return new getProgress_args(this);
+    public cancel_args deepCopy() {
+      return new cancel_args(this);
     }
 
     @Override
@@ -7533,7 +8451,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public getProgress_args setSessionId(String sessionId) {
+    public cancel_args setSessionId(String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -7557,7 +8475,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public getProgress_args setClassName(String className) {
+    public cancel_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -7581,7 +8499,7 @@ public class RemoteInterpreterService {
       return this.interpreterContext;
     }
 
-    public getProgress_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+    public cancel_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
       this.interpreterContext = interpreterContext;
       return this;
     }
@@ -7666,12 +8584,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getProgress_args)
-        return this.equals((getProgress_args)that);
+      if (that instanceof cancel_args)
+        return this.equals((cancel_args)that);
       return false;
     }
 
-    public boolean equals(getProgress_args that) {
+    public boolean equals(cancel_args that) {
       if (that == null)
         return false;
 
@@ -7728,7 +8646,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getProgress_args other) {
+    public int compareTo(cancel_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7782,7 +8700,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getProgress_args(");
+      StringBuilder sb = new StringBuilder("cancel_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -7836,15 +8754,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getProgress_argsStandardSchemeFactory implements SchemeFactory {
-      public getProgress_argsStandardScheme getScheme() {
-        return new getProgress_argsStandardScheme();
+    private static class cancel_argsStandardSchemeFactory implements SchemeFactory {
+      public cancel_argsStandardScheme getScheme() {
+        return new cancel_argsStandardScheme();
       }
     }
 
-    private static class getProgress_argsStandardScheme extends StandardScheme<getProgress_args> {
+    private static class cancel_argsStandardScheme extends StandardScheme<cancel_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7890,7 +8808,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7915,16 +8833,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getProgress_argsTupleSchemeFactory implements SchemeFactory {
-      public getProgress_argsTupleScheme getScheme() {
-        return new getProgress_argsTupleScheme();
+    private static class cancel_argsTupleSchemeFactory implements SchemeFactory {
+      public cancel_argsTupleScheme getScheme() {
+        return new cancel_argsTupleScheme();
       }
     }
 
-    private static class getProgress_argsTupleScheme extends TupleScheme<getProgress_args> {
+    private static class cancel_argsTupleScheme extends TupleScheme<cancel_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
@@ -7949,7 +8867,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -7970,22 +8888,20 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class getProgress_result implements org.apache.thrift.TBase<getProgress_result, getProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_result");
+  public static class cancel_result implements org.apache.thrift.TBase<cancel_result, cancel_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getProgress_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getProgress_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancel_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancel_resultTupleSchemeFactory());
     }
 
-    public int success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8000,8 +8916,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -8040,89 +8954,37 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_result.class, metaDataMap);
-    }
-
-    public getProgress_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_result.class, metaDataMap);
     }
 
-    public getProgress_result(
-      int success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public cancel_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getProgress_result(getProgress_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public cancel_result(cancel_result other) {
     }
 
-    public getProgress_result deepCopy() {
-      return new getProgress_result(this);
+    public cancel_result deepCopy() {
+      return new cancel_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-    }
-
-    public int getSuccess() {
-      return this.success;
-    }
-
-    public getProgress_result setSuccess(int success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Integer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Integer.valueOf(getSuccess());
-
       }
       throw new IllegalStateException();
     }
@@ -8134,8 +8996,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -8144,24 +9004,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getProgress_result)
-        return this.equals((getProgress_result)that);
+      if (that instanceof cancel_result)
+        return this.equals((cancel_result)that);
       return false;
     }
 
-    public boolean equals(getProgress_result that) {
+    public boolean equals(cancel_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       return true;
     }
 
@@ -8169,32 +9020,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getProgress_result other) {
+    public int compareTo(cancel_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -8212,12 +9048,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getProgress_result(");
+      StringBuilder sb = new StringBuilder("cancel_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8237,23 +9070,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getProgress_resultStandardSchemeFactory implements SchemeFactory {
-      public getProgress_resultStandardScheme getScheme() {
-        return new getProgress_resultStandardScheme();
+    private static class cancel_resultStandardSchemeFactory implements SchemeFactory {
+      public cancel_resultStandardScheme getScheme() {
+        return new cancel_resultStandardScheme();
       }
     }
 
-    private static class getProgress_resultStandardScheme extends StandardScheme<getProgress_result> {
+    private static class cancel_resultStandardScheme extends StandardScheme<cancel_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8263,14 +9094,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8282,74 +9105,59 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getProgress_resultTupleSchemeFactory implements SchemeFactory {
-      public getProgress_resultTupleScheme getScheme() {
-        return new getProgress_resultTupleScheme();
+    private static class cancel_resultTupleSchemeFactory implements SchemeFactory {
+      public cancel_resultTupleScheme getScheme() {
+        return new cancel_resultTupleScheme();
       }
     }
 
-    private static class getProgress_resultTupleScheme extends TupleScheme<getProgress_result> {
+    private static class cancel_resultTupleScheme extends TupleScheme<cancel_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readI32();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getFormType_args implements org.apache.thrift.TBase<getFormType_args, getFormType_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_args");
+  public static class getProgress_args implements org.apache.thrift.TBase<getProgress_args, getProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFormType_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFormType_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getProgress_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getProgress_argsTupleSchemeFactory());
     }
 
     public String sessionId; // required
     public String className; // required
+    public RemoteInterpreterContext interpreterContext; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
-      CLASS_NAME((short)2, "className");
+      CLASS_NAME((short)2, "className"),
+      INTERPRETER_CONTEXT((short)3, "interpreterContext");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8368,6 +9176,8 @@ public class RemoteInterpreterService {
             return SESSION_ID;
           case 2: // CLASS_NAME
             return CLASS_NAME;
+          case 3: // INTERPRETER_CONTEXT
+            return INTERPRETER_CONTEXT;
           default:
             return null;
         }
@@ -8415,49 +9225,57 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_args.class, metaDataMap);
     }
 
-    public getFormType_args() {
+    public getProgress_args() {
     }
 
-    public getFormType_args(
+    public getProgress_args(
       String sessionId,
-      String className)
+      String className,
+      RemoteInterpreterContext interpreterContext)
     {
       this();
       this.sessionId = sessionId;
       this.className = className;
+      this.interpreterContext = interpreterContext;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFormType_args(getFormType_args other) {
+    public getProgress_args(getProgress_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
       if (other.isSetClassName()) {
         this.className = other.className;
       }
+      if (other.isSetInterpreterContext()) {
+        this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
+      }
     }
 
-    public getFormType_args deepCopy() {
-      return new getFormType_args(this);
+    public getProgress_args deepCopy() {
+      return new getProgress_args(this);
     }
 
     @Override
     public void clear() {
       this.sessionId = null;
       this.className = null;
+      this.interpreterContext = null;
     }
 
     public String getSessionId() {
       return this.sessionId;
     }
 
-    public getFormType_args setSessionId(String sessionId) {
+    public getProgress_args setSessionId(String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -8481,7 +9299,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public getFormType_args setClassName(String className) {
+    public getProgress_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -8501,6 +9319,30 @@ public class RemoteInterpreterService {
       }
     }
 
+    public RemoteInterpreterContext getInterpreterContext() {
+      return this.interpreterContext;
+    }
+
+    public getProgress_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+      this.interpreterContext = interpreterContext;
+      return this;
+    }
+
+    public void unsetInterpreterContext() {
+      this.interpreterContext = null;
+    }
+
+    /** Returns true if field interpreterContext is set (has been assigned a value) and false otherwise */
+    public boolean isSetInterpreterContext() {
+      return this.interpreterContext != null;
+    }
+
+    public void setInterpreterContextIsSet(boolean value) {
+      if (!value) {
+        this.interpreterContext = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SESSION_ID:
@@ -8519,6 +9361,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case INTERPRETER_CONTEXT:
+        if (value == null) {
+          unsetInterpreterContext();
+        } else {
+          setInterpreterContext((RemoteInterpreterContext)value);
+        }
+        break;
+
       }
     }
 
@@ -8530,6 +9380,9 @@ public class RemoteInterpreterService {
       case CLASS_NAME:
         return getClassName();
 
+      case INTERPRETER_CONTEXT:
+        return getInterpreterContext();
+
       }
       throw new IllegalStateException();
     }
@@ -8545,6 +9398,8 @@ public class RemoteInterpreterService {
         return isSetSessionId();
       case CLASS_NAME:
         return isSetClassName();
+      case INTERPRETER_CONTEXT:
+        return isSetInterpreterContext();
       }
       throw new IllegalStateException();
     }
@@ -8553,12 +9408,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFormType_args)
-        return this.equals((getFormType_args)that);
+      if (that instanceof getProgress_args)
+        return this.equals((getProgress_args)that);
       return false;
     }
 
-    public boolean equals(getFormType_args that) {
+    public boolean equals(getProgress_args that) {
       if (that == null)
         return false;
 
@@ -8580,6 +9435,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
+      boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
+      if (this_present_interpreterContext || that_present_interpreterContext) {
+        if (!(this_present_interpreterContext && that_present_interpreterContext))
+          return false;
+        if (!this.interpreterContext.equals(that.interpreterContext))
+          return false;
+      }
+
       return true;
     }
 
@@ -8597,11 +9461,16 @@ public class RemoteInterpreterService {
       if (present_className)
         list.add(className);
 
-      return list.hashCode();
-    }
+      boolean present_interpreterContext = true && (isSetInterpreterContext());
+      list.add(present_interpreterContext);
+      if (present_interpreterContext)
+        list.add(interpreterContext);
+
+      return list.hashCode();
+    }
 
     @Override
-    public int compareTo(getFormType_args other) {
+    public int compareTo(getProgress_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8628,6 +9497,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInterpreterContext()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interpreterContext, other.interpreterContext);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8645,7 +9524,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFormType_args(");
+      StringBuilder sb = new StringBuilder("getProgress_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -8663,6 +9542,14 @@ public class RemoteInterpreterService {
         sb.append(this.className);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("interpreterContext:");
+      if (this.interpreterContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.interpreterContext);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8670,6 +9557,9 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (interpreterContext != null) {
+        interpreterContext.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8688,15 +9578,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getFormType_argsStandardSchemeFactory implements SchemeFactory {
-      public getFormType_argsStandardScheme getScheme() {
-        return new getFormType_argsStandardScheme();
+    private static class getProgress_argsStandardSchemeFactory implements SchemeFactory {
+      public getProgress_argsStandardScheme getScheme() {
+        return new getProgress_argsStandardScheme();
       }
     }
 
-    private static class getFormType_argsStandardScheme extends StandardScheme<getFormType_args> {
+    private static class getProgress_argsStandardScheme extends StandardScheme<getProgress_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8722,6 +9612,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // INTERPRETER_CONTEXT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.interpreterContext = new RemoteInterpreterContext();
+                struct.interpreterContext.read(iprot);
+                struct.setInterpreterContextIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8733,7 +9632,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8747,22 +9646,27 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.className);
           oprot.writeFieldEnd();
         }
+        if (struct.interpreterContext != null) {
+          oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
+          struct.interpreterContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFormType_argsTupleSchemeFactory implements SchemeFactory {
-      public getFormType_argsTupleScheme getScheme() {
-        return new getFormType_argsTupleScheme();
+    private static class getProgress_argsTupleSchemeFactory implements SchemeFactory {
+      public getProgress_argsTupleScheme getScheme() {
+        return new getProgress_argsTupleScheme();
       }
     }
 
-    private static class getFormType_argsTupleScheme extends TupleScheme<getFormType_args> {
+    private static class getProgress_argsTupleScheme extends TupleScheme<getProgress_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
@@ -8771,19 +9675,25 @@ public class RemoteInterpreterService {
         if (struct.isSetClassName()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetInterpreterContext()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
         if (struct.isSetClassName()) {
           oprot.writeString(struct.className);
         }
+        if (struct.isSetInterpreterContext()) {
+          struct.interpreterContext.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
@@ -8792,23 +9702,28 @@ public class RemoteInterpreterService {
           struct.className = iprot.readString();
           struct.setClassNameIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.interpreterContext = new RemoteInterpreterContext();
+          struct.interpreterContext.read(iprot);
+          struct.setInterpreterContextIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFormType_result implements org.apache.thrift.TBase<getFormType_result, getFormType_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_result");
+  public static class getProgress_result implements org.apache.thrift.TBase<getProgress_result, getProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFormType_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFormType_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getProgress_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getProgress_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public int success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8869,65 +9784,67 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_result.class, metaDataMap);
     }
 
-    public getFormType_result() {
+    public getProgress_result() {
     }
 
-    public getFormType_result(
-      String success)
+    public getProgress_result(
+      int success)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFormType_result(getFormType_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public getProgress_result(getProgress_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public getFormType_result deepCopy() {
-      return new getFormType_result(this);
+    public getProgress_result deepCopy() {
+      return new getProgress_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0;
     }
 
-    public String getSuccess() {
+    public int getSuccess() {
       return this.success;
     }
 
-    public getFormType_result setSuccess(String success) {
+    public getProgress_result setSuccess(int success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8936,7 +9853,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Integer)value);
         }
         break;
 
@@ -8946,7 +9863,7 @@ public class RemoteInterpreterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Integer.valueOf(getSuccess());
 
       }
       throw new IllegalStateException();
@@ -8969,21 +9886,21 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFormType_result)
-        return this.equals((getFormType_result)that);
+      if (that instanceof getProgress_result)
+        return this.equals((getProgress_result)that);
       return false;
     }
 
-    public boolean equals(getFormType_result that) {
+    public boolean equals(getProgress_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -8994,7 +9911,7 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -9003,7 +9920,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getFormType_result other) {
+    public int compareTo(getProgress_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9037,15 +9954,11 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFormType_result(");
+      StringBuilder sb = new StringBuilder("getProgress_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9066,21 +9979,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFormType_resultStandardSchemeFactory implements SchemeFactory {
-      public getFormType_resultStandardScheme getScheme() {
-        return new getFormType_resultStandardScheme();
+    private static class getProgress_resultStandardSchemeFactory implements SchemeFactory {
+      public getProgress_resultStandardScheme getScheme() {
+        return new getProgress_resultStandardScheme();
       }
     }
 
-    private static class getFormType_resultStandardScheme extends StandardScheme<getFormType_result> {
+    private static class getProgress_resultStandardScheme extends StandardScheme<getProgress_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9091,8 +10006,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -9109,13 +10024,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeI32(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9124,16 +10039,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getFormType_resultTupleSchemeFactory implements SchemeFactory {
-      public getFormType_resultTupleScheme getScheme() {
-        return new getFormType_resultTupleScheme();
+    private static class getProgress_resultTupleSchemeFactory implements SchemeFactory {
+      public getProgress_resultTupleScheme getScheme() {
+        return new getProgress_resultTupleScheme();
       }
     }
 
-    private static class getFormType_resultTupleScheme extends TupleScheme<getFormType_result> {
+    private static class getProgress_resultTupleScheme extends TupleScheme<getProgress_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9141,16 +10056,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeI32(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readI32();
           struct.setSuccessIsSet(true);
         }
       }
@@ -9158,34 +10073,25 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class completion_args implements org.apache.thrift.TBase<completion_args, completion_args._Fields>, java.io.Serializable, Cloneable, Comparable<completion_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_args");
+  public static class getFormType_args implements org.apache.thrift.TBase<getFormType_args, getFormType_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField BUF_FIELD_DESC = new org.apache.thrift.protocol.TField("buf", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I32, (short)4);
-    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completion_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completion_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFormType_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFormType_argsTupleSchemeFactory());
     }
 
     public String sessionId; // required
     public String className; // required
-    public String buf; // required
-    public int cursor; // required
-    public RemoteInterpreterContext interpreterContext; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
-      CLASS_NAME((short)2, "className"),
-      BUF((short)3, "buf"),
-      CURSOR((short)4, "cursor"),
-      INTERPRETER_CONTEXT((short)5, "interpreterContext");
+      CLASS_NAME((short)2, "className");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9204,12 +10110,6 @@ public class RemoteInterpreterService {
             return SESSION_ID;
           case 2: // CLASS_NAME
             return CLASS_NAME;
-          case 3: // BUF
-            return BUF;
-          case 4: // CURSOR
-            return CURSOR;
-          case 5: // INTERPRETER_CONTEXT
-            return INTERPRETER_CONTEXT;
           default:
             return null;
         }
@@ -9250,8 +10150,6 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
-    private static final int __CURSOR_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -9259,74 +10157,49 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.BUF, new org.apache.thrift.meta_data.FieldMetaData("buf", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_args.class, metaDataMap);
     }
 
-    public completion_args() {
+    public getFormType_args() {
     }
 
-    public completion_args(
+    public getFormType_args(
       String sessionId,
-      String className,
-      String buf,
-      int cursor,
-      RemoteInterpreterContext interpreterContext)
+      String className)
     {
       this();
       this.sessionId = sessionId;
       this.className = className;
-      this.buf = buf;
-      this.cursor = cursor;
-      setCursorIsSet(true);
-      this.interpreterContext = interpreterContext;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completion_args(completion_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public getFormType_args(getFormType_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
       if (other.isSetClassName()) {
         this.className = other.className;
       }
-      if (other.isSetBuf()) {
-        this.buf = other.buf;
-      }
-      this.cursor = other.cursor;
-      if (other.isSetInterpreterContext()) {
-        this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
-      }
     }
 
-    public completion_args deepCopy() {
-      return new completion_args(this);
+    public getFormType_args deepCopy() {
+      return new getFormType_args(this);
     }
 
     @Override
     public void clear() {
       this.sessionId = null;
       this.className = null;
-      this.buf = null;
-      setCursorIsSet(false);
-      this.cursor = 0;
-      this.interpreterContext = null;
     }
 
     public String getSessionId() {
       return this.sessionId;
     }
 
-    public completion_args setSessionId(String sessionId) {
+    public getFormType_args setSessionId(String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -9350,7 +10223,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public completion_args setClassName(String className) {
+    public getFormType_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -9370,77 +10243,6 @@ public class RemoteInterpreterService {
       }
     }
 
-    public String getBuf() {
-      return this.buf;
-    }
-
-    public completion_args setBuf(String buf) {
-      this.buf = buf;
-      return this;
-    }
-
-    public void unsetBuf() {
-      this.buf = null;
-    }
-
-    /** Returns true if field buf is set (has been assigned a value) and false otherwise */
-    public boolean isSetBuf() {
-      return this.buf != null;
-    }
-
-    public void setBufIsSet(boolean value) {
-      if (!value) {
-        this.buf = null;
-      }
-    }
-
-    public int getCursor() {
-      return this.cursor;
-    }
-
-    public completion_args setCursor(int cursor) {
-      this.cursor = cursor;
-      setCursorIsSet(true);
-      return this;
-    }
-
-    public void unsetCursor() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURSOR_ISSET_ID);
-    }
-
-    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
-    public boolean isSetCursor() {
-      return EncodingUtils.testBit(__isset_bitfield, __CURSOR_ISSET_ID);
-    }
-
-    public void setCursorIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURSOR_ISSET_ID, value);
-    }
-
-    public RemoteInterpreterContext getInterpreterContext() {
-      return this.interpreterContext;
-    }
-
-    public completion_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
-      this.interpreterContext = interpreterContext;
-      return this;
-    }
-
-    public void unsetInterpreterContext() {
-      this.interpreterContext = null;
-    }
-
-    /** Returns true if field interpreterContext is set (has been assigned a value) and false otherwise */
-    public boolean isSetInterpreterContext() {
-      return this.interpreterContext != null;
-    }
-
-    public void setInterpreterContextIsSet(boolean value) {
-      if (!value) {
-        this.interpreterContext = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SESSION_ID:
@@ -9459,30 +10261,6 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case BUF:
-        if (value == null) {
-          unsetBuf();
-        } else {
-          setBuf((String)value);
-        }
-        break;
-
-      case CURSOR:
-        if (value == null) {
-          unsetCursor();
-        } else {
-          setCursor((Integer)value);
-        }
-        break;
-
-      case INTERPRETER_CONTEXT:
-        if (value == null) {
-          unsetInterpreterContext();
-        } else {
-          setInterpreterContext((RemoteInterpreterContext)value);
-        }
-        break;
-
       }
     }
 
@@ -9494,15 +10272,6 @@ public class RemoteInterpreterService {
       case CLASS_NAME:
         return getClassName();
 
-      case BUF:
-        return getBuf();
-
-      case CURSOR:
-        return Integer.valueOf(getCursor());
-
-      case INTERPRETER_CONTEXT:
-        return getInterpreterContext();
-
       }
       throw new IllegalStateException();
     }
@@ -9518,12 +10287,6 @@ public class RemoteInterpreterService {
         return isSetSessionId();
       case CLASS_NAME:
         return isSetClassName();
-      case BUF:
-        return isSetBuf();
-      case CURSOR:
-        return isSetCursor();
-      case INTERPRETER_CONTEXT:
-        return isSetInterpreterContext();
       }
       throw new IllegalStateException();
     }
@@ -9532,12 +10295,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completion_args)
-        return this.equals((completion_args)that);
+      if (that instanceof getFormType_args)
+        return this.equals((getFormType_args)that);
       return false;
     }
 
-    public boolean equals(completion_args that) {
+    public boolean equals(getFormType_args that) {
       if (that == null)
         return false;
 
@@ -9559,33 +10322,6 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_buf = true && this.isSetBuf();
-      boolean that_present_buf = true && that.isSetBuf();
-      if (this_present_buf || that_present_buf) {
-        if (!(this_present_buf && that_present_buf))
-          return false;
-        if (!this.buf.equals(that.buf))
-          return false;
-      }
-
-      boolean this_present_cursor = true;
-      boolean that_present_cursor = true;
-      if (this_present_cursor || that_present_cursor) {
-        if (!(this_present_cursor && that_present_cursor))
-          return false;
-        if (this.cursor != that.cursor)
-          return false;
-      }
-
-      boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
-      boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
-      if (this_present_interpreterContext || that_present_interpreterContext) {
-        if (!(this_present_interpreterContext && that_present_interpreterContext))
-          return false;
-        if (!this.interpreterContext.equals(that.interpreterContext))
-          return false;
-      }
-
       return true;
     }
 
@@ -9603,26 +10339,11 @@ public class RemoteInterpreterService {
       if (present_className)
         list.add(className);
 
-      boolean present_buf = true && (isSetBuf());
-      list.add(present_buf);
-      if (present_buf)
-        list.add(buf);
-
-      boolean present_cursor = true;
-      list.add(present_cursor);
-      if (present_cursor)
-        list.add(cursor);
-
-      boolean present_interpreterContext = true && (isSetInterpreterContext());
-      list.add(present_interpreterContext);
-      if (present_interpreterContext)
-        list.add(interpreterContext);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(completion_args other) {
+    public int compareTo(getFormType_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9649,36 +10370,6 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBuf()).compareTo(other.isSetBuf());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetBuf()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buf, other.buf);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetCursor()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetInterpreterContext()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interpreterContext, other.interpreterContext);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9696,7 +10387,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completion_args(");
+      StringBuilder sb = new StringBuilder("getFormType_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -9714,26 +10405,6 @@ public class RemoteInterpreterService {
         sb.append(this.className);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("buf:");
-      if (this.buf == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.buf);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("cursor:");
-      sb.append(this.cursor);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("interpreterContext:");
-      if (this.interpreterContext == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.interpreterContext);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9741,9 +10412,6 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (interpreterContext != null) {
-        interpreterContext.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -9756,23 +10424,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class completion_argsStandardSchemeFactory implements SchemeFactory {
-      public completion_argsStandardScheme getScheme() {
-        return new completion_argsStandardScheme();
+    private static class getFormType_argsStandardSchemeFactory implements SchemeFactory {
+      public getFormType_argsStandardScheme getScheme() {
+        return new getFormType_argsStandardScheme();
       }
     }
 
-    private static class completion_argsStandardScheme extends StandardScheme<completion_args> {
+    private static class getFormType_argsStandardScheme extends StandardScheme<getFormType_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9798,31 +10464,6 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // BUF
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.buf = iprot.readString();
-                struct.setBufIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // CURSOR
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.cursor = iprot.readI32();
-                struct.setCursorIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 5: // INTERPRETER_CONTEXT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.interpreterContext = new RemoteInterpreterContext();
-                struct.interpreterContext.read(iprot);
-                struct.setInterpreterContextIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9834,7 +10475,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9848,35 +10489,22 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.className);
           oprot.writeFieldEnd();
         }
-        if (struct.buf != null) {
-          oprot.writeFieldBegin(BUF_FIELD_DESC);
-          oprot.writeString(struct.buf);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
-        oprot.writeI32(struct.cursor);
-        oprot.writeFieldEnd();
-        if (struct.interpreterContext != null) {
-          oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
-          struct.interpreterContext.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class completion_argsTupleSchemeFactory implements SchemeFactory {
-      public completion_argsTupleScheme getScheme() {
-        return new completion_argsTupleScheme();
+    private static class getFormType_argsTupleSchemeFactory implements SchemeFactory {
+      public getFormType_argsTupleScheme getScheme() {
+        return new getFormType_argsTupleScheme();
       }
     }
 
-    private static class completion_argsTupleScheme extends TupleScheme<completion_args> {
+    private static class getFormType_argsTupleScheme extends TupleScheme<getFormType_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
@@ -9885,37 +10513,19 @@ public class RemoteInterpreterService {
         if (struct.isSetClassName()) {
           optionals.set(1);
         }
-        if (struct.isSetBuf()) {
-          optionals.set(2);
-        }
-        if (struct.isSetCursor()) {
-          optionals.set(3);
-        }
-        if (struct.isSetInterpreterContext()) {
-          optionals.set(4);
-        }
-        oprot.writeBitSet(optionals, 5);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
         if (struct.isSetClassName()) {
           oprot.writeString(struct.className);
         }
-        if (struct.isSetBuf()) {
-          oprot.writeString(struct.buf);
-        }
-        if (struct.isSetCursor()) {
-          oprot.writeI32(struct.cursor);
-        }
-        if (struct.isSetInterpreterContext()) {
-          struct.interpreterContext.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(5);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
@@ -9924,36 +10534,23 @@ public class RemoteInterpreterService {
           struct.className = iprot.readString();
           struct.setClassNameIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.buf = iprot.readString();
-          struct.setBufIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.cursor = iprot.readI32();
-          struct.setCursorIsSet(true);
-        }
-        if (incoming.get(4)) {
-          struct.interpreterContext = new RemoteInterpreterContext();
-          struct.interpreterContext.read(iprot);
-          struct.setInterpreterContextIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class completion_result implements org.apache.thrift.TBase<completion_result, completion_result._Fields>, java.io.Serializable, Cloneable, Comparable<completion_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_result");
+  public static class getFormType_result implements org.apache.thrift.TBase<getFormType_result, getFormType_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completion_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completion_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFormType_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFormType_resultTupleSchemeFactory());
     }
 
-    public List<InterpreterCompletion> success; // required
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10018,17 +10615,16 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterCompletion.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_result.class, metaDataMap);
     }
 
-    public completion_result() {
+    public getFormType_result() {
     }
 
-    public completion_result(
-      List<InterpreterCompletion> success)
+    public getFormType_result(
+      String success)
     {
       this();
       this.success = success;
@@ -10037,18 +10633,14 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completion_result(completion_result other) {
+    public getFormType_result(getFormType_result other) {
       if (other.isSetSuccess()) {
-        List<InterpreterCompletion> __this__success = new ArrayList<InterpreterCompletion>(other.success.size());
-        for (InterpreterCompletion other_element : other.success) {
-          __this__success.add(new InterpreterCompletion(other_element));
-        }
-        this.success = __this__success;
+        this.success = other.success;
       }
     }
 
-    public completion_result deepCopy() {
-      return new completion_result(this);
+    public getFormType_result deepCopy() {
+      return new getFormType_result(this);
     }
 
     @Override
@@ -10056,26 +10648,11 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<InterpreterCompletion> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(InterpreterCompletion elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<InterpreterCompletion>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<InterpreterCompletion> getSuccess() {
+    public String getSuccess() {
       return this.success;
     }
 
-    public completion_result setSuccess(List<InterpreterCompletion> success) {
+    public getFormType_result setSuccess(String success) {
       this.success = success;
       return this;
     }
@@ -10101,7 +10678,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<InterpreterCompletion>)value);
+          setSuccess((String)value);
         }
         break;
 
@@ -10134,12 +10711,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completion_result)
-        return this.equals((completion_result)that);
+      if (that instanceof getFormType_result)
+        return this.equals((getFormType_result)that);
       return false;
     }
 
-    public boolean equals(completion_result that) {
+    public boolean equals(getFormType_result that) {
       if (that == null)
         return false;
 
@@ -10168,7 +10745,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(completion_result other) {
+    public int compareTo(getFormType_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10202,7 +10779,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completion_result(");
+      StringBuilder sb = new StringBuilder("getFormType_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10237,15 +10814,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class completion_resultStandardSchemeFactory implements SchemeFactory {
-      public completion_resultStandardScheme getScheme() {
-        return new completion_resultStandardScheme();
+    private static class getFormType_resultStandardSchemeFactory implements SchemeFactory {
+      public getFormType_resultStandardScheme getScheme() {
+        return new getFormType_resultStandardScheme();
       }
     }
 
-    private static class completion_resultStandardScheme extends StandardScheme<completion_result> {
+    private static class getFormType_resultStandardScheme extends StandardScheme<getFormType_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10256,19 +10833,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list28 = iprot.readListBegin();
-                  struct.success = new ArrayList<InterpreterCompletion>(_list28.size);
-                  InterpreterCompletion _elem29;
-                  for (int _i30 = 0; _i30 < _list28.size; ++_i30)
-                  {
-                    _elem29 = new InterpreterCompletion();
-                    _elem29.read(iprot);
-                    struct.success.add(_elem29);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10285,20 +10851,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InterpreterCompletion _iter31 : struct.success)
-            {
-              _iter31.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10307,16 +10866,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class completion_resultTupleSchemeFactory implements SchemeFactory {
-      public completion_resultTupleScheme getScheme() {
-        return new completion_resultTupleScheme();
+    private static class getFormType_resultTupleSchemeFactory implements SchemeFactory {
+      public getFormType_resultTupleScheme getScheme() {
+        return new getFormType_resultTupleScheme();
       }
     }
 
-    private static class completion_resultTupleScheme extends TupleScheme<completion_result> {
+    private static class getFormType_resultTupleScheme extends TupleScheme<getFormType_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10324,32 +10883,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (InterpreterCompletion _iter32 : struct.success)
-            {
-              _iter32.write(oprot);
-            }
-          }
+          oprot.writeString(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list33 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<InterpreterCompletion>(_list33.size);
-            InterpreterCompletion _elem34;
-            for (int _i35 = 0; _i35 < _list33.size; ++_i35)
-            {
-              _elem34 = new InterpreterCompletion();
-              _elem34.read(iprot);
-              struct.success.add(_elem34);
-            }
-          }
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
       }
@@ -10357,20 +10900,34 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class shutdown_args implements org.apache.thrift.TBase<shutdown_args, shutdown_args._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_args");
+  public static class completion_args implements org.apache.thrift.TBase<completion_args, completion_args._Fields>, java.io.Serializable, Cloneable, Comparable<completion_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_args");
 
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BUF_FIELD_DESC = new org.apache.thrift.protocol.TField("buf", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new shutdown_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new shutdown_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completion_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completion_argsTupleSchemeFactory());
     }
 
+    public String sessionId; // required
+    public String className; // required
+    public String buf; // required
+    public int cursor; // required
+    public RemoteInterpreterContext interpreterContext; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SESSION_ID((short)1, "sessionId"),
+      CLASS_NAME((short)2, "className"),
+      BUF((short)3, "buf"),
+      CURSOR((short)4, "cursor"),
+      INTERPRETER_CONTEXT((short)5, "interpreterContext");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10385,6 +10942,16 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // CLASS_NAME
+            return CLASS_NAME;
+          case 3: // BUF
+            return BUF;
+          case 4: // CURSOR
+            return CURSOR;
+          case 5: // INTERPRETER_CONTEXT
+            return INTERPRETER_CONTEXT;
           default:
             return null;
         }
@@ -10423,37 +10990,4175 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __CURSOR_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_args.class, metaDataMap);
-    }
-
-    public shutdown_args() {
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BUF, new org.apache.thrift.meta_data.FieldMetaData("buf", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_args.class, metaDataMap);
+    }
+
+    public completion_args() {
+    }
+
+    public completion_args(
+      String sessionId,
+      String className,
+      String buf,
+      int cursor,
+      RemoteInterpreterContext interpreterContext)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.className = className;
+      this.buf = buf;
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      this.interpreterContext = interpreterContext;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completion_args(completion_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetClassName()) {
+        this.className = other.className;
+      }
+      if (other.isSetBuf()) {
+        this.buf = other.buf;
+      }
+      this.cursor = other.cursor;
+      if (other.isSetInterpreterContext()) {
+        this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
+      }
+    }
+
+    public completion_args deepCopy() {
+      return new completion_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionId = null;
+      this.className = null;
+      this.buf = null;
+      setCursorIsSet(false);
+      this.cursor = 0;
+      this.interpreterContext = null;
+    }
+
+    public String getSessionId() {
+      return this.sessionId;
+    }
+
+    public completion_args setSessionId(String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    public String getClassName() {
+      return this.className;
+    }
+
+    public completion_args setClassName(String className) {
+      this.className = className;
+      return this;
+    }
+
+    public void unsetClassName() {
+      this.className = null;
+    }
+
+    /** Returns true if field className is set (has been assigned a value) and false otherwise */
+    public boolean isSetClassName() {
+      return this.className != null;
+    }
+
+    public void setClassNameIsSet(boolean value) {
+      if (!value) {
+        this.className = null;
+      }
+    }
+
+    public String getBuf() {
+      return this.buf;
+    }
+
+    public completion_args setBuf(String buf) {
+      this.buf = buf;
+      return this;
+    }
+
+    public void unsetBuf() {
+      this.buf = null;
+    }
+
+    /** Returns true if field buf is set (has been assigned a value) and false otherwise */
+    public boolean isSetBuf() {
+      return this.buf != null;
+    }
+
+    public void setBufIsSet(boolean value) {
+      if (!value) {
+        this.buf = null;
+      }
+    }
+
+    public int getCursor() {
+      return this.cursor;
+    }
+
+    public completion_args setCursor(int cursor) {
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      return this;
+    }
+
+    public void unsetCursor() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return EncodingUtils.testBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    public void setCursorIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURSOR_ISSET_ID, value);
+    }
+
+    public RemoteInterpreterContext getInterpreterContext() {
+      return this.interpreterContext;
+    }
+
+    public completion_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+      this.interpreterContext = interpreterContext;
+      return this;
+    }
+
+    public void unsetInterpreterContext() {
+      this.interpreterContext = null;
+    }
+
+    /** Returns true if field interpreterContext is set (has been assigned a value) and false otherwise */
+    public boolean isSetInterpreterContext() {
+      return this.interpreterContext != null;
+    }
+
+    public void setInterpreterContextIsSet(boolean value) {
+      if (!value) {
+        this.interpreterContext = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((String)value);
+        }
+        break;
+
+      case CLASS_NAME:
+        if (value == null) {
+          unsetClassName();
+        } else {
+          setClassName((String)value);
+        }
+        break;
+
+      case BUF:
+        if (value == null) {
+          unsetBuf();
+        } else {
+          setBuf((String)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((Integer)value);
+        }
+        break;
+
+      case INTERPRETER_CONTEXT:
+        if (value == null) {
+          unsetInterpreterContext();
+        } else {
+          setInterpreterContext((RemoteInterpreterContext)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case CLASS_NAME:
+        return getClassName();
+
+      case BUF:
+        return getBuf();
+
+      case CURSOR:
+        return Integer.valueOf(getCursor());
+
+      case INTERPRETER_CONTEXT:
+        return getInterpreterContext();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case CLASS_NAME:
+        return isSetClassName();
+      case BUF:
+        return isSetBuf();
+      case CURSOR:
+        return isSetCursor();
+      case INTERPRETER_CONTEXT:
+        return isSetInterpreterContext();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completion_args)
+        return this.equals((completion_args)that);
+      return false;
+    }
+
+    public boolean equals(completion_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_className = true && this.isSetClassName();
+      boolean that_present_className = true && that.isSetClassName();
+      if (this_present_className || that_present_className) {
+        if (!(this_present_className && that_present_className))
+          return false;
+        if (!this.className.equals(that.className))
+          return false;
+      }
+
+      boolean this_present_buf = true && this.isSetBuf();
+      boolean that_present_buf = true && that.isSetBuf();
+      if (this_present_buf || that_present_buf) {
+        if (!(this_present_buf && that_present_buf))
+          return false;
+        if (!this.buf.equals(that.buf))
+          return false;
+      }
+
+      boolean this_present_cursor = true;
+      boolean that_present_cursor = true;
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (this.cursor != that.cursor)
+          return false;
+      }
+
+      boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
+      boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
+      if (this_present_interpreterContext || that_present_interpreterContext) {
+        if (!(this_present_interpreterContext && that_present_interpreterContext))
+          return false;
+        if (!this.interpreterContext.equals(that.interpreterContext))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionId = true && (isSetSessionId());
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_className = true && (isSetClassName());
+      list.add(present_className);
+      if (present_className)
+        list.add(className);
+
+      boolean present_buf = true && (isSetBuf());
+      list.add(present_buf);
+      if (present_buf)
+        list.add(buf);
+
+      boolean present_cursor = true;
+      list.add(present_cursor);
+      if (present_cursor)
+        list.add(cursor);
+
+      boolean present_interpreterContext = true && (isSetInterpreterContext());
+      list.add(present_interpreterContext);
+      if (present_interpreterContext)
+        list.add(interpreterContext);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completion_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClassName()).compareTo(other.isSetClassName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClassName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.className, other.className);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBuf()).compareTo(other.isSetBuf());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBuf()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buf, other.buf);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInterpreterContext()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interpreterContext, other.interpreterContext);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completion_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("className:");
+      if (this.className == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.className);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("buf:");
+      if (this.buf == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.buf);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      sb.append(this.cursor);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("interpreterContext:");
+      if (this.interpreterContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.interpreterContext);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (interpreterContext != null) {
+        interpreterContext.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completion_argsStandardSchemeFactory implements SchemeFactory {
+      public completion_argsStandardScheme getScheme() {
+        return new completion_argsStandardScheme();
+      }
+    }
+
+    private static class completion_argsStandardScheme extends StandardScheme<completion_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLASS_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.className = iprot.readString();
+                struct.setClassNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BUF
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.buf = iprot.readString();
+                struct.setBufIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.cursor = iprot.readI32();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // INTERPRETER_CONTEXT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.interpreterContext = new RemoteInterpreterContext();
+                struct.interpreterContext.read(iprot);
+                struct.setInterpreterContextIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.className != null) {
+          oprot.writeFieldBegin(CLASS_NAME_FIELD_DESC);
+          oprot.writeString(struct.className);
+          oprot.writeFieldEnd();
+        }
+        if (struct.buf != null) {
+          oprot.writeFieldBegin(BUF_FIELD_DESC);
+          oprot.writeString(struct.buf);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+        oprot.writeI32(struct.cursor);
+        oprot.writeFieldEnd();
+        if (struct.interpreterContext != null) {
+          oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
+          struct.interpreterContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completion_argsTupleSchemeFactory implements SchemeFactory {
+      public completion_argsTupleScheme getScheme() {
+        return new completion_argsTupleScheme();
+      }
+    }
+
+    private static class completion_argsTupleScheme extends TupleScheme<completion_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClassName()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBuf()) {
+          optionals.set(2);
+        }
+        if (struct.isSetCursor()) {
+          optionals.set(3);
+        }
+        if (struct.isSetInterpreterContext()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetClassName()) {
+          oprot.writeString(struct.className);
+        }
+        if (struct.isSetBuf()) {
+          oprot.writeString(struct.buf);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeI32(struct.cursor);
+        }
+        if (struct.isSetInterpreterContext()) {
+          struct.interpreterContext.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.className = iprot.readString();
+          struct.setClassNameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.buf = iprot.readString();
+          struct.setBufIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.cursor = iprot.readI32();
+          struct.setCursorIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.interpreterContext = new RemoteInterpreterContext();
+          struct.interpreterContext.read(iprot);
+          struct.setInterpreterContextIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completion_result implements org.apache.thrift.TBase<completion_result, completion_result._Fields>, java.io.Serializable, Cloneable, Comparable<completion_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completion_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completion_resultTupleSchemeFactory());
+    }
+
+    public List<InterpreterCompletion> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterCompletion.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_result.class, metaDataMap);
+    }
+
+    public completion_result() {
+    }
+
+    public completion_result(
+      List<InterpreterCompletion> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completion_result(completion_result other) {
+      if (other.isSetSuccess()) {
+        List<InterpreterCompletion> __this__success = new ArrayList<InterpreterCompletion>(other.success.size());
+        for (InterpreterCompletion other_element : other.success) {
+          __this__success.add(new InterpreterCompletion(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public completion_result deepCopy() {
+      return new completion_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<InterpreterCompletion> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(InterpreterCompletion elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<InterpreterCompletion>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<InterpreterCompletion> getSuccess() {
+      return this.success;
+    }
+
+    public completion_result setSuccess(List<InterpreterCompletion> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<InterpreterCompletion>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completion_result)
+        return this.equals((completion_result)that);
+      return false;
+    }
+
+    public boolean equals(completion_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completion_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completion_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completion_resultStandardSchemeFactory implements SchemeFactory {
+      public completion_resultStandardScheme getScheme() {
+        return new completion_resultStandardScheme();
+      }
+    }
+
+    private static class completion_resultStandardScheme extends StandardScheme<completion_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list28 = iprot.readListBegin();
+                  struct.success = new ArrayList<InterpreterCompletion>(_list28.size);
+                  InterpreterCompletion _elem29;
+                  for (int _i30 = 0; _i30 < _list28.size; ++_i30)
+                  {
+                    _elem29 = new InterpreterCompletion();
+                    _elem29.read(iprot);
+                    struct.success.add(_elem29);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (InterpreterCompletion _iter31 : struct.success)
+            {
+              _iter31.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completion_resultTupleSchemeFactory implements SchemeFactory {
+      public completion_resultTupleScheme getScheme() {
+        return new completion_resultTupleScheme();
+      }
+    }
+
+    private static class completion_resultTupleScheme extends TupleScheme<completion_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (InterpreterCompletion _iter32 : struct.success)
+            {
+              _iter32.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list33 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<InterpreterCompletion>(_list33.size);
+            InterpreterCompletion _elem34;
+            for (int _i35 = 0; _i35 < _list33.size; ++_i35)
+            {
+              _elem34 = new InterpreterCompletion();
+              _elem34.read(iprot);
+              struct.success.add(_elem34);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class shutdown_args implements org.apache.thrift.TBase<shutdown_args, shutdown_args._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shutdown_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shutdown_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_args.class, metaDataMap);
+    }
+
+    public shutdown_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shutdown_args(shutdown_args other) {
+    }
+
+    public shutdown_args deepCopy() {
+      return new shutdown_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shutdown_args)
+        return this.equals((shutdown_args)that);
+      return false;
+    }
+
+    public boolean equals(shutdown_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(shutdown_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shutdown_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class shutdown_argsStandardSchemeFactory implements SchemeFactory {
+      public shutdown_argsStandardScheme getScheme() {
+        return new shutdown_argsStandardScheme();
+      }
+    }
+
+    private static class shutdown_argsStandardScheme extends StandardScheme<shutdown_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shutdown_argsTupleSchemeFactory implements SchemeFactory {
+      public shutdown_argsTupleScheme getScheme() {
+        return new shutdown_argsTupleScheme();
+      }
+    }
+
+    private static class shutdown_argsTupleScheme extends TupleScheme<shutdown_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class shutdown_result implements org.apache.thrift.TBase<shutdown_result, shutdown_result._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shutdown_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shutdown_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_result.class, metaDataMap);
+    }
+
+    public shutdown_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shutdown_result(shutdown_result other) {
+    }
+
+    public shutdown_result deepCopy() {
+      return new shutdown_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shutdown_result)
+        return this.equals((shutdown_result)that);
+      return false;
+    }
+
+    public boolean equals(shutdown_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(shutdown_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shutdown_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class shutdown_resultStandardSchemeFactory implements SchemeFactory {
+      public shutdown_resultStandardScheme getScheme() {
+        return new shutdown_resultStandardScheme();
+      }
+    }
+
+    private static class shutdown_resultStandardScheme extends StandardScheme<shutdown_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shutdown_resultTupleSchemeFactory implements SchemeFactory {
+      public shutdown_resultTupleScheme getScheme() {
+        return new shutdown_resultTupleScheme();
+      }
+    }
+
+    private static class shutdown_resultTupleScheme extends TupleScheme<shutdown_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+    }
+
+    public String sessionId; // required
+    public String jobId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_ID((short)1, "sessionId"),
+      JOB_ID((short)2, "jobId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // JOB_ID
+            return JOB_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+    }
+
+    public getStatus_args() {
+    }
+
+    public getStatus_args(
+      String sessionId,
+      String jobId)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.jobId = jobId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatus_args(getStatus_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+    }
+
+    public getStatus_args deepCopy() {
+      return new getStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionId = null;
+      this.jobId = null;
+    }
+
+    public String getSessionId() {
+      return this.sessionId;
+    }
+
+    public getStatus_args setSessionId(String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    public String getJobId() {
+      return this.jobId;
+    }
+
+    public getStatus_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public void unsetJobId() {
+      this.jobId = null;
+    }
+
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
+
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((String)value);
+        }
+        break;
+
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case JOB_ID:
+        return getJobId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case JOB_ID:
+        return isSetJobId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatus_args)
+        return this.equals((getStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(getStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionId = true && (isSetSessionId());
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStatus_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatus_argsStandardScheme getScheme() {
+        return new getStatus_argsStandardScheme();
+      }
+    }
+
+    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatus_argsTupleScheme getScheme() {
+        return new getStatus_argsTupleScheme();
+      }
+    }
+
+    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJobId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+    }
+
+    public getStatus_result() {
+    }
+
+    public getStatus_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatus_result(getStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public getStatus_result deepCopy() {
+      return new getStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public getStatus_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatus_result)
+        return this.equals((getStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(getStatus_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStatus_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatus_resultStandardScheme getScheme() {
+        return new getStatus_resultStandardScheme();
+      }
+    }
+
+    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatus_resultTupleScheme getScheme() {
+        return new getStatus_resultTupleScheme();
+      }
+    }
+
+    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class fetchInterpretResult_args implements org.apache.thrift.TBase<fetchInterpretResult_args, fetchInterpretResult_args._Fields>, java.io.Serializable, Cloneable, Comparable<fetchInterpretResult_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchInterpretResult_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchInterpretResult_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchInterpretResult_argsTupleSchemeFactory());
+    }
+
+    public String sessionId; // required
+    public String jobId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_ID((short)1, "sessionId"),
+      JOB_ID((short)2, "jobId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // JOB_ID
+            return JOB_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchInterpretResult_args.class, metaDataMap);
+    }
+
+    public fetchInterpretResult_args() {
+    }
+
+    public fetchInterpretResult_args(
+      String sessionId,
+      String jobId)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.jobId = jobId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchInterpretResult_args(fetchInterpretResult_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+    }
+
+    public fetchInterpretResult_args deepCopy() {
+      return new fetchInterpretResult_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionId = null;
+      this.jobId = null;
+    }
+
+    public String getSessionId() {
+      return this.sessionId;
+    }
+
+    public fetchInterpretResult_args setSessionId(String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    public String getJobId() {
+      return this.jobId;
+    }
+
+    public fetchInterpretResult_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public void unsetJobId() {
+      this.jobId = null;
+    }
+
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
+
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((String)value);
+        }
+        break;
+
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case JOB_ID:
+        return getJobId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case JOB_ID:
+        return isSetJobId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchInterpretResult_args)
+        return this.equals((fetchInterpretResult_args)that);
+      return false;
+    }
+
+    public boolean equals(fetchInterpretResult_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionId = true && (isSetSessionId());
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchInterpretResult_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchInterpretResult_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchInterpretResult_argsStandardSchemeFactory implements SchemeFactory {
+      public fetchInterpretResult_argsStandardScheme getScheme() {
+        return new fetchInterpretResult_argsStandardScheme();
+      }
+    }
+
+    private static class fetchInterpretResult_argsStandardScheme extends StandardScheme<fetchInterpretResult_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchInterpretResult_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchInterpretResult_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchInterpretResult_argsTupleSchemeFactory implements SchemeFactory {
+      public fetchInterpretResult_argsTupleScheme getScheme() {
+        return new fetchInterpretResult_argsTupleScheme();
+      }
+    }
+
+    private static class fetchInterpretResult_argsTupleScheme extends TupleScheme<fetchInterpretResult_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchInterpretResult_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJobId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchInterpretResult_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class fetchInterpretResult_result implements org.apache.thrift.TBase<fetchInterpretResult_result, fetchInterpretResult_result._Fields>, java.io.Serializable, Cloneable, Comparable<fetchInterpretResult_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchInterpretResult_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchInterpretResult_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchInterpretResult_resultTupleSchemeFactory());
+    }
+
+    public RemoteInterpreterResult success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterResult.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchInterpretResult_result.class, metaDataMap);
+    }
+
+    public fetchInterpretResult_result() {
+    }
+
+    public fetchInterpretResult_result(
+      RemoteInterpreterResult success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchInterpretResult_result(fetchInterpretResult_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RemoteInterpreterResult(other.success);
+      }
+    }
+
+    public fetchInterpretResult_result deepCopy() {
+      return new fetchInterpretResult_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public RemoteInterpreterResult getSuccess() {
+      return this.success;
+    }
+
+    public fetchInterpretResult_result setSuccess(RemoteInterpreterResult success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RemoteInterpreterResult)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchInterpretResult_result)
+        return this.equals((fetchInterpretResult_result)that);
+      return false;
+    }
+
+    public boolean equals(fetchInterpretResult_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchInterpretResult_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchInterpretResult_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchInterpretResult_resultStandardSchemeFactory implements SchemeFactory {
+      public fetchInterpretResult_resultStandardScheme getScheme() {
+        return new fetchInterpretResult_resultStandardScheme();
+      }
+    }
+
+    private static class fetchInterpretResult_resultStandardScheme extends StandardScheme<fetchInterpretResult_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchInterpretResult_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RemoteInterpreterResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchInterpretResult_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchInterpretResult_resultTupleSchemeFactory implements SchemeFactory {
+      public fetchInterpretResult_resultTupleScheme getScheme() {
+        return new fetchInterpretResult_resultTupleScheme();
+      }
+    }
+
+    private static class fetchInterpretResult_resultTupleScheme extends TupleScheme<fetchInterpretResult_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchInterpretResult_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchInterpretResult_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new RemoteInterpreterResult();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourcePoolGetAll_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolGetAll_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    }
+
+    public resourcePoolGetAll_args deepCopy() {
+      return new resourcePoolGetAll_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_args)
+        return this.equals((resourcePoolGetAll_args)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourcePoolGetAll_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolGetAll_argsStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardScheme extends StandardScheme<resourcePoolGetAll_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_argsTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolGetAll_argsTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsTupleScheme extends TupleScheme<resourcePoolGetAll_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourcePoolGetAll_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourcePoolGetAll_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_result() {
+    }
+
+    public resourcePoolGetAll_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public resourcePoolGetAll_result deepCopy() {
+      return new resourcePoolGetAll_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public resourcePoolGetAll_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_result)
+        return this.equals((resourcePoolGetAll_result)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("resourcePoolGetAll_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolGetAll_resultStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardScheme extends StandardScheme<resourcePoolGetAll_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list36.size);
+                  String _elem37;
+                  for (int _i38 = 0; _i38 < _list36.size; ++_i38)
+                  {
+                    _elem37 = iprot.readString();
+                    struct.success.add(_elem37);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter39 : struct.success)
+            {
+              oprot.writeString(_iter39);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_resultTupleSchemeFactory implements SchemeFactory {
+      public resourcePoolGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolGetAll_resultTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultTupleScheme extends TupleScheme<resourcePoolGetAll_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter40 : struct.success)
+            {
+              oprot.writeString(_iter40);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list41 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list41.size);
+            String _elem42;
+            for (int _i43 = 0; _i43 < _list41.size; ++_i43)
+            {
+              _elem42 = iprot.readString();
+              struct.success.add(_elem42);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new resourceGet_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceGet_argsTupleSchemeFactory());
+    }
+
+    public String sessionId; // required
+    public String paragraphId; // required
+    public String resourceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_ID((short)1, "sessionId"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+    }
+
+    public resourceGet_args() {
+    }
+
+    public resourceGet_args(
+      String sessionId,
+      String paragraphId,
+      String resourceName)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
      */
-    public shutdown_args(shutdown_args other) {
+    public resourceGet_args(resourceGet_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
     }
 
-    public shutdown_args deepCopy() {
-      return new shutdown_args(this);
+    public resourceGet_args deepCopy() {
+      return new resourceGet_args(this);
     }
 
     @Override
     public void clear() {
+      this.sessionId = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+    }
+
+    public String getSessionId() {
+      return this.sessionId;
+    }
+
+    public resourceGet_args setSessionId(String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    public String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public resourceGet_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceGet_args setResourceName(String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
       }
       throw new IllegalStateException();
     }
@@ -10465,6 +15170,12 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
       }
       throw new IllegalStateException();
     }
@@ -10473,15 +15184,42 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof shutdown_args)
-        return this.equals((shutdown_args)that);
+      if (that instanceof resourceGet_args)
+        return this.equals((resourceGet_args)that);
       return false;
     }
 
-    public boolean equals(shutdown_args that) {
+    public boolean equals(resourceGet_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
       return true;
     }
 
@@ -10489,17 +15227,62 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_sessionId = true && (isSetSessionId());
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_resourceName = true && (isSetResourceName());
+      list.add(present_resourceName);
+      if (present_resourceName)
+        list.add(resourceName);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(shutdown_args other) {
+    public int compareTo(resourceGet_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10517,9 +15300,32 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("shutdown_args(");
+      StringBuilder sb = new StringBuilder("resourceGet_args(");
       boolean first = true;
 
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10545,15 +15351,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class shutdown_argsStandardSchemeFactory implements SchemeFactory {
-      public shutdown_argsStandardScheme getScheme() {
-        return new shutdown_argsStandardScheme();
+    private static class resourceGet_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceGet_argsStandardScheme getScheme() {
+        return new resourceGet_argsStandardScheme();
       }
     }
 
-    private static class shutdown_argsStandardScheme extends StandardScheme<shutdown_args> {
+    private static class resourceGet_argsStandardScheme extends StandardScheme<resourceGet_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10563,6 +15369,30 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10574,51 +15404,101 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class shutdown_argsTupleSchemeFactory implements SchemeFactory {
-      public shutdown_argsTupleScheme getScheme() {
-        return new shutdown_argsTupleScheme();
+    private static class resourceGet_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceGet_argsTupleScheme getScheme() {
+        return new resourceGet_argsTupleScheme();
       }
     }
 
-    private static class shutdown_argsTupleScheme extends TupleScheme<shutdown_args> {
+    private static class resourceGet_argsTupleScheme extends TupleScheme<resourceGet_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class shutdown_result implements org.apache.thrift.TBase<shutdown_result, shutdown_result._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_result");
+  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new shutdown_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new shutdown_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceGet_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceGet_resultTupleSchemeFactory());
     }
 
+    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10633,6 +15513,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -10671,37 +15553,97 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
     }
 
-    public shutdown_result() {
+    public resourceGet_result() {
+    }
+
+    public resourceGet_result(
+      ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public shutdown_result(shutdown_result other) {
+    public resourceGet_result(resourceGet_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public shutdown_result deepCopy() {
-      return new shutdown_result(this);
+    public resourceGet_result deepCopy() {
+      return new resourceGet_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceGet_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
+    }
+
+    public resourceGet_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ByteBuffer)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -10713,6 +15655,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -10721,15 +15665,24 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof shutdown_result)
-        return this.equals((shutdown_result)that);
+      if (that instanceof resourceGet_result)
+        return this.equals((resourceGet_result)that);
       return false;
     }
 
-    public boolean equals(shutdown_result that) {
+    public boolean equals(resourceGet_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -10737,17 +15690,32 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(shutdown_result other) {
+    public int compareTo(resourceGet_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10765,9 +15733,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("shutdown_result(");
+      StringBuilder sb = new StringBuilder("resourceGet_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10793,15 +15768,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class shutdown_resultStandardSchemeFactory implements SchemeFactory {
-      public shutdown_resultStandardScheme getScheme() {
-        return new shutdown_resultStandardScheme();
+    private static class resourceGet_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceGet_resultStandardScheme getScheme() {
+        return new resourceGet_resultStandardScheme();
       }
     }
 
-    private static class shutdown_resultStandardScheme extends StandardScheme<shutdown_result> {
+    private static class resourceGet_resultStandardScheme extends StandardScheme<resourceGet_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10811,6 +15786,14 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10822,56 +15805,86 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class shutdown_resultTupleSchemeFactory implements SchemeFactory {
-      public shutdown_resultTupleScheme getScheme() {
-        return new shutdown_resultTupleScheme();
+    private static class resourceGet_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceGet_resultTupleScheme getScheme() {
+        return new resourceGet_resultTupleScheme();
       }
     }
 
-    private static class shutdown_resultTupleScheme extends TupleScheme<shutdown_result> {
+    private static class resourceGet_resultTupleScheme extends TupleScheme<resourceGet_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+  public static class resourceOpenTransfer_args implements org.apache.thrift.TBase<resourceOpenTransfer_args, resourceOpenTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceOpenTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceOpenTransfer_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField CODEC_FIELD_DESC = new org.apache.thrift.protocol.TField("codec", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField SPILL_THRESHOLD_FIELD_DESC = new org.apache.thrift.protocol.TField("spillThreshold", org.apache.thrift.protocol.TType.I64, (short)5);
+    private static final org.apache.thrift.protocol.TField COMPRESSION_FIELD_DESC = new org.apache.thrift.protocol.TField("compression", org.apache.thrift.protocol.TType.STRING, (short)6);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceOpenTransfer_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceOpenTransfer_argsTupleSchemeFactory());
     }
 
     public String sessionId; // required
-    public String jobId; // required
+    public String paragraphId; // required
+    public String resourceName; // required
+    public String codec; // required
+    public long spillThreshold; // required
+    public String compression; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
-      JOB_ID((short)2, "jobId");
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName"),
+      CODEC((short)4, "codec"),
+      SPILL_THRESHOLD((short)5, "spillThreshold"),
+      COMPRESSION((short)6, "compression");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10888,8 +15901,16 @@ public class RemoteInterpreterService {
         switch(fieldId) {
           case 1: // SESSION_ID
             return SESSION_ID;
-          case 2: // JOB_ID
-            return JOB_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          case 4: // CODEC
+            return CODEC;
+          case 5: // SPILL_THRESHOLD
+            return SPILL_THRESHOLD;
+          case 6: // COMPRESSION
+            return COMPRESSION;
           default:
             return null;
         }
@@ -10930,56 +15951,91 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __SPILLTHRESHOLD_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CODEC, new org.apache.thrift.meta_data.FieldMetaData("codec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SPILL_THRESHOLD, new org.apache.thrift.meta_data.FieldMetaData("spillThreshold", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.COMPRESSION, new org.apache.thrift.meta_data.FieldMetaData("compression", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceOpenTransfer_args.class, metaDataMap);
     }
 
-    public getStatus_args() {
+    public resourceOpenTransfer_args() {
     }
 
-    public getStatus_args(
+    public resourceOpenTransfer_args(
       String sessionId,
-      String jobId)
+      String paragraphId,
+      String resourceName,
+      String codec,
+      long spillThreshold,
+      String compression)
     {
       this();
       this.sessionId = sessionId;
-      this.jobId = jobId;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+      this.codec = codec;
+      this.spillThreshold = spillThreshold;
+      setSpillThresholdIsSet(true);
+      this.compression = compression;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_args(getStatus_args other) {
+    public resourceOpenTransfer_args(resourceOpenTransfer_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
-      if (other.isSetJobId()) {
-        this.jobId = other.jobId;
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+      if (other.isSetCodec()) {
+        this.codec = other.codec;
+      }
+      this.spillThreshold = other.spillThreshold;
+      if (other.isSetCompression()) {
+        this.compression = other.compression;
       }
     }
 
-    public getStatus_args deepCopy() {
-      return new getStatus_args(this);
+    public resourceOpenTransfer_args deepCopy() {
+      return new resourceOpenTransfer_args(this);
     }
 
     @Override
     public void clear() {
       this.sessionId = null;
-      this.jobId = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+      this.codec = null;
+      setSpillThresholdIsSet(false);
+      this.spillThreshold = 0;
+      this.compression = null;
     }
 
     public String getSessionId() {
       return this.sessionId;
     }
 
-    public getStatus_args setSessionId(String sessionId) {
+    public resourceOpenTransfer_args setSessionId(String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -10999,27 +16055,122 @@ public class RemoteInterpreterService {
       }
     }
 
-    public String getJobId() {
-      return this.jobId;
+    public String getParagraphId() {
+      return this.paragraphId;
     }
 
-    public getStatus_args setJobId(String jobId) {
-      this.jobId = jobId;
+    public resourceOpenTransfer_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
       return this;
     }
 
-    public void unsetJobId() {
-      this.jobId = null;
+    public void unsetParagraphId() {
+      this.paragraphId = null;
     }
 
-    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
-    public boolean isSetJobId() {
-      return this.jobId != null;
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
     }
 
-    public void setJobIdIsSet(boolean value) {
+    public void setParagraphIdIsSet(boolean value) {
       if (!value) {
-        this.jobId = null;
+        this.paragraphId = null;
+      }
+    }
+
+    public String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceOpenTransfer_args setResourceName(String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public String getCodec() {
+      return this.codec;
+    }
+
+    public resourceOpenTransfer_args setCodec(String codec) {
+      this.codec = codec;
+      return this;
+    }
+
+    public void unsetCodec() {
+      this.codec = null;
+    }
+
+    /** Returns true if field codec is set (has been assigned a value) and false otherwise */
+    public boolean isSetCodec() {
+      return this.codec != null;
+    }
+
+    public void setCodecIsSet(boolean value) {
+      if (!value) {
+        this.codec = null;
+      }
+    }
+
+    public long getSpillThreshold() {
+      return this.spillThreshold;
+    }
+
+    public resourceOpenTransfer_args setSpillThreshold(long spillThreshold) {
+      this.spillThreshold = spillThreshold;
+      setSpillThresholdIsSet(true);
+      return this;
+    }
+
+    public void unsetSpillThreshold() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SPILLTHRESHOLD_ISSET_ID);
+    }
+
+    /** Returns true if field spillThreshold is set (has been assigned a value) and false otherwise */
+    public boolean isSetSpillThreshold() {
+      return EncodingUtils.testBit(__isset_bitfield, __SPILLTHRESHOLD_ISSET_ID);
+    }
+
+    public void setSpillThresholdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SPILLTHRESHOLD_ISSET_ID, value);
+    }
+
+    public String getCompression() {
+      return this.compression;
+    }
+
+    public resourceOpenTransfer_args setCompression(String compression) {
+      this.compression = compression;
+      return this;
+    }
+
+    public void unsetCompression() {
+      this.compression = null;
+    }
+
+    /** Returns true if field compression is set (has been assigned a value) and false otherwise */
+    public boolean isSetCompression() {
+      return this.compression != null;
+    }
+
+    public void setCompressionIsSet(boolean value) {
+      if (!value) {
+        this.compression = null;
       }
     }
 
@@ -11029,15 +16180,47 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSessionId();
         } else {
-          setSessionId((String)value);
+          setSessionId((String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((String)value);
+        }
+        break;
+
+      case CODEC:
+        if (value == null) {
+          unsetCodec();
+        } else {
+          setCodec((String)value);
+        }
+        break;
+
+      case SPILL_THRESHOLD:
+        if (value == null) {
+          unsetSpillThreshold();
+        } else {
+          setSpillThreshold((Long)value);
         }
         break;
 
-      case JOB_ID:
+      case COMPRESSION:
         if (value == null) {
-          unsetJobId();
+          unsetCompression();
         } else {
-          setJobId((String)value);
+          setCompression((String)value);
         }
         break;
 
@@ -11049,8 +16232,20 @@ public class RemoteInterpreterService {
       case SESSION_ID:
         return getSessionId();
 
-      case JOB_ID:
-        return getJobId();
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      case CODEC:
+        return getCodec();
+
+      case SPILL_THRESHOLD:
+        return Long.valueOf(getSpillThreshold());
+
+      case COMPRESSION:
+        return getCompression();
 
       }
       throw new IllegalStateException();
@@ -11065,8 +16260,16 @@ public class RemoteInterpreterService {
       switch (field) {
       case SESSION_ID:
         return isSetSessionId();
-      case JOB_ID:
-        return isSetJobId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      case CODEC:
+        return isSetCodec();
+      case SPILL_THRESHOLD:
+        return isSetSpillThreshold();
+      case COMPRESSION:
+        return isSetCompression();
       }
       throw new IllegalStateException();
     }
@@ -11075,12 +16278,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_args)
-        return this.equals((getStatus_args)that);
+      if (that instanceof resourceOpenTransfer_args)
+        return this.equals((resourceOpenTransfer_args)that);
       return false;
     }
 
-    public boolean equals(getStatus_args that) {
+    public boolean equals(resourceOpenTransfer_args that) {
       if (that == null)
         return false;
 
@@ -11093,12 +16296,48 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_jobId = true && this.isSetJobId();
-      boolean that_present_jobId = true && that.isSetJobId();
-      if (this_present_jobId || that_present_jobId) {
-        if (!(this_present_jobId && that_present_jobId))
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
           return false;
-        if (!this.jobId.equals(that.jobId))
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      boolean this_present_codec = true && this.isSetCodec();
+      boolean that_present_codec = true && that.isSetCodec();
+      if (this_present_codec || that_present_codec) {
+        if (!(this_present_codec && that_present_codec))
+          return false;
+        if (!this.codec.equals(that.codec))
+          return false;
+      }
+
+      boolean this_present_spillThreshold = true;
+      boolean that_present_spillThreshold = true;
+      if (this_present_spillThreshold || that_present_spillThreshold) {
+        if (!(this_present_spillThreshold && that_present_spillThreshold))
+          return false;
+        if (this.spillThreshold != that.spillThreshold)
+          return false;
+      }
+
+      boolean this_present_compression = true && this.isSetCompression();
+      boolean that_present_compression = true && that.isSetCompression();
+      if (this_present_compression || that_present_compression) {
+        if (!(this_present_compression && that_present_compression))
+          return false;
+        if (!this.compression.equals(that.compression))
           return false;
       }
 
@@ -11114,16 +16353,36 @@ public class RemoteInterpreterService {
       if (present_sessionId)
         list.add(sessionId);
 
-      boolean present_jobId = true && (isSetJobId());
-      list.add(present_jobId);
-      if (present_jobId)
-        list.add(jobId);
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
+
+      boolean present_resourceName = true && (isSetResourceName());
+      list.add(present_resourceName);
+      if (present_resourceName)
+        list.add(resourceName);
+
+      boolean present_codec = true && (isSetCodec());
+      list.add(present_codec);
+      if (present_codec)
+        list.add(codec);
+
+      boolean present_spillThreshold = true;
+      list.add(present_spillThreshold);
+      if (present_spillThreshold)
+        list.add(spillThreshold);
+
+      boolean present_compression = true && (isSetCompression());
+      list.add(present_compression);
+      if (present_compression)
+        list.add(compression);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getStatus_args other) {
+    public int compareTo(resourceOpenTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11140,12 +16399,52 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJobId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCodec()).compareTo(other.isSetCodec());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCodec()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.codec, other.codec);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSpillThreshold()).compareTo(other.isSetSpillThreshold());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSpillThreshold()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.spillThreshold, other.spillThreshold);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCompression()).compareTo(other.isSetCompression());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCompression()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.compression, other.compression);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11167,7 +16466,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_args(");
+      StringBuilder sb = new StringBuilder("resourceOpenTransfer_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -11178,11 +16477,39 @@ public class RemoteInterpreterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("jobId:");
-      if (this.jobId == null) {
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
         sb.append("null");
       } else {
-        sb.append(this.jobId);
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("codec:");
+      if (this.codec == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.codec);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("spillThreshold:");
+      sb.append(this.spillThreshold);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("compression:");
+      if (this.compression == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.compression);
       }
       first = false;
       sb.append(")");
@@ -11204,21 +16531,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatus_argsStandardScheme getScheme() {
-        return new getStatus_argsStandardScheme();
+    private static class resourceOpenTransfer_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceOpenTransfer_argsStandardScheme getScheme() {
+        return new resourceOpenTransfer_argsStandardScheme();
       }
     }
 
-    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+    private static class resourceOpenTransfer_argsStandardScheme extends StandardScheme<resourceOpenTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11236,10 +16565,42 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JOB_ID
+            case 2: // PARAGRAPH_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.jobId = iprot.readString();
-                struct.setJobIdIsSet(true);
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // CODEC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.codec = iprot.readString();
+                struct.setCodecIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // SPILL_THRESHOLD
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.spillThreshold = iprot.readI64();
+                struct.setSpillThresholdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // COMPRESSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.compression = iprot.readString();
+                struct.setCompressionIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11255,7 +16616,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11264,9 +16625,27 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.sessionId);
           oprot.writeFieldEnd();
         }
-        if (struct.jobId != null) {
-          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
-          oprot.writeString(struct.jobId);
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.codec != null) {
+          oprot.writeFieldBegin(CODEC_FIELD_DESC);
+          oprot.writeString(struct.codec);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(SPILL_THRESHOLD_FIELD_DESC);
+        oprot.writeI64(struct.spillThreshold);
+        oprot.writeFieldEnd();
+        if (struct.compression != null) {
+          oprot.writeFieldBegin(COMPRESSION_FIELD_DESC);
+          oprot.writeString(struct.compression);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11275,59 +16654,99 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatus_argsTupleScheme getScheme() {
-        return new getStatus_argsTupleScheme();
+    private static class resourceOpenTransfer_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceOpenTransfer_argsTupleScheme getScheme() {
+        return new resourceOpenTransfer_argsTupleScheme();
       }
     }
 
-    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+    private static class resourceOpenTransfer_argsTupleScheme extends TupleScheme<resourceOpenTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        if (struct.isSetJobId()) {
+        if (struct.isSetParagraphId()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        if (struct.isSetCodec()) {
+          optionals.set(3);
+        }
+        if (struct.isSetSpillThreshold()) {
+          optionals.set(4);
+        }
+        if (struct.isSetCompression()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
-        if (struct.isSetJobId()) {
-          oprot.writeString(struct.jobId);
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+        if (struct.isSetCodec()) {
+          oprot.writeString(struct.codec);
+        }
+        if (struct.isSetSpillThreshold()) {
+          oprot.writeI64(struct.spillThreshold);
+        }
+        if (struct.isSetCompression()) {
+          oprot.writeString(struct.compression);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(6);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.jobId = iprot.readString();
-          struct.setJobIdIsSet(true);
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.codec = iprot.readString();
+          struct.setCodecIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.spillThreshold = iprot.readI64();
+          struct.setSpillThresholdIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.compression = iprot.readString();
+          struct.setCompressionIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+  public static class resourceOpenTransfer_result implements org.apache.thrift.TBase<resourceOpenTransfer_result, resourceOpenTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceOpenTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceOpenTransfer_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceOpenTransfer_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceOpenTransfer_resultTupleSchemeFactory());
     }
 
     public String success; // required
@@ -11397,13 +16816,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceOpenTransfer_result.class, metaDataMap);
     }
 
-    public getStatus_result() {
+    public resourceOpenTransfer_result() {
     }
 
-    public getStatus_result(
+    public resourceOpenTransfer_result(
       String success)
     {
       this();
@@ -11413,14 +16832,14 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_result(getStatus_result other) {
+    public resourceOpenTransfer_result(resourceOpenTransfer_result other) {
       if (other.isSetSuccess()) {
         this.success = other.success;
       }
     }
 
-    public getStatus_result deepCopy() {
-      return new getStatus_result(this);
+    public resourceOpenTransfer_result deepCopy() {
+      return new resourceOpenTransfer_result(this);
     }
 
     @Override
@@ -11432,7 +16851,7 @@ public class RemoteInterpreterService {
       return this.success;
     }
 
-    public getStatus_result setSuccess(String success) {
+    public resourceOpenTransfer_result setSuccess(String success) {
       this.success = success;
       return this;
     }
@@ -11491,12 +16910,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_result)
-        return this.equals((getStatus_result)that);
+      if (that instanceof resourceOpenTransfer_result)
+        return this.equals((resourceOpenTransfer_result)that);
       return false;
     }
 
-    public boolean equals(getStatus_result that) {
+    public boolean equals(resourceOpenTransfer_result that) {
       if (that == null)
         return false;
 
@@ -11525,7 +16944,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getStatus_result other) {
+    public int compareTo(resourceOpenTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11559,7 +16978,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_result(");
+      StringBuilder sb = new StringBuilder("resourceOpenTransfer_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -11594,15 +17013,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatus_resultStandardScheme getScheme() {
-        return new getStatus_resultStandardScheme();
+    private static class resourceOpenTransfer_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceOpenTransfer_resultStandardScheme getScheme() {
+        return new resourceOpenTransfer_resultStandardScheme();
       }
     }
 
-    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+    private static class resourceOpenTransfer_resultStandardScheme extends StandardScheme<resourceOpenTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11631,7 +17050,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11646,16 +17065,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatus_resultTupleScheme getScheme() {
-        return new getStatus_resultTupleScheme();
+    private static class resourceOpenTransfer_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceOpenTransfer_resultTupleScheme getScheme() {
+        return new resourceOpenTransfer_resultTupleScheme();
       }
     }
 
-    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+    private static class resourceOpenTransfer_resultTupleScheme extends TupleScheme<resourceOpenTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -11668,7 +17087,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -11680,20 +17099,28 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+  public static class resourceReadChunk_args implements org.apache.thrift.TBase<resourceReadChunk_args, resourceReadChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceReadChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceReadChunk_args");
 
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolGetAll_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolGetAll_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceReadChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceReadChunk_argsTupleSchemeFactory());
     }
 
+    public String transferId; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      TRANSFER_ID((short)1, "transferId"),
+      OFFSET((short)2, "offset"),
+      LENGTH((short)3, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11708,6 +17135,12 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -11746,37 +17179,175 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceReadChunk_args.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_args() {
+    public resourceReadChunk_args() {
+    }
+
+    public resourceReadChunk_args(
+      String transferId,
+      long offset,
+      int length)
+    {
+      this();
+      this.transferId = transferId;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    public resourceReadChunk_args(resourceReadChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
+      }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public resourcePoolGetAll_args deepCopy() {
-      return new resourcePoolGetAll_args(this);
+    public resourceReadChunk_args deepCopy() {
+      return new resourceReadChunk_args(this);
     }
 
     @Override
     public void clear() {
+      this.transferId = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
+    }
+
+    public String getTransferId() {
+      return this.transferId;
+    }
+
+    public resourceReadChunk_args setTransferId(String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public resourceReadChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public resourceReadChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case TRANSFER_ID:
+        return getTransferId();
+
+      case OFFSET:
+        return Long.valueOf(getOffset());
+
+      case LENGTH:
+        return Integer.valueOf(getLength());
+
       }
       throw new IllegalStateException();
     }
@@ -11788,6 +17359,12 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case TRANSFER_ID:
+        return isSetTransferId();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -11796,15 +17373,42 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_args)
-        return this.equals((resourcePoolGetAll_args)that);
+      if (that instanceof resourceReadChunk_args)
+        return this.equals((resourceReadChunk_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_args that) {
+    public boolean equals(resourceReadChunk_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
+          return false;
+      }
+
       return true;
     }
 
@@ -11812,17 +17416,62 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_transferId = true && (isSetTransferId());
+      list.add(present_transferId);
+      if (present_transferId)
+        list.add(transferId);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_args other) {
+    public int compareTo(resourceReadChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11840,9 +17489,24 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolGetAll_args(");
+      StringBuilder sb = new StringBuilder("resourceReadChunk_args(");
       boolean first = true;
 
+      sb.append("transferId:");
+      if (this.transferId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transferId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11862,21 +17526,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolGetAll_argsStandardScheme();
+    private static class resourceReadChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceReadChunk_argsStandardScheme getScheme() {
+        return new resourceReadChunk_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardScheme extends StandardScheme<resourcePoolGetAll_args> {
+    private static class resourceReadChunk_argsStandardScheme extends StandardScheme<resourceReadChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceReadChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11886,6 +17552,30 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // TRANSFER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11897,49 +17587,93 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceReadChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_argsTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolGetAll_argsTupleScheme();
+    private static class resourceReadChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceReadChunk_argsTupleScheme getScheme() {
+        return new resourceReadChunk_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsTupleScheme extends TupleScheme<resourcePoolGetAll_args> {
+    private static class resourceReadChunk_argsTupleScheme extends TupleScheme<resourceReadChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceReadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTransferId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceReadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+  public static class resourceReadChunk_result implements org.apache.thrift.TBase<resourceReadChunk_result, resourceReadChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceReadChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceReadChunk_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourcePoolGetAll_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourcePoolGetAll_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceReadChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceReadChunk_resultTupleSchemeFactory());
     }
 
-    public List<String> success; // required
+    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -12004,34 +17738,32 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceReadChunk_result.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_result() {
+    public resourceReadChunk_result() {
     }
 
-    public resourcePoolGetAll_result(
-      List<String> success)
+    public resourceReadChunk_result(
+      ByteBuffer success)
     {
       this();
-      this.success = success;
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+    public resourceReadChunk_result(resourceReadChunk_result other) {
       if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>(other.success);
-        this.success = __this__success;
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
     }
 
-    public resourcePoolGetAll_result deepCopy() {
-      return new resourcePoolGetAll_result(this);
+    public resourceReadChunk_result deepCopy() {
+      return new resourceReadChunk_result(this);
     }
 
     @Override
@@ -12039,27 +17771,22 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public void addToSuccess(String elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<String>();
-      }
-      this.success.add(elem);
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public List<String> getSuccess() {
-      return this.success;
+    public resourceReadChunk_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
     }
 
-    public resourcePoolGetAll_result setSuccess(List<String> success) {
-      this.success = success;
+    public resourceReadChunk_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
@@ -12084,7 +17811,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<String>)value);
+          setSuccess((ByteBuffer)value);
         }
         break;
 
@@ -12117,12 +17844,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_result)
-        return this.equals((resourcePoolGetAll_result)that);
+      if (that instanceof resourceReadChunk_result)
+        return this.equals((resourceReadChunk_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_result that) {
+    public boolean equals(resourceReadChunk_result that) {
       if (that == null)
         return false;
 
@@ -12151,7 +17878,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_result other) {
+    public int compareTo(resourceReadChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12185,14 +17912,14 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourcePoolGetAll_result(");
+      StringBuilder sb = new StringBuilder("resourceReadChunk_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
       }
       first = false;
       sb.append(")");
@@ -12220,37 +17947,27 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolGetAll_resultStandardScheme();
+    private static class resourceReadChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceReadChunk_resultStandardScheme getScheme() {
+        return new resourceReadChunk_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardScheme extends StandardScheme<resourcePoolGetAll_result> {
+    private static class resourceReadChunk_resultStandardScheme extends StandardScheme<resourceReadChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
-        org.apache.thrift.protocol.TField schemeField;
-        iprot.readStructBegin();
-        while (true)
-        {
-          schemeField = iprot.readFieldBegin();
-          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
-            break;
-          }
-          switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list36.size);
-                  String _elem37;
-                  for (int _i38 = 0; _i38 < _list36.size; ++_i38)
-                  {
-                    _elem37 = iprot.readString();
-                    struct.success.add(_elem37);
-                  }
-                  iprot.readListEnd();
-                }
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceReadChunk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12267,20 +17984,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceReadChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter39 : struct.success)
-            {
-              oprot.writeString(_iter39);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12289,16 +17999,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourcePoolGetAll_resultTupleSchemeFactory implements SchemeFactory {
-      public resourcePoolGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolGetAll_resultTupleScheme();
+    private static class resourceReadChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceReadChunk_resultTupleScheme getScheme() {
+        return new resourceReadChunk_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultTupleScheme extends TupleScheme<resourcePoolGetAll_result> {
+    private static class resourceReadChunk_resultTupleScheme extends TupleScheme<resourceReadChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceReadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12306,31 +18016,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (String _iter40 : struct.success)
-            {
-              oprot.writeString(_iter40);
-            }
-          }
+          oprot.writeBinary(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceReadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list41 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list41.size);
-            String _elem42;
-            for (int _i43 = 0; _i43 < _list41.size; ++_i43)
-            {
-              _elem42 = iprot.readString();
-              struct.success.add(_elem42);
-            }
-          }
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
       }
@@ -12338,28 +18033,22 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+  public static class resourceCloseTransfer_args implements org.apache.thrift.TBase<resourceCloseTransfer_args, resourceCloseTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceCloseTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceCloseTransfer_args");
 
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceGet_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceGet_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceCloseTransfer_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceCloseTransfer_argsTupleSchemeFactory());
     }
 
-    public String sessionId; // required
-    public String paragraphId; // required
-    public String resourceName; // required
+    public String transferId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SESSION_ID((short)1, "sessionId"),
-      PARAGRAPH_ID((short)2, "paragraphId"),
-      RESOURCE_NAME((short)3, "resourceName");
+      TRANSFER_ID((short)1, "transferId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12374,12 +18063,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // SESSION_ID
-            return SESSION_ID;
-          case 2: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 3: // RESOURCE_NAME
-            return RESOURCE_NAME;
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
           default:
             return null;
         }
@@ -12423,151 +18108,71 @@ public class RemoteInterpreterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceCloseTransfer_args.class, metaDataMap);
     }
 
-    public resourceGet_args() {
+    public resourceCloseTransfer_args() {
     }
 
-    public resourceGet_args(
-      String sessionId,
-      String paragraphId,
-      String resourceName)
+    public resourceCloseTransfer_args(
+      String transferId)
     {
       this();
-      this.sessionId = sessionId;
-      this.paragraphId = paragraphId;
-      this.resourceName = resourceName;
+      this.transferId = transferId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_args(resourceGet_args other) {
-      if (other.isSetSessionId()) {
-        this.sessionId = other.sessionId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
-      }
-      if (other.isSetResourceName()) {
-        this.resourceName = other.resourceName;
+    public resourceCloseTransfer_args(resourceCloseTransfer_args other) {
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
       }
     }
 
-    public resourceGet_args deepCopy() {
-      return new resourceGet_args(this);
+    public resourceCloseTransfer_args deepCopy() {
+      return new resourceCloseTransfer_args(this);
     }
 
     @Override
     public void clear() {
-      this.sessionId = null;
-      this.paragraphId = null;
-      this.resourceName = null;
-    }
-
-    public String getSessionId() {
-      return this.sessionId;
-    }
-
-    public resourceGet_args setSessionId(String sessionId) {
-      this.sessionId = sessionId;
-      return this;
-    }
-
-    public void unsetSessionId() {
-      this.sessionId = null;
-    }
-
-    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionId() {
-      return this.sessionId != null;
-    }
-
-    public void setSessionIdIsSet(boolean value) {
-      if (!value) {
-        this.sessionId = null;
-      }
-    }
-
-    public String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public resourceGet_args setParagraphId(String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
+      this.transferId = null;
     }
 
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
-    }
-
-    public String getResourceName() {
-      return this.resourceName;
+    public String getTransferId() {
+      return this.transferId;
     }
 
-    public resourceGet_args setResourceName(String resourceName) {
-      this.resourceName = resourceName;
+    public resourceCloseTransfer_args setTransferId(String transferId) {
+      this.transferId = transferId;
       return this;
     }
 
-    public void unsetResourceName() {
-      this.resourceName = null;
+    public void unsetTransferId() {
+      this.transferId = null;
     }
 
-    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceName() {
-      return this.resourceName != null;
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
     }
 
-    public void setResourceNameIsSet(boolean value) {
+    public void setTransferIdIsSet(boolean value) {
       if (!value) {
-        this.resourceName = null;
+        this.transferId = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SESSION_ID:
-        if (value == null) {
-          unsetSessionId();
-        } else {
-          setSessionId((String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
-        if (value == null) {
-          unsetParagraphId();
-        } else {
-          setParagraphId((String)value);
-        }
-        break;
-
-      case RESOURCE_NAME:
+      case TRANSFER_ID:
         if (value == null) {
-          unsetResourceName();
+          unsetTransferId();
         } else {
-          setResourceName((String)value);
+          setTransferId((String)value);
         }
         break;
 
@@ -12576,14 +18181,8 @@ public class RemoteInterpreterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SESSION_ID:
-        return getSessionId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
-
-      case RESOURCE_NAME:
-        return getResourceName();
+      case TRANSFER_ID:
+        return getTransferId();
 
       }
       throw new IllegalStateException();
@@ -12596,12 +18195,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SESSION_ID:
-        return isSetSessionId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case RESOURCE_NAME:
-        return isSetResourceName();
+      case TRANSFER_ID:
+        return isSetTransferId();
       }
       throw new IllegalStateException();
     }
@@ -12610,39 +18205,21 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_args)
-        return this.equals((resourceGet_args)that);
+      if (that instanceof resourceCloseTransfer_args)
+        return this.equals((resourceCloseTransfer_args)that);
       return false;
     }
 
-    public boolean equals(resourceGet_args that) {
+    public boolean equals(resourceCloseTransfer_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_sessionId = true && this.isSetSessionId();
-      boolean that_present_sessionId = true && that.isSetSessionId();
-      if (this_present_sessionId || that_present_sessionId) {
-        if (!(this_present_sessionId && that_present_sessionId))
-          return false;
-        if (!this.sessionId.equals(that.sessionId))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
-          return false;
-        if (!this.paragraphId.equals(that.paragraphId))
-          return false;
-      }
-
-      boolean this_present_resourceName = true && this.isSetResourceName();
-      boolean that_present_resourceName = true && that.isSetResourceName();
-      if (this_present_resourceName || that_present_resourceName) {
-        if (!(this_present_resourceName && that_present_resourceName))
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
           return false;
-        if (!this.resourceName.equals(that.resourceName))
+        if (!this.transferId.equals(that.transferId))
           return false;
       }
 
@@ -12653,58 +18230,28 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_sessionId = true && (isSetSessionId());
-      list.add(present_sessionId);
-      if (present_sessionId)
-        list.add(sessionId);
-
-      boolean present_paragraphId = true && (isSetParagraphId());
-      list.add(present_paragraphId);
-      if (present_paragraphId)
-        list.add(paragraphId);
-
-      boolean present_resourceName = true && (isSetResourceName());
-      list.add(present_resourceName);
-      if (present_resourceName)
-        list.add(resourceName);
-
-      return list.hashCode();
-    }
-
-    @Override
-    public int compareTo(resourceGet_args other) {
-      if (!getClass().equals(other.getClass())) {
-        return getClass().getName().compareTo(other.getClass().getName());
-      }
-
-      int lastComparison = 0;
+      boolean present_transferId = true && (isSetTransferId());
+      list.add(present_transferId);
+      if (present_transferId)
+        list.add(transferId);
 
-      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(resourceCloseTransfer_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
-      lastComparison = Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12726,30 +18273,14 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceGet_args(");
+      StringBuilder sb = new StringBuilder("resourceCloseTransfer_args(");
       boolean first = true;
 
-      sb.append("sessionId:");
-      if (this.sessionId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.sessionId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("resourceName:");
-      if (this.resourceName == null) {
+      sb.append("transferId:");
+      if (this.transferId == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceName);
+        sb.append(this.transferId);
       }
       first = false;
       sb.append(")");
@@ -12777,15 +18308,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_argsStandardSchemeFactory implements SchemeFactory {
-      public resourceGet_argsStandardScheme getScheme() {
-        return new resourceGet_argsStandardScheme();
+    private static class resourceCloseTransfer_argsStandardSchemeFactory implements SchemeFactory {
+      public resourceCloseTransfer_argsStandardScheme getScheme() {
+        return new resourceCloseTransfer_argsStandardScheme();
       }
     }
 
-    private static class resourceGet_argsStandardScheme extends StandardScheme<resourceGet_args> {
+    private static class resourceCloseTransfer_argsStandardScheme extends StandardScheme<resourceCloseTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12795,26 +18326,10 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // SESSION_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.sessionId = iprot.readString();
-                struct.setSessionIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // RESOURCE_NAME
+            case 1: // TRANSFER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceName = iprot.readString();
-                struct.setResourceNameIsSet(true);
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12830,23 +18345,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.sessionId != null) {
-          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
-          oprot.writeString(struct.sessionId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.resourceName != null) {
-          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
-          oprot.writeString(struct.resourceName);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12855,76 +18360,54 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceGet_argsTupleSchemeFactory implements SchemeFactory {
-      public resourceGet_argsTupleScheme getScheme() {
-        return new resourceGet_argsTupleScheme();
+    private static class resourceCloseTransfer_argsTupleSchemeFactory implements SchemeFactory {
+      public resourceCloseTransfer_argsTupleScheme getScheme() {
+        return new resourceCloseTransfer_argsTupleScheme();
       }
     }
 
-    private static class resourceGet_argsTupleScheme extends TupleScheme<resourceGet_args> {
+    private static class resourceCloseTransfer_argsTupleScheme extends TupleScheme<resourceCloseTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSessionId()) {
+        if (struct.isSetTransferId()) {
           optionals.set(0);
         }
-        if (struct.isSetParagraphId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetResourceName()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetSessionId()) {
-          oprot.writeString(struct.sessionId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetResourceName()) {
-          oprot.writeString(struct.resourceName);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.sessionId = iprot.readString();
-          struct.setSessionIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.resourceName = iprot.readString();
-          struct.setResourceNameIsSet(true);
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
+  public static class resourceCloseTransfer_result implements org.apache.thrift.TBase<resourceCloseTransfer_result, resourceCloseTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceCloseTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceCloseTransfer_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new resourceGet_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new resourceGet_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new resourceCloseTransfer_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new resourceCloseTransfer_resultTupleSchemeFactory());
     }
 
-    public ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12939,8 +18422,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -12979,97 +18460,37 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceCloseTransfer_result.class, metaDataMap);
     }
 
-    public resourceGet_result() {
-    }
-
-    public resourceGet_result(
-      ByteBuffer success)
-    {
-      this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public resourceCloseTransfer_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_result(resourceGet_result other) {
-      if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
-      }
+    public resourceCloseTransfer_result(resourceCloseTransfer_result other) {
     }
 
-    public resourceGet_result deepCopy() {
-      return new resourceGet_result(this);
+    public resourceCloseTransfer_result deepCopy() {
+      return new resourceCloseTransfer_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
-    }
-
-    public resourceGet_result setSuccess(byte[] success) {
-      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
-      return this;
-    }
-
-    public resourceGet_result setSuccess(ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((ByteBuffer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new IllegalStateException();
     }
@@ -13081,8 +18502,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -13091,24 +18510,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_result)
-        return this.equals((resourceGet_result)that);
+      if (that instanceof resourceCloseTransfer_result)
+        return this.equals((resourceCloseTransfer_result)that);
       return false;
     }
 
-    public boolean equals(resourceGet_result that) {
+    public boolean equals(resourceCloseTransfer_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -13116,32 +18526,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(resourceGet_result other) {
+    public int compareTo(resourceCloseTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -13159,16 +18554,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("resourceGet_result(");
+      StringBuilder sb = new StringBuilder("resourceCloseTransfer_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -13194,15 +18582,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_resultStandardSchemeFactory implements SchemeFactory {
-      public resourceGet_resultStandardScheme getScheme() {
-        return new resourceGet_resultStandardScheme();
+    private static class resourceCloseTransfer_resultStandardSchemeFactory implements SchemeFactory {
+      public resourceCloseTransfer_resultStandardScheme getScheme() {
+        return new resourceCloseTransfer_resultStandardScheme();
       }
     }
 
-    private static class resourceGet_resultStandardScheme extends StandardScheme<resourceGet_result> {
+    private static class resourceCloseTransfer_resultStandardScheme extends StandardScheme<resourceCloseTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13212,14 +18600,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13231,50 +18611,32 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourceGet_resultTupleSchemeFactory implements SchemeFactory {
-      public resourceGet_resultTupleScheme getScheme() {
-        return new resourceGet_resultTupleScheme();
+    private static class resourceCloseTransfer_resultTupleSchemeFactory implements SchemeFactory {
+      public resourceCloseTransfer_resultTupleScheme getScheme() {
+        return new resourceCloseTransfer_resultTupleScheme();
       }
     }
 
-    private static class resourceGet_resultTupleScheme extends TupleScheme<resourceGet_result> {
+    private static class resourceCloseTransfer_resultTupleScheme extends TupleScheme<resourceCloseTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.zeppelin.tabledata.Row;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the values which are commonly shared between interpreters:
+ * boxed primitives, strings, primitive arrays, lists, maps and table rows.
+ *
+ * Only values of exactly these classes are encoded natively, so that they are decoded to the
+ * same classes. Any other value, e.g. a subclass or a user defined class, is embedded in
+ * java serialization. The native encoding writes a tree, so a value in which an array, list,
+ * map or row is reachable more than once, e.g. a list which contains itself, is encoded by
+ * java serialization as a whole, which keeps the shared references.
+ */
+public class BinaryResourceCodec implements ResourceCodec {
+  public static final String NAME = "binary";
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte INT = 2;
+  private static final byte LONG = 3;
+  private static final byte DOUBLE = 4;
+  private static final byte FLOAT = 5;
+  private static final byte SHORT = 6;
+  private static final byte BYTE = 7;
+  private static final byte BOOLEAN = 8;
+  private static final byte CHAR = 9;
+  private static final byte INT_ARRAY = 10;
+  private static final byte LONG_ARRAY = 11;
+  private static final byte DOUBLE_ARRAY = 12;
+  private static final byte FLOAT_ARRAY = 13;
+  private static final byte SHORT_ARRAY = 14;
+  private static final byte BYTE_ARRAY = 15;
+  private static final byte BOOLEAN_ARRAY = 16;
+  private static final byte CHAR_ARRAY = 17;
+  private static final byte STRING_ARRAY = 18;
+  private static final byte OBJECT_ARRAY = 19;
+  private static final byte ARRAY_LIST = 20;
+  private static final byte LINKED_LIST = 21;
+  private static final byte HASH_MAP = 22;
+  private static final byte LINKED_HASH_MAP = 23;
+  private static final byte ROW = 24;
+  private static final byte JAVA = 25;
+
+  private final JavaResourceCodec javaCodec = new JavaResourceCodec();
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public void encode(Object value, OutputStream out) throws IOException {
+    DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+    if (isTree(value, new IdentityHashMap<>())) {
+      write(value, dout);
+    } else {
+      writeJava(value, dout);
+    }
+    dout.flush();
+  }
+
+  /**
+   * @param seen containers visited so far
+   * @return false if a container which is encoded natively is reachable more than once
+   */
+  private static boolean isTree(Object value, Map<Object, Boolean> seen) {
+    if (value == null || !isContainer(value.getClass())) {
+      return true;
+    }
+    if (seen.put(value, Boolean.TRUE) != null) {
+      return false;
+    }
+    Class<?> c = value.getClass();
+    if (c == Object[].class) {
+      return areTrees(Arrays.asList((Object[]) value), seen);
+    } else if (c == ArrayList.class || c == LinkedList.class) {
+      return areTrees((List<?>) value, seen);
+    } else if (c == HashMap.class || c == LinkedHashMap.class) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      return areTrees(map.keySet(), seen) && areTrees(map.values(), seen);
+    } else if (c == Row.class) {
+      return isTree(((Row) value).get(), seen);
+    }
+    // other arrays have no natively encoded elements
+    return true;
+  }
+
+  private static boolean areTrees(Iterable<?> values, Map<Object, Boolean> seen) {
+    for (Object value : values) {
+      if (!isTree(value, seen)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isContainer(Class<?> c) {
+    return c.isArray() || c == ArrayList.class || c == LinkedList.class || c == HashMap.class
+        || c == LinkedHashMap.class || c == Row.class;
+  }
+
+  @Override
+  public Object decode(InputStream in) throws IOException, ClassNotFoundException {
+    return read(new DataInputStream(new BufferedInputStream(in)));
+  }
+
+  private void write(Object value, DataOutputStream out) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+      return;
+    }
+
+    Class<?> c = value.getClass();
+    if (c == String.class) {
+      out.writeByte(STRING);
+      writeString((String) value, out);
+    } else if (c == Integer.class) {
+      out.writeByte(INT);
+      out.writeInt((Integer) value);
+    } else if (c == Long.class) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (c == Double.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (c == Float.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat((Float) value);
+    } else if (c == Short.class) {
+      out.writeByte(SHORT);
+      out.writeShort((Short) value);
+    } else if (c == Byte.class) {
+      out.writeByte(BYTE);
+      out.writeByte((Byte) value);
+    } else if (c == Boolean.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    } else if (c == Character.class) {
+      out.writeByte(CHAR);
+      out.writeChar((Character) value);
+    } else if (c == int[].class) {
+      int[] array = (int[]) value;
+      out.writeByte(INT_ARRAY);
+      out.writeInt(array.length);
+      for (int v : array) {
+        out.writeInt(v);
+      }
+    } else if (c == long[].class) {
+      long[] array = (long[]) value;
+      out.writeByte(LONG_ARRAY);
+      out.writeInt(array.length);
+      for (long v : array) {
+        out.writeLong(v);
+      }
+    } else if (c == double[].class) {
+      double[] array = (double[]) value;
+      out.writeByte(DOUBLE_ARRAY);
+      out.writeInt(array.length);
+      for (double v : array) {
+        out.writeDouble(v);
+      }
+    } else if (c == float[].class) {
+      float[] array = (float[]) value;
+      out.writeByte(FLOAT_ARRAY);
+      out.writeInt(array.length);
+      for (float v : array) {
+        out.writeFloat(v);
+      }
+    } else if (c == short[].class) {
+      short[] array = (short[]) value;
+      out.writeByte(SHORT_ARRAY);
+      out.writeInt(array.length);
+      for (short v : array) {
+        out.writeShort(v);
+      }
+    } else if (c == byte[].class) {
+      byte[] array = (byte[]) value;
+      out.writeByte(BYTE_ARRAY);
+      out.writeInt(array.length);
+      out.write(array);
+    } else if (c == boolean[].class) {
+      boolean[] array = (boolean[]) value;
+      out.writeByte(BOOLEAN_ARRAY);
+      out.writeInt(array.length);
+      for (boolean v : array) {
+        out.writeBoolean(v);
+      }
+    } else if (c == char[].class) {
+      char[] array = (char[]) value;
+      out.writeByte(CHAR_ARRAY);
+      out.writeInt(array.length);
+      for (char v : array) {
+        out.writeChar(v);
+      }
+    } else if (c == String[].class) {
+      String[] array = (String[]) value;
+      out.writeByte(STRING_ARRAY);
+      out.writeInt(array.length);
+      for (String v : array) {
+        write(v, out);
+      }
+    } else if (c == Object[].class) {
+      out.writeByte(OBJECT_ARRAY);
+      writeArray((Object[]) value, out);
+    } else if (c == ArrayList.class || c == LinkedList.class) {
+      List<?> list = (List<?>) value;
+      out.writeByte(c == ArrayList.class ? ARRAY_LIST : LINKED_LIST);
+      out.writeInt(list.size());
+      for (Object v : list) {
+        write(v, out);
+      }
+    } else if (c == HashMap.class || c == LinkedHashMap.class) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      out.writeByte(c == HashMap.class ? HASH_MAP : LINKED_HASH_MAP);
+      out.writeInt(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        write(entry.getKey(), out);
+        write(entry.getValue(), out);
+      }
+    } else if (c == Row.class) {
+      out.writeByte(ROW);
+      writeArray(((Row) value).get(), out);
+    } else {
+      writeJava(value, out);
+    }
+  }
+
+  private void writeJava(Object value, DataOutputStream out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    javaCodec.encode(value, bytes);
+    out.writeByte(JAVA);
+    out.writeInt(bytes.size());
+    bytes.writeTo(out);
+  }
+
+  private void writeArray(Object[] array, DataOutputStream out) throws IOException {
+    out.writeInt(array.length);
+    for (Object v : array) {
+      write(v, out);
+    }
+  }
+
+  private void writeString(String value, DataOutputStream out) throws IOException {
+    // DataOutput.writeUTF is limited to 64KB
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private Object read(DataInputStream in) throws IOException, ClassNotFoundException {
+    byte type = in.readByte();
+    int length;
+    switch (type) {
+      case NULL:
+        return null;
+      case STRING:
+        return readString(in);
+      case INT:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case DOUBLE:
+        return in.readDouble();
+      case FLOAT:
+        return in.readFloat();
+      case SHORT:
+        return in.readShort();
+      case BYTE:
+        return in.readByte();
+      case BOOLEAN:
+        return in.readBoolean();
+      case CHAR:
+        return in.readChar();
+      case INT_ARRAY: {
+        int[] array = new int[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readInt();
+        }
+        return array;
+      }
+      case LONG_ARRAY: {
+        long[] array = new long[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readLong();
+        }
+        return array;
+      }
+      case DOUBLE_ARRAY: {
+        double[] array = new double[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readDouble();
+        }
+        return array;
+      }
+      case FLOAT_ARRAY: {
+        float[] array = new float[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readFloat();
+        }
+        return array;
+      }
+      case SHORT_ARRAY: {
+        short[] array = new short[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readShort();
+        }
+        return array;
+      }
+      case BYTE_ARRAY: {
+        byte[] array = new byte[in.readInt()];
+        in.readFully(array);
+        return array;
+      }
+      case BOOLEAN_ARRAY: {
+        boolean[] array = new boolean[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readBoolean();
+        }
+        return array;
+      }
+      case CHAR_ARRAY: {
+        char[] array = new char[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = in.readChar();
+        }
+        return array;
+      }
+      case STRING_ARRAY: {
+        String[] array = new String[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = (String) read(in);
+        }
+        return array;
+      }
+      case OBJECT_ARRAY:
+        return readArray(in);
+      case ARRAY_LIST:
+      case LINKED_LIST: {
+        length = in.readInt();
+        List<Object> list = type == ARRAY_LIST ? new ArrayList<>(length) : new LinkedList<>();
+        for (int i = 0; i < length; i++) {
+          list.add(read(in));
+        }
+        return list;
+      }
+      case HASH_MAP:
+      case LINKED_HASH_MAP: {
+        length = in.readInt();
+        Map<Object, Object> map = type == HASH_MAP ?
+            new HashMap<>(capacity(length)) : new LinkedHashMap<>(capacity(length));
+        for (int i = 0; i < length; i++) {
+          Object key = read(in);
+          map.put(key, read(in));
+        }
+        return map;
+      }
+      case ROW:
+        return new Row(readArray(in));
+      case JAVA: {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return javaCodec.decode(new ByteArrayInputStream(bytes));
+      }
+      default:
+        throw new IOException("Unknown type in binary resource: " + type);
+    }
+  }
+
+  private Object[] readArray(DataInputStream in) throws IOException, ClassNotFoundException {
+    Object[] array = new Object[in.readInt()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = read(in);
+    }
+    return array;
+  }
+
+  private String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+}
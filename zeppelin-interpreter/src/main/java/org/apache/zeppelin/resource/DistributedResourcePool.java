@@ -52,7 +52,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = connector.getResourcesByName(name);
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -77,10 +77,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
-          .filterByNoteId(noteId)
-          .filterByParagraphId(paragraphId)
-          .filterByName(name);
+      ResourceSet resources = connector.getResources(noteId, paragraphId, name);
 
       if (resources.isEmpty()) {
         return null;
@@ -92,6 +89,19 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
   }
 
+  @Override
+  protected void onPut(Resource resource) {
+    connector.onResourcePut(resource);
+  }
+
+  @Override
+  protected Resource onRemove(Resource resource) {
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
   @Override
   public ResourceSet getAll() {
     return getAll(true);
@@ -79,6 +79,7 @@ public class LocalResourcePool implements ResourcePool {
 
     Resource resource = new Resource(this, resourceId, object);
     resources.put(resourceId, resource);
+    onPut(resource);
   }
 
   @Override
@@ -87,15 +88,32 @@ public class LocalResourcePool implements ResourcePool {
 
     Resource resource = new Resource(this, resourceId, object);
     resources.put(resourceId, resource);
+    onPut(resource);
   }
 
   @Override
   public Resource remove(String name) {
-    return resources.remove(new ResourceId(resourcePoolId, name));
+    return onRemove(resources.remove(new ResourceId(resourcePoolId, name)));
   }
 
   @Override
   public Resource remove(String noteId, String paragraphId, String name) {
-    return resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+    return onRemove(resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name)));
+  }
+
+  /**
+   * Called after a resource is put into the pool
+   */
+  protected void onPut(Resource resource) {
+  }
+
+  /**
+   * Called after a resource is removed from the pool
+   *
+   * @param resource removed resource, null if there was no such resource
+   * @return the given resource
+   */
+  protected Resource onRemove(Resource resource) {
+    return resource;
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream of a serialized resource value which is fetched chunk by chunk, only one chunk
+ * is held in memory at a time. A chunk that fails to be fetched is requested again from the
+ * same offset.
+ */
+public class ResourceChunkInputStream extends InputStream {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceChunkInputStream.class);
+
+  /**
+   * Fetch the chunk starting at the given offset
+   */
+  public interface ChunkReader {
+    ByteBuffer read(long offset) throws IOException;
+  }
+
+  private final ChunkReader reader;
+  private final long length;
+  private final int maxRetries;
+  private long offset;
+  private ByteBuffer chunk;
+
+  public ResourceChunkInputStream(ChunkReader reader, long length, int maxRetries) {
+    this.reader = reader;
+    this.length = length;
+    this.maxRetries = maxRetries;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk()) {
+      return -1;
+    }
+    return chunk.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!nextChunk()) {
+      return -1;
+    }
+    len = Math.min(len, chunk.remaining());
+    chunk.get(bytes, off, len);
+    return len;
+  }
+
+  @Override
+  public int available() {
+    return chunk == null ? 0 : chunk.remaining();
+  }
+
+  private boolean nextChunk() throws IOException {
+    if (chunk != null && chunk.hasRemaining()) {
+      return true;
+    }
+    if (offset >= length) {
+      return false;
+    }
+    chunk = fetch(offset);
+    if (!chunk.hasRemaining()) {
+      throw new IOException("Unexpected end of resource at " + offset + " of " + length);
+    }
+    offset += chunk.remaining();
+    return true;
+  }
+
+  private ByteBuffer fetch(long offset) throws IOException {
+    for (int retry = 0; ; retry++) {
+      try {
+        return reader.read(offset);
+      } catch (IOException e) {
+        if (retry >= maxRetries) {
+          throw e;
+        }
+        LOGGER.warn("Fail to read resource chunk at " + offset + ", retry", e);
+      }
+    }
+  }
+}
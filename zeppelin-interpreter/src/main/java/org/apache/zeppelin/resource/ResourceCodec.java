@@ -14,41 +14,27 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+package org.apache.zeppelin.resource;
 
-package org.apache.zeppelin.interpreter.remote;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
- * This element stores the buffered
- * append-data of paragraph's output.
+ * Serialization of resource values which are transferred between processes.
+ *
+ * Implementations must have a public no-arg constructor and be thread safe, they are registered
+ * in {@link ResourceCodecs} when configured and looked up by {@link ResourceCodecs#get(String)}.
  */
-public class AppendOutputBuffer {
-
-  private String noteId;
-  private String paragraphId;
-  private int index;
-  private String data;
-
-  public AppendOutputBuffer(String noteId, String paragraphId, int index, String data) {
-    this.noteId = noteId;
-    this.paragraphId = paragraphId;
-    this.index = index;
-    this.data = data;
-  }
-
-  public String getNoteId() {
-    return noteId;
-  }
-
-  public String getParagraphId() {
-    return paragraphId;
-  }
+public interface ResourceCodec {
 
-  public int getIndex() {
-    return index;
-  }
+  /**
+   * Name of codec, which is sent along with the encoded value so that the reader decodes it
+   * with the same codec
+   */
+  String name();
 
-  public String getData() {
-    return data;
-  }
+  void encode(Object value, OutputStream out) throws IOException;
 
+  Object decode(InputStream in) throws IOException, ClassNotFoundException;
 }
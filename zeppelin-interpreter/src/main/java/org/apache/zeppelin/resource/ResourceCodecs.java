@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of ResourceCodec by name.
+ *
+ * Built-in codecs are "java" and "binary". Other codecs are only available once they are
+ * registered, e.g. the codec configured by zeppelin.interpreter.resource.codec, because the
+ * name of the codec of a transfer comes from another process and must not pick an arbitrary
+ * class to instantiate.
+ */
+public class ResourceCodecs {
+  private static final Map<String, ResourceCodec> codecs = new ConcurrentHashMap<>();
+
+  static {
+    register(new JavaResourceCodec());
+    register(new BinaryResourceCodec());
+  }
+
+  private ResourceCodecs() {
+  }
+
+  public static void register(ResourceCodec codec) {
+    codecs.put(codec.name(), codec);
+  }
+
+  /**
+   * Register the configured codec, which is the name of a built-in codec or the class name of a
+   * ResourceCodec implementation.
+   *
+   * @return name of the codec
+   */
+  public static String registerConfigured(String name) throws IOException {
+    if (name == null || name.isEmpty()) {
+      return JavaResourceCodec.NAME;
+    }
+    ResourceCodec codec = codecs.get(name);
+    if (codec != null) {
+      return codec.name();
+    }
+    try {
+      codec = (ResourceCodec) Class.forName(name, true,
+          Thread.currentThread().getContextClassLoader()).newInstance();
+    } catch (ClassNotFoundException | InstantiationException | IllegalAccessException |
+        ClassCastException e) {
+      throw new IOException("Unknown resource codec: " + name, e);
+    }
+    codecs.putIfAbsent(codec.name(), codec);
+    return codec.name();
+  }
+
+  /**
+   * @param name name of a registered codec, java codec if null or empty
+   */
+  public static ResourceCodec get(String name) throws IOException {
+    if (name == null || name.isEmpty()) {
+      name = JavaResourceCodec.NAME;
+    }
+    ResourceCodec codec = codecs.get(name);
+    if (codec == null) {
+      throw new IOException("Unknown resource codec: " + name);
+    }
+    return codec;
+  }
+}
@@ -26,6 +26,39 @@ public interface ResourcePoolConnector {
    */
   ResourceSet getAllResources();
 
+  /**
+   * Get resources of the given name from all other resource pools in remote processes
+   * @return
+   */
+  default ResourceSet getResourcesByName(String name) {
+    return getAllResources().filterByName(name);
+  }
+
+  /**
+   * Get resources of the given note, paragraph and name from all other resource pools
+   * in remote processes
+   * @return
+   */
+  default ResourceSet getResources(String noteId, String paragraphId, String name) {
+    return getAllResources()
+        .filterByNoteId(noteId)
+        .filterByParagraphId(paragraphId)
+        .filterByName(name);
+  }
+
+  /**
+   * Called when a resource is put into the local resource pool, so that connector can
+   * publish it to the other processes
+   */
+  default void onResourcePut(Resource resource) {
+  }
+
+  /**
+   * Called when a resource is removed from the local resource pool
+   */
+  default void onResourceRemove(ResourceId resourceId) {
+  }
+
   /**
    * Read remote object
    * @return
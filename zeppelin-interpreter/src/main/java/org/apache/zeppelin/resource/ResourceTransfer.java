@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.common.JsonSerializable;
+
+/**
+ * Handle of a serialized resource value which is read by chunks
+ */
+public class ResourceTransfer implements JsonSerializable {
+  private static final Gson gson = new Gson();
+
+  private final String transferId;
+  private final ResourceId resourceId;
+  private final long length;
+  private final String codec;
+  private final String compression;
+  private int chunkSize;
+
+  public ResourceTransfer(String transferId, ResourceId resourceId, long length, String codec,
+                          String compression) {
+    this.transferId = transferId;
+    this.resourceId = resourceId;
+    this.length = length;
+    this.codec = codec;
+    this.compression = compression;
+  }
+
+  public String getTransferId() {
+    return transferId;
+  }
+
+  public ResourceId getResourceId() {
+    return resourceId;
+  }
+
+  /**
+   * @return number of bytes of the serialized value
+   */
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * @return name of ResourceCodec which serialized the value
+   */
+  public String getCodec() {
+    return codec;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static ResourceTransfer fromJson(String json) {
+    return gson.fromJson(json, ResourceTransfer.class);
+  }
+}
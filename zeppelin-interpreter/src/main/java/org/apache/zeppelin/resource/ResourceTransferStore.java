@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized values of resources which are being transferred to another process by chunks.
+ *
+ * A value is serialized once when its transfer is opened. The serialized value is kept in memory
+ * up to spillThreshold bytes and in a temporary file above it, and any chunk of it can be read
+ * again until the transfer is closed, so that a failed read can be resumed from its offset.
+ */
+public class ResourceTransferStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceTransferStore.class);
+
+  public static final String COMPRESSION_NONE = "none";
+  public static final String COMPRESSION_GZIP = "gzip";
+
+  // transfers which are not read for this long are considered abandoned
+  private static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+
+  private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+
+  /**
+   * Serialize the value of resource and open a transfer of it.
+   *
+   * @param codec name of ResourceCodec, see {@link ResourceCodecs#get(String)}
+   */
+  public ResourceTransfer open(ResourceId resourceId, Object value, String codec,
+                               String compression, long spillThreshold) throws IOException {
+    closeIdleTransfers();
+    ResourceCodec resourceCodec = ResourceCodecs.get(codec);
+    SpillOutputStream out = new SpillOutputStream(spillThreshold);
+    try (OutputStream compressed = compress(out, compression)) {
+      resourceCodec.encode(value, compressed);
+    } catch (IOException | RuntimeException e) {
+      out.discard();
+      throw e;
+    }
+
+    String transferId = UUID.randomUUID().toString();
+    transfers.put(transferId, new Transfer(out));
+    return new ResourceTransfer(transferId, resourceId, out.size(), codec, compression);
+  }
+
+  /**
+   * Decode the value of a transfer, which is read from the given stream
+   */
+  public static Object decode(ResourceTransfer transfer, InputStream in)
+      throws IOException, ClassNotFoundException {
+    try (InputStream decompressed = decompress(in, transfer.getCompression())) {
+      return ResourceCodecs.get(transfer.getCodec()).decode(decompressed);
+    }
+  }
+
+  /**
+   * Read a chunk of the serialized value.
+   *
+   * @return at most length bytes from offset, empty if offset is at the end
+   */
+  public ByteBuffer read(String transferId, long offset, int length) throws IOException {
+    Transfer transfer = transfers.get(transferId);
+    if (transfer == null) {
+      throw new IOException("No such resource transfer: " + transferId);
+    }
+    return transfer.read(offset, length);
+  }
+
+  public void close(String transferId) {
+    Transfer transfer = transfers.remove(transferId);
+    if (transfer != null) {
+      transfer.close();
+    }
+  }
+
+  public void closeAll() {
+    for (String transferId : transfers.keySet()) {
+      close(transferId);
+    }
+  }
+
+  public int getOpenTransfers() {
+    return transfers.size();
+  }
+
+  private void closeIdleTransfers() {
+    long now = System.currentTimeMillis();
+    Iterator<Map.Entry<String, Transfer>> it = transfers.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Transfer> entry = it.next();
+      if (now - entry.getValue().lastAccessTime > IDLE_TIMEOUT_MS) {
+        LOGGER.warn("Close idle resource transfer: " + entry.getKey());
+        it.remove();
+        entry.getValue().close();
+      }
+    }
+  }
+
+  private static OutputStream compress(OutputStream out, String compression)
+      throws IOException {
+    if (compression == null || COMPRESSION_NONE.equals(compression)) {
+      return out;
+    } else if (COMPRESSION_GZIP.equals(compression)) {
+      return new GZIPOutputStream(out);
+    } else {
+      throw new IOException("Unknown resource compression: " + compression);
+    }
+  }
+
+  private static InputStream decompress(InputStream in, String compression) throws IOException {
+    if (compression == null || COMPRESSION_NONE.equals(compression)) {
+      return in;
+    } else if (COMPRESSION_GZIP.equals(compression)) {
+      return new GZIPInputStream(in);
+    } else {
+      throw new IOException("Unknown resource compression: " + compression);
+    }
+  }
+
+  private static class Transfer {
+    private final SpillOutputStream data;
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    Transfer(SpillOutputStream data) {
+      this.data = data;
+    }
+
+    ByteBuffer read(long offset, int length) throws IOException {
+      lastAccessTime = System.currentTimeMillis();
+      return data.read(offset, length);
+    }
+
+    void close() {
+      data.discard();
+    }
+  }
+
+  /**
+   * OutputStream which is kept in memory until it exceeds the threshold, then in a temp file.
+   */
+  private static class SpillOutputStream extends OutputStream {
+    private final long threshold;
+    private MemoryBuffer memory = new MemoryBuffer();
+    private File file;
+    private OutputStream fileOut;
+    private RandomAccessFile fileIn;
+    private long size;
+
+    SpillOutputStream(long threshold) {
+      this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      spillIfNeeded(1);
+      current().write(b);
+      size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      spillIfNeeded(len);
+      current().write(b, off, len);
+      size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      current().flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (fileOut != null) {
+        fileOut.close();
+        fileOut = null;
+        fileIn = new RandomAccessFile(file, "r");
+      }
+    }
+
+    long size() {
+      return size;
+    }
+
+    synchronized ByteBuffer read(long offset, int length) throws IOException {
+      if (offset < 0 || length < 0) {
+        throw new IOException("Invalid chunk, offset: " + offset + ", length: " + length);
+      }
+      int n = (int) Math.max(0, Math.min(length, size - offset));
+      if (memory != null) {
+        return ByteBuffer.wrap(memory.buffer(), (int) offset, n).slice();
+      }
+      byte[] chunk = new byte[n];
+      fileIn.seek(offset);
+      fileIn.readFully(chunk);
+      return ByteBuffer.wrap(chunk);
+    }
+
+    synchronized void discard() {
+      memory = null;
+      try {
+        if (fileOut != null) {
+          fileOut.close();
+        }
+        if (fileIn != null) {
+          fileIn.close();
+        }
+      } catch (IOException e) {
+        LOGGER.warn("Fail to close spill file: " + file, e);
+      }
+      if (file != null && !file.delete()) {
+        LOGGER.warn("Fail to delete spill file: " + file);
+      }
+    }
+
+    private OutputStream current() {
+      return fileOut != null ? fileOut : memory;
+    }
+
+    private void spillIfNeeded(int len) throws IOException {
+      if (memory == null || size + len <= threshold) {
+        return;
+      }
+      file = File.createTempFile("zeppelin-resource-", ".bin");
+      file.deleteOnExit();
+      fileOut = new BufferedOutputStream(new FileOutputStream(file));
+      fileOut.write(memory.buffer(), 0, memory.size());
+      memory = null;
+    }
+  }
+
+  private static class MemoryBuffer extends ByteArrayOutputStream {
+    byte[] buffer() {
+      return buf;
+    }
+  }
+}
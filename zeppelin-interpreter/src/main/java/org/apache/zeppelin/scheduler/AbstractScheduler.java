@@ -50,6 +50,13 @@ public abstract class AbstractScheduler implements Scheduler {
     return this.name;
   }
 
+  /**
+   * Replace the queue of the scheduler, it can only be called before the scheduler runs.
+   */
+  void setQueue(BlockingQueue<Job> queue) {
+    this.queue = queue;
+  }
+
   @Override
   public List<Job> getAllJobs() {
     return new ArrayList<>(jobs.values());
@@ -63,8 +70,16 @@ public abstract class AbstractScheduler implements Scheduler {
   @Override
   public void submit(Job job) {
     job.setStatus(Job.Status.PENDING);
-    queue.add(job);
     jobs.put(job.getId(), job);
+    if (!queue.offer(job)) {
+      // admission limit of the queue, e.g. FairJobQueue
+      jobs.remove(job.getId());
+      String message = "Too many jobs of user " + job.getJobUser() + " are waiting in " + name;
+      LOGGER.warn(message + ", reject job " + job.getId());
+      job.setException(new IllegalStateException(message));
+      job.setErrorMessage(message);
+      job.setStatus(Job.Status.ERROR);
+    }
   }
 
   @Override
@@ -114,7 +129,7 @@ public abstract class AbstractScheduler implements Scheduler {
     }
 
     LOGGER.info("Job " + runningJob.getId() + " started by scheduler " + name);
-    // Don't set RUNNING status when it is RemoteScheduler, update it via JobStatusPoller
+    // Don't set RUNNING status when it is RemoteScheduler, it is pushed by interpreter process
     if (!getClass().getSimpleName().equals("RemoteScheduler")) {
       runningJob.setStatus(Job.Status.RUNNING);
     }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the threads of schedulers and executors.
+ *
+ * Jobs mostly wait, for the interpreter process or for a remote system, so when the JVM supports
+ * virtual threads (Java 21+) and zeppelin.scheduler.virtual.threads is true they run on virtual
+ * threads, and the number of platform threads does not grow with the number of jobs. Otherwise
+ * they run on platform threads. It is off by default, as a virtual thread blocked in a
+ * synchronized thrift call pins its platform thread.
+ */
+public class ExecutionBackend {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionBackend.class);
+
+  private static volatile ExecutionBackend instance;
+
+  private final boolean virtual;
+
+  ExecutionBackend(boolean useVirtualThreads) {
+    this.virtual = useVirtualThreads && isVirtualThreadSupported();
+  }
+
+  public static ExecutionBackend get() {
+    if (instance == null) {
+      synchronized (ExecutionBackend.class) {
+        if (instance == null) {
+          instance = new ExecutionBackend(ZeppelinConfiguration.create()
+              .getBoolean(ZeppelinConfiguration.ConfVars.ZEPPELIN_SCHEDULER_VIRTUAL_THREADS));
+          LOGGER.info("Scheduler threads are {}", instance.virtual ? "virtual" : "platform");
+        }
+      }
+    }
+    return instance;
+  }
+
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  public ThreadFactory newThreadFactory(String namePrefix) {
+    if (virtual) {
+      try {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        builder = builderClass.getMethod("name", String.class, long.class)
+            .invoke(builder, namePrefix, 1L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      } catch (ReflectiveOperationException e) {
+        LOGGER.warn("Fail to create virtual thread factory, use platform threads", e);
+      }
+    }
+    return new SchedulerThreadFactory(namePrefix);
+  }
+
+  /**
+   * Executor which runs each task in its own thread. On platform threads, at most
+   * maxPlatformThreads tasks run at the same time and idle threads are released.
+   */
+  public ExecutorService newTaskExecutor(String namePrefix, int maxPlatformThreads) {
+    ThreadFactory threadFactory = newThreadFactory(namePrefix);
+    if (virtual) {
+      try {
+        Method method = Executors.class.getMethod("newThreadPerTaskExecutor",
+            ThreadFactory.class);
+        return (ExecutorService) method.invoke(null, threadFactory);
+      } catch (ReflectiveOperationException e) {
+        LOGGER.warn("Fail to create virtual thread executor, use platform threads", e);
+        threadFactory = new SchedulerThreadFactory(namePrefix);
+      }
+    }
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads,
+        60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  static boolean isVirtualThreadSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
@@ -49,7 +49,7 @@ public class ExecutorFactory {
     synchronized (executors) {
       if (!executors.containsKey(name)) {
         executors.put(name, Executors.newScheduledThreadPool(numThread,
-            new SchedulerThreadFactory(name)));
+            ExecutionBackend.get().newThreadFactory(name)));
       }
       return executors.get(name);
     }
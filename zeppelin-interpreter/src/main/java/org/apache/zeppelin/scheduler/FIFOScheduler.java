@@ -30,7 +30,7 @@ public class FIFOScheduler extends AbstractScheduler {
   FIFOScheduler(String name) {
     super(name);
     executor = Executors.newSingleThreadExecutor(
-        new SchedulerThreadFactory("FIFOScheduler-Worker-"));
+        ExecutionBackend.get().newThreadFactory("FIFOScheduler-Worker-"));
   }
 
   @Override
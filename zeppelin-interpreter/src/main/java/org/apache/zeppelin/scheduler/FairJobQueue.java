@@ -0,0 +1,407 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of scheduler which shares the scheduler fairly between users and notes, instead of
+ * serving jobs in arrival order.
+ *
+ * <ul>
+ *   <li>Interactive jobs are always taken before batch jobs, see {@link Job#getPriority()}.</li>
+ *   <li>Within a priority class, users get turns by weighted fair queuing (start time fair
+ *   queuing): a user of weight 2 gets twice as many turns as a user of weight 1 while both have
+ *   queued jobs. Users have weight 1 unless configured.</li>
+ *   <li>The turns of a user go round robin to the notes which the user has queued jobs of.</li>
+ *   <li>A user can have at most maxQueuedPerUser jobs in the queue, more are rejected by
+ *   {@link #offer(Job)}.</li>
+ * </ul>
+ *
+ * The time each job waits in the queue is recorded in a histogram per priority class.
+ */
+public class FairJobQueue extends AbstractQueue<Job> implements BlockingQueue<Job> {
+
+  // upper bounds of the buckets of the wait time histograms, the last bucket is unbounded
+  private static final long[] WAIT_TIME_BUCKETS_MS =
+      {10, 100, 1000, 10 * 1000, 60 * 1000, 10 * 60 * 1000};
+
+  private final int maxQueuedPerUser;
+  private final Map<String, Double> weights;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Map<Job.Priority, PriorityClass> classes = new EnumMap<>(Job.Priority.class);
+  private final Map<String, Integer> queuedPerUser = new HashMap<>();
+  private int size = 0;
+
+  /**
+   * @param maxQueuedPerUser max number of jobs of a user in the queue, 0 means no limit
+   * @param weights weight of users, users not in it have weight 1
+   */
+  public FairJobQueue(int maxQueuedPerUser, Map<String, Double> weights) {
+    this.maxQueuedPerUser = maxQueuedPerUser;
+    this.weights = new HashMap<>(weights);
+    for (Job.Priority priority : Job.Priority.values()) {
+      classes.put(priority, new PriorityClass());
+    }
+  }
+
+  /**
+   * Parse weights of users, e.g. "user1:2,user2:0.5".
+   */
+  public static Map<String, Double> parseWeights(String weights) {
+    Map<String, Double> result = new HashMap<>();
+    if (StringUtils.isBlank(weights)) {
+      return result;
+    }
+    for (String entry : weights.split(",")) {
+      String[] kv = entry.trim().split(":");
+      if (kv.length != 2 || Double.parseDouble(kv[1].trim()) <= 0) {
+        throw new IllegalArgumentException("Invalid user weight: " + entry);
+      }
+      result.put(kv[0].trim(), Double.parseDouble(kv[1].trim()));
+    }
+    return result;
+  }
+
+  @Override
+  public boolean offer(Job job) {
+    lock.lock();
+    try {
+      String user = getUser(job);
+      int queued = queuedPerUser.getOrDefault(user, 0);
+      if (maxQueuedPerUser > 0 && queued >= maxQueuedPerUser) {
+        return false;
+      }
+      queuedPerUser.put(user, queued + 1);
+      classes.get(getPriority(job))
+          .add(user, getNoteId(job), job, weights.getOrDefault(user, 1.0));
+      size++;
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void put(Job job) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (!offer(job)) {
+        notFull.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(Job job, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (!offer(job)) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = notFull.awaitNanos(nanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Job poll() {
+    lock.lock();
+    try {
+      for (Job.Priority priority : Job.Priority.values()) {
+        Job job = classes.get(priority).poll();
+        if (job != null) {
+          String user = getUser(job);
+          int queued = queuedPerUser.get(user) - 1;
+          if (queued == 0) {
+            queuedPerUser.remove(user);
+          } else {
+            queuedPerUser.put(user, queued);
+          }
+          size--;
+          notFull.signalAll();
+          return job;
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Job take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      Job job;
+      while ((job = poll()) == null) {
+        notEmpty.await();
+      }
+      return job;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Job poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      Job job;
+      while ((job = poll()) == null) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      return job;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Job peek() {
+    lock.lock();
+    try {
+      for (Job.Priority priority : Job.Priority.values()) {
+        Job job = classes.get(priority).peek();
+        if (job != null) {
+          return job;
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public int drainTo(Collection<? super Job> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Job> c, int maxElements) {
+    int n = 0;
+    Job job;
+    while (n < maxElements && (job = poll()) != null) {
+      c.add(job);
+      n++;
+    }
+    return n;
+  }
+
+  /**
+   * Snapshot of the queued jobs, not in the order they are taken.
+   */
+  @Override
+  public Iterator<Job> iterator() {
+    lock.lock();
+    try {
+      List<Job> jobs = new ArrayList<>();
+      for (PriorityClass priorityClass : classes.values()) {
+        priorityClass.addAllTo(jobs);
+      }
+      return Collections.unmodifiableList(jobs).iterator();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Wait time histogram of the jobs taken from the queue.
+   *
+   * @return number of jobs in each bucket, see {@link #getWaitTimeBuckets()}
+   */
+  public long[] getWaitTimeHistogram(Job.Priority priority) {
+    lock.lock();
+    try {
+      return classes.get(priority).waitTimeHistogram.clone();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return upper bounds in milliseconds of the buckets of the wait time histograms, the last
+   * bucket has no upper bound
+   */
+  public static long[] getWaitTimeBuckets() {
+    return WAIT_TIME_BUCKETS_MS.clone();
+  }
+
+  private static String getUser(Job job) {
+    return job.getJobUser() != null ? job.getJobUser() : "";
+  }
+
+  private static String getNoteId(Job job) {
+    return job.getJobNoteId() != null ? job.getJobNoteId() : "";
+  }
+
+  private static Job.Priority getPriority(Job job) {
+    return job.getPriority() != null ? job.getPriority() : Job.Priority.INTERACTIVE;
+  }
+
+  /**
+   * Jobs of one priority class, scheduled by start time fair queuing between users.
+   */
+  private static class PriorityClass {
+    private final Map<String, UserQueue> users = new LinkedHashMap<>();
+    private final long[] waitTimeHistogram = new long[WAIT_TIME_BUCKETS_MS.length + 1];
+    private double virtualTime = 0;
+
+    void add(String user, String noteId, Job job, double weight) {
+      UserQueue queue = users.computeIfAbsent(user, k -> new UserQueue());
+      // a user who was idle starts from the current virtual time, it doesn't get the turns it
+      // didn't use
+      double startTag = Math.max(virtualTime, queue.lastFinishTag);
+      queue.lastFinishTag = startTag + 1 / weight;
+      queue.startTags.add(startTag);
+      queue.notes.computeIfAbsent(noteId, k -> new ArrayDeque<>())
+          .add(new QueuedJob(job, System.currentTimeMillis()));
+    }
+
+    Job poll() {
+      UserQueue next = next();
+      if (next == null) {
+        return null;
+      }
+      virtualTime = next.startTags.poll();
+      QueuedJob queued = next.poll();
+      if (next.startTags.isEmpty()) {
+        // keep lastFinishTag of idle users only while it's ahead of the virtual time
+        if (next.lastFinishTag <= virtualTime) {
+          users.values().remove(next);
+        }
+      }
+
+      long waitTime = System.currentTimeMillis() - queued.enqueueTime;
+      int bucket = 0;
+      while (bucket < WAIT_TIME_BUCKETS_MS.length && waitTime > WAIT_TIME_BUCKETS_MS[bucket]) {
+        bucket++;
+      }
+      waitTimeHistogram[bucket]++;
+      return queued.job;
+    }
+
+    Job peek() {
+      UserQueue next = next();
+      return next == null ? null : next.peek();
+    }
+
+    private UserQueue next() {
+      UserQueue next = null;
+      for (UserQueue queue : users.values()) {
+        if (!queue.startTags.isEmpty()
+            && (next == null || queue.startTags.peek() < next.startTags.peek())) {
+          next = queue;
+        }
+      }
+      return next;
+    }
+
+    void addAllTo(List<Job> jobs) {
+      for (UserQueue queue : users.values()) {
+        for (ArrayDeque<QueuedJob> noteJobs : queue.notes.values()) {
+          for (QueuedJob queued : noteJobs) {
+            jobs.add(queued.job);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Jobs of one user, the notes of the user take turns.
+   */
+  private static class UserQueue {
+    private final ArrayDeque<Double> startTags = new ArrayDeque<>();
+    private final LinkedHashMap<String, ArrayDeque<QueuedJob>> notes = new LinkedHashMap<>();
+    private double lastFinishTag = 0;
+
+    QueuedJob poll() {
+      Iterator<Map.Entry<String, ArrayDeque<QueuedJob>>> it = notes.entrySet().iterator();
+      Map.Entry<String, ArrayDeque<QueuedJob>> first = it.next();
+      QueuedJob queued = first.getValue().poll();
+      it.remove();
+      if (!first.getValue().isEmpty()) {
+        // to the end of the round
+        notes.put(first.getKey(), first.getValue());
+      }
+      return queued;
+    }
+
+    Job peek() {
+      return notes.values().iterator().next().peek().job;
+    }
+  }
+
+  private static class QueuedJob {
+    private final Job job;
+    private final long enqueueTime;
+
+    QueuedJob(Job job, long enqueueTime) {
+      this.job = job;
+      this.enqueueTime = enqueueTime;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * FairScheduler runs at most maxConcurrency jobs at the same time, and picks the next job from a
+ * {@link FairJobQueue} when a job finishes. Unlike FIFOScheduler and ParallelScheduler, jobs are
+ * only taken from the queue when they can run, so the order of the queue is kept.
+ * With maxConcurrency 1 it runs jobs sequentially like FIFOScheduler.
+ */
+public class FairScheduler extends AbstractScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairScheduler.class);
+
+  private final ExecutorService executor;
+  private final Semaphore slots;
+
+  FairScheduler(String name, int maxConcurrency, FairJobQueue queue) {
+    super(name);
+    this.queue = queue;
+    this.slots = new Semaphore(maxConcurrency);
+    this.executor = Executors.newFixedThreadPool(maxConcurrency,
+        ExecutionBackend.get().newThreadFactory("FairScheduler-Worker-"));
+  }
+
+  public FairJobQueue getQueue() {
+    return (FairJobQueue) queue;
+  }
+
+  @Override
+  public void run() {
+    while (!terminate) {
+      try {
+        slots.acquire();
+      } catch (InterruptedException e) {
+        LOGGER.warn("FairScheduler is interrupted", e);
+        break;
+      }
+      Job job;
+      try {
+        job = queue.take();
+      } catch (InterruptedException e) {
+        slots.release();
+        LOGGER.warn("FairScheduler is interrupted", e);
+        break;
+      }
+      runJobInScheduler(job);
+    }
+  }
+
+  @Override
+  public void runJobInScheduler(Job job) {
+    executor.execute(() -> {
+      try {
+        runJob(job);
+      } finally {
+        slots.release();
+      }
+    });
+  }
+}
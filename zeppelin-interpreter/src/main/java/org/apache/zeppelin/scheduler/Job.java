@@ -72,6 +72,15 @@ public abstract class Job<T> {
     }
   }
 
+  /**
+   * Priority class of a job. {@link FairJobQueue} runs interactive jobs before batch jobs, such
+   * as the jobs of cron.
+   */
+  public enum Priority {
+    INTERACTIVE,
+    BATCH
+  }
+
   private String jobName;
   private String id;
 
@@ -215,6 +224,28 @@ public abstract class Job<T> {
     return jobName;
   }
 
+  /**
+   * User who runs the job, used by {@link FairJobQueue} to share schedulers between users.
+   *
+   * @return null if unknown
+   */
+  public String getJobUser() {
+    return null;
+  }
+
+  /**
+   * Note of the job, used by {@link FairJobQueue} to share schedulers between notes.
+   *
+   * @return null if unknown
+   */
+  public String getJobNoteId() {
+    return null;
+  }
+
+  public Priority getPriority() {
+    return Priority.INTERACTIVE;
+  }
+
   public void setJobName(String jobName) {
     this.jobName = jobName;
   }
@@ -228,6 +259,9 @@ public abstract class Job<T> {
   protected abstract boolean jobAbort();
 
   public void abort() {
+    // set the flag first, the job may already be terminated when jobAbort() returns,
+    // e.g. the result of a cancelled remote job is pushed back before the cancel call returns
+    aborted = true;
     aborted = jobAbort();
   }
 
@@ -28,15 +28,15 @@ import org.slf4j.LoggerFactory;
  *
  * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller implements Runnable {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
 
   private Job job;
   private long intervalMs;
+  private TimerWheel.Timeout timeout;
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
@@ -44,24 +44,32 @@ public class JobProgressPoller extends Thread {
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
   }
 
+  /**
+   * Start polling on the shared {@link TimerWheel}, instead of a thread per job.
+   */
+  public synchronized void start() {
+    if (timeout == null) {
+      timeout = TimerWheel.get().scheduleWithFixedDelay(this, 0, intervalMs);
+    }
+  }
+
+  public synchronized void stop() {
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
   @Override
   public void run() {
-    try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
-          }
+    JobListener listener = job.getListener();
+    if (listener != null) {
+      try {
+        if (job.isRunning()) {
+          listener.onProgressUpdate(job, job.progress());
         }
-        Thread.sleep(intervalMs);
+      } catch (Exception e) {
+        logger.error("Can not get or update progress", e);
       }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
     }
   }
 }
@@ -49,7 +49,7 @@ public abstract class JobWithProgressPoller<T> extends Job<T> {
   public void onJobEnded() {
     super.onJobEnded();
     if (this.progressPoller != null) {
-      this.progressPoller.interrupt();
+      this.progressPoller.stop();
     }
   }
 }
@@ -30,7 +30,7 @@ public class ParallelScheduler extends AbstractScheduler {
   ParallelScheduler(String name, int maxConcurrency) {
     super(name);
     this.executor = Executors.newFixedThreadPool(maxConcurrency,
-        new SchedulerThreadFactory("ParallelScheduler-Worker-"));
+        ExecutionBackend.get().newThreadFactory("ParallelScheduler-Worker-"));
   }
 
   @Override
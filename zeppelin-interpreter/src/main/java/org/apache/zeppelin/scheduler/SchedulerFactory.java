@@ -36,6 +36,10 @@ public class SchedulerFactory {
 
   protected ExecutorService executor;
   protected Map<String, Scheduler> schedulers = new HashMap<>();
+  // use FairJobQueue instead of arrival order for all schedulers
+  private final boolean fairSchedulerEnabled;
+  private final int fairSchedulerMaxQueuedPerUser;
+  private final Map<String, Double> fairSchedulerUserWeights;
 
   private static SchedulerFactory singleton;
   private static Long singletonLock = new Long(0);
@@ -61,6 +65,13 @@ public class SchedulerFactory {
         zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE);
     LOGGER.info("Scheduler Thread Pool Size: " + threadPoolSize);
     executor = ExecutorFactory.singleton().createOrGet(SCHEDULER_EXECUTOR_NAME, threadPoolSize);
+    fairSchedulerEnabled = zConf.isFairSchedulerEnabled();
+    fairSchedulerMaxQueuedPerUser = zConf.getFairSchedulerMaxQueuedPerUser();
+    fairSchedulerUserWeights = FairJobQueue.parseWeights(zConf.getFairSchedulerUserWeights());
+    if (fairSchedulerEnabled) {
+      LOGGER.info("Fair scheduler is enabled, max queued jobs per user: {}, user weights: {}",
+          fairSchedulerMaxQueuedPerUser, fairSchedulerUserWeights);
+    }
   }
 
   public void destroy() {
@@ -68,6 +79,9 @@ public class SchedulerFactory {
   }
 
   public Scheduler createOrGetFIFOScheduler(String name) {
+    if (fairSchedulerEnabled) {
+      return createOrGetFairScheduler(name, 1);
+    }
     synchronized (schedulers) {
       if (!schedulers.containsKey(name)) {
         FIFOScheduler s = new FIFOScheduler(name);
@@ -79,6 +93,9 @@ public class SchedulerFactory {
   }
 
   public Scheduler createOrGetParallelScheduler(String name, int maxConcurrency) {
+    if (fairSchedulerEnabled) {
+      return createOrGetFairScheduler(name, maxConcurrency);
+    }
     synchronized (schedulers) {
       if (!schedulers.containsKey(name)) {
         ParallelScheduler s = new ParallelScheduler(name, maxConcurrency);
@@ -89,10 +106,24 @@ public class SchedulerFactory {
     }
   }
 
-  
+  public Scheduler createOrGetFairScheduler(String name, int maxConcurrency) {
+    synchronized (schedulers) {
+      if (!schedulers.containsKey(name)) {
+        FairScheduler s = new FairScheduler(name, maxConcurrency, newFairJobQueue());
+        schedulers.put(name, s);
+        executor.execute(s);
+      }
+      return schedulers.get(name);
+    }
+  }
+
   public Scheduler createOrGetScheduler(Scheduler scheduler) {
     synchronized (schedulers) {
       if (!schedulers.containsKey(scheduler.getName())) {
+        if (fairSchedulerEnabled && scheduler instanceof AbstractScheduler) {
+          // e.g. RemoteScheduler, which waits for a job to be submitted before taking the next
+          ((AbstractScheduler) scheduler).setQueue(newFairJobQueue());
+        }
         schedulers.put(scheduler.getName(), scheduler);
         executor.execute(scheduler);
       }
@@ -109,6 +140,32 @@ public class SchedulerFactory {
     }
   }
 
+  /**
+   * Sum of the wait time histograms of the fair queues of the current schedulers.
+   *
+   * @return number of jobs in each bucket, see {@link FairJobQueue#getWaitTimeBuckets()}
+   */
+  public long[] getWaitTimeHistogram(Job.Priority priority) {
+    long[] histogram = new long[FairJobQueue.getWaitTimeBuckets().length + 1];
+    synchronized (schedulers) {
+      for (Scheduler scheduler : schedulers.values()) {
+        if (scheduler instanceof AbstractScheduler
+            && ((AbstractScheduler) scheduler).queue instanceof FairJobQueue) {
+          long[] counts =
+              ((FairJobQueue) ((AbstractScheduler) scheduler).queue).getWaitTimeHistogram(priority);
+          for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += counts[i];
+          }
+        }
+      }
+    }
+    return histogram;
+  }
+
+  private FairJobQueue newFairJobQueue() {
+    return new FairJobQueue(fairSchedulerMaxQueuedPerUser, fairSchedulerUserWeights);
+  }
+
   public ExecutorService getExecutor() {
     return executor;
   }
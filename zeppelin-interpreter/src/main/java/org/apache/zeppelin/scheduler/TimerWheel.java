@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Hashed timer wheel which runs periodic tasks, such as polling the progress of jobs.
+ *
+ * One thread advances the wheel every tick and hands due tasks to an executor, so the number of
+ * threads does not depend on the number of periodic tasks. A task is scheduled again after it
+ * finishes, so a slow task never runs concurrently with itself. Delays are rounded up to ticks.
+ */
+public class TimerWheel {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TimerWheel.class);
+
+  private static final long DEFAULT_TICK_MS = 100;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+  private static final int MAX_PLATFORM_WORKERS = 8;
+
+  private static volatile TimerWheel instance;
+
+  private final long tickMs;
+  private final List<Task>[] buckets;
+  private final Queue<Task> newTasks = new ConcurrentLinkedQueue<>();
+  private final ExecutorService workers;
+  private final Thread thread;
+  private volatile boolean stopped = false;
+  private long tick = 0;
+
+  TimerWheel(long tickMs, int wheelSize, ExecutorService workers) {
+    this(tickMs, wheelSize, workers, true);
+  }
+
+  /**
+   * @param start whether to start the thread which advances the wheel every tick, otherwise the
+   *              wheel only advances by {@link #advance()}
+   */
+  @SuppressWarnings("unchecked")
+  TimerWheel(long tickMs, int wheelSize, ExecutorService workers, boolean start) {
+    this.tickMs = tickMs;
+    this.workers = workers;
+    this.buckets = new List[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = new ArrayList<>();
+    }
+    if (start) {
+      this.thread = new Thread(this::run, "TimerWheel");
+      this.thread.setDaemon(true);
+      this.thread.start();
+    } else {
+      this.thread = null;
+    }
+  }
+
+  public static TimerWheel get() {
+    if (instance == null) {
+      synchronized (TimerWheel.class) {
+        if (instance == null) {
+          instance = new TimerWheel(DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE,
+              ExecutionBackend.get().newTaskExecutor("TimerWheel-Worker-", MAX_PLATFORM_WORKERS));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Run the task after initialDelayMs, then again delayMs after each run finishes, until the
+   * returned timeout is cancelled.
+   */
+  public Timeout scheduleWithFixedDelay(Runnable runnable, long initialDelayMs, long delayMs) {
+    if (delayMs <= 0) {
+      throw new IllegalArgumentException("delay can't be " + delayMs);
+    }
+    Task task = new Task(runnable, delayMs);
+    task.delayTicks = toTicks(initialDelayMs);
+    newTasks.add(task);
+    return task;
+  }
+
+  public void stop() {
+    stopped = true;
+    if (thread != null) {
+      thread.interrupt();
+    }
+    workers.shutdown();
+  }
+
+  private long toTicks(long delayMs) {
+    return Math.max(1, (delayMs + tickMs - 1) / tickMs);
+  }
+
+  private void run() {
+    long nextTickTime = System.currentTimeMillis() + tickMs;
+    while (!stopped) {
+      long sleep = nextTickTime - System.currentTimeMillis();
+      if (sleep > 0) {
+        try {
+          Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+      nextTickTime += tickMs;
+      advance();
+    }
+  }
+
+  /**
+   * Advance the wheel by one tick and hand the due tasks to the workers.
+   */
+  void advance() {
+    tick++;
+
+    Task task;
+    while ((task = newTasks.poll()) != null) {
+      if (!task.cancelled) {
+        long deadline = tick + task.delayTicks - 1;
+        task.rounds = (deadline - tick) / buckets.length;
+        buckets[(int) (deadline % buckets.length)].add(task);
+      }
+    }
+
+    Iterator<Task> it = buckets[(int) (tick % buckets.length)].iterator();
+    while (it.hasNext()) {
+      task = it.next();
+      if (task.cancelled) {
+        it.remove();
+      } else if (task.rounds > 0) {
+        task.rounds--;
+      } else {
+        it.remove();
+        try {
+          workers.execute(task);
+        } catch (RejectedExecutionException e) {
+          LOGGER.warn("TimerWheel is stopped, drop the task");
+        }
+      }
+    }
+  }
+
+  /**
+   * Handle of a scheduled task
+   */
+  public interface Timeout {
+    void cancel();
+
+    boolean isCancelled();
+  }
+
+  private class Task implements Runnable, Timeout {
+    private final Runnable runnable;
+    private final long delayMs;
+    // accessed only by the wheel thread
+    private long delayTicks;
+    private long rounds;
+    private volatile boolean cancelled = false;
+
+    Task(Runnable runnable, long delayMs) {
+      this.runnable = runnable;
+      this.delayMs = delayMs;
+    }
+
+    @Override
+    public void run() {
+      if (cancelled) {
+        return;
+      }
+      try {
+        runnable.run();
+      } catch (RuntimeException e) {
+        LOGGER.error("Error in TimerWheel task", e);
+      }
+      if (!cancelled) {
+        delayTicks = toTicks(delayMs);
+        newTasks.add(this);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Comparison of a column with a value, which is evaluated by the TableData itself
+ * so that only the matching rows are materialized.
+ */
+public class ColumnFilter implements Serializable {
+  /**
+   * Operator
+   */
+  public enum OP {
+    EQ,
+    NE,
+    LT,
+    LE,
+    GT,
+    GE
+  }
+
+  private final String column;
+  private final OP op;
+  private final Object value;
+
+  public ColumnFilter(String column, OP op, Object value) {
+    this.column = column;
+    this.op = op;
+    this.value = value;
+  }
+
+  public static ColumnFilter eq(String column, Object value) {
+    return new ColumnFilter(column, OP.EQ, value);
+  }
+
+  public static ColumnFilter ne(String column, Object value) {
+    return new ColumnFilter(column, OP.NE, value);
+  }
+
+  public static ColumnFilter lt(String column, Object value) {
+    return new ColumnFilter(column, OP.LT, value);
+  }
+
+  public static ColumnFilter le(String column, Object value) {
+    return new ColumnFilter(column, OP.LE, value);
+  }
+
+  public static ColumnFilter gt(String column, Object value) {
+    return new ColumnFilter(column, OP.GT, value);
+  }
+
+  public static ColumnFilter ge(String column, Object value) {
+    return new ColumnFilter(column, OP.GE, value);
+  }
+
+  public String column() {
+    return column;
+  }
+
+  public OP op() {
+    return op;
+  }
+
+  public Object value() {
+    return value;
+  }
+
+  /**
+   * @param cell value of the column, null never matches
+   */
+  public boolean matches(Object cell) {
+    if (cell == null || value == null) {
+      return false;
+    }
+    int c = compare(cell, value);
+    switch (op) {
+      case EQ:
+        return c == 0;
+      case NE:
+        return c != 0;
+      case LT:
+        return c < 0;
+      case LE:
+        return c <= 0;
+      case GT:
+        return c > 0;
+      case GE:
+        return c >= 0;
+      default:
+        return false;
+    }
+  }
+
+  private static int compare(Object a, Object b) {
+    if (a instanceof Number && b instanceof Number) {
+      if (isIntegral(a) && isIntegral(b)) {
+        return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+      }
+      return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+    }
+    if (a instanceof Date && b instanceof Date) {
+      return Long.compare(((Date) a).getTime(), ((Date) b).getTime());
+    }
+    return a.toString().compareTo(b.toString());
+  }
+
+  private static boolean isIntegral(Object n) {
+    return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+  }
+}
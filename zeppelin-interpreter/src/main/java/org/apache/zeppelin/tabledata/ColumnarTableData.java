@@ -0,0 +1,476 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Columnar table data of interpreter result type 'TABLE'.
+ *
+ * Unlike {@link InterpreterResultTableData}, the text is not split up front. Cell boundaries are
+ * indexed on first access, and each column is parsed on its first access into a typed array.
+ * Column type is inferred from the cells: LONG, DOUBLE, TIMESTAMP or STRING. Empty cells of a
+ * non-string column are null.
+ *
+ * {@link #rows(String[], ColumnFilter[])} only parses the projected and filtered columns and
+ * creates Row objects of the matching rows only.
+ */
+public class ColumnarTableData implements TableData, Serializable {
+  private final String data;
+  private final String[] columnNames;
+
+  // end offset of each row, and start offset of each cell row by row, -1 for missing cells
+  private int[] rowEnds;
+  private int[] cellStarts;
+  private final Column[] columns;
+
+  public ColumnarTableData(InterpreterResultMessage msg) {
+    this(msg.getData());
+  }
+
+  public ColumnarTableData(String data) {
+    this.data = data;
+    int headerEnd = data.indexOf('\n');
+    String header = headerEnd < 0 ? data : data.substring(0, headerEnd);
+    this.columnNames = header.isEmpty() ? new String[0] : header.split("\t", -1);
+    this.columns = new Column[columnNames.length];
+  }
+
+  /**
+   * Column definitions, infers the type of all the columns
+   */
+  @Override
+  public ColumnDef[] columns() {
+    ColumnDef[] columnDefs = new ColumnDef[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      columnDefs[i] = new ColumnDef(columnNames[i], column(i).type);
+    }
+    return columnDefs;
+  }
+
+  public String[] columnNames() {
+    return columnNames.clone();
+  }
+
+  public int columnIndex(String name) {
+    for (int i = 0; i < columnNames.length; i++) {
+      if (columnNames[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public ColumnDef.TYPE columnType(int index) {
+    return column(index).type;
+  }
+
+  public synchronized int numRows() {
+    index();
+    return rowEnds.length;
+  }
+
+  /**
+   * Value of a cell, Long, Double, Timestamp or String depending on the column type
+   */
+  public Object get(int row, int column) {
+    return column(column).get(row);
+  }
+
+  /**
+   * Values of a LONG column, entries of null cells are 0
+   */
+  public long[] getLongs(int index) {
+    return checkType(index, ColumnDef.TYPE.LONG).longs;
+  }
+
+  /**
+   * Values of a DOUBLE column, entries of null cells are 0
+   */
+  public double[] getDoubles(int index) {
+    return checkType(index, ColumnDef.TYPE.DOUBLE).doubles;
+  }
+
+  /**
+   * Values of a TIMESTAMP column in epoch milliseconds, entries of null cells are 0
+   */
+  public long[] getTimestamps(int index) {
+    return checkType(index, ColumnDef.TYPE.TIMESTAMP).longs;
+  }
+
+  public boolean isNull(int row, int column) {
+    return column(column).isNull(row);
+  }
+
+  @Override
+  public Iterator<Row> rows() {
+    return rows(null, null);
+  }
+
+  /**
+   * Iterate rows which match all the filters
+   *
+   * @param projection names of columns in returned rows, all columns if null
+   * @param filters    filters on any columns, including the ones not in projection
+   */
+  public ColumnarRowIterator rows(String[] projection, ColumnFilter[] filters) {
+    int[] projected;
+    if (projection == null) {
+      projected = new int[columnNames.length];
+      for (int i = 0; i < projected.length; i++) {
+        projected[i] = i;
+      }
+    } else {
+      projected = new int[projection.length];
+      for (int i = 0; i < projection.length; i++) {
+        projected[i] = columnIndexOrThrow(projection[i]);
+      }
+    }
+
+    int[] filtered = new int[filters == null ? 0 : filters.length];
+    for (int i = 0; i < filtered.length; i++) {
+      filtered[i] = columnIndexOrThrow(filters[i].column());
+    }
+    return new ColumnarRowIterator(this, projected, filtered, filters);
+  }
+
+  private int columnIndexOrThrow(String name) {
+    int index = columnIndex(name);
+    if (index < 0) {
+      throw new IllegalArgumentException("No such column: " + name);
+    }
+    return index;
+  }
+
+  private Column checkType(int index, ColumnDef.TYPE type) {
+    Column column = column(index);
+    if (column.type != type) {
+      throw new IllegalArgumentException(
+          "Column " + columnNames[index] + " is " + column.type + ", not " + type);
+    }
+    return column;
+  }
+
+  private synchronized Column column(int index) {
+    if (columns[index] == null) {
+      index();
+      columns[index] = parseColumn(index);
+    }
+    return columns[index];
+  }
+
+  /**
+   * Find boundaries of rows and cells in one pass
+   */
+  private void index() {
+    if (rowEnds != null) {
+      return;
+    }
+    int numCols = columnNames.length;
+    int headerEnd = data.indexOf('\n');
+    int numRows = 0;
+    int end = data.length();
+    // trailing newlines do not make rows, like String.split
+    while (end > 0 && data.charAt(end - 1) == '\n') {
+      end--;
+    }
+    if (headerEnd >= 0 && headerEnd < end) {
+      numRows = 1;
+      for (int i = headerEnd + 1; i < end; i++) {
+        if (data.charAt(i) == '\n') {
+          numRows++;
+        }
+      }
+    }
+
+    int[] ends = new int[numRows];
+    int[] cells = new int[numRows * numCols];
+    int pos = headerEnd + 1;
+    for (int r = 0; r < numRows; r++) {
+      int lineEnd = data.indexOf('\n', pos);
+      if (lineEnd < 0 || lineEnd > end) {
+        lineEnd = end;
+      }
+      ends[r] = lineEnd;
+      int cellStart = pos;
+      for (int c = 0; c < numCols; c++) {
+        if (cellStart > lineEnd) {
+          cells[r * numCols + c] = -1;
+          continue;
+        }
+        cells[r * numCols + c] = cellStart;
+        cellStart = indexOfTab(cellStart, lineEnd) + 1;
+      }
+      pos = lineEnd + 1;
+    }
+    rowEnds = ends;
+    cellStarts = cells;
+  }
+
+  private int cellStart(int row, int column) {
+    return cellStarts[row * columnNames.length + column];
+  }
+
+  private int cellEnd(int row, int start) {
+    return indexOfTab(start, rowEnds[row]);
+  }
+
+  /**
+   * @return offset of the first tab in [from, limit), limit if there's none
+   */
+  private int indexOfTab(int from, int limit) {
+    for (int i = from; i < limit; i++) {
+      if (data.charAt(i) == '\t') {
+        return i;
+      }
+    }
+    return limit;
+  }
+
+  private Column parseColumn(int column) {
+    int numRows = rowEnds.length;
+    Column parsed = parseLongs(column, numRows);
+    if (parsed == null) {
+      parsed = parseDoubles(column, numRows);
+    }
+    if (parsed == null) {
+      parsed = parseTimestamps(column, numRows);
+    }
+    if (parsed == null) {
+      parsed = parseStrings(column, numRows);
+    }
+    return parsed;
+  }
+
+  /**
+   * Parses the column as LONG, or returns null if a cell is not an integer. A column with an
+   * integer out of the long range is parsed as STRING, as DOUBLE would round it.
+   */
+  private Column parseLongs(int column, int numRows) {
+    Column parsed = new Column(ColumnDef.TYPE.LONG, numRows);
+    parsed.longs = new long[numRows];
+    for (int r = 0; r < numRows; r++) {
+      int start = cellStart(r, column);
+      int end = start < 0 ? start : cellEnd(r, start);
+      if (start < 0 || start == end) {
+        parsed.nulls.set(r);
+        continue;
+      }
+      boolean negative = false;
+      int i = start;
+      if (data.charAt(i) == '-' || data.charAt(i) == '+') {
+        negative = data.charAt(i) == '-';
+        i++;
+      }
+      if (i == end) {
+        return null;
+      }
+      // accumulated negatively like Long.parseLong, as Long.MIN_VALUE has no positive
+      long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+      long value = 0;
+      for (; i < end; i++) {
+        char ch = data.charAt(i);
+        if (ch < '0' || ch > '9') {
+          return null;
+        }
+        int digit = ch - '0';
+        if (value < limit / 10 || value * 10 < limit + digit) {
+          // the cell is not a number if it has other characters further on, which makes
+          // the column STRING as well
+          return parseStrings(column, numRows);
+        }
+        value = value * 10 - digit;
+      }
+      parsed.longs[r] = negative ? value : -value;
+    }
+    return parsed.hasValues() ? parsed : null;
+  }
+
+  private Column parseDoubles(int column, int numRows) {
+    Column parsed = new Column(ColumnDef.TYPE.DOUBLE, numRows);
+    parsed.doubles = new double[numRows];
+    for (int r = 0; r < numRows; r++) {
+      int start = cellStart(r, column);
+      int end = start < 0 ? start : cellEnd(r, start);
+      if (start < 0 || start == end) {
+        parsed.nulls.set(r);
+        continue;
+      }
+      char first = data.charAt(start);
+      if (!(first >= '0' && first <= '9') && first != '-' && first != '+' && first != '.') {
+        return null;
+      }
+      try {
+        parsed.doubles[r] = Double.parseDouble(data.substring(start, end));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return parsed.hasValues() ? parsed : null;
+  }
+
+  private Column parseTimestamps(int column, int numRows) {
+    Column parsed = new Column(ColumnDef.TYPE.TIMESTAMP, numRows);
+    parsed.longs = new long[numRows];
+    for (int r = 0; r < numRows; r++) {
+      int start = cellStart(r, column);
+      int end = start < 0 ? start : cellEnd(r, start);
+      if (start < 0 || start == end) {
+        parsed.nulls.set(r);
+        continue;
+      }
+      // yyyy-mm-dd or yyyy-mm-dd hh:mm:ss[.f...]
+      if (end - start < 10 || data.charAt(start + 4) != '-' || data.charAt(start + 7) != '-') {
+        return null;
+      }
+      String cell = data.substring(start, end);
+      try {
+        if (cell.length() == 10) {
+          parsed.longs[r] = java.sql.Date.valueOf(cell).getTime();
+        } else {
+          parsed.longs[r] = Timestamp.valueOf(cell.replace('T', ' ')).getTime();
+        }
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return parsed.hasValues() ? parsed : null;
+  }
+
+  private Column parseStrings(int column, int numRows) {
+    Column parsed = new Column(ColumnDef.TYPE.STRING, numRows);
+    parsed.strings = new String[numRows];
+    for (int r = 0; r < numRows; r++) {
+      int start = cellStart(r, column);
+      if (start < 0) {
+        parsed.nulls.set(r);
+        continue;
+      }
+      parsed.strings[r] = data.substring(start, cellEnd(r, start));
+    }
+    return parsed;
+  }
+
+  private static class Column implements Serializable {
+    final ColumnDef.TYPE type;
+    final int size;
+    final BitSet nulls;
+    long[] longs;
+    double[] doubles;
+    String[] strings;
+
+    Column(ColumnDef.TYPE type, int numRows) {
+      this.type = type;
+      this.size = numRows;
+      this.nulls = new BitSet(numRows);
+    }
+
+    boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    boolean hasValues() {
+      return nulls.cardinality() < size;
+    }
+
+    Object get(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+      switch (type) {
+        case LONG:
+          return longs[row];
+        case DOUBLE:
+          return doubles[row];
+        case TIMESTAMP:
+          return new Timestamp(longs[row]);
+        default:
+          return strings[row];
+      }
+    }
+  }
+
+  /**
+   * Row iterator with projection and filters. It is public, so that its methods can be invoked
+   * through the resource pool, e.g. by {@link ProxyRowIterator}.
+   */
+  public static class ColumnarRowIterator implements Iterator<Row> {
+    private final ColumnarTableData table;
+    private final int[] projected;
+    private final int[] filtered;
+    private final ColumnFilter[] filters;
+    private final int numRows;
+    private int next;
+
+    ColumnarRowIterator(ColumnarTableData table, int[] projected, int[] filtered,
+                        ColumnFilter[] filters) {
+      this.table = table;
+      this.projected = projected;
+      this.filtered = filtered;
+      this.filters = filters;
+      this.numRows = table.numRows();
+      this.next = seek(0);
+    }
+
+    private int seek(int row) {
+      for (; row < numRows; row++) {
+        if (matches(row)) {
+          break;
+        }
+      }
+      return row;
+    }
+
+    private boolean matches(int row) {
+      for (int i = 0; i < filtered.length; i++) {
+        if (!filters[i].matches(table.get(row, filtered[i]))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < numRows;
+    }
+
+    @Override
+    public Row next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object[] values = new Object[projected.length];
+      for (int i = 0; i < projected.length; i++) {
+        values[i] = table.get(next, projected[i]);
+      }
+      next = seek(next + 1);
+      return new Row(values);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
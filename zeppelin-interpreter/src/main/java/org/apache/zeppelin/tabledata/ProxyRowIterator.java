@@ -33,8 +33,8 @@ public class ProxyRowIterator implements Iterator<Row> {
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext", null, null);
-    return false;
+    Object hasNext = rows.invokeMethod("hasNext", null, null);
+    return hasNext != null && (Boolean) hasNext;
   }
 
   @Override
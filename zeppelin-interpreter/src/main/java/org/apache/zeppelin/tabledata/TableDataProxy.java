@@ -44,4 +44,21 @@ public class TableDataProxy implements TableData {
     ProxyRowIterator it = new ProxyRowIterator(rows);
     return it;
   }
+
+  /**
+   * Get row iterator with projection and filters, which are evaluated where the table data is.
+   * Table data must be {@link ColumnarTableData}.
+   *
+   * @param projection names of columns in returned rows, all columns if null
+   * @param filters    filters on any columns
+   */
+  public Iterator<Row> rows(String[] projection, ColumnFilter... filters) {
+    String resourceName = resource.getResourceId().getName() + ".rows";
+    Resource rows = resource.invokeMethod(
+        "rows",
+        new Class[]{String[].class, ColumnFilter[].class},
+        new Object[]{projection, filters},
+        resourceName);
+    return new ProxyRowIterator(rows);
+  }
 }
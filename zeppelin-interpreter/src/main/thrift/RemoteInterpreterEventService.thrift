@@ -56,6 +56,20 @@ struct RunParagraphsEvent {
   4: string curParagraphId
 }
 
+struct JobStatusUpdateEvent {
+  1: string intpGroupId,
+  2: string sessionId,
+  3: string jobId,
+  4: string status
+}
+
+struct InterpretResultEvent {
+  1: string intpGroupId,
+  2: string sessionId,
+  3: string jobId,
+  4: RemoteInterpreterService.RemoteInterpreterResult result
+}
+
 struct AngularObjectId {
   1: string noteId,
   2: string paragraphId,
@@ -89,6 +103,9 @@ struct AppStatusUpdateEvent {
 service RemoteInterpreterEventService {
   void registerInterpreterProcess(1: RegisterInfo registerInfo);
   void appendOutput(1: OutputAppendEvent event);
+  void appendOutputBatch(1: list<OutputAppendEvent> batch);
+  // rows of paged tables, which are kept by ZeppelinServer instead of the note
+  void appendTableRows(1: list<OutputAppendEvent> batch);
   void updateOutput(1: OutputUpdateEvent event);
   void updateAllOutput(1: OutputUpdateAllEvent event);
 
@@ -97,6 +114,8 @@ service RemoteInterpreterEventService {
   void updateAppStatus(1: AppStatusUpdateEvent event);
 
   void runParagraphs(1: RunParagraphsEvent event);
+  void updateJobStatus(1: JobStatusUpdateEvent event);
+  void completeInterpret(1: InterpretResultEvent event);
 
   void addAngularObject(1: string intpGroupId, 2: string json);
   void updateAngularObject(1: string intpGroupId, 2: string json);
@@ -104,7 +123,14 @@ service RemoteInterpreterEventService {
 
   void sendParagraphInfo(1: string intpGroupId, 2: string json);
 
+  void addResource(1: string intpGroupId, 2: string resourceJson);
+  void removeResource(1: string intpGroupId, 2: string resourceIdJson);
+  list<string> getResourcesByName(1: string intpGroupId, 2: string name);
+  list<string> getParagraphResources(1: string intpGroupId, 2: string noteId, 3: string paragraphId, 4: string name);
   list<string> getAllResources(1: string intpGroupId);
   binary getResource(1: string resourceIdJson);
+  string openResourceTransfer(1: string intpGroupId, 2: string resourceIdJson);
+  binary readResourceChunk(1: string transferJson, 2: i64 offset, 3: i32 length);
+  void closeResourceTransfer(1: string transferJson);
   binary invokeMethod(1: string intpGroupId, 2: string invokeMethodJson);
 }
\ No newline at end of file
@@ -94,6 +94,8 @@ service RemoteInterpreterService {
   void open(1: string sessionId, 2: string className);
   void close(1: string sessionId, 2: string className);
   RemoteInterpreterResult interpret(1: string sessionId, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext);
+  // submit the paragraph and return its job id immediately, result is sent back via RemoteInterpreterEventService.completeInterpret
+  string submitInterpret(1: string sessionId, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext);
   void cancel(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
   i32 getProgress(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
   string getFormType(1: string sessionId, 2: string className);
@@ -101,10 +103,19 @@ service RemoteInterpreterService {
   void shutdown();
 
   string getStatus(1: string sessionId, 2:string jobId);
+  // result of a job submitted via submitInterpret whose completeInterpret event was not delivered,
+  // code is not set if there is none
+  RemoteInterpreterResult fetchInterpretResult(1: string sessionId, 2: string jobId);
 
   list<string> resourcePoolGetAll();
   // get value of resource
   binary resourceGet(1: string sessionId, 2: string paragraphId, 3: string resourceName);
+  // serialize value of resource for chunked transfer, return ResourceTransfer json or empty
+  string resourceOpenTransfer(1: string sessionId, 2: string paragraphId, 3: string resourceName, 4: string codec, 5: i64 spillThreshold, 6: string compression);
+  // read chunk of serialized value of resource, empty at the end
+  binary resourceReadChunk(1: string transferId, 2: i64 offset, 3: i32 length);
+  // release serialized value of resource
+  void resourceCloseTransfer(1: string transferId);
   // remove resource
   bool resourceRemove(1: string sessionId, 2: string paragraphId, 3:string resourceName);
   // invoke method on resource
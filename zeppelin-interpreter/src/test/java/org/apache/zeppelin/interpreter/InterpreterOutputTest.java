@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 
@@ -30,12 +31,14 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
   private InterpreterOutput out;
   int numAppendEvent;
   int numUpdateEvent;
+  StringBuilder tableRows;
 
   @Before
   public void setUp() {
     out = new InterpreterOutput(this);
     numAppendEvent = 0;
     numUpdateEvent = 0;
+    tableRows = new StringBuilder();
   }
 
   @After
@@ -163,6 +166,36 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     assertEquals("val1\tval2\n", new String(out.getOutputAt(1).toByteArray()));
   }
 
+  @Test
+  public void testWriteBytesWithOffset() throws IOException {
+    byte[] bytes = "xxhello\nworld\nxx".getBytes();
+    out.write(bytes, 2, bytes.length - 4);
+    out.flush();
+    assertEquals("hello\nworld\n", new String(out.getOutputAt(0).toByteArray()));
+    assertEquals(2, numAppendEvent);
+  }
+
+  @Test
+  public void testBulkWriteSameAsByteWrite() throws IOException {
+    String data = "hello\r world\n%table col1\tcol2\nval1\tval2\n\n" +
+        "%html <h3>title</h3>\n%unknown type\n%text end";
+    InterpreterOutput byteOut = new InterpreterOutput(null);
+    for (byte b : data.getBytes()) {
+      byteOut.write(b);
+    }
+    byteOut.flush();
+    out.write(data.getBytes());
+    out.flush();
+
+    assertEquals(byteOut.size(), out.size());
+    for (int i = 0; i < out.size(); i++) {
+      assertEquals(byteOut.getOutputAt(i).getType(), out.getOutputAt(i).getType());
+      assertEquals(new String(byteOut.getOutputAt(i).toByteArray()),
+          new String(out.getOutputAt(i).toByteArray()));
+    }
+    byteOut.close();
+  }
+
   @Test
   public void testTruncate() throws IOException {
     // output is truncated after the new line
@@ -192,6 +225,35 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
   }
 
+  @Test
+  public void testTablePaging() throws IOException {
+    InterpreterOutput.limit = 3;
+    out.setTablePreviewRows(2);
+
+    // preview rows are appended as usual
+    out.write("%table key\tvalue\nsun\t1\nmoon\t2\n");
+    assertEquals("key\tvalue\nsun\t1\nmoon\t2\n",
+        new String(out.getOutputAt(0).toByteArray()));
+    assertEquals(3, numAppendEvent);
+    assertEquals(0, tableRows.length());
+    assertFalse(out.getOutputAt(0).isPaged());
+
+    // the other rows are neither kept nor truncated by the limit
+    out.write("star\t3\nplanet\t4\n\n%text done");
+    out.flush();
+    assertEquals(2, out.size());
+    assertEquals("key\tvalue\nsun\t1\nmoon\t2\n",
+        new String(out.getOutputAt(0).toByteArray()));
+    assertTrue(out.getOutputAt(0).isPaged());
+    // only the text output is appended
+    assertEquals(4, numAppendEvent);
+    assertEquals("key\tvalue\nsun\t1\nmoon\t2\nstar\t3\nplanet\t4\n", tableRows.toString());
+    assertEquals("done", new String(out.getOutputAt(1).toByteArray()));
+
+    // restore default
+    InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+  }
+
 
   @Override
   public void onUpdateAll(InterpreterOutput out) {
@@ -207,4 +269,9 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
   public void onUpdate(int index, InterpreterResultMessageOutput out) {
     numUpdateEvent++;
   }
+
+  @Override
+  public void onAppendTableRows(int index, InterpreterResultMessageOutput out, byte[] rows) {
+    tableRows.append(new String(rows));
+  }
 }
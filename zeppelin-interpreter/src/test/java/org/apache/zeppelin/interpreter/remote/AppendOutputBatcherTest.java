@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class AppendOutputBatcherTest {
+
+  private List<List<OutputAppendEvent>> batches =
+      Collections.synchronizedList(new ArrayList<List<OutputAppendEvent>>());
+
+  private AppendOutputBatcher.BatchSender sender = new AppendOutputBatcher.BatchSender() {
+    @Override
+    public void send(List<OutputAppendEvent> batch) throws TException {
+      batches.add(batch);
+    }
+  };
+
+  @Test
+  public void testMergeAppendsOfSameOutput() {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(sender, 1024, 60 * 1000);
+    batcher.start();
+    batcher.append("note1", "paragraph1", 0, "a");
+    batcher.append("note1", "paragraph2", 0, "x");
+    batcher.append("note1", "paragraph1", 0, "b");
+    batcher.append("note1", "paragraph1", 1, "c");
+    assertEquals(0, batches.size());
+    assertEquals(4, batcher.getPendingSize());
+
+    batcher.flush();
+    assertEquals(1, batches.size());
+    List<OutputAppendEvent> batch = batches.get(0);
+    assertEquals(3, batch.size());
+    assertEquals("paragraph1", batch.get(0).getParagraphId());
+    assertEquals("ab", batch.get(0).getData());
+    assertEquals("x", batch.get(1).getData());
+    assertEquals(1, batch.get(2).getIndex());
+    assertEquals("c", batch.get(2).getData());
+    assertEquals(0, batcher.getPendingSize());
+
+    // nothing to send
+    batcher.flush();
+    assertEquals(1, batches.size());
+    batcher.stop();
+  }
+
+  @Test
+  public void testFlushOnBatchSize() {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(sender, 10, 60 * 1000);
+    batcher.start();
+    batcher.append("note1", "paragraph1", 0, "12345");
+    assertEquals(0, batches.size());
+    batcher.append("note1", "paragraph1", 0, "67890");
+    assertEquals(1, batches.size());
+    assertEquals("1234567890", batches.get(0).get(0).getData());
+    batcher.stop();
+  }
+
+  @Test
+  public void testFlushOnInterval() throws InterruptedException {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(sender, 1024, 10);
+    batcher.start();
+    batcher.append("note1", "paragraph1", 0, "hello");
+    long start = System.currentTimeMillis();
+    while (batches.isEmpty() && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(10);
+    }
+    assertEquals(1, batches.size());
+    assertEquals("hello", batches.get(0).get(0).getData());
+    batcher.stop();
+  }
+
+  @Test
+  public void testSendImmediatelyWhenNotStarted() {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(sender, 1024, 0);
+    batcher.start();
+    batcher.append("note1", "paragraph1", 0, "a");
+    batcher.append("note1", "paragraph1", 0, "b");
+    assertEquals(2, batches.size());
+  }
+
+  @Test
+  public void testStopFlushesPendingOutput() {
+    AppendOutputBatcher batcher = new AppendOutputBatcher(sender, 1024, 60 * 1000);
+    batcher.start();
+    batcher.append("note1", "paragraph1", 0, "a");
+    batcher.stop();
+    assertEquals(1, batches.size());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.apache.zeppelin.resource.JavaResourceCodec;
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.ResourceId;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.resource.ResourceTransferStore;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RemoteInterpreterEventClientTest {
+
+  @Test
+  public void testReconnectBeforeRetryingChunk() throws Exception {
+    ResourceTransferStore store = new ResourceTransferStore();
+    ArrayList<String> value = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      value.add("value" + i);
+    }
+    LocalResourcePool pool = new LocalResourcePool("pool1");
+    pool.put("note1", "paragraph1", "key1", value);
+    ResourceId resourceId = pool.get("note1", "paragraph1", "key1").getResourceId();
+    ResourceTransfer transfer = store.open(resourceId, value, JavaResourceCodec.NAME,
+        ResourceTransferStore.COMPRESSION_NONE, 1024 * 1024);
+    transfer.setChunkSize(256);
+
+    RemoteInterpreterEventService.Client client = mock(RemoteInterpreterEventService.Client.class);
+    TProtocol protocol = mock(TProtocol.class);
+    TTransport transport = mock(TTransport.class);
+    when(client.getInputProtocol()).thenReturn(protocol);
+    when(protocol.getTransport()).thenReturn(transport);
+    when(client.openResourceTransfer(anyString(), anyString())).thenReturn(transfer.toJson());
+    // the first chunk fails once
+    when(client.readResourceChunk(anyString(), anyLong(), anyInt()))
+        .thenThrow(new TTransportException("connection reset"))
+        .thenAnswer(invocation -> store.read(transfer.getTransferId(),
+            (Long) invocation.getArguments()[1], (Integer) invocation.getArguments()[2]));
+
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient(client);
+    assertEquals(value, eventClient.readResource(resourceId));
+
+    InOrder order = inOrder(client, transport);
+    order.verify(client).readResourceChunk(anyString(), anyLong(), anyInt());
+    order.verify(transport).close();
+    order.verify(transport).open();
+    order.verify(client, atLeastOnce()).readResourceChunk(anyString(), anyLong(), anyInt());
+    verify(client).closeResourceTransfer(transfer.toJson());
+    store.closeAll();
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.zeppelin.interpreter.LazyOpenInterpreter;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -34,9 +35,13 @@ import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 public class RemoteInterpreterServerTest {
 
@@ -60,6 +65,22 @@ public class RemoteInterpreterServerTest {
     stopRemoteInterpreterServer(server, 10 * 10000);
   }
 
+  @Test
+  public void testUndeliveredResultsAreCapped() throws IOException, TException {
+    RemoteInterpreterServer server = new RemoteInterpreterServer("localhost",
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), ":", "groupId", true);
+    for (int i = 0; i <= RemoteInterpreterServer.MAX_UNDELIVERED_RESULTS; i++) {
+      server.addUndeliveredResult("session_1:paragraph_" + i,
+          new RemoteInterpreterResult("SUCCESS", null, null, null, null));
+    }
+
+    // the oldest result is dropped
+    assertNull(server.fetchInterpretResult("session_1", "paragraph_0").code);
+    assertEquals("SUCCESS", server.fetchInterpretResult("session_1", "paragraph_1").code);
+    assertEquals("SUCCESS", server.fetchInterpretResult("session_1",
+        "paragraph_" + RemoteInterpreterServer.MAX_UNDELIVERED_RESULTS).code);
+  }
+
   private void startRemoteInterpreterServer(RemoteInterpreterServer server, int timeout)
       throws InterruptedException {
     assertEquals(false, server.isRunning());
@@ -153,6 +174,20 @@ public class RemoteInterpreterServerTest {
     assertEquals(1, result.getMsg().size());
     assertEquals("SINGLE_OUTPUT_ERROR", result.getMsg().get(0).getData());
 
+    // submitInterpret returns immediately and the result is sent back as event
+    String jobId = server.submitInterpret("session_1", Test1Interpreter.class.getName(),
+        "SINGLE_OUTPUT_SUCCESS", intpContext);
+    assertEquals("paragraph_1", jobId);
+    ArgumentCaptor<RemoteInterpreterResult> resultCaptor =
+        ArgumentCaptor.forClass(RemoteInterpreterResult.class);
+    verify(server.intpEventClient, timeout(10 * 1000)).onInterpretResult(eq("session_1"),
+        eq("paragraph_1"), resultCaptor.capture());
+    assertEquals("SUCCESS", resultCaptor.getValue().code);
+    assertEquals("SINGLE_OUTPUT_SUCCESS", resultCaptor.getValue().getMsg().get(0).getData());
+    // the mocked event client fails to send it, so it can be fetched once
+    assertEquals("SUCCESS", server.fetchInterpretResult("session_1", "paragraph_1").code);
+    assertNull(server.fetchInterpretResult("session_1", "paragraph_1").code);
+
     // getFormType
     String formType = server.getFormType("session_1", Test1Interpreter.class.getName());
     assertEquals("NATIVE", formType);
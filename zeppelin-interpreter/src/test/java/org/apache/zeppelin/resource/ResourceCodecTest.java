@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.zeppelin.tabledata.Row;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for ResourceCodec
+ */
+public class ResourceCodecTest {
+
+  private ResourceCodec binary = new BinaryResourceCodec();
+  private ResourceCodec java = new JavaResourceCodec();
+
+  private byte[] encode(ResourceCodec codec, Object value) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    codec.encode(value, out);
+    return out.toByteArray();
+  }
+
+  private Object roundTrip(ResourceCodec codec, Object value)
+      throws IOException, ClassNotFoundException {
+    return codec.decode(new ByteArrayInputStream(encode(codec, value)));
+  }
+
+  @Test
+  public void testBinaryRoundTrip() throws IOException, ClassNotFoundException {
+    assertNull(roundTrip(binary, null));
+    assertEquals("hello", roundTrip(binary, "hello"));
+    assertEquals(1, roundTrip(binary, 1));
+    assertEquals(1L, roundTrip(binary, 1L));
+    assertEquals(1.5, roundTrip(binary, 1.5));
+    assertEquals(true, roundTrip(binary, true));
+    assertEquals('c', roundTrip(binary, 'c'));
+    assertArrayEquals(new int[]{1, 2, 3}, (int[]) roundTrip(binary, new int[]{1, 2, 3}));
+    assertArrayEquals(new double[]{1.5, 2.5},
+        (double[]) roundTrip(binary, new double[]{1.5, 2.5}), 0);
+    assertArrayEquals(new String[]{"a", null},
+        (String[]) roundTrip(binary, new String[]{"a", null}));
+
+    List<Object> list = new LinkedList<>(Arrays.asList("a", 1, 2L));
+    Object decodedList = roundTrip(binary, list);
+    assertEquals(LinkedList.class, decodedList.getClass());
+    assertEquals(list, decodedList);
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("b", 1);
+    map.put("a", new ArrayList<>(Arrays.asList(1.0, 2.0)));
+    Object decodedMap = roundTrip(binary, map);
+    assertEquals(LinkedHashMap.class, decodedMap.getClass());
+    assertEquals(map, decodedMap);
+    assertEquals(Arrays.asList("b", "a"), new ArrayList<>(((Map) decodedMap).keySet()));
+
+    Row row = (Row) roundTrip(binary, new Row(new Object[]{"a", 1, null}));
+    assertArrayEquals(new Object[]{"a", 1, null}, row.get());
+  }
+
+  @Test
+  public void testBinaryFallbackToJava() throws IOException, ClassNotFoundException {
+    Date date = new Date();
+    Map<String, Object> map = new HashMap<>();
+    map.put("date", date);
+    assertEquals(map, roundTrip(binary, map));
+
+    // subclass of a natively encoded class keeps its class
+    StringList list = new StringList();
+    list.add("a");
+    Object decoded = roundTrip(binary, list);
+    assertEquals(StringList.class, decoded.getClass());
+    assertEquals(list, decoded);
+  }
+
+  private static class StringList extends ArrayList<String> {
+  }
+
+  @Test
+  public void testBinaryIsCompact() throws IOException {
+    long[] longs = new long[10000];
+    List<Object> rows = new ArrayList<>();
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = i;
+      rows.add(new Row(new Object[]{"name" + i, i, (double) i}));
+    }
+    assertTrue(encode(binary, longs).length < encode(java, longs).length);
+    assertTrue(encode(binary, rows).length < encode(java, rows).length);
+  }
+
+  @Test
+  public void testBinarySharedReferences() throws IOException, ClassNotFoundException {
+    // a list which contains itself
+    List<Object> cycle = new ArrayList<>();
+    cycle.add("a");
+    cycle.add(cycle);
+    List<?> decodedCycle = (List<?>) roundTrip(binary, cycle);
+    assertSame(decodedCycle, decodedCycle.get(1));
+
+    // the same array in two rows
+    Object[] values = new Object[]{"a", 1};
+    long[] longs = new long[]{1, 2};
+    Map<String, Object> map = new HashMap<>();
+    map.put("row1", new Row(values));
+    map.put("row2", new Row(values));
+    map.put("longs1", longs);
+    map.put("longs2", longs);
+    Map<?, ?> decodedMap = (Map<?, ?>) roundTrip(binary, map);
+    assertSame(((Row) decodedMap.get("row1")).get(), ((Row) decodedMap.get("row2")).get());
+    assertSame(decodedMap.get("longs1"), decodedMap.get("longs2"));
+  }
+
+  @Test
+  public void testLookup() throws IOException {
+    assertSame(ResourceCodecs.get("binary"), ResourceCodecs.get(BinaryResourceCodec.NAME));
+    assertEquals(JavaResourceCodec.NAME, ResourceCodecs.get(null).name());
+    // class names are not loaded on lookup, the codec has to be configured
+    try {
+      ResourceCodecs.get(TestCodec.class.getName());
+      fail("Unregistered codec is looked up");
+    } catch (IOException e) {
+      // expected
+    }
+    assertEquals(TestCodec.NAME, ResourceCodecs.registerConfigured(TestCodec.class.getName()));
+    assertEquals(TestCodec.NAME, ResourceCodecs.get(TestCodec.NAME).name());
+    assertEquals(BinaryResourceCodec.NAME, ResourceCodecs.registerConfigured("binary"));
+  }
+
+  /**
+   * Codec which is only known by class name.
+   */
+  public static class TestCodec extends JavaResourceCodec {
+    static final String NAME = "test";
+
+    @Override
+    public String name() {
+      return NAME;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for ResourceTransferStore
+ */
+public class ResourceTransferStoreTest {
+
+  private ResourceTransferStore store = new ResourceTransferStore();
+  private ResourceId resourceId = new ResourceId("pool1", "note1", "paragraph1", "key1");
+
+  private ArrayList<String> createValue() {
+    ArrayList<String> value = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      value.add("value" + i);
+    }
+    return value;
+  }
+
+  private Object readByChunks(ResourceTransfer transfer,
+                              ResourceChunkInputStream.ChunkReader reader)
+      throws IOException, ClassNotFoundException {
+    InputStream in = new ResourceChunkInputStream(reader, transfer.getLength(), 3);
+    return ResourceTransferStore.decode(transfer, in);
+  }
+
+  @Test
+  public void testTransferInMemory() throws IOException, ClassNotFoundException {
+    ArrayList<String> value = createValue();
+    ResourceTransfer transfer = store.open(resourceId, value, JavaResourceCodec.NAME,
+        ResourceTransferStore.COMPRESSION_NONE, 1024 * 1024);
+    assertEquals(resourceId, transfer.getResourceId());
+    assertEquals(1, store.getOpenTransfers());
+
+    Object result = readByChunks(transfer,
+        offset -> store.read(transfer.getTransferId(), offset, 100));
+    assertEquals(value, result);
+    // read beyond the end
+    assertEquals(0, store.read(transfer.getTransferId(), transfer.getLength(), 100).remaining());
+
+    store.close(transfer.getTransferId());
+    assertEquals(0, store.getOpenTransfers());
+    try {
+      store.read(transfer.getTransferId(), 0, 100);
+      fail("transfer should be closed");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testSpillAndCompress() throws IOException, ClassNotFoundException {
+    ArrayList<String> value = createValue();
+    ResourceTransfer uncompressed = store.open(resourceId, value, JavaResourceCodec.NAME,
+        ResourceTransferStore.COMPRESSION_NONE, 100);
+    ResourceTransfer compressed = store.open(resourceId, value, BinaryResourceCodec.NAME,
+        ResourceTransferStore.COMPRESSION_GZIP, 100);
+    assertTrue(compressed.getLength() < uncompressed.getLength());
+
+    assertEquals(value, readByChunks(uncompressed,
+        offset -> store.read(uncompressed.getTransferId(), offset, 64)));
+    assertEquals(value, readByChunks(compressed,
+        offset -> store.read(compressed.getTransferId(), offset, 64)));
+    store.closeAll();
+    assertEquals(0, store.getOpenTransfers());
+  }
+
+  @Test
+  public void testResumeFailedChunk() throws IOException, ClassNotFoundException {
+    ArrayList<String> value = createValue();
+    ResourceTransfer transfer = store.open(resourceId, value, JavaResourceCodec.NAME,
+        ResourceTransferStore.COMPRESSION_NONE, 1024 * 1024);
+
+    // every other read fails, and is requested again from the same offset
+    AtomicInteger reads = new AtomicInteger();
+    List<Long> offsets = new ArrayList<>();
+    Object result = readByChunks(transfer, offset -> {
+      offsets.add(offset);
+      if (reads.incrementAndGet() % 2 == 1) {
+        throw new IOException("connection reset");
+      }
+      return store.read(transfer.getTransferId(), offset, 1000);
+    });
+    assertEquals(value, result);
+    for (int i = 0; i < offsets.size(); i += 2) {
+      assertEquals(offsets.get(i), offsets.get(i + 1));
+    }
+    store.close(transfer.getTransferId());
+  }
+}
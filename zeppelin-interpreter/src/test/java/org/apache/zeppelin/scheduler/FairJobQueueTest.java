@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FairJobQueueTest {
+
+  @Test
+  public void testUsersTakeTurns() {
+    FairJobQueue queue = new FairJobQueue(0, new HashMap<>());
+    // user1 submits a long batch of jobs before user2 submits one
+    for (int i = 0; i < 5; i++) {
+      queue.offer(new UserJob("user1-" + i, "user1", "note1", Job.Priority.INTERACTIVE));
+    }
+    queue.offer(new UserJob("user2-0", "user2", "note2", Job.Priority.INTERACTIVE));
+
+    assertEquals(Arrays.asList("user1-0", "user2-0", "user1-1", "user1-2", "user1-3", "user1-4"),
+        takeAll(queue));
+  }
+
+  @Test
+  public void testUserWeights() {
+    Map<String, Double> weights = FairJobQueue.parseWeights("user1:2");
+    FairJobQueue queue = new FairJobQueue(0, weights);
+    for (int i = 0; i < 4; i++) {
+      queue.offer(new UserJob("user1-" + i, "user1", "note1", Job.Priority.INTERACTIVE));
+      queue.offer(new UserJob("user2-" + i, "user2", "note2", Job.Priority.INTERACTIVE));
+    }
+
+    List<String> order = takeAll(queue);
+    // user1 gets 2 turns for each turn of user2
+    assertEquals(Arrays.asList("user1-0", "user2-0", "user1-1", "user1-2", "user2-1", "user1-3"),
+        order.subList(0, 6));
+  }
+
+  @Test
+  public void testNotesTakeTurns() {
+    FairJobQueue queue = new FairJobQueue(0, new HashMap<>());
+    queue.offer(new UserJob("a-0", "user1", "noteA", Job.Priority.INTERACTIVE));
+    queue.offer(new UserJob("a-1", "user1", "noteA", Job.Priority.INTERACTIVE));
+    queue.offer(new UserJob("a-2", "user1", "noteA", Job.Priority.INTERACTIVE));
+    queue.offer(new UserJob("b-0", "user1", "noteB", Job.Priority.INTERACTIVE));
+
+    assertEquals(Arrays.asList("a-0", "b-0", "a-1", "a-2"), takeAll(queue));
+  }
+
+  @Test
+  public void testInteractiveBeforeBatch() {
+    FairJobQueue queue = new FairJobQueue(0, new HashMap<>());
+    queue.offer(new UserJob("cron", "user1", "note1", Job.Priority.BATCH));
+    queue.offer(new UserJob("click", "user2", "note2", Job.Priority.INTERACTIVE));
+
+    assertEquals("click", queue.peek().getJobName());
+    assertEquals(Arrays.asList("click", "cron"), takeAll(queue));
+    assertEquals(1, sum(queue.getWaitTimeHistogram(Job.Priority.INTERACTIVE)));
+    assertEquals(1, sum(queue.getWaitTimeHistogram(Job.Priority.BATCH)));
+    assertEquals(FairJobQueue.getWaitTimeBuckets().length + 1,
+        queue.getWaitTimeHistogram(Job.Priority.BATCH).length);
+  }
+
+  @Test
+  public void testWaitTimeHistogramOfSchedulers() {
+    SchedulerFactory factory = new SchedulerFactory();
+    FairJobQueue queue1 = new FairJobQueue(0, new HashMap<>());
+    FairJobQueue queue2 = new FairJobQueue(0, new HashMap<>());
+    factory.schedulers.put("fair1", new FairScheduler("fair1", 1, queue1));
+    factory.schedulers.put("fair2", new FairScheduler("fair2", 1, queue2));
+    factory.schedulers.put("fifo", new FIFOScheduler("fifo"));
+    queue1.offer(new UserJob("1", "user1", "note1", Job.Priority.INTERACTIVE));
+    queue2.offer(new UserJob("2", "user2", "note2", Job.Priority.INTERACTIVE));
+    queue2.offer(new UserJob("3", "user2", "note2", Job.Priority.BATCH));
+    takeAll(queue1);
+    takeAll(queue2);
+
+    assertEquals(2, sum(factory.getWaitTimeHistogram(Job.Priority.INTERACTIVE)));
+    assertEquals(1, sum(factory.getWaitTimeHistogram(Job.Priority.BATCH)));
+  }
+
+  @Test
+  public void testMaxQueuedPerUser() {
+    FairJobQueue queue = new FairJobQueue(2, new HashMap<>());
+    assertTrue(queue.offer(new UserJob("1", "user1", "note1", Job.Priority.INTERACTIVE)));
+    assertTrue(queue.offer(new UserJob("2", "user1", "note1", Job.Priority.BATCH)));
+    assertFalse(queue.offer(new UserJob("3", "user1", "note2", Job.Priority.INTERACTIVE)));
+    // other users are not limited by user1
+    assertTrue(queue.offer(new UserJob("4", "user2", "note1", Job.Priority.INTERACTIVE)));
+    assertEquals(3, queue.size());
+
+    queue.poll();
+    assertTrue(queue.offer(new UserJob("5", "user1", "note1", Job.Priority.INTERACTIVE)));
+  }
+
+  @Test
+  public void testRejectedBySchedulerWhenFull() throws InterruptedException {
+    FairScheduler scheduler = new FairScheduler("test", 1, new FairJobQueue(1, new HashMap<>()));
+    Thread thread = new Thread(scheduler);
+    thread.start();
+    try {
+      Job job1 = new UserJob("job1", "user1", "note1", Job.Priority.INTERACTIVE, 500);
+      Job job2 = new UserJob("job2", "user1", "note1", Job.Priority.INTERACTIVE, 500);
+      Job job3 = new UserJob("job3", "user1", "note1", Job.Priority.INTERACTIVE, 500);
+      scheduler.submit(job1);
+      Thread.sleep(200);
+      scheduler.submit(job2);
+      scheduler.submit(job3);
+
+      assertEquals(Job.Status.RUNNING, job1.getStatus());
+      assertEquals(Job.Status.PENDING, job2.getStatus());
+      assertEquals(Job.Status.ERROR, job3.getStatus());
+      assertNull(scheduler.getJob(job3.getId()));
+
+      Thread.sleep(1000);
+      assertEquals(Job.Status.FINISHED, job1.getStatus());
+      assertEquals(Job.Status.FINISHED, job2.getStatus());
+    } finally {
+      scheduler.stop();
+    }
+  }
+
+  private static List<String> takeAll(FairJobQueue queue) {
+    List<String> names = new ArrayList<>();
+    Job job;
+    while ((job = queue.poll()) != null) {
+      names.add(job.getJobName());
+    }
+    return names;
+  }
+
+  private static long sum(long[] histogram) {
+    long sum = 0;
+    for (long count : histogram) {
+      sum += count;
+    }
+    return sum;
+  }
+
+  private static class UserJob extends SleepingJob {
+    private final String user;
+    private final String noteId;
+    private final Job.Priority priority;
+
+    UserJob(String name, String user, String noteId, Job.Priority priority) {
+      this(name, user, noteId, priority, 0);
+    }
+
+    UserJob(String name, String user, String noteId, Job.Priority priority, int time) {
+      super(name, null, time);
+      this.user = user;
+      this.noteId = noteId;
+      this.priority = priority;
+    }
+
+    @Override
+    public String getJobUser() {
+      return user;
+    }
+
+    @Override
+    public String getJobNoteId() {
+      return noteId;
+    }
+
+    @Override
+    public Job.Priority getPriority() {
+      return priority;
+    }
+  }
+}
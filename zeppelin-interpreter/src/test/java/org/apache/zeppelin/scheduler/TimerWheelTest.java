@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimerWheelTest {
+
+  @Test
+  public void testScheduleWithFixedDelay() {
+    // small wheel, so that delays take several rounds, advanced by the test instead of a thread
+    TimerWheel timerWheel =
+        new TimerWheel(10, 8, MoreExecutors.newDirectExecutorService(), false);
+    try {
+      AtomicInteger count = new AtomicInteger();
+      TimerWheel.Timeout timeout =
+          timerWheel.scheduleWithFixedDelay(count::incrementAndGet, 200, 50);
+      advance(timerWheel, 19);
+      assertEquals(0, count.get());
+      advance(timerWheel, 1);
+      assertEquals(1, count.get());
+
+      // 5 ticks after each run
+      advance(timerWheel, 4);
+      assertEquals(1, count.get());
+      advance(timerWheel, 1);
+      assertEquals(2, count.get());
+      advance(timerWheel, 5);
+      assertEquals(3, count.get());
+
+      timeout.cancel();
+      assertTrue(timeout.isCancelled());
+      advance(timerWheel, 20);
+      assertEquals(3, count.get());
+    } finally {
+      timerWheel.stop();
+    }
+  }
+
+  @Test
+  public void testNoOverlap() throws InterruptedException {
+    ExecutorService workers = Executors.newFixedThreadPool(2);
+    TimerWheel timerWheel = new TimerWheel(10, 8, workers, false);
+    try {
+      AtomicInteger count = new AtomicInteger();
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      timerWheel.scheduleWithFixedDelay(() -> {
+        count.incrementAndGet();
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, 10, 10);
+      advance(timerWheel, 1);
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      // the task is not scheduled again while it is running
+      advance(timerWheel, 20);
+      assertEquals(1, count.get());
+
+      release.countDown();
+      workers.shutdown();
+      assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+      assertEquals(1, count.get());
+    } finally {
+      timerWheel.stop();
+    }
+  }
+
+  @Test
+  public void testWheelThread() throws InterruptedException {
+    TimerWheel timerWheel = new TimerWheel(10, 8,
+        new ExecutionBackend(false).newTaskExecutor("TimerWheelTest-", 2));
+    try {
+      CountDownLatch runs = new CountDownLatch(3);
+      timerWheel.scheduleWithFixedDelay(runs::countDown, 10, 10);
+      assertTrue(runs.await(10, TimeUnit.SECONDS));
+    } finally {
+      timerWheel.stop();
+    }
+  }
+
+  private static void advance(TimerWheel timerWheel, int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      timerWheel.advance();
+    }
+  }
+}
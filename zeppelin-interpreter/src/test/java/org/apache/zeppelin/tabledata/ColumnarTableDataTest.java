@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarTableDataTest {
+
+  private ColumnarTableData table = new ColumnarTableData(new InterpreterResultMessage(
+      InterpreterResult.Type.TABLE,
+      "name\tcount\tprice\tdate\n" +
+      "sun\t100\t1.5\t2019-01-01\n" +
+      "moon\t\t2\t2019-01-02 10:00:00\n" +
+      "star\t-3\t-0.5\n"));
+
+  @Test
+  public void testInferTypes() {
+    ColumnDef[] cols = table.columns();
+    assertEquals(4, cols.length);
+    assertEquals("name", cols[0].name());
+    assertEquals(ColumnDef.TYPE.STRING, cols[0].type());
+    assertEquals(ColumnDef.TYPE.LONG, cols[1].type());
+    assertEquals(ColumnDef.TYPE.DOUBLE, cols[2].type());
+    assertEquals(ColumnDef.TYPE.TIMESTAMP, cols[3].type());
+    assertEquals(3, table.numRows());
+
+    assertArrayEquals(new long[]{100, 0, -3}, table.getLongs(1));
+    assertTrue(table.isNull(1, 1));
+    assertArrayEquals(new double[]{1.5, 2, -0.5}, table.getDoubles(2), 0);
+    assertEquals(Timestamp.valueOf("2019-01-02 10:00:00"), table.get(1, 3));
+    // missing cell
+    assertNull(table.get(2, 3));
+  }
+
+  @Test
+  public void testRows() {
+    Iterator<Row> it = table.rows();
+    assertArrayEquals(new Object[]{"sun", 100L, 1.5, Timestamp.valueOf("2019-01-01 00:00:00")},
+        it.next().get());
+    assertArrayEquals(new Object[]{"moon", null, 2.0, Timestamp.valueOf("2019-01-02 10:00:00")},
+        it.next().get());
+    assertArrayEquals(new Object[]{"star", -3L, -0.5, null}, it.next().get());
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testProjectionAndFilter() {
+    Iterator<Row> it = table.rows(new String[]{"name"},
+        new ColumnFilter[]{ColumnFilter.gt("price", 1)});
+    assertArrayEquals(new Object[]{"sun"}, it.next().get());
+    assertArrayEquals(new Object[]{"moon"}, it.next().get());
+    assertFalse(it.hasNext());
+
+    it = table.rows(new String[]{"price", "name"},
+        new ColumnFilter[]{ColumnFilter.eq("name", "star")});
+    assertArrayEquals(new Object[]{-0.5, "star"}, it.next().get());
+    assertFalse(it.hasNext());
+
+    // null never matches
+    it = table.rows(null, new ColumnFilter[]{ColumnFilter.le("count", 100)});
+    assertEquals("sun", it.next().get()[0]);
+    assertEquals("star", it.next().get()[0]);
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testSingleColumnAndEmpty() {
+    ColumnarTableData single = new ColumnarTableData("id\n1\n2\n3");
+    assertEquals(ColumnDef.TYPE.LONG, single.columnType(0));
+    assertArrayEquals(new long[]{1, 2, 3}, single.getLongs(0));
+
+    ColumnarTableData empty = new ColumnarTableData("a\tb\n");
+    assertEquals(0, empty.numRows());
+    assertEquals(ColumnDef.TYPE.STRING, empty.columnType(0));
+    assertFalse(empty.rows().hasNext());
+  }
+
+  @Test
+  public void testLongRange() {
+    ColumnarTableData table = new ColumnarTableData(
+        "min\tmax\tover\tunder\n" +
+        "-9223372036854775808\t9223372036854775807\t9223372036854775808\t-1\n" +
+        "1\t+2\t1\t-9223372036854775809\n");
+    assertEquals(ColumnDef.TYPE.LONG, table.columnType(0));
+    assertArrayEquals(new long[]{Long.MIN_VALUE, 1}, table.getLongs(0));
+    assertEquals(ColumnDef.TYPE.LONG, table.columnType(1));
+    assertArrayEquals(new long[]{Long.MAX_VALUE, 2}, table.getLongs(1));
+    // integers out of the long range keep their text
+    assertEquals(ColumnDef.TYPE.STRING, table.columnType(2));
+    assertEquals("9223372036854775808", table.get(0, 2));
+    assertEquals(ColumnDef.TYPE.STRING, table.columnType(3));
+    assertEquals("-9223372036854775809", table.get(1, 3));
+  }
+}
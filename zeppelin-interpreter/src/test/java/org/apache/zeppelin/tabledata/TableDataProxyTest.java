@@ -26,6 +26,7 @@ import java.util.Iterator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TableDataProxyTest {
   private LocalResourcePool pool;
@@ -63,4 +64,21 @@ public class TableDataProxyTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testProxyColumnarTable() {
+    ColumnarTableData table = new ColumnarTableData("key\tvalue\nsun\t100\nmoon\t200\n");
+    pool.put("table", table);
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"));
+
+    ColumnDef[] cols = proxy.columns();
+    assertEquals(ColumnDef.TYPE.LONG, cols[1].type());
+
+    Iterator<Row> it = proxy.rows(new String[]{"key"}, ColumnFilter.ge("value", 150));
+    assertTrue(it.hasNext());
+    Row row = it.next();
+    assertEquals(1, row.get().length);
+    assertEquals("moon", row.get()[0]);
+    assertFalse(it.hasNext());
+  }
 }
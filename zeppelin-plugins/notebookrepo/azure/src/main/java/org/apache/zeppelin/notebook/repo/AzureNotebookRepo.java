@@ -23,16 +23,12 @@ import com.microsoft.azure.storage.file.CloudFile;
 import com.microsoft.azure.storage.file.CloudFileClient;
 import com.microsoft.azure.storage.file.CloudFileDirectory;
 import com.microsoft.azure.storage.file.CloudFileShare;
-import com.microsoft.azure.storage.file.ListFileItem;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
@@ -51,6 +47,8 @@ public class AzureNotebookRepo implements NotebookRepo {
   private String user;
   private String shareName;
   private CloudFileDirectory rootDir;
+  // lists and reads notes concurrently
+  private ObjectStoreClient client;
 
   public AzureNotebookRepo() {
 
@@ -78,53 +76,25 @@ public class AzureNotebookRepo implements NotebookRepo {
     } catch (Exception e) {
       throw new IOException(e);
     }
+    client = new ObjectStoreClient(new AzureObjectStore(rootDir), conf);
   }
 
   @Override
   public Map<String, NoteInfo> list(AuthenticationInfo subject) throws IOException {
-    return list(rootDir);
+    return client.listNotes(this);
   }
 
-  private Map<String, NoteInfo> list(CloudFileDirectory folder) throws IOException {
-    Map<String, NoteInfo> notesInfo = new HashMap<>();
-    for (ListFileItem item : rootDir.listFilesAndDirectories()) {
-      if (item instanceof CloudFileDirectory) {
-        CloudFileDirectory dir = (CloudFileDirectory) item;
-        notesInfo.putAll(list(dir));
-      } else if (item instanceof CloudFile){
-        CloudFile file = (CloudFile) item;
-        if (file.getName().endsWith(".zpln")) {
-          try {
-            String noteName = getNotePath(rootDir.getUri().getPath(), file.getUri().getPath());
-            String noteId = getNoteId(file.getUri().getPath());
-            notesInfo.put(noteId, new NoteInfo(noteId, noteName));
-          } catch (IOException e) {
-            LOGGER.warn(e.getMessage());
-          }
-        } else {
-          LOGGER.debug("Skip invalid note file: " + file.getUri().getPath());
-        }
-      }
-    }
-    return notesInfo;
+  @Override
+  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
+    return client.readNote(this, noteId, notePath,
+        conf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING));
   }
 
   @Override
-  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    InputStream ins = null;
-    try {
-      CloudFile noteFile = rootDir.getFileReference(buildNoteFileName(noteId, notePath));
-      ins = noteFile.openRead();
-    } catch (URISyntaxException | StorageException e) {
-      String msg = String.format("Error reading notebook %s from Azure storage",
-          buildNoteFileName(noteId, notePath));
-      LOGGER.error(msg, e);
-      throw new IOException(msg, e);
-    }
-    String json = IOUtils.toString(ins,
+  public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    return client.readNotes(this, noteInfos,
         conf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING));
-    ins.close();
-    return Note.fromJson(json);
   }
 
   @Override
@@ -156,6 +126,7 @@ public class AzureNotebookRepo implements NotebookRepo {
     try {
       CloudFile noteFile = rootDir.getFileReference(buildNoteFileName(noteId, notePath));
       noteFile.delete();
+      client.invalidate(buildNoteFileName(noteId, notePath));
     } catch (URISyntaxException | StorageException e) {
       String msg = String.format("Error deleting notebook %s from Azure storage",
           buildNoteFileName(noteId, notePath));
@@ -171,6 +142,9 @@ public class AzureNotebookRepo implements NotebookRepo {
 
   @Override
   public void close() {
+    if (client != null) {
+      client.close();
+    }
   }
 
   @Override
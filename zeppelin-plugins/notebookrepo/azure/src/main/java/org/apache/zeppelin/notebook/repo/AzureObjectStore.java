@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.microsoft.azure.storage.AccessCondition;
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.file.CloudFile;
+import com.microsoft.azure.storage.file.CloudFileDirectory;
+import com.microsoft.azure.storage.file.ListFileItem;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ObjectStore of the notes under the notebook directory of an Azure file share. The content of
+ * a file is only downloaded when its ETag differs from the cached copy.
+ */
+class AzureObjectStore implements ObjectStore {
+
+  private final CloudFileDirectory rootDir;
+
+  AzureObjectStore(CloudFileDirectory rootDir) {
+    this.rootDir = rootDir;
+  }
+
+  @Override
+  public Listing list(String folder) throws IOException {
+    List<String> keys = new ArrayList<>();
+    List<String> folders = new ArrayList<>();
+    try {
+      CloudFileDirectory dir = folder.isEmpty() ? rootDir :
+          rootDir.getDirectoryReference(folder.substring(0, folder.length() - 1));
+      for (ListFileItem item : dir.listFilesAndDirectories()) {
+        if (item instanceof CloudFileDirectory) {
+          folders.add(folder + ((CloudFileDirectory) item).getName() + "/");
+        } else if (item instanceof CloudFile) {
+          keys.add(folder + ((CloudFile) item).getName());
+        }
+      }
+    } catch (URISyntaxException | StorageException e) {
+      throw new IOException("Error listing " + folder + " in Azure storage", e);
+    }
+    return new Listing(keys, folders);
+  }
+
+  @Override
+  public StoredObject read(String key, String etag) throws IOException {
+    try {
+      CloudFile noteFile = rootDir.getFileReference(key);
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      // a single download, which is answered by 304 when the file still has the cached etag
+      AccessCondition condition =
+          etag == null ? null : AccessCondition.generateIfNoneMatchCondition(etag);
+      try {
+        noteFile.download(content, condition, null, null);
+      } catch (StorageException e) {
+        if (e.getHttpStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+          return null;
+        }
+        throw e;
+      }
+      return new StoredObject(noteFile.getProperties().getEtag(), content.toByteArray());
+    } catch (URISyntaxException | StorageException e) {
+      throw new IOException(String.format("Error reading notebook %s from Azure storage", key), e);
+    }
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook.repo;
 
 import org.apache.hadoop.fs.Path;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.FileSystemStorage;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
@@ -30,27 +31,41 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * NotebookRepos for hdfs.
  *
+ * Notes are written as json, or as {@link NoteLog} when zeppelin.notebook.filesystem.format is
+ * log. Then a save appends only the changed paragraphs to the note file, and the file is
+ * rewritten as one snapshot when it has too many changes. Notes in both formats are read, so
+ * existing notes are converted by their next save.
  */
 public class FileSystemNotebookRepo implements NotebookRepo {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemNotebookRepo.class);
 
+  private ZeppelinConfiguration zConf;
   private FileSystemStorage fs;
   private Path notebookDir;
+  private boolean logFormat;
+  private int logMaxRecords;
+  // what is written to the note files in log format, by note id
+  private final Map<String, NoteLog> noteLogs = new ConcurrentHashMap<>();
 
   public FileSystemNotebookRepo() {
 
   }
 
   public void init(ZeppelinConfiguration zConf) throws IOException {
+    this.zConf = zConf;
     this.fs = new FileSystemStorage(zConf, zConf.getNotebookDir());
     LOGGER.info("Creating FileSystem: " + this.fs.getFs().getClass().getName());
     this.notebookDir = this.fs.makeQualified(new Path(zConf.getNotebookDir()));
     LOGGER.info("Using folder {} to store notebook", notebookDir);
     this.fs.tryMkDir(notebookDir);
+    this.logFormat = "log".equalsIgnoreCase(zConf.getNotebookFileSystemFormat());
+    this.logMaxRecords = zConf.getNotebookFileSystemLogMaxRecords();
+    LOGGER.info("Using {} format to store notebook", logFormat ? "log" : "json");
   }
 
   @Override
@@ -72,16 +87,51 @@ public class FileSystemNotebookRepo implements NotebookRepo {
 
   @Override
   public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    String content = this.fs.readFile(
-        new Path(notebookDir, buildNoteFileName(noteId, notePath)));
-    return Note.fromJson(content);
+    Path noteFile = new Path(notebookDir, buildNoteFileName(noteId, notePath));
+    byte[] content = this.fs.readBytes(noteFile);
+    if (!NoteLog.isNoteLog(content)) {
+      noteLogs.remove(noteId);
+      return Note.fromJson(new String(content, zConf.getString(ConfVars.ZEPPELIN_ENCODING)));
+    }
+    NoteLog noteLog = getNoteLog(noteId);
+    synchronized (noteLog) {
+      return NoteLog.toNote(noteLog.load(content));
+    }
   }
 
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
-    this.fs.writeFile(note.toJson(),
-        new Path(notebookDir, buildNoteFileName(note.getId(), note.getPath())),
-        true);
+    Path noteFile = new Path(notebookDir, buildNoteFileName(note.getId(), note.getPath()));
+    if (!logFormat) {
+      noteLogs.remove(note.getId());
+      this.fs.writeFile(note.toJson(), noteFile, true);
+      return;
+    }
+    NoteLog noteLog = getNoteLog(note.getId());
+    synchronized (noteLog) {
+      if (!noteLog.needsCompaction(logMaxRecords)) {
+        byte[] changes = noteLog.append(note);
+        if (changes.length == 0) {
+          return;
+        }
+        try {
+          this.fs.appendBytes(changes, noteFile);
+          return;
+        } catch (IOException | UnsupportedOperationException e) {
+          LOGGER.warn("Fail to append to note file {}, rewrite it", noteFile, e);
+        }
+      }
+      try {
+        this.fs.writeBytes(noteLog.snapshot(note), noteFile);
+      } catch (IOException e) {
+        noteLog.reset();
+        throw e;
+      }
+    }
+  }
+
+  private NoteLog getNoteLog(String noteId) {
+    return noteLogs.computeIfAbsent(noteId, id -> new NoteLog());
   }
 
   @Override
@@ -92,6 +142,7 @@ public class FileSystemNotebookRepo implements NotebookRepo {
     Path src = new Path(notebookDir, buildNoteFileName(noteId, notePath));
     Path dest = new Path(notebookDir, buildNoteFileName(noteId, newNotePath));
     this.fs.move(src, dest);
+    // the content is not changed, the note log is still valid
   }
 
   @Override
@@ -104,6 +155,7 @@ public class FileSystemNotebookRepo implements NotebookRepo {
   @Override
   public void remove(String noteId, String notePath, AuthenticationInfo subject)
       throws IOException {
+    noteLogs.remove(noteId);
     if (!this.fs.delete(new Path(notebookDir.toString(), buildNoteFileName(noteId, notePath)))) {
       LOGGER.warn("Fail to move note, noteId: " + notePath + ", notePath: " + notePath);
     }
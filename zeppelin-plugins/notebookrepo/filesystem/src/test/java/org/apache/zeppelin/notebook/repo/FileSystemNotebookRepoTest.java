@@ -23,8 +23,10 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.After;
 import org.junit.Before;
@@ -38,6 +40,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class FileSystemNotebookRepoTest {
 
@@ -61,6 +66,8 @@ public class FileSystemNotebookRepoTest {
 
   @After
   public void tearDown() throws IOException {
+    System.clearProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_FILESYSTEM_FORMAT
+        .getVarName());
     FileUtils.deleteDirectory(new File(notebookDir));
   }
 
@@ -139,4 +146,70 @@ public class FileSystemNotebookRepoTest {
     hdfsNotebookRepo.save(note, authInfo);
     assertEquals(1, hdfsNotebookRepo.list(authInfo).size());
   }
+
+  @Test
+  public void testLogFormat() throws IOException {
+    // note written in json format before
+    Note note = new Note();
+    note.setPath("/title_1");
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    for (int i = 0; i < 10; i++) {
+      Paragraph p = note.addNewParagraph(authInfo);
+      p.setText("%md paragraph " + i);
+    }
+    hdfsNotebookRepo.save(note, authInfo);
+    File noteFile = new File(notebookDir, "title_1_" + note.getId() + ".zpln");
+    assertFalse(NoteLog.isNoteLog(Files.readAllBytes(noteFile.toPath())));
+
+    System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_FILESYSTEM_FORMAT
+        .getVarName(), "log");
+    hdfsNotebookRepo = new FileSystemNotebookRepo();
+    hdfsNotebookRepo.init(new ZeppelinConfiguration());
+    assertEquals(10, hdfsNotebookRepo.get(note.getId(), note.getPath(), authInfo)
+        .getParagraphs().size());
+
+    // first save in log format writes a snapshot
+    hdfsNotebookRepo.save(note, authInfo);
+    byte[] content = Files.readAllBytes(noteFile.toPath());
+    assertTrue(NoteLog.isNoteLog(content));
+    long snapshotSize = noteFile.length();
+
+    // next saves append the changed paragraphs only
+    note.getParagraphs().get(5).setText("%md changed");
+    hdfsNotebookRepo.save(note, authInfo);
+    long appendedSize = noteFile.length() - snapshotSize;
+    assertTrue(appendedSize > 0);
+    assertTrue(appendedSize < snapshotSize / 2);
+    hdfsNotebookRepo.save(note, authInfo);
+    assertEquals(snapshotSize + appendedSize, noteFile.length());
+
+    // read by a new repo, e.g. after restart
+    hdfsNotebookRepo = new FileSystemNotebookRepo();
+    hdfsNotebookRepo.init(new ZeppelinConfiguration());
+    Note noteCopy = hdfsNotebookRepo.get(note.getId(), note.getPath(), authInfo);
+    assertEquals("%md changed", noteCopy.getParagraphs().get(5).getText());
+    assertEquals(note.getParagraphs().size(), noteCopy.getParagraphs().size());
+
+    // the log is still appended after move
+    String newPath = "/new_folder/title_1";
+    hdfsNotebookRepo.move(note.getId(), note.getPath(), newPath, authInfo);
+    noteCopy.setPath(newPath);
+    noteCopy.getParagraphs().get(0).setText("%md changed after move");
+    hdfsNotebookRepo.save(noteCopy, authInfo);
+    assertEquals("%md changed after move",
+        hdfsNotebookRepo.get(note.getId(), newPath, authInfo).getParagraphs().get(0).getText());
+
+    // back to json format
+    System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_FILESYSTEM_FORMAT
+        .getVarName(), "json");
+    hdfsNotebookRepo = new FileSystemNotebookRepo();
+    hdfsNotebookRepo.init(new ZeppelinConfiguration());
+    noteCopy = hdfsNotebookRepo.get(note.getId(), newPath, authInfo);
+    noteCopy.setPath(newPath);
+    hdfsNotebookRepo.save(noteCopy, authInfo);
+    File newNoteFile = new File(notebookDir, "new_folder/title_1_" + note.getId() + ".zpln");
+    assertFalse(NoteLog.isNoteLog(Files.readAllBytes(newNoteFile.toPath())));
+    assertEquals("%md changed after move",
+        hdfsNotebookRepo.get(note.getId(), newPath, authInfo).getParagraphs().get(0).getText());
+  }
 }
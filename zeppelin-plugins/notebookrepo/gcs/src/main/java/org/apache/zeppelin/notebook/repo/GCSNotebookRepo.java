@@ -19,28 +19,22 @@ package org.apache.zeppelin.notebook.repo;
 
 import com.google.auth.Credentials;
 import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
-import com.google.gson.JsonParseException;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
@@ -70,20 +64,37 @@ public class GCSNotebookRepo implements NotebookRepo {
   private String encoding;
   private String bucketName;
   private Optional<String> basePath;
-  private Pattern notePathPattern;
   private Storage storage;
+  // lists and reads notes concurrently
+  private ObjectStoreClient client;
 
   public GCSNotebookRepo() {
   }
 
   @VisibleForTesting
   public GCSNotebookRepo(ZeppelinConfiguration zConf, Storage storage) throws IOException {
-    init(zConf);
+    setStorageDir(zConf);
     this.storage = storage;
+    this.client = new ObjectStoreClient(new GCSObjectStore(storage, bucketName, basePath), zConf);
   }
 
   @Override
   public void init(ZeppelinConfiguration zConf) throws IOException {
+    setStorageDir(zConf);
+
+    Credentials credentials = GoogleCredentials.getApplicationDefault();
+    String credentialJsonPath = zConf.getString(ConfVars.ZEPPELIN_NOTEBOOK_GCS_CREDENTIALS_FILE);
+    if (credentialJsonPath != null) {
+      credentials = GoogleCredentials.fromStream(new FileInputStream(credentialJsonPath));
+    }
+    this.storage = StorageOptions.newBuilder().setCredentials(credentials).build().getService();
+    this.client = new ObjectStoreClient(new GCSObjectStore(storage, bucketName, basePath), zConf);
+  }
+
+  /**
+   * Parse the encoding and the bucket and base path of zeppelin.notebook.gcs.dir.
+   */
+  private void setStorageDir(ZeppelinConfiguration zConf) throws IOException {
     this.encoding =  zConf.getString(ConfVars.ZEPPELIN_ENCODING);
 
     String gcsStorageDir = zConf.getGCSStorageDir();
@@ -110,21 +121,6 @@ public class GCSNotebookRepo implements NotebookRepo {
     } else {
       this.basePath = Optional.absent();
     }
-
-    // Notes are stored at gs://bucketName/basePath/<note-id>/note.json
-    if (basePath.isPresent()) {
-      this.notePathPattern = Pattern.compile(
-          "^" + Pattern.quote(basePath.get() + "/") + "(.+\\.zpln)$");
-    } else {
-      this.notePathPattern = Pattern.compile("^(.+\\.zpln)$");
-    }
-
-    Credentials credentials = GoogleCredentials.getApplicationDefault();
-    String credentialJsonPath = zConf.getString(ConfVars.ZEPPELIN_NOTEBOOK_GCS_CREDENTIALS_FILE);
-    if (credentialJsonPath != null) {
-      credentials = GoogleCredentials.fromStream(new FileInputStream(credentialJsonPath));
-    }
-    this.storage = StorageOptions.newBuilder().setCredentials(credentials).build().getService();
   }
 
   private BlobId makeBlobId(String noteId, String notePath) throws IOException {
@@ -137,55 +133,18 @@ public class GCSNotebookRepo implements NotebookRepo {
 
   @Override
   public Map<String, NoteInfo> list(AuthenticationInfo subject) throws IOException {
-    try {
-      Map<String, NoteInfo> infos = new HashMap<>();
-      Iterable<Blob> blobsUnderDir;
-      if (basePath.isPresent()) {
-        blobsUnderDir = storage
-          .list(bucketName, BlobListOption.prefix(this.basePath.get() + "/"))
-          .iterateAll();
-      } else {
-        blobsUnderDir = storage
-          .list(bucketName)
-          .iterateAll();
-      }
-      for (Blob b : blobsUnderDir) {
-        Matcher matcher = notePathPattern.matcher(b.getName());
-        if (matcher.matches()) {
-          // Callers only use the id field, so do not fetch each note
-          // This matches the implementation in FileSystemNoteRepo#list
-          String noteFileName = matcher.group(1);
-          try {
-            String noteId = getNoteId(noteFileName);
-            String notePath = getNotePath("", noteFileName);
-            infos.put(noteId, new NoteInfo(noteId, notePath));
-          } catch (IOException e) {
-            LOGGER.warn(e.getMessage());
-          }
-        }
-      }
-      return infos;
-    } catch (StorageException se) {
-      throw new IOException("Could not list GCS directory: " + se.getMessage(), se);
-    }
+    return client.listNotes(this);
   }
 
   @Override
   public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    BlobId blobId = makeBlobId(noteId, notePath);
-    byte[] contents;
-    try {
-      contents = storage.readAllBytes(blobId);
-    } catch (StorageException se) {
-      throw new IOException("Could not read " + blobId.toString() + ": " + se.getMessage(), se);
-    }
+    return client.readNote(this, noteId, notePath, encoding);
+  }
 
-    try {
-      return Note.fromJson(new String(contents, encoding));
-    } catch (JsonParseException jpe) {
-      throw new IOException(
-          "Could note parse as json " + blobId.toString() + jpe.getMessage(), jpe);
-    }
+  @Override
+  public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    return client.readNotes(this, noteInfos, encoding);
   }
 
   @Override
@@ -219,6 +178,7 @@ public class GCSNotebookRepo implements NotebookRepo {
       if (!deleted) {
         throw new IOException("Tried to remove nonexistent blob " + blobId.toString());
       }
+      client.invalidate(buildNoteFileName(noteId, notePath));
     } catch (StorageException se) {
       throw new IOException("Could not remove " + blobId.toString() + ": " + se.getMessage(), se);
     }
@@ -231,7 +191,9 @@ public class GCSNotebookRepo implements NotebookRepo {
 
   @Override
   public void close() {
-    //no-op
+    if (client != null) {
+      client.close();
+    }
   }
 
   @Override
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.StorageException;
+import com.google.common.base.Optional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ObjectStore of the notes under basePath of a GCS bucket. Folders are listed as the current
+ * directory of a prefix, and the content of a blob is only downloaded when its ETag differs
+ * from the cached copy.
+ */
+class GCSObjectStore implements ObjectStore {
+
+  private final Storage storage;
+  private final String bucketName;
+  private final String rootPrefix;
+
+  GCSObjectStore(Storage storage, String bucketName, Optional<String> basePath) {
+    this.storage = storage;
+    this.bucketName = bucketName;
+    this.rootPrefix = basePath.isPresent() ? basePath.get() + "/" : "";
+  }
+
+  @Override
+  public Listing list(String folder) throws IOException {
+    List<String> keys = new ArrayList<>();
+    List<String> folders = new ArrayList<>();
+    Map<String, ObjectInfo> infos = new HashMap<>();
+    String prefix = rootPrefix + folder;
+    try {
+      Iterable<Blob> blobs;
+      if (prefix.isEmpty()) {
+        blobs = storage.list(bucketName, BlobListOption.currentDirectory()).iterateAll();
+      } else {
+        blobs = storage.list(bucketName, BlobListOption.prefix(prefix),
+            BlobListOption.currentDirectory()).iterateAll();
+      }
+      for (Blob b : blobs) {
+        if (b.getName().equals(prefix)) {
+          // placeholder object of the folder itself
+          continue;
+        }
+        String key = b.getName().substring(rootPrefix.length());
+        if (b.isDirectory() || key.endsWith("/")) {
+          folders.add(key);
+        } else {
+          keys.add(key);
+          infos.put(key, new ObjectInfo(b.getEtag(), b.getSize() == null ? -1 : b.getSize()));
+        }
+      }
+    } catch (StorageException se) {
+      throw new IOException("Could not list GCS directory: " + se.getMessage(), se);
+    }
+    return new Listing(keys, folders, infos);
+  }
+
+  @Override
+  public StoredObject read(String key, String etag) throws IOException {
+    BlobId blobId = BlobId.of(bucketName, rootPrefix + key);
+    try {
+      Blob blob = storage.get(blobId);
+      if (blob == null) {
+        throw new IOException("Could not read " + blobId.toString() + ": not found");
+      }
+      if (etag != null && etag.equals(blob.getEtag())) {
+        return null;
+      }
+      // the BlobId of the metadata has its generation, so the content matches the etag
+      return new StoredObject(blob.getEtag(), blob.getContent());
+    } catch (StorageException se) {
+      throw new IOException("Could not read " + blobId.toString() + ": " + se.getMessage(), se);
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.DiffCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of the changes to the notebook Git repository.
+ *
+ * Only one thread stages and commits at a time. The changes requested while a commit is running
+ * are queued, and the next thread which gets the lock commits all of them together, so that
+ * many users checkpointing at the same time make a few commits instead of waiting for each
+ * other one commit at a time. A commit of several changes has one line per change in its
+ * message, see {@link #getChangeMessage(String, String)}.
+ */
+class GitCommitQueue {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GitCommitQueue.class);
+
+  private final Git git;
+  // held while staging and committing, and by other writers of the repository such as gc
+  private final ReentrantLock commitLock = new ReentrantLock();
+  // guarded by itself
+  private final List<Change> pendingChanges = new ArrayList<>();
+
+  private final AtomicLong commits = new AtomicLong();
+  private final AtomicLong committedChanges = new AtomicLong();
+
+  GitCommitQueue(Git git) {
+    this.git = git;
+  }
+
+  /**
+   * Commit the change, maybe together with other changes.
+   *
+   * @return the revision of the commit, or Revision.EMPTY if the change has nothing to commit
+   */
+  Revision commit(Change change) throws IOException {
+    synchronized (pendingChanges) {
+      pendingChanges.add(change);
+    }
+    commitLock.lock();
+    try {
+      if (!change.done) {
+        List<Change> batch;
+        synchronized (pendingChanges) {
+          batch = new ArrayList<>(pendingChanges);
+          pendingChanges.clear();
+        }
+        commitBatch(batch);
+      }
+    } finally {
+      commitLock.unlock();
+    }
+    if (change.error != null) {
+      throw change.error;
+    }
+    return change.revision;
+  }
+
+  private void commitBatch(List<Change> batch) {
+    List<Change> staged = new ArrayList<>();
+    for (Change change : batch) {
+      try {
+        change.stage(git);
+        staged.add(change);
+      } catch (GitAPIException | IOException e) {
+        change.fail(e);
+      }
+    }
+    List<Change> committed = new ArrayList<>();
+    try {
+      Set<String> changedPaths = new HashSet<>();
+      DiffCommand diffCommand = git.diff().setCached(true);
+      if (git.getRepository().resolve(Constants.HEAD) == null) {
+        // nothing is committed yet, compare the index with an empty tree
+        diffCommand.setOldTree(new EmptyTreeIterator());
+      }
+      for (DiffEntry diff : diffCommand.call()) {
+        changedPaths.add(diff.getOldPath());
+        changedPaths.add(diff.getNewPath());
+      }
+      Set<String> committedPaths = new HashSet<>();
+      for (Change change : staged) {
+        // the same note checkpointed twice in a batch is committed once, like done in sequence
+        if (change.isChanged(changedPaths) && committedPaths.add(change.path)) {
+          committed.add(change);
+        } else {
+          LOGGER.debug("No changes found {}", change.path);
+          change.complete(Revision.EMPTY);
+        }
+      }
+      if (committed.isEmpty()) {
+        return;
+      }
+      StringBuilder message = new StringBuilder();
+      if (committed.size() == 1) {
+        message.append(committed.get(0).message);
+      } else {
+        message.append("Commit ").append(committed.size()).append(" changes\n");
+        for (Change change : committed) {
+          message.append('\n').append(getChangeMessage(change.path, change.message));
+        }
+      }
+      RevCommit commit = git.commit().setMessage(message.toString()).call();
+      commits.incrementAndGet();
+      committedChanges.addAndGet(committed.size());
+      LOGGER.debug("Committed {} changes as {}", committed.size(), commit.getName());
+      for (Change change : committed) {
+        change.complete(new Revision(commit.getName(), getShortMessage(change.message),
+            commit.getCommitTime()));
+      }
+    } catch (GitAPIException | IOException | RuntimeException e) {
+      LOGGER.error("Failed to commit {} changes to Git", staged.size(), e);
+      for (Change change : staged) {
+        if (!change.done) {
+          change.fail(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Line of the message of a commit of several changes which describes one of them.
+   *
+   * @param path file name of the note, or the folder ending with "/" the change is about
+   */
+  static String getChangeMessage(String path, String message) {
+    return path + ": " + getShortMessage(message);
+  }
+
+  private static String getShortMessage(String message) {
+    return message.trim().replaceAll("\\s*\\n\\s*", " ");
+  }
+
+  ReentrantLock getCommitLock() {
+    return commitLock;
+  }
+
+  int getPendingCount() {
+    synchronized (pendingChanges) {
+      return pendingChanges.size();
+    }
+  }
+
+  long getCommitCount() {
+    return commits.get();
+  }
+
+  long getCommittedChangeCount() {
+    return committedChanges.get();
+  }
+
+  /**
+   * Note file or folder to be committed.
+   */
+  abstract static class Change {
+    final String path;
+    final String message;
+    volatile boolean done;
+    Revision revision;
+    IOException error;
+
+    Change(String path, String message) {
+      this.path = path;
+      this.message = message;
+    }
+
+    /**
+     * Add the change to the index.
+     */
+    abstract void stage(Git git) throws GitAPIException, IOException;
+
+    boolean isChanged(Set<String> changedPaths) {
+      return isChanged(path, changedPaths);
+    }
+
+    static boolean isChanged(String path, Set<String> changedPaths) {
+      if (!path.endsWith("/")) {
+        return changedPaths.contains(path);
+      }
+      for (String changedPath : changedPaths) {
+        if (changedPath.startsWith(path)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void complete(Revision revision) {
+      this.revision = revision;
+      this.done = true;
+    }
+
+    void fail(Exception e) {
+      this.error = e instanceof IOException ? (IOException) e : new IOException(e);
+      this.done = true;
+    }
+  }
+
+  /**
+   * The current content of a note file.
+   */
+  static class Checkpoint extends Change {
+
+    Checkpoint(String noteFileName, String message) {
+      super(noteFileName, message);
+    }
+
+    @Override
+    void stage(Git git) throws GitAPIException {
+      git.add().addFilepattern(path).call();
+    }
+  }
+
+  /**
+   * A note file or a folder which is moved in the working tree, it is only committed if the old
+   * path is in the index, i.e. it was checkpointed before.
+   */
+  static class Move extends Change {
+    private final String oldPath;
+
+    /**
+     * @param oldPath file name of the note, or the folder ending with "/"
+     * @param newPath same as oldPath
+     */
+    Move(String oldPath, String newPath, String message) {
+      super(newPath, message);
+      this.oldPath = oldPath;
+    }
+
+    @Override
+    void stage(Git git) throws GitAPIException, IOException {
+      DirCache index = git.getRepository().readDirCache();
+      boolean tracked = oldPath.endsWith("/") ?
+          index.getEntriesWithin(oldPath.substring(0, oldPath.length() - 1)).length > 0 :
+          index.findEntry(oldPath) >= 0;
+      if (!tracked) {
+        return;
+      }
+      git.rm().setCached(true).addFilepattern(stripSlash(oldPath)).call();
+      git.add().addFilepattern(stripSlash(path)).call();
+    }
+
+    @Override
+    boolean isChanged(Set<String> changedPaths) {
+      return super.isChanged(changedPaths) || isChanged(oldPath, changedPaths);
+    }
+
+    private static String stripSlash(String path) {
+      return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+  }
+}
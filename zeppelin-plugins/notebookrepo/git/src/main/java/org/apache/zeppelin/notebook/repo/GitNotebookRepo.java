@@ -19,28 +19,35 @@ package org.apache.zeppelin.notebook.repo;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
-import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.user.AuthenticationInfo;
+import org.eclipse.jetty.util.annotation.ManagedAttribute;
+import org.eclipse.jetty.util.annotation.ManagedObject;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.api.errors.NoHeadException;
-import org.eclipse.jgit.diff.DiffEntry;
-import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.errors.AmbiguousObjectException;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.RevisionSyntaxException;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
-import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
-import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * NotebookRepo that hosts all the notebook FS in a single Git repo
@@ -50,12 +57,23 @@ import java.util.List;
  *   - only basic local git file repo, no remote Github push\pull. GitHub integration is
  *   implemented in @see {@link org.apache.zeppelin.notebook.repo.GitNotebookRepo}
  *
+ * Checkpoints and moves are committed by {@link GitCommitQueue}, which groups the changes
+ * requested at the same time into one commit. Revision history is served from
+ * {@link GitRevisionIndex}, and revisions of notes are read from the object database without
+ * touching the working tree. The repository is repacked every zeppelin.notebook.git.gc.interval.
+ * Commit counts and repository statistics are published over JMX.
+ *
  *   TODO(bzz): add default .gitignore
  */
+@ManagedObject("gitNotebookRepo")
 public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWithVersionControl {
   private static final Logger LOGGER = LoggerFactory.getLogger(GitNotebookRepo.class);
 
   private Git git;
+  private GitCommitQueue commitQueue;
+  private GitRevisionIndex revisionIndex;
+  private ScheduledExecutorService gcExecutor;
+  private volatile Properties lastGcStatistics;
 
   public GitNotebookRepo() {
     super();
@@ -81,7 +99,18 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
       LOGGER.info("Git repo {} does not exist, creating a new one", localRepo.getDirectory());
       localRepo.create();
     }
-    git = new Git(localRepo);
+    setGit(new Git(localRepo));
+
+    long gcInterval = conf.getZeppelinNotebookGitGcInterval();
+    if (gcInterval > 0) {
+      gcExecutor = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("GitNotebookRepo-gc-%d")
+              .setDaemon(true)
+              .build());
+      gcExecutor.scheduleWithFixedDelay(this::gcQuietly, gcInterval, gcInterval,
+          TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
@@ -92,30 +121,19 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
     super.move(noteId, notePath, newNotePath, subject);
     String noteFileName = buildNoteFileName(noteId, notePath);
     String newNoteFileName = buildNoteFileName(noteId, newNotePath);
-    git.rm().addFilepattern(noteFileName);
-    git.add().addFilepattern(newNoteFileName);
-    try {
-      git.commit().setMessage("Move note " + noteId + " from " + noteFileName + " to " +
-          newNoteFileName).call();
-    } catch (GitAPIException e) {
-      throw new IOException(e);
-    }
+    commitQueue.commit(new GitCommitQueue.Move(noteFileName, newNoteFileName,
+        "Move note " + noteId + " from " + noteFileName + " to " + newNoteFileName));
   }
 
   @Override
   public void move(String folderPath, String newFolderPath,
                    AuthenticationInfo subject) throws IOException {
     super.move(folderPath, newFolderPath, subject);
-    git.rm().addFilepattern(folderPath.substring(1));
-    git.add().addFilepattern(newFolderPath.substring(1));
-    try {
-      git.commit().setMessage("Move folder " + folderPath + " to " + newFolderPath).call();
-    } catch (GitAPIException e) {
-      throw new IOException(e);
-    }
+    commitQueue.commit(new GitCommitQueue.Move(folderPath.substring(1) + "/",
+        newFolderPath.substring(1) + "/", "Move folder " + folderPath + " to " + newFolderPath));
   }
 
-  /* implemented as git add+commit
+  /* implemented as git add+commit, maybe together with the checkpoints of other notes
    * @param noteId is the noteId
    * @param noteName name of the note
    * @param commitMessage is a commit message (checkpoint message)
@@ -128,89 +146,58 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
                              String commitMessage,
                              AuthenticationInfo subject) throws IOException {
     String noteFileName = buildNoteFileName(noteId, notePath);
-    Revision revision = Revision.EMPTY;
     try {
-      List<DiffEntry> gitDiff = git.diff().call();
-      if (!gitDiff.isEmpty()) {
-        LOGGER.debug("Changes found for pattern '{}': {}", noteFileName, gitDiff);
-        DirCache added = git.add().addFilepattern(noteFileName).call();
-        LOGGER.debug("{} changes are about to be commited", added.getEntryCount());
-        RevCommit commit = git.commit().setMessage(commitMessage).call();
-        revision = new Revision(commit.getName(), commit.getShortMessage(), commit.getCommitTime());
-      } else {
-        LOGGER.debug("No changes found {}", noteFileName);
-      }
-    } catch (GitAPIException e) {
+      return commitQueue.commit(new GitCommitQueue.Checkpoint(noteFileName, commitMessage));
+    } catch (IOException e) {
       LOGGER.error("Failed to add+commit {} to Git", noteFileName, e);
+      return Revision.EMPTY;
     }
-    return revision;
   }
 
   /**
-   * the idea is to:
-   * 1. stash current changes
-   * 2. remember head commit and checkout to the desired revision
-   * 3. get note and checkout back to the head
-   * 4. apply stash on top and remove it
+   * Read the note file of the given revision from the object database, so that it can run
+   * concurrently with other reads and with writes to the working tree.
    */
   @Override
-  public synchronized Note get(String noteId,
-                               String notePath,
-                               String revId,
-                               AuthenticationInfo subject) throws IOException {
-    Note note = null;
-    RevCommit stash = null;
+  public Note get(String noteId,
+                  String notePath,
+                  String revId,
+                  AuthenticationInfo subject) throws IOException {
     String noteFileName = buildNoteFileName(noteId, notePath);
-    try {
-      List<DiffEntry> gitDiff = git.diff().setPathFilter(PathFilter.create(noteFileName)).call();
-      boolean modified = !gitDiff.isEmpty();
-      if (modified) {
-        // stash changes
-        stash = git.stashCreate().call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOGGER.debug("Created stash : {}, stash size : {}", stash, stashes.size());
+    Repository repository = git.getRepository();
+    try (RevWalk walk = new RevWalk(repository)) {
+      ObjectId commitId = repository.resolve(revId);
+      if (commitId == null) {
+        LOGGER.error("Failed to return note from revision \"{}\", it is not found", revId);
+        return null;
       }
-      ObjectId head = git.getRepository().resolve(Constants.HEAD);
-      // checkout to target revision
-      git.checkout().setStartPoint(revId).addPath(noteFileName).call();
-      // get the note
-      note = super.get(noteId, notePath, subject);
-      // checkout back to head
-      git.checkout().setStartPoint(head.getName()).addPath(noteFileName).call();
-      if (modified && stash != null) {
-        // unstash changes
-        ObjectId applied = git.stashApply().setStashRef(stash.getName()).call();
-        ObjectId dropped = git.stashDrop().setStashRef(0).call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOGGER.debug("Stash applied as : {}, and dropped : {}, stash size: {}", applied, dropped,
-            stashes.size());
+      RevCommit commit = walk.parseCommit(commitId);
+      try (TreeWalk treeWalk =
+               TreeWalk.forPath(walk.getObjectReader(), noteFileName, commit.getTree())) {
+        if (treeWalk == null) {
+          LOGGER.error("Failed to return note from revision \"{}\", {} is not found", revId,
+              noteFileName);
+          return null;
+        }
+        byte[] content = walk.getObjectReader().open(treeWalk.getObjectId(0)).getBytes();
+        Note note = Note.fromJson(new String(content, conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+        note.setPath(notePath);
+        return note;
       }
-    } catch (GitAPIException e) {
+    } catch (RevisionSyntaxException | AmbiguousObjectException | MissingObjectException
+        | IncorrectObjectTypeException e) {
       LOGGER.error("Failed to return note from revision \"{}\"", revId, e);
+      return null;
     }
-    return note;
   }
 
   @Override
   public List<Revision> revisionHistory(String noteId,
                                         String notePath,
                                         AuthenticationInfo subject) throws IOException {
-    List<Revision> history = Lists.newArrayList();
     String noteFileName = buildNoteFileName(noteId, notePath);
     LOGGER.debug("Listing history for {}:", noteFileName);
-    try {
-      Iterable<RevCommit> logs = git.log().addPath(noteFileName).call();
-      for (RevCommit log: logs) {
-        history.add(new Revision(log.getName(), log.getShortMessage(), log.getCommitTime()));
-        LOGGER.debug(" - ({},{},{})", log.getName(), log.getCommitTime(), log.getFullMessage());
-      }
-    } catch (NoHeadException e) {
-      //when no initial commit exists
-      LOGGER.warn("No Head found for {}, {}", noteFileName, e.getMessage());
-    } catch (GitAPIException e) {
-      LOGGER.error("Failed to get logs for {}", noteFileName, e);
-    }
-    return history;
+    return revisionIndex.getRevisions(noteFileName);
   }
 
   @Override
@@ -224,8 +211,73 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
     return revisionNote;
   }
   
+  /**
+   * Repack loose objects and packs, and prune unreachable objects. Commits wait until it is done.
+   *
+   * @return statistics of the repository after gc
+   */
+  public Properties gc() throws IOException {
+    commitQueue.getCommitLock().lock();
+    try {
+      Properties before = git.gc().getStatistics();
+      Properties after = git.gc().call();
+      lastGcStatistics = after;
+      LOGGER.info("Git gc of notebook repository is done, before: {}, after: {}", before, after);
+      return after;
+    } catch (GitAPIException e) {
+      throw new IOException(e);
+    } finally {
+      commitQueue.getCommitLock().unlock();
+    }
+  }
+
+  private void gcQuietly() {
+    try {
+      gc();
+    } catch (Exception e) {
+      LOGGER.warn("Fail to gc notebook repository", e);
+    }
+  }
+
+  /**
+   * Current number and size of loose and packed objects, packs and refs of the repository.
+   */
+  @ManagedAttribute
+  public Properties getRepositoryStatistics() throws IOException {
+    try {
+      return git.gc().getStatistics();
+    } catch (GitAPIException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Statistics of the repository after the last gc, null if there's no gc yet.
+   */
+  @ManagedAttribute
+  public Properties getLastGcStatistics() {
+    return lastGcStatistics;
+  }
+
+  @ManagedAttribute
+  public long getCommitCount() {
+    return commitQueue.getCommitCount();
+  }
+
+  /**
+   * Number of checkpoints and moves committed, it is larger than the commit count when changes
+   * are committed together.
+   */
+  @ManagedAttribute
+  public long getCommittedChangeCount() {
+    return commitQueue.getCommittedChangeCount();
+  }
+
   @Override
   public void close() {
+    if (gcExecutor != null) {
+      gcExecutor.shutdownNow();
+    }
     git.getRepository().close();
   }
 
@@ -236,6 +288,12 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
 
   void setGit(Git git) {
     this.git = git;
+    this.commitQueue = new GitCommitQueue(git);
+    this.revisionIndex = new GitRevisionIndex(git.getRepository());
+  }
+
+  GitCommitQueue getCommitQueue() {
+    return commitQueue;
   }
 
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Revisions of each file in the notebook Git repository, newest first, same as
+ * `git log -- path`.
+ *
+ * The index is built once by walking the history, after that only the commits added since the
+ * last lookup are walked. If HEAD no longer contains the indexed commit, e.g. after a reset, the
+ * index is rebuilt.
+ */
+class GitRevisionIndex {
+
+  private final Repository repository;
+  // guarded by this
+  private ObjectId indexedHead;
+  private final Map<String, List<Revision>> revisions = new HashMap<>();
+
+  GitRevisionIndex(Repository repository) {
+    this.repository = repository;
+  }
+
+  synchronized List<Revision> getRevisions(String path) throws IOException {
+    update();
+    List<Revision> pathRevisions = revisions.get(path);
+    return pathRevisions == null ? new ArrayList<>() : new ArrayList<>(pathRevisions);
+  }
+
+  private void update() throws IOException {
+    ObjectId head = repository.resolve(Constants.HEAD);
+    if (head == null) {
+      // no commit yet
+      indexedHead = null;
+      revisions.clear();
+      return;
+    }
+    if (head.equals(indexedHead)) {
+      return;
+    }
+    Map<String, List<Revision>> newRevisions = new HashMap<>();
+    try (RevWalk walk = new RevWalk(repository)) {
+      RevCommit headCommit = walk.parseCommit(head);
+      if (indexedHead != null) {
+        RevCommit indexedCommit = walk.parseCommit(indexedHead);
+        if (walk.isMergedInto(indexedCommit, headCommit)) {
+          walk.reset();
+          walk.markUninteresting(indexedCommit);
+        } else {
+          walk.reset();
+          revisions.clear();
+        }
+      }
+      walk.markStart(headCommit);
+      for (RevCommit commit : walk) {
+        for (String path : getChangedPaths(walk, commit)) {
+          List<Revision> pathRevisions = newRevisions.get(path);
+          if (pathRevisions == null) {
+            pathRevisions = new ArrayList<>();
+            newRevisions.put(path, pathRevisions);
+          }
+          pathRevisions.add(
+              new Revision(commit.getName(), getMessage(commit, path), commit.getCommitTime()));
+        }
+      }
+    }
+    for (Map.Entry<String, List<Revision>> entry : newRevisions.entrySet()) {
+      List<Revision> oldRevisions = revisions.get(entry.getKey());
+      if (oldRevisions != null) {
+        entry.getValue().addAll(oldRevisions);
+      }
+      revisions.put(entry.getKey(), entry.getValue());
+    }
+    indexedHead = head.copy();
+  }
+
+  /**
+   * Files which differ from the parent commit. For a merge, files which differ from all the
+   * parents, as `git log` simplifies the history.
+   */
+  private Set<String> getChangedPaths(RevWalk walk, RevCommit commit) throws IOException {
+    ObjectReader reader = walk.getObjectReader();
+    if (commit.getParentCount() == 0) {
+      return getChangedPaths(reader, null, commit);
+    }
+    Set<String> paths = null;
+    for (RevCommit parent : commit.getParents()) {
+      Set<String> parentPaths = getChangedPaths(reader, walk.parseCommit(parent), commit);
+      if (paths == null) {
+        paths = parentPaths;
+      } else {
+        paths.retainAll(parentPaths);
+      }
+    }
+    return paths;
+  }
+
+  private Set<String> getChangedPaths(ObjectReader reader, RevCommit parent, RevCommit commit)
+      throws IOException {
+    Set<String> paths = new HashSet<>();
+    try (TreeWalk treeWalk = new TreeWalk(reader)) {
+      treeWalk.setRecursive(true);
+      if (parent == null) {
+        treeWalk.addTree(new EmptyTreeIterator());
+      } else {
+        treeWalk.addTree(parent.getTree());
+      }
+      treeWalk.addTree(commit.getTree());
+      treeWalk.setFilter(TreeFilter.ANY_DIFF);
+      while (treeWalk.next()) {
+        paths.add(treeWalk.getPathString());
+      }
+    }
+    return paths;
+  }
+
+  /**
+   * Short message of the commit, or the line about this file if the commit has several changes.
+   */
+  private String getMessage(RevCommit commit, String path) {
+    String[] lines = commit.getFullMessage().split("\n");
+    if (lines.length > 2) {
+      String folderMessage = null;
+      for (String line : lines) {
+        int index = line.indexOf(": ");
+        if (index <= 0) {
+          continue;
+        }
+        String changePath = line.substring(0, index);
+        if (changePath.equals(path)) {
+          return line.substring(index + 2);
+        }
+        if (changePath.endsWith("/") && path.startsWith(changePath)) {
+          folderMessage = line.substring(index + 2);
+        }
+      }
+      if (folderMessage != null) {
+        return folderMessage;
+      }
+    }
+    return commit.getShortMessage();
+  }
+}
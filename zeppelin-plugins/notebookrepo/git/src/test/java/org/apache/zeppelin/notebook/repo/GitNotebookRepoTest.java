@@ -22,8 +22,10 @@ import static org.mockito.Mockito.mock;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
@@ -200,6 +202,145 @@ public class GitNotebookRepoTest {
     assertThat(notebookHistoryAfter.size()).isEqualTo(initialCount + 1);
   }
 
+  @Test
+  public void concurrentCheckpointsInOneCommitTest() throws Exception {
+    notebookRepo = new GitNotebookRepo(conf);
+    notebookRepo.checkpoint(TEST_NOTE_ID, TEST_NOTE_PATH, "first commit, note1", null);
+    notebookRepo.checkpoint(TEST_NOTE_ID2, TEST_NOTE_PATH2, "first commit, note2", null);
+    assertThat(notebookRepo.getCommitCount()).isEqualTo(2);
+
+    addParagraph(TEST_NOTE_ID, TEST_NOTE_PATH);
+    addParagraph(TEST_NOTE_ID2, TEST_NOTE_PATH2);
+
+    // hold the commit lock, so that both checkpoints are pending at the same time
+    GitCommitQueue commitQueue = notebookRepo.getCommitQueue();
+    List<Thread> threads = new ArrayList<>();
+    final List<Revision> revisions = new ArrayList<>();
+    commitQueue.getCommitLock().lock();
+    try {
+      threads.add(checkpointInThread(TEST_NOTE_ID, TEST_NOTE_PATH, "second commit, note1",
+          revisions));
+      threads.add(checkpointInThread(TEST_NOTE_ID2, TEST_NOTE_PATH2, "second commit, note2",
+          revisions));
+      // unchanged note is not committed
+      threads.add(checkpointInThread(TEST_NOTE_ID2, TEST_NOTE_PATH2, "second commit, note2",
+          revisions));
+      while (commitQueue.getPendingCount() < 3) {
+        Thread.sleep(10);
+      }
+    } finally {
+      commitQueue.getCommitLock().unlock();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(notebookRepo.getCommitCount()).isEqualTo(3);
+    assertThat(notebookRepo.getCommittedChangeCount()).isEqualTo(4);
+    assertThat(revisions).hasSize(3);
+    assertThat(revisions).contains(Revision.EMPTY);
+
+    List<Revision> history1 = notebookRepo.revisionHistory(TEST_NOTE_ID, TEST_NOTE_PATH, null);
+    List<Revision> history2 = notebookRepo.revisionHistory(TEST_NOTE_ID2, TEST_NOTE_PATH2, null);
+    assertThat(history1).hasSize(2);
+    assertThat(history2).hasSize(2);
+    assertThat(history1.get(0).id).isEqualTo(history2.get(0).id);
+    assertThat(history1.get(0).message).isEqualTo("second commit, note1");
+    assertThat(history2.get(0).message).isEqualTo("second commit, note2");
+    assertThat(history1.get(1).message).isEqualTo("first commit, note1");
+
+    // both notes can be read from the shared commit
+    Note note1 = notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, history1.get(0).id, null);
+    Note note2 = notebookRepo.get(TEST_NOTE_ID2, TEST_NOTE_PATH2, history2.get(0).id, null);
+    assertThat(note1.getId()).isEqualTo(TEST_NOTE_ID);
+    assertThat(note2.getId()).isEqualTo(TEST_NOTE_ID2);
+    assertThat(note1.getPath()).isEqualTo(TEST_NOTE_PATH);
+  }
+
+  @Test
+  public void historyWithExternalCommitTest() throws IOException, GitAPIException {
+    notebookRepo = new GitNotebookRepo(conf);
+    notebookRepo.checkpoint(TEST_NOTE_ID, TEST_NOTE_PATH, "first commit", null);
+    assertThat(notebookRepo.revisionHistory(TEST_NOTE_ID, TEST_NOTE_PATH, null)).hasSize(1);
+
+    // commit made outside of the repo is indexed as well
+    addParagraph(TEST_NOTE_ID, TEST_NOTE_PATH);
+    Git git = notebookRepo.getGit();
+    git.add().addFilepattern(".").call();
+    git.commit().setMessage("external commit").call();
+
+    List<Revision> history = notebookRepo.revisionHistory(TEST_NOTE_ID, TEST_NOTE_PATH, null);
+    assertThat(history).hasSize(2);
+    assertThat(history.get(0).message).isEqualTo("external commit");
+    assertThat(history.get(1).message).isEqualTo("first commit");
+    assertThat(notebookRepo.revisionHistory(TEST_NOTE_ID2, TEST_NOTE_PATH2, null)).hasSize(1);
+  }
+
+  @Test
+  public void moveNoteTest() throws IOException, GitAPIException {
+    notebookRepo = new GitNotebookRepo(conf);
+    notebookRepo.checkpoint(TEST_NOTE_ID, TEST_NOTE_PATH, "first commit", null);
+
+    String newNotePath = "/my_project/my_note1_moved";
+    notebookRepo.move(TEST_NOTE_ID, TEST_NOTE_PATH, newNotePath, null);
+
+    // the rename is committed, nothing is left in the index
+    assertThat(notebookRepo.getGit().status().call().getRemoved()).isEmpty();
+    assertThat(notebookRepo.getGit().status().call().getAdded()).isEmpty();
+    List<Revision> history = notebookRepo.revisionHistory(TEST_NOTE_ID, newNotePath, null);
+    assertThat(history).hasSize(1);
+    assertThat(history.get(0).message).startsWith("Move note " + TEST_NOTE_ID);
+    assertThat(notebookRepo.get(TEST_NOTE_ID, newNotePath, history.get(0).id, null))
+        .isNotNull();
+    assertThat(notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, history.get(0).id, null))
+        .isNull();
+  }
+
+  @Test
+  public void gcTest() throws IOException {
+    notebookRepo = new GitNotebookRepo(conf);
+    notebookRepo.checkpoint(TEST_NOTE_ID, TEST_NOTE_PATH, "first commit", null);
+    notebookRepo.checkpoint(TEST_NOTE_ID2, TEST_NOTE_PATH2, "first commit", null);
+    assertThat(notebookRepo.getLastGcStatistics()).isNull();
+    Properties before = notebookRepo.getRepositoryStatistics();
+    assertThat((Long) before.get("numberOfLooseObjects")).isGreaterThan(0L);
+
+    Properties after = notebookRepo.gc();
+    assertThat((Long) after.get("numberOfLooseObjects")).isEqualTo(0L);
+    assertThat((Long) after.get("numberOfPackFiles")).isEqualTo(1L);
+    assertThat(notebookRepo.getLastGcStatistics()).isEqualTo(after);
+
+    // history and revisions are still readable after repack
+    List<Revision> history = notebookRepo.revisionHistory(TEST_NOTE_ID, TEST_NOTE_PATH, null);
+    assertThat(history).hasSize(1);
+    assertThat(notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, history.get(0).id, null))
+        .isNotNull();
+  }
+
+  private void addParagraph(String noteId, String notePath) throws IOException {
+    Note note = notebookRepo.get(noteId, notePath, null);
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%md group commit test text");
+    notebookRepo.save(note, null);
+  }
+
+  private Thread checkpointInThread(final String noteId, final String notePath,
+                                    final String message, final List<Revision> revisions) {
+    Thread thread = new Thread(() -> {
+      try {
+        Revision revision = notebookRepo.checkpoint(noteId, notePath, message, null);
+        synchronized (revisions) {
+          revisions.add(revision);
+        }
+      } catch (IOException e) {
+        LOG.error("Fail to checkpoint {}", noteId, e);
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
   private boolean containsNote(Map<String, NoteInfo> notes, String noteId) {
     for (NoteInfo note: notes.values()) {
       if (note.getId().equals(noteId)) {
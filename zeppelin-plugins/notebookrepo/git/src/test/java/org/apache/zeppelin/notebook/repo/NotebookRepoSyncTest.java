@@ -19,6 +19,8 @@ package org.apache.zeppelin.notebook.repo;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -401,6 +403,40 @@ public class NotebookRepoSyncTest {
     assertEquals(true, authInfo.isWriter(note.getId(), entity));
   }
 
+  @Test
+  public void testSyncWithManifest() throws IOException {
+    Note note = notebookSync.createNote("/test", "test", anonymous);
+    // both storages have the same content
+    assertEquals(notebookRepoSync.getManifest(0).get(note.getId()).hash,
+        notebookRepoSync.getManifest(1).get(note.getId()).hash);
+    // the version of the saved note is taken from the next listing
+    assertNull(notebookRepoSync.getManifest(1).get(note.getId()).version);
+    notebookRepoSync.sync(anonymous);
+    String version = notebookRepoSync.getManifest(1).get(note.getId()).version;
+    assertNotNull(version);
+
+    /* change the note in secondary storage without NotebookRepoSync */
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("hello world");
+    notebookRepoSync.getRepo(1).save(note, anonymous);
+
+    /* the manifest doesn't know the change, but the note in the listing is another version,
+     * so sync compares the content */
+    notebookRepoSync.sync(anonymous);
+    assertEquals(1, notebookRepoSync.get(0, note.getId(), note.getPath(), anonymous)
+        .getParagraphs().size());
+    assertEquals(notebookRepoSync.getManifest(0).get(note.getId()).hash,
+        notebookRepoSync.getManifest(1).get(note.getId()).hash);
+
+    /* manifests are persisted */
+    NotebookRepoSync reloaded = new NotebookRepoSync(conf);
+    assertEquals(notebookRepoSync.getManifest(0).get(note.getId()).hash,
+        reloaded.getManifest(0).get(note.getId()).hash);
+    notebookRepoSync.remove(note.getId(), note.getPath(), anonymous);
+    assertEquals(null, notebookRepoSync.getManifest(1).get(note.getId()));
+  }
+
   static void delete(File file) {
     if (file.isFile()) {
       file.delete();
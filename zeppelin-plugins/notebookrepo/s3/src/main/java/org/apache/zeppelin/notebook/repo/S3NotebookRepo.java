@@ -20,16 +20,13 @@ package org.apache.zeppelin.notebook.repo;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
@@ -49,7 +46,6 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.model.CryptoConfiguration;
 import com.amazonaws.services.s3.model.EncryptionMaterialsProvider;
-import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.KMSEncryptionMaterialsProvider;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
@@ -57,7 +53,6 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
-import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
 /**
@@ -86,6 +81,8 @@ public class S3NotebookRepo implements NotebookRepo {
   private boolean useServerSideEncryption;
   private ZeppelinConfiguration conf;
   private String rootFolder;
+  // lists and reads notes concurrently
+  private ObjectStoreClient client;
 
   public S3NotebookRepo() {
 
@@ -128,6 +125,7 @@ public class S3NotebookRepo implements NotebookRepo {
 
     // set S3 endpoint to use
     s3client.setEndpoint(conf.getS3Endpoint());
+    this.client = new ObjectStoreClient(new S3ObjectStore(s3client, bucketName, rootFolder), conf);
   }
 
   /**
@@ -175,50 +173,18 @@ public class S3NotebookRepo implements NotebookRepo {
 
   @Override
   public Map<String, NoteInfo> list(AuthenticationInfo subject) throws IOException {
-    Map<String, NoteInfo> notesInfo = new HashMap<>();
-    try {
-      ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
-              .withBucketName(bucketName)
-              .withPrefix(user + "/" + "notebook");
-      ObjectListing objectListing;
-      do {
-        objectListing = s3client.listObjects(listObjectsRequest);
-        for (S3ObjectSummary objectSummary : objectListing.getObjectSummaries()) {
-          if (objectSummary.getKey().endsWith(".zpln")) {
-            try {
-              NoteInfo info = getNoteInfo(objectSummary.getKey());
-              notesInfo.put(info.getId(), info);
-            } catch (IOException e) {
-              LOGGER.warn(e.getMessage());
-            }
-          }
-        }
-        listObjectsRequest.setMarker(objectListing.getNextMarker());
-      } while (objectListing.isTruncated());
-    } catch (AmazonClientException ace) {
-      throw new IOException("Unable to list objects in S3: " + ace, ace);
-    }
-    return notesInfo;
+    return client.listNotes(this);
   }
 
-  private NoteInfo getNoteInfo(String key) throws IOException {
-    return new NoteInfo(getNoteId(key), getNotePath(rootFolder, key));
+  @Override
+  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
+    return client.readNote(this, noteId, notePath, conf.getString(ConfVars.ZEPPELIN_ENCODING));
   }
 
   @Override
-  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    S3Object s3object;
-    try {
-      s3object = s3client.getObject(new GetObjectRequest(bucketName,
-          rootFolder + "/" + buildNoteFileName(noteId, notePath)));
-    }
-    catch (AmazonClientException ace) {
-      throw new IOException("Unable to retrieve object from S3: " + ace, ace);
-    }
-    try (InputStream ins = s3object.getObjectContent()) {
-      String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
-      return Note.fromJson(json);
-    }
+  public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    return client.readNotes(this, noteInfos, conf.getString(ConfVars.ZEPPELIN_ENCODING));
   }
 
   @Override
@@ -254,6 +220,7 @@ public class S3NotebookRepo implements NotebookRepo {
     String newKey = rootFolder + "/" + buildNoteFileName(noteId, newNotePath);
     s3client.copyObject(bucketName, key, bucketName, newKey);
     s3client.deleteObject(bucketName, key);
+    client.invalidate(buildNoteFileName(noteId, notePath));
   }
 
   @Override
@@ -279,6 +246,7 @@ public class S3NotebookRepo implements NotebookRepo {
     catch (AmazonClientException ace) {
       throw new IOException("Unable to remove note in S3: " + ace, ace);
     }
+    client.invalidate(buildNoteFileName(noteId, notePath));
   }
 
   @Override
@@ -288,7 +256,9 @@ public class S3NotebookRepo implements NotebookRepo {
 
   @Override
   public void close() {
-    //no-op
+    if (client != null) {
+      client.close();
+    }
   }
 
   @Override
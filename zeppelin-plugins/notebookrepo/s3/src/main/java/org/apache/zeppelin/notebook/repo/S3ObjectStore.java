@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+/**
+ * ObjectStore of the notes under rootFolder of a S3 bucket. Folders are listed by the "/"
+ * delimiter, and reads send If-None-Match with the ETag of the cached copy.
+ */
+class S3ObjectStore implements ObjectStore {
+
+  private final AmazonS3 s3client;
+  private final String bucketName;
+  private final String rootPrefix;
+
+  S3ObjectStore(AmazonS3 s3client, String bucketName, String rootFolder) {
+    this.s3client = s3client;
+    this.bucketName = bucketName;
+    this.rootPrefix = rootFolder + "/";
+  }
+
+  @Override
+  public Listing list(String folder) throws IOException {
+    List<String> keys = new ArrayList<>();
+    List<String> folders = new ArrayList<>();
+    Map<String, ObjectInfo> infos = new HashMap<>();
+    try {
+      ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+          .withBucketName(bucketName)
+          .withPrefix(rootPrefix + folder)
+          .withDelimiter("/");
+      ObjectListing objectListing = s3client.listObjects(listObjectsRequest);
+      while (true) {
+        for (S3ObjectSummary objectSummary : objectListing.getObjectSummaries()) {
+          String key = objectSummary.getKey().substring(rootPrefix.length());
+          keys.add(key);
+          infos.put(key, new ObjectInfo(objectSummary.getETag(), objectSummary.getSize()));
+        }
+        for (String commonPrefix : objectListing.getCommonPrefixes()) {
+          folders.add(commonPrefix.substring(rootPrefix.length()));
+        }
+        if (!objectListing.isTruncated()) {
+          break;
+        }
+        objectListing = s3client.listNextBatchOfObjects(objectListing);
+      }
+    } catch (AmazonClientException ace) {
+      throw new IOException("Unable to list objects in S3: " + ace, ace);
+    }
+    return new Listing(keys, folders, infos);
+  }
+
+  @Override
+  public StoredObject read(String key, String etag) throws IOException {
+    GetObjectRequest request = new GetObjectRequest(bucketName, rootPrefix + key);
+    if (etag != null) {
+      request.withNonmatchingETagConstraint(etag);
+    }
+    S3Object s3object;
+    try {
+      s3object = s3client.getObject(request);
+    } catch (AmazonClientException ace) {
+      throw new IOException("Unable to retrieve object from S3: " + ace, ace);
+    }
+    if (s3object == null) {
+      // not modified
+      return null;
+    }
+    try (InputStream ins = s3object.getObjectContent()) {
+      return new StoredObject(s3object.getObjectMetadata().getETag(), IOUtils.toByteArray(ins));
+    }
+  }
+}
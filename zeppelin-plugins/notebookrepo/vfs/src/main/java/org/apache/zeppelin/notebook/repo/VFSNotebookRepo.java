@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook.repo;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -53,6 +54,8 @@ public class VFSNotebookRepo implements NotebookRepo {
   protected FileSystemManager fsManager;
   protected FileObject rootNotebookFileObject;
   protected String rootNotebookFolder;
+  // lists and reads notes concurrently
+  protected ObjectStoreClient client;
 
   public VFSNotebookRepo() {
 
@@ -89,6 +92,9 @@ public class VFSNotebookRepo implements NotebookRepo {
           rootNotebookFileObject.getName().getPath());
     }
     this.rootNotebookFolder = rootNotebookFileObject.getName().getPath();
+    if (this.client == null) {
+      this.client = new ObjectStoreClient(new VFSObjectStore(), conf);
+    }
   }
 
   @Override
@@ -96,43 +102,19 @@ public class VFSNotebookRepo implements NotebookRepo {
     // Must to create rootNotebookFileObject each time when call method list, otherwise we can not
     // get the updated data under this folder.
     this.rootNotebookFileObject = fsManager.resolveFile(this.rootNotebookFolder);
-    return listFolder(rootNotebookFileObject);
+    return client.listNotes(this);
   }
 
-  private Map<String, NoteInfo> listFolder(FileObject fileObject) throws IOException {
-    Map<String, NoteInfo> noteInfos = new HashMap<>();
-    if (fileObject.isFolder()) {
-      for (FileObject child : fileObject.getChildren()) {
-        noteInfos.putAll(listFolder(child));
-      }
-    } else {
-      String noteFileName = fileObject.getName().getPath();
-      if (noteFileName.endsWith(".zpln")) {
-        try {
-          String noteId = getNoteId(noteFileName);
-          String notePath = getNotePath(rootNotebookFolder, noteFileName);
-          noteInfos.put(noteId, new NoteInfo(noteId, notePath));
-        } catch (IOException e) {
-          LOGGER.warn(e.getMessage());
-        }
-
-      } else {
-        LOGGER.debug("Unrecognized note file: " + noteFileName);
-      }
-    }
-    return noteInfos;
+  @Override
+  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
+    // NoteManager will setPath, it is set here just for testing
+    return client.readNote(this, noteId, notePath, conf.getString(ConfVars.ZEPPELIN_ENCODING));
   }
 
   @Override
-  public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    FileObject noteFile = rootNotebookFileObject.resolveFile(buildNoteFileName(noteId, notePath),
-        NameScope.DESCENDENT);
-    String json = IOUtils.toString(noteFile.getContent().getInputStream(),
-        conf.getString(ConfVars.ZEPPELIN_ENCODING));
-    Note note = Note.fromJson(json);
-    // setPath here just for testing, because actually NoteManager will setPath
-    note.setPath(notePath);
-    return note;
+  public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    return client.readNotes(this, noteInfos, conf.getString(ConfVars.ZEPPELIN_ENCODING));
   }
 
   @Override
@@ -199,7 +181,49 @@ public class VFSNotebookRepo implements NotebookRepo {
 
   @Override
   public void close() {
-    //no-op    
+    if (client != null) {
+      client.close();
+    }
+  }
+
+  /**
+   * Files under the notebook directory. The modification time of a file is not a reliable
+   * validator, e.g. it has a granularity of one second, so objects have no ETag and are always
+   * read again. The listing still gives modification time and size as the version of a file,
+   * which is what NotebookRepoSync can check without reading the file.
+   */
+  private class VFSObjectStore implements ObjectStore {
+
+    @Override
+    public Listing list(String folder) throws IOException {
+      List<String> keys = new ArrayList<>();
+      List<String> folders = new ArrayList<>();
+      Map<String, ObjectInfo> infos = new HashMap<>();
+      FileObject folderObject = folder.isEmpty() ? rootNotebookFileObject :
+          rootNotebookFileObject.resolveFile(folder, NameScope.DESCENDENT);
+      if (folderObject.isFolder()) {
+        for (FileObject child : folderObject.getChildren()) {
+          if (child.isFolder()) {
+            folders.add(folder + child.getName().getBaseName() + "/");
+          } else {
+            String key = folder + child.getName().getBaseName();
+            long size = child.getContent().getSize();
+            keys.add(key);
+            infos.put(key,
+                new ObjectInfo(child.getContent().getLastModifiedTime() + "-" + size, size));
+          }
+        }
+      }
+      return new Listing(keys, folders, infos);
+    }
+
+    @Override
+    public StoredObject read(String key, String etag) throws IOException {
+      FileObject noteFile = rootNotebookFileObject.resolveFile(key, NameScope.DESCENDENT);
+      try (InputStream in = noteFile.getContent().getInputStream()) {
+        return new StoredObject(null, IOUtils.toByteArray(in));
+      }
+    }
   }
 
   @Override
@@ -282,10 +282,7 @@ public class NotebookRestApi extends AbstractRestApi {
       }
     }
 
-    notebookAuthorization.setReaders(noteId, readers);
-    notebookAuthorization.setRunners(noteId, runners);
-    notebookAuthorization.setWriters(noteId, writers);
-    notebookAuthorization.setOwners(noteId, owners);
+    notebookAuthorization.setPermissions(noteId, owners, readers, runners, writers);
     LOG.debug("After set permissions {} {} {} {}", notebookAuthorization.getOwners(noteId),
         notebookAuthorization.getReaders(noteId), notebookAuthorization.getRunners(noteId),
         notebookAuthorization.getWriters(noteId));
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response.ResponseBuilder;
 
+import org.apache.zeppelin.notebook.SpilledResultMessage;
+
 /**
  * Json response builder.
  *
@@ -98,6 +100,9 @@ public class JsonResponse<T> {
       gsonBuilder.setPrettyPrinting();
     }
     gsonBuilder.setExclusionStrategies(new JsonExclusionStrategy());
+    // notes and paragraphs are returned with the data of their spilled results
+    gsonBuilder.registerTypeAdapter(SpilledResultMessage.class,
+        new SpilledResultMessage.InlineSerializer());
     Gson gson = gsonBuilder.create();
     return gson.toJson(this);
   }
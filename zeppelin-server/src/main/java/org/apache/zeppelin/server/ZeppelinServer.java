@@ -75,6 +75,7 @@ import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.annotation.ManagedObject;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.eclipse.jetty.websocket.servlet.WebSocketServlet;
@@ -221,6 +222,15 @@ public class ZeppelinServer extends ResourceConfig {
                 jettyWebServer.addBean(
                     sharedServiceLocator.getService(InterpreterSettingManager.class));
                 jettyWebServer.addBean(sharedServiceLocator.getService(NotebookServer.class));
+                // notebook repos with managed attributes, e.g. GitNotebookRepo
+                NotebookRepoSync notebookRepoSync =
+                    sharedServiceLocator.getService(NotebookRepoSync.class);
+                for (int i = 0; i < notebookRepoSync.getRepoCount(); i++) {
+                  NotebookRepo repo = notebookRepoSync.getRepo(i);
+                  if (repo.getClass().isAnnotationPresent(ManagedObject.class)) {
+                    jettyWebServer.addBean(repo);
+                  }
+                }
 
                 LOG.info("JMX Enabled with port: {}", port);
               } catch (Exception e) {
@@ -38,7 +38,9 @@ import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterNotFoundException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.TableResultStore;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
@@ -75,6 +77,8 @@ import org.slf4j.LoggerFactory;
 public class NotebookService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NotebookService.class);
+  // rows of a paged table output which are sent to the frontend at once
+  private static final int MAX_TABLE_PAGE_ROWS = 10000;
   private static final DateTimeFormatter TRASH_CONFLICT_TIMESTAMP_FORMATTER =
       DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss");
 
@@ -340,6 +344,26 @@ public class NotebookService {
       return;
     }
 
+    if (note.isParallelRunAll()) {
+      for (Map<String, Object> raw : paragraphs) {
+        Paragraph p = note.getParagraph((String) raw.get("id"));
+        if (p == null) {
+          continue;
+        }
+        p.setText((String) raw.get("paragraph"));
+        p.setTitle((String) raw.get("title"));
+        p.settings.setParams((Map<String, Object>) raw.get("params"));
+        p.setConfig((Map<String, Object>) raw.get("config"));
+      }
+      notebook.saveNote(note, context.getAutheInfo());
+      try {
+        note.runAll(context.getAutheInfo(), true);
+      } catch (Exception ex) {
+        LOGGER.error("Exception from run", ex);
+      }
+      return;
+    }
+
     note.setRunning(true);
     try {
       for (Map<String, Object> raw : paragraphs) {
@@ -829,6 +853,80 @@ public class NotebookService {
     }
   }
 
+  /**
+   * Get rows of the table output of a paragraph which is paged by ZeppelinServer, see
+   * {@link TableResultStore}. The total rows of the page is -1 if the output is not paged.
+   */
+  public TableResultStore.Page getTableResultPage(String noteId,
+                                                  String paragraphId,
+                                                  int index,
+                                                  long offset,
+                                                  int limit,
+                                                  ServiceContext context,
+                                                  ServiceCallback<TableResultStore.Page> callback)
+      throws IOException {
+    Note note = notebook.getNote(noteId);
+    if (note == null) {
+      callback.onFailure(new NoteNotFoundException(noteId), context);
+      return null;
+    }
+    if (!checkPermission(noteId, Permission.READER, Message.OP.GET_TABLE_RESULT_PAGE, context,
+        callback)) {
+      return null;
+    }
+    if (note.getParagraph(paragraphId) == null) {
+      callback.onFailure(new ParagraphNotFoundException(paragraphId), context);
+      return null;
+    }
+
+    TableResultStore.Page page = notebook.getInterpreterSettingManager().getTableResultStore()
+        .getPage(noteId, paragraphId, index, offset, Math.min(limit, MAX_TABLE_PAGE_ROWS));
+    if (page == null) {
+      // the frontend asks for every table output whether it is paged
+      page = new TableResultStore.Page(null, "", offset, -1);
+    }
+    callback.onSuccess(page, context);
+    return page;
+  }
+
+  /**
+   * Get output of a paragraph with its data, which is not sent within the note in websocket
+   * messages when it is spilled, see {@link org.apache.zeppelin.notebook.SpilledResultMessage}.
+   */
+  public InterpreterResultMessage getParagraphResult(String noteId,
+                                                     String paragraphId,
+                                                     int index,
+                                                     ServiceContext context,
+                                                     ServiceCallback<InterpreterResultMessage>
+                                                         callback) throws IOException {
+    Note note = notebook.getNote(noteId);
+    if (note == null) {
+      callback.onFailure(new NoteNotFoundException(noteId), context);
+      return null;
+    }
+    if (!checkPermission(noteId, Permission.READER, Message.OP.GET_PARAGRAPH_RESULT, context,
+        callback)) {
+      return null;
+    }
+    Paragraph p = note.getParagraph(paragraphId);
+    if (p == null) {
+      callback.onFailure(new ParagraphNotFoundException(paragraphId), context);
+      return null;
+    }
+    if (note.isPersonalizedMode()) {
+      p = p.getUserParagraph(context.getAutheInfo().getUser());
+    }
+
+    InterpreterResultMessage result = p.loadReturnMessage(index);
+    if (result == null) {
+      callback.onFailure(new IOException("Paragraph " + paragraphId + " has no output " + index),
+          context);
+      return null;
+    }
+    callback.onSuccess(result, context);
+    return result;
+  }
+
   public void getEditorSetting(String noteId,
                                String replName,
                                ServiceContext context,
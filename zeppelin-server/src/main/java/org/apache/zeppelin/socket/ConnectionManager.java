@@ -20,6 +20,7 @@ package org.apache.zeppelin.socket;
 
 import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.lang.StringUtils;
@@ -40,17 +41,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Manager class for managing websocket connections
@@ -65,7 +66,8 @@ public class ConnectionManager {
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
 
   final Queue<NotebookSocket> connectedSockets = new ConcurrentLinkedQueue<>();
-  // noteId -> connection
+  // noteId -> connection, lists are copy-on-write so that broadcast does not need to lock,
+  // modifications are synchronized on noteSocketMap
   final Map<String, List<NotebookSocket>> noteSocketMap = new ConcurrentHashMap<>();
   // user -> connection
   final Map<String, Queue<NotebookSocket>> userSocketMap = new ConcurrentHashMap<>();
@@ -83,8 +85,30 @@ public class ConnectionManager {
       .create()
       .isZeppelinNotebookCollaborativeModeEnable();
 
+  // sends the queued messages of all sockets, null when messages are sent on the caller thread
+  private final ExecutorService senderPool;
+  private final int outboundQueueSize;
+  private final WebSocketSendStats sendStats = new WebSocketSendStats();
+
+  public ConnectionManager() {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    int senderThreads = conf.getWebsocketSenderThreads();
+    this.outboundQueueSize = conf.getWebsocketOutboundQueueSize();
+    if (senderThreads > 0) {
+      this.senderPool = Executors.newFixedThreadPool(senderThreads,
+          new ThreadFactoryBuilder()
+              .setNameFormat("WebSocketSender-%d")
+              .setDaemon(true)
+              .build());
+    } else {
+      this.senderPool = null;
+    }
+  }
 
   public void addConnection(NotebookSocket conn) {
+    if (senderPool != null) {
+      conn.enableOutboundQueue(senderPool, outboundQueueSize, sendStats);
+    }
     connectedSockets.add(conn);
   }
 
@@ -99,7 +123,7 @@ public class ConnectionManager {
       removeConnectionFromAllNote(socket);
       List<NotebookSocket> socketList = noteSocketMap.get(noteId);
       if (socketList == null) {
-        socketList = new LinkedList<>();
+        socketList = new CopyOnWriteArrayList<>();
         noteSocketMap.put(noteId, socketList);
       }
       if (!socketList.contains(socket)) {
@@ -147,6 +171,11 @@ public class ConnectionManager {
     }
   }
 
+  public boolean hasNoteConnections(String noteId) {
+    List<NotebookSocket> socketList = noteSocketMap.get(noteId);
+    return socketList != null && !socketList.isEmpty();
+  }
+
   public String getAssociatedNoteId(NotebookSocket socket) {
     String associatedNoteId = null;
     synchronized (noteSocketMap) {
@@ -210,73 +239,71 @@ public class ConnectionManager {
     return gson.toJson(m);
   }
 
-  public void broadcast(Message m) {
-    synchronized (connectedSockets) {
-      for (NotebookSocket ns : connectedSockets) {
-        try {
-          ns.send(serializeMessage(m));
-        } catch (IOException | WebSocketException e) {
-          LOGGER.error("Send error: " + m, e);
-        }
-      }
+  /**
+   * Key of the messages which only carry the latest state of something and can be replaced
+   * by a newer message of the same key when the client is slow, null for other messages.
+   */
+  private String getCoalesceKey(Message m) {
+    if (m.op == Message.OP.PROGRESS) {
+      return m.op + ":" + m.get("id");
     }
+    return null;
   }
 
-  public void broadcast(String noteId, Message m) {
-    List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
-    synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
-      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
-      }
-      socketsToBroadcast = new ArrayList<>(socketLists);
-    }
-    LOGGER.debug("SEND >> " + m);
-    for (NotebookSocket conn : socketsToBroadcast) {
+  public void broadcast(Message m) {
+    String serialized = serializeMessage(m);
+    for (NotebookSocket ns : connectedSockets) {
       try {
-        conn.send(serializeMessage(m));
+        ns.send(serialized);
       } catch (IOException | WebSocketException e) {
-        LOGGER.error("socket error", e);
+        LOGGER.error("Send error: " + m, e);
       }
     }
   }
 
-  private void broadcastToWatchers(String noteId, String subject, Message message) {
-    synchronized (watcherSockets) {
-      for (NotebookSocket watcher : watcherSockets) {
-        try {
-          watcher.send(
-              WatcherMessage.builder(noteId)
-                  .subject(subject)
-                  .message(serializeMessage(message))
-                  .build()
-                  .toJson());
-        } catch (IOException | WebSocketException e) {
-          LOGGER.error("Cannot broadcast message to watcher", e);
-        }
+  public void broadcast(String noteId, Message m) {
+    broadcastExcept(noteId, m, null);
+  }
+
+  private void broadcastToWatchers(String noteId, String subject, String serializedMessage) {
+    if (watcherSockets.isEmpty()) {
+      return;
+    }
+    String watcherMessage = WatcherMessage.builder(noteId)
+        .subject(subject)
+        .message(serializedMessage)
+        .build()
+        .toJson();
+    for (NotebookSocket watcher : watcherSockets) {
+      try {
+        watcher.send(watcherMessage);
+      } catch (IOException | WebSocketException e) {
+        LOGGER.error("Cannot broadcast message to watcher", e);
       }
     }
   }
 
   public void broadcastExcept(String noteId, Message m, NotebookSocket exclude) {
-    List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
-    synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
-      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
-      }
-      socketsToBroadcast = new ArrayList<>(socketLists);
+    // serialize once for all the watchers and connections of the note
+    String serialized = serializeMessage(m);
+    broadcastToWatchers(noteId, StringUtils.EMPTY, serialized);
+    List<NotebookSocket> socketsToBroadcast = noteSocketMap.get(noteId);
+    if (socketsToBroadcast == null || socketsToBroadcast.isEmpty()) {
+      return;
     }
 
     LOGGER.debug("SEND >> " + m);
+    String coalesceKey = getCoalesceKey(m);
     for (NotebookSocket conn : socketsToBroadcast) {
-      if (exclude.equals(conn)) {
+      if (conn.equals(exclude)) {
         continue;
       }
       try {
-        conn.send(serializeMessage(m));
+        if (coalesceKey == null) {
+          conn.send(serialized);
+        } else {
+          conn.send(serialized, coalesceKey);
+        }
       } catch (IOException | WebSocketException e) {
         LOGGER.error("socket error", e);
       }
@@ -291,17 +318,15 @@ public class ConnectionManager {
   }
 
   public void broadcastToAllConnectionsExcept(NotebookSocket exclude, String serializedMsg) {
-    synchronized (connectedSockets) {
-      for (NotebookSocket conn : connectedSockets) {
-        if (exclude != null && exclude.equals(conn)) {
-          continue;
-        }
+    for (NotebookSocket conn : connectedSockets) {
+      if (exclude != null && exclude.equals(conn)) {
+        continue;
+      }
 
-        try {
-          conn.send(serializedMsg);
-        } catch (IOException | WebSocketException e) {
-          LOGGER.error("Cannot broadcast message to conn", e);
-        }
+      try {
+        conn.send(serializedMsg);
+      } catch (IOException | WebSocketException e) {
+        LOGGER.error("Cannot broadcast message to conn", e);
       }
     }
   }
@@ -327,12 +352,45 @@ public class ConnectionManager {
   }
 
   public void unicast(Message m, NotebookSocket conn) {
+    String serialized = serializeMessage(m);
     try {
-      conn.send(serializeMessage(m));
+      conn.send(serialized);
     } catch (IOException | WebSocketException e) {
       LOGGER.error("socket error", e);
     }
-    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, m);
+    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, serialized);
+  }
+
+  /**
+   * Number of messages waiting in the outbound queues of all the connections.
+   */
+  public int getOutboundQueueDepth() {
+    int depth = 0;
+    for (NotebookSocket conn : connectedSockets) {
+      depth += conn.getOutboundQueueSize();
+    }
+    for (NotebookSocket watcher : watcherSockets) {
+      depth += watcher.getOutboundQueueSize();
+    }
+    return depth;
+  }
+
+  /**
+   * Outbound queue length of the slowest connection.
+   */
+  public int getMaxOutboundQueueDepth() {
+    int max = 0;
+    for (NotebookSocket conn : connectedSockets) {
+      max = Math.max(max, conn.getOutboundQueueSize());
+    }
+    for (NotebookSocket watcher : watcherSockets) {
+      max = Math.max(max, watcher.getOutboundQueueSize());
+    }
+    return max;
+  }
+
+  public WebSocketSendStats getSendStats() {
+    return sendStats;
   }
 
   public void unicastParagraph(Note note, Paragraph p, String user) {
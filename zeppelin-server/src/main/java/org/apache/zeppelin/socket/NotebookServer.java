@@ -52,12 +52,14 @@ import org.apache.zeppelin.interpreter.InterpreterGroup;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.TableResultStore;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteEventListener;
 import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.NoteSaveQueue;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.NotebookAuthorization;
 import org.apache.zeppelin.notebook.NotebookImportDeserializer;
@@ -198,6 +200,8 @@ public class NotebookServer extends WebSocketServlet
   @Override
   public void configure(WebSocketServletFactory factory) {
     factory.setCreator(new NotebookWebSocketCreator(this));
+    // keep the notes opened by users in memory
+    getNotebook().setNotePinned(connectionManager::hasNoteConnections);
   }
 
   public boolean checkOrigin(HttpServletRequest request, String origin) {
@@ -342,6 +346,12 @@ public class NotebookServer extends WebSocketServlet
         case PARAGRAPH_CLEAR_OUTPUT:
           clearParagraphOutput(conn, messagereceived);
           break;
+        case GET_TABLE_RESULT_PAGE:
+          getTableResultPage(conn, messagereceived);
+          break;
+        case GET_PARAGRAPH_RESULT:
+          getParagraphResult(conn, messagereceived);
+          break;
         case PARAGRAPH_CLEAR_ALL_OUTPUT:
           clearAllParagraphOutput(conn, messagereceived);
           break;
@@ -1004,6 +1014,47 @@ public class NotebookServer extends WebSocketServlet
         });
   }
 
+  private void getParagraphResult(NotebookSocket conn,
+                                  Message fromMessage) throws IOException {
+    String noteId = (String) fromMessage.get("noteId");
+    String paragraphId = (String) fromMessage.get("paragraphId");
+    int index = (int) Double.parseDouble(fromMessage.get("index").toString());
+    getNotebookService().getParagraphResult(noteId, paragraphId, index,
+        getServiceContext(fromMessage),
+        new WebSocketServiceCallback<InterpreterResultMessage>(conn) {
+          @Override
+          public void onSuccess(InterpreterResultMessage result, ServiceContext context)
+              throws IOException {
+            super.onSuccess(result, context);
+            conn.send(serializeMessage(new Message(OP.PARAGRAPH_UPDATE_OUTPUT)
+                .put("noteId", noteId).put("paragraphId", paragraphId).put("index", index)
+                .put("type", result.getType()).put("data", result.getData())));
+          }
+        });
+  }
+
+  private void getTableResultPage(NotebookSocket conn,
+                                  Message fromMessage) throws IOException {
+    String noteId = (String) fromMessage.get("noteId");
+    String paragraphId = (String) fromMessage.get("paragraphId");
+    int index = (int) Double.parseDouble(fromMessage.get("index").toString());
+    long offset = (long) Double.parseDouble(fromMessage.get("offset").toString());
+    int limit = (int) Double.parseDouble(fromMessage.get("limit").toString());
+    getNotebookService().getTableResultPage(noteId, paragraphId, index, offset, limit,
+        getServiceContext(fromMessage),
+        new WebSocketServiceCallback<TableResultStore.Page>(conn) {
+          @Override
+          public void onSuccess(TableResultStore.Page page, ServiceContext context)
+              throws IOException {
+            super.onSuccess(page, context);
+            conn.send(serializeMessage(new Message(OP.TABLE_RESULT_PAGE)
+                .put("noteId", noteId).put("paragraphId", paragraphId).put("index", index)
+                .put("header", page.getHeader()).put("rows", page.getRows())
+                .put("offset", page.getOffset()).put("totalRows", page.getTotalRows())));
+          }
+        });
+  }
+
   private void completion(NotebookSocket conn,
                           Message fromMessage) throws IOException {
     String noteId = connectionManager.getAssociatedNoteId(conn);
@@ -1410,6 +1461,17 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
+  /**
+   * Rows of a paged table output are received. The rows are not sent, the frontend reads
+   * them by page.
+   */
+  @Override
+  public void onTableRowsAppended(String noteId, String paragraphId, int index, long totalRows) {
+    Message msg = new Message(OP.PARAGRAPH_TABLE_ROWS).put("noteId", noteId)
+        .put("paragraphId", paragraphId).put("index", index).put("totalRows", totalRows);
+    connectionManager.broadcast(noteId, msg);
+  }
+
   /**
    * This callback is for the paragraph that runs on ZeppelinServer.
    */
@@ -1853,6 +1915,85 @@ public class NotebookServer extends WebSocketServlet
     return connectionManager.getConnectedUsers();
   }
 
+  @ManagedAttribute
+  public int getOutboundQueueDepth() {
+    return connectionManager.getOutboundQueueDepth();
+  }
+
+  @ManagedAttribute
+  public int getMaxOutboundQueueDepth() {
+    return connectionManager.getMaxOutboundQueueDepth();
+  }
+
+  @ManagedAttribute
+  public long getSentMessages() {
+    return connectionManager.getSendStats().getSentMessages();
+  }
+
+  @ManagedAttribute
+  public double getAverageSendLatencyMs() {
+    return connectionManager.getSendStats().getAverageSendLatencyMs();
+  }
+
+  @ManagedAttribute
+  public long getMaxSendLatencyMs() {
+    return connectionManager.getSendStats().getMaxSendLatencyMs();
+  }
+
+  @ManagedAttribute
+  public long getDroppedMessages() {
+    return connectionManager.getSendStats().getDroppedMessages();
+  }
+
+  @ManagedAttribute
+  public long getSlowConsumerDisconnects() {
+    return connectionManager.getSendStats().getSlowConsumerDisconnects();
+  }
+
+  @ManagedAttribute
+  public long getNoteCacheHits() {
+    return getNotebook().getNoteManager().getCacheStats().getHits();
+  }
+
+  @ManagedAttribute
+  public long getNoteCacheMisses() {
+    return getNotebook().getNoteManager().getCacheStats().getMisses();
+  }
+
+  @ManagedAttribute
+  public long getNoteCacheEvictions() {
+    return getNotebook().getNoteManager().getCacheStats().getEvictions();
+  }
+
+  @ManagedAttribute
+  public int getLoadedNotesCount() {
+    return getNotebook().getNoteManager().getLoadedNotesCount();
+  }
+
+  @ManagedAttribute
+  public int getPendingNoteSaves() {
+    NoteSaveQueue saveQueue = getNotebook().getNoteManager().getSaveQueue();
+    return saveQueue == null ? 0 : saveQueue.getPendingCount();
+  }
+
+  @ManagedAttribute
+  public long getNoteSaveMaxLagMs() {
+    NoteSaveQueue saveQueue = getNotebook().getNoteManager().getSaveQueue();
+    return saveQueue == null ? 0 : saveQueue.getMaxSaveLagMs();
+  }
+
+  @ManagedAttribute
+  public double getNoteSaveAverageLagMs() {
+    NoteSaveQueue saveQueue = getNotebook().getNoteManager().getSaveQueue();
+    return saveQueue == null ? 0 : saveQueue.getAverageSaveLagMs();
+  }
+
+  @ManagedAttribute
+  public long getNoteSaveWrittenBytes() {
+    NoteSaveQueue saveQueue = getNotebook().getNoteManager().getSaveQueue();
+    return saveQueue == null ? 0 : saveQueue.getWrittenBytes();
+  }
+
   @ManagedOperation
   public void sendMessage(String message) {
     Message m = new Message(OP.NOTICE);
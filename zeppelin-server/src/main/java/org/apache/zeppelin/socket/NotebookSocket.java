@@ -18,9 +18,19 @@ package org.apache.zeppelin.socket;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.eclipse.jetty.websocket.api.WebSocketException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -28,12 +38,35 @@ import javax.servlet.http.HttpServletRequest;
  * Notebook websocket.
  */
 public class NotebookSocket extends WebSocketAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookSocket.class);
+
+  // max number of messages sent by one drain task before yielding the sender thread
+  private static final int MAX_MESSAGES_PER_DRAIN = 64;
+
   private Session connection;
   private NotebookSocketListener listener;
   private HttpServletRequest request;
   private String protocol;
   private String user;
 
+  // outbound queue, only used after ConnectionManager set a sender via enableOutboundQueue,
+  // all guarded by outbound
+  private final Deque<OutboundMessage> outbound = new ArrayDeque<>();
+  // queued messages that can be replaced by a newer one, e.g. progress of a paragraph
+  private final Map<String, OutboundMessage> coalescable = new HashMap<>();
+  private boolean draining;
+  private boolean slowConsumerClosed;
+  private volatile Executor sender;
+  private int outboundCapacity;
+  private WebSocketSendStats sendStats;
+
+  private final Runnable drainTask = new Runnable() {
+    @Override
+    public void run() {
+      drain();
+    }
+  };
+
   public NotebookSocket(HttpServletRequest req, String protocol,
       NotebookSocketListener listener) {
     this.listener = listener;
@@ -66,7 +99,125 @@ public class NotebookSocket extends WebSocketAdapter {
     return protocol;
   }
 
-  public synchronized void send(String serializeMessage) throws IOException {
+  /**
+   * Send messages of this socket through a bounded queue drained by the given executor,
+   * instead of writing them on the caller thread.
+   */
+  void enableOutboundQueue(Executor sender, int capacity, WebSocketSendStats sendStats) {
+    synchronized (outbound) {
+      this.outboundCapacity = capacity;
+      this.sendStats = sendStats;
+      this.sender = sender;
+    }
+  }
+
+  public void send(String serializeMessage) throws IOException {
+    send(serializeMessage, null);
+  }
+
+  /**
+   * Send a message. A message with a coalesceKey replaces a queued message with the same key
+   * which is not sent yet, and is the first to be dropped when the queue of a slow client is
+   * full. When the queue is still full with other messages the client is disconnected.
+   */
+  public void send(String serializeMessage, String coalesceKey) throws IOException {
+    if (sender == null) {
+      sendDirectly(serializeMessage);
+      return;
+    }
+
+    boolean startDrain = false;
+    boolean disconnect = false;
+    synchronized (outbound) {
+      if (slowConsumerClosed) {
+        return;
+      }
+      if (coalesceKey != null) {
+        OutboundMessage queued = coalescable.get(coalesceKey);
+        if (queued != null) {
+          queued.payload = serializeMessage;
+          sendStats.onDropped();
+          return;
+        }
+      }
+      if (outbound.size() >= outboundCapacity) {
+        if (coalesceKey != null) {
+          sendStats.onDropped();
+          return;
+        }
+        dropCoalescable();
+        if (outbound.size() >= outboundCapacity) {
+          slowConsumerClosed = true;
+          disconnect = true;
+          outbound.clear();
+          coalescable.clear();
+          sendStats.onSlowConsumerDisconnect();
+        }
+      }
+      if (!disconnect) {
+        OutboundMessage message = new OutboundMessage(serializeMessage, coalesceKey);
+        outbound.add(message);
+        if (coalesceKey != null) {
+          coalescable.put(coalesceKey, message);
+        }
+        if (!draining) {
+          draining = true;
+          startDrain = true;
+        }
+      }
+    }
+
+    if (disconnect) {
+      LOG.warn("Close connection {}, outbound queue is full", this);
+      connection.close(StatusCode.POLICY_VIOLATION, "Too many pending messages");
+    } else if (startDrain) {
+      sender.execute(drainTask);
+    }
+  }
+
+  private void dropCoalescable() {
+    Iterator<OutboundMessage> it = outbound.iterator();
+    while (it.hasNext()) {
+      OutboundMessage message = it.next();
+      if (message.coalesceKey != null) {
+        it.remove();
+        sendStats.onDropped();
+      }
+    }
+    coalescable.clear();
+  }
+
+  private void drain() {
+    for (int i = 0; i < MAX_MESSAGES_PER_DRAIN; i++) {
+      OutboundMessage message;
+      synchronized (outbound) {
+        message = outbound.poll();
+        if (message == null) {
+          draining = false;
+          return;
+        }
+        if (message.coalesceKey != null) {
+          coalescable.remove(message.coalesceKey);
+        }
+      }
+      try {
+        sendDirectly(message.payload);
+        sendStats.onSent(System.nanoTime() - message.queuedTime);
+      } catch (IOException | WebSocketException e) {
+        LOG.error("Fail to send message to {}", this, e);
+      }
+    }
+    // let the messages of other sockets go first
+    sender.execute(drainTask);
+  }
+
+  public int getOutboundQueueSize() {
+    synchronized (outbound) {
+      return outbound.size();
+    }
+  }
+
+  private synchronized void sendDirectly(String serializeMessage) throws IOException {
     connection.getRemote().sendString(serializeMessage);
   }
 
@@ -82,4 +233,15 @@ public class NotebookSocket extends WebSocketAdapter {
   public String toString() {
     return request.getRemoteHost() + ":" + request.getRemotePort();
   }
+
+  private static class OutboundMessage {
+    private String payload;
+    private final String coalesceKey;
+    private final long queuedTime = System.nanoTime();
+
+    OutboundMessage(String payload, String coalesceKey) {
+      this.payload = payload;
+      this.coalesceKey = coalesceKey;
+    }
+  }
 }
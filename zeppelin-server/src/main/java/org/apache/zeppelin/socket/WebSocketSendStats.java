@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the outbound websocket queues, shared by all the sockets of a ConnectionManager.
+ * Send latency is measured from the time a message is queued until it is written to the socket.
+ */
+public class WebSocketSendStats {
+
+  private final AtomicLong sentMessages = new AtomicLong();
+  private final AtomicLong totalLatencyNanos = new AtomicLong();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+  private final AtomicLong droppedMessages = new AtomicLong();
+  private final AtomicLong slowConsumerDisconnects = new AtomicLong();
+
+  void onSent(long latencyNanos) {
+    sentMessages.incrementAndGet();
+    totalLatencyNanos.addAndGet(latencyNanos);
+    long max = maxLatencyNanos.get();
+    while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+      max = maxLatencyNanos.get();
+    }
+  }
+
+  void onDropped() {
+    droppedMessages.incrementAndGet();
+  }
+
+  void onSlowConsumerDisconnect() {
+    slowConsumerDisconnects.incrementAndGet();
+  }
+
+  public long getSentMessages() {
+    return sentMessages.get();
+  }
+
+  public double getAverageSendLatencyMs() {
+    long sent = sentMessages.get();
+    if (sent == 0) {
+      return 0;
+    }
+    return (double) totalLatencyNanos.get() / sent / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  public long getMaxSendLatencyMs() {
+    return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+  }
+
+  public long getDroppedMessages() {
+    return droppedMessages.get();
+  }
+
+  public long getSlowConsumerDisconnects() {
+    return slowConsumerDisconnects.get();
+  }
+}
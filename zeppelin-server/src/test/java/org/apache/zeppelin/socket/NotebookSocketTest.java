@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class NotebookSocketTest {
+
+  private Session session;
+  private RemoteEndpoint remote;
+  private NotebookSocket socket;
+  private WebSocketSendStats stats;
+  // drain tasks submitted by the socket, run by the test
+  private Queue<Runnable> tasks = new LinkedList<>();
+  private Executor executor = new Executor() {
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+  };
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class);
+    remote = mock(RemoteEndpoint.class);
+    when(session.getRemote()).thenReturn(remote);
+    socket = new NotebookSocket(mock(HttpServletRequest.class), "",
+        mock(NotebookSocketListener.class));
+    socket.onWebSocketConnect(session);
+    stats = new WebSocketSendStats();
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+  }
+
+  @Test
+  public void testSendDirectlyWithoutQueue() throws IOException {
+    socket.send("msg1");
+    verify(remote).sendString("msg1");
+    assertEquals(0, socket.getOutboundQueueSize());
+  }
+
+  @Test
+  public void testSendInOrderThroughQueue() throws IOException {
+    socket.enableOutboundQueue(executor, 10, stats);
+    socket.send("msg1");
+    socket.send("msg2");
+    verify(remote, never()).sendString(anyString());
+    assertEquals(2, socket.getOutboundQueueSize());
+    // only one drain task at a time
+    assertEquals(1, tasks.size());
+
+    runTasks();
+    InOrder inOrder = inOrder(remote);
+    inOrder.verify(remote).sendString("msg1");
+    inOrder.verify(remote).sendString("msg2");
+    assertEquals(0, socket.getOutboundQueueSize());
+    assertEquals(2, stats.getSentMessages());
+  }
+
+  @Test
+  public void testCoalesceProgress() throws IOException {
+    socket.enableOutboundQueue(executor, 10, stats);
+    socket.send("progress 10", "PROGRESS:p1");
+    socket.send("paragraph");
+    socket.send("progress 20", "PROGRESS:p1");
+    assertEquals(2, socket.getOutboundQueueSize());
+
+    runTasks();
+    InOrder inOrder = inOrder(remote);
+    inOrder.verify(remote).sendString("progress 20");
+    inOrder.verify(remote).sendString("paragraph");
+    verify(remote, never()).sendString("progress 10");
+    assertEquals(1, stats.getDroppedMessages());
+  }
+
+  @Test
+  public void testSlowConsumer() throws IOException {
+    socket.enableOutboundQueue(executor, 2, stats);
+    socket.send("progress", "PROGRESS:p1");
+    socket.send("msg1");
+    // queue is full, progress is dropped
+    socket.send("progress", "PROGRESS:p2");
+    assertEquals(1, stats.getDroppedMessages());
+    // queued progress is dropped to make room
+    socket.send("msg2");
+    assertEquals(2, stats.getDroppedMessages());
+    assertEquals(0, stats.getSlowConsumerDisconnects());
+
+    // nothing left to drop, client is disconnected
+    socket.send("msg3");
+    assertEquals(1, stats.getSlowConsumerDisconnects());
+    verify(session).close(anyInt(), anyString());
+    assertEquals(0, socket.getOutboundQueueSize());
+
+    socket.send("msg4");
+    runTasks();
+    verify(remote, times(0)).sendString(anyString());
+  }
+}
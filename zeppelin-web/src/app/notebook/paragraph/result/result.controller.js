@@ -145,6 +145,11 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
   // available columns in tabledata
   $scope.tableDataColumns = [];
 
+  // a large table output is paged by the server, and the result has only its first rows,
+  // totalRows is -1 when the table is not paged
+  $scope.tablePage = {totalRows: -1, loadedRows: 0, loading: false};
+  const TABLE_PAGE_ROWS = 1000;
+
   // enable helium
   let enableHelium = false;
 
@@ -195,6 +200,7 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
 
     updateData(result, config, paragraph, index);
     renderResult($scope.type);
+    requestTablePage(0);
   };
 
   function isDOMLoaded(targetElemId) {
@@ -227,8 +233,50 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
 
     updateData(result, newConfig, paragraph, resultIndex);
     renderResult($scope.type, refresh);
+    if (refresh && paragraphRef.status === ParagraphStatus.FINISHED) {
+      // the table of the new result may be paged
+      $scope.tablePage.totalRows = -1;
+      requestTablePage(0);
+    }
+  });
+
+  $scope.$on('updateParagraphTableRows', function(event, page) {
+    if (paragraph.id === page.paragraphId && resultIndex === page.index) {
+      $scope.tablePage.totalRows = page.totalRows;
+    }
+  });
+
+  $scope.$on('tableResultPage', function(event, page) {
+    if (paragraph.id !== page.paragraphId || resultIndex !== page.index) {
+      return;
+    }
+    $scope.tablePage.loading = false;
+    $scope.tablePage.totalRows = page.totalRows;
+    if (!page.rows || !tableData || page.offset !== tableData.rows.length) {
+      return;
+    }
+    const text = data.endsWith('\n') ? data : data + '\n';
+    updateData({type: $scope.type, data: text + page.rows}, $scope.config, paragraph, resultIndex);
+    renderResult($scope.type, true);
   });
 
+  /**
+   * Load the next rows of a paged table, they are only kept in the browser.
+   */
+  $scope.loadTableRows = function() {
+    $scope.tablePage.loading = true;
+    requestTablePage(TABLE_PAGE_ROWS);
+  };
+
+  // a page without rows tells whether the table is paged and how many rows it has
+  function requestTablePage(limit) {
+    if ($scope.type !== DefaultDisplayType.TABLE || !tableData) {
+      return;
+    }
+    websocketMsgSrv.getTableResultPage($route.current.pathParams.noteId, paragraph.id, resultIndex,
+      tableData.rows.length, limit);
+  }
+
   $scope.$on('appendParagraphOutput', function(event, data) {
     /* It has been observed that append events
      * can be errorneously called even if paragraph
@@ -265,6 +313,11 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
     paragraph = paragraphRef;
     resultIndex = parseInt(index);
 
+    // large output is kept out of the note, it's loaded and rendered by 'updateResult'
+    if (result.dataRef) {
+      websocketMsgSrv.getParagraphResult($route.current.pathParams.noteId, paragraph.id, resultIndex);
+    }
+
     $scope.id = paragraph.id + '_' + index;
     $scope.type = result.type;
     config = config ? config : {};
@@ -297,6 +350,7 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
       tableData.loadParagraphResult({type: $scope.type, msg: data});
       $scope.tableDataColumns = tableData.columns;
       $scope.tableDataComment = tableData.comment;
+      $scope.tablePage.loadedRows = tableData.rows.length;
       if ($scope.type === 'NETWORK') {
         $scope.networkNodes = tableData.networkNodes;
         $scope.networkRelationships = tableData.networkRelationships;
@@ -122,6 +122,10 @@ function WebsocketEventFactory($rootScope, $websocket, $location, baseUrlSrv, ng
       $rootScope.$broadcast('appendParagraphOutput', data);
     } else if (op === 'PARAGRAPH_UPDATE_OUTPUT') {
       $rootScope.$broadcast('updateParagraphOutput', data);
+    } else if (op === 'PARAGRAPH_TABLE_ROWS') {
+      $rootScope.$broadcast('updateParagraphTableRows', data);
+    } else if (op === 'TABLE_RESULT_PAGE') {
+      $rootScope.$broadcast('tableResultPage', data);
     } else if (op === 'PROGRESS') {
       $rootScope.$broadcast('updateProgress', data);
     } else if (op === 'COMPLETION_LIST') {
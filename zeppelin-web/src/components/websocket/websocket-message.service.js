@@ -222,6 +222,30 @@ function WebsocketMessageService($rootScope, websocketEvents) {
       websocketEvents.sendNewEvent({op: 'PARAGRAPH_CLEAR_ALL_OUTPUT', data: {id: noteId}});
     },
 
+    getParagraphResult: function(noteId, paragraphId, index) {
+      websocketEvents.sendNewEvent({
+        op: 'GET_PARAGRAPH_RESULT',
+        data: {
+          noteId: noteId,
+          paragraphId: paragraphId,
+          index: index,
+        },
+      });
+    },
+
+    getTableResultPage: function(noteId, paragraphId, index, offset, limit) {
+      websocketEvents.sendNewEvent({
+        op: 'GET_TABLE_RESULT_PAGE',
+        data: {
+          noteId: noteId,
+          paragraphId: paragraphId,
+          index: index,
+          offset: offset,
+          limit: limit,
+        },
+      });
+    },
+
     completion: function(paragraphId, buf, cursor) {
       websocketEvents.sendNewEvent({
         op: 'COMPLETION',
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.scheduler.ExecutionBackend;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of started interpreter processes of an interpreter setting, which are not bound to any
+ * interpreter group yet.
+ *
+ * Starting an interpreter process takes from seconds to tens of seconds, so a new interpreter
+ * group claims a started process from the pool, and the pool starts another one in the
+ * background. A pooled process registers with a pool id instead of an interpreter group id.
+ * The interpreter group id is only sent to the process by createInterpreter, so the process can
+ * serve any interpreter group of the setting.
+ *
+ * A process is only claimed by an interpreter group which asks for the same properties as the
+ * process is started with, e.g. not after %spark.conf changes them.
+ */
+public class InterpreterProcessPool {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterProcessPool.class);
+
+  private static final String POOL_USER = "anonymous";
+
+  private final InterpreterSetting interpreterSetting;
+  private final int size;
+  private final Properties properties;
+  private final ExecutorService executor;
+  private final BlockingDeque<RemoteInterpreterManagedProcess> idleProcesses =
+      new LinkedBlockingDeque<>();
+  // processes which are starting, by pool id, so that they can register
+  private final Map<String, RemoteInterpreterManagedProcess> startingProcesses =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger pendingProcesses = new AtomicInteger();
+  private final AtomicLong nextId = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private volatile boolean closed = false;
+
+  InterpreterProcessPool(InterpreterSetting interpreterSetting, int size,
+                         Properties properties) {
+    this.interpreterSetting = interpreterSetting;
+    this.size = size;
+    this.properties = properties;
+    this.executor = ExecutionBackend.get().newTaskExecutor(
+        "InterpreterProcessPool-" + interpreterSetting.getId() + "-", size);
+  }
+
+  /**
+   * Start processes in the background until the pool is full.
+   */
+  synchronized void fill() {
+    while (!closed && idleProcesses.size() + pendingProcesses.get() < size) {
+      pendingProcesses.incrementAndGet();
+      try {
+        executor.execute(this::startProcess);
+      } catch (RejectedExecutionException e) {
+        pendingProcesses.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Take a started process from the pool, and start another one in the background.
+   *
+   * @param properties properties the interpreter group asks for
+   * @return null if no started process with these properties is available
+   */
+  RemoteInterpreterManagedProcess claim(Properties properties) {
+    RemoteInterpreterManagedProcess process = null;
+    if (this.properties.equals(properties)) {
+      while ((process = idleProcesses.poll()) != null && !process.isRunning()) {
+        LOGGER.warn("Pooled interpreter process of {} is terminated, discard it",
+            interpreterSetting.getName());
+        process.stop();
+      }
+    }
+    if (process != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    fill();
+    return process;
+  }
+
+  /**
+   * @return the starting process of this pool id, null if there's no such process
+   */
+  RemoteInterpreterManagedProcess getStartingProcess(String poolId) {
+    return startingProcesses.get(poolId);
+  }
+
+  /**
+   * Stop the idle processes, the starting processes are stopped once they are started.
+   */
+  synchronized void close() {
+    closed = true;
+    executor.shutdown();
+    RemoteInterpreterManagedProcess process;
+    while ((process = idleProcesses.poll()) != null) {
+      process.stop();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public int getIdleProcesses() {
+    return idleProcesses.size();
+  }
+
+  private void startProcess() {
+    String poolId = interpreterSetting.getId() + "-pool-" + nextId.incrementAndGet();
+    RemoteInterpreterManagedProcess process = null;
+    try {
+      RemoteInterpreterProcess client =
+          interpreterSetting.createInterpreterProcess(poolId, POOL_USER, properties);
+      if (!(client instanceof RemoteInterpreterManagedProcess)) {
+        LOGGER.warn("Interpreter process of {} can't be pooled", interpreterSetting.getName());
+        return;
+      }
+      process = (RemoteInterpreterManagedProcess) client;
+      startingProcesses.put(poolId, process);
+      LOGGER.info("Start pooled interpreter process {}", poolId);
+      process.start(POOL_USER);
+      synchronized (this) {
+        if (!closed && process.isRunning()) {
+          idleProcesses.add(process);
+          return;
+        }
+      }
+      process.stop();
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Fail to start pooled interpreter process of " + interpreterSetting.getName(), e);
+      if (process != null) {
+        process.stop();
+      }
+    } finally {
+      startingProcesses.remove(poolId);
+      pendingProcesses.decrementAndGet();
+    }
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.zeppelin.interpreter.recovery.NullRecoveryStorage;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.plugin.PluginManager;
@@ -62,6 +63,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
 /**
@@ -129,6 +131,7 @@ public class InterpreterSetting {
   private transient LifecycleManager lifecycleManager;
   private transient RecoveryStorage recoveryStorage;
   private transient RemoteInterpreterEventServer interpreterEventServer;
+  private transient volatile InterpreterProcessPool processPool;
   ///////////////////////////////////////////////////////////////////////////////////////////
 
   /**
@@ -478,6 +481,7 @@ public class InterpreterSetting {
 
   public void close() {
     LOGGER.info("Close InterpreterSetting: " + name);
+    closeProcessPool();
     List<Thread> closeThreads = interpreterGroups.values().stream()
             .map(g -> new Thread(g::close, name + "-close"))
             .peek(t -> t.setUncaughtExceptionHandler((th, e) ->
@@ -536,6 +540,16 @@ public class InterpreterSetting {
           conf.getInt(ZEPPELIN_INTERPRETER_OUTPUT_LIMIT) + "");
     }
 
+    if (!jProperties.containsKey("zeppelin.interpreter.output.table.preview.rows")) {
+      jProperties.setProperty("zeppelin.interpreter.output.table.preview.rows",
+          conf.getInterpreterOutputTablePreviewRows() + "");
+    }
+
+    if (!jProperties.containsKey("zeppelin.interpreter.resource.codec")) {
+      jProperties.setProperty("zeppelin.interpreter.resource.codec",
+          conf.getInterpreterResourceCodec());
+    }
+
     if (!jProperties.containsKey("zeppelin.interpreter.max.poolsize")) {
       jProperties.setProperty("zeppelin.interpreter.max.poolsize",
           conf.getInt(ZEPPELIN_INTERPRETER_MAX_POOL_SIZE) + "");
@@ -713,6 +727,84 @@ public class InterpreterSetting {
     return process;
   }
 
+  /**
+   * Number of started interpreter processes to keep in the pool, 0 if this setting can't use
+   * the pool, e.g. when the process is started as the user.
+   */
+  int getProcessPoolSize() {
+    if (option.isExistingProcess() || option.isUserImpersonate()) {
+      return 0;
+    }
+    return Integer.parseInt(getJavaProperties().getProperty(
+        ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE.getVarName(),
+        conf.getInt(ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE) + ""));
+  }
+
+  /**
+   * @return the process pool, null if the pool is not created
+   */
+  InterpreterProcessPool getProcessPool() {
+    return processPool;
+  }
+
+  /**
+   * @return the process pool, null if the pool is disabled
+   */
+  private synchronized InterpreterProcessPool getOrCreateProcessPool() {
+    if (processPool == null) {
+      int poolSize = getProcessPoolSize();
+      if (poolSize > 0) {
+        LOGGER.info("Create process pool of size {} for InterpreterSetting: {}", poolSize, name);
+        processPool = new InterpreterProcessPool(this, poolSize, getJavaProperties());
+      }
+    }
+    return processPool;
+  }
+
+  /**
+   * Start the processes of the pool in the background.
+   */
+  void fillProcessPool() {
+    InterpreterProcessPool pool = getOrCreateProcessPool();
+    if (pool != null) {
+      pool.fill();
+    }
+  }
+
+  private synchronized void closeProcessPool() {
+    if (processPool != null) {
+      processPool.close();
+      processPool = null;
+    }
+  }
+
+  /**
+   * Take a started process from the pool for the interpreter group.
+   *
+   * @return null if the pool is disabled or has no process for these properties
+   */
+  RemoteInterpreterManagedProcess claimPooledInterpreterProcess(String interpreterGroupId,
+                                                                Properties properties) {
+    InterpreterProcessPool pool = getOrCreateProcessPool();
+    if (pool == null) {
+      return null;
+    }
+    if (conf.isRecoveryEnabled()
+        && recoveryStorage.getInterpreterClient(interpreterGroupId) != null) {
+      // recover the previous process of this interpreter group instead
+      return null;
+    }
+    return pool.claim(properties);
+  }
+
+  /**
+   * @return the pooled process which is starting with this pool id, null if there's no such one
+   */
+  RemoteInterpreterManagedProcess getStartingPooledInterpreterProcess(String poolId) {
+    InterpreterProcessPool pool = getProcessPool();
+    return pool == null ? null : pool.getStartingProcess(poolId);
+  }
+
   List<Interpreter> getOrCreateSession(String user, String noteId) {
     ManagedInterpreterGroup interpreterGroup = getOrCreateInterpreterGroup(user, noteId);
     Preconditions.checkNotNull(interpreterGroup, "No InterpreterGroup existed for user {}, " +
@@ -40,6 +40,7 @@ import org.apache.zeppelin.helium.ApplicationEventListener;
 import org.apache.zeppelin.interpreter.Interpreter.RegisteredInterpreter;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
@@ -50,7 +51,9 @@ import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.FairJobQueue;
 import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.util.ReflectionUtils;
 import org.apache.zeppelin.storage.ConfigStorage;
@@ -127,6 +130,7 @@ public class InterpreterSettingManager implements NoteEventListener {
   private RecoveryStorage recoveryStorage;
   private ConfigStorage configStorage;
   private RemoteInterpreterEventServer interpreterEventServer;
+  private TableResultStore tableResultStore;
 
   @Inject
   public InterpreterSettingManager(ZeppelinConfiguration zeppelinConfiguration,
@@ -177,6 +181,7 @@ public class InterpreterSettingManager implements NoteEventListener {
     LOGGER.info("Using LifecycleManager: " + this.lifecycleManager.getClass().getName());
 
     this.configStorage = configStorage;
+    this.tableResultStore = new TableResultStore(conf.getInterpreterOutputTableSpillThreshold());
     this.interpreterEventServer = new RemoteInterpreterEventServer(conf, this);
     this.interpreterEventServer.start();
     init();
@@ -309,6 +314,9 @@ public class InterpreterSettingManager implements NoteEventListener {
     loadInterpreterSettingFromDefaultDir(true);
     loadFromFile();
     saveToFile();
+    for (InterpreterSetting interpreterSetting : interpreterSettings.values()) {
+      interpreterSetting.fillProcessPool();
+    }
   }
 
   private void loadInterpreterSettingFromDefaultDir(boolean override) throws IOException {
@@ -352,6 +360,10 @@ public class InterpreterSettingManager implements NoteEventListener {
     return appEventListener;
   }
 
+  public TableResultStore getTableResultStore() {
+    return tableResultStore;
+  }
+
   private boolean registerInterpreterFromResource(ClassLoader cl, String interpreterDir,
       String interpreterJson, boolean override) throws IOException {
     URL[] urls = recursiveBuildLibList(new File(interpreterDir));
@@ -455,6 +467,17 @@ public class InterpreterSettingManager implements NoteEventListener {
     }
   }
 
+  public RemoteInterpreterManagedProcess getStartingPooledInterpreterProcess(String poolId) {
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      RemoteInterpreterManagedProcess process =
+          setting.getStartingPooledInterpreterProcess(poolId);
+      if (process != null) {
+        return process;
+      }
+    }
+    return null;
+  }
+
   public ManagedInterpreterGroup getInterpreterGroupById(String groupId) {
     for (InterpreterSetting setting : interpreterSettings.values()) {
       ManagedInterpreterGroup interpreterGroup = setting.getInterpreterGroup(groupId);
@@ -544,6 +567,13 @@ public class InterpreterSettingManager implements NoteEventListener {
     return recoveryStorage;
   }
 
+  /**
+   * Remove the paged table results of a paragraph, or of the whole note if paragraphId is null.
+   */
+  public void removeTableResults(String noteId, String paragraphId) {
+    tableResultStore.remove(noteId, paragraphId);
+  }
+
   public void removeResourcesBelongsToParagraph(String noteId, String paragraphId) {
     for (ManagedInterpreterGroup intpGroup : getAllInterpreterGroup()) {
       ResourceSet resourceSet = new ResourceSet();
@@ -750,6 +780,7 @@ public class InterpreterSettingManager implements NoteEventListener {
         intpSetting.setDependencies(dependencies);
         intpSetting.postProcessing();
         saveToFile();
+        intpSetting.fillProcessPool();
       } catch (Exception e) {
         loadFromFile();
         throw new IOException(e);
@@ -776,6 +807,7 @@ public class InterpreterSettingManager implements NoteEventListener {
 
   public void restart(String id) throws InterpreterException {
     interpreterSettings.get(id).close();
+    interpreterSettings.get(id).fillProcessPool();
   }
 
   public InterpreterSetting get(String id) {
@@ -869,6 +901,63 @@ public class InterpreterSettingManager implements NoteEventListener {
         break;
       }
     }
+    tableResultStore.close();
+  }
+
+  @ManagedAttribute
+  public long getInterpreterProcessPoolHits() {
+    long hits = 0;
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      InterpreterProcessPool pool = setting.getProcessPool();
+      hits += pool == null ? 0 : pool.getHits();
+    }
+    return hits;
+  }
+
+  @ManagedAttribute
+  public long getInterpreterProcessPoolMisses() {
+    long misses = 0;
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      InterpreterProcessPool pool = setting.getProcessPool();
+      misses += pool == null ? 0 : pool.getMisses();
+    }
+    return misses;
+  }
+
+  @ManagedAttribute
+  public int getIdleInterpreterProcesses() {
+    int idle = 0;
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      InterpreterProcessPool pool = setting.getProcessPool();
+      idle += pool == null ? 0 : pool.getIdleProcesses();
+    }
+    return idle;
+  }
+
+  /**
+   * Wait time histogram of the interactive jobs of the fair schedulers, the buckets are
+   * {@link #getJobWaitTimeBuckets()}.
+   */
+  @ManagedAttribute
+  public long[] getInteractiveJobWaitTimeHistogram() {
+    return SchedulerFactory.singleton().getWaitTimeHistogram(Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Wait time histogram of the batch jobs of the fair schedulers, the buckets are
+   * {@link #getJobWaitTimeBuckets()}.
+   */
+  @ManagedAttribute
+  public long[] getBatchJobWaitTimeHistogram() {
+    return SchedulerFactory.singleton().getWaitTimeHistogram(Job.Priority.BATCH);
+  }
+
+  /**
+   * @return upper bounds in milliseconds of the buckets of the wait time histograms
+   */
+  @ManagedAttribute
+  public long[] getJobWaitTimeBuckets() {
+    return FairJobQueue.getWaitTimeBuckets();
   }
 
   @ManagedAttribute
@@ -927,6 +1016,7 @@ public class InterpreterSettingManager implements NoteEventListener {
     }
 
     removeResourcesBelongsToNote(note.getId());
+    removeTableResults(note.getId(), null);
   }
 
   @Override
@@ -941,7 +1031,7 @@ public class InterpreterSettingManager implements NoteEventListener {
 
   @Override
   public void onParagraphRemove(Paragraph p) throws IOException {
-
+    removeTableResults(p.getNote().getId(), p.getId());
   }
 
   @Override
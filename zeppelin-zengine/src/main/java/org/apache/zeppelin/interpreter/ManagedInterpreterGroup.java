@@ -59,10 +59,16 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
                                                                              Properties properties)
       throws IOException {
     if (remoteInterpreterProcess == null) {
-      LOGGER.info("Create InterpreterProcess for InterpreterGroup: " + getId());
-      remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
-          properties);
-      remoteInterpreterProcess.start(userName);
+      remoteInterpreterProcess =
+          interpreterSetting.claimPooledInterpreterProcess(id, properties);
+      if (remoteInterpreterProcess != null) {
+        LOGGER.info("Use pooled InterpreterProcess for InterpreterGroup: " + getId());
+      } else {
+        LOGGER.info("Create InterpreterProcess for InterpreterGroup: " + getId());
+        remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
+            properties);
+        remoteInterpreterProcess.start(userName);
+      }
       interpreterSetting.getLifecycleManager().onInterpreterProcessStarted(this);
       getInterpreterSetting().getRecoveryStorage()
           .onInterpreterClientStart(remoteInterpreterProcess);
@@ -19,6 +19,7 @@ package org.apache.zeppelin.interpreter;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import org.apache.commons.lang.StringUtils;
 import org.apache.thrift.TException;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TServerSocket;
@@ -35,6 +36,8 @@ import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
+import org.apache.zeppelin.interpreter.thrift.InterpretResultEvent;
+import org.apache.zeppelin.interpreter.thrift.JobStatusUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
@@ -43,16 +46,24 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
+import org.apache.zeppelin.resource.JavaResourceCodec;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceCodecs;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.ResourceTransfer;
+import org.apache.zeppelin.resource.ResourceTransferStore;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
+import org.apache.zeppelin.scheduler.Scheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +89,14 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
   private final Gson gson = new Gson();
+  private final ResourceDirectory resourceDirectory = new ResourceDirectory();
+  private final TableResultStore tableResultStore;
+  // transfers of resources in the resource pools living in ZeppelinServer
+  private final ResourceTransferStore localResourceTransfers = new ResourceTransferStore();
+  private final int resourceChunkSize;
+  private final String resourceCodec;
+  private final String resourceCompression;
+  private final long resourceSpillThreshold;
 
   public RemoteInterpreterEventServer(ZeppelinConfiguration zConf,
                                       InterpreterSettingManager interpreterSettingManager) {
@@ -85,6 +104,20 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     this.interpreterSettingManager = interpreterSettingManager;
     this.listener = interpreterSettingManager.getRemoteInterpreterProcessListener();
     this.appListener = interpreterSettingManager.getAppEventListener();
+    this.tableResultStore = interpreterSettingManager.getTableResultStore();
+    this.resourceChunkSize = zConf.getInterpreterResourceChunkSize();
+    this.resourceCodec = registerResourceCodec(zConf.getInterpreterResourceCodec());
+    this.resourceCompression = zConf.getInterpreterResourceCompression();
+    this.resourceSpillThreshold = zConf.getInterpreterResourceSpillThreshold();
+  }
+
+  private static String registerResourceCodec(String codec) {
+    try {
+      return ResourceCodecs.registerConfigured(codec);
+    } catch (IOException e) {
+      LOGGER.error("Fail to load resource codec " + codec + ", use " + JavaResourceCodec.NAME, e);
+      return JavaResourceCodec.NAME;
+    }
   }
 
   public void start() throws IOException {
@@ -128,7 +161,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
 
     runner = new AppendOutputRunner(listener);
     appendFuture = appendService.scheduleWithFixedDelay(
-        runner, 0, AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
+        runner, 0, AppendOutputRunner.MIN_BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
   }
 
   public void stop() {
@@ -138,6 +171,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     if (appendFuture != null) {
       appendFuture.cancel(true);
     }
+    localResourceTransfers.closeAll();
     LOGGER.info("RemoteInterpreterEventServer is stopped");
   }
 
@@ -152,9 +186,17 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
 
   @Override
   public void registerInterpreterProcess(RegisterInfo registerInfo) throws TException {
+    // resources of the previous process of this interpreter group are gone
+    resourceDirectory.removeResourcePool(registerInfo.getInterpreterGroupId());
     InterpreterGroup interpreterGroup =
         interpreterSettingManager.getInterpreterGroupById(registerInfo.getInterpreterGroupId());
     if (interpreterGroup == null) {
+      RemoteInterpreterManagedProcess pooledProcess = interpreterSettingManager
+          .getStartingPooledInterpreterProcess(registerInfo.getInterpreterGroupId());
+      if (pooledProcess != null) {
+        pooledProcess.processStarted(registerInfo.port, registerInfo.host);
+        return;
+      }
       LOGGER.warn("No such interpreterGroup: " + registerInfo.getInterpreterGroupId());
       return;
     }
@@ -179,9 +221,33 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
   }
 
+  @Override
+  public void appendOutputBatch(List<OutputAppendEvent> batch) throws TException {
+    for (OutputAppendEvent event : batch) {
+      appendOutput(event);
+    }
+  }
+
+  @Override
+  public void appendTableRows(List<OutputAppendEvent> batch) throws TException {
+    for (OutputAppendEvent event : batch) {
+      try {
+        long totalRows = tableResultStore.append(
+            event.getNoteId(), event.getParagraphId(), event.getIndex(), event.getData());
+        listener.onTableRowsAppended(
+            event.getNoteId(), event.getParagraphId(), event.getIndex(), totalRows);
+      } catch (IOException e) {
+        LOGGER.error("Fail to keep rows of table result of paragraph: " +
+            event.getParagraphId(), e);
+      }
+    }
+  }
+
   @Override
   public void updateOutput(OutputUpdateEvent event) throws TException {
     if (event.getAppId() == null) {
+      // the output is replaced, rows paged before are obsolete
+      tableResultStore.remove(event.getNoteId(), event.getParagraphId(), event.getIndex());
       listener.onOutputUpdated(event.getNoteId(), event.getParagraphId(), event.getIndex(),
           InterpreterResult.Type.valueOf(event.getType()), event.getData());
     } else {
@@ -192,6 +258,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
 
   @Override
   public void updateAllOutput(OutputUpdateAllEvent event) throws TException {
+    tableResultStore.remove(event.getNoteId(), event.getParagraphId());
     listener.onOutputClear(event.getNoteId(), event.getParagraphId());
     for (int i = 0; i < event.getMsg().size(); i++) {
       RemoteInterpreterResultMessage msg = event.getMsg().get(i);
@@ -233,6 +300,39 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
   }
 
+  @Override
+  public void updateJobStatus(JobStatusUpdateEvent event) throws TException {
+    InterpreterGroup interpreterGroup =
+        interpreterSettingManager.getInterpreterGroupById(event.getIntpGroupId());
+    if (interpreterGroup == null) {
+      LOGGER.warn("No such interpreterGroup: " + event.getIntpGroupId());
+      return;
+    }
+    List<Interpreter> interpreters = interpreterGroup.get(event.getSessionId());
+    if (interpreters == null || interpreters.isEmpty()) {
+      // session is closed already
+      return;
+    }
+    // all the interpreters of one session share the same RemoteScheduler
+    Scheduler scheduler = interpreters.get(0).getScheduler();
+    if (scheduler instanceof RemoteScheduler) {
+      ((RemoteScheduler) scheduler).onJobStatusUpdate(event.getJobId(),
+          Job.Status.valueOf(event.getStatus()));
+    }
+  }
+
+  @Override
+  public void completeInterpret(InterpretResultEvent event) throws TException {
+    ManagedInterpreterGroup interpreterGroup =
+        interpreterSettingManager.getInterpreterGroupById(event.getIntpGroupId());
+    if (interpreterGroup == null || interpreterGroup.getInterpreterProcess() == null) {
+      LOGGER.warn("No interpreter process for interpreterGroup: " + event.getIntpGroupId());
+      return;
+    }
+    interpreterGroup.getInterpreterProcess().onInterpretResult(
+        event.getSessionId(), event.getJobId(), event.getResult());
+  }
+
   @Override
   public void addAngularObject(String intpGroupId, String json) throws TException {
     LOGGER.debug("Add AngularObject, interpreterGroupId: " + intpGroupId + ", json: " + json);
@@ -308,6 +408,63 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return resourceList;
   }
 
+  @Override
+  public void addResource(String intpGroupId, String resourceJson) throws TException {
+    resourceDirectory.put(resourceJson);
+  }
+
+  @Override
+  public void removeResource(String intpGroupId, String resourceIdJson) throws TException {
+    resourceDirectory.remove(ResourceId.fromJson(resourceIdJson));
+  }
+
+  @Override
+  public List<String> getResourcesByName(String intpGroupId, String name) throws TException {
+    List<String> resourceList = getLiveResources(resourceDirectory.get(name, intpGroupId));
+    for (Resource r : getLocalResourcePoolExcept(intpGroupId).filterByName(name)) {
+      resourceList.add(r.toJson());
+    }
+    return resourceList;
+  }
+
+  @Override
+  public List<String> getParagraphResources(String intpGroupId, String noteId,
+                                            String paragraphId, String name) throws TException {
+    List<String> resourceList = getLiveResources(
+        resourceDirectory.get(noteId, paragraphId, name, intpGroupId));
+    ResourceSet localResources = getLocalResourcePoolExcept(intpGroupId)
+        .filterByNoteId(noteId)
+        .filterByParagraphId(paragraphId)
+        .filterByName(name);
+    for (Resource r : localResources) {
+      resourceList.add(r.toJson());
+    }
+    return resourceList;
+  }
+
+  /**
+   * Filter out the resources of interpreter processes that are no longer running, and drop them
+   * from the resource directory.
+   */
+  private List<String> getLiveResources(List<String> resources) {
+    List<String> liveResources = new LinkedList<>();
+    Map<String, Boolean> liveResourcePools = new HashMap<>();
+    for (String res : resources) {
+      String resourcePoolId = RemoteResource.fromJson(res).getResourceId().getResourcePoolId();
+      boolean live = liveResourcePools.computeIfAbsent(resourcePoolId, id -> {
+        ManagedInterpreterGroup intpGroup = interpreterSettingManager.getInterpreterGroupById(id);
+        return intpGroup != null && intpGroup.getRemoteInterpreterProcess() != null &&
+            intpGroup.getRemoteInterpreterProcess().isRunning();
+      });
+      if (live) {
+        liveResources.add(res);
+      } else {
+        resourceDirectory.removeResourcePool(resourcePoolId);
+      }
+    }
+    return liveResources;
+  }
+
   @Override
   public ByteBuffer getResource(String resourceIdJson) throws TException {
     ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
@@ -325,6 +482,111 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return obj;
   }
 
+  @Override
+  public String openResourceTransfer(String intpGroupId, String resourceIdJson)
+      throws TException {
+    final ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
+    ManagedInterpreterGroup intpGroup = interpreterSettingManager
+        .getInterpreterGroupById(resourceId.getResourcePoolId());
+    if (intpGroup == null) {
+      return "";
+    }
+
+    String transferJson = null;
+    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+    if (remoteInterpreterProcess == null) {
+      ResourcePool localPool = intpGroup.getResourcePool();
+      Resource resource = localPool == null ? null : localPool.get(
+          resourceId.getNoteId(), resourceId.getParagraphId(), resourceId.getName());
+      if (resource != null && resource.isSerializable() && resource.get() != null) {
+        try {
+          transferJson = localResourceTransfers.open(
+              resourceId, resource.get(), resourceCodec, resourceCompression,
+              resourceSpillThreshold).toJson();
+        } catch (IOException e) {
+          throw new TException(e);
+        }
+      }
+    } else if (remoteInterpreterProcess.isRunning()) {
+      transferJson = remoteInterpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<String>() {
+            @Override
+            public String call(RemoteInterpreterService.Client client) throws Exception {
+              return client.resourceOpenTransfer(
+                  resourceId.getNoteId(),
+                  resourceId.getParagraphId(),
+                  resourceId.getName(),
+                  resourceCodec,
+                  resourceSpillThreshold,
+                  resourceCompression);
+            }
+          }
+      );
+    }
+    if (StringUtils.isBlank(transferJson)) {
+      return "";
+    }
+    ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    transfer.setChunkSize(resourceChunkSize);
+    return transfer.toJson();
+  }
+
+  @Override
+  public ByteBuffer readResourceChunk(String transferJson, long offset, int length)
+      throws TException {
+    final ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    final int chunkLength = length > 0 ? Math.min(length, resourceChunkSize) : resourceChunkSize;
+    RemoteInterpreterProcess remoteInterpreterProcess = getResourceTransferProcess(transfer);
+    if (remoteInterpreterProcess == null) {
+      try {
+        return localResourceTransfers.read(transfer.getTransferId(), offset, chunkLength);
+      } catch (IOException e) {
+        throw new TException(e);
+      }
+    }
+    return remoteInterpreterProcess.callRemoteFunction(
+        new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
+          @Override
+          public ByteBuffer call(RemoteInterpreterService.Client client) throws Exception {
+            return client.resourceReadChunk(transfer.getTransferId(), offset, chunkLength);
+          }
+        }
+    );
+  }
+
+  @Override
+  public void closeResourceTransfer(String transferJson) throws TException {
+    final ResourceTransfer transfer = ResourceTransfer.fromJson(transferJson);
+    RemoteInterpreterProcess remoteInterpreterProcess = getResourceTransferProcess(transfer);
+    if (remoteInterpreterProcess == null) {
+      localResourceTransfers.close(transfer.getTransferId());
+    } else if (remoteInterpreterProcess.isRunning()) {
+      remoteInterpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<Void>() {
+            @Override
+            public Void call(RemoteInterpreterService.Client client) throws Exception {
+              client.resourceCloseTransfer(transfer.getTransferId());
+              return null;
+            }
+          }
+      );
+    }
+  }
+
+  /**
+   * @return process which holds the transfer, null if it is held by ZeppelinServer
+   */
+  private RemoteInterpreterProcess getResourceTransferProcess(ResourceTransfer transfer)
+      throws TException {
+    String resourcePoolId = transfer.getResourceId().getResourcePoolId();
+    ManagedInterpreterGroup intpGroup =
+        interpreterSettingManager.getInterpreterGroupById(resourcePoolId);
+    if (intpGroup == null) {
+      throw new TException("No such interpreter group: " + resourcePoolId);
+    }
+    return intpGroup.getRemoteInterpreterProcess();
+  }
+
   @Override
   public ByteBuffer invokeMethod(String intpGroupId, String invokeMethodJson) throws TException {
     InvokeResourceMethodEventMessage invokeMethodMessage =
@@ -431,6 +693,26 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return null;
   }
 
+  /**
+   * Get resources of the resource pools that live in ZeppelinServer, they are not published to
+   * the resource directory.
+   */
+  private ResourceSet getLocalResourcePoolExcept(String interpreterGroupId) {
+    ResourceSet resourceSet = new ResourceSet();
+    for (ManagedInterpreterGroup intpGroup : interpreterSettingManager.getAllInterpreterGroup()) {
+      if (intpGroup.getId().equals(interpreterGroupId)) {
+        continue;
+      }
+      if (intpGroup.getRemoteInterpreterProcess() == null) {
+        ResourcePool localPool = intpGroup.getResourcePool();
+        if (localPool != null) {
+          resourceSet.addAll(localPool.getAll());
+        }
+      }
+    }
+    return resourceSet;
+  }
+
   private ResourceSet getAllResourcePoolExcept(String interpreterGroupId) {
     ResourceSet resourceSet = new ResourceSet();
     for (ManagedInterpreterGroup intpGroup : interpreterSettingManager.getAllInterpreterGroup()) {
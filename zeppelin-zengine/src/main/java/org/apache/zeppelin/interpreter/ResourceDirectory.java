@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.resource.RemoteResource;
+import org.apache.zeppelin.resource.ResourceId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Directory of the resources in the resource pools of remote interpreter processes.
+ *
+ * Interpreter processes publish the resources they put into or remove from their resource pool,
+ * so that a lookup by name is answered from here instead of listing every resource pool.
+ */
+public class ResourceDirectory {
+
+  // resource name -> (resourceId -> resource json)
+  private final Map<String, Map<ResourceId, String>> resources = new ConcurrentHashMap<>();
+
+  public void put(String resourceJson) {
+    ResourceId resourceId = RemoteResource.fromJson(resourceJson).getResourceId();
+    resources.compute(resourceId.getName(), (name, byId) -> {
+      if (byId == null) {
+        byId = new ConcurrentHashMap<>();
+      }
+      byId.put(resourceId, resourceJson);
+      return byId;
+    });
+  }
+
+  public void remove(ResourceId resourceId) {
+    resources.computeIfPresent(resourceId.getName(), (name, byId) -> {
+      byId.remove(resourceId);
+      return byId.isEmpty() ? null : byId;
+    });
+  }
+
+  /**
+   * Remove all the resources of this resource pool, e.g. its interpreter process is restarted.
+   */
+  public void removeResourcePool(String resourcePoolId) {
+    for (String name : resources.keySet()) {
+      resources.computeIfPresent(name, (n, byId) -> {
+        byId.keySet().removeIf(id -> resourcePoolId.equals(id.getResourcePoolId()));
+        return byId.isEmpty() ? null : byId;
+      });
+    }
+  }
+
+  /**
+   * Get resources of the given name, except for the resources of the given resource pool.
+   *
+   * @return list of resource json
+   */
+  public List<String> get(String name, String exceptResourcePoolId) {
+    return get(null, null, name, exceptResourcePoolId, false);
+  }
+
+  /**
+   * Get resources of the given note, paragraph and name, except for the resources of the given
+   * resource pool.
+   *
+   * @return list of resource json
+   */
+  public List<String> get(String noteId, String paragraphId, String name,
+                          String exceptResourcePoolId) {
+    return get(noteId, paragraphId, name, exceptResourcePoolId, true);
+  }
+
+  private List<String> get(String noteId, String paragraphId, String name,
+                           String exceptResourcePoolId, boolean matchParagraph) {
+    Map<ResourceId, String> byId = resources.get(name);
+    if (byId == null) {
+      return Collections.emptyList();
+    }
+    List<String> result = new ArrayList<>();
+    for (Map.Entry<ResourceId, String> entry : byId.entrySet()) {
+      ResourceId resourceId = entry.getKey();
+      if (resourceId.getResourcePoolId().equals(exceptResourcePoolId)) {
+        continue;
+      }
+      if (matchParagraph && !(equals(resourceId.getNoteId(), noteId) &&
+          equals(resourceId.getParagraphId(), paragraphId))) {
+        continue;
+      }
+      result.add(entry.getValue());
+    }
+    return result;
+  }
+
+  private boolean equals(String a, String b) {
+    if (a == null && b == null) {
+      return true;
+    } else if (a != null && b != null) {
+      return a.equals(b);
+    } else {
+      return false;
+    }
+  }
+}
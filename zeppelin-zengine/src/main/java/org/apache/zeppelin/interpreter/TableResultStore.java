@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rows of the paged table results of paragraphs.
+ *
+ * An interpreter process keeps only the first rows of a large table in the paragraph result,
+ * which is what the note persists. The complete table is streamed to this store in batches of
+ * rows, and the frontend reads it from here page by page. The rows of a table are kept in
+ * memory up to spillThreshold bytes and in a temporary file above it.
+ */
+public class TableResultStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TableResultStore.class);
+
+  // byte offset of every INDEX_INTERVAL-th row is kept to seek a page
+  private static final int INDEX_INTERVAL = 1024;
+
+  private final long spillThreshold;
+  private final Map<ResultKey, TableResult> results = new ConcurrentHashMap<>();
+
+  public TableResultStore(long spillThreshold) {
+    this.spillThreshold = spillThreshold;
+  }
+
+  /**
+   * Append rows to the table result. The first line of a table is its header.
+   *
+   * @return number of rows of the table so far, excluding the header
+   */
+  public long append(String noteId, String paragraphId, int index, String rows)
+      throws IOException {
+    TableResult result = results.computeIfAbsent(new ResultKey(noteId, paragraphId, index),
+        key -> new TableResult(spillThreshold));
+    return result.append(rows);
+  }
+
+  /**
+   * Read rows of the table result.
+   *
+   * @return null if the result is not paged
+   */
+  public Page getPage(String noteId, String paragraphId, int index, long offset, int limit)
+      throws IOException {
+    TableResult result = results.get(new ResultKey(noteId, paragraphId, index));
+    if (result == null) {
+      return null;
+    }
+    return result.getPage(offset, limit);
+  }
+
+  public void remove(String noteId, String paragraphId, int index) {
+    TableResult result = results.remove(new ResultKey(noteId, paragraphId, index));
+    if (result != null) {
+      result.close();
+    }
+  }
+
+  /**
+   * Remove the table results of a paragraph, or of all paragraphs of the note if paragraphId
+   * is null.
+   */
+  public void remove(String noteId, String paragraphId) {
+    for (ResultKey key : results.keySet()) {
+      if (key.noteId.equals(noteId)
+          && (paragraphId == null || key.paragraphId.equals(paragraphId))) {
+        remove(key.noteId, key.paragraphId, key.index);
+      }
+    }
+  }
+
+  public void close() {
+    for (ResultKey key : results.keySet()) {
+      remove(key.noteId, key.paragraphId, key.index);
+    }
+  }
+
+  public int size() {
+    return results.size();
+  }
+
+  /**
+   * Rows of a table result
+   */
+  public static class Page {
+    // tab separated column names
+    private final String header;
+    // tab separated rows, each of them ends with new line
+    private final String rows;
+    private final long offset;
+    private final long totalRows;
+
+    public Page(String header, String rows, long offset, long totalRows) {
+      this.header = header;
+      this.rows = rows;
+      this.offset = offset;
+      this.totalRows = totalRows;
+    }
+
+    public String getHeader() {
+      return header;
+    }
+
+    public String getRows() {
+      return rows;
+    }
+
+    public long getOffset() {
+      return offset;
+    }
+
+    public long getTotalRows() {
+      return totalRows;
+    }
+  }
+
+  private static class TableResult {
+    private final long spillThreshold;
+    private String header;
+    // incomplete last line of the appended rows
+    private final StringBuilder partialLine = new StringBuilder();
+    private long rows;
+    private long size;
+    private long[] rowIndex = new long[16];
+
+    private MemoryBuffer memory = new MemoryBuffer();
+    private File file;
+    private RandomAccessFile fileData;
+    private boolean closed;
+
+    TableResult(long spillThreshold) {
+      this.spillThreshold = spillThreshold;
+    }
+
+    synchronized long append(String data) throws IOException {
+      if (closed) {
+        // removed while rows were being appended
+        return rows;
+      }
+      int start = 0;
+      int end;
+      while ((end = data.indexOf('\n', start)) >= 0) {
+        if (partialLine.length() > 0) {
+          partialLine.append(data, start, end);
+          appendLine(partialLine.toString());
+          partialLine.setLength(0);
+        } else {
+          appendLine(data.substring(start, end));
+        }
+        start = end + 1;
+      }
+      partialLine.append(data, start, data.length());
+      return rows;
+    }
+
+    private void appendLine(String line) throws IOException {
+      if (header == null) {
+        header = line;
+        return;
+      }
+      if (rows % INDEX_INTERVAL == 0) {
+        int i = (int) (rows / INDEX_INTERVAL);
+        if (i == rowIndex.length) {
+          rowIndex = Arrays.copyOf(rowIndex, rowIndex.length * 2);
+        }
+        rowIndex[i] = size;
+      }
+      byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+      if (memory != null && size + bytes.length > spillThreshold) {
+        spill();
+      }
+      if (memory != null) {
+        memory.write(bytes);
+      } else {
+        fileData.seek(size);
+        fileData.write(bytes);
+      }
+      size += bytes.length;
+      rows++;
+    }
+
+    private void spill() throws IOException {
+      // deleted by close(), when the result is replaced or removed
+      file = File.createTempFile("zeppelin-table-", ".tsv");
+      fileData = new RandomAccessFile(file, "rw");
+      fileData.write(memory.buffer(), 0, memory.size());
+      memory = null;
+    }
+
+    synchronized Page getPage(long offset, int limit) throws IOException {
+      if (offset < 0 || limit < 0) {
+        throw new IOException("Invalid page, offset: " + offset + ", limit: " + limit);
+      }
+      if (closed || offset >= rows || limit == 0) {
+        return new Page(header, "", offset, rows);
+      }
+
+      long start = rowIndex[(int) (offset / INDEX_INTERVAL)];
+      long skip = offset % INDEX_INTERVAL;
+      ByteArrayOutputStream page = new ByteArrayOutputStream();
+      int read = 0;
+      try (InputStream in = open(start)) {
+        int b;
+        while (read < limit && (b = in.read()) != -1) {
+          if (skip > 0) {
+            if (b == '\n') {
+              skip--;
+            }
+            continue;
+          }
+          page.write(b);
+          if (b == '\n') {
+            read++;
+          }
+        }
+      }
+      return new Page(header, new String(page.toByteArray(), StandardCharsets.UTF_8),
+          offset, rows);
+    }
+
+    private InputStream open(long position) throws IOException {
+      if (memory != null) {
+        return new ByteArrayInputStream(memory.buffer(), (int) position,
+            memory.size() - (int) position);
+      }
+      fileData.seek(position);
+      // the stream shares the position of the file, closing it would close the file
+      return new BufferedInputStream(Channels.newInputStream(fileData.getChannel())) {
+        @Override
+        public void close() {
+        }
+      };
+    }
+
+    synchronized void close() {
+      closed = true;
+      memory = null;
+      if (fileData != null) {
+        try {
+          fileData.close();
+        } catch (IOException e) {
+          LOGGER.warn("Fail to close table result file: " + file, e);
+        }
+      }
+      if (file != null && !file.delete()) {
+        LOGGER.warn("Fail to delete table result file: " + file);
+      }
+    }
+  }
+
+  private static class MemoryBuffer extends ByteArrayOutputStream {
+    byte[] buffer() {
+      return buf;
+    }
+  }
+
+  private static class ResultKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    ResultKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ResultKey)) {
+        return false;
+      }
+      ResultKey that = (ResultKey) o;
+      return index == that.index && noteId.equals(that.noteId)
+          && paragraphId.equals(that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(noteId, paragraphId, index);
+    }
+  }
+}
@@ -20,97 +20,198 @@ package org.apache.zeppelin.interpreter.remote;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * This thread sends paragraph's append-data
- * periodically, rather than continously, with
- * a period of BUFFER_TIME_MS. It handles append-data
+ * periodically, rather than continously. It handles append-data
  * for all paragraphs across all notebooks.
+ *
+ * Appends are merged into one builder per (noteId, paragraphId, index) as they arrive,
+ * and the builders are reused across flushes. The flush interval adapts to the load:
+ * sparse output is sent on the next tick (every MIN_BUFFER_TIME_MS), heavy output is
+ * batched up to BUFFER_TIME_MS. When more than maxPendingSize characters are pending,
+ * the appending thread flushes by itself, which slows down the interpreter process
+ * sending the output instead of growing the buffer.
  */
 public class AppendOutputRunner implements Runnable {
 
   private static final Logger logger =
       LoggerFactory.getLogger(AppendOutputRunner.class);
-  public static final Long BUFFER_TIME_MS = new Long(100);
-  private static final Long SAFE_PROCESSING_TIME = new Long(10);
-  private static final Long SAFE_PROCESSING_STRING_SIZE = new Long(100000);
+  // period the runner is scheduled with, the shortest flush interval
+  public static final long MIN_BUFFER_TIME_MS = 10;
+  // the longest flush interval, used under heavy output
+  public static final long BUFFER_TIME_MS = 100;
+  public static final int DEFAULT_MAX_PENDING_SIZE = 1024 * 1024;
+  // a flush larger than this is considered as heavy output, and the interval grows
+  private static final int HEAVY_FLUSH_SIZE = 8 * 1024;
+  // builders grown larger than this are not reused, to release the memory
+  private static final int MAX_REUSED_BUILDER_CAPACITY = 64 * 1024;
+  private static final long SAFE_PROCESSING_TIME = 10;
+  private static final long SAFE_PROCESSING_STRING_SIZE = 100000;
 
-  private final BlockingQueue<AppendOutputBuffer> queue = new LinkedBlockingQueue<>();
   private final RemoteInterpreterProcessListener listener;
+  private final int maxPendingSize;
+
+  // guarded by this
+  private final Map<OutputKey, StringBuilder> builders = new LinkedHashMap<>();
+  private int pendingSize = 0;
+  private long lastFlushTime = 0;
+  private long flushInterval = 0;
+
+  // serializes the delivery to the listener, so that appends of the same output keep order
+  private final Object flushLock = new Object();
 
   public AppendOutputRunner(RemoteInterpreterProcessListener listener) {
+    this(listener, DEFAULT_MAX_PENDING_SIZE);
+  }
+
+  public AppendOutputRunner(RemoteInterpreterProcessListener listener, int maxPendingSize) {
     this.listener = listener;
+    this.maxPendingSize = maxPendingSize;
   }
 
   @Override
   public void run() {
-
-    Map<String, StringBuilder> stringBufferMap = new HashMap<>();
-    List<AppendOutputBuffer> list = new LinkedList<>();
-
-    /* "drainTo" method does not wait for any element
-     * to be present in the queue, and thus this loop would
-     * continuosly run (with period of BUFFER_TIME_MS). "take()" method
-     * waits for the queue to become non-empty and then removes
-     * one element from it. Rest elements from queue (if present) are
-     * removed using "drainTo" method. Thus we save on some un-necessary
-     * cpu-cycles.
-     */
-    try {
-      list.add(queue.take());
-    } catch (InterruptedException e) {
-      logger.error("Wait for OutputBuffer queue interrupted: " + e.getMessage());
+    synchronized (this) {
+      if (pendingSize == 0
+          || System.currentTimeMillis() - lastFlushTime < flushInterval) {
+        return;
+      }
     }
-    Long processingStartTime = System.currentTimeMillis();
-    queue.drainTo(list);
-
-    for (AppendOutputBuffer buffer: list) {
-      String noteId = buffer.getNoteId();
-      String paragraphId = buffer.getParagraphId();
-      int index = buffer.getIndex();
-      String stringBufferKey = noteId + ":" + paragraphId + ":" + index;
-
-      StringBuilder builder = stringBufferMap.containsKey(stringBufferKey) ?
-          stringBufferMap.get(stringBufferKey) : new StringBuilder();
+    flush();
+  }
 
-      builder.append(buffer.getData());
-      stringBufferMap.put(stringBufferKey, builder);
+  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
+    boolean full;
+    synchronized (this) {
+      OutputKey key = new OutputKey(noteId, paragraphId, index);
+      StringBuilder builder = builders.get(key);
+      if (builder == null) {
+        builder = new StringBuilder(outputToAppend.length());
+        builders.put(key, builder);
+      }
+      builder.append(outputToAppend);
+      pendingSize += outputToAppend.length();
+      full = pendingSize >= maxPendingSize;
     }
-    Long processingTime = System.currentTimeMillis() - processingStartTime;
-
-    if (processingTime > SAFE_PROCESSING_TIME) {
-      logger.warn("Processing time for buffered append-output is high: " +
-          processingTime + " milliseconds.");
-    } else {
-      logger.debug("Processing time for append-output took "
-          + processingTime + " milliseconds");
+    if (full) {
+      flush();
     }
+  }
 
-    Long sizeProcessed = new Long(0);
-    for (String stringBufferKey : stringBufferMap.keySet()) {
-      StringBuilder buffer = stringBufferMap.get(stringBufferKey);
-      sizeProcessed += buffer.length();
-      String[] keys = stringBufferKey.split(":");
-      listener.onOutputAppend(keys[0], keys[1], Integer.parseInt(keys[2]), buffer.toString());
+  /**
+   * Send all pending append-data to the listener.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      List<OutputKey> keys = new ArrayList<>();
+      List<String> outputs = new ArrayList<>();
+      synchronized (this) {
+        if (pendingSize == 0) {
+          return;
+        }
+        Iterator<Map.Entry<OutputKey, StringBuilder>> it = builders.entrySet().iterator();
+        while (it.hasNext()) {
+          Map.Entry<OutputKey, StringBuilder> entry = it.next();
+          StringBuilder builder = entry.getValue();
+          if (builder.length() == 0) {
+            // no output since last flush, the paragraph is probably done
+            it.remove();
+            continue;
+          }
+          keys.add(entry.getKey());
+          outputs.add(builder.toString());
+          if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            entry.setValue(new StringBuilder());
+          } else {
+            builder.setLength(0);
+          }
+        }
+        adaptFlushInterval(pendingSize);
+        pendingSize = 0;
+        lastFlushTime = System.currentTimeMillis();
+      }
+
+      long processingStartTime = System.currentTimeMillis();
+      long sizeProcessed = 0;
+      for (int i = 0; i < keys.size(); i++) {
+        OutputKey key = keys.get(i);
+        String output = outputs.get(i);
+        sizeProcessed += output.length();
+        listener.onOutputAppend(key.noteId, key.paragraphId, key.index, output);
+      }
+      long processingTime = System.currentTimeMillis() - processingStartTime;
+
+      if (processingTime > SAFE_PROCESSING_TIME) {
+        logger.warn("Processing time for buffered append-output is high: " +
+            processingTime + " milliseconds.");
+      } else {
+        logger.debug("Processing time for append-output took "
+            + processingTime + " milliseconds");
+      }
+
+      if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
+        logger.warn("Processing size for buffered append-output is high: " +
+            sizeProcessed + " characters.");
+      } else {
+        logger.debug("Processing size for append-output is " +
+            sizeProcessed + " characters");
+      }
     }
+  }
 
-    if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
-      logger.warn("Processing size for buffered append-output is high: " +
-          sizeProcessed + " characters.");
+  // grow the interval while the output is heavy, shrink it back when it becomes sparse
+  private void adaptFlushInterval(int flushSize) {
+    if (flushSize >= HEAVY_FLUSH_SIZE) {
+      flushInterval = Math.min(BUFFER_TIME_MS, Math.max(MIN_BUFFER_TIME_MS, flushInterval * 2));
     } else {
-      logger.debug("Processing size for append-output is " +
-          sizeProcessed + " characters");
+      flushInterval = flushInterval / 2 < MIN_BUFFER_TIME_MS ? 0 : flushInterval / 2;
     }
   }
 
-  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
-    queue.offer(new AppendOutputBuffer(noteId, paragraphId, index, outputToAppend));
+  synchronized long getFlushInterval() {
+    return flushInterval;
   }
 
+  synchronized int getPendingSize() {
+    return pendingSize;
+  }
+
+  private static class OutputKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OutputKey)) {
+        return false;
+      }
+      OutputKey that = (OutputKey) o;
+      return index == that.index && noteId.equals(that.noteId)
+          && paragraphId.equals(that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = noteId.hashCode();
+      result = 31 * result + paragraphId.hashCode();
+      result = 31 * result + index;
+      return result;
+    }
+  }
 }
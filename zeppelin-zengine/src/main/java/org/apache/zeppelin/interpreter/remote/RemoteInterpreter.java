@@ -50,6 +50,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Proxy for Interpreter instance that runs on separate process
@@ -57,6 +61,9 @@ import java.util.Properties;
 public class RemoteInterpreter extends Interpreter {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreter.class);
   private static final Gson gson = new Gson();
+  // results come with completeInterpret events, a result is only fetched at this interval in
+  // case its event is lost
+  private static final long RESULT_FETCH_INTERVAL_MS = 30 * 1000;
 
 
   private String className;
@@ -214,46 +221,102 @@ public class RemoteInterpreter extends Interpreter {
       throw new InterpreterException(e);
     }
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
-    return interpreterProcess.callRemoteFunction(
-        new RemoteInterpreterProcess.RemoteFunction<InterpreterResult>() {
-          @Override
-          public InterpreterResult call(Client client) throws Exception {
-
-            RemoteInterpreterResult remoteResult = client.interpret(
-                sessionId, className, st, convert(context));
-            Map<String, Object> remoteConfig = (Map<String, Object>) gson.fromJson(
-                remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
-                }.getType());
-            context.getConfig().clear();
-            if (remoteConfig != null) {
-              context.getConfig().putAll(remoteConfig);
-            }
-            GUI currentGUI = context.getGui();
-            GUI currentNoteGUI = context.getNoteGui();
-            if (form == FormType.NATIVE) {
-              GUI remoteGui = GUI.fromJson(remoteResult.getGui());
-              GUI remoteNoteGui = GUI.fromJson(remoteResult.getNoteGui());
-              currentGUI.clear();
-              currentGUI.setParams(remoteGui.getParams());
-              currentGUI.setForms(remoteGui.getForms());
-              currentNoteGUI.setParams(remoteNoteGui.getParams());
-              currentNoteGUI.setForms(remoteNoteGui.getForms());
-            } else if (form == FormType.SIMPLE) {
-              final Map<String, Input> currentForms = currentGUI.getForms();
-              final Map<String, Object> currentParams = currentGUI.getParams();
-              final GUI remoteGUI = GUI.fromJson(remoteResult.getGui());
-              final Map<String, Input> remoteForms = remoteGUI.getForms();
-              final Map<String, Object> remoteParams = remoteGUI.getParams();
-              currentForms.putAll(remoteForms);
-              currentParams.putAll(remoteParams);
-            }
 
-            InterpreterResult result = convert(remoteResult);
-            return result;
+    // the paragraph is only submitted here, so that no thrift connection is held while it is
+    // running. The result is sent back via RemoteInterpreterEventServer.
+    final String jobId = context.getParagraphId();
+    CompletableFuture<RemoteInterpreterResult> resultFuture =
+        interpreterProcess.registerInterpretJob(sessionId, jobId);
+    try {
+      interpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<String>() {
+            @Override
+            public String call(Client client) throws Exception {
+              return client.submitInterpret(sessionId, className, st, convert(context));
+            }
           }
+      );
+      RemoteInterpreterResult remoteResult =
+          waitForInterpretResult(interpreterProcess, sessionId, jobId, resultFuture);
+      return convert(remoteResult, context, form);
+    } finally {
+      interpreterProcess.unregisterInterpretJob(sessionId, jobId, resultFuture);
+    }
+  }
+
+  private RemoteInterpreterResult waitForInterpretResult(
+      RemoteInterpreterProcess interpreterProcess, final String sessionId, final String jobId,
+      CompletableFuture<RemoteInterpreterResult> resultFuture) throws InterpreterException {
+    long nextFetch = System.currentTimeMillis() + RESULT_FETCH_INTERVAL_MS;
+    while (true) {
+      try {
+        return resultFuture.get(1000, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        if (!interpreterProcess.isRunning()) {
+          throw new InterpreterException("Interpreter process is stopped while running " + jobId);
         }
-    );
+        if (System.currentTimeMillis() < nextFetch) {
+          continue;
+        }
+        nextFetch = System.currentTimeMillis() + RESULT_FETCH_INTERVAL_MS;
+        // the completeInterpret event may be lost, in that case the interpreter process keeps
+        // the result until it is fetched
+        RemoteInterpreterResult undelivered = null;
+        try {
+          undelivered = interpreterProcess.callRemoteFunction(
+              new RemoteInterpreterProcess.RemoteFunction<RemoteInterpreterResult>() {
+                @Override
+                public RemoteInterpreterResult call(Client client) throws Exception {
+                  return client.fetchInterpretResult(sessionId, jobId);
+                }
+              });
+        } catch (RuntimeException re) {
+          LOGGER.warn("Fail to fetch result of job " + jobId, re);
+        }
+        if (undelivered != null && undelivered.isSetCode()) {
+          LOGGER.warn("Result of job {} was not sent back, fetched it from interpreter process",
+              jobId);
+          interpreterProcess.onInterpretResult(sessionId, jobId, undelivered);
+        }
+      } catch (InterruptedException e) {
+        throw new InterpreterException(e);
+      } catch (ExecutionException e) {
+        throw new InterpreterException(e.getCause());
+      }
+    }
+  }
+
+  private InterpreterResult convert(RemoteInterpreterResult remoteResult,
+                                    InterpreterContext context,
+                                    FormType form) {
+    Map<String, Object> remoteConfig = (Map<String, Object>) gson.fromJson(
+        remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
+        }.getType());
+    context.getConfig().clear();
+    if (remoteConfig != null) {
+      context.getConfig().putAll(remoteConfig);
+    }
+    GUI currentGUI = context.getGui();
+    GUI currentNoteGUI = context.getNoteGui();
+    if (form == FormType.NATIVE) {
+      GUI remoteGui = GUI.fromJson(remoteResult.getGui());
+      GUI remoteNoteGui = GUI.fromJson(remoteResult.getNoteGui());
+      currentGUI.clear();
+      currentGUI.setParams(remoteGui.getParams());
+      currentGUI.setForms(remoteGui.getForms());
+      currentNoteGUI.setParams(remoteNoteGui.getParams());
+      currentNoteGUI.setForms(remoteNoteGui.getForms());
+    } else if (form == FormType.SIMPLE) {
+      final Map<String, Input> currentForms = currentGUI.getForms();
+      final Map<String, Object> currentParams = currentGUI.getParams();
+      final GUI remoteGUI = GUI.fromJson(remoteResult.getGui());
+      final Map<String, Input> remoteForms = remoteGUI.getForms();
+      final Map<String, Object> remoteParams = remoteGUI.getParams();
+      currentForms.putAll(remoteForms);
+      currentParams.putAll(remoteParams);
+    }
 
+    return convert(remoteResult);
   }
 
   @Override
@@ -20,10 +20,17 @@ import com.google.gson.Gson;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Abstract class for interpreter process
  */
@@ -32,6 +39,11 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
 
   private GenericObjectPool<Client> clientPool;
   private int connectTimeout;
+  // results of the paragraphs submitted via submitInterpret, keyed by sessionId and jobId.
+  // The same paragraph can be submitted more than once at the same time, so the waiters of
+  // a key are completed in submission order.
+  private final Map<String, Queue<CompletableFuture<RemoteInterpreterResult>>>
+      interpretResults = new HashMap<>();
 
   public RemoteInterpreterProcess(
       int connectTimeout) {
@@ -130,6 +142,63 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
     return null;
   }
 
+  /**
+   * Register the job before it is submitted, so that its result which is sent back
+   * asynchronously via RemoteInterpreterEventServer can not be missed.
+   */
+  public CompletableFuture<RemoteInterpreterResult> registerInterpretJob(String sessionId,
+                                                                         String jobId) {
+    CompletableFuture<RemoteInterpreterResult> result = new CompletableFuture<>();
+    synchronized (interpretResults) {
+      interpretResults.computeIfAbsent(getInterpretJobKey(sessionId, jobId),
+          key -> new LinkedList<>()).add(result);
+    }
+    return result;
+  }
+
+  public void unregisterInterpretJob(String sessionId, String jobId,
+                                     CompletableFuture<RemoteInterpreterResult> result) {
+    String key = getInterpretJobKey(sessionId, jobId);
+    synchronized (interpretResults) {
+      Queue<CompletableFuture<RemoteInterpreterResult>> waiters = interpretResults.get(key);
+      if (waiters != null) {
+        waiters.remove(result);
+        if (waiters.isEmpty()) {
+          interpretResults.remove(key);
+        }
+      }
+    }
+  }
+
+  /**
+   * Called when the interpreter process sends back the result of a submitted job.
+   */
+  public void onInterpretResult(String sessionId, String jobId, RemoteInterpreterResult result) {
+    CompletableFuture<RemoteInterpreterResult> future = null;
+    synchronized (interpretResults) {
+      Queue<CompletableFuture<RemoteInterpreterResult>> waiters =
+          interpretResults.get(getInterpretJobKey(sessionId, jobId));
+      if (waiters != null) {
+        // skip the waiters which are already completed, but not unregistered yet
+        while (future == null && !waiters.isEmpty()) {
+          future = waiters.poll();
+          if (future.isDone()) {
+            future = null;
+          }
+        }
+      }
+    }
+    if (future == null) {
+      logger.warn("Nobody is waiting for the result of job {} in session {}", jobId, sessionId);
+      return;
+    }
+    future.complete(result);
+  }
+
+  private String getInterpretJobKey(String sessionId, String jobId) {
+    return sessionId + "/" + jobId;
+  }
+
   /**
    *
    * @param <T>
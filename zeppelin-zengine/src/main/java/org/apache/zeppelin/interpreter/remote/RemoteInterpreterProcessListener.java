@@ -36,4 +36,11 @@ public interface RemoteInterpreterProcessListener {
 
   public void onParaInfosReceived(String noteId, String paragraphId,
                                   String interpreterSettingId, Map<String, String> metaInfos);
+
+  /**
+   * Rows of a paged table result are received, see {@link
+   * org.apache.zeppelin.interpreter.TableResultStore}
+   */
+  default void onTableRowsAppended(String noteId, String paragraphId, int index, long totalRows) {
+  }
 }
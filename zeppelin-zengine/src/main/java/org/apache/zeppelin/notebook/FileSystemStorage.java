@@ -2,6 +2,7 @@ package org.apache.zeppelin.notebook;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -161,25 +162,33 @@ public class FileSystemStorage {
   }
 
   public String readFile(final Path file) throws IOException {
-    return callHdfsOperation(new HdfsOperation<String>() {
+    return new String(readBytes(file),
+        zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING));
+  }
+
+  public byte[] readBytes(final Path file) throws IOException {
+    return callHdfsOperation(new HdfsOperation<byte[]>() {
       @Override
-      public String call() throws IOException {
+      public byte[] call() throws IOException {
         LOGGER.debug("Read from file: " + file);
         ByteArrayOutputStream noteBytes = new ByteArrayOutputStream();
         IOUtils.copyBytes(fs.open(file), noteBytes, hadoopConf);
-        return new String(noteBytes.toString(
-            zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)));
+        return noteBytes.toByteArray();
       }
     });
   }
 
   public void writeFile(final String content, final Path file, boolean writeTempFileFirst)
       throws IOException {
+    writeBytes(content.getBytes(zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)),
+        file);
+  }
+
+  public void writeBytes(final byte[] content, final Path file) throws IOException {
     callHdfsOperation(new HdfsOperation<Void>() {
       @Override
       public Void call() throws IOException {
-        InputStream in = new ByteArrayInputStream(content.getBytes(
-            zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)));
+        InputStream in = new ByteArrayInputStream(content);
         Path tmpFile = new Path(file.toString() + ".tmp");
         IOUtils.copyBytes(in, fs.create(tmpFile), hadoopConf);
         fs.delete(file, true);
@@ -189,9 +198,31 @@ public class FileSystemStorage {
     });
   }
 
+  /**
+   * Append to the end of an existing file. Not all the file systems support it, e.g. s3, it
+   * throws IOException or UnsupportedOperationException then.
+   */
+  public void appendBytes(final byte[] content, final Path file) throws IOException {
+    callHdfsOperation(new HdfsOperation<Void>() {
+      @Override
+      public Void call() throws IOException {
+        try (FSDataOutputStream out = fs.append(file)) {
+          out.write(content);
+          out.hflush();
+        }
+        return null;
+      }
+    });
+  }
+
   public void move(Path src, Path dest) throws IOException {
     callHdfsOperation(() -> {
-      fs.rename(src, dest);
+      if (dest.getParent() != null) {
+        fs.mkdirs(dest.getParent());
+      }
+      if (!fs.rename(src, dest)) {
+        throw new IOException("Fail to move " + src + " to " + dest);
+      }
       return null;
     });
   }
@@ -18,8 +18,11 @@
 package org.apache.zeppelin.notebook;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Utf8;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSerializer;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -34,6 +37,7 @@ import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.utility.IdHashes;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -41,14 +45,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represent the note of Zeppelin. All the note and its paragraph operations are done
@@ -56,12 +64,10 @@ import java.util.Map;
  */
 public class Note implements JsonSerializable {
   private static final Logger logger = LoggerFactory.getLogger(Note.class);
-  private static Gson gson = new GsonBuilder()
-      .setPrettyPrinting()
-      .setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
-      .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
-      .registerTypeAdapterFactory(Input.TypeAdapterFactory)
-      .create();
+  private static Gson gson = createGson(new SpilledResultMessage.InlineSerializer());
+  // used by toJson, which inlines the data of spilled results afterwards
+  private static Gson placeholderGson =
+      createGson(new SpilledResultMessage.PlaceholderSerializer());
 
   private List<Paragraph> paragraphs = new LinkedList<>();
 
@@ -92,6 +98,11 @@ public class Note implements JsonSerializable {
   private transient ParagraphJobListener paragraphJobListener;
   private transient List<NoteEventListener> noteEventListeners = new ArrayList<>();
   private transient Credentials credentials;
+  private transient ParagraphResultStore resultStore;
+  // guards spilling paragraph results and deleting the unused ones
+  private final transient Object resultsLock = new Object();
+  // size and hash of the last json serialization of this note
+  private transient volatile JsonDigest jsonDigest = JsonDigest.NONE;
 
 
   public Note() {
@@ -252,6 +263,56 @@ public class Note implements JsonSerializable {
     this.paragraphJobListener = paragraphJobListener;
   }
 
+  ParagraphResultStore getResultStore() {
+    return resultStore;
+  }
+
+  void setResultStore(ParagraphResultStore resultStore) {
+    this.resultStore = resultStore;
+  }
+
+  Object getResultsLock() {
+    return resultsLock;
+  }
+
+  /**
+   * Move the large messages of the paragraph results to the result store, e.g. after the note
+   * is loaded from NotebookRepo, and delete the stored results no paragraph refers to.
+   */
+  void spillResults() {
+    if (resultStore == null) {
+      return;
+    }
+    synchronized (resultsLock) {
+      for (Paragraph p : getParagraphs()) {
+        resultStore.spill(getId(), p.getReturn());
+        for (Paragraph userParagraph : p.getUserParagraphMap().values()) {
+          resultStore.spill(getId(), userParagraph.getReturn());
+        }
+      }
+      removeUnusedResults();
+    }
+  }
+
+  /**
+   * Delete the stored results which are not referred to by any paragraph of this note.
+   */
+  void removeUnusedResults() {
+    if (resultStore == null) {
+      return;
+    }
+    synchronized (resultsLock) {
+      Set<String> dataRefs = new HashSet<>();
+      for (Paragraph p : getParagraphs()) {
+        ParagraphResultStore.collectDataRefs(p.getReturn(), dataRefs);
+        for (Paragraph userParagraph : p.getUserParagraphMap().values()) {
+          ParagraphResultStore.collectDataRefs(userParagraph.getReturn(), dataRefs);
+        }
+      }
+      resultStore.retain(getId(), dataRefs);
+    }
+  }
+
   public Boolean isCronSupported(ZeppelinConfiguration config) {
     if (config.isZeppelinNotebookCronEnable()) {
       config.getZeppelinNotebookCronFolders();
@@ -318,6 +379,7 @@ public class Note implements JsonSerializable {
     logger.debug("newParagraph user: " + newParagraph.getUser());
 
     try {
+      // spilled results are serialized with their data
       String resultJson = gson.toJson(srcParagraph.getReturn());
       InterpreterResult result = InterpreterResult.fromJson(resultJson);
       newParagraph.setReturn(result, null);
@@ -395,6 +457,7 @@ public class Note implements JsonSerializable {
   public Paragraph removeParagraph(String user, String paragraphId) {
     removeAllAngularObjectInParagraph(user, paragraphId);
     interpreterSettingManager.removeResourcesBelongsToParagraph(getId(), paragraphId);
+    Paragraph removed = null;
     synchronized (paragraphs) {
       Iterator<Paragraph> i = paragraphs.iterator();
       while (i.hasNext()) {
@@ -406,11 +469,16 @@ public class Note implements JsonSerializable {
           } catch (IOException e) {
             e.printStackTrace();
           }
-          return p;
+          removed = p;
+          break;
         }
       }
     }
-    return null;
+    if (removed != null) {
+      // outside of the paragraphs lock, which is taken after resultsLock
+      removeUnusedResults();
+    }
+    return removed;
   }
 
   public void clearParagraphOutputFields(Paragraph p) {
@@ -447,12 +515,22 @@ public class Note implements JsonSerializable {
         }
 
         clearParagraphOutputFields(p);
+        removeTableResults(paragraphId);
         return p;
       }
     }
     return null;
   }
 
+  /**
+   * Remove the paged table results of the paragraph, which deletes the files they are spilled to.
+   */
+  void removeTableResults(String paragraphId) {
+    if (interpreterSettingManager != null) {
+      interpreterSettingManager.removeTableResults(getId(), paragraphId);
+    }
+  }
+
   /**
    * Clear all paragraph output of note
    */
@@ -462,6 +540,9 @@ public class Note implements JsonSerializable {
         p.setReturn(null, null);
       }
     }
+    if (interpreterSettingManager != null) {
+      interpreterSettingManager.removeTableResults(getId(), null);
+    }
   }
 
   /**
@@ -605,6 +686,19 @@ public class Note implements JsonSerializable {
   }
 
   public void runAll(AuthenticationInfo authenticationInfo, boolean blocking) {
+    runAll(authenticationInfo, blocking, Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Run all paragraphs, the paragraphs are scheduled with the given priority,
+   * e.g. {@link Job.Priority#BATCH} for cron jobs.
+   */
+  public void runAll(AuthenticationInfo authenticationInfo, boolean blocking,
+                     Job.Priority priority) {
+    if (isParallelRunAll()) {
+      runAllInParallel(authenticationInfo, blocking, priority);
+      return;
+    }
     setRunning(true);
     try {
       for (Paragraph p : getParagraphs()) {
@@ -612,7 +706,7 @@ public class Note implements JsonSerializable {
           continue;
         }
         p.setAuthenticationInfo(authenticationInfo);
-        if (!run(p.getId(), blocking)) {
+        if (!run(p.getId(), blocking, priority)) {
           logger.warn("Skip running the remain notes because paragraph {} fails", p.getId());
           break;
         }
@@ -622,6 +716,73 @@ public class Note implements JsonSerializable {
     }
   }
 
+  /**
+   * Run all paragraphs, the paragraphs which don't depend on each other run at the same time.
+   * A paragraph is skipped when any of the paragraphs it depends on fails.
+   * See {@link ParagraphDependencies}.
+   */
+  private void runAllInParallel(AuthenticationInfo authenticationInfo, boolean blocking,
+                                Job.Priority priority) {
+    setRunning(true);
+    CompletableFuture<Void> all;
+    try {
+      List<Paragraph> paragraphs = new ArrayList<>();
+      for (Paragraph p : getParagraphs()) {
+        if (p.isEnabled()) {
+          paragraphs.add(p);
+        }
+      }
+      Map<String, Set<String>> dependencies = ParagraphDependencies.of(paragraphs);
+
+      // completed with true if the paragraph finishes successfully
+      Map<String, CompletableFuture<Boolean>> runs = new HashMap<>();
+      for (Paragraph p : paragraphs) {
+        List<CompletableFuture<Boolean>> dependsOn = new ArrayList<>();
+        for (String id : dependencies.get(p.getId())) {
+          dependsOn.add(runs.get(id));
+        }
+        CompletableFuture<Boolean> run =
+            CompletableFuture.allOf(dependsOn.toArray(new CompletableFuture[0]))
+                .thenCompose(v -> {
+                  for (CompletableFuture<Boolean> d : dependsOn) {
+                    if (!d.join()) {
+                      logger.warn("Skip running paragraph {} because a paragraph it depends on " +
+                          "fails", p.getId());
+                      return CompletableFuture.completedFuture(false);
+                    }
+                  }
+                  p.setAuthenticationInfo(authenticationInfo);
+                  p.setListener(this.paragraphJobListener);
+                  p.setPriority(priority);
+                  return p.executeAsync().thenApply(status -> status == Status.FINISHED);
+                })
+                .exceptionally(e -> {
+                  logger.error("Fail to run paragraph " + p.getId(), e);
+                  return false;
+                });
+        runs.put(p.getId(), run);
+      }
+      all = CompletableFuture.allOf(runs.values().toArray(new CompletableFuture[0]));
+    } catch (RuntimeException e) {
+      setRunning(false);
+      throw e;
+    }
+
+    all.whenComplete((v, e) -> setRunning(false));
+    if (blocking) {
+      all.join();
+    }
+  }
+
+  public boolean isParallelRunAll() {
+    Object v = getConfig().get("parallelRunAll");
+    return null != v && "true".equals(v);
+  }
+
+  public void setParallelRunAll(Boolean value) {
+    getConfig().put("parallelRunAll", value ? "true" : "false");
+  }
+
   public boolean run(String paragraphId) {
     return run(paragraphId, false);
   }
@@ -632,8 +793,13 @@ public class Note implements JsonSerializable {
    * @param paragraphId ID of paragraph
    */
   public boolean run(String paragraphId, boolean blocking) {
+    return run(paragraphId, blocking, Job.Priority.INTERACTIVE);
+  }
+
+  private boolean run(String paragraphId, boolean blocking, Job.Priority priority) {
     Paragraph p = getParagraph(paragraphId);
     p.setListener(this.paragraphJobListener);
+    p.setPriority(priority);
     return p.execute(blocking);
   }
 
@@ -802,11 +968,53 @@ public class Note implements JsonSerializable {
 
   @Override
   public String toJson() {
-    return gson.toJson(this);
+    String json;
+    if (resultStore == null) {
+      json = gson.toJson(this);
+    } else {
+      json = SpilledResultMessage.inlineData(placeholderGson.toJson(this), getId(), resultStore,
+          gson);
+    }
+    jsonDigest = new JsonDigest(utf8Length(json), hash(json));
+    return json;
+  }
+
+  /**
+   * Size in bytes of the last json serialization of this note, e.g. the one written by
+   * NotebookRepo when it is saved. -1 if the note has not been serialized yet.
+   */
+  public long getJsonSize() {
+    return jsonDigest.getSize();
+  }
+
+  /**
+   * Size and hash of the last json serialization of this note, so that the callers of
+   * NotebookRepo.save don't need to serialize the note again.
+   */
+  public JsonDigest getJsonDigest() {
+    return jsonDigest;
+  }
+
+  /**
+   * Hash of the json of a note, as in {@link JsonDigest#getHash()}.
+   */
+  public static String hash(String json) {
+    return Hashing.murmur3_128().hashUnencodedChars(json).toString();
+  }
+
+  private static long utf8Length(String json) {
+    try {
+      return Utf8.encodedLength(json);
+    } catch (IllegalArgumentException e) {
+      // unpaired surrogate
+      return json.getBytes(StandardCharsets.UTF_8).length;
+    }
   }
 
   public static Note fromJson(String json) {
     Note note = gson.fromJson(json, Note.class);
+    // the json read from the repo may not be the one toJson would write, so no hash
+    note.jsonDigest = new JsonDigest(utf8Length(json), null);
     convertOldInput(note);
     note.info.remove("isRunning");
     note.postProcessParagraphs();
@@ -880,6 +1088,16 @@ public class Note implements JsonSerializable {
     return result;
   }
 
+  private static Gson createGson(JsonSerializer<SpilledResultMessage> spilledSerializer) {
+    return new GsonBuilder()
+        .setPrettyPrinting()
+        .setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
+        .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
+        .registerTypeAdapterFactory(Input.TypeAdapterFactory)
+        .registerTypeAdapter(SpilledResultMessage.class, spilledSerializer)
+        .create();
+  }
+
   @VisibleForTesting
   public static Gson getGson() {
     return gson;
@@ -888,4 +1106,33 @@ public class Note implements JsonSerializable {
   public void setNoteEventListeners(List<NoteEventListener> noteEventListeners) {
     this.noteEventListeners = noteEventListeners;
   }
+
+  /**
+   * Size and hash of a json serialization of a note.
+   */
+  public static class JsonDigest {
+    static final JsonDigest NONE = new JsonDigest(-1, null);
+
+    private final long size;
+    private final String hash;
+
+    JsonDigest(long size, String hash) {
+      this.size = size;
+      this.hash = hash;
+    }
+
+    /**
+     * Size in bytes of the json, -1 if the note has not been serialized yet.
+     */
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * Hash of the json written by {@link Note#toJson()}, null if it is not known.
+     */
+    public String getHash() {
+      return hash;
+    }
+  }
 }
@@ -90,6 +90,13 @@ public abstract class NoteEventAsyncListener implements NoteEventListener {
     eventsQueue.add(new ParagraphStatusChangeEvent(p));
   }
 
+  /**
+   * Run the task in the event handling thread, after the events received so far.
+   */
+  protected void submitTask(Runnable task) {
+    eventsQueue.add(new TaskEvent(task));
+  }
+
   class EventHandlingThread extends Thread {
 
     @Override
@@ -109,6 +116,8 @@ public abstract class NoteEventAsyncListener implements NoteEventListener {
             handleParagraphRemoveEvent((ParagraphRemoveEvent) event);
           } else if (event instanceof ParagraphUpdateEvent) {
             handleParagraphUpdateEvent((ParagraphUpdateEvent) event);
+          } else if (event instanceof TaskEvent) {
+            ((TaskEvent) event).task.run();
           } else {
             throw new RuntimeException("Unknown event: " + event.getClass().getSimpleName());
           }
@@ -135,6 +144,14 @@ public abstract class NoteEventAsyncListener implements NoteEventListener {
 
   }
 
+  private static class TaskEvent implements NoteEvent {
+    private final Runnable task;
+
+    TaskEvent(Runnable task) {
+      this.task = task;
+    }
+  }
+
   public static class NoteCreateEvent implements NoteEvent {
     private Note note;
     private AuthenticationInfo subject;
@@ -23,6 +23,10 @@ package org.apache.zeppelin.notebook;
 public class NoteInfo {
   String id;
   String path;
+  // version and size in bytes of the note file in the repo which listed it, e.g. its ETag,
+  // null and -1 if the repo doesn't tell them
+  private transient String version;
+  private transient long size = -1;
 
   public NoteInfo(String id, String path) {
     super();
@@ -51,6 +55,30 @@ public class NoteInfo {
     this.path = path;
   }
 
+  /**
+   * Version of the note file in the repo, it changes whenever the file is written.
+   *
+   * @return null if the repo doesn't tell it
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
+  /**
+   * @return size in bytes of the note file in the repo, -1 if the repo doesn't tell it
+   */
+  public long getSize() {
+    return size;
+  }
+
+  public void setSize(long size) {
+    this.size = size;
+  }
+
   public String getNoteName() {
     int pos = this.path.lastIndexOf("/");
     return path.substring(pos + 1);
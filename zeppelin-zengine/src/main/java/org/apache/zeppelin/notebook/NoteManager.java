@@ -26,25 +26,46 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
 
 /**
  * Manager class for note. It handle all the note related operations, such as get, create,
  * delete & move note.
  *
- * It load 2 kinds of metadata into memory:
- * 1. Mapping from noteId to note name
- * 2. The tree structure of notebook folder
+ * It load 3 kinds of metadata into memory:
+ * 1. Mapping from noteId to note path
+ * 2. Mapping from note path to noteId, sorted by note path
+ * 3. The tree structure of notebook folder
+ *
+ * Both mappings are concurrent maps, so notes can be listed without locking and without
+ * loading note content. The ids of the notes which are not restricted (readable by everyone)
+ * are kept as well, so the notes readable by a user can be listed from them and the read
+ * index of NotebookAuthorization.
  *
  * Note will be loaded lazily. Initially only noteId nad note name is loaded,
  * other note content is loaded until getNote is called.
  *
- * TODO(zjffdu) implement the lifecycle manager of Note
- * (release memory if note is not used for some period)
+ * Loaded notes are kept in a LRU cache bounded by the total serialized size of notes. When it
+ * is exceeded, the least recently used notes are released back to metadata only, except the
+ * running notes, the notes with pending saves and the pinned notes (e.g. notes opened in
+ * websocket). A released note which is still referenced is loaded again as the same instance.
+ *
+ * When saveDelay is positive, notes are saved to NotebookRepo asynchronously via NoteSaveQueue,
+ * otherwise they are saved synchronously.
  */
 public class NoteManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(NoteManager.class);
@@ -53,10 +74,35 @@ public class NoteManager {
   private Folder trash;
 
   private NotebookRepo notebookRepo;
-  private Map<String, String> notesInfo;
+  // noteId -> notePath
+  private Map<String, String> notesInfo = new ConcurrentHashMap<>();
+  // notePath -> noteId
+  private NavigableMap<String, String> notesByPath = new ConcurrentSkipListMap<>();
+
+  // noteId -> NoteNode of loaded notes in access order, guarded by itself
+  private final LinkedHashMap<String, NoteNode> loadedNotes = new LinkedHashMap<>(16, 0.75f, true);
+  // noteId -> serialized size of loaded note, only maintained when cache size is bounded
+  private final Map<String, Long> loadedNoteSizes = new HashMap<>();
+  private long loadedNotesSize = 0;
+  // max total size of loaded notes in bytes, <= 0 means unbounded
+  private final long maxCacheSize;
+  private final NoteCacheStats cacheStats = new NoteCacheStats();
+  private volatile Predicate<String> notePinned = noteId -> false;
+  private volatile Predicate<String> noteRestricted = noteId -> false;
+  // ids of the notes not accepted by noteRestricted
+  private final Set<String> unrestrictedNotes = ConcurrentHashMap.newKeySet();
+  // null when notes are saved synchronously
+  private final NoteSaveQueue saveQueue;
 
   public NoteManager(NotebookRepo notebookRepo) throws IOException {
+    this(notebookRepo, -1, 0);
+  }
+
+  public NoteManager(NotebookRepo notebookRepo, long maxCacheSize, long saveDelay)
+      throws IOException {
     this.notebookRepo = notebookRepo;
+    this.maxCacheSize = maxCacheSize;
+    this.saveQueue = saveDelay > 0 ? new NoteSaveQueue(notebookRepo, saveDelay) : null;
     this.root = new Folder("/", notebookRepo);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
     init();
@@ -64,41 +110,333 @@ public class NoteManager {
 
   // build the tree structure of notes
   private void init() throws IOException {
-    this.notesInfo = notebookRepo.list(AuthenticationInfo.ANONYMOUS).values().stream()
-        .collect(Collectors.toMap(noteInfo -> noteInfo.getId(), notesInfo -> notesInfo.getPath()));
-    this.notesInfo.entrySet().stream()
-        .forEach(entry ->
-        {
-          try {
-            addOrUpdateNoteNode(new Note(new NoteInfo(entry.getKey(), entry.getValue())));
-          } catch (IOException e) {
-            LOGGER.warn(e.getMessage());
-          }
-        });
+    this.notesInfo.clear();
+    this.notesByPath.clear();
+    this.unrestrictedNotes.clear();
+    synchronized (loadedNotes) {
+      loadedNotes.clear();
+      loadedNoteSizes.clear();
+      loadedNotesSize = 0;
+    }
+    for (NoteInfo noteInfo : notebookRepo.list(AuthenticationInfo.ANONYMOUS).values()) {
+      try {
+        addOrUpdateNoteNode(new Note(noteInfo));
+      } catch (IOException e) {
+        LOGGER.warn(e.getMessage());
+      }
+    }
   }
 
   public Map<String, String> getNotesInfo() {
     return notesInfo;
   }
 
-  //TODO(zjffdu) This is inefficient
-  public List<Note> getAllNotes() {
+  /**
+   * Get metadata of the notes accepted by noteIdFilter, sorted by note path.
+   * Note content is not loaded.
+   *
+   * @param noteIdFilter
+   * @return
+   */
+  public List<NoteInfo> getNotesInfo(Predicate<String> noteIdFilter) {
+    List<NoteInfo> result = new ArrayList<>();
+    for (Map.Entry<String, String> entry : notesByPath.entrySet()) {
+      if (noteIdFilter.test(entry.getValue())) {
+        result.add(new NoteInfo(entry.getValue(), entry.getKey()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get metadata of the given notes, sorted by note path. The ids which are not in the
+   * notebook are skipped.
+   *
+   * @param noteIds
+   * @return
+   */
+  public List<NoteInfo> getNotesInfo(Collection<String> noteIds) {
+    List<NoteInfo> result = new ArrayList<>(noteIds.size());
+    for (String noteId : noteIds) {
+      String notePath = noteId == null ? null : notesInfo.get(noteId);
+      if (notePath != null) {
+        result.add(new NoteInfo(noteId, notePath));
+      }
+    }
+    result.sort(Comparator.comparing(NoteInfo::getPath));
+    return result;
+  }
+
+  /**
+   * Ids of the notes which are not restricted, see {@link #setNoteRestricted(Predicate)}.
+   */
+  public Set<String> getUnrestrictedNotes() {
+    return Collections.unmodifiableSet(unrestrictedNotes);
+  }
+
+  /**
+   * Notes accepted by this predicate are restricted, the others are kept in
+   * {@link #getUnrestrictedNotes()}. {@link #updateNoteRestriction(String)} must be called
+   * whenever the result of the predicate changes for a note.
+   *
+   * @param noteRestricted
+   */
+  public void setNoteRestricted(Predicate<String> noteRestricted) {
+    this.noteRestricted = noteRestricted;
+    for (String noteId : notesInfo.keySet()) {
+      updateNoteRestriction(noteId);
+    }
+  }
+
+  public void updateNoteRestriction(String noteId) {
+    if (noteId == null) {
+      return;
+    }
+    if (notesInfo.containsKey(noteId) && !noteRestricted.test(noteId)) {
+      unrestrictedNotes.add(noteId);
+    } else {
+      unrestrictedNotes.remove(noteId);
+    }
+  }
+
+  /**
+   * Load the notes accepted by noteIdFilter, sorted by note path.
+   *
+   * @param noteIdFilter
+   * @return
+   */
+  public List<Note> getNotes(Predicate<String> noteIdFilter) {
+    return loadNotes(getNotesInfo(noteIdFilter));
+  }
+
+  /**
+   * Load the given notes, sorted by note path.
+   *
+   * @param noteIds
+   * @return
+   */
+  public List<Note> getNotes(Collection<String> noteIds) {
+    return loadNotes(getNotesInfo(noteIds));
+  }
+
+  private List<Note> loadNotes(List<NoteInfo> noteInfos) {
     List<Note> notes = new ArrayList<>();
-    for (String notePath : notesInfo.values()) {
+    Map<String, Note> fetchedNotes = fetchUnloadedNotes(noteInfos);
+    for (NoteInfo noteInfo : noteInfos) {
       try {
-        notes.add(getNoteNode(notePath).getNote());
+        notes.add(loadNote(getNoteNode(noteInfo.getPath()), fetchedNotes.get(noteInfo.getId())));
       } catch (IOException e) {
-        LOGGER.warn("Fail to load note: " + notePath, e);
+        LOGGER.warn("Fail to load note: " + noteInfo.getPath(), e);
       }
     }
     return notes;
   }
 
+  public List<Note> getAllNotes() {
+    return getNotes(noteId -> true);
+  }
+
+  /**
+   * Notes accepted by this predicate are never released from memory.
+   *
+   * @param notePinned
+   */
+  public void setNotePinned(Predicate<String> notePinned) {
+    this.notePinned = notePinned;
+  }
+
+  public NoteCacheStats getCacheStats() {
+    return cacheStats;
+  }
+
+  /**
+   * Number of notes whose content is loaded in memory.
+   */
+  public int getLoadedNotesCount() {
+    synchronized (loadedNotes) {
+      return loadedNotes.size();
+    }
+  }
+
+  /**
+   * Total serialized size of loaded notes, it is only tracked when the cache is bounded.
+   */
+  public long getLoadedNotesSize() {
+    synchronized (loadedNotes) {
+      return loadedNotesSize;
+    }
+  }
+
+  /**
+   * Fetch the notes which are not in memory in one batch, so that NotebookRepo can fetch them
+   * concurrently.
+   *
+   * @return noteId -> note
+   */
+  private Map<String, Note> fetchUnloadedNotes(List<NoteInfo> noteInfos) {
+    List<NoteInfo> unloadedNotes = new ArrayList<>();
+    for (NoteInfo noteInfo : noteInfos) {
+      try {
+        if (!getNoteNode(noteInfo.getPath()).isLoaded()) {
+          unloadedNotes.add(noteInfo);
+        }
+      } catch (IOException e) {
+        // not found, it is reported when the note is loaded
+      }
+    }
+    if (unloadedNotes.size() < 2) {
+      return Collections.emptyMap();
+    }
+    try {
+      return notebookRepo.get(unloadedNotes, AuthenticationInfo.ANONYMOUS);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to fetch " + unloadedNotes.size() + " notes, load them one by one", e);
+      return Collections.emptyMap();
+    }
+  }
+
+  private Note loadNote(NoteNode noteNode) throws IOException {
+    return loadNote(noteNode, null);
+  }
+
+  /**
+   * @param fetchedNote content of the note which is already fetched from NotebookRepo, or null
+   */
+  private Note loadNote(NoteNode noteNode, Note fetchedNote) throws IOException {
+    boolean loaded = noteNode.isLoaded();
+    Note note = fetchedNote == null ? noteNode.getNote() : noteNode.getNote(fetchedNote);
+    if (loaded) {
+      cacheStats.onHit();
+    } else {
+      cacheStats.onMiss();
+    }
+    cacheNote(noteNode);
+    return note;
+  }
+
+  /**
+   * Mark the note as most recently used, and release the least recently used notes if the cache
+   * size is exceeded.
+   *
+   * @param noteNode
+   */
+  private void cacheNote(NoteNode noteNode) {
+    String noteId = noteNode.getNoteId();
+    synchronized (loadedNotes) {
+      loadedNotes.put(noteId, noteNode);
+      if (maxCacheSize <= 0) {
+        return;
+      }
+      long noteSize = getNoteSize(noteNode.getRawNote());
+      Long oldSize = loadedNoteSizes.put(noteId, noteSize);
+      loadedNotesSize += noteSize - (oldSize == null ? 0 : oldSize);
+      Iterator<Map.Entry<String, NoteNode>> iter = loadedNotes.entrySet().iterator();
+      while (loadedNotesSize > maxCacheSize && iter.hasNext()) {
+        Map.Entry<String, NoteNode> entry = iter.next();
+        NoteNode node = entry.getValue();
+        if (entry.getKey().equals(noteId) || isPinned(node)) {
+          continue;
+        }
+        iter.remove();
+        Long size = loadedNoteSizes.remove(entry.getKey());
+        loadedNotesSize -= size == null ? 0 : size;
+        node.unload();
+        cacheStats.onEviction();
+        LOGGER.debug("Release note {} from memory", node);
+      }
+    }
+  }
+
+  /**
+   * Size of the note taken from its last serialization, e.g. when it was read from or written to
+   * NotebookRepo, so that the note is not serialized again just to measure it. Estimated from
+   * the paragraph texts if the note has not been serialized yet.
+   */
+  private static long getNoteSize(Note note) {
+    long size = note.getJsonSize();
+    if (size >= 0) {
+      return size;
+    }
+    size = note.getName() == null ? 0 : note.getName().length();
+    for (Paragraph p : note.getParagraphs()) {
+      size += 512 + (p.getText() == null ? 0 : p.getText().length());
+    }
+    return size;
+  }
+
+  private void uncacheNote(String noteId) {
+    synchronized (loadedNotes) {
+      loadedNotes.remove(noteId);
+      Long size = loadedNoteSizes.remove(noteId);
+      loadedNotesSize -= size == null ? 0 : size;
+    }
+  }
+
+  private boolean isPinned(NoteNode noteNode) {
+    Note note = noteNode.getRawNote();
+    return note.isRunning() || note.haveRunningOrPendingParagraphs()
+        || notePinned.test(note.getId())
+        || (saveQueue != null && saveQueue.isPending(note.getId()));
+  }
+
+  /**
+   * Null if notes are saved synchronously.
+   */
+  public NoteSaveQueue getSaveQueue() {
+    return saveQueue;
+  }
+
+  /**
+   * Write the pending save of this note to NotebookRepo, e.g. before checkpointing it.
+   */
+  public void flushNote(String noteId) throws IOException {
+    if (saveQueue != null) {
+      saveQueue.flush(noteId);
+    }
+  }
+
+  public void flushAllNotes() throws IOException {
+    if (saveQueue != null) {
+      saveQueue.flushAll();
+    }
+  }
+
+  /**
+   * Write all the pending saves to NotebookRepo.
+   */
+  public void close() throws IOException {
+    if (saveQueue != null) {
+      saveQueue.close();
+    }
+  }
+
+  private void putNoteInfo(String noteId, String notePath) {
+    String oldNotePath = this.notesInfo.put(noteId, notePath);
+    if (oldNotePath != null && !oldNotePath.equals(notePath)) {
+      this.notesByPath.remove(oldNotePath, noteId);
+    }
+    this.notesByPath.put(notePath, noteId);
+    updateNoteRestriction(noteId);
+  }
+
+  private String removeNoteInfo(String noteId) {
+    if (noteId == null) {
+      return null;
+    }
+    String notePath = this.notesInfo.remove(noteId);
+    if (notePath != null) {
+      this.notesByPath.remove(notePath, noteId);
+    }
+    this.unrestrictedNotes.remove(noteId);
+    return notePath;
+  }
+
   /**
    *
    * @throws IOException
    */
   public void reloadNotes() throws IOException {
+    flushAllNotes();
     this.root = new Folder("/", notebookRepo);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
     init();
@@ -117,7 +455,7 @@ public class NoteManager {
       throw new IOException("Note " + note.getPath() + " existed");
     }
     curFolder.addNote(tokens[tokens.length -1], note);
-    this.notesInfo.put(note.getId(), note.getPath());
+    putNoteInfo(note.getId(), note.getPath());
   }
 
   private void addOrUpdateNoteNode(Note note) throws IOException {
@@ -163,8 +501,13 @@ public class NoteManager {
    */
   public void saveNote(Note note, AuthenticationInfo subject) throws IOException {
     addOrUpdateNoteNode(note);
-    this.notebookRepo.save(note, subject);
+    if (saveQueue != null) {
+      saveQueue.save(note, subject);
+    } else {
+      this.notebookRepo.save(note, subject);
+    }
     note.setLoaded(true);
+    cacheNote(getNoteNode(note.getPath()));
   }
 
   /**
@@ -185,52 +528,71 @@ public class NoteManager {
    * @throws IOException
    */
   public void removeNote(String noteId, AuthenticationInfo subject) throws IOException {
-    String notePath = this.notesInfo.remove(noteId);
+    String notePath = removeNoteInfo(noteId);
     Folder folder = getOrCreateFolder(getFolderName(notePath));
     folder.removeNote(getNoteName(notePath));
+    uncacheNote(noteId);
+    if (saveQueue != null) {
+      saveQueue.cancel(noteId);
+    }
     this.notebookRepo.remove(noteId, notePath, subject);
   }
 
   public void moveNote(String noteId,
                        String newNotePath,
                        AuthenticationInfo subject) throws IOException {
-    String notePath = this.notesInfo.get(noteId);
-    if (noteId == null) {
+    String notePath = noteId == null ? null : this.notesInfo.get(noteId);
+    if (notePath == null) {
       throw new IOException("No metadata found for this note: " + noteId);
     }
-
-    // move the old NoteNode from notePath to newNotePath
     NoteNode noteNode = getNoteNode(notePath);
-    noteNode.getParent().removeNote(getNoteName(notePath));
-    noteNode.setNotePath(newNotePath);
-    String newParent = getFolderName(newNotePath);
-    Folder newFolder = getOrCreateFolder(newParent);
-    newFolder.addNoteNode(noteNode);
-
-    // update noteInfo mapping
-    this.notesInfo.put(noteId, newNotePath);
-
-    // update notebookrepo
-    this.notebookRepo.move(noteId, notePath, newNotePath, subject);
+    runExclusive(() -> {
+      // write the pending save at the old path first, then move it in notebookrepo
+      flushNote(noteId);
+      this.notebookRepo.move(noteId, notePath, newNotePath, subject);
+
+      // move the old NoteNode from notePath to newNotePath
+      noteNode.getParent().removeNote(getNoteName(notePath));
+      noteNode.setNotePath(newNotePath);
+      String newParent = getFolderName(newNotePath);
+      Folder newFolder = getOrCreateFolder(newParent);
+      newFolder.addNoteNode(noteNode);
+
+      // update noteInfo mapping
+      putNoteInfo(noteId, newNotePath);
+    });
   }
 
 
   public void moveFolder(String folderPath,
                          String newFolderPath,
                          AuthenticationInfo subject) throws IOException {
+    runExclusive(() -> {
+      // update notebookrepo
+      flushAllNotes();
+      this.notebookRepo.move(folderPath, newFolderPath, subject);
+
+      // update filesystem tree
+      Folder folder = getFolder(folderPath);
+      folder.getParent().removeFolder(folder.getName(), subject);
+      Folder newFolder = getOrCreateFolder(newFolderPath);
+      newFolder.getParent().addFolder(newFolder.getName(), folder);
+
+      // update notesInfo
+      for (Note note : folder.getRawNotesRecursively()) {
+        putNoteInfo(note.getId(), note.getPath());
+      }
+    });
+  }
 
-    // update notebookrepo
-    this.notebookRepo.move(folderPath, newFolderPath, subject);
-
-    // update filesystem tree
-    Folder folder = getFolder(folderPath);
-    folder.getParent().removeFolder(folder.getName(), subject);
-    Folder newFolder = getOrCreateFolder(newFolderPath);
-    newFolder.getParent().addFolder(newFolder.getName(), folder);
-
-    // update notesInfo
-    for (Note note : folder.getRawNotesRecursively()) {
-      notesInfo.put(note.getId(), note.getPath());
+  /**
+   * Run the action so that no pending save is written in the middle of it.
+   */
+  private void runExclusive(NoteSaveQueue.IOAction action) throws IOException {
+    if (saveQueue != null) {
+      saveQueue.runExclusive(action);
+    } else {
+      action.run();
     }
   }
 
@@ -245,6 +607,11 @@ public class NoteManager {
   public List<Note> removeFolder(String folderPath, AuthenticationInfo subject) throws IOException {
 
     // update notebookrepo
+    if (saveQueue != null) {
+      for (Note note : getFolder(folderPath).getRawNotesRecursively()) {
+        saveQueue.cancel(note.getId());
+      }
+    }
     this.notebookRepo.remove(folderPath, subject);
 
     // update filesystem tree
@@ -253,19 +620,42 @@ public class NoteManager {
 
     // update notesInfo
     for (Note note : notes) {
-      this.notesInfo.remove(note.getId());
+      removeNoteInfo(note.getId());
+      uncacheNote(note.getId());
     }
 
     return notes;
   }
 
   public Note getNote(String noteId) throws IOException {
+    if (noteId == null) {
+      return null;
+    }
     String notePath = this.notesInfo.get(noteId);
     if (notePath == null) {
       return null;
     }
     NoteNode noteNode = getNoteNode(notePath);
-    return noteNode.getNote();
+    return loadNote(noteNode);
+  }
+
+  /**
+   * Get the note without caching it: the loaded note if it is in memory, otherwise the note is
+   * read from NotebookRepo and not kept. It is used by background tasks which go through all the
+   * notes, e.g. syncing the search index.
+   */
+  public Note readNote(String noteId) throws IOException {
+    String notePath = noteId == null ? null : this.notesInfo.get(noteId);
+    if (notePath == null) {
+      return null;
+    }
+    NoteNode noteNode = getNoteNode(notePath);
+    synchronized (noteNode) {
+      if (noteNode.isLoaded()) {
+        return noteNode.getRawNote();
+      }
+    }
+    return notebookRepo.get(noteId, notePath, AuthenticationInfo.ANONYMOUS);
   }
 
   /**
@@ -340,9 +730,9 @@ public class NoteManager {
     private NotebookRepo notebookRepo;
 
     // noteName -> NoteNode
-    private Map<String, NoteNode> notes = new HashMap<>();
+    private Map<String, NoteNode> notes = new ConcurrentHashMap<>();
     // folderName -> Folder
-    private Map<String, Folder> subFolders = new HashMap<>();
+    private Map<String, Folder> subFolders = new ConcurrentHashMap<>();
 
     public Folder(String name, NotebookRepo notebookRepo) {
       this.name = name;
@@ -354,14 +744,12 @@ public class NoteManager {
       this.parent = parent;
     }
 
-    public synchronized Folder getOrCreateFolder(String folderName) {
+    public Folder getOrCreateFolder(String folderName) {
       if (StringUtils.isBlank(folderName)) {
         return this;
       }
-      if (!subFolders.containsKey(folderName)) {
-        subFolders.put(folderName, new Folder(folderName, this, notebookRepo));
-      }
-      return subFolders.get(folderName);
+      return subFolders.computeIfAbsent(folderName,
+          name -> new Folder(name, this, notebookRepo));
     }
 
     public Folder getParent() {
@@ -488,6 +876,9 @@ public class NoteManager {
     private Folder parent;
     private Note note;
     private NotebookRepo notebookRepo;
+    // the released note content, it is loaded again from here while callers still hold it, so
+    // that their changes are not lost
+    private WeakReference<Note> releasedNote;
 
     public NoteNode(Note note, Folder parent, NotebookRepo notebookRepo) {
       this.note = note;
@@ -503,17 +894,63 @@ public class NoteManager {
      */
     public synchronized Note getNote() throws IOException {
       if (!note.isLoaded()) {
-        note = notebookRepo.get(note.getId(), note.getPath(), AuthenticationInfo.ANONYMOUS);
-        if (parent.toString().equals("/")) {
-          note.setPath("/" + note.getName());
-        } else {
-          note.setPath(parent.toString() + "/" + note.getName());
-        }
-        note.setLoaded(true);
+        Note released = takeReleasedNote();
+        setLoadedNote(released != null ? released :
+            notebookRepo.get(note.getId(), note.getPath(), AuthenticationInfo.ANONYMOUS));
       }
       return note;
     }
 
+    /**
+     * Same as {@link #getNote()}, but the given content is used instead of loading the note
+     * from NotebookRepo.
+     *
+     * @param fetchedNote content of this note fetched from NotebookRepo
+     * @return
+     */
+    public synchronized Note getNote(Note fetchedNote) {
+      if (!note.isLoaded()) {
+        Note released = takeReleasedNote();
+        setLoadedNote(released != null ? released : fetchedNote);
+      }
+      return note;
+    }
+
+    private Note takeReleasedNote() {
+      Note released = releasedNote == null ? null : releasedNote.get();
+      releasedNote = null;
+      if (released != null) {
+        // the note may be moved after it was released
+        released.setPath(getNotePath());
+      }
+      return released;
+    }
+
+    private void setLoadedNote(Note loadedNote) {
+      note = loadedNote;
+      if (parent.toString().equals("/")) {
+        note.setPath("/" + note.getName());
+      } else {
+        note.setPath(parent.toString() + "/" + note.getName());
+      }
+      note.setLoaded(true);
+    }
+
+    public synchronized boolean isLoaded() {
+      return note.isLoaded();
+    }
+
+    /**
+     * Release the note content, only the metadata (noteId and note path) is kept. The content
+     * is only freed once nobody references it anymore.
+     */
+    public synchronized void unload() {
+      if (note.isLoaded()) {
+        releasedNote = new WeakReference<>(note);
+        note = new Note(new NoteInfo(note.getId(), getNotePath()));
+      }
+    }
+
     public String getNoteId() {
       return this.note.getId();
     }
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind stage between NoteManager and NotebookRepo.
+ *
+ * Saves of the same note within saveDelay are coalesced, only the latest version of the note is
+ * written to NotebookRepo when the delay expires. Pending saves of a note are written before it
+ * is moved or checkpointed, discarded when it is removed, and all of them are written on close.
+ */
+public class NoteSaveQueue {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteSaveQueue.class);
+
+  private final NotebookRepo notebookRepo;
+  private final long saveDelay;
+  private final ScheduledThreadPoolExecutor executor;
+
+  // noteId -> pending save, in the order of first request
+  private final Map<String, PendingSave> pendingSaves = new LinkedHashMap<>();
+  // held while writing to NotebookRepo, so that flush and cancel wait for in-flight save
+  private final Object saveLock = new Object();
+
+  private final AtomicLong requestedSaves = new AtomicLong();
+  private final AtomicLong writtenSaves = new AtomicLong();
+  private final AtomicLong writtenBytes = new AtomicLong();
+  private final AtomicLong totalSaveLagMs = new AtomicLong();
+  private final AtomicLong maxSaveLagMs = new AtomicLong();
+
+  public NoteSaveQueue(NotebookRepo notebookRepo, long saveDelay) {
+    this.notebookRepo = notebookRepo;
+    this.saveDelay = saveDelay;
+    this.executor = new ScheduledThreadPoolExecutor(1,
+        new ThreadFactoryBuilder()
+            .setNameFormat("NoteSaveQueue-%d")
+            .setDaemon(true)
+            .build());
+    // pending saves are written by close() right away instead of waiting for their delay
+    this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+  }
+
+  /**
+   * Request to save the note, it is written to NotebookRepo later.
+   */
+  public void save(Note note, AuthenticationInfo subject) throws IOException {
+    requestedSaves.incrementAndGet();
+    synchronized (pendingSaves) {
+      PendingSave pendingSave = pendingSaves.get(note.getId());
+      if (pendingSave != null) {
+        // coalesce with the pending save, keep the lag since the first request
+        pendingSave.note = note;
+        pendingSave.subject = subject;
+        return;
+      }
+      pendingSaves.put(note.getId(),
+          new PendingSave(note, subject, System.currentTimeMillis()));
+    }
+    try {
+      executor.schedule(() -> flushQuietly(note.getId()), saveDelay, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // closed, e.g. saved by a job finishing during shutdown
+      flush(note.getId());
+    }
+  }
+
+  public boolean isPending(String noteId) {
+    synchronized (pendingSaves) {
+      return pendingSaves.containsKey(noteId);
+    }
+  }
+
+  public int getPendingCount() {
+    synchronized (pendingSaves) {
+      return pendingSaves.size();
+    }
+  }
+
+  /**
+   * Write the pending save of this note to NotebookRepo if there's any.
+   */
+  public void flush(String noteId) throws IOException {
+    synchronized (saveLock) {
+      PendingSave pendingSave;
+      synchronized (pendingSaves) {
+        pendingSave = pendingSaves.remove(noteId);
+      }
+      if (pendingSave != null) {
+        writeNote(pendingSave);
+      }
+    }
+  }
+
+  /**
+   * Write all the pending saves to NotebookRepo.
+   */
+  public void flushAll() throws IOException {
+    List<String> noteIds;
+    synchronized (pendingSaves) {
+      noteIds = new ArrayList<>(pendingSaves.keySet());
+    }
+    IOException exception = null;
+    for (String noteId : noteIds) {
+      try {
+        flush(noteId);
+      } catch (IOException e) {
+        LOGGER.error("Fail to save note: " + noteId, e);
+        exception = e;
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Run the action while no save is written, e.g. moving notes in NotebookRepo together with
+   * their paths, so that a save can not be written in the middle of it. Saves which become due
+   * meanwhile are written after it.
+   */
+  public void runExclusive(IOAction action) throws IOException {
+    synchronized (saveLock) {
+      action.run();
+    }
+  }
+
+  /**
+   * Discard the pending save of this note, it is called before the note is removed.
+   * When this method returns, no save of this note is in progress.
+   */
+  public void cancel(String noteId) {
+    synchronized (saveLock) {
+      synchronized (pendingSaves) {
+        pendingSaves.remove(noteId);
+      }
+    }
+  }
+
+  /**
+   * Stop the background thread and write all the pending saves.
+   */
+  public void close() throws IOException {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flushAll();
+  }
+
+  private void flushQuietly(String noteId) {
+    PendingSave pendingSave = null;
+    try {
+      synchronized (saveLock) {
+        synchronized (pendingSaves) {
+          pendingSave = pendingSaves.remove(noteId);
+        }
+        if (pendingSave != null) {
+          writeNote(pendingSave);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Fail to save note: " + noteId + ", will retry", e);
+      if (pendingSave != null) {
+        retry(pendingSave);
+      }
+    }
+  }
+
+  private void retry(PendingSave failedSave) {
+    synchronized (pendingSaves) {
+      // a newer save of this note is already pending and scheduled
+      if (pendingSaves.containsKey(failedSave.note.getId())) {
+        return;
+      }
+      pendingSaves.put(failedSave.note.getId(), failedSave);
+    }
+    try {
+      executor.schedule(() -> flushQuietly(failedSave.note.getId()),
+          saveDelay, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // closed, it will be written by close()
+    }
+  }
+
+  private void writeNote(PendingSave pendingSave) throws IOException {
+    notebookRepo.save(pendingSave.note, pendingSave.subject);
+    long lag = System.currentTimeMillis() - pendingSave.requestTime;
+    writtenSaves.incrementAndGet();
+    // recorded by the serialization done in NotebookRepo.save
+    writtenBytes.addAndGet(Math.max(0, pendingSave.note.getJsonSize()));
+    totalSaveLagMs.addAndGet(lag);
+    long max = maxSaveLagMs.get();
+    while (lag > max && !maxSaveLagMs.compareAndSet(max, lag)) {
+      max = maxSaveLagMs.get();
+    }
+  }
+
+  public long getRequestedSaves() {
+    return requestedSaves.get();
+  }
+
+  public long getWrittenSaves() {
+    return writtenSaves.get();
+  }
+
+  /**
+   * Number of bytes written, i.e. the size of the notes serialized by NotebookRepo.
+   */
+  public long getWrittenBytes() {
+    return writtenBytes.get();
+  }
+
+  public double getAverageSaveLagMs() {
+    long written = writtenSaves.get();
+    if (written == 0) {
+      return 0;
+    }
+    return (double) totalSaveLagMs.get() / written;
+  }
+
+  public long getMaxSaveLagMs() {
+    return maxSaveLagMs.get();
+  }
+
+  /**
+   * Action run by {@link #runExclusive(IOAction)}.
+   */
+  public interface IOAction {
+    void run() throws IOException;
+  }
+
+  private static class PendingSave {
+    Note note;
+    AuthenticationInfo subject;
+    final long requestTime;
+
+    PendingSave(Note note, AuthenticationInfo subject, long requestTime) {
+      this.note = note;
+      this.subject = subject;
+      this.requestTime = requestTime;
+    }
+  }
+}
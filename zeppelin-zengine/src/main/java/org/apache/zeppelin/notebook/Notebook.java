@@ -18,10 +18,9 @@
 package org.apache.zeppelin.notebook;
 
 import com.google.common.collect.Sets;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.apache.commons.lang.StringUtils;
@@ -48,6 +48,7 @@ import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -86,6 +87,7 @@ public class Notebook {
   private NotebookAuthorization notebookAuthorization;
   private List<NoteEventListener> noteEventListeners = new ArrayList<>();
   private Credentials credentials;
+  private ParagraphResultStore resultStore;
 
   /**
    * Main constructor \w manual Dependency Injection
@@ -102,7 +104,8 @@ public class Notebook {
       NotebookAuthorization notebookAuthorization,
       Credentials credentials)
       throws IOException, SchedulerException {
-    this.noteManager = new NoteManager(notebookRepo);
+    this.noteManager = new NoteManager(notebookRepo, conf.getNotebookCacheMaxSize(),
+        conf.getNotebookSaveDelay());
     this.conf = conf;
     this.notebookRepo = notebookRepo;
     this.replFactory = replFactory;
@@ -110,14 +113,27 @@ public class Notebook {
     this.noteSearchService = noteSearchService;
     this.notebookAuthorization = notebookAuthorization;
     this.credentials = credentials;
+    this.resultStore = new ParagraphResultStore(new File(conf.getNotebookResultDir()),
+        conf.getNotebookResultSpillThreshold());
+    // no note refers to the results spilled before
+    this.resultStore.clear();
     quertzSchedFact = new org.quartz.impl.StdSchedulerFactory();
     quartzSched = quertzSchedFact.getScheduler();
     quartzSched.start();
     CronJob.notebook = this;
 
+    if (this.notebookAuthorization != null) {
+      this.notebookAuthorization.setRestrictionListener(noteManager::updateNoteRestriction);
+      this.noteManager.setNoteRestricted(this.notebookAuthorization::isRestricted);
+    }
     this.noteEventListeners.add(this.noteSearchService);
     this.noteEventListeners.add(this.notebookAuthorization);
     this.noteEventListeners.add(this.interpreterSettingManager);
+    if (this.noteSearchService != null) {
+      // index the notes changed since last run, in background and without caching them
+      this.noteSearchService.syncIndex(this::getNotesInfo,
+          noteInfo -> noteManager.readNote(noteInfo.getId()));
+    }
   }
 
   @Inject
@@ -183,6 +199,7 @@ public class Notebook {
     Note note =
         new Note(notePath, defaultInterpreterGroup, replFactory, interpreterSettingManager,
             paragraphJobListener, credentials, noteEventListeners);
+    note.setResultStore(resultStore);
     saveNote(note, subject);
     fireNoteCreateEvent(note, subject);
     return note;
@@ -200,6 +217,7 @@ public class Notebook {
     if (note == null) {
       throw new IOException(noteId + " not found");
     }
+    // spilled results are serialized with their data
     return note.toJson();
   }
 
@@ -251,6 +269,7 @@ public class Notebook {
     LOGGER.info("Remove note " + noteId);
     Note note = getNote(noteId);
     noteManager.removeNote(noteId, subject);
+    resultStore.removeNote(noteId);
     fireNoteRemoveEvent(note, subject);
   }
 
@@ -268,6 +287,11 @@ public class Notebook {
       for (Paragraph p : note.getParagraphs()) {
         p.setNote(note);
       }
+      if (note.getResultStore() == null) {
+        // loaded from NotebookRepo, with all results inline
+        note.setResultStore(resultStore);
+        note.spillResults();
+      }
       return note;
     } catch (IOException e) {
       LOGGER.warn("Fail to get note: " + id, e);
@@ -327,6 +351,7 @@ public class Notebook {
   public Revision checkpointNote(String noteId, String noteName, String checkpointMessage,
       AuthenticationInfo subject) throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      noteManager.flushNote(noteId);
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .checkpoint(noteId, noteName, checkpointMessage, subject);
     } else {
@@ -348,6 +373,7 @@ public class Notebook {
   public Note setNoteRevision(String noteId, String noteName, String revisionId, AuthenticationInfo subject)
       throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      noteManager.flushNote(noteId);
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .setNoteRevision(noteId, noteName, revisionId, subject);
     } else {
@@ -484,6 +510,17 @@ public class Notebook {
     }
   }
 
+  /**
+   * Notes accepted by this predicate are always kept in memory.
+   */
+  public void setNotePinned(Predicate<String> notePinned) {
+    noteManager.setNotePinned(notePinned);
+  }
+
+  public NoteManager getNoteManager() {
+    return noteManager;
+  }
+
   public List<NoteInfo> getNotesInfo() {
     return noteManager.getNotesInfo().entrySet().stream()
         .map(entry -> new NoteInfo(entry.getKey(), entry.getValue()))
@@ -491,9 +528,7 @@ public class Notebook {
   }
 
   public List<Note> getAllNotes() {
-    List<Note> noteList = noteManager.getAllNotes();
-    Collections.sort(noteList, Comparator.comparing(Note::getPath));
-    return noteList;
+    return noteManager.getAllNotes();
   }
 
   public List<Note> getAllNotes(Set<String> userAndRoles) {
@@ -501,9 +536,11 @@ public class Notebook {
     if (userAndRoles != null) {
       entities.addAll(userAndRoles);
     }
-    return getAllNotes().stream()
-        .filter(note -> notebookAuthorization.isReader(note.getId(), entities))
-        .collect(Collectors.toList());
+    if (notebookAuthorization.isAdmin(entities)) {
+      return noteManager.getAllNotes();
+    }
+    // only load the notes this user can read
+    return noteManager.getNotes(getReadableNoteIds(entities));
   }
 
   public List<NoteInfo> getNotesInfo(Set<String> userAndRoles) {
@@ -515,27 +552,26 @@ public class Notebook {
     boolean hideHomeScreenNotebookFromList =
         conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_HOMESCREEN_HIDE);
 
-    synchronized (noteManager.getNotesInfo()) {
-      List<NoteInfo> notesInfo = noteManager.getNotesInfo().entrySet().stream().filter(entry ->
-          notebookAuthorization.isReader(entry.getKey(), entities) &&
-              ((!hideHomeScreenNotebookFromList) ||
-                  ((hideHomeScreenNotebookFromList) && !entry.getKey().equals(homescreenNoteId))))
-          .map(entry -> new NoteInfo(entry.getKey(), entry.getValue()))
-          .collect(Collectors.toList());
-
-      notesInfo.sort((note1, note2) -> {
-            String name1 = note1.getId();
-            if (note1.getPath() != null) {
-              name1 = note1.getPath();
-            }
-            String name2 = note2.getId();
-            if (note2.getPath() != null) {
-              name2 = note2.getPath();
-            }
-            return name1.compareTo(name2);
-          });
-      return notesInfo;
+    if (notebookAuthorization.isAdmin(entities)) {
+      // notes are already sorted by path in NoteManager
+      return noteManager.getNotesInfo(noteId ->
+          !(hideHomeScreenNotebookFromList && noteId.equals(homescreenNoteId)));
+    }
+    Set<String> noteIds = getReadableNoteIds(entities);
+    if (hideHomeScreenNotebookFromList && homescreenNoteId != null) {
+      noteIds.remove(homescreenNoteId);
     }
+    return noteManager.getNotesInfo(noteIds);
+  }
+
+  /**
+   * Ids of the notes readable by everyone and of the restricted notes readable by the entities,
+   * taken from the indexes instead of checking every note.
+   */
+  private Set<String> getReadableNoteIds(Set<String> entities) {
+    Set<String> noteIds = new HashSet<>(noteManager.getUnrestrictedNotes());
+    noteIds.addAll(notebookAuthorization.getReadableNotes(entities));
+    return noteIds;
   }
 
 
@@ -625,7 +661,8 @@ public class Notebook {
           cronExecutingUser,
           StringUtils.isEmpty(cronExecutingRoles) ? null : cronExecutingRoles,
           null);
-      note.runAll(authenticationInfo, true);
+      // cron jobs give way to the paragraphs users are waiting for
+      note.runAll(authenticationInfo, true, Job.Priority.BATCH);
     }
   }
 
@@ -704,6 +741,11 @@ public class Notebook {
   }
 
   public void close() {
+    try {
+      this.noteManager.close();
+    } catch (IOException e) {
+      LOGGER.error("Fail to save pending notes", e);
+    }
     this.notebookRepo.close();
     this.noteSearchService.close();
   }
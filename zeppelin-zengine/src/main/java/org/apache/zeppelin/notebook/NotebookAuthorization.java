@@ -18,13 +18,17 @@
 package org.apache.zeppelin.notebook;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -35,25 +39,47 @@ import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Sets;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
 /**
  * Contains authorization information for notes
  */
 public class NotebookAuthorization implements NoteEventListener {
   private static final Logger LOG = LoggerFactory.getLogger(NotebookAuthorization.class);
+  private static final Gson GSON = new Gson();
+  private static final int MIN_SNAPSHOT_RECORDS = 1000;
   private static NotebookAuthorization instance = null;
   /*
    * { "note1": { "owners": ["u1"], "readers": ["u1", "u2"], "runners": ["u2"],
    * "writers": ["u1"] },  "note2": ... } }
+   *
+   * The permissions of a note are immutable and replaced as a whole, so the checks read them
+   * without any lock. Changes are serialized by journalLock and appended to the journal of
+   * ConfigStorage, which is merged into notebook-authorization.json when it has more records
+   * than notes (at least MIN_SNAPSHOT_RECORDS).
    */
-  private static Map<String, Map<String, Set<String>>> authInfo = new HashMap<>();
+  private static Map<String, NotePermissions> authInfo = new ConcurrentHashMap<>();
   /*
    * contains roles for each user
    */
-  private static Map<String, Set<String>> userRoles = new HashMap<>();
+  private static Map<String, Set<String>> userRoles = new ConcurrentHashMap<>();
+  /*
+   * index of read permission, derived from authInfo and updated with it under journalLock.
+   * Only restricted notes are indexed, the other notes are readable by everyone.
+   */
+  // entity -> ids of the restricted notes where it is owner, reader, runner or writer
+  private static Map<String, Set<String>> readableNotes = new ConcurrentHashMap<>();
+  private static Set<String> restrictedNotes = ConcurrentHashMap.newKeySet();
+  // called with the note id when a note becomes restricted or unrestricted
+  private static volatile Consumer<String> restrictionListener = noteId -> { };
+  private static final Object journalLock = new Object();
+  private static long journalSeq = 0;
+  private static int journalRecords = 0;
   private static ZeppelinConfiguration conf;
 
   private static ConfigStorage configStorage;
@@ -84,12 +110,61 @@ public class NotebookAuthorization implements NoteEventListener {
   }
 
   private static void loadFromFile() throws IOException {
-    NotebookAuthorizationInfoSaving info = configStorage.loadNotebookAuthorization();
-    if (info != null) {
-      authInfo = info.authInfo;
+    synchronized (journalLock) {
+      NotebookAuthorizationInfoSaving info = configStorage.loadNotebookAuthorization();
+      if (info != null && info.authInfo != null) {
+        for (Map.Entry<String, Map<String, Set<String>>> entry : info.authInfo.entrySet()) {
+          if (entry.getKey() != null && entry.getValue() != null) {
+            putPermissions(entry.getKey(), NotePermissions.fromMap(entry.getValue()));
+          }
+        }
+        journalSeq = info.journalSeq;
+      }
+      boolean invalidRecord = false;
+      for (String line : configStorage.loadNotebookAuthorizationJournal()) {
+        if (StringUtils.isBlank(line)) {
+          continue;
+        }
+        JournalRecord record;
+        try {
+          record = GSON.fromJson(line, JournalRecord.class);
+        } catch (JsonParseException e) {
+          // e.g. the last record is written partially
+          LOG.warn("Ignore invalid record of notebook authorization journal: {}", line);
+          invalidRecord = true;
+          continue;
+        }
+        if (record == null || record.id == null || record.seq <= journalSeq) {
+          // already in notebook-authorization.json
+          continue;
+        }
+        putPermissions(record.id,
+            record.permissions == null ? null : NotePermissions.fromMap(record.permissions));
+        journalSeq = record.seq;
+        journalRecords++;
+      }
+      if (invalidRecord) {
+        // don't append after the invalid record, start a new journal
+        saveToFile();
+      }
     }
   }
-  
+
+  /**
+   * Drop the permissions in memory and load them from notebook-authorization.json and its journal.
+   */
+  @VisibleForTesting
+  static void reload() throws IOException {
+    synchronized (journalLock) {
+      for (String noteId : new ArrayList<>(authInfo.keySet())) {
+        putPermissions(noteId, null);
+      }
+      journalSeq = 0;
+      journalRecords = 0;
+      loadFromFile();
+    }
+  }
+
   public void setRoles(String user, Set<String> roles) {
     if (StringUtils.isBlank(user)) {
       LOG.warn("Setting roles for empty user");
@@ -101,24 +176,101 @@ public class NotebookAuthorization implements NoteEventListener {
   
   public Set<String> getRoles(String user) {
     Set<String> roles = Sets.newHashSet();
-    if (userRoles.containsKey(user)) {
-      roles.addAll(userRoles.get(user));
+    Set<String> userRole = user == null ? null : userRoles.get(user);
+    if (userRole != null) {
+      roles.addAll(userRole);
     }
     return roles;
   }
   
-  private void saveToFile() {
-    synchronized (authInfo) {
+  /**
+   * Apply the change to the permissions of the note and append it to the journal,
+   * or save the whole notebook authorization when the journal is long enough.
+   */
+  private static void update(String noteId,
+                             Function<NotePermissions, NotePermissions> change) {
+    if (noteId == null) {
+      LOG.warn("Setting permissions for null note id");
+      return;
+    }
+    synchronized (journalLock) {
+      NotePermissions permissions = change.apply(authInfo.get(noteId));
+      if (putPermissions(noteId, permissions) == null && permissions == null) {
+        return;
+      }
+      JournalRecord record = new JournalRecord(++journalSeq, noteId,
+          permissions == null ? null : permissions.toMap());
+      if (journalRecords < Math.max(MIN_SNAPSHOT_RECORDS, authInfo.size())) {
+        try {
+          if (configStorage.appendNotebookAuthorizationJournal(
+              Collections.singletonList(GSON.toJson(record)))) {
+            journalRecords++;
+            return;
+          }
+        } catch (IOException e) {
+          LOG.warn("Error appending to notebook authorization journal, save the whole file", e);
+        }
+      }
+      saveToFile();
+    }
+  }
+
+  /**
+   * Replace the permissions of the note, null removes them, and update the read index.
+   * Must be called under journalLock.
+   *
+   * @return the previous permissions of the note
+   */
+  private static NotePermissions putPermissions(String noteId, NotePermissions permissions) {
+    NotePermissions previous = permissions == null ?
+        authInfo.remove(noteId) : authInfo.put(noteId, permissions);
+    boolean wasRestricted = previous != null && previous.restricted;
+    boolean restricted = permissions != null && permissions.restricted;
+    if (wasRestricted) {
+      for (String entity : previous.readable) {
+        if (!restricted || !permissions.readable.contains(entity)) {
+          Set<String> notes = readableNotes.get(entity);
+          if (notes != null) {
+            notes.remove(noteId);
+            if (notes.isEmpty()) {
+              readableNotes.remove(entity);
+            }
+          }
+        }
+      }
+    }
+    if (restricted) {
+      for (String entity : permissions.readable) {
+        readableNotes.computeIfAbsent(entity, e -> ConcurrentHashMap.newKeySet()).add(noteId);
+      }
+      restrictedNotes.add(noteId);
+    } else {
+      restrictedNotes.remove(noteId);
+    }
+    if (wasRestricted != restricted) {
+      restrictionListener.accept(noteId);
+    }
+    return previous;
+  }
+
+  private static void saveToFile() {
+    synchronized (journalLock) {
       NotebookAuthorizationInfoSaving info = new NotebookAuthorizationInfoSaving();
-      info.authInfo = authInfo;
+      info.authInfo = new LinkedHashMap<>();
+      for (Map.Entry<String, NotePermissions> entry : authInfo.entrySet()) {
+        info.authInfo.put(entry.getKey(), entry.getValue().toMap());
+      }
+      info.journalSeq = journalSeq;
       try {
         configStorage.save(info);
+        configStorage.clearNotebookAuthorizationJournal();
+        journalRecords = 0;
       } catch (IOException e) {
         LOG.error("Error saving notebook authorization file", e);
       }
     }
   }
-  
+
   public boolean isPublic() {
     return conf.isNotebookPublic();
   }
@@ -134,74 +286,44 @@ public class NotebookAuthorization implements NoteEventListener {
   }
 
   public void setOwners(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet(entities));
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("owners", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+    Set<String> owners = validateUser(entities);
+    update(noteId, p -> NotePermissions.of(p).with(owners, null, null, null));
   }
 
   public void setReaders(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet(entities));
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("readers", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+    Set<String> readers = validateUser(entities);
+    update(noteId, p -> NotePermissions.of(p).with(null, readers, null, null));
   }
 
   public void setRunners(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet(entities));
-      noteAuthInfo.put("writers", new LinkedHashSet());
-    } else {
-      noteAuthInfo.put("runners", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+    Set<String> runners = validateUser(entities);
+    update(noteId, p -> NotePermissions.of(p).with(null, null, runners, null));
   }
 
 
   public void setWriters(String noteId, Set<String> entities) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    entities = validateUser(entities);
-    if (noteAuthInfo == null) {
-      noteAuthInfo = new LinkedHashMap();
-      noteAuthInfo.put("owners", new LinkedHashSet());
-      noteAuthInfo.put("readers", new LinkedHashSet());
-      noteAuthInfo.put("runners", new LinkedHashSet());
-      noteAuthInfo.put("writers", new LinkedHashSet(entities));
-    } else {
-      noteAuthInfo.put("writers", new LinkedHashSet(entities));
-    }
-    authInfo.put(noteId, noteAuthInfo);
-    saveToFile();
+    Set<String> writers = validateUser(entities);
+    update(noteId, p -> NotePermissions.of(p).with(null, null, null, writers));
+  }
+
+  /**
+   * Set owners, readers, runners and writers of the note at once, the checks never see only
+   * some of them changed.
+   */
+  public void setPermissions(String noteId, Set<String> owners, Set<String> readers,
+                             Set<String> runners, Set<String> writers) {
+    Set<String> validOwners = validateUser(owners);
+    Set<String> validReaders = validateUser(readers);
+    Set<String> validRunners = validateUser(runners);
+    Set<String> validWriters = validateUser(writers);
+    update(noteId, p -> NotePermissions.of(p)
+        .with(validOwners, validReaders, validRunners, validWriters));
   }
 
   /*
   * If case conversion is enforced, then change entity names to lower case
   */
-  private Set<String> checkCaseAndConvert(Set<String> entities) {
+  private static Set<String> checkCaseAndConvert(Set<String> entities) {
     if (conf.isUsernameForceLowerCase()) {
       Set<String> set2 = new HashSet<String>();
       for (String name : entities) {
@@ -213,96 +335,96 @@ public class NotebookAuthorization implements NoteEventListener {
     }
   }
 
+  private static NotePermissions getPermissions(String noteId) {
+    NotePermissions permissions = noteId == null ? null : authInfo.get(noteId);
+    return permissions == null ? NotePermissions.EMPTY : permissions;
+  }
+
   public Set<String> getOwners(String noteId) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    Set<String> entities = null;
-    if (noteAuthInfo == null) {
-      entities = new HashSet<>();
-    } else {
-      entities = noteAuthInfo.get("owners");
-      if (entities == null) {
-        entities = new HashSet<>();
-      } else {
-        entities = checkCaseAndConvert(entities);
-      }
-    }
-    return entities;
+    return new HashSet<>(getPermissions(noteId).owners);
   }
 
   public Set<String> getReaders(String noteId) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    Set<String> entities = null;
-    if (noteAuthInfo == null) {
-      entities = new HashSet<>();
-    } else {
-      entities = noteAuthInfo.get("readers");
-      if (entities == null) {
-        entities = new HashSet<>();
-      } else {
-        entities = checkCaseAndConvert(entities);
-      }
-    }
-    return entities;
+    return new HashSet<>(getPermissions(noteId).readers);
   }
 
   public Set<String> getRunners(String noteId) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    Set<String> entities = null;
-    if (noteAuthInfo == null) {
-      entities = new HashSet<>();
-    } else {
-      entities = noteAuthInfo.get("runners");
-      if (entities == null) {
-        entities = new HashSet<>();
-      } else {
-        entities = checkCaseAndConvert(entities);
-      }
-    }
-    return entities;
+    return new HashSet<>(getPermissions(noteId).runners);
   }
 
   public Set<String> getWriters(String noteId) {
-    Map<String, Set<String>> noteAuthInfo = authInfo.get(noteId);
-    Set<String> entities = null;
-    if (noteAuthInfo == null) {
-      entities = new HashSet<>();
-    } else {
-      entities = noteAuthInfo.get("writers");
-      if (entities == null) {
-        entities = new HashSet<>();
-      } else {
-        entities = checkCaseAndConvert(entities);
-      }
-    }
-    return entities;
+    return new HashSet<>(getPermissions(noteId).writers);
   }
 
   public boolean isOwner(String noteId, Set<String> entities) {
-    return isMember(entities, getOwners(noteId)) || isAdmin(entities);
+    NotePermissions permissions = getPermissions(noteId);
+    return isMember(entities, permissions.owners) || isAdmin(entities);
   }
 
   public boolean isWriter(String noteId, Set<String> entities) {
-    return isMember(entities, getWriters(noteId)) ||
-           isMember(entities, getOwners(noteId)) ||
+    NotePermissions permissions = getPermissions(noteId);
+    return isMember(entities, permissions.writers) ||
+           isMember(entities, permissions.owners) ||
            isAdmin(entities);
   }
 
+  /**
+   * A note is readable by everyone unless all of owners, readers, runners and writers are set,
+   * otherwise it is readable by the entities in any of them.
+   */
   public boolean isReader(String noteId, Set<String> entities) {
-    return isMember(entities, getReaders(noteId)) ||
-           isMember(entities, getOwners(noteId)) ||
-           isMember(entities, getWriters(noteId)) ||
-           isMember(entities, getRunners(noteId)) ||
-           isAdmin(entities);
+    NotePermissions permissions = getPermissions(noteId);
+    if (!permissions.restricted) {
+      return true;
+    }
+    for (String entity : entities) {
+      if (entity != null && permissions.readable.contains(entity)) {
+        return true;
+      }
+    }
+    return isAdmin(entities);
   }
 
   public boolean isRunner(String noteId, Set<String> entities) {
-    return isMember(entities, getRunners(noteId)) ||
-           isMember(entities, getWriters(noteId)) ||
-           isMember(entities, getOwners(noteId)) ||
+    NotePermissions permissions = getPermissions(noteId);
+    return isMember(entities, permissions.runners) ||
+           isMember(entities, permissions.writers) ||
+           isMember(entities, permissions.owners) ||
            isAdmin(entities);
   }
 
-  private boolean isAdmin(Set<String> entities) {
+  /**
+   * Whether all of owners, readers, runners and writers of the note are set, so that only
+   * the entities in them can read it.
+   */
+  public boolean isRestricted(String noteId) {
+    return noteId != null && restrictedNotes.contains(noteId);
+  }
+
+  /**
+   * Ids of the restricted notes readable by any of the entities, looked up from the read
+   * index. The notes which are not restricted are readable by everyone and not included.
+   */
+  public Set<String> getReadableNotes(Set<String> entities) {
+    Set<String> noteIds = new HashSet<>();
+    for (String entity : entities) {
+      Set<String> notes = entity == null ? null : readableNotes.get(entity);
+      if (notes != null) {
+        noteIds.addAll(notes);
+      }
+    }
+    return noteIds;
+  }
+
+  /**
+   * Set the listener which is called with the note id whenever the note becomes restricted or
+   * not restricted.
+   */
+  public void setRestrictionListener(Consumer<String> listener) {
+    restrictionListener = listener == null ? noteId -> { } : listener;
+  }
+
+  public boolean isAdmin(Set<String> entities) {
     String adminRole = conf.getString(ConfVars.ZEPPELIN_OWNER_ROLE);
     if (StringUtils.isBlank(adminRole)) {
       return false;
@@ -312,9 +434,15 @@ public class NotebookAuthorization implements NoteEventListener {
 
   // return true if b is empty or if (a intersection b) is non-empty
   private boolean isMember(Set<String> a, Set<String> b) {
-    Set<String> intersection = new HashSet<>(b);
-    intersection.retainAll(a);
-    return (b.isEmpty() || (intersection.size() > 0));
+    if (b.isEmpty()) {
+      return true;
+    }
+    for (String entity : a) {
+      if (b.contains(entity)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public boolean isOwner(Set<String> userAndRoles, String noteId) {
@@ -362,8 +490,7 @@ public class NotebookAuthorization implements NoteEventListener {
   }
 
   public void removeNote(String noteId) {
-    authInfo.remove(noteId);
-    saveToFile();
+    update(noteId, p -> null);
   }
 
   public List<NoteInfo> filterByUser(List<NoteInfo> notes, AuthenticationInfo subject) {
@@ -388,18 +515,15 @@ public class NotebookAuthorization implements NoteEventListener {
         setOwners(noteId, owners);
       } else {
         // add current user to owners, readers, runners, writers - private note
-        Set<String> entities = getOwners(noteId);
-        entities.add(subject.getUser());
-        setOwners(noteId, entities);
-        entities = getReaders(noteId);
-        entities.add(subject.getUser());
-        setReaders(noteId, entities);
-        entities = getRunners(noteId);
-        entities.add(subject.getUser());
-        setRunners(noteId, entities);
-        entities = getWriters(noteId);
-        entities.add(subject.getUser());
-        setWriters(noteId, entities);
+        Set<String> owners = getOwners(noteId);
+        owners.add(subject.getUser());
+        Set<String> readers = getReaders(noteId);
+        readers.add(subject.getUser());
+        Set<String> runners = getRunners(noteId);
+        runners.add(subject.getUser());
+        Set<String> writers = getWriters(noteId);
+        writers.add(subject.getUser());
+        setPermissions(noteId, owners, readers, runners, writers);
       }
     }
   }
@@ -438,4 +562,101 @@ public class NotebookAuthorization implements NoteEventListener {
   public void onParagraphStatusChange(Paragraph p, Job.Status status) {
 
   }
+
+  /**
+   * Immutable owners, readers, runners and writers of a note, with the entities converted to
+   * lower case when it is enforced. The entities as they are set are kept for saving.
+   */
+  private static final class NotePermissions {
+    static final NotePermissions EMPTY = new NotePermissions(Collections.emptySet(),
+        Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+    final Set<String> originalOwners;
+    final Set<String> originalReaders;
+    final Set<String> originalRunners;
+    final Set<String> originalWriters;
+    final Set<String> owners;
+    final Set<String> readers;
+    final Set<String> runners;
+    final Set<String> writers;
+    // entities in any of them, and whether all of them are set
+    final Set<String> readable;
+    final boolean restricted;
+
+    NotePermissions(Set<String> owners, Set<String> readers, Set<String> runners,
+                    Set<String> writers) {
+      this.originalOwners = Collections.unmodifiableSet(new LinkedHashSet<>(owners));
+      this.originalReaders = Collections.unmodifiableSet(new LinkedHashSet<>(readers));
+      this.originalRunners = Collections.unmodifiableSet(new LinkedHashSet<>(runners));
+      this.originalWriters = Collections.unmodifiableSet(new LinkedHashSet<>(writers));
+      this.owners = convert(originalOwners);
+      this.readers = convert(originalReaders);
+      this.runners = convert(originalRunners);
+      this.writers = convert(originalWriters);
+      Set<String> readableEntities = new HashSet<>();
+      readableEntities.addAll(this.owners);
+      readableEntities.addAll(this.readers);
+      readableEntities.addAll(this.runners);
+      readableEntities.addAll(this.writers);
+      this.readable = Collections.unmodifiableSet(readableEntities);
+      this.restricted = !this.owners.isEmpty() && !this.readers.isEmpty() &&
+          !this.runners.isEmpty() && !this.writers.isEmpty();
+    }
+
+    static NotePermissions of(NotePermissions permissions) {
+      return permissions == null ? EMPTY : permissions;
+    }
+
+    /**
+     * @return new permissions with the given entities replaced, null means unchanged
+     */
+    NotePermissions with(Set<String> owners, Set<String> readers, Set<String> runners,
+                         Set<String> writers) {
+      return new NotePermissions(owners == null ? originalOwners : owners,
+          readers == null ? originalReaders : readers,
+          runners == null ? originalRunners : runners,
+          writers == null ? originalWriters : writers);
+    }
+
+    static NotePermissions fromMap(Map<String, Set<String>> noteAuthInfo) {
+      return new NotePermissions(orEmpty(noteAuthInfo.get("owners")),
+          orEmpty(noteAuthInfo.get("readers")), orEmpty(noteAuthInfo.get("runners")),
+          orEmpty(noteAuthInfo.get("writers")));
+    }
+
+    Map<String, Set<String>> toMap() {
+      Map<String, Set<String>> noteAuthInfo = new LinkedHashMap<>();
+      noteAuthInfo.put("owners", originalOwners);
+      noteAuthInfo.put("readers", originalReaders);
+      noteAuthInfo.put("runners", originalRunners);
+      noteAuthInfo.put("writers", originalWriters);
+      return noteAuthInfo;
+    }
+
+    private static Set<String> orEmpty(Set<String> entities) {
+      return entities == null ? Collections.emptySet() : entities;
+    }
+
+    private static Set<String> convert(Set<String> entities) {
+      if (conf == null || entities.isEmpty()) {
+        return entities;
+      }
+      return Collections.unmodifiableSet(checkCaseAndConvert(entities));
+    }
+  }
+
+  /**
+   * One change in the journal, permissions is null when the note is removed.
+   */
+  private static class JournalRecord {
+    long seq;
+    String id;
+    Map<String, Set<String>> permissions;
+
+    JournalRecord(long seq, String id, Map<String, Set<String>> permissions) {
+      this.seq = seq;
+      this.id = id;
+      this.permissions = permissions;
+    }
+  }
 }
@@ -32,6 +32,9 @@ public class NotebookAuthorizationInfoSaving implements JsonSerializable {
 
   public Map<String, Map<String, Set<String>>> authInfo;
 
+  // sequence number of the last journal record included in authInfo
+  public long journalSeq;
+
   public String toJson() {
     return gson.toJson(this);
   }
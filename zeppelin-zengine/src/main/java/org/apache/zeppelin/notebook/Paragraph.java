@@ -28,6 +28,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -97,7 +99,10 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   private transient String scriptText;
   private transient Interpreter interpreter;
   private transient Note note;
+  // completed when the current run of the paragraph completes
+  private transient volatile CompletableFuture<Status> completion;
   private transient AuthenticationInfo subject;
+  private transient Priority priority = Priority.INTERACTIVE;
   // personalized
   private transient Map<String, Paragraph> userParagraphMap = new HashMap<>();
   private transient Map<String, String> localProperties = new HashMap<>();
@@ -148,9 +153,47 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     return userParagraphMap.get(user);
   }
 
+  @Override
+  public void setStatus(Status status) {
+    super.setStatus(status);
+    CompletableFuture<Status> completion = this.completion;
+    if (completion != null && status.isCompleted()) {
+      completion.complete(status);
+    }
+  }
+
   @Override
   public void setResult(InterpreterResult result) {
-    this.results = result;
+    ParagraphResultStore resultStore = note != null ? note.getResultStore() : null;
+    if (resultStore == null) {
+      this.results = result;
+      return;
+    }
+    synchronized (note.getResultsLock()) {
+      resultStore.spill(note.getId(), result);
+      InterpreterResult previous = this.results;
+      this.results = result;
+      // the previous result may still be shared, e.g. with the paragraphs of other users in
+      // personalized mode, so only the results no paragraph refers to are deleted
+      if (previous != result && ParagraphResultStore.isSpilled(previous)) {
+        note.removeUnusedResults();
+      }
+    }
+  }
+
+  /**
+   * Message of the paragraph result with its data, or null if there's no such message.
+   */
+  public InterpreterResultMessage loadReturnMessage(int index) {
+    InterpreterResult result = this.results;
+    if (result == null || index < 0 || index >= result.message().size()) {
+      return null;
+    }
+    InterpreterResultMessage message = result.message().get(index);
+    if (!(message instanceof SpilledResultMessage)) {
+      return message;
+    }
+    return new InterpreterResultMessage(message.getType(), message.getData());
   }
 
   public Paragraph cloneParagraphForUser(String user) {
@@ -234,6 +277,25 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  @Override
+  public String getJobUser() {
+    return subject != null ? subject.getUser() : user;
+  }
+
+  @Override
+  public String getJobNoteId() {
+    return note != null ? note.getId() : null;
+  }
+
+  @Override
+  public Priority getPriority() {
+    return priority;
+  }
+
+  public void setPriority(Priority priority) {
+    this.priority = priority;
+  }
+
   public String getTitle() {
     return title;
   }
@@ -335,32 +397,51 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public boolean execute(boolean blocking) {
+    CompletableFuture<Status> completion = executeAsync();
+    if (blocking) {
+      try {
+        return completion.get() == Status.FINISHED;
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+        throw new RuntimeException(e.getCause());
+      }
+    } else {
+      return true;
+    }
+  }
+
+  /**
+   * Submit the paragraph to the scheduler of its interpreter.
+   *
+   * @return future which is completed with the status of the paragraph when the run completes
+   */
+  public CompletableFuture<Status> executeAsync() {
     if (isBlankParagraph()) {
       LOGGER.info("Skip to run blank paragraph. {}", getId());
       setStatus(Job.Status.FINISHED);
-      return true;
+      return CompletableFuture.completedFuture(Status.FINISHED);
     }
 
     try {
       this.interpreter = getBindedInterpreter();
+      CompletableFuture<Status> completion = new CompletableFuture<>();
+      CompletableFuture<Status> previous;
+      synchronized (this) {
+        previous = this.completion;
+        this.completion = completion;
+      }
+      if (previous != null && !previous.isDone()) {
+        // the paragraph is submitted again before the previous run completes, the callers
+        // waiting for that run are completed with this one
+        completion.whenComplete((status, error) -> previous.complete(status));
+      }
       setStatus(Status.READY);
       if (getConfig().get("enabled") == null || (Boolean) getConfig().get("enabled")) {
         setAuthenticationInfo(getAuthenticationInfo());
         interpreter.getScheduler().submit(this);
       }
-
-      if (blocking) {
-        while (!getStatus().isCompleted()) {
-          try {
-            Thread.sleep(100);
-          } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-          }
-        }
-        return getStatus() == Status.FINISHED;
-      } else {
-        return true;
-      }
+      return completion;
     } catch (InterpreterNotFoundException e) {
       InterpreterResult intpResult =
           new InterpreterResult(InterpreterResult.Code.ERROR);
@@ -426,6 +507,8 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
       script = Input.getSimpleQuery(settings.getParams(), script, false);
     }
     LOGGER.debug("RUN : " + script);
+    // the tables of this run replace the rows paged by the previous one
+    note.removeTableResults(getId());
     try {
       InterpreterContext context = getInterpreterContext();
       InterpreterContext.set(context);
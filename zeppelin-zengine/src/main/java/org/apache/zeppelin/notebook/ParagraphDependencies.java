@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.InterpreterNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dependencies between the paragraphs of a note, used to run independent paragraphs of the note
+ * in parallel.
+ *
+ * Dependencies are inferred: a paragraph depends on the previous paragraph which runs in the same
+ * interpreter group, as they may share variables, and on the previous paragraphs which put
+ * or get the same resources through ZeppelinContext, e.g. z.put("name", value) and z.get("name").
+ * A paragraph also depends on the paragraphs listed in its "dependsOn" config, e.g. when they
+ * share data in a way which can't be inferred.
+ * A paragraph only depends on paragraphs before it in the note, so the dependencies never have a
+ * cycle.
+ */
+class ParagraphDependencies {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphDependencies.class);
+
+  static final String DEPENDS_ON = "dependsOn";
+
+  private static final Pattern RESOURCE_PATTERN = Pattern.compile(
+      "\\bz\\.(put|get|getAsDataFrame|remove)\\(\\s*[\"']([^\"']+)[\"']");
+
+  private ParagraphDependencies() {
+  }
+
+  /**
+   * @param paragraphs paragraphs to run, in the order of the note
+   * @return ids of the paragraphs each paragraph depends on
+   */
+  static Map<String, Set<String>> of(List<Paragraph> paragraphs) {
+    Map<String, Set<String>> dependencies = new HashMap<>();
+    // last paragraph of each interpreter group
+    Map<String, String> lastOfGroup = new HashMap<>();
+    // last paragraph which puts each resource
+    Map<String, String> lastWriter = new HashMap<>();
+    // paragraphs which get each resource since it's put
+    Map<String, List<String>> readers = new HashMap<>();
+
+    for (Paragraph p : paragraphs) {
+      Set<String> dependsOn = new LinkedHashSet<>();
+      dependencies.put(p.getId(), dependsOn);
+
+      Object declared = p.getConfig().get(DEPENDS_ON);
+      if (declared instanceof List) {
+        for (Object id : (List<?>) declared) {
+          if (dependencies.containsKey(id)) {
+            dependsOn.add((String) id);
+          } else {
+            LOGGER.warn("Paragraph {} depends on {} which does not run before it, ignore it",
+                p.getId(), id);
+          }
+        }
+      }
+
+      String group = getInterpreterGroup(p);
+      if (group != null) {
+        String last = lastOfGroup.put(group, p.getId());
+        if (last != null) {
+          dependsOn.add(last);
+        }
+      }
+
+      if (p.getScriptText() == null) {
+        dependsOn.remove(p.getId());
+        continue;
+      }
+      Matcher matcher = RESOURCE_PATTERN.matcher(p.getScriptText());
+      while (matcher.find()) {
+        String name = matcher.group(2);
+        if (lastWriter.containsKey(name)) {
+          dependsOn.add(lastWriter.get(name));
+        }
+        if (matcher.group(1).startsWith("get")) {
+          readers.computeIfAbsent(name, k -> new ArrayList<>()).add(p.getId());
+        } else {
+          // wait for the paragraphs which get the resource before it's changed
+          dependsOn.addAll(readers.getOrDefault(name, new ArrayList<>()));
+          readers.remove(name);
+          lastWriter.put(name, p.getId());
+        }
+      }
+      dependsOn.remove(p.getId());
+    }
+    return dependencies;
+  }
+
+  private static String getInterpreterGroup(Paragraph p) {
+    if (p.isBlankParagraph()) {
+      return null;
+    }
+    try {
+      Interpreter interpreter = p.getBindedInterpreter();
+      return interpreter.getInterpreterGroup() != null ?
+          interpreter.getInterpreterGroup().getId() : p.getIntpText();
+    } catch (InterpreterNotFoundException e) {
+      // the paragraph fails when it runs
+      return null;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.gson.Gson;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps large paragraph result messages out of the heap.
+ *
+ * A result message whose data is larger than the threshold is written to
+ * dir/{noteId}/{dataRef} and replaced by a {@link SpilledResultMessage}, which reads the data
+ * back when it is needed. So the note in memory and its websocket broadcasts stay small, and a
+ * client loads the data only when it shows the result. The note saved to NotebookRepo still has
+ * the data inline, the files are only a local copy and are cleared when the server starts.
+ * A negative threshold keeps all results in the heap.
+ */
+public class ParagraphResultStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphResultStore.class);
+
+  // suffix of the file with the json of a spilled message, see loadJson
+  private static final String JSON_SUFFIX = ".json";
+
+  private final File dir;
+  private final long threshold;
+
+  public ParagraphResultStore(File dir, long threshold) {
+    this.dir = dir;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Move the large messages of the result to files. Messages are replaced in place, so the
+   * result shared by several paragraphs is written once.
+   */
+  public void spill(String noteId, InterpreterResult result) {
+    if (threshold < 0 || result == null) {
+      return;
+    }
+    List<InterpreterResultMessage> messages = result.message();
+    for (int i = 0; i < messages.size(); i++) {
+      InterpreterResultMessage message = messages.get(i);
+      if (message instanceof SpilledResultMessage || message.getData() == null
+          || message.getData().length() <= threshold) {
+        continue;
+      }
+      String dataRef = UUID.randomUUID().toString();
+      try {
+        File file = getFile(noteId, dataRef);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), message.getData().getBytes(StandardCharsets.UTF_8));
+        messages.set(i, new SpilledResultMessage(message.getType(), dataRef, this, noteId));
+      } catch (IOException e) {
+        // keep the message in the heap
+        LOGGER.warn("Fail to write paragraph result of note " + noteId, e);
+      }
+    }
+  }
+
+  /**
+   * Read the data of a spilled message.
+   */
+  public String load(String noteId, String dataRef) throws IOException {
+    return read(getFile(noteId, dataRef));
+  }
+
+  /**
+   * Read the data of a spilled message as a json string, as gson would write it. It is written
+   * to a file next to the data on the first call, so that a note with large results does not
+   * escape them again each time it is saved.
+   */
+  public String loadJson(String noteId, String dataRef, Gson gson) throws IOException {
+    File file = getFile(noteId, dataRef);
+    File jsonFile = new File(file.getParentFile(), dataRef + JSON_SUFFIX);
+    if (jsonFile.exists()) {
+      try {
+        return read(jsonFile);
+      } catch (NoSuchFileException e) {
+        // deleted meanwhile, serialize it again
+      }
+    }
+    String json = gson.toJson(read(file));
+    File tmpFile = File.createTempFile(dataRef, ".tmp", file.getParentFile());
+    try {
+      Files.write(tmpFile.toPath(), json.getBytes(StandardCharsets.UTF_8));
+      Files.move(tmpFile.toPath(), jsonFile.toPath(), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to write json of paragraph result " + dataRef + " of note " + noteId, e);
+      tmpFile.delete();
+    }
+    return json;
+  }
+
+  private static String read(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+  }
+
+  /**
+   * Delete the files of the note which are not in dataRefs, i.e. the results no paragraph
+   * refers to anymore.
+   */
+  public void retain(String noteId, Set<String> dataRefs) {
+    File[] files = isValidName(noteId) ? new File(dir, noteId).listFiles() : null;
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      String dataRef = StringUtils.removeEnd(file.getName(), JSON_SUFFIX);
+      if (!dataRefs.contains(dataRef) && !file.delete()) {
+        LOGGER.warn("Fail to delete paragraph result: " + file);
+      }
+    }
+  }
+
+  public void removeNote(String noteId) {
+    try {
+      FileUtils.deleteDirectory(new File(dir, noteId));
+    } catch (IOException e) {
+      LOGGER.warn("Fail to delete paragraph results of note " + noteId, e);
+    }
+  }
+
+  /**
+   * Delete the files of all notes, they are not referred to by any note when the server starts.
+   */
+  public void clear() {
+    try {
+      FileUtils.deleteDirectory(dir);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to delete paragraph results in " + dir, e);
+    }
+  }
+
+  static boolean isSpilled(InterpreterResult result) {
+    if (result == null) {
+      return false;
+    }
+    for (InterpreterResultMessage message : result.message()) {
+      if (message instanceof SpilledResultMessage) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static void collectDataRefs(InterpreterResult result, Set<String> dataRefs) {
+    if (result == null) {
+      return;
+    }
+    for (InterpreterResultMessage message : result.message()) {
+      if (message instanceof SpilledResultMessage) {
+        dataRefs.add(message.getDataRef());
+      }
+    }
+  }
+
+  private File getFile(String noteId, String dataRef) {
+    // ids come from clients, do not let them escape the result dir
+    if (!isValidName(noteId) || !isValidName(dataRef)) {
+      throw new IllegalArgumentException("Invalid paragraph result: " + noteId + "/" + dataRef);
+    }
+    return new File(new File(dir, noteId), dataRef);
+  }
+
+  private static boolean isValidName(String name) {
+    return name != null && !name.isEmpty() && !name.startsWith(".")
+        && name.indexOf('/') < 0 && name.indexOf('\\') < 0;
+  }
+}
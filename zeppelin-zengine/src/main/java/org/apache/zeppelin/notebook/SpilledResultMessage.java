@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.UUID;
+
+/**
+ * Result message whose data is kept in ParagraphResultStore instead of the heap.
+ *
+ * {@link #getData()} reads the data back, and {@link InlineSerializer} writes it within the
+ * json, so the note saved to NotebookRepo, exported or returned by REST api has the data inline.
+ * Serialized by reflection, e.g. in websocket messages, it only has the type and the dataRef,
+ * and the client fetches the data separately. {@link Note#toJson()} writes a placeholder
+ * instead, and replaces it with the json of the data cached by ParagraphResultStore, so that
+ * saving the note does not escape large results again.
+ */
+public class SpilledResultMessage extends InterpreterResultMessage {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SpilledResultMessage.class);
+  // random, so that the data of a result which is not spilled never looks like a placeholder
+  private static final String DATA_PLACEHOLDER = "\"spilled-result-" + UUID.randomUUID() + ":";
+
+  private final transient ParagraphResultStore resultStore;
+  private final transient String noteId;
+
+  SpilledResultMessage(InterpreterResult.Type type, String dataRef,
+                       ParagraphResultStore resultStore, String noteId) {
+    super(type, "", dataRef);
+    this.resultStore = resultStore;
+    this.noteId = noteId;
+  }
+
+  @Override
+  public String getData() {
+    try {
+      return resultStore.load(noteId, getDataRef());
+    } catch (IOException e) {
+      LOGGER.error("Fail to read paragraph result " + getDataRef() + " of note " + noteId, e);
+      return "";
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "%" + getType().name().toLowerCase() + " " + getData();
+  }
+
+  /**
+   * Serialize the message with its data, like a message which is not spilled.
+   */
+  public static class InlineSerializer implements JsonSerializer<SpilledResultMessage> {
+    @Override
+    public JsonElement serialize(SpilledResultMessage src, Type typeOfSrc,
+                                 JsonSerializationContext context) {
+      JsonObject json = new JsonObject();
+      json.add("type", context.serialize(src.getType()));
+      json.addProperty("data", src.getData());
+      return json;
+    }
+  }
+
+  /**
+   * Serialize the message with a placeholder instead of its data, see {@link #inlineData}.
+   */
+  public static class PlaceholderSerializer implements JsonSerializer<SpilledResultMessage> {
+    @Override
+    public JsonElement serialize(SpilledResultMessage src, Type typeOfSrc,
+                                 JsonSerializationContext context) {
+      JsonObject json = new JsonObject();
+      json.add("type", context.serialize(src.getType()));
+      // dataRef is a uuid, so it is not escaped
+      json.addProperty("data", DATA_PLACEHOLDER.substring(1) + src.getDataRef());
+      return json;
+    }
+  }
+
+  /**
+   * Replace the placeholders written by {@link PlaceholderSerializer} with the json of the data
+   * of the messages, which is the same as the one gson writes for the data.
+   */
+  static String inlineData(String json, String noteId, ParagraphResultStore resultStore,
+                           Gson gson) {
+    int placeholder = json.indexOf(DATA_PLACEHOLDER);
+    if (placeholder < 0) {
+      return json;
+    }
+    StringBuilder builder = new StringBuilder(json.length());
+    int from = 0;
+    while (placeholder >= 0) {
+      int dataRefStart = placeholder + DATA_PLACEHOLDER.length();
+      int dataRefEnd = json.indexOf('"', dataRefStart);
+      String dataRef = json.substring(dataRefStart, dataRefEnd);
+      builder.append(json, from, placeholder);
+      try {
+        builder.append(resultStore.loadJson(noteId, dataRef, gson));
+      } catch (IOException e) {
+        LOGGER.error("Fail to read paragraph result " + dataRef + " of note " + noteId, e);
+        builder.append("\"\"");
+      }
+      from = dataRefEnd + 1;
+      placeholder = json.indexOf(DATA_PLACEHOLDER, from);
+    }
+    builder.append(json, from, json.length());
+    return builder.toString();
+  }
+}
@@ -0,0 +1,410 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.apache.zeppelin.notebook.Note;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary storage format of a note: an append-only log of deflate compressed records.
+ *
+ * The file starts with {@link #MAGIC} and a version, each record is its type, the length and
+ * the crc32 of its compressed payload, then the payload, which is utf-8 json. The first record is
+ * a snapshot of the whole note json, the following ones are changes of the note since then: the
+ * note without its paragraphs, one paragraph, or the ids of the paragraphs in order. So a save
+ * only appends the paragraphs which are changed. {@link #needsCompaction(int)} tells when the log
+ * should be rewritten as one snapshot.
+ *
+ * A NoteLog instance keeps the digests of what was written last, it is not thread safe.
+ */
+public class NoteLog {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteLog.class);
+
+  static final byte[] MAGIC = {'Z', 'N', 'L', 'G'};
+  static final byte VERSION = 1;
+
+  static final byte SNAPSHOT = 1;
+  static final byte NOTE = 2;
+  static final byte PARAGRAPH = 3;
+  static final byte PARAGRAPH_IDS = 4;
+
+  private static final String PARAGRAPHS = "paragraphs";
+  private static final int RECORD_HEADER_SIZE = 9;
+
+  private byte[] noteDigest;
+  private final Map<String, byte[]> paragraphDigests = new HashMap<>();
+  private List<String> paragraphIds = new ArrayList<>();
+  private long snapshotSize = 0;
+  private long appendedSize = 0;
+  private int appendedRecords = 0;
+  private boolean corrupted = false;
+
+  /**
+   * A log of which nothing is written yet, the first save has to be a snapshot.
+   */
+  public NoteLog() {
+  }
+
+  public static boolean isNoteLog(byte[] content) {
+    if (content.length < MAGIC.length) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (content[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Read the note json from a file content in log format. After that, this log is ready to
+   * append the next changes of the note.
+   */
+  public JsonObject load(byte[] content) throws IOException {
+    reset();
+    try {
+      return replay(content);
+    } catch (JsonParseException | IllegalStateException e) {
+      reset();
+      throw new IOException("Invalid record of note log", e);
+    } catch (IOException e) {
+      reset();
+      throw e;
+    }
+  }
+
+  /**
+   * Convert a file content in log format to the standard note json, e.g. for export.
+   */
+  public static String toNoteJson(byte[] content) throws IOException {
+    return Note.getGson().toJson(new NoteLog().load(content));
+  }
+
+  /**
+   * Convert the standard note json to a file content in log format, e.g. for import.
+   */
+  public static byte[] fromNoteJson(String json) throws IOException {
+    try {
+      return new NoteLog().snapshot(new JsonParser().parse(json).getAsJsonObject());
+    } catch (JsonParseException | IllegalStateException e) {
+      throw new IOException("Invalid note json", e);
+    }
+  }
+
+  public static Note toNote(JsonObject json) {
+    return Note.fromJson(json.toString());
+  }
+
+  /**
+   * @return the whole file content with the snapshot of the note
+   */
+  public byte[] snapshot(Note note) throws IOException {
+    return snapshot(Note.getGson().toJsonTree(note).getAsJsonObject());
+  }
+
+  private byte[] snapshot(JsonObject noteJson) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(MAGIC);
+    bytes.write(VERSION);
+    writeRecord(bytes, SNAPSHOT, noteJson);
+    reset();
+    track(noteJson);
+    snapshotSize = bytes.size();
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @return the records of the changes of the note since it was written last time, empty if
+   * nothing is changed
+   */
+  public byte[] append(Note note) throws IOException {
+    if (snapshotSize == 0) {
+      throw new IOException("Nothing is written to the log of note " + note.getId());
+    }
+    JsonObject noteJson = Note.getGson().toJsonTree(note).getAsJsonObject();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    int records = 0;
+    JsonArray paragraphs = getParagraphs(noteJson);
+    List<String> ids = new ArrayList<>();
+    for (JsonElement paragraph : paragraphs) {
+      String id = getParagraphId(paragraph);
+      ids.add(id);
+      byte[] digest = digest(paragraph);
+      if (!Arrays.equals(digest, paragraphDigests.get(id))) {
+        writeRecord(bytes, PARAGRAPH, paragraph);
+        records++;
+      }
+    }
+    if (!ids.equals(paragraphIds)) {
+      JsonArray idsJson = new JsonArray();
+      for (String id : ids) {
+        idsJson.add(new JsonPrimitive(id));
+      }
+      writeRecord(bytes, PARAGRAPH_IDS, idsJson);
+      records++;
+    }
+    JsonObject meta = withoutParagraphs(noteJson);
+    if (!Arrays.equals(digest(meta), noteDigest)) {
+      writeRecord(bytes, NOTE, meta);
+      records++;
+    }
+    track(noteJson);
+    appendedRecords += records;
+    appendedSize += bytes.size();
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Whether the log should be rewritten as one snapshot: nothing is written yet, the log is
+   * corrupted, or the changes are more than maxRecords or larger than the snapshot.
+   */
+  public boolean needsCompaction(int maxRecords) {
+    return snapshotSize == 0 || corrupted || appendedRecords >= maxRecords
+        || appendedSize > snapshotSize;
+  }
+
+  /**
+   * Forget what was written, e.g. after a failed write, so that the next save is a snapshot.
+   */
+  public void reset() {
+    noteDigest = null;
+    paragraphDigests.clear();
+    paragraphIds = new ArrayList<>();
+    snapshotSize = 0;
+    appendedSize = 0;
+    appendedRecords = 0;
+    corrupted = false;
+  }
+
+  int getAppendedRecords() {
+    return appendedRecords;
+  }
+
+  private JsonObject replay(byte[] content) throws IOException {
+    if (!isNoteLog(content)) {
+      throw new IOException("Not a note log");
+    }
+    if (content.length <= MAGIC.length || content[MAGIC.length] != VERSION) {
+      throw new IOException("Unsupported version of note log");
+    }
+    DataInputStream in = new DataInputStream(
+        new ByteArrayInputStream(content, MAGIC.length + 1, content.length - MAGIC.length - 1));
+    JsonObject meta = null;
+    Map<String, JsonElement> paragraphs = new LinkedHashMap<>();
+    List<String> ids = new ArrayList<>();
+    long offset = MAGIC.length + 1;
+    while (offset < content.length) {
+      byte type;
+      byte[] payload;
+      try {
+        type = in.readByte();
+        int length = in.readInt();
+        long crc = in.readInt() & 0xffffffffL;
+        if (length < 0 || length > content.length - offset - RECORD_HEADER_SIZE) {
+          throw new EOFException("Record is truncated");
+        }
+        payload = new byte[length];
+        in.readFully(payload);
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        if (crc32.getValue() != crc) {
+          throw new IOException("Checksum mismatch");
+        }
+        offset += RECORD_HEADER_SIZE + length;
+      } catch (IOException e) {
+        if (meta == null) {
+          throw new IOException("Invalid snapshot of note log", e);
+        }
+        // e.g. the last append is written partially, the log is rewritten by the next save
+        LOGGER.warn("Ignore invalid records of note log from offset {}: {}", offset,
+            e.getMessage());
+        corrupted = true;
+        break;
+      }
+      JsonElement json = new JsonParser().parse(new String(inflate(payload),
+          StandardCharsets.UTF_8));
+      if (type == SNAPSHOT) {
+        meta = json.getAsJsonObject();
+        paragraphs.clear();
+        ids.clear();
+        for (JsonElement paragraph : getParagraphs(meta)) {
+          String id = getParagraphId(paragraph);
+          paragraphs.put(id, paragraph);
+          ids.add(id);
+        }
+        meta = withoutParagraphs(meta);
+        snapshotSize = offset;
+        appendedSize = 0;
+        appendedRecords = 0;
+        continue;
+      }
+      if (meta == null) {
+        throw new IOException("Note log doesn't start with a snapshot");
+      }
+      if (type == NOTE) {
+        meta = json.getAsJsonObject();
+      } else if (type == PARAGRAPH) {
+        paragraphs.put(getParagraphId(json), json);
+      } else if (type == PARAGRAPH_IDS) {
+        ids.clear();
+        for (JsonElement id : json.getAsJsonArray()) {
+          ids.add(id.getAsString());
+        }
+      } else {
+        throw new IOException("Unknown record type of note log: " + type);
+      }
+      appendedRecords++;
+      appendedSize += RECORD_HEADER_SIZE + payload.length;
+    }
+    if (meta == null) {
+      throw new IOException("Note log doesn't have a snapshot");
+    }
+    JsonArray noteParagraphs = new JsonArray();
+    for (String id : ids) {
+      JsonElement paragraph = paragraphs.get(id);
+      if (paragraph != null) {
+        noteParagraphs.add(paragraph);
+      }
+    }
+    JsonObject noteJson = meta;
+    noteJson.add(PARAGRAPHS, noteParagraphs);
+    track(noteJson);
+    return noteJson;
+  }
+
+  private void track(JsonObject noteJson) throws IOException {
+    paragraphDigests.clear();
+    paragraphIds = new ArrayList<>();
+    for (JsonElement paragraph : getParagraphs(noteJson)) {
+      String id = getParagraphId(paragraph);
+      paragraphIds.add(id);
+      paragraphDigests.put(id, digest(paragraph));
+    }
+    noteDigest = digest(withoutParagraphs(noteJson));
+  }
+
+  private static JsonArray getParagraphs(JsonObject noteJson) {
+    JsonElement paragraphs = noteJson.get(PARAGRAPHS);
+    return paragraphs == null || !paragraphs.isJsonArray() ?
+        new JsonArray() : paragraphs.getAsJsonArray();
+  }
+
+  private static JsonObject withoutParagraphs(JsonObject noteJson) {
+    JsonObject meta = new JsonObject();
+    for (Map.Entry<String, JsonElement> entry : noteJson.entrySet()) {
+      if (!PARAGRAPHS.equals(entry.getKey())) {
+        meta.add(entry.getKey(), entry.getValue());
+      }
+    }
+    return meta;
+  }
+
+  private static String getParagraphId(JsonElement paragraph) throws IOException {
+    JsonElement id = paragraph.isJsonObject() ? paragraph.getAsJsonObject().get("id") : null;
+    if (id == null || !id.isJsonPrimitive()) {
+      throw new IOException("Paragraph without id can not be written to note log");
+    }
+    return id.getAsString();
+  }
+
+  private static void writeRecord(ByteArrayOutputStream bytes, byte type, JsonElement json)
+      throws IOException {
+    byte[] payload = deflate(json.toString().getBytes(StandardCharsets.UTF_8));
+    CRC32 crc32 = new CRC32();
+    crc32.update(payload);
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(type);
+    out.writeInt(payload.length);
+    out.writeInt((int) crc32.getValue());
+    out.write(payload);
+    out.flush();
+  }
+
+  private static byte[] deflate(byte[] data) {
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] data) throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(data);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int n = inflater.inflate(buffer);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new EOFException("Record of note log is truncated");
+        }
+        out.write(buffer, 0, n);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IOException("Invalid record of note log", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] digest(JsonElement json) {
+    try {
+      return MessageDigest.getInstance("MD5")
+          .digest(json.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What NotebookRepoSync knows about the notes of one repo: note id -> path, content hash, size
+ * and last modification date of the note, as it was last written to or read from the repo.
+ * An entry is only trusted while the version of the note in the repo listing, e.g. its ETag,
+ * is the one recorded in the entry, because the note may be changed by another Zeppelin
+ * server or by hand.
+ *
+ * The manifest is persisted as a journal, one json record per line, and a record with a null
+ * hash removes the note. The journal is rewritten when it grows too much, see {@link #compact()}.
+ * Writers remove the note from the manifest before writing it to the repo, so a note which may
+ * have been written partially is never in the manifest.
+ */
+class NoteManifest {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteManifest.class);
+  private static final Gson GSON = new Gson();
+  private static final int MIN_COMPACT_RECORDS = 1000;
+
+  private final File file;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private int records = 0;
+
+  NoteManifest(File file) {
+    this.file = file;
+    if (!file.exists()) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Entry entry;
+        try {
+          entry = GSON.fromJson(line, Entry.class);
+        } catch (JsonParseException e) {
+          // e.g. the last record is written partially
+          LOGGER.warn("Ignore invalid record of note manifest {}: {}", file, line);
+          continue;
+        }
+        if (entry == null || entry.id == null) {
+          continue;
+        }
+        if (entry.hash == null) {
+          entries.remove(entry.id);
+        } else {
+          entries.put(entry.id, entry);
+        }
+        records++;
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Fail to load note manifest " + file + ", start with an empty one", e);
+      entries.clear();
+    }
+  }
+
+  synchronized Entry get(String noteId) {
+    return entries.get(noteId);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized void put(Entry entry) {
+    entries.put(entry.id, entry);
+    append(entry);
+  }
+
+  synchronized void remove(String noteId) {
+    if (entries.remove(noteId) != null) {
+      append(new Entry(noteId, null, null, 0, 0));
+    }
+  }
+
+  /**
+   * Update the path of the note, its content doesn't change.
+   */
+  synchronized void move(String noteId, String newNotePath) {
+    Entry entry = entries.get(noteId);
+    if (entry != null) {
+      put(entry.withPath(newNotePath));
+    }
+  }
+
+  synchronized void moveFolder(String folderPath, String newFolderPath) {
+    for (Entry entry : new ArrayList<>(entries.values())) {
+      if (entry.path != null && entry.path.startsWith(folderPath + "/")) {
+        move(entry.id, newFolderPath + entry.path.substring(folderPath.length()));
+      }
+    }
+  }
+
+  synchronized void removeFolder(String folderPath) {
+    for (Entry entry : new ArrayList<>(entries.values())) {
+      if (entry.path != null && entry.path.startsWith(folderPath + "/")) {
+        remove(entry.id);
+      }
+    }
+  }
+
+  /**
+   * Rewrite the journal with one record per note.
+   */
+  synchronized void compact() {
+    File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+    try {
+      file.getParentFile().mkdirs();
+      try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+        for (Entry entry : entries.values()) {
+          writer.write(GSON.toJson(entry));
+          writer.newLine();
+        }
+      }
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      records = entries.size();
+    } catch (IOException e) {
+      LOGGER.warn("Fail to compact note manifest " + file, e);
+    }
+  }
+
+  private void append(Entry entry) {
+    try {
+      file.getParentFile().mkdirs();
+      Files.write(file.toPath(),
+          (GSON.toJson(entry) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      records++;
+    } catch (IOException e) {
+      // the manifest on disk may miss the removal of the note, so it can't be trusted anymore
+      LOGGER.warn("Fail to write note manifest " + file + ", delete it", e);
+      if (!file.delete() && file.exists()) {
+        LOGGER.error("Fail to delete note manifest {}", file);
+      }
+      records = 0;
+      return;
+    }
+    if (records > Math.max(MIN_COMPACT_RECORDS, 2 * entries.size())) {
+      compact();
+    }
+  }
+
+  /**
+   * Manifest entry of a note.
+   */
+  static class Entry {
+    final String id;
+    final String path;
+    final String hash;
+    final long size;
+    final long mtime;
+    // version of the note in the repo listing, null if it is not known yet
+    final String version;
+
+    Entry(String id, String path, String hash, long size, long mtime) {
+      this(id, path, hash, size, mtime, null);
+    }
+
+    Entry(String id, String path, String hash, long size, long mtime, String version) {
+      this.id = id;
+      this.path = path;
+      this.hash = hash;
+      this.size = size;
+      this.mtime = mtime;
+      this.version = version;
+    }
+
+    Entry withPath(String path) {
+      // moving the note changes its version in the repo
+      return new Entry(id, path, hash, size, mtime);
+    }
+
+    Entry withVersion(String version) {
+      return new Entry(id, path, hash, size, mtime, version);
+    }
+  }
+}
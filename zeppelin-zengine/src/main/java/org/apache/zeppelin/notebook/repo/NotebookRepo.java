@@ -24,6 +24,7 @@ import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.user.AuthenticationInfo;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,6 +58,28 @@ public interface NotebookRepo {
   @ZeppelinApi
   Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException;
 
+  /**
+   * Get the notebooks of the given note infos. Repos backed by remote storage can override it to
+   * fetch the notes concurrently, by default they are fetched one by one.
+   *
+   * @param noteInfos
+   * @param subject contains user information.
+   * @return noteId -> note, the notes which can not be loaded are left out.
+   * @throws IOException
+   */
+  default Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    Map<String, Note> notes = new HashMap<>();
+    for (NoteInfo noteInfo : noteInfos) {
+      try {
+        notes.put(noteInfo.getId(), get(noteInfo.getId(), noteInfo.getPath(), subject));
+      } catch (IOException e) {
+        // left out, callers get the error when loading this note alone
+      }
+    }
+    return notes;
+  }
+
   /**
    * Save given note in storage
    *
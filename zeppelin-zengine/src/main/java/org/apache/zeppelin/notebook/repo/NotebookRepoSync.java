@@ -27,15 +27,28 @@ import org.apache.zeppelin.notebook.NotebookAuthorization;
 import org.apache.zeppelin.notebook.OldNoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.plugin.PluginManager;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Notebook repository sync with remote storage
+ *
+ * A {@link NoteManifest} of each repo records the content hash of the notes written to or read
+ * from the repo through this class, so sync only downloads the notes which the manifests can't
+ * tell are the same in both repos, and only transfers the notes which differ. A manifest entry
+ * is only used while the version of the note in the repo listing (see
+ * {@link NoteInfo#getVersion()}) is the one recorded when the note was read, otherwise the note
+ * may have been changed outside of this class and it is compared by content.
  */
 public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   private static final Logger LOGGER = LoggerFactory.getLogger(NotebookRepoSync.class);
@@ -47,7 +60,10 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   private static final String defaultStorage = "org.apache.zeppelin.notebook.repo.GitNotebookRepo";
 
   private List<NotebookRepo> repos = new ArrayList<>();
+  // manifest of each repo, empty if there is only one repo
+  private List<NoteManifest> manifests = new ArrayList<>();
   private boolean oneWaySync;
+  private int syncConcurrency;
 
   /**
    * @param conf
@@ -60,6 +76,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   public void init(ZeppelinConfiguration conf) throws IOException {
     oneWaySync = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC);
+    syncConcurrency = conf.getNotebookSyncConcurrency();
     String allStorageClassNames = conf.getNotebookStorageClass().trim();
     if (allStorageClassNames.isEmpty()) {
       allStorageClassNames = defaultStorage;
@@ -107,6 +124,14 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       }
     }
 
+    if (getRepoCount() > 1) {
+      File manifestDir = new File(conf.getNotebookSyncManifestDir());
+      for (int i = 0; i < getRepoCount(); i++) {
+        manifests.add(new NoteManifest(new File(manifestDir,
+            i + "-" + repos.get(i).getClass().getSimpleName() + ".manifest")));
+      }
+    }
+
     // sync for anonymous mode on start
     if (getRepoCount() > 1 && conf.getBoolean(ConfVars.ZEPPELIN_ANONYMOUS_ALLOWED)) {
       try {
@@ -171,6 +196,12 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return getRepo(0).get(noteId, notePath, subject);
   }
 
+  @Override
+  public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+      throws IOException {
+    return getRepo(0).get(noteInfos, subject);
+  }
+
   /* get note from specific repo (for tests) */
   Note get(int repoIndex, String noteId, String noteName, AuthenticationInfo subject) throws IOException {
     return getRepo(repoIndex).get(noteId, noteName, subject);
@@ -181,10 +212,10 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
    */
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
-    getRepo(0).save(note, subject);
+    save(0, note, subject);
     if (getRepoCount() > 1) {
       try {
-        getRepo(1).save(note, subject);
+        save(1, note, subject);
       }
       catch (IOException e) {
         LOGGER.info(e.getMessage() + ": Failed to write to secondary storage");
@@ -194,18 +225,50 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   /* save note to specific repo (for tests) */
   void save(int repoIndex, Note note, AuthenticationInfo subject) throws IOException {
+    save(repoIndex, note, note.getPath(), subject);
+  }
+
+  /**
+   * Save the note and record the json written by the repo in the manifest, the version of the
+   * note in the repo is not known until it is listed again.
+   */
+  private NoteManifest.Entry save(int repoIndex, Note note, String notePath,
+                                  AuthenticationInfo subject) throws IOException {
+    NoteManifest manifest = getManifest(repoIndex);
+    if (manifest == null) {
+      getRepo(repoIndex).save(note, subject);
+      return null;
+    }
+    // the note may be written partially if save fails
+    manifest.remove(note.getId());
+    Note.JsonDigest digest = note.getJsonDigest();
     getRepo(repoIndex).save(note, subject);
+    if (note.getJsonDigest() != digest) {
+      digest = note.getJsonDigest();
+    } else {
+      // the repo doesn't write the json of the note, e.g. it saves the note in other format
+      note.toJson();
+      digest = note.getJsonDigest();
+    }
+    NoteManifest.Entry entry = newManifestEntry(note, notePath, digest);
+    manifest.put(entry);
+    return entry;
   }
 
   @Override
   public void move(String noteId, String notePath, String newNotePath,
                    AuthenticationInfo subject) throws IOException {
     getRepo(0).move(noteId, notePath, newNotePath, subject);
+    if (getManifest(0) != null) {
+      getManifest(0).move(noteId, newNotePath);
+    }
     if (getRepoCount() > 1) {
       try {
         getRepo(1).move(noteId, notePath, newNotePath, subject);
+        getManifest(1).move(noteId, newNotePath);
       }
       catch (IOException e) {
+        getManifest(1).remove(noteId);
         LOGGER.info(e.getMessage() + ": Failed to write to secondary storage");
       }
     }
@@ -214,27 +277,39 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   @Override
   public void move(String folderPath, String newFolderPath,
                    AuthenticationInfo subject) throws IOException {
-    for (NotebookRepo repo : repos) {
-      repo.move(folderPath, newFolderPath, subject);
+    for (int i = 0; i < getRepoCount(); i++) {
+      getRepo(i).move(folderPath, newFolderPath, subject);
+      if (getManifest(i) != null) {
+        getManifest(i).moveFolder(folderPath, newFolderPath);
+      }
     }
   }
 
   @Override
   public void remove(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
-    for (NotebookRepo repo : repos) {
-      repo.remove(noteId, notePath, subject);
+    for (int i = 0; i < getRepoCount(); i++) {
+      if (getManifest(i) != null) {
+        getManifest(i).remove(noteId);
+      }
+      getRepo(i).remove(noteId, notePath, subject);
     }
     /* TODO(khalid): handle case when removing from secondary storage fails */
   }
 
   @Override
   public void remove(String folderPath, AuthenticationInfo subject) throws IOException {
-    for (NotebookRepo repo : repos) {
-      repo.remove(folderPath, subject);
+    for (int i = 0; i < getRepoCount(); i++) {
+      if (getManifest(i) != null) {
+        getManifest(i).removeFolder(folderPath);
+      }
+      getRepo(i).remove(folderPath, subject);
     }
   }
 
   void remove(int repoIndex, String noteId, String noteName, AuthenticationInfo subject) throws IOException {
+    if (getManifest(repoIndex) != null) {
+      getManifest(repoIndex).remove(noteId);
+    }
     getRepo(repoIndex).remove(noteId, noteName, subject);
   }
 
@@ -252,42 +327,51 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     List<NoteInfo> srcNotes = auth.filterByUser(allSrcNotes, subject);
     List<NoteInfo> dstNotes = new ArrayList<>(dstRepo.list(subject).values());
 
-    Map<String, List<NoteInfo>> noteIds = notesCheckDiff(srcNotes, srcRepo, dstNotes, dstRepo,
-        subject);
-    List<NoteInfo> pushNoteIds = noteIds.get(pushKey);
-    List<NoteInfo> pullNoteIds = noteIds.get(pullKey);
-    List<NoteInfo> delDstNoteIds = noteIds.get(delDstKey);
-
-    if (!pushNoteIds.isEmpty()) {
-      LOGGER.info("The following notes will be pushed");
-      for (NoteInfo noteInfo : pushNoteIds) {
-        LOGGER.info("Note : " + noteIds);
+    ExecutorService executor = Executors.newFixedThreadPool(syncConcurrency,
+        new SchedulerThreadFactory("NotebookRepoSync-"));
+    try {
+      Map<String, List<NoteInfo>> noteIds = notesCheckDiff(srcNotes, sourceRepoIndex, dstNotes,
+          destRepoIndex, subject, executor);
+      List<NoteInfo> pushNoteIds = noteIds.get(pushKey);
+      List<NoteInfo> pullNoteIds = noteIds.get(pullKey);
+      List<NoteInfo> delDstNoteIds = noteIds.get(delDstKey);
+
+      if (!pushNoteIds.isEmpty()) {
+        LOGGER.info("The following notes will be pushed");
+        for (NoteInfo noteInfo : pushNoteIds) {
+          LOGGER.info("Note : " + noteInfo);
+        }
+        pushNotes(subject, pushNoteIds, sourceRepoIndex, destRepoIndex, false, executor);
+      } else {
+        LOGGER.info("Nothing to push");
       }
-      pushNotes(subject, pushNoteIds, srcRepo, dstRepo, false);
-    } else {
-      LOGGER.info("Nothing to push");
-    }
 
-    if (!pullNoteIds.isEmpty()) {
-      LOGGER.info("The following notes will be pulled");
-      for (NoteInfo noteInfo : pullNoteIds) {
-        LOGGER.info("Note : " + noteInfo);
+      if (!pullNoteIds.isEmpty()) {
+        LOGGER.info("The following notes will be pulled");
+        for (NoteInfo noteInfo : pullNoteIds) {
+          LOGGER.info("Note : " + noteInfo);
+        }
+        pushNotes(subject, pullNoteIds, destRepoIndex, sourceRepoIndex, true, executor);
+      } else {
+        LOGGER.info("Nothing to pull");
       }
-      pushNotes(subject, pullNoteIds, dstRepo, srcRepo, true);
-    } else {
-      LOGGER.info("Nothing to pull");
-    }
 
-    if (!delDstNoteIds.isEmpty()) {
-      LOGGER.info("The following notes will be deleted from dest");
-      for (NoteInfo noteInfo : delDstNoteIds) {
-        LOGGER.info("Note : " + noteIds);
+      if (!delDstNoteIds.isEmpty()) {
+        LOGGER.info("The following notes will be deleted from dest");
+        for (NoteInfo noteInfo : delDstNoteIds) {
+          LOGGER.info("Note : " + noteInfo);
+        }
+        deleteNotes(subject, delDstNoteIds, destRepoIndex);
+      } else {
+        LOGGER.info("Nothing to delete from dest");
       }
-      deleteNotes(subject, delDstNoteIds, dstRepo);
-    } else {
-      LOGGER.info("Nothing to delete from dest");
+    } finally {
+      executor.shutdownNow();
     }
 
+    for (NoteManifest manifest : manifests) {
+      manifest.compact();
+    }
     LOGGER.info("Sync ended");
   }
 
@@ -295,20 +379,48 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     sync(0, 1, subject);
   }
 
-  private void pushNotes(AuthenticationInfo subject, List<NoteInfo> notesInfo, NotebookRepo localRepo,
-      NotebookRepo remoteRepo, boolean setPermissions) {
+  /**
+   * Copy the notes from local repo to remote repo, syncConcurrency notes at the same time.
+   */
+  private void pushNotes(AuthenticationInfo subject, List<NoteInfo> notesInfo,
+      int localRepoIndex, int remoteRepoIndex, boolean setPermissions, ExecutorService executor)
+      throws IOException {
+    NotebookRepo localRepo = getRepo(localRepoIndex);
+    List<Future<Boolean>> pushes = new ArrayList<>();
     for (NoteInfo noteInfo : notesInfo) {
-      try {
-        remoteRepo.save(localRepo.get(noteInfo.getId(), noteInfo.getPath(), subject), subject);
-        if (setPermissions && emptyNoteAcl(noteInfo.getId())) {
-          makePrivate(noteInfo.getId(), subject);
+      pushes.add(executor.submit(() -> {
+        try {
+          Note note = localRepo.get(noteInfo.getId(), noteInfo.getPath(), subject);
+          NoteManifest.Entry entry = save(remoteRepoIndex, note, noteInfo.getPath(), subject);
+          // the listing of this sync may not be the one of the local repo, so no version
+          getManifest(localRepoIndex).put(entry);
+          return true;
+        } catch (IOException e) {
+          LOGGER.error("Failed to push note to storage, moving onto next one", e);
+          return false;
         }
-      } catch (IOException e) {
-        LOGGER.error("Failed to push note to storage, moving onto next one", e);
+      }));
+    }
+    for (int i = 0; i < notesInfo.size(); i++) {
+      // NotebookAuthorization is updated in this thread only
+      String noteId = notesInfo.get(i).getId();
+      if (waitFor(pushes.get(i)) && setPermissions && emptyNoteAcl(noteId)) {
+        makePrivate(noteId, subject);
       }
     }
   }
 
+  private static <T> T waitFor(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Sync is interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
   private boolean emptyNoteAcl(String noteId) {
     NotebookAuthorization notebookAuthorization = NotebookAuthorization.getInstance();
     return notebookAuthorization.getOwners(noteId).isEmpty()
@@ -337,10 +449,10 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     notebookAuthorization.setWriters(noteId, users);
   }
 
-  private void deleteNotes(AuthenticationInfo subject, List<NoteInfo> noteInfos, NotebookRepo repo)
+  private void deleteNotes(AuthenticationInfo subject, List<NoteInfo> noteInfos, int repoIndex)
       throws IOException {
     for (NoteInfo noteInfo : noteInfos) {
-      repo.remove(noteInfo.getId(), noteInfo.getPath(), subject);
+      remove(repoIndex, noteInfo.getId(), noteInfo.getPath(), subject);
     }
   }
 
@@ -360,50 +472,71 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return repos.get(repoIndex);
   }
 
+  /**
+   * Find the notes to push, pull and delete, in O(n) of the number of notes. The notes in both
+   * repos are compared by the manifests, and only downloaded when a manifest doesn't have the
+   * note, e.g. it's written by another program.
+   */
   private Map<String, List<NoteInfo>> notesCheckDiff(List<NoteInfo> sourceNotes,
-      NotebookRepo sourceRepo, List<NoteInfo> destNotes, NotebookRepo destRepo,
-      AuthenticationInfo subject) {
+      int sourceRepoIndex, List<NoteInfo> destNotes, int destRepoIndex,
+      AuthenticationInfo subject, ExecutorService executor) throws IOException {
     List<NoteInfo> pushIDs = new ArrayList<>();
     List<NoteInfo> pullIDs = new ArrayList<>();
     List<NoteInfo> delDstIDs = new ArrayList<>();
 
-    NoteInfo dnote;
-    Date sdate, ddate;
-    for (NoteInfo snote : sourceNotes) {
-      dnote = containsID(destNotes, snote.getId());
-      if (dnote != null) {
-        try {
-          /* note exists in source and destination storage systems */
-          sdate = lastModificationDate(sourceRepo.get(snote.getId(), snote.getPath(), subject));
-          ddate = lastModificationDate(destRepo.get(dnote.getId(), dnote.getPath(), subject));
-        } catch (IOException e) {
-          LOGGER.error("Cannot access previously listed note {} from storage ", dnote.getId(), e);
-          continue;
-        }
+    Map<String, NoteInfo> sourceNotesById = new HashMap<>();
+    for (NoteInfo note : sourceNotes) {
+      sourceNotesById.put(note.getId(), note);
+    }
+    Map<String, NoteInfo> destNotesById = new HashMap<>();
+    for (NoteInfo note : destNotes) {
+      destNotesById.put(note.getId(), note);
+    }
 
-        if (sdate.compareTo(ddate) != 0) {
-          if (sdate.after(ddate) || oneWaySync) {
-            /* if source contains more up to date note - push
-             * if oneWaySync is enabled, always push no matter who's newer */
-            pushIDs.add(snote);
-            LOGGER.info("Modified note is added to push list : " + sdate);
-          } else {
-            /* destination contains more up to date note - pull */
-            LOGGER.info("Modified note is added to pull list : " + ddate);
-            pullIDs.add(snote);
-          }
-        }
-      } else {
+    List<NoteInfo> unknownNotes = new ArrayList<>();
+    List<Future<NoteManifest.Entry[]>> loads = new ArrayList<>();
+    for (NoteInfo snote : sourceNotes) {
+      NoteInfo dnote = destNotesById.get(snote.getId());
+      if (dnote == null) {
         /* note exists in source storage, and absent in destination
          * view source as up to date - push
          * (another scenario : note was deleted from destination - not considered)*/
         pushIDs.add(snote);
+        continue;
+      }
+      /* note exists in source and destination storage systems */
+      NoteManifest.Entry sentry = getManifestEntry(sourceRepoIndex, snote);
+      NoteManifest.Entry dentry = getManifestEntry(destRepoIndex, dnote);
+      if (sentry != null && dentry != null) {
+        checkDiff(snote, sentry, dentry, pushIDs, pullIDs);
+      } else {
+        unknownNotes.add(snote);
+        loads.add(executor.submit(() -> {
+          try {
+            return new NoteManifest.Entry[]{
+                sentry != null ? sentry : loadManifestEntry(sourceRepoIndex, snote, subject),
+                dentry != null ? dentry : loadManifestEntry(destRepoIndex, dnote, subject)};
+          } catch (IOException e) {
+            LOGGER.error("Cannot access previously listed note {} from storage ",
+                dnote.getId(), e);
+            return null;
+          }
+        }));
+      }
+    }
+    if (!unknownNotes.isEmpty()) {
+      LOGGER.info("{} notes are not in the manifests, compare their content",
+          unknownNotes.size());
+    }
+    for (int i = 0; i < unknownNotes.size(); i++) {
+      NoteManifest.Entry[] entries = waitFor(loads.get(i));
+      if (entries != null) {
+        checkDiff(unknownNotes.get(i), entries[0], entries[1], pushIDs, pullIDs);
       }
     }
 
     for (NoteInfo note : destNotes) {
-      dnote = containsID(sourceNotes, note.getId());
-      if (dnote == null) {
+      if (!sourceNotesById.containsKey(note.getId())) {
         /* note exists in destination storage, and absent in source */
         if (oneWaySync) {
           /* if oneWaySync is enabled, delete the note from destination */
@@ -424,14 +557,67 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return map;
   }
 
-  private NoteInfo containsID(List <NoteInfo> notes, String id) {
-    for (NoteInfo note : notes) {
-      if (note.getId().equals(id)) {
-        return note;
-      }
+  private void checkDiff(NoteInfo snote, NoteManifest.Entry sentry, NoteManifest.Entry dentry,
+                         List<NoteInfo> pushIDs, List<NoteInfo> pullIDs) {
+    if (sentry.hash.equals(dentry.hash) || sentry.mtime == dentry.mtime) {
+      return;
+    }
+    if (sentry.mtime > dentry.mtime || oneWaySync) {
+      /* if source contains more up to date note - push
+       * if oneWaySync is enabled, always push no matter who's newer */
+      pushIDs.add(snote);
+      LOGGER.info("Modified note is added to push list : " + new Date(sentry.mtime));
+    } else {
+      /* destination contains more up to date note - pull */
+      LOGGER.info("Modified note is added to pull list : " + new Date(dentry.mtime));
+      pullIDs.add(snote);
+    }
+  }
+
+  NoteManifest getManifest(int repoIndex) {
+    return manifests.isEmpty() ? null : manifests.get(repoIndex);
+  }
+
+  /**
+   * The entry of a note written by this class has no version yet, it takes the version of the
+   * first listing in which the note has the size that was written.
+   *
+   * @return manifest entry of the note, null if the manifest doesn't have the note at this path
+   * or the note in the repo listing is not the version recorded in the manifest
+   */
+  private NoteManifest.Entry getManifestEntry(int repoIndex, NoteInfo noteInfo) {
+    NoteManifest manifest = getManifest(repoIndex);
+    NoteManifest.Entry entry = manifest == null ? null : manifest.get(noteInfo.getId());
+    if (entry == null || !Objects.equals(entry.path, noteInfo.getPath())
+        || noteInfo.getVersion() == null) {
+      return null;
     }
-    return null;
+    if (entry.version == null && entry.size == noteInfo.getSize()) {
+      entry = entry.withVersion(noteInfo.getVersion());
+      manifest.put(entry);
+    }
+    return noteInfo.getVersion().equals(entry.version) ? entry : null;
   }
+
+  /**
+   * Download the note and record it in the manifest with the version of the listing.
+   */
+  private NoteManifest.Entry loadManifestEntry(int repoIndex, NoteInfo noteInfo,
+                                               AuthenticationInfo subject) throws IOException {
+    Note note = getRepo(repoIndex).get(noteInfo.getId(), noteInfo.getPath(), subject);
+    note.toJson();
+    NoteManifest.Entry entry = newManifestEntry(note, noteInfo.getPath(), note.getJsonDigest())
+        .withVersion(noteInfo.getVersion());
+    getManifest(repoIndex).put(entry);
+    return entry;
+  }
+
+  private NoteManifest.Entry newManifestEntry(Note note, String notePath,
+                                              Note.JsonDigest digest) {
+    return new NoteManifest.Entry(note.getId(), notePath, digest.getHash(), digest.getSize(),
+        lastModificationDate(note).getTime());
+  }
+
   /**
    * checks latest modification date based on Paragraph fields
    * @return -Date
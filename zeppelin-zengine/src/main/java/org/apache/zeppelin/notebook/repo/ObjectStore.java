@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal view of the blob storage behind S3, GCS, Azure or VFS notebook repos, it is what
+ * {@link ObjectStoreClient} needs to list and read notes concurrently.
+ *
+ * Keys are relative to the root folder of the notebook repo, and folders end with "/".
+ * Implementations must be thread safe.
+ */
+public interface ObjectStore {
+
+  /**
+   * List the objects and the folders right under the given folder, all the pages of the
+   * listing are read.
+   *
+   * @param folder "" for the root folder
+   */
+  Listing list(String folder) throws IOException;
+
+  /**
+   * Read the object.
+   *
+   * @param key
+   * @param etag ETag of the copy the caller already has, null if there's none
+   * @return null if the object still has the given ETag
+   * @throws IOException if the object doesn't exist or can not be read
+   */
+  StoredObject read(String key, String etag) throws IOException;
+
+  /**
+   * Direct children of a folder.
+   */
+  class Listing {
+    private final List<String> keys;
+    private final List<String> folders;
+    private final Map<String, ObjectInfo> infos;
+
+    public Listing(List<String> keys, List<String> folders) {
+      this(keys, folders, Collections.emptyMap());
+    }
+
+    /**
+     * @param infos key -> version and size of the object, as far as the listing tells them
+     */
+    public Listing(List<String> keys, List<String> folders, Map<String, ObjectInfo> infos) {
+      this.keys = keys;
+      this.folders = folders;
+      this.infos = infos;
+    }
+
+    public List<String> getKeys() {
+      return keys;
+    }
+
+    public List<String> getFolders() {
+      return folders;
+    }
+
+    /**
+     * @return null if the listing doesn't tell the version or size of the object
+     */
+    public ObjectInfo getInfo(String key) {
+      return infos.get(key);
+    }
+  }
+
+  /**
+   * Metadata of a listed object. The version changes whenever the object is written, e.g. it is
+   * the ETag of the object, and it is null if the storage has none.
+   */
+  class ObjectInfo {
+    private final String version;
+    private final long size;
+
+    public ObjectInfo(String version, long size) {
+      this.version = version;
+      this.size = size;
+    }
+
+    public String getVersion() {
+      return version;
+    }
+
+    public long getSize() {
+      return size;
+    }
+  }
+
+  /**
+   * Content of an object, etag is null if the storage has no validator for it.
+   */
+  class StoredObject {
+    private final String etag;
+    private final byte[] content;
+
+    public StoredObject(String etag, byte[] content) {
+      this.etag = etag;
+      this.content = content;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+  }
+}
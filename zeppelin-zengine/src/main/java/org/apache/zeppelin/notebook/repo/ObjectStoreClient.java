@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonParseException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lists and reads the notes of an {@link ObjectStore} with a bounded number of concurrent
+ * requests.
+ *
+ * Folders are listed in parallel instead of walking the tree one folder at a time, and a batch
+ * of notes is fetched in parallel instead of one round trip after another. The last read copy
+ * of the objects which have an ETag is cached up to maxCacheSize bytes, it is revalidated by a
+ * conditional read so that an unchanged note is not downloaded again.
+ *
+ * Notes are stored as the objects named by {@link NotebookRepo#buildNoteFileName}.
+ */
+public class ObjectStoreClient implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ObjectStoreClient.class);
+
+  private final ObjectStore store;
+  private final ThreadPoolExecutor executor;
+  private final long maxCacheSize;
+
+  // key -> last read copy in access order, guarded by itself
+  private final LinkedHashMap<String, ObjectStore.StoredObject> cache =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long cacheSize = 0;
+
+  private final AtomicLong reads = new AtomicLong();
+  private final AtomicLong notModifiedReads = new AtomicLong();
+
+  public ObjectStoreClient(ObjectStore store, ZeppelinConfiguration conf) {
+    this(store, conf.getNotebookObjectStoreConcurrency(), conf.getNotebookObjectStoreCacheSize());
+  }
+
+  public ObjectStoreClient(ObjectStore store, int concurrency, long maxCacheSize) {
+    this.store = store;
+    this.maxCacheSize = maxCacheSize;
+    int threads = Math.max(1, concurrency);
+    this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setNameFormat("ObjectStoreClient-%d")
+            .setDaemon(true)
+            .build());
+    // idle threads exit, so that a repo which is never closed doesn't hold them
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Keys of all the objects under the folder and its sub folders. Each folder is listed by one
+   * task, the sub folders found are listed in parallel.
+   *
+   * @param folder "" for the root folder
+   */
+  public List<String> listAll(String folder) throws IOException {
+    return new ArrayList<>(listAllInfos(folder).keySet());
+  }
+
+  /**
+   * Like {@link #listAll(String)}, with the metadata of the objects given by the listing.
+   *
+   * @return key -> metadata of the object, null if the listing has none
+   */
+  private Map<String, ObjectStore.ObjectInfo> listAllInfos(String folder) throws IOException {
+    Map<String, ObjectStore.ObjectInfo> keys = new LinkedHashMap<>();
+    CompletionService<ObjectStore.Listing> listings = new ExecutorCompletionService<>(executor);
+    List<Future<ObjectStore.Listing>> tasks = new ArrayList<>();
+    tasks.add(listings.submit(() -> store.list(folder)));
+    try {
+      for (int running = 1; running > 0; --running) {
+        ObjectStore.Listing listing = listings.take().get();
+        for (String key : listing.getKeys()) {
+          keys.put(key, listing.getInfo(key));
+        }
+        for (String subFolder : listing.getFolders()) {
+          tasks.add(listings.submit(() -> store.list(subFolder)));
+          ++running;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while listing " + folder, e);
+    } catch (ExecutionException e) {
+      throw toIOException(e);
+    } finally {
+      for (Future<ObjectStore.Listing> task : tasks) {
+        task.cancel(true);
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Read the object, the cached copy is returned if the object is not modified since.
+   */
+  public byte[] read(String key) throws IOException {
+    ObjectStore.StoredObject cached;
+    synchronized (cache) {
+      cached = cache.get(key);
+    }
+    reads.incrementAndGet();
+    ObjectStore.StoredObject object = store.read(key, cached == null ? null : cached.getEtag());
+    if (object == null) {
+      if (cached == null) {
+        throw new IOException("No content is returned for " + key);
+      }
+      notModifiedReads.incrementAndGet();
+      return cached.getContent();
+    }
+    cache(key, object);
+    return object.getContent();
+  }
+
+  /**
+   * Read the objects in parallel. The objects which can not be read are logged and left out.
+   *
+   * @return key -> content
+   */
+  public Map<String, byte[]> readAll(Collection<String> keys) throws IOException {
+    Map<String, Future<byte[]>> tasks = new LinkedHashMap<>();
+    for (String key : keys) {
+      tasks.put(key, executor.submit(() -> read(key)));
+    }
+    Map<String, byte[]> contents = new HashMap<>();
+    try {
+      for (Map.Entry<String, Future<byte[]>> task : tasks.entrySet()) {
+        try {
+          contents.put(task.getKey(), task.getValue().get());
+        } catch (ExecutionException e) {
+          LOGGER.warn("Fail to read " + task.getKey(), e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading " + keys.size() + " objects", e);
+    } finally {
+      for (Future<byte[]> task : tasks.values()) {
+        task.cancel(true);
+      }
+    }
+    return contents;
+  }
+
+  /**
+   * Infos of all the notes in the store, with the version and size of the note file when the
+   * listing has them.
+   */
+  public Map<String, NoteInfo> listNotes(NotebookRepo repo) throws IOException {
+    Map<String, NoteInfo> noteInfos = new HashMap<>();
+    for (Map.Entry<String, ObjectStore.ObjectInfo> object : listAllInfos("").entrySet()) {
+      String key = object.getKey();
+      if (!key.endsWith(".zpln")) {
+        LOGGER.debug("Skip invalid note file: " + key);
+        continue;
+      }
+      try {
+        String noteId = repo.getNoteId(key);
+        NoteInfo noteInfo = new NoteInfo(noteId, repo.getNotePath("", "/" + key));
+        if (object.getValue() != null) {
+          noteInfo.setVersion(object.getValue().getVersion());
+          noteInfo.setSize(object.getValue().getSize());
+        }
+        noteInfos.put(noteId, noteInfo);
+      } catch (IOException e) {
+        LOGGER.warn(e.getMessage());
+      }
+    }
+    return noteInfos;
+  }
+
+  public Note readNote(NotebookRepo repo, String noteId, String notePath, String encoding)
+      throws IOException {
+    String key = repo.buildNoteFileName(noteId, notePath);
+    return parseNote(key, notePath, read(key), encoding);
+  }
+
+  /**
+   * Read the notes in parallel, the notes which can not be read are logged and left out.
+   *
+   * @return noteId -> note
+   */
+  public Map<String, Note> readNotes(NotebookRepo repo, List<NoteInfo> noteInfos,
+                                     String encoding) throws IOException {
+    Map<String, NoteInfo> keys = new HashMap<>();
+    for (NoteInfo noteInfo : noteInfos) {
+      keys.put(repo.buildNoteFileName(noteInfo.getId(), noteInfo.getPath()), noteInfo);
+    }
+    Map<String, Note> notes = new HashMap<>();
+    for (Map.Entry<String, byte[]> content : readAll(keys.keySet()).entrySet()) {
+      NoteInfo noteInfo = keys.get(content.getKey());
+      try {
+        notes.put(noteInfo.getId(),
+            parseNote(content.getKey(), noteInfo.getPath(), content.getValue(), encoding));
+      } catch (IOException e) {
+        LOGGER.warn(e.getMessage());
+      }
+    }
+    return notes;
+  }
+
+  private Note parseNote(String key, String notePath, byte[] content, String encoding)
+      throws IOException {
+    try {
+      Note note = Note.fromJson(new String(content, encoding));
+      note.setPath(notePath);
+      return note;
+    } catch (JsonParseException e) {
+      throw new IOException("Could not parse note " + key + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Drop the cached copy, e.g. when the object is removed.
+   */
+  public void invalidate(String key) {
+    synchronized (cache) {
+      ObjectStore.StoredObject cached = cache.remove(key);
+      if (cached != null) {
+        cacheSize -= cached.getContent().length;
+      }
+    }
+  }
+
+  private void cache(String key, ObjectStore.StoredObject object) {
+    synchronized (cache) {
+      invalidate(key);
+      if (object.getEtag() == null || object.getContent().length > maxCacheSize) {
+        return;
+      }
+      cache.put(key, object);
+      cacheSize += object.getContent().length;
+      Iterator<ObjectStore.StoredObject> iter = cache.values().iterator();
+      while (cacheSize > maxCacheSize && iter.hasNext()) {
+        cacheSize -= iter.next().getContent().length;
+        iter.remove();
+      }
+    }
+  }
+
+  private IOException toIOException(ExecutionException e) {
+    if (e.getCause() instanceof IOException) {
+      return (IOException) e.getCause();
+    }
+    return new IOException(e.getCause());
+  }
+
+  public long getReadCount() {
+    return reads.get();
+  }
+
+  /**
+   * Number of reads answered by the cached copy.
+   */
+  public long getNotModifiedCount() {
+    return notModifiedReads.get();
+  }
+
+  public long getCacheSize() {
+    synchronized (cache) {
+      return cacheSize;
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -127,6 +127,12 @@ public class Message implements JsonSerializable {
     PARAGRAPH_CLEAR_ALL_OUTPUT,   // [c-s] clear output of all paragraphs
     PARAGRAPH_APPEND_OUTPUT,      // [s-c] append output
     PARAGRAPH_UPDATE_OUTPUT,      // [s-c] update (replace) output
+    PARAGRAPH_TABLE_ROWS,         // [s-c] number of rows of paged table output
+    GET_TABLE_RESULT_PAGE,        // [c-s] get rows of paged table output
+                                  // @param noteId, paragraphId, index, offset, limit
+    TABLE_RESULT_PAGE,            // [s-c] rows of paged table output
+    GET_PARAGRAPH_RESULT,         // [c-s] get output of paragraph which is kept out of the note
+                                  // @param noteId, paragraphId, index
     PING,
     AUTH_INFO,
 
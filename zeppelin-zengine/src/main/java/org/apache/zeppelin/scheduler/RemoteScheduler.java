@@ -22,18 +22,26 @@ import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
  * It is some kind of FIFOScheduler, but only run the next job after the current job is submitted
  * to remote.
+ *
+ * The interpreter process pushes the status transitions of its jobs via
+ * RemoteInterpreterEventServer, see {@link #onJobStatusUpdate(String, Status)}. Polling the
+ * status of the remote job is only kept as a low frequency heartbeat in case an event is lost.
  */
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
 
+  private static final long HEARTBEAT_INTERVAL_MS = 1000;
+
   private RemoteInterpreter remoteInterpreter;
   private ExecutorService executor;
+  private final ConcurrentHashMap<String, JobRunner> jobRunners = new ConcurrentHashMap<>();
 
   public RemoteScheduler(String name,
                          ExecutorService executor,
@@ -46,118 +54,49 @@ public class RemoteScheduler extends AbstractScheduler {
   @Override
   public void runJobInScheduler(Job job) {
     JobRunner jobRunner = new JobRunner(this, job);
+    jobRunners.put(job.getId(), jobRunner);
     executor.execute(jobRunner);
     // wait until it is submitted to the remote
-    while (!jobRunner.isJobSubmittedInRemote()) {
-      try {
-        Thread.sleep(500);
-      } catch (InterruptedException e) {
-        LOGGER.error("Exception in RemoteScheduler while jobRunner.isJobSubmittedInRemote " +
-            "queue.wait", e);
-      }
-    }
+    jobRunner.waitUntilSubmitted();
   }
 
   /**
-   * Role of the class is get status info from remote process from PENDING to
-   * RUNNING status.
+   * Called when the interpreter process reports a status transition of the job.
    */
-  private class JobStatusPoller extends Thread {
-    private long initialPeriodMsec;
-    private long initialPeriodCheckIntervalMsec;
-    private long checkIntervalMsec;
-    private volatile boolean terminate;
-    private JobListener listener;
-    private Job job;
-    volatile Status lastStatus;
-
-    public JobStatusPoller(long initialPeriodMsec,
-                           long initialPeriodCheckIntervalMsec, long checkIntervalMsec, Job job,
-                           JobListener listener) {
-      setName("JobStatusPoller-" + job.getId());
-      this.initialPeriodMsec = initialPeriodMsec;
-      this.initialPeriodCheckIntervalMsec = initialPeriodCheckIntervalMsec;
-      this.checkIntervalMsec = checkIntervalMsec;
-      this.job = job;
-      this.listener = listener;
-      this.terminate = false;
+  public void onJobStatusUpdate(String jobId, Status status) {
+    JobRunner jobRunner = jobRunners.get(jobId);
+    if (jobRunner == null) {
+      LOGGER.debug("Ignore status {} of job {} which is not running in {}", status, jobId,
+          getName());
+      return;
     }
+    jobRunner.onStatusChange(jobRunner.job, null, status);
+  }
 
-    @Override
-    public void run() {
-      long started = System.currentTimeMillis();
-      while (terminate == false) {
-        long current = System.currentTimeMillis();
-        long interval;
-        if (current - started < initialPeriodMsec) {
-          interval = initialPeriodCheckIntervalMsec;
-        } else {
-          interval = checkIntervalMsec;
-        }
-
-        synchronized (this) {
-          try {
-            this.wait(interval);
-          } catch (InterruptedException e) {
-            LOGGER.error("Exception in RemoteScheduler while run this.wait", e);
-          }
-        }
-
-        if (terminate) {
-          // terminated by shutdown
-          break;
-        }
-
-        Status newStatus = getStatus();
-        if (newStatus == Status.UNKNOWN) { // unknown
-          continue;
-        }
+  /**
+   * Fallback of the pushed status, get status info from remote process until the job is
+   * submitted.
+   */
+  private class JobStatusHeartbeat implements Runnable {
+    private final JobRunner jobRunner;
 
-        if (newStatus != Status.READY && newStatus != Status.PENDING) {
-          // we don't need more
-          break;
-        }
-      }
-      terminate = true;
+    JobStatusHeartbeat(JobRunner jobRunner) {
+      this.jobRunner = jobRunner;
     }
 
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
+    @Override
+    public void run() {
+      if (jobRunner.isJobSubmittedInRemote() || !remoteInterpreter.isOpened()) {
+        return;
       }
-    }
-
-
-    private Status getLastStatus() {
-      if (terminate == true) {
-        if (job.getErrorMessage() != null) {
-          return Status.ERROR;
-        } else if (lastStatus != Status.FINISHED &&
-            lastStatus != Status.ERROR &&
-            lastStatus != Status.ABORT) {
-          return Status.FINISHED;
-        } else {
-          return (lastStatus == null) ? Status.FINISHED : lastStatus;
+      try {
+        Status status = Status.valueOf(remoteInterpreter.getStatus(jobRunner.job.getId()));
+        if (status != Status.UNKNOWN) {
+          jobRunner.onStatusChange(jobRunner.job, null, status);
         }
-      } else {
-        return (lastStatus == null) ? Status.UNKNOWN : lastStatus;
-      }
-    }
-
-    public synchronized Status getStatus() {
-      if (!remoteInterpreter.isOpened()) {
-        return getLastStatus();
-      }
-      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
-      if (status == Status.UNKNOWN) {
-        // not found this job in the remote schedulers.
-        // maybe not submitted, maybe already finished
-        return job.getStatus();
+      } catch (RuntimeException e) {
+        LOGGER.warn("Fail to get status of job " + jobRunner.job.getId(), e);
       }
-      lastStatus = status;
-      listener.onStatusChange(job, null, status);
-      return status;
     }
   }
 
@@ -179,19 +118,34 @@ public class RemoteScheduler extends AbstractScheduler {
       return jobSubmittedRemotely;
     }
 
+    public synchronized void waitUntilSubmitted() {
+      while (!jobSubmittedRemotely) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          logger.error("Exception in RemoteScheduler while jobRunner.isJobSubmittedInRemote " +
+              "queue.wait", e);
+        }
+      }
+    }
+
+    private synchronized void markSubmitted() {
+      jobSubmittedRemotely = true;
+      notifyAll();
+    }
+
     @Override
     public void run() {
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(1500, 100, 500,
-          job, this);
-      jobStatusPoller.start();
-      scheduler.runJob(job);
-      jobExecuted = true;
-      jobSubmittedRemotely = true;
-      jobStatusPoller.shutdown();
+      // shared by all RemoteSchedulers, so that the number of threads does not grow with jobs
+      TimerWheel.Timeout heartbeat = TimerWheel.get().scheduleWithFixedDelay(
+          new JobStatusHeartbeat(this), HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS);
       try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
+        scheduler.runJob(job);
+      } finally {
+        heartbeat.cancel();
+        jobExecuted = true;
+        markSubmitted();
+        jobRunners.remove(job.getId(), this);
       }
     }
 
@@ -209,11 +163,11 @@ public class RemoteScheduler extends AbstractScheduler {
           // so not updating the remoteStatus
           return;
         } else if (after == Status.RUNNING) {
-          jobSubmittedRemotely = true;
           job.setStatus(Status.RUNNING);
+          markSubmitted();
         }
       } else {
-        jobSubmittedRemotely = true;
+        markSubmitted();
       }
 
       // only set status when it is RUNNING
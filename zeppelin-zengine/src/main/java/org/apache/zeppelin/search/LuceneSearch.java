@@ -19,28 +19,33 @@ package org.apache.zeppelin.search;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
-import org.apache.commons.io.FileUtils;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -49,6 +54,8 @@ import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -57,18 +64,25 @@ import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.apache.lucene.search.highlight.TextFragment;
 import org.apache.lucene.search.highlight.TokenSources;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.RAMDirectory;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Search (both, indexing and query) the notebooks using Lucene. Query is thread-safe, as creates
- * new IndexReader every time. Index is thread-safe, as re-uses single IndexWriter, which is
- * thread-safe.
+ * Search (both, indexing and query) the notebooks using Lucene. Query is thread-safe, it uses
+ * near-real-time searchers of the IndexWriter, refreshed by SearcherManager only when the index
+ * has changed. Index is thread-safe, as re-uses single IndexWriter, which is thread-safe.
+ *
+ * Changes are committed in the background every zeppelin.search.commit.interval ms rather than
+ * on every update. When zeppelin.search.use.disk is true the index is kept in
+ * zeppelin.search.temp.path across restarts, and only the notes whose fingerprint changed are
+ * re-indexed on startup.
  */
 public class LuceneSearch extends SearchService {
   private static final Logger logger = LoggerFactory.getLogger(LuceneSearch.class);
@@ -77,6 +91,11 @@ public class LuceneSearch extends SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   private static final String PARAGRAPH = "paragraph";
   private static final String ID_FIELD = "id";
+  // one doc per note storing the fingerprint of the indexed content, used to sync the index
+  private static final String FINGERPRINT = "fingerprint";
+  private static final String TYPE_FIELD = "type";
+  private static final String NOTE_ID_FIELD = "noteId";
+  private static final String INDEX_DIR_NAME = "zeppelin-search-index";
 
   private final ZeppelinConfiguration zeppelinConfiguration;
   private Directory directory;
@@ -84,6 +103,8 @@ public class LuceneSearch extends SearchService {
   private Analyzer analyzer;
   private IndexWriterConfig indexWriterConfig;
   private IndexWriter indexWriter;
+  private SearcherManager searcherManager;
+  private ScheduledExecutorService commitService;
 
   @Inject
   public LuceneSearch(ZeppelinConfiguration zeppelinConfiguration) {
@@ -92,12 +113,12 @@ public class LuceneSearch extends SearchService {
     if (zeppelinConfiguration.isZeppelinSearchUseDisk()) {
       try {
         this.directoryPath =
-            Files.createTempDirectory(
-                Paths.get(zeppelinConfiguration.getZeppelinSearchTempPath()), "zeppelin-search-");
+            Paths.get(zeppelinConfiguration.getZeppelinSearchTempPath(), INDEX_DIR_NAME);
+        Files.createDirectories(directoryPath);
         this.directory = new MMapDirectory(directoryPath);
       } catch (IOException e) {
         throw new RuntimeException(
-            "Failed to create temporary directory for search service. Use memory instead", e);
+            "Failed to create directory for search service. Use memory instead", e);
       }
     } else {
       this.directory = new RAMDirectory();
@@ -105,10 +126,40 @@ public class LuceneSearch extends SearchService {
     this.analyzer = new StandardAnalyzer();
     this.indexWriterConfig = new IndexWriterConfig(analyzer);
     try {
-      this.indexWriter = new IndexWriter(directory, indexWriterConfig);
+      try {
+        this.indexWriter = new IndexWriter(directory, indexWriterConfig);
+      } catch (LockObtainFailedException e) {
+        // another Zeppelin server uses the same zeppelin.search.temp.path
+        logger.warn("Search index {} is locked by another process, use memory instead",
+            directoryPath, e);
+        this.directory.close();
+        this.directory = new RAMDirectory();
+        this.indexWriterConfig = new IndexWriterConfig(analyzer);
+        this.indexWriter = new IndexWriter(directory, indexWriterConfig);
+      }
+      this.searcherManager = new SearcherManager(indexWriter, true, null);
     } catch (IOException e) {
       logger.error("Failed to create new IndexWriter", e);
     }
+
+    long commitInterval = zeppelinConfiguration.getZeppelinSearchCommitInterval();
+    this.commitService = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "LuceneSearch-Commit");
+      t.setDaemon(true);
+      return t;
+    });
+    commitService.scheduleWithFixedDelay(
+        this::commit, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+  }
+
+  private void commit() {
+    try {
+      if (indexWriter != null && indexWriter.hasUncommittedChanges()) {
+        indexWriter.commit();
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to commit the notebook index", e);
+    }
   }
 
   /* (non-Javadoc)
@@ -121,9 +172,11 @@ public class LuceneSearch extends SearchService {
           "Something went wrong on instance creation time, index dir is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(directory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
-      Analyzer analyzer = new StandardAnalyzer();
+    IndexSearcher indexSearcher = null;
+    try {
+      // no-op unless the index has changed since the last refresh
+      searcherManager.maybeRefreshBlocking();
+      indexSearcher = searcherManager.acquire();
       MultiFieldQueryParser parser =
           new MultiFieldQueryParser(new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE}, analyzer);
 
@@ -138,6 +191,14 @@ public class LuceneSearch extends SearchService {
       logger.error("Failed to open index dir {}, make sure indexing finished OK", directory, e);
     } catch (ParseException e) {
       logger.error("Failed to parse query " + queryStr, e);
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          logger.error("Failed to release searcher", e);
+        }
+      }
     }
     return result;
   }
@@ -211,6 +272,111 @@ public class LuceneSearch extends SearchService {
     for (Paragraph p : note.getParagraphs()) {
       updateIndexParagraph(note, p);
     }
+    updateFingerprint(note);
+  }
+
+  /**
+   * Fingerprint of the indexed content of the note.
+   */
+  static String fingerprint(Note note) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    putString(hasher, note.getName());
+    for (Paragraph p : note.getParagraphs()) {
+      putString(hasher, p.getId());
+      putString(hasher, p.getTitle());
+      putString(hasher, p.getText());
+    }
+    return hasher.hash().toString();
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+
+  private void updateFingerprint(Note note) throws IOException {
+    String id = Joiner.on('/').join(note.getId(), FINGERPRINT);
+    Document doc = new Document();
+    doc.add(new StringField(ID_FIELD, id, Field.Store.YES));
+    doc.add(new StringField(TYPE_FIELD, FINGERPRINT, Field.Store.NO));
+    doc.add(new StoredField(NOTE_ID_FIELD, note.getId()));
+    doc.add(new StoredField(FINGERPRINT, fingerprint(note)));
+    indexWriter.updateDocument(new Term(ID_FIELD, id), doc);
+  }
+
+  /**
+   * Fingerprints of all the indexed notes, noteId -> fingerprint.
+   */
+  private Map<String, String> getIndexedFingerprints() throws IOException {
+    Map<String, String> fingerprints = new HashMap<>();
+    searcherManager.maybeRefreshBlocking();
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      TermQuery query = new TermQuery(new Term(TYPE_FIELD, FINGERPRINT));
+      int maxDoc = Math.max(1, searcher.getIndexReader().maxDoc());
+      for (ScoreDoc hit : searcher.search(query, maxDoc).scoreDocs) {
+        Document doc = searcher.doc(hit.doc);
+        fingerprints.put(doc.get(NOTE_ID_FIELD), doc.get(FINGERPRINT));
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+    return fingerprints;
+  }
+
+  @Override
+  protected void syncIndexDocs(Collection<NoteInfo> noteInfos, NoteLoader noteLoader) {
+    Map<String, String> staleNotes;
+    try {
+      staleNotes = getIndexedFingerprints();
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to sync the notebook index", e);
+      return;
+    }
+    AtomicInteger docsIndexed = new AtomicInteger();
+    for (NoteInfo noteInfo : noteInfos) {
+      String indexed = staleNotes.remove(noteInfo.getId());
+      // load the notes one by one in later tasks, so that note events are handled in between
+      submitTask(() -> {
+        try {
+          Note note = noteLoader.load(noteInfo);
+          if (note != null && syncIndexDoc(note, indexed)) {
+            docsIndexed.incrementAndGet();
+          }
+        } catch (IOException | RuntimeException e) {
+          logger.warn("Failed to sync the index of note " + noteInfo.getId(), e);
+        }
+      });
+    }
+    for (String noteId : staleNotes.keySet()) {
+      deleteDoc(noteId, null);
+    }
+    long start = System.nanoTime();
+    int notesRemoved = staleNotes.size();
+    submitTask(() -> logger.info("Search index is synced, {} notes indexed, {} notes removed"
+        + " in {}ms", docsIndexed.get(), notesRemoved,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+  }
+
+  /**
+   * Re-index the note if its content is changed.
+   *
+   * @param indexedFingerprint fingerprint of the indexed content when the sync started, null if
+   *                           it was not indexed
+   * @return whether the note is re-indexed
+   */
+  boolean syncIndexDoc(Note note, String indexedFingerprint) throws IOException {
+    if (fingerprint(note).equals(indexedFingerprint)) {
+      return false;
+    }
+    // drop the docs of removed paragraphs, and the docs written by the note events handled
+    // since the sync started, which the fingerprint of the snapshot doesn't know about
+    deleteDoc(note.getId(), null);
+    addIndexDocAsync(note);
+    return true;
   }
 
   private void updateIndexNoteName(Note note) throws IOException {
@@ -246,7 +412,6 @@ public class LuceneSearch extends SearchService {
     Document doc = newDocument(id, noteName, p);
     try {
       indexWriter.updateDocument(new Term(ID_FIELD, id), doc);
-      indexWriter.commit();
     } catch (IOException e) {
       logger.error("Failed to updaet index of notebook {}", noteId, e);
     }
@@ -317,11 +482,8 @@ public class LuceneSearch extends SearchService {
     } catch (IOException e) {
       logger.error("Failed to index all Notebooks", e);
     } finally {
-      try { // save what's been indexed, even if not full collection
-        indexWriter.commit();
-      } catch (IOException e) {
-        logger.error("Failed to save index", e);
-      }
+      // save what's been indexed, even if not full collection
+      commit();
       long end = System.nanoTime();
       logger.info(
           "Indexing {} notebooks took {}ms",
@@ -337,7 +499,6 @@ public class LuceneSearch extends SearchService {
   public void addIndexDoc(Note note) {
     try {
       addIndexDocAsync(note);
-      indexWriter.commit();
     } catch (IOException e) {
       logger.error("Failed to add note {} to index", note, e);
     }
@@ -358,6 +519,7 @@ public class LuceneSearch extends SearchService {
       }
       indexDoc(indexWriter, note.getId(), note.getName(), doc);
     }
+    updateFingerprint(note);
   }
 
   /* (non-Javadoc)
@@ -382,7 +544,6 @@ public class LuceneSearch extends SearchService {
     logger.debug("Deleting note {}, out of: {}", noteId, indexWriter.numDocs());
     try {
       indexWriter.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      indexWriter.commit();
     } catch (IOException e) {
       logger.error("Failed to delete {} from index by '{}'", noteId, fullNoteOrJustParagraph, e);
     }
@@ -394,14 +555,18 @@ public class LuceneSearch extends SearchService {
    */
   @Override
   public void close() {
+    commitService.shutdown();
     try {
+      commitService.awaitTermination(10, TimeUnit.SECONDS);
+      searcherManager.close();
+      // commits the pending changes
       indexWriter.close();
-      if (zeppelinConfiguration.isZeppelinNotebookCronEnable() && null != directoryPath) {
-        FileUtils.deleteDirectory(directoryPath.toFile());
-      }
     } catch (IOException e) {
       logger.error("Failed to .close() the notebook index", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+    super.close();
   }
 
   /**
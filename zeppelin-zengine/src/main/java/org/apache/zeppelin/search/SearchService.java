@@ -20,10 +20,14 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteEventAsyncListener;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Search (both, indexing and query) the notes.
@@ -33,6 +37,7 @@ import org.apache.zeppelin.notebook.Paragraph;
  *  - remote Elasticsearch
  */
 public abstract class SearchService extends NoteEventAsyncListener {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SearchService.class);
 
   public SearchService(String name) {
     super(name);
@@ -84,6 +89,44 @@ public abstract class SearchService extends NoteEventAsyncListener {
    */
   public abstract void deleteIndexDoc(String noteId, Paragraph p);
 
+  /**
+   * Loads the content of a note for indexing, without keeping it in memory afterwards.
+   */
+  public interface NoteLoader {
+    Note load(NoteInfo noteInfo) throws IOException;
+  }
+
+  /**
+   * Brings the index up to date with the notes returned by the supplier: indexes the new and
+   * changed notes and removes the ones that do not exist anymore. It is done in the event
+   * handling thread, so it does not block the caller and keeps order with the note events.
+   * Notes are loaded one by one, in between the note events.
+   *
+   * @param noteInfos supplier of all the notes, called in the event handling thread
+   * @param noteLoader loads the content of one note
+   */
+  public void syncIndex(Supplier<Collection<NoteInfo>> noteInfos, NoteLoader noteLoader) {
+    submitTask(() -> syncIndexDocs(noteInfos.get(), noteLoader));
+  }
+
+  /**
+   * Synchronizes the index with the given notes, re-indexes all of them by default.
+   */
+  protected void syncIndexDocs(Collection<NoteInfo> noteInfos, NoteLoader noteLoader) {
+    for (NoteInfo noteInfo : noteInfos) {
+      submitTask(() -> {
+        try {
+          Note note = noteLoader.load(noteInfo);
+          if (note != null) {
+            updateIndexDoc(note);
+          }
+        } catch (IOException e) {
+          LOGGER.warn("Fail to index note " + noteInfo.getId(), e);
+        }
+      });
+    }
+  }
+
   /**
    * Frees the recourses used by index
    */
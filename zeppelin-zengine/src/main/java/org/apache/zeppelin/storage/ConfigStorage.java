@@ -31,6 +31,8 @@ import org.apache.zeppelin.user.CredentialsInfoSaving;
 import org.apache.zeppelin.util.ReflectionUtils;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Interface for storing zeppelin configuration.
@@ -76,6 +78,26 @@ public abstract class ConfigStorage {
 
   public abstract NotebookAuthorizationInfoSaving loadNotebookAuthorization() throws IOException;
 
+  /**
+   * Append records to the journal of notebook authorization, which keeps the changes made after
+   * notebook authorization is saved.
+   *
+   * @return false if journal is not supported, then the whole notebook authorization is saved
+   */
+  public boolean appendNotebookAuthorizationJournal(List<String> records) throws IOException {
+    return false;
+  }
+
+  public List<String> loadNotebookAuthorizationJournal() throws IOException {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Called after the whole notebook authorization is saved, the journal is not needed anymore.
+   */
+  public void clearNotebookAuthorizationJournal() throws IOException {
+  }
+
   public abstract String loadCredentials() throws IOException;
 
   public abstract void saveCredentials(String credentials) throws IOException;
@@ -32,6 +32,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * It could be used either local file system or hadoop distributed file system,
@@ -45,6 +49,7 @@ public class FileSystemConfigStorage extends ConfigStorage {
   private FileSystemStorage fs;
   private Path interpreterSettingPath;
   private Path authorizationPath;
+  private Path authorizationJournalPath;
   private Path credentialPath;
 
   public FileSystemConfigStorage(ZeppelinConfiguration zConf) throws IOException {
@@ -57,6 +62,8 @@ public class FileSystemConfigStorage extends ConfigStorage {
     LOGGER.info("Using folder {} to store Zeppelin Config", configPath);
     this.interpreterSettingPath = fs.makeQualified(new Path(zConf.getInterpreterSettingPath()));
     this.authorizationPath = fs.makeQualified(new Path(zConf.getNotebookAuthorizationPath()));
+    this.authorizationJournalPath =
+        fs.makeQualified(new Path(zConf.getNotebookAuthorizationPath() + ".journal"));
     this.credentialPath = fs.makeQualified(new Path(zConf.getCredentialsPath()));
   }
 
@@ -93,6 +100,41 @@ public class FileSystemConfigStorage extends ConfigStorage {
     return NotebookAuthorizationInfoSaving.fromJson(json);
   }
 
+  @Override
+  public boolean appendNotebookAuthorizationJournal(List<String> records) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    for (String record : records) {
+      builder.append(record).append('\n');
+    }
+    byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+    if (!fs.exists(authorizationJournalPath)) {
+      fs.writeBytes(bytes, authorizationJournalPath);
+      return true;
+    }
+    try {
+      fs.appendBytes(bytes, authorizationJournalPath);
+      return true;
+    } catch (UnsupportedOperationException e) {
+      LOGGER.warn("FileSystem doesn't support append, notebook authorization journal is disabled");
+      return false;
+    }
+  }
+
+  @Override
+  public List<String> loadNotebookAuthorizationJournal() throws IOException {
+    if (!fs.exists(authorizationJournalPath)) {
+      return new ArrayList<>();
+    }
+    LOGGER.info("Load notebook authorization journal from file: " + authorizationJournalPath);
+    String journal = new String(fs.readBytes(authorizationJournalPath), StandardCharsets.UTF_8);
+    return new ArrayList<>(Arrays.asList(journal.split("\n")));
+  }
+
+  @Override
+  public void clearNotebookAuthorizationJournal() throws IOException {
+    fs.delete(authorizationJournalPath);
+  }
+
   @Override
   public String loadCredentials() throws IOException {
     if (!fs.exists(credentialPath)) {
@@ -28,11 +28,16 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.FileSystems;
 import java.nio.file.FileSystem;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Storing config in local file system
@@ -43,12 +48,14 @@ public class LocalConfigStorage extends ConfigStorage {
 
   private File interpreterSettingPath;
   private File authorizationPath;
+  private File authorizationJournalPath;
   private File credentialPath;
 
   public LocalConfigStorage(ZeppelinConfiguration zConf) {
     super(zConf);
     this.interpreterSettingPath = new File(zConf.getInterpreterSettingPath());
     this.authorizationPath = new File(zConf.getNotebookAuthorizationPath());
+    this.authorizationJournalPath = new File(zConf.getNotebookAuthorizationPath() + ".journal");
     this.credentialPath = new File(zConf.getCredentialsPath());
   }
 
@@ -86,6 +93,30 @@ public class LocalConfigStorage extends ConfigStorage {
     return NotebookAuthorizationInfoSaving.fromJson(json);
   }
 
+  @Override
+  public boolean appendNotebookAuthorizationJournal(List<String> records) throws IOException {
+    Files.write(authorizationJournalPath.toPath(), records, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    return true;
+  }
+
+  @Override
+  public List<String> loadNotebookAuthorizationJournal() throws IOException {
+    if (!authorizationJournalPath.exists()) {
+      return new ArrayList<>();
+    }
+    LOGGER.info("Load notebook authorization journal from file: " + authorizationJournalPath);
+    // not readAllLines, the last record may be written partially
+    String journal = new String(Files.readAllBytes(authorizationJournalPath.toPath()),
+        StandardCharsets.UTF_8);
+    return new ArrayList<>(Arrays.asList(journal.split("\n")));
+  }
+
+  @Override
+  public void clearNotebookAuthorizationJournal() throws IOException {
+    Files.deleteIfExists(authorizationJournalPath.toPath());
+  }
+
   @Override
   public String loadCredentials() throws IOException {
     if (!credentialPath.exists()) {
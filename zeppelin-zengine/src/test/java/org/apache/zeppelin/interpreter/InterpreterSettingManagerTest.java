@@ -52,11 +52,13 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals("test", interpreterSetting.getGroup());
     assertTrue(interpreterSetting.getLifecycleManager() instanceof NullLifecycleManager);
     assertEquals(8, interpreterSetting.getInterpreterInfos().size());
-    // 3 other builtin properties:
+    // 5 other builtin properties:
     //   * zeppelin.interpreter.output.limit
+    //   * zeppelin.interpreter.output.table.preview.rows
+    //   * zeppelin.interpreter.resource.codec
     //   * zeppelin.interpreter.localRepo
     //   * zeppelin.interpreter.max.poolsize
-    assertEquals(6, interpreterSetting.getJavaProperties().size());
+    assertEquals(8, interpreterSetting.getJavaProperties().size());
     assertEquals("value_1", interpreterSetting.getJavaProperties().getProperty("property_1"));
     assertEquals("new_value_2", interpreterSetting.getJavaProperties().getProperty("property_2"));
     assertEquals("value_3", interpreterSetting.getJavaProperties().getProperty("property_3"));
@@ -81,7 +83,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals("test", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
     assertEquals(8, interpreterSetting.getInterpreterInfos().size());
-    assertEquals(6, interpreterSetting.getJavaProperties().size());
+    assertEquals(8, interpreterSetting.getJavaProperties().size());
     assertEquals("value_1", interpreterSetting.getJavaProperties().getProperty("property_1"));
     assertEquals("new_value_2", interpreterSetting.getJavaProperties().getProperty("property_2"));
     assertEquals("value_3", interpreterSetting.getJavaProperties().getProperty("property_3"));
@@ -116,11 +118,13 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     InterpreterSetting interpreterSetting = interpreterSettingManager.getByName("test3");
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    // 3 other builtin properties:
+    // 5 other builtin properties:
     //   * zeppelin.interpeter.output.limit
+    //   * zeppelin.interpreter.output.table.preview.rows
+    //   * zeppelin.interpreter.resource.codec
     //   * zeppelin.interpreter.localRepo
     //   * zeppelin.interpreter.max.poolsize
-    assertEquals(4, interpreterSetting.getJavaProperties().size());
+    assertEquals(6, interpreterSetting.getJavaProperties().size());
     assertEquals("value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("scoped", interpreterSetting.getOption().perUser);
@@ -138,7 +142,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     interpreterSetting = interpreterSettingManager2.getByName("test3");
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    assertEquals(6, interpreterSetting.getJavaProperties().size());
+    assertEquals(8, interpreterSetting.getJavaProperties().size());
     assertEquals("value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("scoped", interpreterSetting.getOption().perUser);
@@ -156,7 +160,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     interpreterSetting = interpreterSettingManager.get(interpreterSetting.getId());
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    assertEquals(4, interpreterSetting.getJavaProperties().size());
+    assertEquals(6, interpreterSetting.getJavaProperties().size());
     assertEquals("new_value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("isolated", interpreterSetting.getOption().perUser);
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.RemoteResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResourceDirectoryTest {
+
+  private ResourceDirectory directory;
+  private LocalResourcePool pool1;
+  private LocalResourcePool pool2;
+
+  @Before
+  public void setUp() {
+    directory = new ResourceDirectory();
+    pool1 = new LocalResourcePool("pool1");
+    pool2 = new LocalResourcePool("pool2");
+  }
+
+  @Test
+  public void testGetByName() {
+    pool1.put("key1", "value1");
+    pool2.put("key1", "value2");
+    pool2.put("key2", "value3");
+    directory.put(pool1.get("key1").toJson());
+    directory.put(pool2.get("key1").toJson());
+    directory.put(pool2.get("key2").toJson());
+
+    assertEquals(2, directory.get("key1", "pool3").size());
+    List<String> resources = directory.get("key1", "pool1");
+    assertEquals(1, resources.size());
+    assertEquals("pool2",
+        RemoteResource.fromJson(resources.get(0)).getResourceId().getResourcePoolId());
+    assertEquals(0, directory.get("key3", "pool1").size());
+
+    directory.remove(pool2.get("key1").getResourceId());
+    assertEquals(0, directory.get("key1", "pool1").size());
+  }
+
+  @Test
+  public void testGetByParagraph() {
+    pool1.put("note1", "paragraph1", "key1", "value1");
+    pool1.put("note1", "paragraph2", "key1", "value2");
+    pool1.put("key1", "value3");
+    directory.put(pool1.get("note1", "paragraph1", "key1").toJson());
+    directory.put(pool1.get("note1", "paragraph2", "key1").toJson());
+    directory.put(pool1.get("key1").toJson());
+
+    assertEquals(3, directory.get("key1", "pool2").size());
+    assertEquals(1, directory.get("note1", "paragraph1", "key1", "pool2").size());
+    assertEquals(1, directory.get(null, null, "key1", "pool2").size());
+    assertEquals(0, directory.get("note2", "paragraph1", "key1", "pool2").size());
+  }
+
+  @Test
+  public void testRemoveResourcePool() {
+    pool1.put("key1", "value1");
+    pool2.put("key1", "value2");
+    directory.put(pool1.get("key1").toJson());
+    directory.put(pool2.get("key1").toJson());
+
+    directory.removeResourcePool("pool1");
+    List<String> resources = directory.get("key1", "pool3");
+    assertEquals(1, resources.size());
+    assertEquals("pool2",
+        RemoteResource.fromJson(resources.get(0)).getResourceId().getResourcePoolId());
+  }
+}
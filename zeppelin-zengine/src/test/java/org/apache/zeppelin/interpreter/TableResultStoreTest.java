@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TableResultStoreTest {
+
+  private TableResultStore store;
+
+  @After
+  public void tearDown() {
+    if (store != null) {
+      store.close();
+    }
+  }
+
+  private void appendRows(int from, int to) throws IOException {
+    StringBuilder rows = new StringBuilder();
+    for (int i = from; i < to; i++) {
+      rows.append("row").append(i).append('\t').append(i).append('\n');
+    }
+    store.append("note1", "paragraph1", 0, rows.toString());
+  }
+
+  @Test
+  public void testPages() throws IOException {
+    store = new TableResultStore(1024 * 1024);
+    // header and rows split at arbitrary points
+    store.append("note1", "paragraph1", 0, "key\tval");
+    store.append("note1", "paragraph1", 0, "ue\nrow0\t");
+    assertEquals(1, store.append("note1", "paragraph1", 0, "0\n"));
+    appendRows(1, 3000);
+
+    TableResultStore.Page page = store.getPage("note1", "paragraph1", 0, 0, 2);
+    assertEquals("key\tvalue", page.getHeader());
+    assertEquals("row0\t0\nrow1\t1\n", page.getRows());
+    assertEquals(3000, page.getTotalRows());
+
+    page = store.getPage("note1", "paragraph1", 0, 2047, 3);
+    assertEquals("row2047\t2047\nrow2048\t2048\nrow2049\t2049\n", page.getRows());
+
+    // last page is shorter
+    page = store.getPage("note1", "paragraph1", 0, 2998, 10);
+    assertEquals("row2998\t2998\nrow2999\t2999\n", page.getRows());
+    assertEquals("", store.getPage("note1", "paragraph1", 0, 3000, 10).getRows());
+
+    assertNull(store.getPage("note1", "paragraph1", 1, 0, 10));
+  }
+
+  @Test
+  public void testSpill() throws IOException {
+    // spill to file after a few rows
+    store = new TableResultStore(100);
+    store.append("note1", "paragraph1", 0, "key\tvalue\n");
+    appendRows(0, 5000);
+
+    TableResultStore.Page page = store.getPage("note1", "paragraph1", 0, 4095, 2);
+    assertEquals("row4095\t4095\nrow4096\t4096\n", page.getRows());
+    assertEquals(5000, page.getTotalRows());
+
+    // rows appended after reading a page
+    appendRows(5000, 5001);
+    assertEquals("row5000\t5000\n",
+        store.getPage("note1", "paragraph1", 0, 5000, 1).getRows());
+  }
+
+  @Test
+  public void testRemove() throws IOException {
+    store = new TableResultStore(100);
+    store.append("note1", "paragraph1", 0, "a\nb\n");
+    store.append("note1", "paragraph1", 1, "a\nb\n");
+    store.append("note1", "paragraph2", 0, "a\nb\n");
+    store.append("note2", "paragraph3", 0, "a\nb\n");
+    assertEquals(4, store.size());
+
+    store.remove("note1", "paragraph1", 1);
+    assertEquals(3, store.size());
+    store.remove("note1", "paragraph1");
+    assertEquals(2, store.size());
+    store.remove("note1", null);
+    assertEquals(1, store.size());
+    assertEquals(1, store.getPage("note2", "paragraph3", 0, 0, 1).getTotalRows());
+  }
+}
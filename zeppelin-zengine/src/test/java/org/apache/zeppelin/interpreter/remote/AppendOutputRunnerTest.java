@@ -27,12 +27,14 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -143,22 +145,69 @@ public class AppendOutputRunnerTest {
     runner.run();
     List<LoggingEvent> log;
 
-    int warnLogCounter;
-    LoggingEvent sizeWarnLogEntry = null;
-    do {
-      warnLogCounter = 0;
-      log = appender.getLog();
-      for (LoggingEvent logEntry: log) {
-        if (Level.WARN.equals(logEntry.getLevel())) {
-          sizeWarnLogEntry = logEntry;
-          warnLogCounter += 1;
-        }
-      }
-    } while(warnLogCounter != 2);
-
     String loggerString = "Processing size for buffered append-output is high: " +
         (data.length() * numEvents) + " characters.";
-    assertTrue(loggerString.equals(sizeWarnLogEntry.getMessage()));
+    boolean sizeWarnLogged = false;
+    log = appender.getLog();
+    for (LoggingEvent logEntry: log) {
+      if (Level.WARN.equals(logEntry.getLevel())
+          && loggerString.equals(logEntry.getMessage())) {
+        sizeWarnLogged = true;
+      }
+    }
+    assertTrue(sizeWarnLogged);
+  }
+
+  @Test
+  public void testFlushWhenPendingSizeExceeded() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 10);
+
+    runner.appendBuffer("note", "para", 0, "12345");
+    verify(listener, never()).onOutputAppend(any(String.class), any(String.class), anyInt(),
+        any(String.class));
+    assertEquals(5, runner.getPendingSize());
+
+    // the appending thread flushes by itself when the buffer is full
+    runner.appendBuffer("note", "para", 0, "67890");
+    verify(listener, times(1)).onOutputAppend("note", "para", 0, "1234567890");
+    assertEquals(0, runner.getPendingSize());
+  }
+
+  @Test
+  public void testAdaptiveFlushInterval() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    assertEquals(0, runner.getFlushInterval());
+
+    // sparse output keeps to be sent on every tick
+    runner.appendBuffer("note", "para", 0, "data\n");
+    runner.run();
+    assertEquals(0, runner.getFlushInterval());
+    runner.appendBuffer("note", "para", 0, "data\n");
+    runner.run();
+    verify(listener, times(2)).onOutputAppend("note", "para", 0, "data\n");
+
+    // heavy output is batched
+    char[] chars = new char[10 * 1024];
+    Arrays.fill(chars, 'a');
+    String heavy = new String(chars);
+    for (int i = 0; i < 5; i++) {
+      runner.appendBuffer("note", "para", 0, heavy);
+      runner.flush();
+    }
+    assertEquals(AppendOutputRunner.BUFFER_TIME_MS, runner.getFlushInterval());
+    runner.appendBuffer("note", "para", 0, "data\n");
+    runner.run();
+    // not sent yet, flushed less than BUFFER_TIME_MS ago
+    assertEquals(5, runner.getPendingSize());
+
+    // and the interval shrinks when the output becomes sparse again
+    for (int i = 0; i < 5; i++) {
+      runner.flush();
+      runner.appendBuffer("note", "para", 0, "data\n");
+    }
+    assertEquals(0, runner.getFlushInterval());
   }
 
   private class BombardEvents implements Runnable {
@@ -368,6 +368,44 @@ public class RemoteInterpreterTest extends AbstractInterpreterTest {
     assertEquals("null", interpreter1.interpret("getProperty not_existed_property", context1).message().get(0).getData());
   }
 
+  @Test
+  public void testProcessPool() throws InterpreterException, InterruptedException {
+    interpreterSetting.getOption().setPerNote(InterpreterOption.ISOLATED);
+    interpreterSetting.setProperty("zeppelin.interpreter.process.pool.size", "1");
+    // start the pooled process
+    interpreterSettingManager.restart(interpreterSetting.getId());
+    waitForIdleInterpreterProcesses(1);
+
+    RemoteInterpreter interpreter1 =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
+    InterpreterContext context = createDummyInterpreterContext();
+    assertEquals("hello", interpreter1.interpret("hello", context).message().get(0).getData());
+    assertEquals(1, interpreterSettingManager.getInterpreterProcessPoolHits());
+    assertEquals(0, interpreterSettingManager.getInterpreterProcessPoolMisses());
+
+    // the pool starts another process in the background
+    waitForIdleInterpreterProcesses(1);
+    RemoteInterpreter interpreter2 =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note2");
+    assertEquals("hello", interpreter2.interpret("hello", context).message().get(0).getData());
+    assertEquals(2, interpreterSettingManager.getInterpreterProcessPoolHits());
+    assertNotEquals(interpreter1.getInterpreterGroup().getRemoteInterpreterProcess(),
+        interpreter2.getInterpreterGroup().getRemoteInterpreterProcess());
+
+    interpreter1.getInterpreterGroup().close(interpreter1.getSessionId());
+    interpreter2.getInterpreterGroup().close(interpreter2.getSessionId());
+  }
+
+  private void waitForIdleInterpreterProcesses(int expected) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (interpreterSettingManager.getIdleInterpreterProcesses() < expected) {
+      if (System.currentTimeMillis() - start > 60 * 1000) {
+        fail("Pooled interpreter process is not started");
+      }
+      Thread.sleep(100);
+    }
+  }
+
   @Test
   public void testConvertDynamicForms() throws InterpreterException {
     GUI gui = new GUI();
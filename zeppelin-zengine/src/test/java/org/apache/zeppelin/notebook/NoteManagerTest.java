@@ -6,9 +6,17 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class NoteManagerTest {
   private NoteManager noteManager;
@@ -60,6 +68,184 @@ public class NoteManagerTest {
     assertEquals(0, notesInfo.size());
   }
 
+  @Test
+  public void testListNotesSortedByPath() throws IOException {
+    Note note1 = createNote("/prod/my_note1");
+    Note note2 = createNote("/dev/project_2/my_note2");
+    Note note3 = createNote("/dev/project_3/my_note3");
+    this.noteManager.saveNote(note1);
+    this.noteManager.saveNote(note2);
+    this.noteManager.saveNote(note3);
+
+    List<NoteInfo> notesInfo = this.noteManager.getNotesInfo(noteId -> true);
+    assertEquals(3, notesInfo.size());
+    assertEquals("/dev/project_2/my_note2", notesInfo.get(0).getPath());
+    assertEquals("/dev/project_3/my_note3", notesInfo.get(1).getPath());
+    assertEquals("/prod/my_note1", notesInfo.get(2).getPath());
+
+    // filter by noteId
+    notesInfo = this.noteManager.getNotesInfo(noteId -> !noteId.equals(note2.getId()));
+    assertEquals(2, notesInfo.size());
+    assertEquals(note3.getId(), notesInfo.get(0).getId());
+    assertEquals(note1.getId(), notesInfo.get(1).getId());
+
+    // order is kept after moving note and folder
+    this.noteManager.moveNote(note1.getId(), "/dev/project_1/my_note1",
+        AuthenticationInfo.ANONYMOUS);
+    this.noteManager.moveFolder("/dev/project_3", "/alpha", AuthenticationInfo.ANONYMOUS);
+    notesInfo = this.noteManager.getNotesInfo(noteId -> true);
+    assertEquals(3, notesInfo.size());
+    assertEquals("/alpha/my_note3", notesInfo.get(0).getPath());
+    assertEquals("/dev/project_1/my_note1", notesInfo.get(1).getPath());
+    assertEquals("/dev/project_2/my_note2", notesInfo.get(2).getPath());
+
+    List<Note> notes = this.noteManager.getNotes(noteId -> !noteId.equals(note2.getId()));
+    assertEquals(2, notes.size());
+    assertEquals(note3, notes.get(0));
+    assertEquals(note1, notes.get(1));
+
+    this.noteManager.removeNote(note3.getId(), AuthenticationInfo.ANONYMOUS);
+    notesInfo = this.noteManager.getNotesInfo(noteId -> true);
+    assertEquals(2, notesInfo.size());
+    assertEquals(note1.getId(), notesInfo.get(0).getId());
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedNotes() throws IOException {
+    Note note1 = createNote("/note1");
+    Note note2 = createNote("/note2");
+    Note note3 = createNote("/note3");
+    // room for 2 notes
+    long noteSize = note1.toJson().getBytes("UTF-8").length;
+    InMemoryNotebookRepo notebookRepo = new InMemoryNotebookRepo() {
+      @Override
+      public void save(Note note, AuthenticationInfo subject) throws IOException {
+        // serialize the note like a real NotebookRepo
+        note.toJson();
+        super.save(note, subject);
+      }
+    };
+    this.noteManager = new NoteManager(notebookRepo, noteSize * 2 + noteSize / 2, 0);
+    this.noteManager.saveNote(note1);
+    this.noteManager.saveNote(note2);
+    assertEquals(2, this.noteManager.getLoadedNotesCount());
+
+    // note1 is the most recently used, note2 is evicted
+    this.noteManager.getNote(note1.getId());
+    this.noteManager.saveNote(note3);
+    NoteCacheStats stats = this.noteManager.getCacheStats();
+    assertEquals(2, this.noteManager.getLoadedNotesCount());
+    assertEquals(1, stats.getEvictions());
+    assertEquals(1, stats.getHits());
+    assertEquals(0, stats.getMisses());
+
+    // note2 is loaded again, note1 is evicted. note2 is still referenced here, so it is the same
+    // instance and changes made to it while it was released are kept
+    note2.getConfig().put("looknfeel", "simple");
+    assertSame(note2, this.noteManager.getNote(note2.getId()));
+    assertEquals("simple", note2.getConfig().get("looknfeel"));
+    assertEquals(1, stats.getMisses());
+    assertEquals(2, stats.getEvictions());
+
+    // pinned notes are kept in memory
+    this.noteManager.setNotePinned(noteId -> noteId.equals(note3.getId()));
+    this.noteManager.getNote(note1.getId());
+    assertEquals(2, stats.getMisses());
+    assertEquals(3, stats.getEvictions());
+    this.noteManager.getNote(note3.getId());
+    assertEquals(2, stats.getMisses());
+
+    // the metadata of evicted notes is kept
+    assertEquals(3, this.noteManager.getNotesInfo().size());
+    assertTrue(this.noteManager.containsNote("/note2"));
+    this.noteManager.removeNote(note1.getId(), AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, this.noteManager.getLoadedNotesCount());
+    assertFalse(this.noteManager.containsNote("/note1"));
+  }
+
+  @Test
+  public void testFetchUnloadedNotesInBatch() throws IOException {
+    AtomicInteger singleGets = new AtomicInteger();
+    List<Integer> batchGets = new ArrayList<>();
+    InMemoryNotebookRepo notebookRepo = new InMemoryNotebookRepo() {
+      @Override
+      public Note get(String noteId, String notePath, AuthenticationInfo subject)
+          throws IOException {
+        singleGets.incrementAndGet();
+        return super.get(noteId, notePath, subject);
+      }
+
+      @Override
+      public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject) {
+        batchGets.add(noteInfos.size());
+        Map<String, Note> notes = new HashMap<>();
+        for (NoteInfo noteInfo : noteInfos) {
+          notes.put(noteInfo.getId(), createNote(noteInfo.getPath()));
+        }
+        return notes;
+      }
+    };
+    Note note1 = createNote("/note1");
+    Note note2 = createNote("/dev/note2");
+    Note note3 = createNote("/dev/note3");
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    notebookRepo.save(note2, AuthenticationInfo.ANONYMOUS);
+    notebookRepo.save(note3, AuthenticationInfo.ANONYMOUS);
+    this.noteManager = new NoteManager(notebookRepo);
+
+    // note1 is loaded alone
+    this.noteManager.getNote(note1.getId());
+    assertEquals(1, singleGets.get());
+
+    // note2 and note3 are fetched in one batch
+    List<Note> notes = this.noteManager.getAllNotes();
+    assertEquals(3, notes.size());
+    assertEquals("/dev/note2", notes.get(0).getPath());
+    assertEquals(Arrays.asList(2), batchGets);
+    assertEquals(1, singleGets.get());
+    NoteCacheStats stats = this.noteManager.getCacheStats();
+    assertEquals(3, stats.getMisses());
+    assertEquals(1, stats.getHits());
+
+    // all notes are loaded, nothing to fetch
+    this.noteManager.getAllNotes();
+    assertEquals(Arrays.asList(2), batchGets);
+    assertEquals(4, stats.getHits());
+  }
+
+  @Test
+  public void testMoveNoteWithPendingSave() throws IOException {
+    List<String> repoOps = new ArrayList<>();
+    InMemoryNotebookRepo notebookRepo = new InMemoryNotebookRepo() {
+      @Override
+      public void save(Note note, AuthenticationInfo subject) throws IOException {
+        repoOps.add("save " + note.getPath());
+        super.save(note, subject);
+      }
+
+      @Override
+      public void move(String noteId, String notePath, String newNotePath,
+                       AuthenticationInfo subject) {
+        repoOps.add("move " + notePath + " " + newNotePath);
+        super.move(noteId, notePath, newNotePath, subject);
+      }
+    };
+    this.noteManager = new NoteManager(notebookRepo, -1, 60 * 1000);
+    Note note1 = createNote("/note1");
+    this.noteManager.saveNote(note1);
+    assertTrue(repoOps.isEmpty());
+
+    // the pending save is written at the old path before the note is moved
+    this.noteManager.moveNote(note1.getId(), "/dev/note1", AuthenticationInfo.ANONYMOUS);
+    assertEquals(Arrays.asList("save /note1", "move /note1 /dev/note1"), repoOps);
+    assertEquals("/dev/note1", this.noteManager.getNotesInfo().get(note1.getId()));
+
+    // later saves are written at the new path
+    this.noteManager.saveNote(note1);
+    this.noteManager.close();
+    assertEquals("save /dev/note1", repoOps.get(2));
+  }
+
   private Note createNote(String notePath) {
     return new Note(notePath, "test", null, null, null, null, null);
   }
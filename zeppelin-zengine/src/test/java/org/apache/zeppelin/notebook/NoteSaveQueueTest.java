@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class NoteSaveQueueTest {
+
+  private NotebookRepo notebookRepo;
+  private Note note1;
+  private Note note2;
+
+  @Before
+  public void setUp() {
+    notebookRepo = mock(NotebookRepo.class);
+    note1 = new Note("/note1", "test", null, null, null, null, null);
+    note2 = new Note("/note2", "test", null, null, null, null, null);
+  }
+
+  @Test
+  public void testCoalesceSaves() throws IOException {
+    // serialize the note like a real NotebookRepo
+    doAnswer(invocation -> ((Note) invocation.getArguments()[0]).toJson())
+        .when(notebookRepo).save(any(Note.class), any(AuthenticationInfo.class));
+    NoteSaveQueue saveQueue = new NoteSaveQueue(notebookRepo, 500);
+    for (int i = 0; i < 10; ++i) {
+      saveQueue.save(note1, AuthenticationInfo.ANONYMOUS);
+    }
+    saveQueue.save(note2, AuthenticationInfo.ANONYMOUS);
+    assertTrue(saveQueue.isPending(note1.getId()));
+    assertEquals(2, saveQueue.getPendingCount());
+    verify(notebookRepo, never()).save(any(Note.class), any(AuthenticationInfo.class));
+
+    // each note is written once
+    verify(notebookRepo, timeout(5000).times(1)).save(note1, AuthenticationInfo.ANONYMOUS);
+    verify(notebookRepo, timeout(5000).times(1)).save(note2, AuthenticationInfo.ANONYMOUS);
+    assertEquals(0, saveQueue.getPendingCount());
+    assertEquals(11, saveQueue.getRequestedSaves());
+    assertEquals(2, saveQueue.getWrittenSaves());
+    assertEquals(note1.toJson().getBytes("UTF-8").length + note2.toJson().getBytes("UTF-8").length,
+        saveQueue.getWrittenBytes());
+    assertTrue(saveQueue.getMaxSaveLagMs() >= 500);
+    saveQueue.close();
+  }
+
+  @Test
+  public void testFlushAndCancel() throws IOException {
+    NoteSaveQueue saveQueue = new NoteSaveQueue(notebookRepo, 60 * 1000);
+    saveQueue.save(note1, AuthenticationInfo.ANONYMOUS);
+    saveQueue.save(note2, AuthenticationInfo.ANONYMOUS);
+
+    saveQueue.flush(note1.getId());
+    verify(notebookRepo, times(1)).save(note1, AuthenticationInfo.ANONYMOUS);
+    assertFalse(saveQueue.isPending(note1.getId()));
+
+    // removed note is not written
+    saveQueue.cancel(note2.getId());
+    saveQueue.close();
+    verify(notebookRepo, never()).save(note2, AuthenticationInfo.ANONYMOUS);
+  }
+
+  @Test
+  public void testWritePendingSavesOnClose() throws IOException {
+    NoteSaveQueue saveQueue = new NoteSaveQueue(notebookRepo, 60 * 1000);
+    saveQueue.save(note1, AuthenticationInfo.ANONYMOUS);
+    saveQueue.save(note2, AuthenticationInfo.ANONYMOUS);
+    saveQueue.close();
+    verify(notebookRepo, times(1)).save(note1, AuthenticationInfo.ANONYMOUS);
+    verify(notebookRepo, times(1)).save(note2, AuthenticationInfo.ANONYMOUS);
+
+    // saved synchronously after close
+    saveQueue.save(note1, AuthenticationInfo.ANONYMOUS);
+    verify(notebookRepo, times(2)).save(note1, AuthenticationInfo.ANONYMOUS);
+  }
+
+  @Test
+  public void testRetryFailedSave() throws IOException {
+    doThrow(new IOException("fail to save")).doNothing()
+        .when(notebookRepo).save(note1, AuthenticationInfo.ANONYMOUS);
+    NoteSaveQueue saveQueue = new NoteSaveQueue(notebookRepo, 100);
+    saveQueue.save(note1, AuthenticationInfo.ANONYMOUS);
+    verify(notebookRepo, timeout(5000).times(2)).save(note1, AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, saveQueue.getWrittenSaves());
+    saveQueue.close();
+  }
+}
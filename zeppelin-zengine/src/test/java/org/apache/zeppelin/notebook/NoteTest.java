@@ -35,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -170,6 +171,25 @@ public class NoteTest {
     assertNotEquals(System.identityHashCode(user1Paragraph), System.identityHashCode(user2Paragraph));
   }
 
+  @Test
+  public void testJsonDigest() {
+    Note note = new Note("test", "", interpreterFactory, interpreterSettingManager, paragraphJobListener, credentials, noteEventListener);
+    assertEquals(-1, note.getJsonSize());
+    assertNull(note.getJsonDigest().getHash());
+
+    String json = note.toJson();
+    assertEquals(json.getBytes(StandardCharsets.UTF_8).length, note.getJsonSize());
+    assertEquals(Note.hash(json), note.getJsonDigest().getHash());
+    assertEquals(Note.hash(json), Note.hash(note.toJson()));
+    note.setName("renamed");
+    assertNotEquals(Note.hash(json), Note.hash(note.toJson()));
+
+    // the json read may differ from the one toJson writes
+    Note loaded = Note.fromJson(json);
+    assertEquals(json.getBytes(StandardCharsets.UTF_8).length, loaded.getJsonSize());
+    assertNull(loaded.getJsonDigest().getHash());
+  }
+
   public void testNoteJson() {
     Note note = new Note("test", "", interpreterFactory, interpreterSettingManager, paragraphJobListener, credentials, noteEventListener);
     note.setName("/test_note");
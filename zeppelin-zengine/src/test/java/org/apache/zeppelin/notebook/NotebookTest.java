@@ -39,6 +39,7 @@ import org.apache.zeppelin.resource.LocalResourcePool;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.search.SearchService;
+import org.apache.zeppelin.storage.ConfigStorage;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.junit.After;
@@ -52,6 +53,7 @@ import org.sonatype.aether.RepositoryException;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -460,6 +462,78 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
     notebook.removeNote(note.getId(), anonymous);
   }
 
+  @Test
+  public void testParallelRunAll() throws IOException {
+    Note note = notebook.createNote("note1", anonymous);
+    note.setParallelRunAll(true);
+
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("%mock1 sleep 1000");
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p2.setText("%mock2 sleep 1000");
+    // same interpreter as p1
+    Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p3.setText("%mock1 p3");
+    // declared dependency
+    Paragraph p4 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p4.setText("%mock2 p4");
+    p4.getConfig().put("dependsOn", Arrays.asList(p1.getId()));
+    // fails, and the paragraph depends on it is skipped
+    Paragraph p5 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p5.setText("%invalid p5");
+    Paragraph p6 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p6.setText("%mock2 p6");
+    p6.getConfig().put("dependsOn", Arrays.asList(p5.getId()));
+
+    try {
+      note.runAll(anonymous, true);
+    } finally {
+      assertFalse(note.isRunning());
+    }
+
+    assertEquals("repl1: p3", p3.getReturn().message().get(0).getData());
+    assertEquals("repl2: p4", p4.getReturn().message().get(0).getData());
+    assertNull(p6.getReturn());
+    // p1 and p2 run at the same time
+    assertTrue(p2.getDateStarted().before(p1.getDateFinished()));
+    assertTrue(p1.getDateStarted().before(p2.getDateFinished()));
+    assertFalse(p3.getDateStarted().before(p1.getDateFinished()));
+    assertFalse(p4.getDateStarted().before(p1.getDateFinished()));
+
+    notebook.removeNote(note.getId(), anonymous);
+  }
+
+  @Test
+  public void testParagraphDependencies() throws IOException {
+    Note note = notebook.createNote("note1", anonymous);
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("%mock1 z.put(\"a\", 1)");
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p2.setText("%mock2 z.get(\"a\")");
+    Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p3.setText("%mock2 p3");
+    Paragraph p4 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p4.setText("%mock1 p4");
+    // declared dependency on top of the inferred ones
+    Paragraph p5 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p5.setText("%mock1 z.put(\"b\", 1)");
+    p5.getConfig().put(ParagraphDependencies.DEPENDS_ON, Arrays.asList(p3.getId()));
+    Paragraph p6 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p6.setText("%mock2 z.get(\"b\")");
+
+    Map<String, Set<String>> dependencies =
+        ParagraphDependencies.of(note.getParagraphs());
+    assertTrue(dependencies.get(p1.getId()).isEmpty());
+    assertEquals(Sets.newHashSet(p1.getId()), dependencies.get(p2.getId()));
+    assertEquals(Sets.newHashSet(p2.getId()), dependencies.get(p3.getId()));
+    assertEquals(Sets.newHashSet(p1.getId()), dependencies.get(p4.getId()));
+    assertEquals(Sets.newHashSet(p3.getId(), p4.getId()), dependencies.get(p5.getId()));
+    // the paragraph with declared dependencies is still the last of its group and the writer
+    assertEquals(Sets.newHashSet(p3.getId(), p5.getId()), dependencies.get(p6.getId()));
+
+    notebook.removeNote(note.getId(), anonymous);
+  }
+
   @Test
   public void testSchedule() throws InterruptedException, IOException {
     // create a note and a paragraph
@@ -1036,6 +1110,86 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
     notebook.removeNote(note.getId(), anonymous);
   }
 
+  @Test
+  public void testPermissionsJournal() throws IOException {
+    Note note = notebook.createNote("note1", anonymous);
+    NotebookAuthorization notebookAuthorization = notebook.getNotebookAuthorization();
+    ConfigStorage configStorage = ConfigStorage.getInstance(conf);
+    int journalSize = configStorage.loadNotebookAuthorizationJournal().size();
+
+    // each change is appended to the journal
+    notebookAuthorization.setOwners(note.getId(), Sets.newHashSet("user1"));
+    notebookAuthorization.setReaders(note.getId(), Sets.newHashSet("user1", "user2"));
+    notebookAuthorization.setPermissions(note.getId(), Sets.newHashSet("user1"),
+        Sets.newHashSet("user1", "user2"), Sets.newHashSet("user3"), Sets.newHashSet("user1"));
+    assertEquals(journalSize + 3, configStorage.loadNotebookAuthorizationJournal().size());
+
+    // permissions are restored from the journal
+    NotebookAuthorization.reload();
+    assertEquals(Sets.newHashSet("user1"), notebookAuthorization.getOwners(note.getId()));
+    assertEquals(Sets.newHashSet("user1", "user2"),
+        notebookAuthorization.getReaders(note.getId()));
+    assertEquals(Sets.newHashSet("user3"), notebookAuthorization.getRunners(note.getId()));
+    assertEquals(Sets.newHashSet("user1"), notebookAuthorization.getWriters(note.getId()));
+    assertFalse(notebookAuthorization.isReader(note.getId(), Sets.newHashSet("user4")));
+    assertTrue(notebookAuthorization.isReader(note.getId(), Sets.newHashSet("user2")));
+
+    // a record written partially is ignored, and a new journal is started
+    configStorage.appendNotebookAuthorizationJournal(Arrays.asList("{\"seq\":"));
+    NotebookAuthorization.reload();
+    assertEquals(0, configStorage.loadNotebookAuthorizationJournal().size());
+    assertEquals(Sets.newHashSet("user3"), notebookAuthorization.getRunners(note.getId()));
+
+    notebook.removeNote(note.getId(), anonymous);
+    assertEquals(1, configStorage.loadNotebookAuthorizationJournal().size());
+    NotebookAuthorization.reload();
+    assertTrue(notebookAuthorization.getOwners(note.getId()).isEmpty());
+    assertTrue(notebookAuthorization.isReader(note.getId(), Sets.newHashSet("user4")));
+  }
+
+  @Test
+  public void testNotesInfoByPermissions() throws IOException {
+    Note note1 = notebook.createNote("note1", anonymous);
+    Note note2 = notebook.createNote("note2", anonymous);
+    NotebookAuthorization notebookAuthorization = notebook.getNotebookAuthorization();
+    notebookAuthorization.setPermissions(note2.getId(), Sets.newHashSet("user1"),
+        Sets.newHashSet("user1"), Sets.newHashSet("user1"), Sets.newHashSet("role1"));
+
+    // note1 is readable by everyone, note2 only by user1 and role1
+    assertEquals(Arrays.asList(note1.getId(), note2.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user1"))));
+    assertEquals(Arrays.asList(note1.getId(), note2.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user2", "role1"))));
+    assertEquals(Arrays.asList(note1.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user2"))));
+    assertEquals(1, notebook.getAllNotes(Sets.newHashSet("user2")).size());
+
+    // the read index is rebuilt from notebook-authorization.json and its journal
+    NotebookAuthorization.reload();
+    assertEquals(Arrays.asList(note1.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user2"))));
+    assertEquals(Arrays.asList(note1.getId(), note2.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("role1"))));
+
+    // note2 is readable by everyone once one of its permissions is cleared
+    notebookAuthorization.setReaders(note2.getId(), Sets.<String>newHashSet());
+    assertEquals(Arrays.asList(note1.getId(), note2.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user2"))));
+
+    notebook.removeNote(note2.getId(), anonymous);
+    assertEquals(Arrays.asList(note1.getId()),
+        getNoteIds(notebook.getNotesInfo(Sets.newHashSet("user2"))));
+    notebook.removeNote(note1.getId(), anonymous);
+  }
+
+  private List<String> getNoteIds(List<NoteInfo> notesInfo) {
+    List<String> noteIds = new ArrayList<>();
+    for (NoteInfo noteInfo : notesInfo) {
+      noteIds.add(noteInfo.getId());
+    }
+    return noteIds;
+  }
+
   @Test
   public void testAuthorizationRoles() throws IOException {
     String user1 = "user1";
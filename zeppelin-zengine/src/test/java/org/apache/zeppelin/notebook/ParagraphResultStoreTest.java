@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.gson.Gson;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.zeppelin.interpreter.InterpreterFactory;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ParagraphResultStoreTest {
+
+  private File dir;
+  private ParagraphResultStore store;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("ParagraphResultStoreTest").toFile();
+    store = new ParagraphResultStore(dir, 10);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void testSpillAndLoad() throws IOException {
+    String large = StringUtils.repeat("é", 100);
+    InterpreterResult result = new InterpreterResult(InterpreterResult.Code.SUCCESS);
+    result.add(InterpreterResult.Type.TEXT, "small");
+    result.add(InterpreterResult.Type.TABLE, large);
+
+    store.spill("note1", result);
+    InterpreterResultMessage spilled = result.message().get(1);
+    assertNull(result.message().get(0).getDataRef());
+    assertTrue(spilled instanceof SpilledResultMessage);
+    assertNotNull(spilled.getDataRef());
+    assertEquals(InterpreterResult.Type.TABLE, spilled.getType());
+    assertTrue(new File(new File(dir, "note1"), spilled.getDataRef()).exists());
+
+    // spilled message is not written again
+    store.spill("note1", result);
+    assertSame(spilled, result.message().get(1));
+
+    // the data is read back from the file
+    assertEquals(large, spilled.getData());
+    assertEquals(large, store.load("note1", spilled.getDataRef()));
+
+    // notes are saved with the data inline
+    InterpreterResult saved = InterpreterResult.fromJson(Note.getGson().toJson(result));
+    assertEquals(large, saved.message().get(1).getData());
+    assertNull(saved.message().get(1).getDataRef());
+
+    // but other serializations, e.g. websocket messages, only have the dataRef
+    InterpreterResult sent = new Gson().fromJson(new Gson().toJson(result),
+        InterpreterResult.class);
+    assertEquals("", sent.message().get(1).getData());
+    assertEquals(spilled.getDataRef(), sent.message().get(1).getDataRef());
+
+    store.retain("note1", Collections.<String>emptySet());
+    assertFalse(new File(new File(dir, "note1"), spilled.getDataRef()).exists());
+  }
+
+  @Test
+  public void testNoSpill() throws IOException {
+    store = new ParagraphResultStore(dir, -1);
+    InterpreterResult result = new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TEXT, StringUtils.repeat("a", 100));
+    store.spill("note1", result);
+    assertNull(result.message().get(0).getDataRef());
+    assertFalse(ParagraphResultStore.isSpilled(result));
+  }
+
+  @Test
+  public void testRemoveSharedResult() {
+    Note note = new Note("test", "", mock(InterpreterFactory.class),
+        mock(InterpreterSettingManager.class), null, null, new ArrayList<>());
+    note.setResultStore(store);
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    InterpreterResult result = new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TEXT, StringUtils.repeat("a", 100));
+    p.setResult(result);
+    File file = new File(new File(dir, note.getId()), result.message().get(0).getDataRef());
+    assertTrue(file.exists());
+
+    // the paragraph of user1 in personalized mode shares the result
+    Paragraph userParagraph = p.getUserParagraph("user1");
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "small"));
+    assertTrue(file.exists());
+    assertEquals(StringUtils.repeat("a", 100), userParagraph.getReturn().message().get(0).getData());
+
+    // and it is deleted once no paragraph refers to it
+    userParagraph.setResult(null);
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void testNoteJsonReusesSpilledJson() throws IOException {
+    Note note = new Note("test", "", mock(InterpreterFactory.class),
+        mock(InterpreterSettingManager.class), null, null, new ArrayList<>());
+    note.setResultStore(store);
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    String large = "\"quoted\"\t<tab>\n" + StringUtils.repeat("é", 100);
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TEXT, large));
+    String dataRef = p.getReturn().message().get(0).getDataRef();
+
+    // same json as the data written inline
+    String json = note.toJson();
+    assertEquals(Note.getGson().toJson(note), json);
+    assertEquals(large, Note.fromJson(json).getParagraph(p.getId()).getReturn().message().get(0)
+        .getData());
+
+    // the json of the data is cached next to it, and used for the following saves
+    File jsonFile = new File(new File(dir, note.getId()), dataRef + ".json");
+    assertTrue(jsonFile.exists());
+    FileUtils.writeStringToFile(jsonFile, "\"cached\"", "UTF-8");
+    assertTrue(note.toJson().contains("\"data\": \"cached\""));
+
+    // and removed with the data
+    p.setResult(null);
+    assertFalse(jsonFile.exists());
+  }
+
+  @Test
+  public void testRemoveNote() {
+    InterpreterResult result = new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TEXT, StringUtils.repeat("a", 100));
+    store.spill("note1", result);
+    assertTrue(new File(dir, "note1").exists());
+    store.removeNote("note1");
+    assertFalse(new File(dir, "note1").exists());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRef() throws IOException {
+    store.load("note1", "../note2");
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
@@ -34,6 +35,8 @@ import com.google.common.collect.Lists;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.zeppelin.display.AngularObject;
@@ -49,6 +52,8 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResult.Type;
 import org.apache.zeppelin.interpreter.InterpreterSetting.Status;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.junit.Rule;
@@ -311,6 +316,27 @@ public class ParagraphTest extends AbstractInterpreterTest {
     assertEquals(p1, spyParagraph.getUserParagraph(user1.getUser()));
   }
 
+  @Test
+  public void testExecuteAsyncTwice() throws Exception {
+    Note mockNote = mock(Note.class);
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote, null));
+    spyParagraph.setText("%test text");
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+    // the scheduler doesn't run the paragraph
+    when(mockInterpreter.getScheduler()).thenReturn(mock(Scheduler.class));
+
+    CompletableFuture<Job.Status> first = spyParagraph.executeAsync();
+    CompletableFuture<Job.Status> second = spyParagraph.executeAsync();
+    assertFalse(first.isDone());
+    assertFalse(second.isDone());
+
+    // a caller waiting for the first run is not left waiting when the paragraph is submitted again
+    spyParagraph.setStatus(Job.Status.FINISHED);
+    assertEquals(Job.Status.FINISHED, second.get(10, TimeUnit.SECONDS));
+    assertEquals(Job.Status.FINISHED, first.get(10, TimeUnit.SECONDS));
+  }
+
   @Test
   public void testCursorPosition() {
     Paragraph paragraph = spy(new Paragraph());
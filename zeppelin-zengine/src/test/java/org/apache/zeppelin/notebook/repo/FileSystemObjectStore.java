@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in of a remote object store for tests. Objects are the files under the root
+ * folder, each request waits latencyMs to simulate a round trip, and the requests are counted.
+ */
+public class FileSystemObjectStore implements ObjectStore {
+
+  private final File root;
+  private final long latencyMs;
+
+  private final AtomicInteger listRequests = new AtomicInteger();
+  private final AtomicInteger readRequests = new AtomicInteger();
+  private final AtomicInteger notModifiedResponses = new AtomicInteger();
+  private final AtomicInteger runningRequests = new AtomicInteger();
+  private final AtomicInteger maxRunningRequests = new AtomicInteger();
+
+  public FileSystemObjectStore(File root, long latencyMs) {
+    this.root = root;
+    this.latencyMs = latencyMs;
+  }
+
+  @Override
+  public Listing list(String folder) throws IOException {
+    listRequests.incrementAndGet();
+    return request(() -> {
+      List<String> keys = new ArrayList<>();
+      List<String> folders = new ArrayList<>();
+      File[] children = new File(root, folder).listFiles();
+      if (children != null) {
+        Arrays.sort(children);
+        for (File child : children) {
+          if (child.isDirectory()) {
+            folders.add(folder + child.getName() + "/");
+          } else {
+            keys.add(folder + child.getName());
+          }
+        }
+      }
+      return new Listing(keys, folders);
+    });
+  }
+
+  @Override
+  public StoredObject read(String key, String etag) throws IOException {
+    readRequests.incrementAndGet();
+    return request(() -> {
+      File file = new File(root, key);
+      if (!file.isFile()) {
+        throw new FileNotFoundException(key);
+      }
+      byte[] content = Files.readAllBytes(file.toPath());
+      String currentEtag = Integer.toHexString(Arrays.hashCode(content)) + "-" + content.length;
+      if (currentEtag.equals(etag)) {
+        notModifiedResponses.incrementAndGet();
+        return null;
+      }
+      return new StoredObject(currentEtag, content);
+    });
+  }
+
+  public void write(String key, byte[] content) throws IOException {
+    File file = new File(root, key);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content);
+  }
+
+  private <T> T request(Callable<T> request) throws IOException {
+    int running = runningRequests.incrementAndGet();
+    maxRunningRequests.accumulateAndGet(running, Math::max);
+    try {
+      if (latencyMs > 0) {
+        Thread.sleep(latencyMs);
+      }
+      return request.call();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(e);
+    } finally {
+      runningRequests.decrementAndGet();
+    }
+  }
+
+  public int getListRequests() {
+    return listRequests.get();
+  }
+
+  public int getReadRequests() {
+    return readRequests.get();
+  }
+
+  public int getNotModifiedResponses() {
+    return notModifiedResponses.get();
+  }
+
+  public int getMaxRunningRequests() {
+    return maxRunningRequests.get();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import org.apache.zeppelin.interpreter.InterpreterFactory;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class NoteLogTest {
+
+  @Test
+  public void testAppendChangedParagraphs() throws IOException {
+    Note note = createNote(20);
+    NoteLog log = new NoteLog();
+    assertTrue(log.needsCompaction(100));
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    file.write(log.snapshot(note));
+    assertFalse(log.needsCompaction(100));
+    int snapshotSize = file.size();
+
+    // nothing is changed
+    assertEquals(0, log.append(note).length);
+
+    // only the changed paragraph is appended
+    note.getParagraphs().get(3).setText("%md changed text");
+    byte[] changes = log.append(note);
+    assertTrue(changes.length > 0);
+    assertTrue(changes.length * 5 < snapshotSize);
+    assertEquals(1, log.getAppendedRecords());
+    file.write(changes);
+
+    // move and add paragraphs, change note
+    note.moveParagraph(note.getParagraphs().get(0).getId(), 19);
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%md new paragraph");
+    note.setName("renamed");
+    file.write(log.append(note));
+
+    NoteLog loadedLog = new NoteLog();
+    Note loadedNote = NoteLog.toNote(loadedLog.load(file.toByteArray()));
+    assertEquals(reload(note), loadedNote.toJson());
+    assertEquals("%md changed text", loadedNote.getParagraphs().get(2).getText());
+    assertEquals(note.getParagraphs().get(19).getId(), loadedNote.getParagraphs().get(19).getId());
+    assertEquals("renamed", loadedNote.getName());
+    assertEquals(log.getAppendedRecords(), loadedLog.getAppendedRecords());
+
+    // the loaded log continues where it was
+    note.getParagraphs().get(5).setText("%md changed again");
+    file.write(loadedLog.append(note));
+    assertEquals(reload(note),
+        NoteLog.toNote(new NoteLog().load(file.toByteArray())).toJson());
+  }
+
+  @Test
+  public void testCompaction() throws IOException {
+    Note note = createNote(10);
+    NoteLog log = new NoteLog();
+    log.snapshot(note);
+    for (int i = 0; i < 4; i++) {
+      note.getParagraphs().get(0).setText("%md text " + i);
+      log.append(note);
+    }
+    assertTrue(log.needsCompaction(4));
+    assertFalse(log.needsCompaction(5));
+
+    // changes larger than the snapshot
+    for (int i = 0; i < 30; i++) {
+      note.getParagraphs().get(i % 10).setText("%md text " + UUID.randomUUID());
+      log.append(note);
+    }
+    assertTrue(log.needsCompaction(100));
+
+    log.snapshot(note);
+    assertFalse(log.needsCompaction(100));
+    assertEquals(0, log.getAppendedRecords());
+  }
+
+  @Test
+  public void testTruncatedLog() throws IOException {
+    Note note = createNote(3);
+    NoteLog log = new NoteLog();
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    file.write(log.snapshot(note));
+    note.getParagraphs().get(1).setText("%md first change");
+    file.write(log.append(note));
+    String expectedJson = reload(note);
+    note.getParagraphs().get(1).setText("%md second change");
+    byte[] changes = log.append(note);
+    // the last append is written partially
+    file.write(changes, 0, changes.length / 2);
+
+    NoteLog loadedLog = new NoteLog();
+    assertEquals(expectedJson,
+        NoteLog.toNote(loadedLog.load(file.toByteArray())).toJson());
+    // the log has to be rewritten before appending to it again
+    assertTrue(loadedLog.needsCompaction(100));
+
+    // a broken snapshot can not be read
+    byte[] brokenSnapshot = Arrays.copyOf(file.toByteArray(), 20);
+    try {
+      new NoteLog().load(brokenSnapshot);
+      fail("Should fail to load broken snapshot");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testImportExport() throws IOException {
+    Note note = createNote(3);
+    assertFalse(NoteLog.isNoteLog(note.toJson().getBytes("UTF-8")));
+
+    byte[] content = NoteLog.fromNoteJson(note.toJson());
+    assertTrue(NoteLog.isNoteLog(content));
+    String json = NoteLog.toNoteJson(content);
+    assertEquals(reload(note), Note.fromJson(json).toJson());
+
+    try {
+      NoteLog.toNoteJson(note.toJson().getBytes("UTF-8"));
+      fail("Should fail to convert json which is not a note log");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  // json of the note after it is written and read back
+  private String reload(Note note) {
+    return Note.fromJson(note.toJson()).toJson();
+  }
+
+  private Note createNote(int paragraphCount) {
+    Note note = new Note();
+    note.setName("note");
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    for (int i = 0; i < paragraphCount; i++) {
+      Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+      StringBuilder text = new StringBuilder("%md paragraph " + i);
+      for (int j = 0; j < 5; j++) {
+        text.append(' ').append(UUID.randomUUID());
+      }
+      p.setText(text.toString());
+    }
+    return note;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class NoteManifestTest {
+
+  private File dir;
+  private File file;
+
+  @Before
+  public void setUp() {
+    dir = Files.createTempDir();
+    file = new File(dir, "0-VFSNotebookRepo.manifest");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void testReload() throws IOException {
+    NoteManifest manifest = new NoteManifest(file);
+    manifest.put(new NoteManifest.Entry("note1", "/a/note1", "h1", 2, 100));
+    manifest.put(new NoteManifest.Entry("note2", "/a/note2", "h2", 3, 200));
+    manifest.put(new NoteManifest.Entry("note3", "/b/note3", "h3", 3, 300));
+    manifest.remove("note2");
+    manifest.move("note3", "/c/note3");
+    // a record written partially before a crash
+    FileUtils.writeStringToFile(file, "{\"id\":\"note4\",\"pa", StandardCharsets.UTF_8, true);
+
+    NoteManifest reloaded = new NoteManifest(file);
+    assertEquals(2, reloaded.size());
+    assertEquals("/a/note1", reloaded.get("note1").path);
+    assertEquals("h1", reloaded.get("note1").hash);
+    assertEquals(100, reloaded.get("note1").mtime);
+    assertNull(reloaded.get("note2"));
+    assertEquals("/c/note3", reloaded.get("note3").path);
+    assertNull(reloaded.get("note4"));
+  }
+
+  @Test
+  public void testFolder() {
+    NoteManifest manifest = new NoteManifest(file);
+    manifest.put(new NoteManifest.Entry("note1", "/a/note1", "h1", 2, 100));
+    manifest.put(new NoteManifest.Entry("note2", "/a/b/note2", "h2", 2, 100));
+    manifest.put(new NoteManifest.Entry("note3", "/ab/note3", "h3", 2, 100));
+
+    manifest.moveFolder("/a", "/x");
+    assertEquals("/x/note1", manifest.get("note1").path);
+    assertEquals("/x/b/note2", manifest.get("note2").path);
+    assertEquals("/ab/note3", manifest.get("note3").path);
+
+    manifest.removeFolder("/x");
+    assertNull(manifest.get("note1"));
+    assertNull(manifest.get("note2"));
+    assertEquals("h3", manifest.get("note3").hash);
+  }
+
+  @Test
+  public void testCompact() throws IOException {
+    NoteManifest manifest = new NoteManifest(file);
+    for (int i = 0; i < 10; i++) {
+      manifest.put(new NoteManifest.Entry("note1", "/note1", "h" + i, 2, i));
+    }
+    assertEquals(10, FileUtils.readLines(file, StandardCharsets.UTF_8).size());
+
+    manifest.compact();
+    assertEquals(1, FileUtils.readLines(file, StandardCharsets.UTF_8).size());
+    assertEquals("h9", new NoteManifest(file).get("note1").hash);
+  }
+
+  @Test
+  public void testVersion() throws IOException {
+    NoteManifest manifest = new NoteManifest(file);
+    manifest.put(new NoteManifest.Entry("note1", "/note1", "h1", 2, 100).withVersion("v1"));
+    assertEquals("v1", new NoteManifest(file).get("note1").version);
+
+    // the note file is written again when it is moved
+    manifest.move("note1", "/a/note1");
+    assertNull(manifest.get("note1").version);
+    assertNull(new NoteManifest(file).get("note1").version);
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ObjectStoreClientTest {
+
+  private File dir;
+
+  @Before
+  public void setUp() {
+    dir = Files.createTempDir();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void testListAll() throws IOException {
+    FileSystemObjectStore store = new FileSystemObjectStore(dir, 0);
+    store.write("a_1.zpln", bytes("1"));
+    store.write("x/b_2.zpln", bytes("2"));
+    store.write("x/y/c_3.zpln", bytes("3"));
+    store.write("z/d_4.zpln", bytes("4"));
+
+    try (ObjectStoreClient client = new ObjectStoreClient(store, 4, 1024)) {
+      List<String> keys = client.listAll("");
+      Collections.sort(keys);
+      assertEquals(Arrays.asList("a_1.zpln", "x/b_2.zpln", "x/y/c_3.zpln", "z/d_4.zpln"), keys);
+      // one request per folder
+      assertEquals(4, store.getListRequests());
+      assertEquals(Arrays.asList("x/y/c_3.zpln"), client.listAll("x/y/"));
+    }
+  }
+
+  @Test
+  public void testConcurrentRequests() throws IOException {
+    FileSystemObjectStore store = new FileSystemObjectStore(dir, 50);
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 8; ++i) {
+      store.write("folder" + i + "/note_" + i + ".zpln", bytes(String.valueOf(i)));
+      keys.add("folder" + i + "/note_" + i + ".zpln");
+    }
+
+    try (ObjectStoreClient client = new ObjectStoreClient(store, 4, 1024)) {
+      assertEquals(8, client.listAll("").size());
+      assertEquals(4, store.getMaxRunningRequests());
+
+      Map<String, byte[]> contents = client.readAll(keys);
+      assertEquals(8, contents.size());
+      assertArrayEquals(bytes("3"), contents.get("folder3/note_3.zpln"));
+      assertEquals(4, store.getMaxRunningRequests());
+    }
+  }
+
+  @Test
+  public void testConditionalRead() throws IOException {
+    FileSystemObjectStore store = new FileSystemObjectStore(dir, 0);
+    store.write("a_1.zpln", bytes("version1"));
+
+    try (ObjectStoreClient client = new ObjectStoreClient(store, 2, 1024)) {
+      assertArrayEquals(bytes("version1"), client.read("a_1.zpln"));
+      assertArrayEquals(bytes("version1"), client.read("a_1.zpln"));
+      assertEquals(1, store.getNotModifiedResponses());
+      assertEquals(1, client.getNotModifiedCount());
+
+      store.write("a_1.zpln", bytes("version2"));
+      assertArrayEquals(bytes("version2"), client.read("a_1.zpln"));
+      assertEquals(1, client.getNotModifiedCount());
+      assertEquals(3, client.getReadCount());
+
+      client.invalidate("a_1.zpln");
+      assertEquals(0, client.getCacheSize());
+      assertArrayEquals(bytes("version2"), client.read("a_1.zpln"));
+      assertEquals(1, client.getNotModifiedCount());
+    }
+  }
+
+  @Test
+  public void testCacheSize() throws IOException {
+    FileSystemObjectStore store = new FileSystemObjectStore(dir, 0);
+    store.write("a_1.zpln", bytes("12345"));
+    store.write("b_2.zpln", bytes("12345"));
+    store.write("c_3.zpln", bytes("1234567890_"));
+
+    try (ObjectStoreClient client = new ObjectStoreClient(store, 2, 10)) {
+      client.read("a_1.zpln");
+      client.read("b_2.zpln");
+      assertEquals(10, client.getCacheSize());
+      // a_1 is the most recently used one
+      client.read("a_1.zpln");
+      // too large to be cached
+      client.read("c_3.zpln");
+      assertEquals(10, client.getCacheSize());
+
+      store.write("d_4.zpln", bytes("123"));
+      client.read("d_4.zpln");
+      // b_2 is released
+      assertEquals(8, client.getCacheSize());
+      client.read("a_1.zpln");
+      assertEquals(2, store.getNotModifiedResponses());
+      client.read("b_2.zpln");
+      assertEquals(2, store.getNotModifiedResponses());
+    }
+  }
+
+  @Test
+  public void testReadNotes() throws IOException {
+    FileSystemObjectStore store = new FileSystemObjectStore(dir, 0);
+    NotebookRepo repo = new InMemoryNotebookRepo();
+    Note note1 = new Note();
+    note1.setPath("/a/note1");
+    Note note2 = new Note();
+    note2.setPath("/note2");
+    store.write(repo.buildNoteFileName(note1), bytes(note1.toJson()));
+    store.write(repo.buildNoteFileName(note2), bytes(note2.toJson()));
+    store.write("b/invalid_3.zpln", bytes("{ invalid-json }"));
+    store.write("b/readme.txt", bytes("readme"));
+
+    try (ObjectStoreClient client = new ObjectStoreClient(store, 2, 1024)) {
+      Map<String, NoteInfo> noteInfos = client.listNotes(repo);
+      assertEquals(3, noteInfos.size());
+      assertEquals("/a/note1", noteInfos.get(note1.getId()).getPath());
+      assertEquals("/note2", noteInfos.get(note2.getId()).getPath());
+      assertEquals("/b/invalid", noteInfos.get("3").getPath());
+
+      Map<String, Note> notes =
+          client.readNotes(repo, new ArrayList<>(noteInfos.values()), "UTF-8");
+      assertEquals(2, notes.size());
+      assertEquals(note1, notes.get(note1.getId()));
+      assertEquals("/note2", notes.get(note2.getId()).getPath());
+
+      try {
+        client.readNote(repo, "3", "/b/invalid", "UTF-8");
+        fail("Should fail to parse the note");
+      } catch (IOException e) {
+        assertTrue(e.getMessage().contains("b/invalid_3.zpln"));
+      }
+    }
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.NoteManager;
+import org.apache.zeppelin.user.AuthenticationInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time to build NoteManager and load all the notes, as the search index does on startup, from
+ * a {@link FileSystemObjectStore} with simulated latency, by note count and concurrency.
+ *
+ * Not run as a unit test, run the main method with optional arguments
+ * [latencyMs] [concurrency] [noteCount...]
+ */
+public class ObjectStoreStartupBenchmark {
+
+  public static void main(String[] args) throws IOException {
+    long latencyMs = args.length > 0 ? Long.parseLong(args[0]) : 5;
+    int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+    int[] noteCounts = {100, 500, 2000};
+    if (args.length > 2) {
+      noteCounts = new int[args.length - 2];
+      for (int i = 2; i < args.length; ++i) {
+        noteCounts[i - 2] = Integer.parseInt(args[i]);
+      }
+    }
+
+    System.out.println(String.format("latency %d ms, concurrency %d", latencyMs, concurrency));
+    System.out.println("notes\tsequential ms\tconcurrent ms");
+    for (int noteCount : noteCounts) {
+      File dir = Files.createTempDir();
+      try {
+        createNotes(new FileSystemObjectStore(dir, 0), noteCount);
+        long sequentialMs = loadAllNotes(new FileSystemObjectStore(dir, latencyMs), 1);
+        long concurrentMs = loadAllNotes(new FileSystemObjectStore(dir, latencyMs), concurrency);
+        System.out.println(noteCount + "\t" + sequentialMs + "\t" + concurrentMs);
+      } finally {
+        FileUtils.deleteDirectory(dir);
+      }
+    }
+  }
+
+  private static void createNotes(FileSystemObjectStore store, int noteCount) throws IOException {
+    NotebookRepo repo = new InMemoryNotebookRepo();
+    for (int i = 0; i < noteCount; ++i) {
+      Note note = new Note();
+      // 10 notes per folder, 10 folders per parent folder
+      note.setPath("/team" + (i / 100) + "/project" + (i / 10 % 10) + "/note" + i);
+      store.write(repo.buildNoteFileName(note), note.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static long loadAllNotes(FileSystemObjectStore store, int concurrency)
+      throws IOException {
+    long start = System.currentTimeMillis();
+    try (ObjectStoreClient client = new ObjectStoreClient(store, concurrency, 0)) {
+      NoteManager noteManager = new NoteManager(new ObjectStoreNotebookRepo(client));
+      List<Note> notes = noteManager.getAllNotes();
+      if (notes.size() != noteManager.getNotesInfo().size()) {
+        throw new IOException("Fail to load some notes");
+      }
+    }
+    return System.currentTimeMillis() - start;
+  }
+
+  /**
+   * Read only NotebookRepo on an ObjectStore.
+   */
+  private static class ObjectStoreNotebookRepo extends InMemoryNotebookRepo {
+    private final ObjectStoreClient client;
+
+    ObjectStoreNotebookRepo(ObjectStoreClient client) {
+      this.client = client;
+    }
+
+    @Override
+    public Map<String, NoteInfo> list(AuthenticationInfo subject) throws IOException {
+      return client.listNotes(this);
+    }
+
+    @Override
+    public Note get(String noteId, String notePath, AuthenticationInfo subject)
+        throws IOException {
+      return client.readNote(this, noteId, notePath, "UTF-8");
+    }
+
+    @Override
+    public Map<String, Note> get(List<NoteInfo> noteInfos, AuthenticationInfo subject)
+        throws IOException {
+      return client.readNotes(this, noteInfos, "UTF-8");
+    }
+  }
+}
@@ -36,7 +36,6 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class RemoteSchedulerTest extends AbstractInterpreterTest
@@ -214,12 +213,11 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
 
       @Override
       protected boolean jobAbort() {
-        if (isRunning()) {
-          try {
-            intpA.cancel(context);
-          } catch (InterpreterException e) {
-            e.printStackTrace();
-          }
+        // job2 may be queued in the remote scheduler already, cancel it there as well
+        try {
+          intpA.cancel(context);
+        } catch (InterpreterException e) {
+          e.printStackTrace();
         }
         return true;
       }
@@ -252,11 +250,16 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
       cycles++;
     }
 
+    cycles = 0;
+    while (!job2.isTerminated() && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+
     assertNotNull(job1.getDateFinished());
     assertTrue(job1.isTerminated());
-    assertNull(job2.getDateFinished());
     assertTrue(job2.isTerminated());
-    assertEquals("result2", job2.getReturn());
+    assertEquals(Status.ABORT, job2.getStatus());
 
     intpA.close();
     schedulerSvc.removeScheduler("test");
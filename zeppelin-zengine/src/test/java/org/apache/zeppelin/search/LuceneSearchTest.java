@@ -22,14 +22,20 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Splitter;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.NotebookAuthorization;
 import org.apache.zeppelin.notebook.Paragraph;
@@ -242,6 +248,66 @@ public class LuceneSearchTest {
     assertThat(resultForQuery("NotebookN").size()).isEqualTo(1);
   }
 
+  @Test
+  public void canSyncIndexWithNotes() throws IOException, InterruptedException {
+    // given
+    Note note1 = newNoteWithParagraph("Notebook1", "test");
+    Note note2 = newNoteWithParagraphs("Notebook2", "not test", "not test at all");
+    noteSearchService.drainEvents();
+
+    // when: note1 is changed and note2 is removed while the index is not listening
+    note1.getLastParagraph().setText("changed");
+    noteSearchService.syncIndex(() -> Arrays.asList(new NoteInfo(note1)), noteInfo -> note1);
+    noteSearchService.drainEvents();
+
+    // then
+    assertThat(resultForQuery("changed").size()).isEqualTo(1);
+    assertThat(resultForQuery("test")).isEmpty();
+    assertThat(resultForQuery("Notebook2")).isEmpty();
+  }
+
+  @Test
+  public void canKeepIndexOnDisk() throws IOException, InterruptedException {
+    File indexDir = Files.createTempDirectory("zeppelin-search-test").toFile();
+    ZeppelinConfiguration conf = mock(ZeppelinConfiguration.class);
+    when(conf.isZeppelinSearchUseDisk()).thenReturn(true);
+    when(conf.getZeppelinSearchTempPath()).thenReturn(indexDir.getAbsolutePath());
+    when(conf.getZeppelinSearchCommitInterval()).thenReturn(1000L);
+    try {
+      Note note1 = newNoteWithParagraph("Notebook1", "test");
+      LuceneSearch search = new LuceneSearch(conf);
+      search.addIndexDoc(note1);
+      search.close();
+
+      // reopened index has the note, and it is not re-indexed when unchanged
+      search = new LuceneSearch(conf);
+      assertThat(search.query("test").size()).isEqualTo(1);
+      AtomicInteger loads = new AtomicInteger();
+      search.syncIndex(() -> Arrays.asList(new NoteInfo(note1)), noteInfo -> {
+        loads.incrementAndGet();
+        return note1;
+      });
+      search.drainEvents();
+      assertThat(loads.get()).isEqualTo(1);
+      assertThat(search.syncIndexDoc(note1, LuceneSearch.fingerprint(note1))).isFalse();
+      assertThat(search.query("test").size()).isEqualTo(1);
+
+      note1.getLastParagraph().setText("changed");
+      assertThat(search.syncIndexDoc(note1, "stale")).isTrue();
+      assertThat(search.query("test")).isEmpty();
+      assertThat(search.query("changed").size()).isEqualTo(1);
+
+      // the index directory can not be shared, the second one uses memory instead
+      LuceneSearch other = new LuceneSearch(conf);
+      other.addIndexDoc(note1);
+      assertThat(other.query("changed").size()).isEqualTo(1);
+      other.close();
+      search.close();
+    } finally {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
   private List<Map<String, String>> resultForQuery(String q) {
     return noteSearchService.query(q);
   }